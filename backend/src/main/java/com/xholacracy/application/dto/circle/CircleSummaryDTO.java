@@ -19,4 +19,5 @@ public class CircleSummaryDTO {
     private String purpose;
     private int roleCount;
     private int subCircleCount;
+    private int assignmentCount;
 }
@@ -0,0 +1,27 @@
+package com.xholacracy.application.dto.meeting;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for inviting partners to a meeting
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddParticipantsRequest {
+    
+    @NotEmpty(message = "Participant IDs are required")
+    private List<String> participantIds;
+    
+    /**
+     * Add the participants even if they have overlapping meetings
+     */
+    private boolean allowConflicts;
+}
@@ -0,0 +1,24 @@
+package com.xholacracy.application.dto.meeting;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for another meeting that overlaps a partner's proposed booking
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarConflictDTO {
+    
+    private String partnerId;
+    private String partnerName;
+    private String meetingId;
+    private LocalDateTime start;
+    private LocalDateTime end;
+}
@@ -0,0 +1,42 @@
+package com.xholacracy.application.dto.meeting;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request DTO for creating recurring meeting series, one per circle, sharing the same rule
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateMeetingSeriesRequest {
+    
+    @NotEmpty(message = "At least one circle ID is required")
+    private List<String> circleIds;
+    
+    @NotNull(message = "Frequency is required")
+    private String frequency;
+    
+    @Builder.Default
+    @Positive(message = "Interval must be positive")
+    private Integer interval = 1;
+    
+    @NotNull(message = "First occurrence is required")
+    private LocalDateTime firstOccurrence;
+    
+    @NotNull(message = "Duration is required")
+    @Positive(message = "Duration must be positive")
+    private Integer durationMinutes;
+    
+    private LocalDate until;
+}
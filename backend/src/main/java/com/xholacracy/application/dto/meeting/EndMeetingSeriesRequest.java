@@ -0,0 +1,22 @@
+package com.xholacracy.application.dto.meeting;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Request DTO for ending a meeting series after the given date
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndMeetingSeriesRequest {
+    
+    @NotNull(message = "Last date is required")
+    private LocalDate lastDate;
+}
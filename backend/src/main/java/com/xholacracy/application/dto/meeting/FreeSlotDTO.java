@@ -0,0 +1,22 @@
+package com.xholacracy.application.dto.meeting;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a gap in which all requested partners are free
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeSlotDTO {
+    
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private Integer durationMinutes;
+}
@@ -0,0 +1,20 @@
+package com.xholacracy.application.dto.meeting;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO acknowledging a command accepted by a live meeting session.
+ * The sequence numbers commands of the session in the order they took effect.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveMeetingAckDTO {
+    
+    private String meetingId;
+    private Long sequence;
+}
@@ -0,0 +1,21 @@
+package com.xholacracy.application.dto.meeting;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for notes recorded during a live meeting: check-in, closing, meeting notes,
+ * agenda item notes or the reason an item is skipped
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveMeetingNotesRequest {
+    
+    @Size(max = 2000, message = "Notes must not exceed 2000 characters")
+    private String notes;
+}
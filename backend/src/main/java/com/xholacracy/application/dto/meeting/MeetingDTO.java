@@ -20,6 +20,7 @@ public class MeetingDTO {
     private String id;
     private String circleId;
     private String circleName;
+    private String seriesId;
     private LocalDateTime scheduledDate;
     private Integer durationMinutes;
     private String status;
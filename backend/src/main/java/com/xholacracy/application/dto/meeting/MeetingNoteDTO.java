@@ -0,0 +1,26 @@
+package com.xholacracy.application.dto.meeting;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a note taken during a meeting
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingNoteDTO {
+    
+    private String content;
+    
+    private String authorId;
+    
+    private String authorName;
+    
+    private LocalDateTime recordedAt;
+}
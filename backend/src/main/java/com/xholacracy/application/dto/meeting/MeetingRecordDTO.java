@@ -20,8 +20,10 @@ public class MeetingRecordDTO {
     @Size(max = 2000, message = "Check-in notes must not exceed 2000 characters")
     private String checkInNotes;
     
-    @Size(max = 2000, message = "Additional notes must not exceed 2000 characters")
-    private String additionalNotes;
+    /**
+     * Notes in the order they were taken
+     */
+    private List<MeetingNoteDTO> notes;
     
     @Size(max = 2000, message = "Closing notes must not exceed 2000 characters")
     private String closingNotes;
@@ -0,0 +1,31 @@
+package com.xholacracy.application.dto.meeting;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a recurring meeting series
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSeriesDTO {
+    
+    private String id;
+    private String organizationId;
+    private String circleId;
+    private String frequency;
+    private Integer interval;
+    private LocalDate until;
+    private LocalDateTime firstOccurrence;
+    private Integer durationMinutes;
+    private LocalDateTime materializedThrough;
+    private String status;
+    private LocalDateTime createdAt;
+}
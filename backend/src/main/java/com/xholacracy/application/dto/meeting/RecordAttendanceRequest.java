@@ -0,0 +1,22 @@
+package com.xholacracy.application.dto.meeting;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for recording partners present at a live meeting
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordAttendanceRequest {
+    
+    @NotEmpty(message = "Partner IDs are required")
+    private List<String> partnerIds;
+}
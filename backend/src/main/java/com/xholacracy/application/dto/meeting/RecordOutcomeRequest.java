@@ -0,0 +1,27 @@
+package com.xholacracy.application.dto.meeting;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for recording how a proposal was resolved in a live meeting
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordOutcomeRequest {
+    
+    @NotBlank(message = "Final status is required")
+    private String finalStatus;
+    
+    @Size(max = 1000, message = "Outcome must not exceed 1000 characters")
+    private String outcome;
+    
+    @Size(max = 2000, message = "Notes must not exceed 2000 characters")
+    private String notes;
+}
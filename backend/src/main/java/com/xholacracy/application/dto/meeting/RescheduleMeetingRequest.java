@@ -0,0 +1,27 @@
+package com.xholacracy.application.dto.meeting;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request DTO for moving a scheduled meeting to a new time
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescheduleMeetingRequest {
+    
+    @NotNull(message = "Scheduled date is required")
+    private LocalDateTime scheduledDate;
+    
+    /**
+     * Reschedule even if attendees have overlapping meetings
+     */
+    private boolean allowConflicts;
+}
@@ -0,0 +1,33 @@
+package com.xholacracy.application.dto.organization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for cloning an organization's governance structure into a new organization.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CloneOrganizationRequest {
+    
+    private String name;
+    
+    /**
+     * Defaults to the source organization's description
+     */
+    private String description;
+    
+    /**
+     * Email of the partner recorded as the assigner of every cloned role assignment
+     */
+    private String clonedBy;
+    
+    /**
+     * Whether role assignments are copied along with the structure
+     */
+    private boolean includeAssignments;
+}
@@ -0,0 +1,31 @@
+package com.xholacracy.application.dto.organization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sub-circle entry of an organization import, nesting its own roles and sub-circles
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportCircleDefinition {
+    
+    private String name;
+    private String purpose;
+    private List<String> accountabilities;
+    
+    /**
+     * Special role type (e.g. CIRCLE_LEAD) to the emails of the partners filling it
+     */
+    private Map<String, List<String>> specialRoles;
+    
+    private List<ImportRoleDefinition> roles;
+    private List<ImportCircleDefinition> circles;
+}
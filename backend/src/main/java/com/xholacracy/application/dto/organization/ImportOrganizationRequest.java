@@ -0,0 +1,44 @@
+package com.xholacracy.application.dto.organization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request DTO for importing a whole organization in one go.
+ * Roles, sub-circles and special role fillers listed at the top level belong to the anchor circle.
+ * Partners are referenced by email; partners that already exist are reused.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportOrganizationRequest {
+    
+    private String name;
+    private String description;
+    
+    /**
+     * Email of the partner recorded as the assigner of every imported role assignment
+     */
+    private String importedBy;
+    
+    private List<ImportPartnerDefinition> partners;
+    
+    /**
+     * Special role type (e.g. CIRCLE_LEAD) to the emails of the partners filling it
+     */
+    private Map<String, List<String>> specialRoles;
+    
+    /**
+     * Accountabilities of the anchor circle
+     */
+    private List<String> accountabilities;
+    
+    private List<ImportRoleDefinition> roles;
+    private List<ImportCircleDefinition> circles;
+}
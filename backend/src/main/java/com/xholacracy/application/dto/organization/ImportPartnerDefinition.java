@@ -0,0 +1,19 @@
+package com.xholacracy.application.dto.organization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partner entry of an organization import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportPartnerDefinition {
+    
+    private String name;
+    private String email;
+}
@@ -0,0 +1,29 @@
+package com.xholacracy.application.dto.organization;
+
+import com.xholacracy.application.dto.role.DomainDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Role entry of an organization import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRoleDefinition {
+    
+    private String name;
+    private String purpose;
+    private List<String> accountabilities;
+    private List<DomainDTO> domains;
+    
+    /**
+     * Emails of the partners filling the role
+     */
+    private List<String> assignees;
+}
@@ -0,0 +1,37 @@
+package com.xholacracy.application.dto.organization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of an organization import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationImportStatusDTO {
+    
+    private String importId;
+    
+    /**
+     * PENDING, RUNNING, COMPLETED or FAILED
+     */
+    private String state;
+    
+    /**
+     * Entity kind currently being written
+     */
+    private String phase;
+    
+    private int written;
+    private int total;
+    private String organizationId;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,34 @@
+package com.xholacracy.application.dto.proposal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Summary DTO for proposal (used in lists, served from the proposal_summary read model)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProposalSummaryDTO {
+
+    private String id;
+    private String title;
+    private String proposalType;
+    private String circleId;
+    private String proposerId;
+    private String status;
+    private int approveCount;
+    private int objectCount;
+    private int abstainCount;
+    private int objectionCount;
+    private int questionCount;
+    private int reactionCount;
+    private String lastEventType;
+    private LocalDateTime lastEventAt;
+    private LocalDateTime createdDate;
+}
@@ -7,7 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * Request DTO for assigning a role to a partner
+ * Request DTO for assigning a role to a partner; the assigning partner is the caller
  */
 @Data
 @Builder
@@ -17,7 +17,4 @@ public class AssignRoleRequest {
     
     @NotNull(message = "Partner ID is required")
     private String partnerId;
-    
-    @NotNull(message = "Assigned by partner ID is required")
-    private String assignedBy;
 }
@@ -0,0 +1,29 @@
+package com.xholacracy.application.dto.role;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for checking proposed domains against the organization's existing claims
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainClaimCheckRequest {
+    
+    /**
+     * Role that would hold the domains; omit for a role that does not exist yet
+     */
+    private String roleId;
+    
+    @Valid
+    @NotNull(message = "Domains are required")
+    private List<DomainDTO> domains;
+}
@@ -0,0 +1,24 @@
+package com.xholacracy.application.dto.role;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one role's claim on a domain
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainClaimDTO {
+    
+    private String roleId;
+    
+    private String roleName;
+    
+    private String domainName;
+    
+    private String controlType;
+}
@@ -0,0 +1,25 @@
+package com.xholacracy.application.dto.role;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a domain claimed by several roles where at least one claim is exclusive
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainConflictDTO {
+    
+    /**
+     * Normalized domain name shared by the claims
+     */
+    private String name;
+    
+    private List<DomainClaimDTO> claims;
+}
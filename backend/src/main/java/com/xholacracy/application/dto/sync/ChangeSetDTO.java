@@ -0,0 +1,33 @@
+package com.xholacracy.application.dto.sync;
+
+import com.xholacracy.application.dto.circle.CircleSummaryDTO;
+import com.xholacracy.application.dto.meeting.MeetingDTO;
+import com.xholacracy.application.dto.proposal.ProposalSummaryDTO;
+import com.xholacracy.application.dto.role.RoleAssignmentDTO;
+import com.xholacracy.application.dto.role.RoleSummaryDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Entities changed in an organization since a sync token.
+ * Pass {@code token} as {@code since} on the next request; keep paging while {@code hasMore} is true.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSetDTO {
+    
+    private long token;
+    private boolean hasMore;
+    private List<CircleSummaryDTO> circles;
+    private List<RoleSummaryDTO> roles;
+    private List<RoleAssignmentDTO> assignments;
+    private List<ProposalSummaryDTO> proposals;
+    private List<MeetingDTO> meetings;
+    private List<DeletedEntityDTO> deleted;
+}
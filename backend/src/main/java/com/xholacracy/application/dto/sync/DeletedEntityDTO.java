@@ -0,0 +1,19 @@
+package com.xholacracy.application.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tombstone for an entity deleted since the client's sync token
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletedEntityDTO {
+    
+    private String type;
+    private String id;
+}
@@ -6,6 +6,7 @@ import com.xholacracy.application.dto.circle.CreateCircleRequest;
 import com.xholacracy.application.dto.circle.UpdateCircleRequest;
 import com.xholacracy.domain.model.circle.Circle;
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleSummaryView;
 import com.xholacracy.domain.model.organization.OrganizationId;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -29,14 +30,28 @@ public interface CircleMapper {
     @Mapping(target = "id", expression = "java(circle.getId().getValue())")
     @Mapping(target = "roleCount", expression = "java(circle.getRoles() != null ? circle.getRoles().size() : 0)")
     @Mapping(target = "subCircleCount", expression = "java(circle.getSubCircles() != null ? circle.getSubCircles().size() : 0)")
+    @Mapping(target = "assignmentCount", expression = "java(circle.getRoles() != null ? circle.getRoles().stream().mapToInt(role -> role.getAssignments().size()).sum() : 0)")
     CircleSummaryDTO toSummaryDTO(Circle circle);
     
     List<CircleSummaryDTO> toSummaryDTOList(List<Circle> circles);
     
+    CircleSummaryDTO toSummaryDTO(CircleSummaryView view);
+    
+    List<CircleSummaryDTO> fromSummaryViews(List<CircleSummaryView> views);
+    
     // Note: Use Circle.createSubCircle() or Circle.createAnchorCircle() factory methods
     // Entities should be created through domain factory methods to ensure business rules
     
-    void updateFromRequest(UpdateCircleRequest request, @MappingTarget Circle circle);
+    /**
+     * Circle exposes no setters and returns a read-only accountability list, so updates
+     * go through {@link Circle#updateInfo} and its validation.
+     */
+    default void updateFromRequest(UpdateCircleRequest request, @MappingTarget Circle circle) {
+        if (request == null) {
+            return;
+        }
+        circle.updateInfo(request.getName(), request.getPurpose(), request.getAccountabilities());
+    }
     
     default CircleId mapId(String id) {
         return id != null ? CircleId.of(id) : null;
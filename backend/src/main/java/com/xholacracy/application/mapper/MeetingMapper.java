@@ -5,6 +5,9 @@ import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.meeting.*;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.proposal.ProposalId;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Builder;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -13,13 +16,17 @@ import java.util.List;
 
 /**
  * MapStruct mapper for GovernanceMeeting entity and DTOs
+ * <p>
+ * Circle, partner and proposal names are registered on the {@link NameResolutionContext}
+ * and filled in one batch after mapping.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true))
 public interface MeetingMapper {
     
     @Mapping(target = "id", expression = "java(meeting.getId().getValue())")
     @Mapping(target = "circleId", expression = "java(meeting.getCircleId().getValue())")
     @Mapping(target = "circleName", ignore = true)
+    @Mapping(target = "seriesId", expression = "java(meeting.getSeriesId() != null ? meeting.getSeriesId().getValue() : null)")
     @Mapping(target = "durationMinutes", expression = "java(meeting.getDuration() != null ? (int)meeting.getDuration().toMinutes() : null)")
     @Mapping(target = "status", expression = "java(meeting.getStatus().name())")
     @Mapping(target = "facilitatorId", expression = "java(meeting.getFacilitatorId() != null ? meeting.getFacilitatorId().getValue() : null)")
@@ -28,48 +35,73 @@ public interface MeetingMapper {
     @Mapping(target = "secretaryName", ignore = true)
     @Mapping(target = "participantIds", expression = "java(mapPartnerIds(meeting.getParticipants()))")
     @Mapping(target = "participantNames", ignore = true)
-    MeetingDTO toDTO(GovernanceMeeting meeting);
+    @Mapping(target = "record", source = "meetingRecord")
+    MeetingDTO toDTO(GovernanceMeeting meeting, @Context NameResolutionContext names);
     
-    @Mapping(target = "id", ignore = true)
-    @Mapping(target = "circleId", ignore = true)
-    @Mapping(target = "scheduledDate", ignore = true)
-    @Mapping(target = "duration", ignore = true)
-    @Mapping(target = "status", ignore = true)
-    @Mapping(target = "facilitatorId", ignore = true)
-    @Mapping(target = "secretaryId", ignore = true)
-    @Mapping(target = "agenda", ignore = true)
-    @Mapping(target = "participants", ignore = true)
-    @Mapping(target = "meetingRecord", ignore = true)
-    GovernanceMeeting toEntity(CreateMeetingRequest request);
+    @Mapping(target = "id", expression = "java(series.getId().getValue())")
+    @Mapping(target = "organizationId", expression = "java(series.getOrganizationId().getValue())")
+    @Mapping(target = "circleId", expression = "java(series.getCircleId().getValue())")
+    @Mapping(target = "frequency", expression = "java(series.getRule().getFrequency().name())")
+    @Mapping(target = "interval", expression = "java(series.getRule().getInterval())")
+    @Mapping(target = "until", expression = "java(series.getRule().getUntil())")
+    @Mapping(target = "durationMinutes", expression = "java((int) series.getDuration().toMinutes())")
+    @Mapping(target = "status", expression = "java(series.getStatus().name())")
+    MeetingSeriesDTO toSeriesDTO(MeetingSeries series);
+    
+    // Note: Use GovernanceMeeting.create() factory method instead of mapping from request
+    // Entities should be created through domain factory methods to ensure business rules
+    
+    MeetingAgendaDTO toAgendaDTO(MeetingAgenda agenda, @Context NameResolutionContext names);
     
     @Mapping(target = "id", ignore = true)
-    @Mapping(target = "circleId", ignore = true)
-    @Mapping(target = "status", ignore = true)
-    @Mapping(target = "facilitatorId", ignore = true)
-    @Mapping(target = "secretaryId", ignore = true)
-    @Mapping(target = "agenda", ignore = true)
-    @Mapping(target = "participants", ignore = true)
-    @Mapping(target = "meetingRecord", ignore = true)
-    void updateEntity(UpdateMeetingRequest request, @MappingTarget GovernanceMeeting meeting);
-    
-    MeetingAgendaDTO toAgendaDTO(MeetingAgenda agenda);
-    
-    @Mapping(target = "id", expression = "java(item.getId().getValue())")
     @Mapping(target = "proposalId", expression = "java(item.getProposalId().getValue())")
     @Mapping(target = "proposalTitle", ignore = true)
     @Mapping(target = "status", expression = "java(item.getStatus().name())")
-    AgendaItemDTO toAgendaItemDTO(AgendaItem item);
+    AgendaItemDTO toAgendaItemDTO(AgendaItem item, @Context NameResolutionContext names);
     
-    List<AgendaItemDTO> toAgendaItemDTOList(List<AgendaItem> items);
+    List<AgendaItemDTO> toAgendaItemDTOList(List<AgendaItem> items, @Context NameResolutionContext names);
     
-    MeetingRecordDTO toRecordDTO(MeetingRecord record);
+    MeetingRecordDTO toRecordDTO(MeetingRecord record, @Context NameResolutionContext names);
+    
+    @Mapping(target = "authorId", expression = "java(note.getAuthorId() != null ? note.getAuthorId().getValue() : null)")
+    @Mapping(target = "authorName", ignore = true)
+    MeetingNoteDTO toNoteDTO(MeetingNote note, @Context NameResolutionContext names);
+    
+    List<MeetingNoteDTO> toNoteDTOList(List<MeetingNote> notes, @Context NameResolutionContext names);
     
     @Mapping(target = "proposalId", expression = "java(outcome.getProposalId().getValue())")
     @Mapping(target = "proposalTitle", ignore = true)
-    @Mapping(target = "outcome", expression = "java(outcome.getOutcome().name())")
-    ProposalOutcomeDTO toProposalOutcomeDTO(ProposalOutcome outcome);
+    ProposalOutcomeDTO toProposalOutcomeDTO(ProposalOutcome outcome, @Context NameResolutionContext names);
+    
+    List<ProposalOutcomeDTO> toProposalOutcomeDTOList(List<ProposalOutcome> outcomes,
+                                                      @Context NameResolutionContext names);
+    
+    @AfterMapping
+    default void registerNames(GovernanceMeeting meeting, @MappingTarget MeetingDTO dto,
+                               @Context NameResolutionContext names) {
+        names.circleName(meeting.getCircleId(), dto::setCircleName);
+        names.partnerName(meeting.getFacilitatorId(), dto::setFacilitatorName);
+        names.partnerName(meeting.getSecretaryId(), dto::setSecretaryName);
+        names.partnerNames(meeting.getParticipants(), dto::setParticipantNames);
+    }
     
-    List<ProposalOutcomeDTO> toProposalOutcomeDTOList(List<ProposalOutcome> outcomes);
+    @AfterMapping
+    default void registerNames(AgendaItem item, @MappingTarget AgendaItemDTO dto,
+                               @Context NameResolutionContext names) {
+        names.proposalTitle(item.getProposalId(), dto::setProposalTitle);
+    }
+    
+    @AfterMapping
+    default void registerNames(MeetingNote note, @MappingTarget MeetingNoteDTO dto,
+                               @Context NameResolutionContext names) {
+        names.partnerName(note.getAuthorId(), dto::setAuthorName);
+    }
+    
+    @AfterMapping
+    default void registerNames(ProposalOutcome outcome, @MappingTarget ProposalOutcomeDTO dto,
+                               @Context NameResolutionContext names) {
+        names.proposalTitle(outcome.getProposalId(), dto::setProposalTitle);
+    }
     
     default MeetingId mapId(String id) {
         return id != null ? MeetingId.of(id) : null;
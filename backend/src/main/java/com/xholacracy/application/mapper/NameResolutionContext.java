@@ -0,0 +1,98 @@
+package com.xholacracy.application.mapper;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Collects display-name references while a DTO graph is mapped.
+ * <p>
+ * Mappers register each id together with the DTO setter that needs its name. Once mapping
+ * is done, {@link #complete} is called with the names loaded in one batch per id type and
+ * every registered setter is filled. An instance covers a single mapping request and is
+ * not thread-safe.
+ */
+public class NameResolutionContext {
+    
+    private final Set<PartnerId> partnerIds = new LinkedHashSet<>();
+    private final Set<CircleId> circleIds = new LinkedHashSet<>();
+    private final Set<ProposalId> proposalIds = new LinkedHashSet<>();
+    private final List<Runnable> pendingFills = new ArrayList<>();
+    
+    private Map<PartnerId, String> partnerNames = Collections.emptyMap();
+    private Map<CircleId, String> circleNames = Collections.emptyMap();
+    private Map<ProposalId, String> proposalTitles = Collections.emptyMap();
+    
+    public void partnerName(PartnerId id, Consumer<String> target) {
+        if (id == null) {
+            return;
+        }
+        partnerIds.add(id);
+        pendingFills.add(() -> target.accept(partnerNames.get(id)));
+    }
+    
+    public void partnerNames(Collection<PartnerId> ids, Consumer<List<String>> target) {
+        if (ids == null) {
+            return;
+        }
+        List<PartnerId> snapshot = List.copyOf(ids);
+        partnerIds.addAll(snapshot);
+        pendingFills.add(() -> {
+            List<String> names = new ArrayList<>(snapshot.size());
+            for (PartnerId id : snapshot) {
+                names.add(partnerNames.get(id));
+            }
+            target.accept(names);
+        });
+    }
+    
+    public void circleName(CircleId id, Consumer<String> target) {
+        if (id == null) {
+            return;
+        }
+        circleIds.add(id);
+        pendingFills.add(() -> target.accept(circleNames.get(id)));
+    }
+    
+    public void proposalTitle(ProposalId id, Consumer<String> target) {
+        if (id == null) {
+            return;
+        }
+        proposalIds.add(id);
+        pendingFills.add(() -> target.accept(proposalTitles.get(id)));
+    }
+    
+    public Set<PartnerId> getPartnerIds() {
+        return Collections.unmodifiableSet(partnerIds);
+    }
+    
+    public Set<CircleId> getCircleIds() {
+        return Collections.unmodifiableSet(circleIds);
+    }
+    
+    public Set<ProposalId> getProposalIds() {
+        return Collections.unmodifiableSet(proposalIds);
+    }
+    
+    /**
+     * Fills every registered DTO field from the resolved names. Unknown ids are left null.
+     */
+    public void complete(Map<PartnerId, String> partnerNames,
+                         Map<CircleId, String> circleNames,
+                         Map<ProposalId, String> proposalTitles) {
+        this.partnerNames = partnerNames;
+        this.circleNames = circleNames;
+        this.proposalTitles = proposalTitles;
+        pendingFills.forEach(Runnable::run);
+        pendingFills.clear();
+    }
+}
@@ -4,6 +4,9 @@ import com.xholacracy.application.dto.proposal.*;
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.proposal.*;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Builder;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -12,8 +15,11 @@ import java.util.List;
 
 /**
  * MapStruct mapper for Proposal entity and DTOs
+ * <p>
+ * Display names are not looked up here: references are registered on the
+ * {@link NameResolutionContext} and filled in one batch after mapping.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true))
 public interface ProposalMapper {
     
     @Mapping(target = "id", expression = "java(proposal.getId().getValue())")
@@ -22,7 +28,7 @@ public interface ProposalMapper {
     @Mapping(target = "proposerName", ignore = true)
     @Mapping(target = "proposalType", expression = "java(proposal.getProposalType().name())")
     @Mapping(target = "status", expression = "java(proposal.getStatus().name())")
-    ProposalDTO toDTO(Proposal proposal);
+    ProposalDTO toDTO(Proposal proposal, @Context NameResolutionContext names);
     
     // Note: Use Proposal.create() factory method instead of mapping from request
     // Entities should be created through domain factory methods to ensure business rules
@@ -31,51 +37,115 @@ public interface ProposalMapper {
     
     TensionDTO toTensionDTO(Tension tension);
     
-    Tension toTension(TensionDTO dto);
+    default Tension toTension(TensionDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        Tension tension = Tension.create(dto.getDescription(), dto.getCurrentState(), dto.getDesiredState());
+        if (dto.getExamples() != null) {
+            for (String example : dto.getExamples()) {
+                tension = tension.withExample(example);
+            }
+        }
+        if (dto.getContext() != null) {
+            tension = tension.withContext(dto.getContext());
+        }
+        return tension;
+    }
     
     @Mapping(target = "eventType", expression = "java(event.getEventType().name())")
     @Mapping(target = "actorId", expression = "java(event.getActorId() != null ? event.getActorId().getValue() : null)")
     @Mapping(target = "actorName", ignore = true)
-    DecisionEventDTO toDecisionEventDTO(DecisionEvent event);
+    DecisionEventDTO toDecisionEventDTO(DecisionEvent event, @Context NameResolutionContext names);
     
-    List<DecisionEventDTO> toDecisionEventDTOList(List<DecisionEvent> events);
+    List<DecisionEventDTO> toDecisionEventDTOList(List<DecisionEvent> events, @Context NameResolutionContext names);
     
-    @Mapping(target = "id", expression = "java(question.getId().getValue())")
+    @Mapping(target = "id", expression = "java(mapEntityId(question.getId()))")
     @Mapping(target = "askerId", expression = "java(question.getAskerId().getValue())")
     @Mapping(target = "askerName", ignore = true)
-    QuestionDTO toQuestionDTO(Question question);
+    QuestionDTO toQuestionDTO(Question question, @Context NameResolutionContext names);
     
-    List<QuestionDTO> toQuestionDTOList(List<Question> questions);
+    List<QuestionDTO> toQuestionDTOList(List<Question> questions, @Context NameResolutionContext names);
     
-    @Mapping(target = "id", expression = "java(reaction.getId().getValue())")
+    @Mapping(target = "id", expression = "java(mapEntityId(reaction.getId()))")
     @Mapping(target = "reactorId", expression = "java(reaction.getReactorId().getValue())")
     @Mapping(target = "reactorName", ignore = true)
-    ReactionDTO toReactionDTO(Reaction reaction);
+    ReactionDTO toReactionDTO(Reaction reaction, @Context NameResolutionContext names);
     
-    List<ReactionDTO> toReactionDTOList(List<Reaction> reactions);
+    List<ReactionDTO> toReactionDTOList(List<Reaction> reactions, @Context NameResolutionContext names);
     
-    @Mapping(target = "id", expression = "java(amendment.getId().getValue())")
+    @Mapping(target = "id", expression = "java(mapEntityId(amendment.getId()))")
     AmendmentDTO toAmendmentDTO(Amendment amendment);
     
     List<AmendmentDTO> toAmendmentDTOList(List<Amendment> amendments);
     
-    @Mapping(target = "id", expression = "java(objection.getId().getValue())")
+    @Mapping(target = "id", expression = "java(mapEntityId(objection.getId()))")
     @Mapping(target = "objectorId", expression = "java(objection.getObjectorId().getValue())")
     @Mapping(target = "objectorName", ignore = true)
     @Mapping(target = "validatedBy", expression = "java(objection.getValidatedBy() != null ? objection.getValidatedBy().getValue() : null)")
-    ObjectionDTO toObjectionDTO(Objection objection);
+    ObjectionDTO toObjectionDTO(Objection objection, @Context NameResolutionContext names);
     
-    List<ObjectionDTO> toObjectionDTOList(List<Objection> objections);
+    List<ObjectionDTO> toObjectionDTOList(List<Objection> objections, @Context NameResolutionContext names);
     
     ObjectionCriteriaDTO toObjectionCriteriaDTO(ObjectionCriteria criteria);
     
-    @Mapping(target = "id", expression = "java(vote.getId().getValue())")
+    @Mapping(target = "id", expression = "java(mapEntityId(vote.getId()))")
     @Mapping(target = "voteType", expression = "java(vote.getVoteType().name())")
     @Mapping(target = "voterId", expression = "java(vote.getVoterId().getValue())")
     @Mapping(target = "voterName", ignore = true)
-    VoteDTO toVoteDTO(Vote vote);
+    VoteDTO toVoteDTO(Vote vote, @Context NameResolutionContext names);
+    
+    List<VoteDTO> toVoteDTOList(List<Vote> votes, @Context NameResolutionContext names);
+    
+    @Mapping(target = "id", expression = "java(summary.getProposalId().getValue())")
+    @Mapping(target = "circleId", expression = "java(summary.getCircleId().getValue())")
+    @Mapping(target = "proposerId", expression = "java(summary.getProposerId().getValue())")
+    @Mapping(target = "proposalType", expression = "java(summary.getProposalType().name())")
+    @Mapping(target = "status", expression = "java(summary.getStatus().name())")
+    @Mapping(target = "lastEventType", expression = "java(summary.getLastEventType().name())")
+    ProposalSummaryDTO toSummaryDTO(ProposalSummary summary);
     
-    List<VoteDTO> toVoteDTOList(List<Vote> votes);
+    List<ProposalSummaryDTO> toSummaryDTOList(List<ProposalSummary> summaries);
+    
+    @AfterMapping
+    default void registerNames(Proposal proposal, @MappingTarget ProposalDTO dto,
+                               @Context NameResolutionContext names) {
+        names.partnerName(proposal.getProposerId(), dto::setProposerName);
+    }
+    
+    @AfterMapping
+    default void registerNames(DecisionEvent event, @MappingTarget DecisionEventDTO dto,
+                               @Context NameResolutionContext names) {
+        names.partnerName(event.getActorId(), dto::setActorName);
+    }
+    
+    @AfterMapping
+    default void registerNames(Question question, @MappingTarget QuestionDTO dto,
+                               @Context NameResolutionContext names) {
+        names.partnerName(question.getAskerId(), dto::setAskerName);
+    }
+    
+    @AfterMapping
+    default void registerNames(Reaction reaction, @MappingTarget ReactionDTO dto,
+                               @Context NameResolutionContext names) {
+        names.partnerName(reaction.getReactorId(), dto::setReactorName);
+    }
+    
+    @AfterMapping
+    default void registerNames(Objection objection, @MappingTarget ObjectionDTO dto,
+                               @Context NameResolutionContext names) {
+        names.partnerName(objection.getObjectorId(), dto::setObjectorName);
+    }
+    
+    @AfterMapping
+    default void registerNames(Vote vote, @MappingTarget VoteDTO dto,
+                               @Context NameResolutionContext names) {
+        names.partnerName(vote.getVoterId(), dto::setVoterName);
+    }
+    
+    default String mapEntityId(Long id) {
+        return id != null ? id.toString() : null;
+    }
     
     default ProposalId mapId(String id) {
         return id != null ? ProposalId.of(id) : null;
@@ -4,9 +4,14 @@ import com.xholacracy.application.dto.role.*;
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.DomainControlType;
 import com.xholacracy.domain.model.role.Role;
 import com.xholacracy.domain.model.role.RoleAssignment;
 import com.xholacracy.domain.model.role.RoleId;
+import com.xholacracy.domain.model.role.RoleSummaryView;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Builder;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -16,14 +21,14 @@ import java.util.List;
 /**
  * MapStruct mapper for Role entity and DTOs
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true))
 public interface RoleMapper {
     
     @Mapping(target = "id", expression = "java(role.getId().getValue())")
     @Mapping(target = "circleId", expression = "java(role.getCircleId().getValue())")
     @Mapping(target = "specialRoleType", expression = "java(role.getSpecialRoleType() != null ? role.getSpecialRoleType().name() : null)")
     @Mapping(target = "assignments", source = "assignments")
-    RoleDTO toDTO(Role role);
+    RoleDTO toDTO(Role role, @Context NameResolutionContext names);
     
     @Mapping(target = "id", expression = "java(role.getId().getValue())")
     @Mapping(target = "specialRoleType", expression = "java(role.getSpecialRoleType() != null ? role.getSpecialRoleType().name() : null)")
@@ -32,14 +37,26 @@ public interface RoleMapper {
     
     List<RoleSummaryDTO> toSummaryDTOList(List<Role> roles);
     
-    @Mapping(target = "id", expression = "java(assignment.getId().getValue())")
-    @Mapping(target = "roleId", expression = "java(assignment.getRoleId().getValue())")
+    @Mapping(target = "specialRoleType", expression = "java(view.getSpecialRoleType() != null ? view.getSpecialRoleType().name() : null)")
+    RoleSummaryDTO toSummaryDTO(RoleSummaryView view);
+    
+    List<RoleSummaryDTO> fromSummaryViews(List<RoleSummaryView> views);
+    
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "roleId", expression = "java(assignment.getRole().getId().getValue())")
     @Mapping(target = "partnerId", expression = "java(assignment.getPartnerId().getValue())")
     @Mapping(target = "partnerName", ignore = true)
     @Mapping(target = "assignedBy", expression = "java(assignment.getAssignedBy() != null ? assignment.getAssignedBy().getValue() : null)")
-    RoleAssignmentDTO toAssignmentDTO(RoleAssignment assignment);
+    RoleAssignmentDTO toAssignmentDTO(RoleAssignment assignment, @Context NameResolutionContext names);
     
-    List<RoleAssignmentDTO> toAssignmentDTOList(List<RoleAssignment> assignments);
+    List<RoleAssignmentDTO> toAssignmentDTOList(List<RoleAssignment> assignments,
+                                                @Context NameResolutionContext names);
+    
+    @AfterMapping
+    default void registerNames(RoleAssignment assignment, @MappingTarget RoleAssignmentDTO dto,
+                               @Context NameResolutionContext names) {
+        names.partnerName(assignment.getPartnerId(), dto::setPartnerName);
+    }
     
     @Mapping(target = "controlType", expression = "java(domain.getControlType() != null ? domain.getControlType().name() : null)")
     DomainDTO toDomainDTO(Domain domain);
@@ -51,7 +68,14 @@ public interface RoleMapper {
     
     void updateFromRequest(UpdateRoleRequest request, @MappingTarget Role role);
     
-    Domain toDomain(DomainDTO dto);
+    default Domain toDomain(DomainDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        return dto.getControlType() != null
+            ? Domain.create(dto.getName(), dto.getDescription(), DomainControlType.valueOf(dto.getControlType()))
+            : Domain.create(dto.getName(), dto.getDescription());
+    }
     
     List<Domain> toDomainList(List<DomainDTO> dtos);
     
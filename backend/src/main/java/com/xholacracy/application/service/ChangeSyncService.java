@@ -0,0 +1,164 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.meeting.MeetingDTO;
+import com.xholacracy.application.dto.role.RoleAssignmentDTO;
+import com.xholacracy.application.dto.sync.ChangeSetDTO;
+import com.xholacracy.application.dto.sync.DeletedEntityDTO;
+import com.xholacracy.application.mapper.CircleMapper;
+import com.xholacracy.application.mapper.MeetingMapper;
+import com.xholacracy.application.mapper.ProposalMapper;
+import com.xholacracy.application.mapper.RoleMapper;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalSummaryRepository;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.domain.model.role.RoleId;
+import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.domain.model.sync.ChangeLogEntry;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import com.xholacracy.domain.model.sync.ChangedEntityType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 增量同步服务
+ * 客户端携带上次返回的同步令牌，只获取此后变更的实体和已删除实体的墓碑
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChangeSyncService {
+    
+    public static final int MAX_LIMIT = 1000;
+    
+    private final ChangeLogRepository changeLogRepository;
+    private final OrganizationRepository organizationRepository;
+    private final CircleRepository circleRepository;
+    private final RoleRepository roleRepository;
+    private final ProposalSummaryRepository proposalSummaryRepository;
+    private final MeetingRepository meetingRepository;
+    private final CircleMapper circleMapper;
+    private final RoleMapper roleMapper;
+    private final ProposalMapper proposalMapper;
+    private final MeetingMapper meetingMapper;
+    private final DisplayNameService displayNameService;
+    
+    public ChangeSyncService(ChangeLogRepository changeLogRepository,
+                             OrganizationRepository organizationRepository,
+                             CircleRepository circleRepository,
+                             RoleRepository roleRepository,
+                             ProposalSummaryRepository proposalSummaryRepository,
+                             MeetingRepository meetingRepository,
+                             CircleMapper circleMapper,
+                             RoleMapper roleMapper,
+                             ProposalMapper proposalMapper,
+                             MeetingMapper meetingMapper,
+                             DisplayNameService displayNameService) {
+        this.changeLogRepository = changeLogRepository;
+        this.organizationRepository = organizationRepository;
+        this.circleRepository = circleRepository;
+        this.roleRepository = roleRepository;
+        this.proposalSummaryRepository = proposalSummaryRepository;
+        this.meetingRepository = meetingRepository;
+        this.circleMapper = circleMapper;
+        this.roleMapper = roleMapper;
+        this.proposalMapper = proposalMapper;
+        this.meetingMapper = meetingMapper;
+        this.displayNameService = displayNameService;
+    }
+    
+    /**
+     * 查询同步令牌之后的变更
+     * 同一序号的变更属于同一个事务，分页只在序号边界截断，保证客户端不会看到半个事务
+     *
+     * @param organizationId 组织ID
+     * @param since 上次同步返回的令牌，首次同步传0
+     * @param limit 单页最大实体数
+     * @return 变更集合
+     * @throws ResourceNotFoundException 如果组织不存在
+     * @throws ValidationException 如果参数不合法
+     */
+    public ChangeSetDTO getChanges(OrganizationId organizationId, long since, int limit) {
+        if (since < 0) {
+            throw new ValidationException("since", "must not be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit", "must be between 1 and " + MAX_LIMIT);
+        }
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization", organizationId.getValue());
+        }
+        
+        List<ChangeLogEntry> entries = new ArrayList<>(changeLogRepository.findSince(organizationId, since, limit + 1));
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            long boundary = entries.get(limit).getSequence();
+            entries = new ArrayList<>(entries.subList(0, limit));
+            entries.removeIf(entry -> entry.getSequence() == boundary);
+            if (entries.isEmpty()) {
+                // 单个事务的变更超过limit时整个返回
+                entries = changeLogRepository.findBySequence(organizationId, boundary);
+            }
+        }
+        long token = entries.isEmpty() ? since : entries.get(entries.size() - 1).getSequence();
+        
+        Map<ChangedEntityType, List<String>> upserts = new EnumMap<>(ChangedEntityType.class);
+        List<DeletedEntityDTO> deleted = new ArrayList<>();
+        for (ChangeLogEntry entry : entries) {
+            if (entry.isDeleted()) {
+                deleted.add(new DeletedEntityDTO(entry.getEntityType().name(), entry.getEntityId()));
+            } else {
+                upserts.computeIfAbsent(entry.getEntityType(), type -> new ArrayList<>()).add(entry.getEntityId());
+            }
+        }
+        
+        return ChangeSetDTO.builder()
+            .token(token)
+            .hasMore(hasMore)
+            .circles(circleMapper.fromSummaryViews(circleRepository.findSummariesByIds(
+                ids(upserts, ChangedEntityType.CIRCLE).stream().map(CircleId::of).toList())))
+            .roles(roleMapper.fromSummaryViews(roleRepository.findSummariesByIds(
+                ids(upserts, ChangedEntityType.ROLE).stream().map(RoleId::of).toList())))
+            .assignments(loadAssignments(ids(upserts, ChangedEntityType.ROLE_ASSIGNMENT)))
+            .proposals(proposalMapper.toSummaryDTOList(proposalSummaryRepository.findByIds(
+                ids(upserts, ChangedEntityType.PROPOSAL).stream().map(ProposalId::of).toList())))
+            .meetings(loadMeetings(organizationId, ids(upserts, ChangedEntityType.MEETING)))
+            .deleted(deleted)
+            .build();
+    }
+    
+    private List<String> ids(Map<ChangedEntityType, List<String>> upserts, ChangedEntityType type) {
+        return upserts.getOrDefault(type, List.of());
+    }
+    
+    private List<RoleAssignmentDTO> loadAssignments(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<RoleAssignment> assignments = roleRepository.findAssignmentsByIds(ids);
+        return displayNameService.map(names -> roleMapper.toAssignmentDTOList(assignments, names));
+    }
+    
+    private List<MeetingDTO> loadMeetings(OrganizationId organizationId, List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<GovernanceMeeting> meetings = meetingRepository.findByIds(organizationId,
+            ids.stream().map(MeetingId::of).toList());
+        return displayNameService.map(names -> meetings.stream()
+            .map(meeting -> meetingMapper.toDTO(meeting, names))
+            .toList());
+    }
+}
@@ -0,0 +1,91 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.circle.CircleDTO;
+import com.xholacracy.application.dto.circle.CreateCircleRequest;
+import com.xholacracy.application.dto.role.AssignRoleRequest;
+import com.xholacracy.application.dto.role.RoleAssignmentDTO;
+import com.xholacracy.application.mapper.CircleMapper;
+import com.xholacracy.application.mapper.RoleMapper;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.domain.model.role.RoleId;
+import com.xholacracy.domain.model.role.RoleRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 圈子结构服务
+ * 创建子圈子和分配角色
+ */
+@Service
+@Transactional
+public class CircleCommandService {
+    
+    private final CircleRepository circleRepository;
+    private final RoleRepository roleRepository;
+    private final CircleMapper circleMapper;
+    private final RoleMapper roleMapper;
+    private final DisplayNameService displayNameService;
+    
+    public CircleCommandService(CircleRepository circleRepository,
+                                RoleRepository roleRepository,
+                                CircleMapper circleMapper,
+                                RoleMapper roleMapper,
+                                DisplayNameService displayNameService) {
+        this.circleRepository = circleRepository;
+        this.roleRepository = roleRepository;
+        this.circleMapper = circleMapper;
+        this.roleMapper = roleMapper;
+        this.displayNameService = displayNameService;
+    }
+    
+    /**
+     * 在父圈子下创建子圈子，子圈子自动带有四个特殊角色
+     *
+     * @param parentCircleId 父圈子ID
+     * @param request 子圈子名称、目的和职责
+     * @return 新建的子圈子
+     * @throws ResourceNotFoundException 如果父圈子不存在
+     * @throws ValidationException 如果请求中的组织与父圈子不一致
+     */
+    public CircleDTO createSubCircle(CircleId parentCircleId, CreateCircleRequest request) {
+        Circle parent = circleRepository.findById(parentCircleId)
+            .orElseThrow(() -> new ResourceNotFoundException("Circle", parentCircleId.getValue()));
+        if (request.getOrganizationId() != null
+                && !request.getOrganizationId().equals(parent.getOrganizationId().getValue())) {
+            throw new ValidationException("organizationId", "Parent circle belongs to another organization");
+        }
+        Circle circle = Circle.createSubCircle(request.getName(), request.getPurpose(),
+            parent.getId(), parent.getOrganizationId());
+        if (request.getAccountabilities() != null) {
+            request.getAccountabilities().forEach(circle::addAccountability);
+        }
+        return circleMapper.toDTO(circleRepository.save(circle));
+    }
+    
+    /**
+     * 把圈子内的角色分配给伙伴
+     *
+     * @param circleId 角色所在圈子
+     * @param roleId 角色ID
+     * @param assignedBy 分配人，即发起请求的伙伴
+     * @param request 担任角色的伙伴
+     * @return 新的角色分配
+     * @throws ResourceNotFoundException 如果圈子内没有该角色
+     */
+    public RoleAssignmentDTO assignRole(CircleId circleId, RoleId roleId, PartnerId assignedBy,
+                                        AssignRoleRequest request) {
+        Role role = roleRepository.findById(roleId)
+            .filter(found -> found.getCircleId().equals(circleId))
+            .orElseThrow(() -> new ResourceNotFoundException("Role", roleId.getValue()));
+        RoleAssignment assignment = role.assignToPartner(PartnerId.of(request.getPartnerId()), assignedBy);
+        roleRepository.save(role);
+        return displayNameService.map(names -> roleMapper.toAssignmentDTO(assignment, names));
+    }
+}
@@ -0,0 +1,96 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.circle.CircleDTO;
+import com.xholacracy.application.dto.circle.CircleSummaryDTO;
+import com.xholacracy.application.dto.role.RoleSummaryDTO;
+import com.xholacracy.application.mapper.CircleMapper;
+import com.xholacracy.application.mapper.RoleMapper;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.role.RoleRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 圈子查询服务
+ * 摘要列表只读取仓储投影，不实例化圈子和角色实体
+ */
+@Service
+@Transactional(readOnly = true)
+public class CircleQueryService {
+    
+    private final CircleRepository circleRepository;
+    private final RoleRepository roleRepository;
+    private final CircleMapper circleMapper;
+    private final RoleMapper roleMapper;
+    
+    public CircleQueryService(CircleRepository circleRepository,
+                              RoleRepository roleRepository,
+                              CircleMapper circleMapper,
+                              RoleMapper roleMapper) {
+        this.circleRepository = circleRepository;
+        this.roleRepository = roleRepository;
+        this.circleMapper = circleMapper;
+        this.roleMapper = roleMapper;
+    }
+    
+    /**
+     * 查询圈子的版本标记，用于条件请求，不加载圈子聚合
+     *
+     * @param circleId 圈子ID
+     * @return 版本标记
+     * @throws ResourceNotFoundException 如果圈子不存在
+     */
+    public String getVersionTag(CircleId circleId) {
+        return circleRepository.findVersionTagById(circleId)
+            .orElseThrow(() -> new ResourceNotFoundException("Circle", circleId.getValue()));
+    }
+    
+    /**
+     * 查询圈子详情（含角色和子圈子摘要）
+     *
+     * @param circleId 圈子ID
+     * @return 圈子详情
+     * @throws ResourceNotFoundException 如果圈子不存在
+     */
+    public CircleDTO getCircle(CircleId circleId) {
+        Circle circle = circleRepository.findById(circleId)
+            .orElseThrow(() -> new ResourceNotFoundException("Circle", circleId.getValue()));
+        return circleMapper.toDTO(circle);
+    }
+    
+    /**
+     * 查询组织所有圈子的摘要
+     *
+     * @param organizationId 组织ID
+     * @return 圈子摘要列表
+     */
+    public List<CircleSummaryDTO> listByOrganization(OrganizationId organizationId) {
+        return circleMapper.fromSummaryViews(circleRepository.findSummariesByOrganizationId(organizationId));
+    }
+    
+    /**
+     * 查询子圈子摘要
+     *
+     * @param circleId 父圈子ID
+     * @return 子圈子摘要列表
+     */
+    public List<CircleSummaryDTO> listSubCircles(CircleId circleId) {
+        return circleMapper.fromSummaryViews(circleRepository.findSummariesByParentCircleId(circleId));
+    }
+    
+    /**
+     * 查询圈子的角色摘要
+     *
+     * @param circleId 圈子ID
+     * @return 角色摘要列表
+     */
+    public List<RoleSummaryDTO> listRoles(CircleId circleId) {
+        return roleMapper.fromSummaryViews(roleRepository.findSummariesByCircleId(circleId));
+    }
+}
@@ -0,0 +1,105 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.mapper.NameResolutionContext;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 显示名称解析服务
+ *
+ * 映射DTO时先收集所有PartnerId/CircleId/ProposalId引用，映射完成后每种类型
+ * 只执行一次IN查询，再回填名称。名称缓存在共享缓存中，跨请求复用
+ */
+@Service
+@Transactional(readOnly = true)
+public class DisplayNameService {
+    
+    private static final String PARTNER_NAMES_CACHE = "partnerNames";
+    private static final String CIRCLE_NAMES_CACHE = "circleNames";
+    private static final String PROPOSAL_TITLES_CACHE = "proposalTitles";
+    
+    private final PartnerRepository partnerRepository;
+    private final CircleRepository circleRepository;
+    private final ProposalRepository proposalRepository;
+    private final CacheManager cacheManager;
+    
+    public DisplayNameService(PartnerRepository partnerRepository,
+                              CircleRepository circleRepository,
+                              ProposalRepository proposalRepository,
+                              CacheManager cacheManager) {
+        this.partnerRepository = partnerRepository;
+        this.circleRepository = circleRepository;
+        this.proposalRepository = proposalRepository;
+        this.cacheManager = cacheManager;
+    }
+    
+    /**
+     * 执行一次带名称解析的映射
+     *
+     * @param mapping 映射函数，向上下文登记名称引用
+     * @return 名称已回填的映射结果
+     */
+    public <T> T map(Function<NameResolutionContext, T> mapping) {
+        NameResolutionContext names = new NameResolutionContext();
+        T result = mapping.apply(names);
+        resolve(names);
+        return result;
+    }
+    
+    /**
+     * 批量解析上下文中登记的所有引用并回填
+     *
+     * @param names 名称解析上下文
+     */
+    public void resolve(NameResolutionContext names) {
+        names.complete(
+            lookup(PARTNER_NAMES_CACHE, names.getPartnerIds(), partnerRepository::findNamesByIds),
+            lookup(CIRCLE_NAMES_CACHE, names.getCircleIds(), circleRepository::findNamesByIds),
+            lookup(PROPOSAL_TITLES_CACHE, names.getProposalIds(), proposalRepository::findTitlesByIds)
+        );
+    }
+    
+    /**
+     * 先查共享缓存，未命中的ID用一次批量查询加载并写回缓存
+     */
+    private <K> Map<K, String> lookup(String cacheName, Set<K> ids,
+                                      Function<Collection<K>, Map<K, String>> loader) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+    
+        Cache cache = cacheManager.getCache(cacheName);
+        Map<K, String> names = new HashMap<>();
+        List<K> misses = new ArrayList<>();
+        for (K id : ids) {
+            String cached = cache != null ? cache.get(id, String.class) : null;
+            if (cached != null) {
+                names.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+    
+        if (!misses.isEmpty()) {
+            Map<K, String> loaded = loader.apply(misses);
+            if (cache != null) {
+                loaded.forEach(cache::put);
+            }
+            names.putAll(loaded);
+        }
+        return names;
+    }
+}
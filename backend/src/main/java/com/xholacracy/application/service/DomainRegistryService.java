@@ -0,0 +1,115 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.role.DomainClaimCheckRequest;
+import com.xholacracy.application.dto.role.DomainClaimDTO;
+import com.xholacracy.application.dto.role.DomainConflictDTO;
+import com.xholacracy.application.dto.role.DomainDTO;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.role.DomainClaim;
+import com.xholacracy.domain.model.role.DomainConflict;
+import com.xholacracy.domain.model.role.DomainControlType;
+import com.xholacracy.domain.model.role.DomainRegistry;
+import com.xholacracy.domain.model.role.DomainRegistryRepository;
+import com.xholacracy.domain.model.role.RoleId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 领域注册表服务
+ * 基于组织领域注册表校验提案中角色要声明的领域，并报告组织内已存在的独占领域冲突
+ */
+@Service
+@Transactional(readOnly = true)
+public class DomainRegistryService {
+    
+    private final DomainRegistryRepository domainRegistryRepository;
+    private final OrganizationRepository organizationRepository;
+    
+    public DomainRegistryService(DomainRegistryRepository domainRegistryRepository,
+                                 OrganizationRepository organizationRepository) {
+        this.domainRegistryRepository = domainRegistryRepository;
+        this.organizationRepository = organizationRepository;
+    }
+    
+    /**
+     * 一次遍历报告组织内所有独占领域冲突
+     *
+     * @param organizationId 组织ID
+     * @return 冲突列表，按规范化名称排序
+     * @throws ResourceNotFoundException 如果组织不存在
+     */
+    public List<DomainConflictDTO> findConflicts(OrganizationId organizationId) {
+        return load(organizationId).findAllConflicts().stream()
+            .map(this::toDTO)
+            .toList();
+    }
+    
+    /**
+     * 校验角色要声明的领域是否与组织内其他角色的声明冲突，用于角色修改提案的校验
+     *
+     * @param organizationId 组织ID
+     * @param request 角色ID（新角色可为空）和要声明的领域
+     * @throws ResourceNotFoundException 如果组织不存在
+     * @throws ValidationException 如果有领域冲突或控制类型不合法，错误按domains[i]路径列出
+     */
+    public void validateClaims(OrganizationId organizationId, DomainClaimCheckRequest request) {
+        if (request.getDomains() == null) {
+            throw new ValidationException("domains", "Domains are required");
+        }
+        DomainRegistry registry = load(organizationId);
+        // 新角色还没有ID，用一个不会命中任何声明的临时ID
+        RoleId roleId = request.getRoleId() != null ? RoleId.of(request.getRoleId()) : RoleId.generate();
+        
+        Map<String, String> errors = new LinkedHashMap<>();
+        List<DomainDTO> domains = request.getDomains();
+        for (int i = 0; i < domains.size(); i++) {
+            DomainDTO domain = domains.get(i);
+            String path = "domains[" + i + "]";
+            DomainControlType controlType;
+            try {
+                controlType = domain.getControlType() != null
+                    ? DomainControlType.valueOf(domain.getControlType().toUpperCase(Locale.ROOT))
+                    : DomainControlType.EXCLUSIVE;
+            } catch (IllegalArgumentException e) {
+                errors.put(path + ".controlType", "Unknown domain control type " + domain.getControlType());
+                continue;
+            }
+            registry.findConflict(roleId, domain.getName(), controlType).ifPresent(existing ->
+                errors.put(path, DomainRegistry.conflictMessage(domain.getName(), existing)));
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Proposed domains have " + errors.size() + " conflict(s)", errors);
+        }
+    }
+    
+    private DomainRegistry load(OrganizationId organizationId) {
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization", organizationId.getValue());
+        }
+        return domainRegistryRepository.load(organizationId);
+    }
+    
+    private DomainConflictDTO toDTO(DomainConflict conflict) {
+        return DomainConflictDTO.builder()
+            .name(conflict.getNormalizedName())
+            .claims(conflict.getClaims().stream().map(this::toDTO).toList())
+            .build();
+    }
+    
+    private DomainClaimDTO toDTO(DomainClaim claim) {
+        return DomainClaimDTO.builder()
+            .roleId(claim.getRoleId().getValue())
+            .roleName(claim.getRoleName())
+            .domainName(claim.getDomainName())
+            .controlType(claim.getControlType().name())
+            .build();
+    }
+}
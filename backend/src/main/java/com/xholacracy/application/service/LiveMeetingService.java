@@ -0,0 +1,153 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.meeting.LiveMeetingAckDTO;
+import com.xholacracy.application.dto.meeting.MeetingDTO;
+import com.xholacracy.application.dto.meeting.RecordOutcomeRequest;
+import com.xholacracy.application.mapper.MeetingMapper;
+import com.xholacracy.domain.exception.InvalidStateTransitionException;
+import com.xholacracy.domain.exception.MeetingSessionOwnedElsewhereException;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommand;
+import com.xholacracy.domain.model.meeting.LiveMeetingRegistry;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 现场会议服务
+ * 进行中会议的操作在持有会话的节点内存中生效，请求不等待数据库写入；
+ * 命令被日志记录后立即确认，数据库由注册表合并后异步写回，会议结束时同步写回
+ *
+ * 不开启事务：数据库访问只发生在注册表打开、刷新和关闭会话时
+ */
+@Service
+public class LiveMeetingService {
+    
+    private static final String LIVE = "LIVE";
+    
+    private final LiveMeetingRegistry registry;
+    private final MeetingMapper meetingMapper;
+    private final DisplayNameService displayNameService;
+    
+    public LiveMeetingService(LiveMeetingRegistry registry,
+                              MeetingMapper meetingMapper,
+                              DisplayNameService displayNameService) {
+        this.registry = registry;
+        this.meetingMapper = meetingMapper;
+        this.displayNameService = displayNameService;
+    }
+    
+    /**
+     * 开始会议并在本节点打开现场会话；会议已在进行中时接管会话
+     *
+     * @throws ResourceNotFoundException 如果会议不存在
+     * @throws InvalidStateTransitionException 如果会议已结束或已取消
+     * @throws MeetingSessionOwnedElsewhereException 如果会话由其他节点持有
+     */
+    public MeetingDTO start(OrganizationId organizationId, MeetingId meetingId) {
+        return execute("IN_PROGRESS", () -> displayNameService.map(names ->
+            registry.start(organizationId, meetingId, meeting -> meetingMapper.toDTO(meeting, names))));
+    }
+    
+    /**
+     * 读取现场会话中的会议状态，包括尚未写入数据库的操作
+     */
+    public MeetingDTO getLiveMeeting(OrganizationId organizationId, MeetingId meetingId) {
+        return execute(LIVE, () -> displayNameService.map(names ->
+            registry.read(organizationId, meetingId, meeting -> meetingMapper.toDTO(meeting, names))));
+    }
+    
+    /**
+     * 结束会议，全部操作同步写入数据库后关闭会话
+     */
+    public MeetingDTO end(OrganizationId organizationId, MeetingId meetingId) {
+        return execute("COMPLETED", () -> displayNameService.map(names ->
+            registry.end(organizationId, meetingId, meeting -> meetingMapper.toDTO(meeting, names))));
+    }
+    
+    public LiveMeetingAckDTO startAgendaItem(OrganizationId organizationId, MeetingId meetingId,
+                                             ProposalId proposalId) {
+        return apply(organizationId, meetingId, LiveMeetingCommand.startAgendaItem(proposalId));
+    }
+    
+    public LiveMeetingAckDTO completeAgendaItem(OrganizationId organizationId, MeetingId meetingId,
+                                                ProposalId proposalId, String notes) {
+        return apply(organizationId, meetingId, LiveMeetingCommand.completeAgendaItem(proposalId, notes));
+    }
+    
+    public LiveMeetingAckDTO skipAgendaItem(OrganizationId organizationId, MeetingId meetingId,
+                                            ProposalId proposalId, String reason) {
+        return apply(organizationId, meetingId, LiveMeetingCommand.skipAgendaItem(proposalId, reason));
+    }
+    
+    public LiveMeetingAckDTO recordAttendance(OrganizationId organizationId, MeetingId meetingId,
+                                              List<PartnerId> partnerIds) {
+        return apply(organizationId, meetingId, LiveMeetingCommand.recordAttendance(partnerIds));
+    }
+    
+    public LiveMeetingAckDTO recordCheckIn(OrganizationId organizationId, MeetingId meetingId, String notes) {
+        return apply(organizationId, meetingId, LiveMeetingCommand.recordCheckIn(notes));
+    }
+    
+    /**
+     * 追加一条会议备注
+     *
+     * @param authorId 记下备注的伙伴
+     * @throws ValidationException 如果备注为空或过长
+     */
+    public LiveMeetingAckDTO addNotes(OrganizationId organizationId, MeetingId meetingId, PartnerId authorId,
+                                      String notes) {
+        return apply(organizationId, meetingId, LiveMeetingCommand.addNotes(authorId, notes));
+    }
+    
+    public LiveMeetingAckDTO recordClosing(OrganizationId organizationId, MeetingId meetingId, String notes) {
+        return apply(organizationId, meetingId, LiveMeetingCommand.recordClosing(notes));
+    }
+    
+    /**
+     * 记录提案的处理结果
+     *
+     * @throws ValidationException 如果最终状态未知
+     */
+    public LiveMeetingAckDTO recordOutcome(OrganizationId organizationId, MeetingId meetingId,
+                                           ProposalId proposalId, RecordOutcomeRequest request) {
+        ProposalStatus finalStatus;
+        try {
+            finalStatus = ProposalStatus.valueOf(request.getFinalStatus().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("finalStatus", "Unknown proposal status: " + request.getFinalStatus());
+        }
+        return apply(organizationId, meetingId,
+            LiveMeetingCommand.recordOutcome(proposalId, finalStatus, request.getOutcome(), request.getNotes()));
+    }
+    
+    private LiveMeetingAckDTO apply(OrganizationId organizationId, MeetingId meetingId,
+                                    LiveMeetingCommand command) {
+        long sequence = execute(command.getType().name(), () -> registry.apply(organizationId, meetingId, command));
+        return LiveMeetingAckDTO.builder()
+            .meetingId(meetingId.getValue())
+            .sequence(sequence)
+            .build();
+    }
+    
+    /**
+     * 把领域规则的违反翻译成业务异常
+     */
+    private <T> T execute(String target, Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (IllegalStateException e) {
+            throw new InvalidStateTransitionException(LIVE, target, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage());
+        }
+    }
+}
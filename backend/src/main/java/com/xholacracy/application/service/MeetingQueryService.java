@@ -0,0 +1,86 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.meeting.MeetingDTO;
+import com.xholacracy.application.mapper.MeetingMapper;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 会议查询服务
+ * 圈子名称、参与者名称和议程提案标题在映射后批量解析
+ */
+@Service
+@Transactional(readOnly = true)
+public class MeetingQueryService {
+    
+    private final MeetingRepository meetingRepository;
+    private final CircleRepository circleRepository;
+    private final MeetingMapper meetingMapper;
+    private final DisplayNameService displayNameService;
+    
+    public MeetingQueryService(MeetingRepository meetingRepository,
+                               CircleRepository circleRepository,
+                               MeetingMapper meetingMapper,
+                               DisplayNameService displayNameService) {
+        this.meetingRepository = meetingRepository;
+        this.circleRepository = circleRepository;
+        this.meetingMapper = meetingMapper;
+        this.displayNameService = displayNameService;
+    }
+    
+    /**
+     * 查询会议的版本标记，用于条件请求，不加载会议聚合
+     *
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @return 版本标记
+     * @throws ResourceNotFoundException 如果会议不存在
+     */
+    public String getVersionTag(OrganizationId organizationId, MeetingId meetingId) {
+        return meetingRepository.findVersionTagById(organizationId, meetingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Meeting", meetingId.getValue()));
+    }
+    
+    /**
+     * 查询会议详情
+     *
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @return 会议详情
+     * @throws ResourceNotFoundException 如果会议不存在
+     */
+    public MeetingDTO getMeeting(OrganizationId organizationId, MeetingId meetingId) {
+        GovernanceMeeting meeting = meetingRepository.findById(organizationId, meetingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Meeting", meetingId.getValue()));
+        return displayNameService.map(names -> meetingMapper.toDTO(meeting, names));
+    }
+    
+    /**
+     * 查询圈子的会议，所有会议共用一次名称解析
+     * 先解析圈子所属组织，会议查询只访问该组织的分区
+     *
+     * @param circleId 圈子ID
+     * @return 会议列表
+     * @throws ResourceNotFoundException 如果圈子不存在
+     */
+    public List<MeetingDTO> listByCircle(CircleId circleId) {
+        OrganizationId organizationId = circleRepository.findOrganizationIdsByIds(Set.of(circleId)).get(circleId);
+        if (organizationId == null) {
+            throw new ResourceNotFoundException("Circle", circleId.getValue());
+        }
+        List<GovernanceMeeting> meetings = meetingRepository.findByCircleId(organizationId, circleId);
+        return displayNameService.map(names -> meetings.stream()
+            .map(meeting -> meetingMapper.toDTO(meeting, names))
+            .toList());
+    }
+}
@@ -0,0 +1,208 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.meeting.AddParticipantsRequest;
+import com.xholacracy.application.dto.meeting.CalendarConflictDTO;
+import com.xholacracy.application.dto.meeting.FreeSlotDTO;
+import com.xholacracy.application.dto.meeting.MeetingDTO;
+import com.xholacracy.application.dto.meeting.RescheduleMeetingRequest;
+import com.xholacracy.application.mapper.MeetingMapper;
+import com.xholacracy.domain.exception.InvalidStateTransitionException;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.SchedulingConflictException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.meeting.CalendarConflict;
+import com.xholacracy.domain.model.meeting.FreeSlot;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingBooking;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.MeetingStatus;
+import com.xholacracy.domain.model.meeting.PartnerCalendarIndex;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 会议排期服务
+ * 改期和邀请参与者前用组织的伙伴日程索引检查出席者的其他会议，
+ * 每个出席者的检查是一次有序索引上的范围查找，不扫描会议表
+ */
+@Service
+@Transactional
+public class MeetingSchedulingService {
+    
+    /**
+     * 单次空闲时段查询最多返回的时间段数
+     */
+    static final int MAX_FREE_SLOTS = 100;
+    
+    private final MeetingRepository meetingRepository;
+    private final PartnerCalendarIndex partnerCalendarIndex;
+    private final MeetingMapper meetingMapper;
+    private final DisplayNameService displayNameService;
+    
+    public MeetingSchedulingService(MeetingRepository meetingRepository,
+                                    PartnerCalendarIndex partnerCalendarIndex,
+                                    MeetingMapper meetingMapper,
+                                    DisplayNameService displayNameService) {
+        this.meetingRepository = meetingRepository;
+        this.partnerCalendarIndex = partnerCalendarIndex;
+        this.meetingMapper = meetingMapper;
+        this.displayNameService = displayNameService;
+    }
+    
+    /**
+     * 预览会议改到新时间或加入新参与者后的冲突，不修改会议
+     *
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @param scheduledDate 新的计划时间，为空时保持原时间
+     * @param participantIds 要加入的参与者，可为空
+     * @return 冲突列表，按出席者顺序和开始时间排序
+     * @throws ResourceNotFoundException 如果会议不存在
+     */
+    @Transactional(readOnly = true)
+    public List<CalendarConflictDTO> findConflicts(OrganizationId organizationId, MeetingId meetingId,
+                                                   LocalDateTime scheduledDate, List<PartnerId> participantIds) {
+        GovernanceMeeting meeting = load(organizationId, meetingId);
+        MeetingBooking candidate = MeetingBooking.of(meeting);
+        if (scheduledDate != null) {
+            candidate = candidate.rescheduledTo(scheduledDate);
+        }
+        if (participantIds != null && !participantIds.isEmpty()) {
+            candidate = candidate.withAttendees(participantIds);
+        }
+        List<CalendarConflict> conflicts = partnerCalendarIndex.calendarOf(organizationId).findConflicts(candidate);
+        return displayNameService.map(names -> conflicts.stream()
+            .map(conflict -> {
+                CalendarConflictDTO dto = toDTO(conflict);
+                names.partnerName(conflict.getPartnerId(), dto::setPartnerName);
+                return dto;
+            })
+            .toList());
+    }
+    
+    /**
+     * 会议改期
+     *
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @param request 新的计划时间，以及是否忽略冲突
+     * @return 改期后的会议
+     * @throws ResourceNotFoundException 如果会议不存在
+     * @throws InvalidStateTransitionException 如果会议不是计划中状态
+     * @throws SchedulingConflictException 如果出席者在新时间有其他会议且未允许冲突
+     */
+    public MeetingDTO reschedule(OrganizationId organizationId, MeetingId meetingId,
+                                 RescheduleMeetingRequest request) {
+        GovernanceMeeting meeting = load(organizationId, meetingId);
+        if (meeting.getStatus() != MeetingStatus.SCHEDULED) {
+            throw new InvalidStateTransitionException(meeting.getStatus().name(), MeetingStatus.SCHEDULED.name(),
+                "Can only reschedule scheduled meetings");
+        }
+        if (!request.isAllowConflicts()) {
+            checkConflicts(organizationId, MeetingBooking.of(meeting).rescheduledTo(request.getScheduledDate()));
+        }
+        meeting.reschedule(request.getScheduledDate());
+        GovernanceMeeting saved = meetingRepository.save(meeting);
+        return displayNameService.map(names -> meetingMapper.toDTO(saved, names));
+    }
+    
+    /**
+     * 邀请伙伴参加会议，已是出席者的伙伴被忽略
+     *
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @param request 要加入的伙伴，以及是否忽略冲突
+     * @return 更新后的会议
+     * @throws ResourceNotFoundException 如果会议不存在
+     * @throws SchedulingConflictException 如果新参与者在会议时间有其他会议且未允许冲突
+     */
+    public MeetingDTO addParticipants(OrganizationId organizationId, MeetingId meetingId,
+                                      AddParticipantsRequest request) {
+        GovernanceMeeting meeting = load(organizationId, meetingId);
+        List<PartnerId> participantIds = request.getParticipantIds().stream().map(PartnerId::of).toList();
+        if (!request.isAllowConflicts() && meeting.occupiesCalendar()) {
+            // 只检查新加入的伙伴，已有出席者的冲突在他们加入时已经报告过
+            List<PartnerId> newcomers = participantIds.stream()
+                .filter(partnerId -> !meeting.isAttendee(partnerId))
+                .distinct()
+                .toList();
+            if (!newcomers.isEmpty()) {
+                MeetingBooking booking = MeetingBooking.of(meeting.getId(), meeting.getScheduledDate(),
+                    meeting.getDuration(), newcomers);
+                checkConflicts(organizationId, booking);
+            }
+        }
+        meeting.addParticipants(participantIds);
+        GovernanceMeeting saved = meetingRepository.save(meeting);
+        return displayNameService.map(names -> meetingMapper.toDTO(saved, names));
+    }
+    
+    /**
+     * 查找所有伙伴都空闲的时间段
+     *
+     * @param organizationId 组织ID
+     * @param partnerIds 需要出席的伙伴
+     * @param from 窗口开始
+     * @param to 窗口结束
+     * @param durationMinutes 最短时长（分钟）
+     * @param limit 最多返回的时间段数，不超过MAX_FREE_SLOTS
+     * @return 空闲时间段，按开始时间排序
+     * @throws ValidationException 如果窗口、时长或数量不合法
+     */
+    @Transactional(readOnly = true)
+    public List<FreeSlotDTO> findFreeSlots(OrganizationId organizationId, List<PartnerId> partnerIds,
+                                           LocalDateTime from, LocalDateTime to, int durationMinutes, int limit) {
+        if (partnerIds == null || partnerIds.isEmpty()) {
+            throw new ValidationException("partnerIds", "At least one partner is required");
+        }
+        if (!to.isAfter(from)) {
+            throw new ValidationException("to", "Window end must be after its start");
+        }
+        if (durationMinutes <= 0) {
+            throw new ValidationException("durationMinutes", "Duration must be positive");
+        }
+        if (limit <= 0 || limit > MAX_FREE_SLOTS) {
+            throw new ValidationException("limit", "Limit must be between 1 and " + MAX_FREE_SLOTS);
+        }
+        return partnerCalendarIndex.calendarOf(organizationId)
+            .findFreeSlots(partnerIds, from, to, Duration.ofMinutes(durationMinutes), limit).stream()
+            .map(this::toDTO)
+            .toList();
+    }
+    
+    private GovernanceMeeting load(OrganizationId organizationId, MeetingId meetingId) {
+        return meetingRepository.findById(organizationId, meetingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Meeting", meetingId.getValue()));
+    }
+    
+    private void checkConflicts(OrganizationId organizationId, MeetingBooking candidate) {
+        List<CalendarConflict> conflicts = partnerCalendarIndex.calendarOf(organizationId).findConflicts(candidate);
+        if (!conflicts.isEmpty()) {
+            throw new SchedulingConflictException(conflicts);
+        }
+    }
+    
+    private CalendarConflictDTO toDTO(CalendarConflict conflict) {
+        return CalendarConflictDTO.builder()
+            .partnerId(conflict.getPartnerId().getValue())
+            .meetingId(conflict.getMeetingId().getValue())
+            .start(conflict.getStart())
+            .end(conflict.getEnd())
+            .build();
+    }
+    
+    private FreeSlotDTO toDTO(FreeSlot slot) {
+        return FreeSlotDTO.builder()
+            .start(slot.getStart())
+            .end(slot.getEnd())
+            .durationMinutes((int) slot.getDuration().toMinutes())
+            .build();
+    }
+}
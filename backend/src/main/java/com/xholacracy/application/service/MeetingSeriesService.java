@@ -0,0 +1,155 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.meeting.CreateMeetingSeriesRequest;
+import com.xholacracy.application.dto.meeting.MeetingSeriesDTO;
+import com.xholacracy.application.mapper.MeetingMapper;
+import com.xholacracy.domain.exception.InvalidStateTransitionException;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.MeetingSeries;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
+import com.xholacracy.domain.model.meeting.MeetingSeriesMaterializer;
+import com.xholacracy.domain.model.meeting.MeetingSeriesRepository;
+import com.xholacracy.domain.model.meeting.MeetingSeriesStatus;
+import com.xholacracy.domain.model.meeting.RecurrenceFrequency;
+import com.xholacracy.domain.model.meeting.RecurrenceRule;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 会议系列服务
+ * 一次请求可为多个圈子创建相同规则的系列，所有系列在同一事务中创建，
+ * 窗口内的会议由会议系列生成器一次批量写入，之后随调度推进
+ */
+@Service
+@Transactional
+public class MeetingSeriesService {
+    
+    /**
+     * 单次请求最多创建的系列数
+     */
+    static final int MAX_CIRCLES = 1000;
+    
+    private final MeetingSeriesRepository seriesRepository;
+    private final MeetingRepository meetingRepository;
+    private final CircleRepository circleRepository;
+    private final MeetingSeriesMaterializer materializer;
+    private final MeetingMapper meetingMapper;
+    
+    public MeetingSeriesService(MeetingSeriesRepository seriesRepository,
+                                MeetingRepository meetingRepository,
+                                CircleRepository circleRepository,
+                                MeetingSeriesMaterializer materializer,
+                                MeetingMapper meetingMapper) {
+        this.seriesRepository = seriesRepository;
+        this.meetingRepository = meetingRepository;
+        this.circleRepository = circleRepository;
+        this.materializer = materializer;
+        this.meetingMapper = meetingMapper;
+    }
+    
+    /**
+     * 为每个圈子创建一个会议系列并生成窗口内的会议
+     *
+     * @param request 圈子和重复规则
+     * @return 创建的会议系列，按请求中圈子的顺序
+     * @throws ValidationException 如果圈子过多、频率未知或规则不合法
+     * @throws ResourceNotFoundException 如果圈子不存在
+     */
+    public List<MeetingSeriesDTO> createSeries(CreateMeetingSeriesRequest request) {
+        Set<CircleId> circleIds = new LinkedHashSet<>();
+        request.getCircleIds().forEach(id -> circleIds.add(CircleId.of(id)));
+        if (circleIds.size() > MAX_CIRCLES) {
+            throw new ValidationException("circleIds", "must not contain more than " + MAX_CIRCLES + " circles");
+        }
+        RecurrenceFrequency frequency;
+        try {
+            frequency = RecurrenceFrequency.valueOf(request.getFrequency().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("frequency", "Unknown frequency " + request.getFrequency());
+        }
+        Map<CircleId, OrganizationId> organizations = circleRepository.findOrganizationIdsByIds(circleIds);
+        
+        List<MeetingSeries> created = new ArrayList<>();
+        try {
+            RecurrenceRule rule = RecurrenceRule.of(frequency,
+                request.getInterval() != null ? request.getInterval() : 1, request.getUntil());
+            Duration duration = Duration.ofMinutes(request.getDurationMinutes());
+            for (CircleId circleId : circleIds) {
+                OrganizationId organizationId = organizations.get(circleId);
+                if (organizationId == null) {
+                    throw new ResourceNotFoundException("Circle", circleId.getValue());
+                }
+                created.add(seriesRepository.save(MeetingSeries.create(organizationId, circleId, rule,
+                    request.getFirstOccurrence(), duration)));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage());
+        }
+        materializer.materialize(created);
+        return created.stream().map(meetingMapper::toSeriesDTO).toList();
+    }
+    
+    /**
+     * 查询会议系列
+     *
+     * @throws ResourceNotFoundException 如果系列不存在
+     */
+    @Transactional(readOnly = true)
+    public MeetingSeriesDTO getSeries(OrganizationId organizationId, MeetingSeriesId seriesId) {
+        return meetingMapper.toSeriesDTO(load(organizationId, seriesId));
+    }
+    
+    /**
+     * 查询圈子的会议系列
+     */
+    @Transactional(readOnly = true)
+    public List<MeetingSeriesDTO> listByCircle(CircleId circleId) {
+        return seriesRepository.findByCircleId(circleId).stream().map(meetingMapper::toSeriesDTO).toList();
+    }
+    
+    /**
+     * 结束会议系列，并取消已生成的lastDate之后尚未开始的会议
+     *
+     * @param organizationId 组织ID
+     * @param seriesId 会议系列ID
+     * @param lastDate 最后一次会议的最晚日期
+     * @return 结束后的会议系列
+     * @throws ResourceNotFoundException 如果系列不存在
+     * @throws InvalidStateTransitionException 如果系列已经结束
+     */
+    public MeetingSeriesDTO endSeries(OrganizationId organizationId, MeetingSeriesId seriesId, LocalDate lastDate) {
+        MeetingSeries series = load(organizationId, seriesId);
+        if (series.getStatus() == MeetingSeriesStatus.ENDED) {
+            throw new InvalidStateTransitionException(series.getStatus().name(), MeetingSeriesStatus.ENDED.name(),
+                "Meeting series has already ended");
+        }
+        series.endOn(lastDate);
+        MeetingSeries saved = seriesRepository.save(series);
+        for (GovernanceMeeting meeting : meetingRepository.findScheduledBySeriesId(organizationId, seriesId,
+                lastDate.plusDays(1).atStartOfDay())) {
+            meeting.cancel();
+            meetingRepository.save(meeting);
+        }
+        return meetingMapper.toSeriesDTO(saved);
+    }
+    
+    private MeetingSeries load(OrganizationId organizationId, MeetingSeriesId seriesId) {
+        return seriesRepository.findById(organizationId, seriesId)
+            .orElseThrow(() -> new ResourceNotFoundException("MeetingSeries", seriesId.getValue()));
+    }
+}
@@ -0,0 +1,154 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.ImportProgressListener;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationBulkWriter;
+import com.xholacracy.domain.model.organization.OrganizationGraph;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationStructureReader;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 组织克隆器
+ * 在可重复读事务中深度优先遍历源组织，用领域工厂方法以新ID重建每个圈子和角色，
+ * 每凑满一批圈子就交给OrganizationBulkWriter批量写入，源组织和副本都不会整体驻留内存
+ *
+ * 伙伴是跨组织共享的，副本中的角色分配指向同一批伙伴，分配人记为发起克隆的伙伴
+ */
+@Service
+public class OrganizationCloner {
+    
+    static final int CIRCLES_PER_BATCH = 100;
+    
+    private final OrganizationStructureReader structureReader;
+    private final OrganizationBulkWriter bulkWriter;
+    
+    public OrganizationCloner(OrganizationStructureReader structureReader, OrganizationBulkWriter bulkWriter) {
+        this.structureReader = structureReader;
+        this.bulkWriter = bulkWriter;
+    }
+    
+    /**
+     * 把源组织的结构复制到新组织并写入
+     *
+     * @param sourceId 源组织ID
+     * @param target 新组织，尚未持久化
+     * @param clonedBy 发起克隆的伙伴
+     * @param includeAssignments 是否复制角色分配
+     * @param expectedTotal 预计写入的实体总数，只用于报告进度
+     * @param listener 进度监听器，报告的是整个克隆的累计数量
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void cloneStructure(OrganizationId sourceId, Organization target, PartnerId clonedBy,
+                               boolean includeAssignments, int expectedTotal, ImportProgressListener listener) {
+        structureReader.traverse(sourceId, new CopyingVisitor(target, clonedBy, includeAssignments,
+            (phase, written, total) -> listener.onProgress(phase, written, expectedTotal)));
+    }
+    
+    /**
+     * 边遍历边复制；只为遍历路径上的圈子保留新旧ID映射
+     */
+    private class CopyingVisitor implements OrganizationStructureReader.CircleVisitor {
+        
+        private final Organization target;
+        private final PartnerId clonedBy;
+        private final boolean includeAssignments;
+        private final ImportProgressListener listener;
+        private final Map<CircleId, CircleId> copiedIds = new HashMap<>();
+        private final List<Circle> pending = new ArrayList<>();
+        private int written;
+        
+        CopyingVisitor(Organization target, PartnerId clonedBy, boolean includeAssignments,
+                       ImportProgressListener listener) {
+            this.target = target;
+            this.clonedBy = clonedBy;
+            this.includeAssignments = includeAssignments;
+            this.listener = listener;
+        }
+        
+        @Override
+        public void enter(Circle source, String purpose) {
+            if (source.isAnchorCircle()) {
+                Circle anchor = target.getAnchorCircle();
+                copiedIds.put(source.getId(), anchor.getId());
+                copyContent(source, anchor);
+                OrganizationGraph graph = OrganizationGraph.of(target, List.of(anchor), List.of());
+                bulkWriter.write(graph, listener);
+                written = graph.getEntityCount();
+                return;
+            }
+            Circle copy = Circle.createSubCircle(source.getName(), purpose,
+                copiedIds.get(source.getParentCircleId()), target.getId());
+            copiedIds.put(source.getId(), copy.getId());
+            copyContent(source, copy);
+            pending.add(copy);
+            if (pending.size() >= CIRCLES_PER_BATCH) {
+                flush();
+            }
+        }
+        
+        @Override
+        public void exit(Circle source) {
+            copiedIds.remove(source.getId());
+            if (source.isAnchorCircle()) {
+                flush();
+            }
+        }
+        
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            int offset = written;
+            bulkWriter.append(target.getId(), List.copyOf(pending),
+                (phase, count, total) -> {
+                    written = offset + count;
+                    listener.onProgress(phase, written, total);
+                });
+            pending.clear();
+        }
+        
+        private void copyContent(Circle source, Circle copy) {
+            source.getAccountabilities().forEach(copy::addAccountability);
+            for (Role role : source.getRoles()) {
+                if (role.isSpecialRole()) {
+                    // 特殊角色由圈子工厂创建，只复制分配
+                    copy.getRoles().stream()
+                        .filter(candidate -> candidate.getSpecialRoleType() == role.getSpecialRoleType())
+                        .findFirst()
+                        .ifPresent(special -> copyAssignments(role, special));
+                    continue;
+                }
+                Role roleCopy = Role.create(role.getName(), role.getPurpose(), copy.getId());
+                role.getAccountabilities().forEach(roleCopy::addAccountability);
+                for (Domain domain : role.getDomains()) {
+                    roleCopy.addDomain(Domain.create(domain.getName(), domain.getDescription(), domain.getControlType()));
+                }
+                copyAssignments(role, roleCopy);
+                copy.addRole(roleCopy);
+            }
+        }
+        
+        private void copyAssignments(Role source, Role copy) {
+            if (!includeAssignments) {
+                return;
+            }
+            for (RoleAssignment assignment : source.getAssignments()) {
+                copy.assignToPartner(assignment.getPartnerId(), clonedBy);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.xholacracy.application.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.application.dto.organization.ImportPartnerDefinition;
+import com.xholacracy.application.dto.organization.ImportRoleDefinition;
+import com.xholacracy.application.dto.role.DomainDTO;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.organization.OrganizationStructureReader;
+import com.xholacracy.domain.model.partner.Partner;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 组织导出服务
+ * 在可重复读事务中深度优先遍历组织，边读边把结构写成与导入请求相同格式的JSON，
+ * 导出的文档可以直接提交给导入接口；内存只与圈子树的深度和扇出以及担任角色的伙伴数有关
+ */
+@Service
+public class OrganizationExportService {
+    
+    private final OrganizationRepository organizationRepository;
+    private final PartnerRepository partnerRepository;
+    private final OrganizationStructureReader structureReader;
+    private final ObjectMapper objectMapper;
+    
+    public OrganizationExportService(OrganizationRepository organizationRepository,
+                                     PartnerRepository partnerRepository,
+                                     OrganizationStructureReader structureReader,
+                                     ObjectMapper objectMapper) {
+        this.organizationRepository = organizationRepository;
+        this.partnerRepository = partnerRepository;
+        this.structureReader = structureReader;
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+    
+    /**
+     * 检查组织是否存在，在开始输出响应之前调用
+     *
+     * @param organizationId 组织ID
+     * @throws ResourceNotFoundException 如果组织不存在
+     */
+    @Transactional(readOnly = true)
+    public void requireOrganization(OrganizationId organizationId) {
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization", organizationId.getValue());
+        }
+    }
+    
+    /**
+     * 导出组织的治理结构
+     *
+     * @param organizationId 组织ID
+     * @param includeAssignments 是否导出角色分配和担任角色的伙伴
+     * @param output 输出流，不会被关闭
+     * @throws ResourceNotFoundException 如果组织不存在
+     * @throws IOException 如果写出失败
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void export(OrganizationId organizationId, boolean includeAssignments, OutputStream output)
+            throws IOException {
+        Organization organization = organizationRepository.findById(organizationId)
+            .orElseThrow(() -> new ResourceNotFoundException("Organization", organizationId.getValue()));
+        Map<PartnerId, String> emails = new HashMap<>();
+        
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeStringField("name", organization.getName());
+            generator.writeStringField("description", organization.getDescription());
+            if (includeAssignments) {
+                generator.writeArrayFieldStart("partners");
+                for (Partner partner : partnerRepository.findAssignedInOrganization(organizationId)) {
+                    emails.put(partner.getId(), partner.getEmail());
+                    generator.writeObject(new ImportPartnerDefinition(partner.getName(), partner.getEmail()));
+                }
+                generator.writeEndArray();
+            }
+            try {
+                structureReader.traverse(organizationId, new WritingVisitor(generator, includeAssignments ? emails : null));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndObject();
+        }
+    }
+    
+    /**
+     * 锚圈子的内容写在文档顶层，其余圈子嵌套在父圈子的circles数组中
+     */
+    private class WritingVisitor implements OrganizationStructureReader.CircleVisitor {
+        
+        private final JsonGenerator generator;
+        private final Map<PartnerId, String> emails;
+        
+        WritingVisitor(JsonGenerator generator, Map<PartnerId, String> emails) {
+            this.generator = generator;
+            this.emails = emails;
+        }
+        
+        @Override
+        public void enter(Circle circle, String purpose) {
+            try {
+                if (!circle.isAnchorCircle()) {
+                    generator.writeStartObject();
+                    generator.writeStringField("name", circle.getName());
+                    generator.writeStringField("purpose", purpose);
+                }
+                writeContent(circle);
+                generator.writeArrayFieldStart("circles");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        @Override
+        public void exit(Circle circle) {
+            try {
+                generator.writeEndArray();
+                if (!circle.isAnchorCircle()) {
+                    generator.writeEndObject();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        private void writeContent(Circle circle) throws IOException {
+            generator.writeObjectField("accountabilities", circle.getAccountabilities());
+            if (emails != null) {
+                Map<String, List<String>> specialRoles = new LinkedHashMap<>();
+                for (Role role : circle.getRoles()) {
+                    if (role.isSpecialRole() && !role.getAssignments().isEmpty()) {
+                        specialRoles.put(role.getSpecialRoleType().name(), assignees(role));
+                    }
+                }
+                generator.writeObjectField("specialRoles", specialRoles);
+            }
+            generator.writeArrayFieldStart("roles");
+            for (Role role : circle.getRoles()) {
+                if (!role.isSpecialRole()) {
+                    generator.writeObject(toDefinition(role));
+                }
+            }
+            generator.writeEndArray();
+        }
+        
+        private ImportRoleDefinition toDefinition(Role role) {
+            return ImportRoleDefinition.builder()
+                .name(role.getName())
+                .purpose(role.getPurpose())
+                .accountabilities(role.getAccountabilities())
+                .domains(role.getDomains().stream()
+                    .map(domain -> DomainDTO.builder()
+                        .name(domain.getName())
+                        .description(domain.getDescription())
+                        .controlType(domain.getControlType().name())
+                        .build())
+                    .toList())
+                .assignees(emails != null ? assignees(role) : null)
+                .build();
+        }
+        
+        private List<String> assignees(Role role) {
+            return role.getAssignments().stream()
+                .map(RoleAssignment::getPartnerId)
+                .map(emails::get)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.organization.OrganizationImportStatusDTO;
+import com.xholacracy.domain.model.organization.ImportProgressListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 一次组织导入的进度
+ * 写入线程更新，查询线程读取，字段均为volatile
+ */
+class OrganizationImportJob implements ImportProgressListener {
+    
+    enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+    
+    private final String importId = UUID.randomUUID().toString();
+    private final String organizationId;
+    private final int total;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    
+    private volatile State state = State.PENDING;
+    private volatile String phase;
+    private volatile int written;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+    
+    OrganizationImportJob(String organizationId, int total) {
+        this.organizationId = organizationId;
+        this.total = total;
+    }
+    
+    @Override
+    public void onProgress(String phase, int written, int total) {
+        this.state = State.RUNNING;
+        this.phase = phase;
+        this.written = written;
+    }
+    
+    void complete() {
+        this.written = total;
+        this.finishedAt = LocalDateTime.now();
+        this.state = State.COMPLETED;
+    }
+    
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.state = State.FAILED;
+    }
+    
+    String getImportId() {
+        return importId;
+    }
+    
+    int getTotal() {
+        return total;
+    }
+    
+    OrganizationImportStatusDTO toDTO() {
+        return OrganizationImportStatusDTO.builder()
+            .importId(importId)
+            .state(state.name())
+            .phase(phase)
+            .written(written)
+            .total(total)
+            .organizationId(organizationId)
+            .error(error)
+            .startedAt(startedAt)
+            .finishedAt(finishedAt)
+            .build();
+    }
+}
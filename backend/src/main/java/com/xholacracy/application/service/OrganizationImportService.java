@@ -0,0 +1,358 @@
+package com.xholacracy.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xholacracy.application.dto.organization.CloneOrganizationRequest;
+import com.xholacracy.application.dto.organization.ImportCircleDefinition;
+import com.xholacracy.application.dto.organization.ImportOrganizationRequest;
+import com.xholacracy.application.dto.organization.ImportPartnerDefinition;
+import com.xholacracy.application.dto.organization.ImportRoleDefinition;
+import com.xholacracy.application.dto.organization.OrganizationImportStatusDTO;
+import com.xholacracy.application.dto.role.DomainDTO;
+import com.xholacracy.domain.exception.DomainException;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.circle.CircleSummaryView;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationBulkWriter;
+import com.xholacracy.domain.model.organization.OrganizationGraph;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.Partner;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.DomainControlType;
+import com.xholacracy.domain.model.role.DomainRegistry;
+import com.xholacracy.domain.model.role.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 组织导入服务
+ * 先用领域工厂方法在内存中构建整个组织并一次性报告所有校验错误，
+ * 校验通过后由OrganizationBulkWriter在后台用一个事务批量写入，调用方按导入ID轮询进度；
+ * 克隆已有组织走同样的后台任务和进度查询，由OrganizationCloner分批复制
+ *
+ * 导入进度只保存在本实例内存中，完成一小时后过期
+ */
+@Service
+public class OrganizationImportService {
+    
+    private static final Logger log = LoggerFactory.getLogger(OrganizationImportService.class);
+    
+    private final OrganizationRepository organizationRepository;
+    private final PartnerRepository partnerRepository;
+    private final CircleRepository circleRepository;
+    private final OrganizationBulkWriter bulkWriter;
+    private final OrganizationCloner cloner;
+    private final TaskExecutor taskExecutor;
+    private final Cache<String, OrganizationImportJob> jobs = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofHours(1))
+        .build();
+    
+    public OrganizationImportService(OrganizationRepository organizationRepository,
+                                     PartnerRepository partnerRepository,
+                                     CircleRepository circleRepository,
+                                     OrganizationBulkWriter bulkWriter,
+                                     OrganizationCloner cloner,
+                                     @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.organizationRepository = organizationRepository;
+        this.partnerRepository = partnerRepository;
+        this.circleRepository = circleRepository;
+        this.bulkWriter = bulkWriter;
+        this.cloner = cloner;
+        this.taskExecutor = taskExecutor;
+    }
+    
+    /**
+     * 校验组织定义并开始后台导入
+     *
+     * @param request 组织定义
+     * @return 导入进度，状态为PENDING
+     * @throws ValidationException 如果定义违反任何领域规则，错误按定义中的路径列出
+     */
+    @Transactional(readOnly = true)
+    public OrganizationImportStatusDTO startImport(ImportOrganizationRequest request) {
+        OrganizationGraph graph = new GraphBuilder().build(request);
+        OrganizationImportJob job = new OrganizationImportJob(
+            graph.getOrganization().getId().getValue(), graph.getEntityCount());
+        jobs.put(job.getImportId(), job);
+        taskExecutor.execute(() -> run(job, graph.getOrganization(), () -> bulkWriter.write(graph, job)));
+        return job.toDTO();
+    }
+    
+    /**
+     * 开始在后台把组织的结构克隆为新组织，进度与导入一样按导入ID查询
+     *
+     * @param sourceId 源组织ID
+     * @param request 新组织的名称、描述和发起克隆的伙伴
+     * @return 克隆进度，状态为PENDING
+     * @throws ResourceNotFoundException 如果源组织不存在
+     * @throws ValidationException 如果新组织名称不合法或已存在，或发起人不存在
+     */
+    @Transactional(readOnly = true)
+    public OrganizationImportStatusDTO startClone(OrganizationId sourceId, CloneOrganizationRequest request) {
+        Organization source = organizationRepository.findById(sourceId)
+            .orElseThrow(() -> new ResourceNotFoundException("Organization", sourceId.getValue()));
+        Map<String, String> errors = new LinkedHashMap<>();
+        Organization target = null;
+        try {
+            target = Organization.create(request.getName(),
+                request.getDescription() != null ? request.getDescription() : source.getDescription());
+        } catch (ValidationException e) {
+            errors.put("name", e.getMessage());
+        }
+        if (target != null && organizationRepository.findByName(request.getName()).isPresent()) {
+            errors.put("name", "Organization name already exists");
+        }
+        PartnerId clonedBy = request.getClonedBy() != null
+            ? partnerRepository.findIdsByEmails(List.of(request.getClonedBy())).get(request.getClonedBy())
+            : null;
+        if (clonedBy == null) {
+            errors.put("clonedBy", "Must be the email of an existing partner");
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Clone request has " + errors.size() + " error(s)", errors);
+        }
+        
+        int total = 1;
+        for (CircleSummaryView circle : circleRepository.findSummariesByOrganizationId(sourceId)) {
+            total += 1 + circle.getRoleCount() + (request.isIncludeAssignments() ? circle.getAssignmentCount() : 0);
+        }
+        OrganizationImportJob job = new OrganizationImportJob(target.getId().getValue(), total);
+        jobs.put(job.getImportId(), job);
+        Organization copy = target;
+        int expectedTotal = total;
+        taskExecutor.execute(() -> run(job, copy, () -> cloner.cloneStructure(sourceId, copy, clonedBy,
+            request.isIncludeAssignments(), expectedTotal, job)));
+        return job.toDTO();
+    }
+    
+    /**
+     * 查询导入进度
+     *
+     * @param importId 导入ID
+     * @return 导入进度
+     * @throws ResourceNotFoundException 如果导入不存在或已过期
+     */
+    public OrganizationImportStatusDTO getStatus(String importId) {
+        OrganizationImportJob job = jobs.getIfPresent(importId);
+        if (job == null) {
+            throw new ResourceNotFoundException("OrganizationImport", importId);
+        }
+        return job.toDTO();
+    }
+    
+    private void run(OrganizationImportJob job, Organization organization, Runnable write) {
+        long start = System.nanoTime();
+        try {
+            write.run();
+            job.complete();
+            log.info("Imported organization {} ({} entities) in {} ms", organization.getId(),
+                job.getTotal(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Import {} of organization {} failed", job.getImportId(), organization.getName(), e);
+            job.fail(e.getMessage());
+        }
+    }
+    
+    /**
+     * 把组织定义转换为导入图，收集而不是在第一个错误处停止
+     */
+    private class GraphBuilder {
+        
+        private final Map<String, String> errors = new LinkedHashMap<>();
+        private final Map<String, PartnerId> partnerIds = new HashMap<>();
+        private final List<Partner> newPartners = new ArrayList<>();
+        private final List<Circle> circles = new ArrayList<>();
+        private PartnerId importedBy;
+        private DomainRegistry domainRegistry;
+        
+        OrganizationGraph build(ImportOrganizationRequest request) {
+            Organization organization = attempt("", () -> Organization.create(request.getName(), request.getDescription()));
+            if (organization != null && organizationRepository.findByName(request.getName()).isPresent()) {
+                errors.put("name", "Organization name already exists");
+            }
+            
+            resolvePartners(request.getPartners());
+            importedBy = partnerIds.get(request.getImportedBy());
+            if (importedBy == null) {
+                errors.put("importedBy", "Must be the email of a listed partner");
+            }
+            
+            if (organization != null) {
+                domainRegistry = DomainRegistry.empty(organization.getId());
+                Circle anchor = organization.getAnchorCircle();
+                circles.add(anchor);
+                attempt("accountabilities", () -> {
+                    nullToEmpty(request.getAccountabilities()).forEach(anchor::addAccountability);
+                    return anchor;
+                });
+                populate(anchor, "", request.getSpecialRoles(), request.getRoles(), request.getCircles());
+            }
+            
+            if (!errors.isEmpty()) {
+                throw new ValidationException("Organization definition has " + errors.size() + " error(s)", errors);
+            }
+            return OrganizationGraph.of(organization, circles, newPartners);
+        }
+        
+        private void resolvePartners(List<ImportPartnerDefinition> partners) {
+            List<ImportPartnerDefinition> definitions = nullToEmpty(partners);
+            Map<String, PartnerId> existing = partnerRepository.findIdsByEmails(definitions.stream()
+                .map(ImportPartnerDefinition::getEmail)
+                .filter(email -> email != null)
+                .toList());
+            for (int i = 0; i < definitions.size(); i++) {
+                ImportPartnerDefinition definition = definitions.get(i);
+                String path = "partners[" + i + "]";
+                if (partnerIds.containsKey(definition.getEmail())) {
+                    errors.put(path + ".email", "Duplicate email " + definition.getEmail());
+                } else if (existing.containsKey(definition.getEmail())) {
+                    partnerIds.put(definition.getEmail(), existing.get(definition.getEmail()));
+                } else {
+                    Partner partner = attempt(path, () -> Partner.create(definition.getName(), definition.getEmail()));
+                    if (partner != null) {
+                        newPartners.add(partner);
+                        partnerIds.put(definition.getEmail(), partner.getId());
+                    }
+                }
+            }
+        }
+        
+        private void populate(Circle circle, String path, Map<String, List<String>> specialRoles,
+                              List<ImportRoleDefinition> roles, List<ImportCircleDefinition> subCircles) {
+            String prefix = path.isEmpty() ? "" : path + ".";
+            nullToEmpty(specialRoles).forEach((type, emails) -> fillSpecialRole(circle, prefix + "specialRoles." + type,
+                type, emails));
+            
+            List<ImportRoleDefinition> roleDefinitions = nullToEmpty(roles);
+            for (int i = 0; i < roleDefinitions.size(); i++) {
+                String rolePath = prefix + "roles[" + i + "]";
+                ImportRoleDefinition definition = roleDefinitions.get(i);
+                Role role = attempt(rolePath, () -> createRole(definition, circle, rolePath));
+                if (role != null) {
+                    assign(role, rolePath + ".assignees", definition.getAssignees());
+                    circle.addRole(role);
+                }
+            }
+            
+            List<ImportCircleDefinition> circleDefinitions = nullToEmpty(subCircles);
+            for (int i = 0; i < circleDefinitions.size(); i++) {
+                String circlePath = prefix + "circles[" + i + "]";
+                ImportCircleDefinition definition = circleDefinitions.get(i);
+                Circle subCircle = attempt(circlePath, () -> {
+                    Circle created = Circle.createSubCircle(definition.getName(), definition.getPurpose(),
+                        circle.getId(), circle.getOrganizationId());
+                    nullToEmpty(definition.getAccountabilities()).forEach(created::addAccountability);
+                    return created;
+                });
+                if (subCircle != null) {
+                    circles.add(subCircle);
+                    populate(subCircle, circlePath, definition.getSpecialRoles(), definition.getRoles(),
+                        definition.getCircles());
+                }
+            }
+        }
+        
+        private Role createRole(ImportRoleDefinition definition, Circle circle, String path) {
+            Role role = Role.create(definition.getName(), definition.getPurpose(), circle.getId());
+            nullToEmpty(definition.getAccountabilities()).forEach(role::addAccountability);
+            List<DomainDTO> domains = nullToEmpty(definition.getDomains());
+            for (int i = 0; i < domains.size(); i++) {
+                DomainDTO domain = domains.get(i);
+                Domain created = Domain.create(domain.getName(), domain.getDescription(),
+                    controlType(domain.getControlType()));
+                try {
+                    role.addDomain(created, domainRegistry);
+                } catch (DomainException e) {
+                    // 独占领域冲突记录到对应领域路径下，继续校验其余定义
+                    errors.put(path + ".domains[" + i + "]", e.getMessage());
+                }
+            }
+            return role;
+        }
+        
+        private DomainControlType controlType(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return DomainControlType.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("controlType", "Unknown domain control type " + value);
+            }
+        }
+        
+        private void fillSpecialRole(Circle circle, String path, String type, List<String> emails) {
+            SpecialRoleType roleType;
+            try {
+                roleType = SpecialRoleType.valueOf(type);
+            } catch (IllegalArgumentException e) {
+                errors.put(path, "Unknown special role type");
+                return;
+            }
+            circle.getRoles().stream()
+                .filter(role -> role.getSpecialRoleType() == roleType)
+                .findFirst()
+                .ifPresent(role -> assign(role, path, emails));
+        }
+        
+        private void assign(Role role, String path, List<String> emails) {
+            List<String> assignees = nullToEmpty(emails);
+            for (int i = 0; i < assignees.size(); i++) {
+                PartnerId partnerId = partnerIds.get(assignees.get(i));
+                if (partnerId == null) {
+                    errors.put(path + "[" + i + "]", "Unknown partner " + assignees.get(i));
+                } else if (role.isAssignedTo(partnerId)) {
+                    errors.put(path + "[" + i + "]", "Partner already fills this role");
+                } else if (importedBy != null) {
+                    role.assignToPartner(partnerId, importedBy);
+                }
+            }
+        }
+        
+        /**
+         * 执行工厂方法，把领域校验错误记录到对应路径下
+         */
+        private <T> T attempt(String path, Supplier<T> factory) {
+            String prefix = path.isEmpty() ? "" : path + ".";
+            try {
+                return factory.get();
+            } catch (ValidationException e) {
+                if (e.getValidationErrors().isEmpty()) {
+                    errors.put(path, e.getMessage());
+                }
+                e.getValidationErrors().forEach((field, error) -> errors.put(prefix + field, error));
+            } catch (DomainException e) {
+                errors.put(path, e.getMessage());
+            }
+            return null;
+        }
+        
+        private <T> List<T> nullToEmpty(List<T> list) {
+            return list != null ? list : List.of();
+        }
+        
+        private <K, V> Map<K, V> nullToEmpty(Map<K, V> map) {
+            return map != null ? map : Map.of();
+        }
+    }
+}
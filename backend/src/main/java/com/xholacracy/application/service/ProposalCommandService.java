@@ -0,0 +1,123 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.proposal.ObjectionCriteriaDTO;
+import com.xholacracy.application.dto.proposal.ObjectionDTO;
+import com.xholacracy.application.dto.proposal.ProposalDTO;
+import com.xholacracy.application.dto.proposal.QuestionDTO;
+import com.xholacracy.application.dto.proposal.ReactionDTO;
+import com.xholacracy.application.dto.proposal.VoteDTO;
+import com.xholacracy.application.mapper.ProposalMapper;
+import com.xholacracy.domain.exception.InvalidStateTransitionException;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.Objection;
+import com.xholacracy.domain.model.proposal.ObjectionCriteria;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import com.xholacracy.domain.model.proposal.Question;
+import com.xholacracy.domain.model.proposal.Reaction;
+import com.xholacracy.domain.model.proposal.Vote;
+import com.xholacracy.domain.model.proposal.VoteType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 提案参与服务
+ * 伙伴在治理流程中提交澄清问题、反应、反对和投票
+ */
+@Service
+@Transactional
+public class ProposalCommandService {
+    
+    private final ProposalRepository proposalRepository;
+    private final ProposalMapper proposalMapper;
+    private final DisplayNameService displayNameService;
+    
+    public ProposalCommandService(ProposalRepository proposalRepository,
+                                  ProposalMapper proposalMapper,
+                                  DisplayNameService displayNameService) {
+        this.proposalRepository = proposalRepository;
+        this.proposalMapper = proposalMapper;
+        this.displayNameService = displayNameService;
+    }
+    
+    /**
+     * 投票
+     *
+     * @param organizationId 组织ID
+     * @param proposalId 提案ID
+     * @param voterId 投票的伙伴
+     * @param request 投票类型和说明
+     * @return 更新后的提案
+     * @throws ResourceNotFoundException 如果提案不存在
+     * @throws ValidationException 如果投票类型不合法
+     */
+    public ProposalDTO castVote(OrganizationId organizationId, ProposalId proposalId,
+                                PartnerId voterId, VoteDTO request) {
+        VoteType voteType;
+        try {
+            voteType = VoteType.valueOf(request.getVoteType().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("voteType", "Unknown vote type " + request.getVoteType());
+        }
+        return update(organizationId, proposalId,
+            proposal -> proposal.addVote(Vote.create(voterId, voteType, request.getComment())));
+    }
+    
+    /**
+     * 在反应阶段添加反应，反应按提交顺序编号
+     *
+     * @throws ResourceNotFoundException 如果提案不存在
+     * @throws InvalidStateTransitionException 如果提案不在反应阶段
+     */
+    public ProposalDTO addReaction(OrganizationId organizationId, ProposalId proposalId,
+                                   PartnerId reactorId, ReactionDTO request) {
+        return update(organizationId, proposalId, proposal -> proposal.addReaction(
+            Reaction.create(reactorId, request.getContent(), proposal.getReactions().size())));
+    }
+    
+    /**
+     * 在澄清阶段提出问题
+     *
+     * @throws ResourceNotFoundException 如果提案不存在
+     * @throws InvalidStateTransitionException 如果提案不在澄清阶段
+     */
+    public ProposalDTO askQuestion(OrganizationId organizationId, ProposalId proposalId,
+                                   PartnerId askerId, QuestionDTO request) {
+        return update(organizationId, proposalId,
+            proposal -> proposal.addClarificationQuestion(Question.create(askerId, request.getQuestion())));
+    }
+    
+    /**
+     * 在反对阶段提出反对，反对须说明满足哪些有效性标准
+     *
+     * @throws ResourceNotFoundException 如果提案不存在
+     * @throws ValidationException 如果没有给出反对标准
+     * @throws InvalidStateTransitionException 如果提案不在反对阶段
+     */
+    public ProposalDTO raiseObjection(OrganizationId organizationId, ProposalId proposalId,
+                                      PartnerId objectorId, ObjectionDTO request) {
+        ObjectionCriteriaDTO criteria = request.getCriteria();
+        if (criteria == null) {
+            throw new ValidationException("criteria", "Objection criteria are required");
+        }
+        Objection objection = Objection.create(objectorId, request.getReasoning(), ObjectionCriteria.create(
+            criteria.isReducesCapability(), criteria.isLimitsAccountability(),
+            criteria.isProblemNotExistWithout(), criteria.isCausesHarm()));
+        return update(organizationId, proposalId, proposal -> proposal.addObjection(objection));
+    }
+    
+    private ProposalDTO update(OrganizationId organizationId, ProposalId proposalId, Consumer<Proposal> change) {
+        Proposal proposal = proposalRepository.findById(organizationId, proposalId)
+            .orElseThrow(() -> new ResourceNotFoundException("Proposal", proposalId.getValue()));
+        change.accept(proposal);
+        Proposal saved = proposalRepository.save(proposal);
+        return displayNameService.map(names -> proposalMapper.toDTO(saved, names));
+    }
+}
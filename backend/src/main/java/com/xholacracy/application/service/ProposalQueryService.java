@@ -0,0 +1,96 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.proposal.ProposalDTO;
+import com.xholacracy.application.dto.proposal.ProposalSummaryDTO;
+import com.xholacracy.application.mapper.ProposalMapper;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.domain.model.proposal.ProposalSummary;
+import com.xholacracy.domain.model.proposal.ProposalSummaryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 提案查询服务
+ * 列表和筛选查询只读取proposal_summary读模型，不加载提案聚合
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProposalQueryService {
+    
+    private final ProposalRepository proposalRepository;
+    private final ProposalSummaryRepository summaryRepository;
+    private final ProposalMapper proposalMapper;
+    private final DisplayNameService displayNameService;
+    
+    public ProposalQueryService(ProposalRepository proposalRepository,
+                                ProposalSummaryRepository summaryRepository,
+                                ProposalMapper proposalMapper,
+                                DisplayNameService displayNameService) {
+        this.proposalRepository = proposalRepository;
+        this.summaryRepository = summaryRepository;
+        this.proposalMapper = proposalMapper;
+        this.displayNameService = displayNameService;
+    }
+    
+    /**
+     * 查询提案的版本标记，用于条件请求，不加载提案聚合
+     *
+     * @param organizationId 组织ID
+     * @param proposalId 提案ID
+     * @return 版本标记
+     * @throws ResourceNotFoundException 如果提案不存在
+     */
+    public String getVersionTag(OrganizationId organizationId, ProposalId proposalId) {
+        return proposalRepository.findVersionTagById(organizationId, proposalId)
+            .orElseThrow(() -> new ResourceNotFoundException("Proposal", proposalId.getValue()));
+    }
+    
+    /**
+     * 查询提案详情，参与者名称批量解析
+     *
+     * @param organizationId 组织ID
+     * @param proposalId 提案ID
+     * @return 提案详情
+     * @throws ResourceNotFoundException 如果提案不存在
+     */
+    public ProposalDTO getProposal(OrganizationId organizationId, ProposalId proposalId) {
+        Proposal proposal = proposalRepository.findById(organizationId, proposalId)
+            .orElseThrow(() -> new ResourceNotFoundException("Proposal", proposalId.getValue()));
+        return displayNameService.map(names -> proposalMapper.toDTO(proposal, names));
+    }
+    
+    /**
+     * 查询圈子的提案摘要
+     *
+     * @param organizationId 组织ID
+     * @param circleId 圈子ID
+     * @param status 提案状态（为null时不过滤）
+     * @return 提案摘要列表（按最后活动时间倒序）
+     */
+    public List<ProposalSummaryDTO> listByCircle(OrganizationId organizationId, CircleId circleId,
+                                                 ProposalStatus status) {
+        List<ProposalSummary> summaries = status == null
+            ? summaryRepository.findByCircleId(organizationId, circleId)
+            : summaryRepository.findByCircleIdAndStatus(organizationId, circleId, status);
+        return proposalMapper.toSummaryDTOList(summaries);
+    }
+    
+    /**
+     * 按状态查询组织内的提案摘要
+     *
+     * @param organizationId 组织ID
+     * @param status 提案状态
+     * @return 提案摘要列表（按最后活动时间倒序）
+     */
+    public List<ProposalSummaryDTO> listByStatus(OrganizationId organizationId, ProposalStatus status) {
+        return proposalMapper.toSummaryDTOList(summaryRepository.findByStatus(organizationId, status));
+    }
+}
@@ -0,0 +1,34 @@
+package com.xholacracy.domain.event;
+
+import com.xholacracy.domain.model.meeting.LiveMeetingCommand;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import lombok.Getter;
+
+/**
+ * 现场会议变更事件
+ *
+ * 命令在现场会话中生效后立即发布，早于数据库写入，
+ * 供实时频道向会议参与者推送变化
+ */
+@Getter
+public class LiveMeetingChangedEvent {
+    
+    private final MeetingKey meetingKey;
+    
+    /**
+     * 命令在会话中的序号
+     */
+    private final long sequence;
+    
+    private final LiveMeetingCommand command;
+    
+    private LiveMeetingChangedEvent(MeetingKey meetingKey, long sequence, LiveMeetingCommand command) {
+        this.meetingKey = meetingKey;
+        this.sequence = sequence;
+        this.command = command;
+    }
+    
+    public static LiveMeetingChangedEvent of(MeetingKey meetingKey, long sequence, LiveMeetingCommand command) {
+        return new LiveMeetingChangedEvent(meetingKey, sequence, command);
+    }
+}
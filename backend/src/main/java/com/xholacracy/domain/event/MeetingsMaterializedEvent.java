@@ -0,0 +1,27 @@
+package com.xholacracy.domain.event;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 会议批量生成事件
+ *
+ * 绕过持久化上下文批量写入会议系列的会议时发布，携带受影响的组织，
+ * 供按组织缓存的派生数据（如伙伴日程）在事务提交后失效
+ */
+@Getter
+public class MeetingsMaterializedEvent {
+    
+    private final Set<OrganizationId> organizationIds;
+    
+    private MeetingsMaterializedEvent(Set<OrganizationId> organizationIds) {
+        this.organizationIds = organizationIds;
+    }
+    
+    public static MeetingsMaterializedEvent of(Collection<OrganizationId> organizationIds) {
+        return new MeetingsMaterializedEvent(Set.copyOf(organizationIds));
+    }
+}
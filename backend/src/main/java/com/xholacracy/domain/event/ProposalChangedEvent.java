@@ -0,0 +1,83 @@
+package com.xholacracy.domain.event;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.DecisionEventType;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.domain.model.proposal.ProposalType;
+import com.xholacracy.domain.model.proposal.VoteType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 提案变更领域事件
+ *
+ * 提案聚合每记录一条决策事件就发布一次，携带变更后的提案快照字段，
+ * 供读模型（如proposal_summary）增量维护，无需重新加载整个聚合
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProposalChangedEvent {
+
+    private final OrganizationId organizationId;
+
+    private final ProposalId proposalId;
+
+    private final CircleId circleId;
+
+    private final PartnerId proposerId;
+
+    private final String title;
+
+    private final ProposalType proposalType;
+
+    private final ProposalStatus status;
+
+    private final LocalDateTime createdDate;
+
+    private final DecisionEventType eventType;
+
+    /**
+     * 投票类型，仅VOTE_CAST事件携带
+     */
+    private final VoteType voteType;
+
+    private final PartnerId actorId;
+
+    private final LocalDateTime occurredAt;
+
+    /**
+     * 根据提案当前状态创建事件
+     *
+     * @param proposal 提案
+     * @param eventType 决策事件类型
+     * @param voteType 投票类型（非投票事件为null）
+     * @param actorId 操作者ID
+     * @param occurredAt 发生时间
+     * @return 提案变更事件
+     */
+    public static ProposalChangedEvent of(Proposal proposal, DecisionEventType eventType,
+                                          VoteType voteType, PartnerId actorId,
+                                          LocalDateTime occurredAt) {
+        return new ProposalChangedEvent(
+            proposal.getOrganizationId(),
+            proposal.getId(),
+            proposal.getCircleId(),
+            proposal.getProposerId(),
+            proposal.getTitle(),
+            proposal.getProposalType(),
+            proposal.getStatus(),
+            proposal.getCreatedDate(),
+            eventType,
+            voteType,
+            actorId,
+            occurredAt
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.xholacracy.domain.event;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 角色分配变更事件
+ *
+ * 绕过持久化上下文批量写入角色分配时发布，携带受影响的伙伴，
+ * 供按伙伴缓存的派生数据（如编译好的权限）在事务提交后失效
+ */
+@Getter
+public class RoleAssignmentsChangedEvent {
+    
+    private final Set<PartnerId> partnerIds;
+    
+    private RoleAssignmentsChangedEvent(Set<PartnerId> partnerIds) {
+        this.partnerIds = partnerIds;
+    }
+    
+    public static RoleAssignmentsChangedEvent of(Collection<PartnerId> partnerIds) {
+        return new RoleAssignmentsChangedEvent(Set.copyOf(partnerIds));
+    }
+}
@@ -0,0 +1,26 @@
+package com.xholacracy.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 现场会议会话由其他节点持有异常
+ * 同一会议同一时刻只有一个节点持有会话，其他节点上的请求返回409，
+ * 客户端应路由到持有节点，或在租约过期后重试
+ */
+public class MeetingSessionOwnedElsewhereException extends BusinessException {
+    
+    private final String ownerNode;
+    
+    public MeetingSessionOwnedElsewhereException(String meetingId, String ownerNode) {
+        super(
+            "SESSION_OWNED_ELSEWHERE",
+            String.format("Live session of meeting %s is owned by node %s", meetingId, ownerNode),
+            HttpStatus.CONFLICT
+        );
+        this.ownerNode = ownerNode;
+    }
+    
+    public String getOwnerNode() {
+        return ownerNode;
+    }
+}
@@ -0,0 +1,41 @@
+package com.xholacracy.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * 请求被限流异常
+ * 伙伴或聚合超出操作的速率限制时返回429，系统过载主动拒绝请求时返回503，
+ * 两种情况都附带建议的重试等待时间
+ */
+public class RateLimitExceededException extends BusinessException {
+    
+    private final Duration retryAfter;
+    
+    public RateLimitExceededException(String operation, Duration retryAfter) {
+        super(
+            "RATE_LIMITED",
+            String.format("Too many '%s' requests, retry in %d ms", operation, retryAfter.toMillis()),
+            HttpStatus.TOO_MANY_REQUESTS
+        );
+        this.retryAfter = retryAfter;
+    }
+    
+    private RateLimitExceededException(String errorCode, String message, HttpStatus httpStatus, Duration retryAfter) {
+        super(errorCode, message, httpStatus);
+        this.retryAfter = retryAfter;
+    }
+    
+    /**
+     * 系统过载时拒绝请求
+     */
+    public static RateLimitExceededException overloaded(Duration retryAfter) {
+        return new RateLimitExceededException("OVERLOADED", "Server is overloaded, retry later",
+            HttpStatus.SERVICE_UNAVAILABLE, retryAfter);
+    }
+    
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,39 @@
+package com.xholacracy.domain.exception;
+
+import com.xholacracy.domain.model.meeting.CalendarConflict;
+import org.springframework.http.HttpStatus;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 日程冲突异常
+ * 会议的新时间或新参与者与出席者的其他会议重叠时返回409，冲突按伙伴ID列出
+ */
+public class SchedulingConflictException extends BusinessException {
+    
+    private final Map<String, String> conflicts;
+    
+    public SchedulingConflictException(List<CalendarConflict> conflicts) {
+        super(
+            "SCHEDULING_CONFLICT",
+            String.format("Meeting overlaps %d other booking(s) of its attendees", conflicts.size()),
+            HttpStatus.CONFLICT
+        );
+        Map<String, String> byPartner = new LinkedHashMap<>();
+        for (CalendarConflict conflict : conflicts) {
+            String description = String.format("Meeting %s from %s to %s",
+                conflict.getMeetingId().getValue(), conflict.getStart(), conflict.getEnd());
+            byPartner.merge(conflict.getPartnerId().getValue(), description, (a, b) -> a + "; " + b);
+        }
+        this.conflicts = byPartner;
+    }
+    
+    /**
+     * @return 每个伙伴的冲突描述，多个冲突以分号分隔
+     */
+    public Map<String, String> getConflicts() {
+        return conflicts;
+    }
+}
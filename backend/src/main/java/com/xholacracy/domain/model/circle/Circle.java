@@ -6,6 +6,9 @@ import com.xholacracy.domain.model.role.Role;
 import com.xholacracy.domain.exception.DomainException;
 import com.xholacracy.domain.exception.ValidationException;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.LazyGroup;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -29,18 +32,24 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "circles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "circle")
 @EntityListeners(AuditingEntityListener.class)
 public class Circle {
     
     @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "id"))
     private CircleId id;
     
     @Column(nullable = false)
     private String name;
     
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("text")
     @Column(length = 1000)
     private String purpose;
     
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "circle-accountabilities")
     @ElementCollection
     @CollectionTable(name = "circle_accountabilities", 
                     joinColumns = @JoinColumn(name = "circle_id"))
@@ -62,6 +71,7 @@ public class Circle {
     @JoinColumn(name = "parent_circle_id", insertable = false, updatable = false)
     private Circle parentCircle;
     
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "circle-roles")
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "circle_id")
     private List<Role> roles = new ArrayList<>();
@@ -69,6 +79,13 @@ public class Circle {
     @Embedded
     private SpecialRoles specialRoles;
     
+    /**
+     * 乐观锁版本，同时作为HTTP ETag的来源
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -89,6 +106,9 @@ public class Circle {
         this.parentCircleId = parentCircleId;
         this.organizationId = organizationId;
         this.specialRoles = SpecialRoles.create();
+        // 审计监听器在持久化时会覆盖；批量导入绕过监听器，依赖这里的初始值
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
     }
     
     /**
@@ -330,6 +350,10 @@ public class Circle {
         return updatedAt;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
     /**
      * 检查是否是Anchor Circle
      */
@@ -2,7 +2,9 @@ package com.xholacracy.domain.model.circle;
 
 import com.xholacracy.domain.model.organization.OrganizationId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -81,4 +83,53 @@ public interface CircleRepository {
      * @param id 圈子ID
      */
     void deleteById(CircleId id);
+    
+    /**
+     * 批量查询圈子名称（一次IN查询）
+     * 
+     * @param ids 圈子ID集合
+     * @return 圈子ID到名称的映射，不存在的ID不包含在结果中
+     */
+    Map<CircleId, String> findNamesByIds(Collection<CircleId> ids);
+    
+    /**
+     * 查询组织所有圈子的摘要（只查询摘要列和计数，不加载实体）
+     * 
+     * @param organizationId 组织ID
+     * @return 圈子摘要列表（按名称排序）
+     */
+    List<CircleSummaryView> findSummariesByOrganizationId(OrganizationId organizationId);
+    
+    /**
+     * 查询子圈子的摘要（只查询摘要列和计数，不加载实体）
+     * 
+     * @param parentCircleId 父圈子ID
+     * @return 子圈子摘要列表（按名称排序）
+     */
+    List<CircleSummaryView> findSummariesByParentCircleId(CircleId parentCircleId);
+    
+    /**
+     * 查询圈子的版本标记（不加载聚合）
+     * 圈子、其角色、子圈子或子圈子的角色及下级圈子变化时标记随之变化
+     * 
+     * @param id 圈子ID
+     * @return 版本标记（如果圈子存在）
+     */
+    Optional<String> findVersionTagById(CircleId id);
+    
+    /**
+     * 批量查询圈子所属的组织（一次IN查询）
+     * 
+     * @param ids 圈子ID集合
+     * @return 圈子ID到组织ID的映射，不存在的ID不包含在结果中
+     */
+    Map<CircleId, OrganizationId> findOrganizationIdsByIds(Collection<CircleId> ids);
+    
+    /**
+     * 按ID批量查询圈子摘要
+     * 
+     * @param ids 圈子ID集合
+     * @return 圈子摘要列表
+     */
+    List<CircleSummaryView> findSummariesByIds(Collection<CircleId> ids);
 }
@@ -0,0 +1,38 @@
+package com.xholacracy.domain.model.circle;
+
+/**
+ * 圈子摘要投影
+ * 只包含列表展示需要的列和聚合计数，由仓储直接查询生成，不加载圈子实体
+ */
+public interface CircleSummaryView {
+    
+    /**
+     * @return 圈子ID
+     */
+    String getId();
+    
+    /**
+     * @return 圈子名称
+     */
+    String getName();
+    
+    /**
+     * @return 圈子目的
+     */
+    String getPurpose();
+    
+    /**
+     * @return 圈子中的角色数量
+     */
+    long getRoleCount();
+    
+    /**
+     * @return 直接子圈子数量
+     */
+    long getSubCircleCount();
+    
+    /**
+     * @return 圈子中所有角色的分配数量
+     */
+    long getAssignmentCount();
+}
@@ -1,6 +1,8 @@
 package com.xholacracy.domain.model.meeting;
 
 import com.xholacracy.domain.model.proposal.ProposalId;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.EnumType;
@@ -17,7 +19,12 @@ import java.util.Objects;
 @Embeddable
 public class AgendaItem {
     
+    /**
+     * 与议程中的键共用proposal_id列，由键写入
+     */
     @Embedded
+    @AttributeOverride(name = "value",
+        column = @Column(name = "proposal_id", insertable = false, updatable = false))
     private ProposalId proposalId;
     
     private int orderIndex;
@@ -0,0 +1,75 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 日程冲突：伙伴在同一时间已出席另一个会议
+ *
+ * 值对象特征：不可变
+ */
+public final class CalendarConflict {
+    
+    private final PartnerId partnerId;
+    private final MeetingId meetingId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    
+    private CalendarConflict(PartnerId partnerId, MeetingId meetingId, LocalDateTime start, LocalDateTime end) {
+        this.partnerId = Objects.requireNonNull(partnerId, "PartnerId cannot be null");
+        this.meetingId = Objects.requireNonNull(meetingId, "MeetingId cannot be null");
+        this.start = start;
+        this.end = end;
+    }
+    
+    /**
+     * 伙伴与已有会议的冲突
+     */
+    public static CalendarConflict of(PartnerId partnerId, MeetingBooking existing) {
+        return new CalendarConflict(partnerId, existing.getMeetingId(), existing.getStart(), existing.getEnd());
+    }
+    
+    public PartnerId getPartnerId() {
+        return partnerId;
+    }
+    
+    /**
+     * @return 冲突的已有会议
+     */
+    public MeetingId getMeetingId() {
+        return meetingId;
+    }
+    
+    public LocalDateTime getStart() {
+        return start;
+    }
+    
+    public LocalDateTime getEnd() {
+        return end;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CalendarConflict that = (CalendarConflict) o;
+        return partnerId.equals(that.partnerId) && meetingId.equals(that.meetingId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(partnerId, meetingId);
+    }
+    
+    @Override
+    public String toString() {
+        return "CalendarConflict{" +
+                "partnerId=" + partnerId +
+                ", meetingId=" + meetingId +
+                ", start=" + start +
+                ", end=" + end +
+                '}';
+    }
+}
@@ -0,0 +1,90 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.RoleHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 圈子花名册
+ * 生成会议时圈子的角色担任者：协调员和秘书来自对应的特殊角色，所有担任者都是参与者
+ *
+ * 值对象特征：不可变
+ */
+public final class CircleRoster {
+    
+    private final CircleId circleId;
+    private final PartnerId facilitatorId;
+    private final PartnerId secretaryId;
+    private final List<PartnerId> members;
+    
+    private CircleRoster(CircleId circleId, PartnerId facilitatorId, PartnerId secretaryId, List<PartnerId> members) {
+        this.circleId = Objects.requireNonNull(circleId, "CircleId cannot be null");
+        this.facilitatorId = facilitatorId;
+        this.secretaryId = secretaryId;
+        this.members = List.copyOf(members);
+    }
+    
+    /**
+     * 从圈子的角色担任者建立花名册，其他圈子的担任者被忽略
+     *
+     * @param circleId 圈子ID
+     * @param holders 角色担任者，同一伙伴担任多个角色时只算一次
+     */
+    public static CircleRoster of(CircleId circleId, Collection<RoleHolder> holders) {
+        PartnerId facilitatorId = null;
+        PartnerId secretaryId = null;
+        Set<PartnerId> members = new LinkedHashSet<>();
+        for (RoleHolder holder : holders) {
+            if (!holder.getCircleId().equals(circleId)) {
+                continue;
+            }
+            members.add(holder.getPartnerId());
+            if (holder.getSpecialRoleType() == SpecialRoleType.FACILITATOR) {
+                facilitatorId = holder.getPartnerId();
+            } else if (holder.getSpecialRoleType() == SpecialRoleType.SECRETARY) {
+                secretaryId = holder.getPartnerId();
+            }
+        }
+        return new CircleRoster(circleId, facilitatorId, secretaryId, new ArrayList<>(members));
+    }
+    
+    /**
+     * 没有任何角色担任者的花名册
+     */
+    public static CircleRoster empty(CircleId circleId) {
+        return new CircleRoster(circleId, null, null, List.of());
+    }
+    
+    public CircleId getCircleId() {
+        return circleId;
+    }
+    
+    /**
+     * @return 协调员，圈子没有人担任协调员时为null
+     */
+    public PartnerId getFacilitatorId() {
+        return facilitatorId;
+    }
+    
+    /**
+     * @return 秘书，圈子没有人担任秘书时为null
+     */
+    public PartnerId getSecretaryId() {
+        return secretaryId;
+    }
+    
+    /**
+     * @return 所有角色担任者，按首次出现的顺序
+     */
+    public List<PartnerId> getMembers() {
+        return members;
+    }
+}
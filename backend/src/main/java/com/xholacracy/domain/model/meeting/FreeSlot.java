@@ -0,0 +1,55 @@
+package com.xholacracy.domain.model.meeting;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 所有被查询伙伴都空闲的时间段[start, end)
+ *
+ * 值对象特征：不可变
+ */
+public final class FreeSlot {
+    
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    
+    private FreeSlot(LocalDateTime start, LocalDateTime end) {
+        this.start = Objects.requireNonNull(start, "Start cannot be null");
+        this.end = Objects.requireNonNull(end, "End cannot be null");
+    }
+    
+    public static FreeSlot of(LocalDateTime start, LocalDateTime end) {
+        return new FreeSlot(start, end);
+    }
+    
+    public LocalDateTime getStart() {
+        return start;
+    }
+    
+    public LocalDateTime getEnd() {
+        return end;
+    }
+    
+    public Duration getDuration() {
+        return Duration.between(start, end);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FreeSlot freeSlot = (FreeSlot) o;
+        return start.equals(freeSlot.start) && end.equals(freeSlot.end);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+    
+    @Override
+    public String toString() {
+        return "FreeSlot{" + start + " - " + end + '}';
+    }
+}
@@ -1,9 +1,12 @@
 package com.xholacracy.domain.model.meeting;
 
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.proposal.ProposalId;
+import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.EmbeddedId;
@@ -11,14 +14,18 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * 治理会议聚合根
@@ -30,10 +37,14 @@ import java.util.Objects;
 @Table(name = "governance_meetings")
 public class GovernanceMeeting {
     
+    /**
+     * 会议ID和所属组织ID，组织ID是分区键
+     */
     @EmbeddedId
-    private MeetingId id;
+    private MeetingKey key;
     
     @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "circle_id"))
     private CircleId circleId;
     
     private LocalDateTime scheduledDate;
@@ -44,17 +55,32 @@ public class GovernanceMeeting {
     private MeetingStatus status;
     
     @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "facilitator_id"))
     private PartnerId facilitatorId;
     
     @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "secretary_id"))
     private PartnerId secretaryId;
     
     @Embedded
     private MeetingAgenda agenda;
     
+    /**
+     * 参与者，每人一行，增删一人只写一行
+     */
     @ElementCollection
-    @CollectionTable(name = "meeting_participants", joinColumns = @JoinColumn(name = "meeting_id"))
-    private List<PartnerId> participants = new ArrayList<>();
+    @CollectionTable(name = "meeting_participants", joinColumns = {
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id"),
+        @JoinColumn(name = "meeting_id", referencedColumnName = "id")
+    })
+    @OrderBy("orderIndex ASC")
+    private Set<MeetingPartner> participants = new LinkedHashSet<>();
+    
+    /**
+     * 下一个参与者的顺序号，首次添加时从已有参与者算出
+     */
+    @Transient
+    private int nextParticipantIndex = -1;
     
     @Embedded
     private MeetingRecord meetingRecord;
@@ -63,12 +89,27 @@ public class GovernanceMeeting {
     
     private LocalDateTime actualEndTime;
     
+    /**
+     * 会议所属的系列，单独安排的会议为null
+     */
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "series_id"))
+    private MeetingSeriesId seriesId;
+    
+    /**
+     * 乐观锁版本，同时作为HTTP ETag的来源
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     protected GovernanceMeeting() {
         // For JPA
     }
     
-    private GovernanceMeeting(MeetingId id, CircleId circleId, LocalDateTime scheduledDate, Duration duration) {
-        this.id = Objects.requireNonNull(id, "MeetingId cannot be null");
+    private GovernanceMeeting(MeetingId id, OrganizationId organizationId, CircleId circleId,
+                              LocalDateTime scheduledDate, Duration duration) {
+        this.key = MeetingKey.of(organizationId, id);
         this.circleId = Objects.requireNonNull(circleId, "CircleId cannot be null");
         this.scheduledDate = Objects.requireNonNull(scheduledDate, "ScheduledDate cannot be null");
         this.duration = Objects.requireNonNull(duration, "Duration cannot be null");
@@ -80,14 +121,39 @@ public class GovernanceMeeting {
     /**
      * 创建治理会议
      * 
+     * @param organizationId 圈子所属组织ID
      * @param circleId 圈子ID
      * @param scheduledDate 计划日期时间
      * @param duration 会议时长
      * @return 治理会议
      */
-    public static GovernanceMeeting create(CircleId circleId, LocalDateTime scheduledDate, Duration duration) {
+    public static GovernanceMeeting create(OrganizationId organizationId, CircleId circleId,
+                                           LocalDateTime scheduledDate, Duration duration) {
         MeetingId id = MeetingId.generate();
-        return new GovernanceMeeting(id, circleId, scheduledDate, duration);
+        return new GovernanceMeeting(id, organizationId, circleId, scheduledDate, duration);
+    }
+    
+    /**
+     * 创建会议系列中的一次会议
+     * 协调员、秘书和参与者取自圈子当前的角色担任者
+     * 
+     * @param series 会议系列
+     * @param scheduledDate 本次会议的计划时间
+     * @param roster 圈子花名册
+     * @return 治理会议
+     */
+    public static GovernanceMeeting occurrenceOf(MeetingSeries series, LocalDateTime scheduledDate,
+                                                 CircleRoster roster) {
+        if (!roster.getCircleId().equals(series.getCircleId())) {
+            throw new IllegalArgumentException("Roster belongs to another circle");
+        }
+        GovernanceMeeting meeting = new GovernanceMeeting(MeetingId.generate(), series.getOrganizationId(),
+            series.getCircleId(), scheduledDate, series.getDuration());
+        meeting.seriesId = series.getId();
+        meeting.facilitatorId = roster.getFacilitatorId();
+        meeting.secretaryId = roster.getSecretaryId();
+        roster.getMembers().forEach(meeting::addParticipant);
+        return meeting;
     }
     
     /**
@@ -147,27 +213,39 @@ public class GovernanceMeeting {
     }
     
     /**
-     * 添加参与者
+     * 添加参与者，已是参与者的伙伴被忽略
      * 
      * @param partnerId 伙伴ID
+     * @return 如果是新加入的参与者则返回true
      */
-    public void addParticipant(PartnerId partnerId) {
+    public boolean addParticipant(PartnerId partnerId) {
         Objects.requireNonNull(partnerId, "PartnerId cannot be null");
-        if (!this.participants.contains(partnerId)) {
-            this.participants.add(partnerId);
+        if (this.nextParticipantIndex < 0) {
+            this.nextParticipantIndex = MeetingPartner.nextOrderIndex(this.participants);
         }
+        if (!this.participants.add(MeetingPartner.of(partnerId, this.nextParticipantIndex))) {
+            return false;
+        }
+        this.nextParticipantIndex++;
+        return true;
     }
     
     /**
-     * 批量添加参与者
+     * 批量添加参与者，已是参与者或重复出现的伙伴被忽略
+     * 耗时与伙伴数成线性；含null时不添加任何伙伴
      * 
-     * @param partnerIds 伙伴ID列表
+     * @param partnerIds 伙伴ID集合，按加入顺序
+     * @return 新加入的参与者数
      */
-    public void addParticipants(List<PartnerId> partnerIds) {
-        Objects.requireNonNull(partnerIds, "PartnerIds cannot be null");
+    public int addParticipants(Collection<PartnerId> partnerIds) {
+        requireNoNulls(partnerIds);
+        int added = 0;
         for (PartnerId partnerId : partnerIds) {
-            addParticipant(partnerId);
+            if (addParticipant(partnerId)) {
+                added++;
+            }
         }
+        return added;
     }
     
     /**
@@ -179,7 +257,7 @@ public class GovernanceMeeting {
         if (this.status != MeetingStatus.SCHEDULED) {
             throw new IllegalStateException("Cannot remove participants from " + this.status + " meetings");
         }
-        this.participants.remove(partnerId);
+        this.participants.remove(MeetingPartner.of(partnerId));
     }
     
     /**
@@ -266,23 +344,26 @@ public class GovernanceMeeting {
     }
     
     /**
-     * 记录参与者出席
+     * 记录参与者出席，已记录的伙伴被忽略
      * 
      * @param partnerId 伙伴ID
+     * @return 如果是新记录的出席则返回true
      */
-    public void recordAttendance(PartnerId partnerId) {
+    public boolean recordAttendance(PartnerId partnerId) {
         Objects.requireNonNull(partnerId, "PartnerId cannot be null");
-        this.meetingRecord.recordAttendance(partnerId);
+        return this.meetingRecord.recordAttendance(partnerId);
     }
     
     /**
-     * 批量记录参与者出席
+     * 批量记录参与者出席，已记录或重复出现的伙伴被忽略
+     * 耗时与伙伴数成线性；含null时不记录任何伙伴
      * 
-     * @param partnerIds 伙伴ID列表
+     * @param partnerIds 伙伴ID集合，按签到顺序
+     * @return 新记录的出席数
      */
-    public void recordAttendance(List<PartnerId> partnerIds) {
-        Objects.requireNonNull(partnerIds, "PartnerIds cannot be null");
-        this.meetingRecord.recordAttendance(partnerIds);
+    public int recordAttendance(Collection<PartnerId> partnerIds) {
+        requireNoNulls(partnerIds);
+        return this.meetingRecord.recordAttendance(partnerIds);
     }
     
     /**
@@ -298,15 +379,15 @@ public class GovernanceMeeting {
     }
     
     /**
-     * 添加会议备注
+     * 追加一条会议备注
      * 
-     * @param notes 备注
+     * @param note 会议备注
      */
-    public void addNotes(String notes) {
+    public void addNote(MeetingNote note) {
         if (this.status != MeetingStatus.IN_PROGRESS) {
             throw new IllegalStateException("Can only add notes during in-progress meetings");
         }
-        this.meetingRecord.addAdditionalNotes(notes);
+        this.meetingRecord.addNote(note);
     }
     
     /**
@@ -374,7 +455,48 @@ public class GovernanceMeeting {
      * @return 如果是参与者则返回true
      */
     public boolean isParticipant(PartnerId partnerId) {
-        return this.participants.contains(partnerId);
+        return partnerId != null && this.participants.contains(MeetingPartner.of(partnerId));
+    }
+    
+    /**
+     * 检查伙伴是否需要出席会议，即是协调员、秘书或参与者
+     * 
+     * @param partnerId 伙伴ID
+     * @return 如果需要出席则返回true
+     */
+    public boolean isAttendee(PartnerId partnerId) {
+        return partnerId != null
+                && (partnerId.equals(this.facilitatorId) || partnerId.equals(this.secretaryId)
+                    || isParticipant(partnerId));
+    }
+    
+    /**
+     * 获取需要出席会议的伙伴：协调员、秘书和参与者
+     * 每次调用都复制一份，只检查单个伙伴时用{@link #isAttendee(PartnerId)}
+     * 
+     * @return 出席者集合
+     */
+    public Set<PartnerId> getAttendees() {
+        Set<PartnerId> attendees = new LinkedHashSet<>();
+        if (this.facilitatorId != null) {
+            attendees.add(this.facilitatorId);
+        }
+        if (this.secretaryId != null) {
+            attendees.add(this.secretaryId);
+        }
+        for (MeetingPartner participant : this.participants) {
+            attendees.add(participant.getPartnerId());
+        }
+        return attendees;
+    }
+    
+    /**
+     * 检查会议是否占用出席者的日程，已计划和进行中的会议占用日程
+     * 
+     * @return 如果占用日程则返回true
+     */
+    public boolean occupiesCalendar() {
+        return this.status == MeetingStatus.SCHEDULED || this.status == MeetingStatus.IN_PROGRESS;
     }
     
     /**
@@ -389,7 +511,18 @@ public class GovernanceMeeting {
     // Getters
     
     public MeetingId getId() {
-        return id;
+        return key.getId();
+    }
+    
+    public OrganizationId getOrganizationId() {
+        return key.getOrganizationId();
+    }
+    
+    /**
+     * 持久化主键
+     */
+    public MeetingKey getKey() {
+        return key;
     }
     
     public CircleId getCircleId() {
@@ -421,7 +554,7 @@ public class GovernanceMeeting {
     }
     
     public List<PartnerId> getParticipants() {
-        return Collections.unmodifiableList(participants);
+        return participants.stream().map(MeetingPartner::getPartnerId).toList();
     }
     
     public MeetingRecord getMeetingRecord() {
@@ -436,23 +569,38 @@ public class GovernanceMeeting {
         return actualEndTime;
     }
     
+    public MeetingSeriesId getSeriesId() {
+        return seriesId;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    private static void requireNoNulls(Collection<PartnerId> partnerIds) {
+        Objects.requireNonNull(partnerIds, "PartnerIds cannot be null");
+        for (PartnerId partnerId : partnerIds) {
+            Objects.requireNonNull(partnerId, "PartnerId cannot be null");
+        }
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         GovernanceMeeting that = (GovernanceMeeting) o;
-        return Objects.equals(id, that.id);
+        return Objects.equals(key, that.key);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Objects.hash(key);
     }
     
     @Override
     public String toString() {
         return "GovernanceMeeting{" +
-                "id=" + id +
+                "id=" + key.getId() +
                 ", circleId=" + circleId +
                 ", scheduledDate=" + scheduledDate +
                 ", status=" + status +
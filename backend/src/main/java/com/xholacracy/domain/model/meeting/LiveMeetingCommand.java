@@ -0,0 +1,189 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 现场会议命令
+ * 进行中会议的一次操作。命令先作用于内存中的会议，之后在刷新时
+ * 按相同顺序重放到从数据库加载的会议上，因此必须能从日志中原样重建
+ *
+ * 值对象特征：不可变
+ */
+public final class LiveMeetingCommand {
+    
+    private final LiveMeetingCommandType type;
+    private final ProposalId proposalId;
+    private final List<PartnerId> partnerIds;
+    private final String text;
+    private final ProposalStatus finalStatus;
+    private final String outcome;
+    private final LocalDateTime recordedAt;
+    
+    private LiveMeetingCommand(LiveMeetingCommandType type, ProposalId proposalId, List<PartnerId> partnerIds,
+                               String text, ProposalStatus finalStatus, String outcome, LocalDateTime recordedAt) {
+        this.type = Objects.requireNonNull(type, "Type cannot be null");
+        this.proposalId = proposalId;
+        this.partnerIds = partnerIds != null ? List.copyOf(partnerIds) : List.of();
+        this.text = text;
+        this.finalStatus = finalStatus;
+        this.outcome = outcome;
+        this.recordedAt = Objects.requireNonNull(recordedAt, "RecordedAt cannot be null");
+    }
+    
+    /**
+     * 从日志重建命令
+     */
+    public static LiveMeetingCommand of(LiveMeetingCommandType type, ProposalId proposalId, List<PartnerId> partnerIds,
+                                        String text, ProposalStatus finalStatus, String outcome,
+                                        LocalDateTime recordedAt) {
+        return new LiveMeetingCommand(type, proposalId, partnerIds, text, finalStatus, outcome, recordedAt);
+    }
+    
+    public static LiveMeetingCommand startAgendaItem(ProposalId proposalId) {
+        return create(LiveMeetingCommandType.START_AGENDA_ITEM, requireProposal(proposalId), null, null);
+    }
+    
+    public static LiveMeetingCommand completeAgendaItem(ProposalId proposalId, String notes) {
+        return create(LiveMeetingCommandType.COMPLETE_AGENDA_ITEM, requireProposal(proposalId), null, notes);
+    }
+    
+    public static LiveMeetingCommand skipAgendaItem(ProposalId proposalId, String reason) {
+        return create(LiveMeetingCommandType.SKIP_AGENDA_ITEM, requireProposal(proposalId), null, reason);
+    }
+    
+    public static LiveMeetingCommand recordAttendance(List<PartnerId> partnerIds) {
+        Objects.requireNonNull(partnerIds, "PartnerIds cannot be null");
+        return create(LiveMeetingCommandType.RECORD_ATTENDANCE, null, partnerIds, null);
+    }
+    
+    public static LiveMeetingCommand recordCheckIn(String notes) {
+        return create(LiveMeetingCommandType.RECORD_CHECK_IN, null, null, notes);
+    }
+    
+    /**
+     * 追加会议备注，作者记在伙伴列表中
+     *
+     * @param authorId 作者ID，未知时为null
+     * @param notes 备注
+     */
+    public static LiveMeetingCommand addNotes(PartnerId authorId, String notes) {
+        return create(LiveMeetingCommandType.ADD_NOTES, null, authorId != null ? List.of(authorId) : null, notes);
+    }
+    
+    public static LiveMeetingCommand recordClosing(String notes) {
+        return create(LiveMeetingCommandType.RECORD_CLOSING, null, null, notes);
+    }
+    
+    public static LiveMeetingCommand recordOutcome(ProposalId proposalId, ProposalStatus finalStatus,
+                                                   String outcome, String notes) {
+        Objects.requireNonNull(finalStatus, "FinalStatus cannot be null");
+        return new LiveMeetingCommand(LiveMeetingCommandType.RECORD_OUTCOME, requireProposal(proposalId), null,
+            notes, finalStatus, outcome, LocalDateTime.now());
+    }
+    
+    public static LiveMeetingCommand end() {
+        return create(LiveMeetingCommandType.END, null, null, null);
+    }
+    
+    /**
+     * 把命令作用于会议
+     *
+     * @param meeting 治理会议
+     * @throws IllegalStateException 如果会议或议程项的状态不允许该操作
+     */
+    public void applyTo(GovernanceMeeting meeting) {
+        switch (type) {
+            case START_AGENDA_ITEM -> meeting.startAgendaItem(proposalId);
+            case COMPLETE_AGENDA_ITEM -> meeting.completeAgendaItem(proposalId, text);
+            case SKIP_AGENDA_ITEM -> meeting.skipAgendaItem(proposalId, text);
+            case RECORD_ATTENDANCE -> meeting.recordAttendance(partnerIds);
+            case RECORD_CHECK_IN -> meeting.recordCheckIn(text);
+            case ADD_NOTES -> meeting.addNote(MeetingNote.of(getAuthorId(), text, recordedAt));
+            case RECORD_CLOSING -> meeting.recordClosing(text);
+            case RECORD_OUTCOME -> meeting.recordProposalOutcome(
+                ProposalOutcome.create(proposalId, finalStatus, outcome, text));
+            case END -> meeting.end();
+        }
+    }
+    
+    public LiveMeetingCommandType getType() {
+        return type;
+    }
+    
+    public ProposalId getProposalId() {
+        return proposalId;
+    }
+    
+    /**
+     * @return 出席的伙伴，或备注的作者，视命令类型而定
+     */
+    public List<PartnerId> getPartnerIds() {
+        return partnerIds;
+    }
+    
+    /**
+     * @return 备注的作者，不是追加备注的命令或作者未知时为null
+     */
+    public PartnerId getAuthorId() {
+        return type == LiveMeetingCommandType.ADD_NOTES && !partnerIds.isEmpty() ? partnerIds.get(0) : null;
+    }
+    
+    /**
+     * @return 备注、跳过原因或结果备注，视命令类型而定
+     */
+    public String getText() {
+        return text;
+    }
+    
+    public ProposalStatus getFinalStatus() {
+        return finalStatus;
+    }
+    
+    public String getOutcome() {
+        return outcome;
+    }
+    
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+    
+    private static LiveMeetingCommand create(LiveMeetingCommandType type, ProposalId proposalId,
+                                             List<PartnerId> partnerIds, String text) {
+        return new LiveMeetingCommand(type, proposalId, partnerIds, text, null, null, LocalDateTime.now());
+    }
+    
+    private static ProposalId requireProposal(ProposalId proposalId) {
+        return Objects.requireNonNull(proposalId, "ProposalId cannot be null");
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LiveMeetingCommand that = (LiveMeetingCommand) o;
+        return type == that.type && Objects.equals(proposalId, that.proposalId)
+            && partnerIds.equals(that.partnerIds) && Objects.equals(text, that.text)
+            && finalStatus == that.finalStatus && Objects.equals(outcome, that.outcome)
+            && recordedAt.equals(that.recordedAt);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, proposalId, partnerIds, text, finalStatus, outcome, recordedAt);
+    }
+    
+    @Override
+    public String toString() {
+        return "LiveMeetingCommand{" +
+                "type=" + type +
+                ", proposalId=" + proposalId +
+                ", recordedAt=" + recordedAt +
+                '}';
+    }
+}
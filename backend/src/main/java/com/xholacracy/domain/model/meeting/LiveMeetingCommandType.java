@@ -0,0 +1,53 @@
+package com.xholacracy.domain.model.meeting;
+
+/**
+ * 现场会议命令类型枚举
+ * 
+ * 进行中的会议在现场会话里接受的操作
+ */
+public enum LiveMeetingCommandType {
+    /**
+     * 开始议程项 - 开始处理一个议程项
+     */
+    START_AGENDA_ITEM,
+    
+    /**
+     * 完成议程项 - 议程项处理完毕
+     */
+    COMPLETE_AGENDA_ITEM,
+    
+    /**
+     * 跳过议程项 - 议程项未处理即跳过
+     */
+    SKIP_AGENDA_ITEM,
+    
+    /**
+     * 记录出席 - 记录到场的伙伴
+     */
+    RECORD_ATTENDANCE,
+    
+    /**
+     * 签到 - 记录签到轮备注
+     */
+    RECORD_CHECK_IN,
+    
+    /**
+     * 备注 - 添加会议备注
+     */
+    ADD_NOTES,
+    
+    /**
+     * 结束轮 - 记录结束轮备注
+     */
+    RECORD_CLOSING,
+    
+    /**
+     * 提案结果 - 记录提案处理结果
+     */
+    RECORD_OUTCOME,
+    
+    /**
+     * 结束 - 结束会议
+     */
+    END
+}
@@ -0,0 +1,37 @@
+package com.xholacracy.domain.model.meeting;
+
+import java.util.List;
+
+/**
+ * 现场会议日志接口
+ * 每个现场会话一份只追加的命令日志，命令在作用于内存中的会议后立即追加，
+ * 节点崩溃后用于重放尚未刷新到数据库的命令
+ *
+ * 实现将在基础设施层提供
+ */
+public interface LiveMeetingJournal {
+    
+    /**
+     * 追加一条命令
+     * 
+     * @param key 会议键
+     * @param entry 日志条目
+     * @throws java.io.UncheckedIOException 如果写入失败
+     */
+    void append(MeetingKey key, LiveMeetingJournalEntry entry);
+    
+    /**
+     * 按序号读出会话的全部命令，末尾写了一半的条目被忽略
+     * 
+     * @param key 会议键
+     * @return 日志条目列表，没有日志时为空
+     */
+    List<LiveMeetingJournalEntry> read(MeetingKey key);
+    
+    /**
+     * 会话结束后删除日志
+     * 
+     * @param key 会议键
+     */
+    void delete(MeetingKey key);
+}
@@ -0,0 +1,56 @@
+package com.xholacracy.domain.model.meeting;
+
+import java.util.Objects;
+
+/**
+ * 现场会议日志条目
+ * 会话内按应用顺序编号的命令，序号从1开始连续递增
+ *
+ * 值对象特征：不可变
+ */
+public final class LiveMeetingJournalEntry {
+    
+    private final long sequence;
+    private final LiveMeetingCommand command;
+    
+    private LiveMeetingJournalEntry(long sequence, LiveMeetingCommand command) {
+        if (sequence < 1) {
+            throw new IllegalArgumentException("Sequence must be positive");
+        }
+        this.sequence = sequence;
+        this.command = Objects.requireNonNull(command, "Command cannot be null");
+    }
+    
+    public static LiveMeetingJournalEntry of(long sequence, LiveMeetingCommand command) {
+        return new LiveMeetingJournalEntry(sequence, command);
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public LiveMeetingCommand getCommand() {
+        return command;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LiveMeetingJournalEntry that = (LiveMeetingJournalEntry) o;
+        return sequence == that.sequence && command.equals(that.command);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequence, command);
+    }
+    
+    @Override
+    public String toString() {
+        return "LiveMeetingJournalEntry{" +
+                "sequence=" + sequence +
+                ", command=" + command +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+
+import java.util.function.Function;
+
+/**
+ * 现场会议注册表接口
+ * 管理本节点持有的现场会议会话：命令在内存中生效后立即返回，
+ * 数据库写入被合并后异步执行；会议结束时同步写回全部命令
+ *
+ * 实现将在基础设施层提供
+ */
+public interface LiveMeetingRegistry {
+    
+    /**
+     * 开始会议并打开会话；会议已在进行中时接管或恢复会话
+     * 
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @param view 读取会话打开后的会议状态
+     * @return view的结果
+     * @throws com.xholacracy.domain.exception.ResourceNotFoundException 如果会议不存在
+     * @throws com.xholacracy.domain.exception.MeetingSessionOwnedElsewhereException 如果会话由其他节点持有
+     * @throws IllegalStateException 如果会议已结束或已取消
+     */
+    <T> T start(OrganizationId organizationId, MeetingId meetingId, Function<GovernanceMeeting, T> view);
+    
+    /**
+     * 在会话中执行命令
+     * 
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @param command 命令
+     * @return 命令的序号
+     * @throws IllegalStateException 如果会议或议程项的状态不允许该操作
+     */
+    long apply(OrganizationId organizationId, MeetingId meetingId, LiveMeetingCommand command);
+    
+    /**
+     * 读取会话中的会议状态
+     * 
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @param view 读取会议状态
+     * @return view的结果
+     */
+    <T> T read(OrganizationId organizationId, MeetingId meetingId, Function<GovernanceMeeting, T> view);
+    
+    /**
+     * 结束会议，写回全部命令后关闭会话
+     * 
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @param view 读取结束后的会议状态
+     * @return view的结果
+     */
+    <T> T end(OrganizationId organizationId, MeetingId meetingId, Function<GovernanceMeeting, T> view);
+}
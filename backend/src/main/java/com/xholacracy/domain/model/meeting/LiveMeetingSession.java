@@ -0,0 +1,125 @@
+package com.xholacracy.domain.model.meeting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 现场会议会话
+ * 进行中的会议常驻内存，命令直接作用于内存中的会议并按顺序编号，
+ * 尚未写入数据库的命令保留在待刷新列表中，由持有节点定期合并写回
+ *
+ * 会话中的会议与持久化上下文分离，只用于校验命令和读取当前状态；
+ * 刷新时命令按相同顺序重放到从数据库加载的会议上
+ *
+ * 所有方法在会话上串行执行
+ */
+public class LiveMeetingSession {
+    
+    private final GovernanceMeeting meeting;
+    private final List<LiveMeetingJournalEntry> pending = new ArrayList<>();
+    private long sequence;
+    private long flushedSequence;
+    
+    private LiveMeetingSession(GovernanceMeeting meeting, long flushedSequence) {
+        this.meeting = Objects.requireNonNull(meeting, "Meeting cannot be null");
+        if (meeting.getStatus() != MeetingStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Only in-progress meetings can have a live session");
+        }
+        this.sequence = flushedSequence;
+        this.flushedSequence = flushedSequence;
+    }
+    
+    /**
+     * 为刚开始的会议打开会话
+     */
+    public static LiveMeetingSession open(GovernanceMeeting meeting) {
+        return new LiveMeetingSession(meeting, 0);
+    }
+    
+    /**
+     * 节点重启或接管后恢复会话
+     * 日志中序号大于已刷新序号的命令重新作用于会议并重新进入待刷新列表；
+     * 对数据库中的会议已不再适用的命令被丢弃
+     *
+     * @param meeting 从数据库加载的会议
+     * @param flushedSequence 已写入数据库的最后一个序号
+     * @param journal 日志条目，按序号排列
+     * @return 会话
+     */
+    public static LiveMeetingSession resume(GovernanceMeeting meeting, long flushedSequence,
+                                            List<LiveMeetingJournalEntry> journal) {
+        LiveMeetingSession session = new LiveMeetingSession(meeting, flushedSequence);
+        for (LiveMeetingJournalEntry entry : journal) {
+            if (entry.getSequence() <= session.sequence) {
+                continue;
+            }
+            try {
+                entry.getCommand().applyTo(meeting);
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                continue;
+            }
+            session.sequence = entry.getSequence();
+            session.pending.add(entry);
+        }
+        return session;
+    }
+    
+    /**
+     * 把命令作用于会议并编号
+     * 命令被拒绝时会话不变；listener在会话锁内按序号顺序调用，用于追加日志
+     *
+     * @param command 命令
+     * @param listener 命令被接受后调用
+     * @return 日志条目
+     * @throws IllegalStateException 如果会议或议程项的状态不允许该操作
+     */
+    public synchronized LiveMeetingJournalEntry apply(LiveMeetingCommand command,
+                                                      Consumer<LiveMeetingJournalEntry> listener) {
+        command.applyTo(meeting);
+        LiveMeetingJournalEntry entry = LiveMeetingJournalEntry.of(++sequence, command);
+        pending.add(entry);
+        listener.accept(entry);
+        return entry;
+    }
+    
+    /**
+     * @return 尚未写入数据库的命令，按序号排列
+     */
+    public synchronized List<LiveMeetingJournalEntry> pending() {
+        return List.copyOf(pending);
+    }
+    
+    /**
+     * 记录序号不大于sequence的命令已写入数据库
+     */
+    public synchronized void markFlushed(long sequence) {
+        pending.removeIf(entry -> entry.getSequence() <= sequence);
+        flushedSequence = Math.max(flushedSequence, sequence);
+    }
+    
+    /**
+     * 在会话锁内读取会议状态，返回值不应持有会议的可变集合
+     */
+    public synchronized <T> T read(Function<GovernanceMeeting, T> view) {
+        return view.apply(meeting);
+    }
+    
+    public MeetingKey getKey() {
+        return meeting.getKey();
+    }
+    
+    public synchronized long getSequence() {
+        return sequence;
+    }
+    
+    public synchronized long getFlushedSequence() {
+        return flushedSequence;
+    }
+    
+    public synchronized boolean isEnded() {
+        return meeting.getStatus() != MeetingStatus.IN_PROGRESS;
+    }
+}
@@ -5,11 +5,12 @@ import jakarta.persistence.CollectionTable;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.OrderBy;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -21,26 +22,30 @@ import java.util.Optional;
 @Embeddable
 public class MeetingAgenda {
     
+    /**
+     * 议程项，以提案ID值为键、按议程顺序排列
+     * 每项一行，增删或更新一项只写该项的行；集合只在原地修改，不整体替换
+     */
     @ElementCollection
-    @CollectionTable(name = "meeting_agenda_items", joinColumns = @JoinColumn(name = "meeting_id"))
+    @CollectionTable(name = "meeting_agenda_items", joinColumns = {
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id"),
+        @JoinColumn(name = "meeting_id", referencedColumnName = "id")
+    })
+    @MapKeyColumn(name = "proposal_id")
     @OrderBy("orderIndex ASC")
-    private List<AgendaItem> items = new ArrayList<>();
+    private Map<String, AgendaItem> items = new LinkedHashMap<>();
     
     protected MeetingAgenda() {
         // For JPA
     }
     
-    private MeetingAgenda(List<AgendaItem> items) {
-        this.items = new ArrayList<>(items);
-    }
-    
     /**
      * 创建空议程
      * 
      * @return 会议议程
      */
     public static MeetingAgenda create() {
-        return new MeetingAgenda(new ArrayList<>());
+        return new MeetingAgenda();
     }
     
     /**
@@ -52,13 +57,12 @@ public class MeetingAgenda {
         Objects.requireNonNull(proposalId, "ProposalId cannot be null");
         
         // 检查是否已存在
-        if (items.stream().anyMatch(item -> item.getProposalId().equals(proposalId))) {
+        if (items.containsKey(proposalId.getValue())) {
             throw new IllegalArgumentException("Proposal already in agenda");
         }
         
         int nextOrderIndex = items.size();
-        AgendaItem item = AgendaItem.create(proposalId, nextOrderIndex);
-        items.add(item);
+        items.put(proposalId.getValue(), AgendaItem.create(proposalId, nextOrderIndex));
     }
     
     /**
@@ -69,12 +73,11 @@ public class MeetingAgenda {
     public void removeItem(ProposalId proposalId) {
         Objects.requireNonNull(proposalId, "ProposalId cannot be null");
         
-        boolean removed = items.removeIf(item -> item.getProposalId().equals(proposalId));
-        if (!removed) {
+        if (items.remove(proposalId.getValue()) == null) {
             throw new IllegalArgumentException("Proposal not found in agenda");
         }
         
-        // 重新排序
+        // 重新排序，只有排在它后面的项需要更新
         reorderItems();
     }
     
@@ -90,16 +93,20 @@ public class MeetingAgenda {
             throw new IllegalArgumentException("ProposalIds size must match agenda items size");
         }
         
-        List<AgendaItem> reorderedItems = new ArrayList<>();
-        for (int i = 0; i < proposalIds.size(); i++) {
-            ProposalId proposalId = proposalIds.get(i);
+        Map<String, AgendaItem> reorderedItems = new LinkedHashMap<>();
+        for (ProposalId proposalId : proposalIds) {
             AgendaItem item = findItemByProposalId(proposalId)
                     .orElseThrow(() -> new IllegalArgumentException("Proposal not found in agenda: " + proposalId));
-            item.updateOrderIndex(i);
-            reorderedItems.add(item);
+            reorderedItems.put(proposalId.getValue(), item);
+        }
+        if (reorderedItems.size() != items.size()) {
+            throw new IllegalArgumentException("ProposalIds must not contain duplicates");
         }
         
-        this.items = reorderedItems;
+        // 原地重排，位置不变的项不产生写入
+        items.clear();
+        items.putAll(reorderedItems);
+        reorderItems();
     }
     
     /**
@@ -143,7 +150,7 @@ public class MeetingAgenda {
      * @return 当前议程项（如果有）
      */
     public Optional<AgendaItem> getCurrentItem() {
-        return items.stream()
+        return items.values().stream()
                 .filter(item -> item.getStatus() == AgendaItemStatus.IN_PROGRESS)
                 .findFirst();
     }
@@ -154,7 +161,7 @@ public class MeetingAgenda {
      * @return 下一个议程项（如果有）
      */
     public Optional<AgendaItem> getNextPendingItem() {
-        return items.stream()
+        return items.values().stream()
                 .filter(item -> item.getStatus() == AgendaItemStatus.PENDING)
                 .findFirst();
     }
@@ -165,7 +172,7 @@ public class MeetingAgenda {
      * @return 如果所有议程项都已完成则返回true
      */
     public boolean isAllCompleted() {
-        return !items.isEmpty() && items.stream()
+        return !items.isEmpty() && items.values().stream()
                 .allMatch(item -> item.getStatus() == AgendaItemStatus.COMPLETED || 
                                  item.getStatus() == AgendaItemStatus.SKIPPED);
     }
@@ -194,18 +201,20 @@ public class MeetingAgenda {
      * @return 议程项列表
      */
     public List<AgendaItem> getItems() {
-        return Collections.unmodifiableList(items);
+        return List.copyOf(items.values());
     }
     
     private Optional<AgendaItem> findItemByProposalId(ProposalId proposalId) {
-        return items.stream()
-                .filter(item -> item.getProposalId().equals(proposalId))
-                .findFirst();
+        return Optional.ofNullable(proposalId != null ? items.get(proposalId.getValue()) : null);
     }
     
     private void reorderItems() {
-        for (int i = 0; i < items.size(); i++) {
-            items.get(i).updateOrderIndex(i);
+        int index = 0;
+        for (AgendaItem item : items.values()) {
+            if (item.getOrderIndex() != index) {
+                item.updateOrderIndex(index);
+            }
+            index++;
         }
     }
     
@@ -0,0 +1,114 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 会议占用的日程
+ * 会议在[start, end)时间段内占用每个出席者的日程
+ *
+ * 值对象特征：不可变
+ */
+public final class MeetingBooking {
+    
+    private final MeetingId meetingId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Set<PartnerId> attendees;
+    
+    private MeetingBooking(MeetingId meetingId, LocalDateTime start, LocalDateTime end, Set<PartnerId> attendees) {
+        this.meetingId = Objects.requireNonNull(meetingId, "MeetingId cannot be null");
+        this.start = Objects.requireNonNull(start, "Start cannot be null");
+        this.end = Objects.requireNonNull(end, "End cannot be null");
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Booking cannot end before it starts");
+        }
+        this.attendees = Collections.unmodifiableSet(new LinkedHashSet<>(attendees));
+    }
+    
+    public static MeetingBooking of(MeetingId meetingId, LocalDateTime start, Duration duration,
+                                    Collection<PartnerId> attendees) {
+        return new MeetingBooking(meetingId, start, start.plus(duration), new LinkedHashSet<>(attendees));
+    }
+    
+    /**
+     * 会议当前占用的日程
+     */
+    public static MeetingBooking of(GovernanceMeeting meeting) {
+        return of(meeting.getId(), meeting.getScheduledDate(), meeting.getDuration(), meeting.getAttendees());
+    }
+    
+    /**
+     * 改期后的日程，时长和出席者不变
+     */
+    public MeetingBooking rescheduledTo(LocalDateTime newStart) {
+        return of(meetingId, newStart, getDuration(), attendees);
+    }
+    
+    /**
+     * 增加出席者后的日程
+     */
+    public MeetingBooking withAttendees(Collection<PartnerId> additional) {
+        Set<PartnerId> combined = new LinkedHashSet<>(attendees);
+        combined.addAll(additional);
+        return new MeetingBooking(meetingId, start, end, combined);
+    }
+    
+    /**
+     * 检查是否与[otherStart, otherEnd)重叠，首尾相接不算重叠
+     */
+    public boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+        return start.isBefore(otherEnd) && otherStart.isBefore(end);
+    }
+    
+    public MeetingId getMeetingId() {
+        return meetingId;
+    }
+    
+    public LocalDateTime getStart() {
+        return start;
+    }
+    
+    public LocalDateTime getEnd() {
+        return end;
+    }
+    
+    public Duration getDuration() {
+        return Duration.between(start, end);
+    }
+    
+    public Set<PartnerId> getAttendees() {
+        return attendees;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MeetingBooking that = (MeetingBooking) o;
+        return meetingId.equals(that.meetingId) && start.equals(that.start) && end.equals(that.end)
+            && attendees.equals(that.attendees);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(meetingId, start, end, attendees);
+    }
+    
+    @Override
+    public String toString() {
+        return "MeetingBooking{" +
+                "meetingId=" + meetingId +
+                ", start=" + start +
+                ", end=" + end +
+                ", attendees=" + attendees.size() +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 会议持久化主键
+ * 会议表按组织ID哈希分区，分区键必须是主键的一部分；
+ * 按主键查询时数据库只访问该组织所在的分区
+ */
+@Embeddable
+public class MeetingKey implements Serializable {
+    
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "organization_id"))
+    private OrganizationId organizationId;
+    
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "id"))
+    private MeetingId id;
+    
+    // JPA需要无参构造函数
+    protected MeetingKey() {
+    }
+    
+    private MeetingKey(OrganizationId organizationId, MeetingId id) {
+        this.organizationId = Objects.requireNonNull(organizationId, "OrganizationId cannot be null");
+        this.id = Objects.requireNonNull(id, "MeetingId cannot be null");
+    }
+    
+    public static MeetingKey of(OrganizationId organizationId, MeetingId id) {
+        return new MeetingKey(organizationId, id);
+    }
+    
+    public OrganizationId getOrganizationId() {
+        return organizationId;
+    }
+    
+    public MeetingId getId() {
+        return id;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MeetingKey that = (MeetingKey) o;
+        return Objects.equals(organizationId, that.organizationId) && Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(organizationId, id);
+    }
+    
+    @Override
+    public String toString() {
+        return organizationId + "/" + id;
+    }
+}
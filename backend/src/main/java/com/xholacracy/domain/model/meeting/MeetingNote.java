@@ -0,0 +1,114 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 会议备注值对象
+ *
+ * 会议中记下的一条备注，带作者和记录时间；备注只追加，不修改
+ */
+@Embeddable
+public class MeetingNote {
+    
+    /**
+     * 单条备注的最大长度
+     */
+    public static final int MAX_LENGTH = 2000;
+    
+    @Column(name = "content", nullable = false)
+    private String content;
+    
+    /**
+     * 作者，旧数据迁移来的备注没有作者
+     */
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "author_id"))
+    private PartnerId authorId;
+    
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+    
+    protected MeetingNote() {
+        // For JPA
+    }
+    
+    private MeetingNote(PartnerId authorId, String content, LocalDateTime recordedAt) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("Note cannot be blank");
+        }
+        if (content.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Note must not exceed " + MAX_LENGTH + " characters");
+        }
+        this.authorId = authorId;
+        this.content = content;
+        this.recordedAt = Objects.requireNonNull(recordedAt, "RecordedAt cannot be null");
+    }
+    
+    /**
+     * 创建会议备注
+     *
+     * @param authorId 作者ID，未知时为null
+     * @param content 备注内容
+     * @param recordedAt 记录时间
+     * @return 会议备注
+     * @throws IllegalArgumentException 如果内容为空白或超过{@link #MAX_LENGTH}个字符
+     */
+    public static MeetingNote of(PartnerId authorId, String content, LocalDateTime recordedAt) {
+        return new MeetingNote(authorId, content, recordedAt);
+    }
+    
+    /**
+     * 创建此刻记录的会议备注
+     *
+     * @param authorId 作者ID，未知时为null
+     * @param content 备注内容
+     * @return 会议备注
+     */
+    public static MeetingNote create(PartnerId authorId, String content) {
+        return new MeetingNote(authorId, content, LocalDateTime.now());
+    }
+    
+    // Getters
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public PartnerId getAuthorId() {
+        return authorId;
+    }
+    
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MeetingNote that = (MeetingNote) o;
+        return Objects.equals(content, that.content) &&
+                Objects.equals(authorId, that.authorId) &&
+                Objects.equals(recordedAt, that.recordedAt);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, authorId, recordedAt);
+    }
+    
+    @Override
+    public String toString() {
+        return "MeetingNote{" +
+                "authorId=" + authorId +
+                ", recordedAt=" + recordedAt +
+                '}';
+    }
+}
@@ -0,0 +1,102 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 会议中的一位伙伴值对象
+ * 
+ * 用于会议的参与者和出席记录：伙伴ID是稳定的键，相等只比较伙伴ID；
+ * 顺序号记录加入的先后，加载时按它恢复顺序
+ */
+@Embeddable
+public class MeetingPartner {
+    
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "partner_id", nullable = false))
+    private PartnerId partnerId;
+    
+    @Column(name = "order_index", nullable = false)
+    private int orderIndex;
+    
+    protected MeetingPartner() {
+        // For JPA
+    }
+    
+    private MeetingPartner(PartnerId partnerId, int orderIndex) {
+        this.partnerId = Objects.requireNonNull(partnerId, "PartnerId cannot be null");
+        this.orderIndex = orderIndex;
+    }
+    
+    /**
+     * 创建会议伙伴
+     * 
+     * @param partnerId 伙伴ID
+     * @param orderIndex 顺序号
+     * @return 会议伙伴
+     */
+    public static MeetingPartner of(PartnerId partnerId, int orderIndex) {
+        return new MeetingPartner(partnerId, orderIndex);
+    }
+    
+    /**
+     * 创建只用于查找的会议伙伴，顺序号不参与相等比较
+     * 
+     * @param partnerId 伙伴ID
+     * @return 会议伙伴
+     */
+    public static MeetingPartner of(PartnerId partnerId) {
+        return new MeetingPartner(partnerId, 0);
+    }
+    
+    /**
+     * 计算下一个顺序号
+     * 
+     * @param partners 已有的会议伙伴
+     * @return 比已有最大顺序号大1的顺序号
+     */
+    public static int nextOrderIndex(Collection<MeetingPartner> partners) {
+        int next = 0;
+        for (MeetingPartner partner : partners) {
+            next = Math.max(next, partner.orderIndex + 1);
+        }
+        return next;
+    }
+    
+    // Getters
+    
+    public PartnerId getPartnerId() {
+        return partnerId;
+    }
+    
+    public int getOrderIndex() {
+        return orderIndex;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MeetingPartner that = (MeetingPartner) o;
+        return Objects.equals(partnerId, that.partnerId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(partnerId);
+    }
+    
+    @Override
+    public String toString() {
+        return "MeetingPartner{" +
+                "partnerId=" + partnerId +
+                ", orderIndex=" + orderIndex +
+                '}';
+    }
+}
@@ -7,18 +7,27 @@ import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Transient;
 
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * 会议记录值对象
  * 
- * 记录治理会议的详细信息，包括参与者、签到备注、提案结果等
+ * 记录治理会议的详细信息，包括参与者、签到备注、会议备注、提案结果等
  */
 @Embeddable
 public class MeetingRecord {
@@ -26,31 +35,56 @@ public class MeetingRecord {
     @Column(name = "check_in_notes", length = 2000)
     private String checkInNotes;
     
-    @Column(name = "additional_notes", length = 5000)
-    private String additionalNotes;
-    
     @Column(name = "closing_notes", length = 2000)
     private String closingNotes;
     
+    /**
+     * 出席者，每人一行，记录一人出席只插入一行
+     */
+    @ElementCollection
+    @CollectionTable(name = "meeting_attendance", joinColumns = {
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id"),
+        @JoinColumn(name = "meeting_id", referencedColumnName = "id")
+    })
+    @OrderBy("orderIndex ASC")
+    private Set<MeetingPartner> attendees = new LinkedHashSet<>();
+    
+    /**
+     * 提案结果，以提案ID值为键，每个提案一行，记录或替换一个结果只写一行
+     */
     @ElementCollection
-    @CollectionTable(name = "meeting_attendance", joinColumns = @JoinColumn(name = "meeting_id"))
-    private List<PartnerId> attendees = new ArrayList<>();
+    @CollectionTable(name = "meeting_proposal_outcomes", joinColumns = {
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id"),
+        @JoinColumn(name = "meeting_id", referencedColumnName = "id")
+    })
+    @MapKeyColumn(name = "proposal_id")
+    @OrderBy("processedAt ASC")
+    private Map<String, ProposalOutcome> proposalOutcomes = new LinkedHashMap<>();
     
+    /**
+     * 会议备注，按记录顺序每条一行；只追加，添加一条只插入一行
+     */
     @ElementCollection
-    @CollectionTable(name = "meeting_proposal_outcomes", joinColumns = @JoinColumn(name = "meeting_id"))
-    private List<ProposalOutcome> proposalOutcomes = new ArrayList<>();
+    @CollectionTable(name = "meeting_notes", joinColumns = {
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id"),
+        @JoinColumn(name = "meeting_id", referencedColumnName = "id")
+    })
+    @OrderColumn(name = "entry_index")
+    private List<MeetingNote> notes = new ArrayList<>();
+    
+    /**
+     * 下一个出席者的顺序号，首次记录时从已有出席者算出
+     */
+    @Transient
+    private int nextAttendeeIndex = -1;
     
     protected MeetingRecord() {
         // For JPA
     }
     
-    private MeetingRecord(String checkInNotes, String additionalNotes, String closingNotes,
-                         List<PartnerId> attendees, List<ProposalOutcome> proposalOutcomes) {
+    private MeetingRecord(String checkInNotes, String closingNotes) {
         this.checkInNotes = checkInNotes;
-        this.additionalNotes = additionalNotes;
         this.closingNotes = closingNotes;
-        this.attendees = new ArrayList<>(attendees);
-        this.proposalOutcomes = new ArrayList<>(proposalOutcomes);
     }
     
     /**
@@ -59,7 +93,7 @@ public class MeetingRecord {
      * @return 会议记录
      */
     public static MeetingRecord create() {
-        return new MeetingRecord("", "", "", new ArrayList<>(), new ArrayList<>());
+        return new MeetingRecord("", "");
     }
     
     /**
@@ -72,16 +106,13 @@ public class MeetingRecord {
     }
     
     /**
-     * 添加额外备注
+     * 追加一条会议备注
      * 
-     * @param notes 额外备注
+     * @param note 会议备注
      */
-    public void addAdditionalNotes(String notes) {
-        if (this.additionalNotes == null || this.additionalNotes.isEmpty()) {
-            this.additionalNotes = notes;
-        } else {
-            this.additionalNotes += "\n" + notes;
-        }
+    public void addNote(MeetingNote note) {
+        Objects.requireNonNull(note, "MeetingNote cannot be null");
+        notes.add(note);
     }
     
     /**
@@ -94,27 +125,39 @@ public class MeetingRecord {
     }
     
     /**
-     * 记录参与者出席
+     * 记录参与者出席，已记录的伙伴被忽略
      * 
      * @param partnerId 伙伴ID
+     * @return 如果是新记录的出席则返回true
      */
-    public void recordAttendance(PartnerId partnerId) {
+    public boolean recordAttendance(PartnerId partnerId) {
         Objects.requireNonNull(partnerId, "PartnerId cannot be null");
-        if (!attendees.contains(partnerId)) {
-            attendees.add(partnerId);
+        if (nextAttendeeIndex < 0) {
+            nextAttendeeIndex = MeetingPartner.nextOrderIndex(attendees);
+        }
+        if (!attendees.add(MeetingPartner.of(partnerId, nextAttendeeIndex))) {
+            return false;
         }
+        nextAttendeeIndex++;
+        return true;
     }
     
     /**
-     * 批量记录参与者出席
+     * 批量记录参与者出席，已记录或重复出现的伙伴被忽略
+     * 每个伙伴的查重是常数时间，耗时与伙伴数成线性
      * 
-     * @param partnerIds 伙伴ID列表
+     * @param partnerIds 伙伴ID集合，按签到顺序
+     * @return 新记录的出席数
      */
-    public void recordAttendance(List<PartnerId> partnerIds) {
+    public int recordAttendance(Collection<PartnerId> partnerIds) {
         Objects.requireNonNull(partnerIds, "PartnerIds cannot be null");
+        int recorded = 0;
         for (PartnerId partnerId : partnerIds) {
-            recordAttendance(partnerId);
+            if (recordAttendance(partnerId)) {
+                recorded++;
+            }
         }
+        return recorded;
     }
     
     /**
@@ -125,10 +168,10 @@ public class MeetingRecord {
     public void recordProposalOutcome(ProposalOutcome outcome) {
         Objects.requireNonNull(outcome, "ProposalOutcome cannot be null");
         
-        // 移除同一提案的旧结果（如果存在）
-        proposalOutcomes.removeIf(o -> o.getProposalId().equals(outcome.getProposalId()));
-        
-        proposalOutcomes.add(outcome);
+        // 替换同一提案的旧结果（如果存在），新结果排在最后
+        String key = outcome.getProposalId().getValue();
+        proposalOutcomes.remove(key);
+        proposalOutcomes.put(key, outcome);
     }
     
     /**
@@ -138,10 +181,7 @@ public class MeetingRecord {
      * @return 提案结果（如果存在）
      */
     public ProposalOutcome getProposalOutcome(ProposalId proposalId) {
-        return proposalOutcomes.stream()
-                .filter(o -> o.getProposalId().equals(proposalId))
-                .findFirst()
-                .orElse(null);
+        return proposalId != null ? proposalOutcomes.get(proposalId.getValue()) : null;
     }
     
     /**
@@ -166,7 +206,7 @@ public class MeetingRecord {
         if (!proposalOutcomes.isEmpty()) {
             summary.append("处理的提案:\n");
             Map<String, Integer> outcomeStats = new HashMap<>();
-            for (ProposalOutcome outcome : proposalOutcomes) {
+            for (ProposalOutcome outcome : proposalOutcomes.values()) {
                 String status = outcome.getOutcome();
                 outcomeStats.put(status, outcomeStats.getOrDefault(status, 0) + 1);
                 summary.append("- ").append(outcome.getProposalId().getValue())
@@ -178,9 +218,14 @@ public class MeetingRecord {
             summary.append("\n\n");
         }
         
-        // 额外备注
-        if (additionalNotes != null && !additionalNotes.isEmpty()) {
-            summary.append("备注:\n").append(additionalNotes).append("\n\n");
+        // 会议备注，按记录顺序逐条写入
+        if (!notes.isEmpty()) {
+            summary.append("备注:\n");
+            for (MeetingNote note : notes) {
+                summary.append("- [").append(note.getRecordedAt().toLocalTime().truncatedTo(ChronoUnit.MINUTES))
+                       .append("] ").append(note.getContent()).append("\n");
+            }
+            summary.append("\n");
         }
         
         // 结束轮
@@ -198,7 +243,7 @@ public class MeetingRecord {
      * @return 如果出席则返回true
      */
     public boolean isAttended(PartnerId partnerId) {
-        return attendees.contains(partnerId);
+        return partnerId != null && attendees.contains(MeetingPartner.of(partnerId));
     }
     
     /**
@@ -210,6 +255,15 @@ public class MeetingRecord {
         return attendees.size();
     }
     
+    /**
+     * 获取会议备注条数
+     * 
+     * @return 备注条数
+     */
+    public int getNoteCount() {
+        return notes.size();
+    }
+    
     /**
      * 获取处理的提案数量
      * 
@@ -225,8 +279,11 @@ public class MeetingRecord {
         return checkInNotes;
     }
     
-    public String getAdditionalNotes() {
-        return additionalNotes;
+    /**
+     * @return 会议备注的只读视图，按记录顺序
+     */
+    public List<MeetingNote> getNotes() {
+        return Collections.unmodifiableList(notes);
     }
     
     public String getClosingNotes() {
@@ -234,11 +291,11 @@ public class MeetingRecord {
     }
     
     public List<PartnerId> getAttendees() {
-        return Collections.unmodifiableList(attendees);
+        return attendees.stream().map(MeetingPartner::getPartnerId).toList();
     }
     
     public List<ProposalOutcome> getProposalOutcomes() {
-        return Collections.unmodifiableList(proposalOutcomes);
+        return List.copyOf(proposalOutcomes.values());
     }
     
     @Override
@@ -1,15 +1,17 @@
 package com.xholacracy.domain.model.meeting;
 
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 会议仓储接口
  * 
- * 定义会议聚合的持久化操作
+ * 定义会议聚合的持久化操作。会议按组织分区存储，所有查询都需要组织ID
  */
 public interface MeetingRepository {
     
@@ -24,60 +26,107 @@ public interface MeetingRepository {
     /**
      * 根据ID查找会议
      * 
+     * @param organizationId 组织ID
      * @param id 会议ID
      * @return 会议（如果存在）
      */
-    Optional<GovernanceMeeting> findById(MeetingId id);
+    Optional<GovernanceMeeting> findById(OrganizationId organizationId, MeetingId id);
     
     /**
      * 根据圈子ID查找所有会议
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @return 会议列表
      */
-    List<GovernanceMeeting> findByCircleId(CircleId circleId);
+    List<GovernanceMeeting> findByCircleId(OrganizationId organizationId, CircleId circleId);
     
     /**
      * 根据圈子ID和状态查找会议
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param status 会议状态
      * @return 会议列表
      */
-    List<GovernanceMeeting> findByCircleIdAndStatus(CircleId circleId, MeetingStatus status);
+    List<GovernanceMeeting> findByCircleIdAndStatus(OrganizationId organizationId, CircleId circleId,
+                                                    MeetingStatus status);
     
     /**
      * 查找指定日期范围内的会议
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param startDate 开始日期
      * @param endDate 结束日期
      * @return 会议列表
      */
-    List<GovernanceMeeting> findByCircleIdAndDateRange(CircleId circleId, 
+    List<GovernanceMeeting> findByCircleIdAndDateRange(OrganizationId organizationId,
+                                                        CircleId circleId, 
                                                         LocalDateTime startDate, 
                                                         LocalDateTime endDate);
     
     /**
      * 查找所有已完成的会议（归档）
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @return 会议列表
      */
-    List<GovernanceMeeting> findCompletedMeetings(CircleId circleId);
+    List<GovernanceMeeting> findCompletedMeetings(OrganizationId organizationId, CircleId circleId);
     
     /**
      * 删除会议
      * 
+     * @param organizationId 组织ID
      * @param id 会议ID
      */
-    void deleteById(MeetingId id);
+    void deleteById(OrganizationId organizationId, MeetingId id);
     
     /**
      * 检查会议是否存在
      * 
+     * @param organizationId 组织ID
      * @param id 会议ID
      * @return 如果存在则返回true
      */
-    boolean existsById(MeetingId id);
+    boolean existsById(OrganizationId organizationId, MeetingId id);
+    
+    /**
+     * 查询会议的版本标记（不加载聚合）
+     * 
+     * @param organizationId 组织ID
+     * @param id 会议ID
+     * @return 版本标记（如果会议存在）
+     */
+    Optional<String> findVersionTagById(OrganizationId organizationId, MeetingId id);
+    
+    /**
+     * 按ID批量查询组织内的会议
+     * 
+     * @param organizationId 组织ID
+     * @param ids 会议ID集合
+     * @return 会议列表
+     */
+    List<GovernanceMeeting> findByIds(OrganizationId organizationId, Collection<MeetingId> ids);
+    
+    /**
+     * 用投影查询加载组织内占用日程的会议（已计划和进行中），不加载会议聚合
+     * 
+     * @param organizationId 组织ID
+     * @param scheduledFrom 只加载计划时间不早于此时的会议
+     * @return 会议占用的日程
+     */
+    List<MeetingBooking> findBookings(OrganizationId organizationId, LocalDateTime scheduledFrom);
+    
+    /**
+     * 查询系列中计划时间不早于某一时刻、尚未开始的会议
+     * 
+     * @param organizationId 组织ID
+     * @param seriesId 会议系列ID
+     * @param scheduledFrom 计划时间下界（含）
+     * @return 会议列表，按计划时间排序
+     */
+    List<GovernanceMeeting> findScheduledBySeriesId(OrganizationId organizationId, MeetingSeriesId seriesId,
+                                                    LocalDateTime scheduledFrom);
 }
@@ -0,0 +1,207 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 会议系列聚合根
+ * 按重复规则定期召开的治理会议。会议不是一次全部生成，而是随滚动窗口推进分批生成：
+ * materializedThrough之前的会议都已生成，推进时只生成[materializedThrough, 新窗口)内的会议
+ *
+ * 系列的版本号保证同一段窗口只被一个事务生成
+ */
+@Entity
+@Table(name = "meeting_series")
+public class MeetingSeries {
+    
+    @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "id"))
+    private MeetingSeriesId id;
+    
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "organization_id", nullable = false))
+    private OrganizationId organizationId;
+    
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "circle_id", nullable = false))
+    private CircleId circleId;
+    
+    @Embedded
+    private RecurrenceRule rule;
+    
+    @Column(nullable = false)
+    private LocalDateTime firstOccurrence;
+    
+    @Column(nullable = false)
+    private Duration duration;
+    
+    /**
+     * 已生成会议的时间上界（不含）
+     */
+    @Column(nullable = false)
+    private LocalDateTime materializedThrough;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MeetingSeriesStatus status;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
+    protected MeetingSeries() {
+        // For JPA
+    }
+    
+    private MeetingSeries(MeetingSeriesId id, OrganizationId organizationId, CircleId circleId, RecurrenceRule rule,
+                          LocalDateTime firstOccurrence, Duration duration) {
+        this.id = id;
+        this.organizationId = Objects.requireNonNull(organizationId, "OrganizationId cannot be null");
+        this.circleId = Objects.requireNonNull(circleId, "CircleId cannot be null");
+        this.rule = Objects.requireNonNull(rule, "RecurrenceRule cannot be null");
+        this.firstOccurrence = Objects.requireNonNull(firstOccurrence, "FirstOccurrence cannot be null");
+        this.duration = Objects.requireNonNull(duration, "Duration cannot be null");
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        if (rule.isAfterUntil(firstOccurrence)) {
+            throw new IllegalArgumentException("First occurrence is after the end of the series");
+        }
+        this.materializedThrough = firstOccurrence;
+        this.status = MeetingSeriesStatus.ACTIVE;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 创建会议系列，尚未生成任何会议
+     *
+     * @param organizationId 圈子所属组织ID
+     * @param circleId 圈子ID
+     * @param rule 重复规则
+     * @param firstOccurrence 首次会议时间
+     * @param duration 每次会议的时长
+     * @return 会议系列
+     */
+    public static MeetingSeries create(OrganizationId organizationId, CircleId circleId, RecurrenceRule rule,
+                                       LocalDateTime firstOccurrence, Duration duration) {
+        return new MeetingSeries(MeetingSeriesId.generate(), organizationId, circleId, rule, firstOccurrence,
+            duration);
+    }
+    
+    /**
+     * 把滚动窗口推进到horizon，返回新进入窗口的会议时间
+     * 重复规则的最后日期落在窗口内时，系列随之结束
+     *
+     * @param horizon 窗口上界（不含）
+     * @return 需要生成的会议时间，已结束或窗口没有前进时为空
+     */
+    public List<LocalDateTime> advanceTo(LocalDateTime horizon) {
+        if (status != MeetingSeriesStatus.ACTIVE || !horizon.isAfter(materializedThrough)) {
+            return List.of();
+        }
+        List<LocalDateTime> occurrences = rule.occurrencesBetween(firstOccurrence, materializedThrough, horizon);
+        this.materializedThrough = horizon;
+        if (rule.isAfterUntil(horizon)) {
+            this.status = MeetingSeriesStatus.ENDED;
+        }
+        return occurrences;
+    }
+    
+    /**
+     * 结束系列，lastDate之后不再生成会议
+     * 已生成的lastDate之后的会议由调用方取消
+     *
+     * @param lastDate 最后一次会议的最晚日期
+     */
+    public void endOn(LocalDate lastDate) {
+        Objects.requireNonNull(lastDate, "LastDate cannot be null");
+        if (status == MeetingSeriesStatus.ENDED) {
+            throw new IllegalStateException("Meeting series has already ended");
+        }
+        this.rule = rule.endingOn(lastDate);
+        if (rule.isAfterUntil(materializedThrough)) {
+            this.status = MeetingSeriesStatus.ENDED;
+        }
+    }
+    
+    public MeetingSeriesId getId() {
+        return id;
+    }
+    
+    public OrganizationId getOrganizationId() {
+        return organizationId;
+    }
+    
+    public CircleId getCircleId() {
+        return circleId;
+    }
+    
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+    
+    public LocalDateTime getFirstOccurrence() {
+        return firstOccurrence;
+    }
+    
+    public Duration getDuration() {
+        return duration;
+    }
+    
+    public LocalDateTime getMaterializedThrough() {
+        return materializedThrough;
+    }
+    
+    public MeetingSeriesStatus getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MeetingSeries that = (MeetingSeries) o;
+        return Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+    
+    @Override
+    public String toString() {
+        return "MeetingSeries{" +
+                "id=" + id +
+                ", circleId=" + circleId +
+                ", rule=" + rule +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.xholacracy.domain.model.meeting;
+
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 会议系列ID值对象
+ * 值对象特征：不可变、通过值相等
+ */
+@Embeddable
+public class MeetingSeriesId implements Serializable {
+    
+    private String value;
+    
+    // JPA需要无参构造函数
+    protected MeetingSeriesId() {
+    }
+    
+    private MeetingSeriesId(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("MeetingSeriesId value cannot be null or empty");
+        }
+        this.value = value;
+    }
+    
+    /**
+     * 生成新的会议系列ID
+     */
+    public static MeetingSeriesId generate() {
+        return new MeetingSeriesId(UUID.randomUUID().toString());
+    }
+    
+    /**
+     * 从已有值创建会议系列ID
+     */
+    public static MeetingSeriesId of(String value) {
+        return new MeetingSeriesId(value);
+    }
+    
+    public String getValue() {
+        return value;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MeetingSeriesId seriesId = (MeetingSeriesId) o;
+        return Objects.equals(value, seriesId.value);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+    
+    @Override
+    public String toString() {
+        return value;
+    }
+}
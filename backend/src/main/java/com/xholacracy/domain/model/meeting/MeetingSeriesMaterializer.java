@@ -0,0 +1,29 @@
+package com.xholacracy.domain.model.meeting;
+
+import java.util.List;
+
+/**
+ * 会议系列生成接口
+ * 把会议系列的滚动窗口推进到当前时间加上配置的窗口长度，并批量写入新进入窗口的会议；
+ * 会议的协调员、秘书和参与者取自生成时圈子的角色担任者
+ *
+ * 实现将在基础设施层提供
+ */
+public interface MeetingSeriesMaterializer {
+    
+    /**
+     * 为一组系列生成窗口内尚未生成的会议，在调用方事务中执行
+     * 
+     * @param series 会议系列，通常是刚创建的系列
+     * @return 新生成的会议数
+     */
+    int materialize(List<MeetingSeries> series);
+    
+    /**
+     * 推进一批窗口落后的系列，在独立事务中执行
+     * 
+     * @param batchSize 最多推进的系列数
+     * @return 推进的系列数，小于batchSize表示没有更多落后的系列
+     */
+    int materializeDue(int batchSize);
+}
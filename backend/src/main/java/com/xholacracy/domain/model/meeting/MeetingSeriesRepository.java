@@ -0,0 +1,51 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MeetingSeries仓储接口
+ * 定义会议系列聚合根的持久化操作
+ * 
+ * 实现将在基础设施层提供
+ */
+public interface MeetingSeriesRepository {
+    
+    /**
+     * 保存会议系列
+     * 
+     * @param series 要保存的会议系列
+     * @return 保存后的会议系列
+     */
+    MeetingSeries save(MeetingSeries series);
+    
+    /**
+     * 根据ID查找组织内的会议系列
+     * 
+     * @param organizationId 组织ID
+     * @param id 会议系列ID
+     * @return 会议系列（如果存在）
+     */
+    Optional<MeetingSeries> findById(OrganizationId organizationId, MeetingSeriesId id);
+    
+    /**
+     * 查询圈子的会议系列
+     * 
+     * @param circleId 圈子ID
+     * @return 会议系列列表，按创建时间排序
+     */
+    List<MeetingSeries> findByCircleId(CircleId circleId);
+    
+    /**
+     * 查询滚动窗口落后于horizon的进行中系列，落后最多的排在前面
+     * 
+     * @param horizon 窗口上界
+     * @param limit 最多返回的系列数
+     * @return 需要推进的会议系列
+     */
+    List<MeetingSeries> findDue(LocalDateTime horizon, int limit);
+}
@@ -0,0 +1,16 @@
+package com.xholacracy.domain.model.meeting;
+
+/**
+ * 会议系列状态枚举
+ */
+public enum MeetingSeriesStatus {
+    /**
+     * 进行中 - 滚动窗口推进时继续生成会议
+     */
+    ACTIVE,
+    
+    /**
+     * 已结束 - 不再生成会议，已生成的会议保留
+     */
+    ENDED
+}
@@ -0,0 +1,201 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 组织范围的伙伴日程
+ * 每个伙伴的会议按开始时间排在一个跳表里，组织内最长会议的时长作为回看上限：
+ * 与[start, end)重叠的会议必然在[start - 最长时长, end)内开始，
+ * 因此一次重叠查询只需O(log n + k)，k是该窗口内开始的会议数，不必扫描伙伴的全部会议。
+ * 移除会议不会缩小回看上限，上限偏大只会让查询多检查几个会议
+ *
+ * 读取无锁，可在多个线程上并发查询；登记和移除串行执行
+ */
+public class PartnerCalendar {
+    
+    private final OrganizationId organizationId;
+    private final Map<MeetingId, MeetingBooking> bookings = new ConcurrentHashMap<>();
+    private final Map<PartnerId, ConcurrentNavigableMap<SlotKey, MeetingBooking>> byPartner = new ConcurrentHashMap<>();
+    private final AtomicLong longestMillis = new AtomicLong();
+    
+    private PartnerCalendar(OrganizationId organizationId) {
+        this.organizationId = organizationId;
+    }
+    
+    /**
+     * 用已有会议建立日程，已有的重复预订照样收录
+     */
+    public static PartnerCalendar of(OrganizationId organizationId, Collection<MeetingBooking> bookings) {
+        PartnerCalendar calendar = new PartnerCalendar(organizationId);
+        bookings.forEach(calendar::book);
+        return calendar;
+    }
+    
+    /**
+     * 登记或更新会议占用的日程
+     */
+    public synchronized void book(MeetingBooking booking) {
+        MeetingBooking previous = bookings.put(booking.getMeetingId(), booking);
+        if (previous != null) {
+            unindex(previous);
+        }
+        longestMillis.accumulateAndGet(booking.getDuration().toMillis(), Math::max);
+        SlotKey key = SlotKey.of(booking);
+        for (PartnerId partnerId : booking.getAttendees()) {
+            byPartner.computeIfAbsent(partnerId, id -> new ConcurrentSkipListMap<>()).put(key, booking);
+        }
+    }
+    
+    /**
+     * 移除会议占用的日程，用于取消、结束或删除的会议
+     */
+    public synchronized void release(MeetingId meetingId) {
+        MeetingBooking previous = bookings.remove(meetingId);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+    
+    /**
+     * 查找候选日程与出席者其他会议的冲突，会议本身不算冲突
+     *
+     * @param candidate 会议在计划中的时间和出席者
+     * @return 冲突列表，按出席者顺序和开始时间排序
+     */
+    public List<CalendarConflict> findConflicts(MeetingBooking candidate) {
+        List<CalendarConflict> conflicts = new ArrayList<>();
+        for (PartnerId partnerId : candidate.getAttendees()) {
+            for (MeetingBooking existing : overlapping(partnerId, candidate.getStart(), candidate.getEnd())) {
+                if (!existing.getMeetingId().equals(candidate.getMeetingId())) {
+                    conflicts.add(CalendarConflict.of(partnerId, existing));
+                }
+            }
+        }
+        return conflicts;
+    }
+    
+    /**
+     * 伙伴在[from, to)内的会议
+     *
+     * @return 与时间段重叠的会议，按开始时间排序
+     */
+    public List<MeetingBooking> bookingsOf(PartnerId partnerId, LocalDateTime from, LocalDateTime to) {
+        return overlapping(partnerId, from, to);
+    }
+    
+    /**
+     * 在[from, to)内查找所有伙伴都空闲且不短于duration的时间段
+     * 先合并这些伙伴在窗口内的会议，再一次扫描找出间隙
+     *
+     * @param partnerIds 需要出席的伙伴
+     * @param from 窗口开始
+     * @param to 窗口结束
+     * @param duration 最短时长
+     * @param limit 最多返回的时间段数
+     * @return 空闲时间段，按开始时间排序，每段都是完整的空闲间隙
+     */
+    public List<FreeSlot> findFreeSlots(Collection<PartnerId> partnerIds, LocalDateTime from, LocalDateTime to,
+                                        Duration duration, int limit) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        Set<MeetingBooking> busy = new LinkedHashSet<>();
+        for (PartnerId partnerId : partnerIds) {
+            busy.addAll(overlapping(partnerId, from, to));
+        }
+        List<MeetingBooking> sorted = new ArrayList<>(busy);
+        sorted.sort(Comparator.comparing(MeetingBooking::getStart));
+        
+        List<FreeSlot> slots = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (MeetingBooking booking : sorted) {
+            if (slots.size() >= limit) {
+                return slots;
+            }
+            if (!Duration.between(cursor, booking.getStart()).minus(duration).isNegative()) {
+                slots.add(FreeSlot.of(cursor, booking.getStart()));
+            }
+            if (booking.getEnd().isAfter(cursor)) {
+                cursor = booking.getEnd();
+            }
+        }
+        if (slots.size() < limit && !Duration.between(cursor, to).minus(duration).isNegative()) {
+            slots.add(FreeSlot.of(cursor, to));
+        }
+        return slots;
+    }
+    
+    public OrganizationId getOrganizationId() {
+        return organizationId;
+    }
+    
+    /**
+     * @return 日程中的会议数
+     */
+    public int size() {
+        return bookings.size();
+    }
+    
+    private List<MeetingBooking> overlapping(PartnerId partnerId, LocalDateTime from, LocalDateTime to) {
+        ConcurrentNavigableMap<SlotKey, MeetingBooking> slots = byPartner.get(partnerId);
+        if (slots == null || !from.isBefore(to)) {
+            return List.of();
+        }
+        LocalDateTime earliestStart = from.minus(Duration.ofMillis(longestMillis.get()));
+        List<MeetingBooking> result = new ArrayList<>();
+        for (MeetingBooking booking : slots.subMap(SlotKey.lowest(earliestStart), SlotKey.lowest(to)).values()) {
+            if (booking.overlaps(from, to)) {
+                result.add(booking);
+            }
+        }
+        return result;
+    }
+    
+    private void unindex(MeetingBooking booking) {
+        SlotKey key = SlotKey.of(booking);
+        for (PartnerId partnerId : booking.getAttendees()) {
+            byPartner.computeIfPresent(partnerId, (id, slots) -> {
+                slots.remove(key);
+                return slots.isEmpty() ? null : slots;
+            });
+        }
+    }
+    
+    /**
+     * 跳表的键：开始时间，同一时刻开始的会议按ID区分
+     */
+    private record SlotKey(LocalDateTime start, String meetingId) implements Comparable<SlotKey> {
+        
+        static SlotKey of(MeetingBooking booking) {
+            return new SlotKey(booking.getStart(), booking.getMeetingId().getValue());
+        }
+        
+        /**
+         * 排在该时刻所有会议之前的键，用作范围查询的边界
+         */
+        static SlotKey lowest(LocalDateTime start) {
+            return new SlotKey(start, "");
+        }
+        
+        @Override
+        public int compareTo(SlotKey other) {
+            int byStart = start.compareTo(other.start);
+            return byStart != 0 ? byStart : meetingId.compareTo(other.meetingId);
+        }
+    }
+}
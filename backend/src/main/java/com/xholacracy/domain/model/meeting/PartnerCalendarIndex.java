@@ -0,0 +1,18 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+
+/**
+ * 伙伴日程索引
+ * 按组织提供已建立索引的伙伴日程，检查冲突和查找空闲时段不必逐个扫描会议
+ */
+public interface PartnerCalendarIndex {
+    
+    /**
+     * 获取组织的伙伴日程
+     *
+     * @param organizationId 组织ID
+     * @return 组织内已计划和进行中会议的日程索引
+     */
+    PartnerCalendar calendarOf(OrganizationId organizationId);
+}
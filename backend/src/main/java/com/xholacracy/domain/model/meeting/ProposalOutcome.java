@@ -2,6 +2,8 @@ package com.xholacracy.domain.model.meeting;
 
 import com.xholacracy.domain.model.proposal.ProposalId;
 import com.xholacracy.domain.model.proposal.ProposalStatus;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.EnumType;
@@ -18,7 +20,12 @@ import java.util.Objects;
 @Embeddable
 public class ProposalOutcome {
     
+    /**
+     * 与会议记录中的键共用proposal_id列，由键写入
+     */
     @Embedded
+    @AttributeOverride(name = "value",
+        column = @Column(name = "proposal_id", insertable = false, updatable = false))
     private ProposalId proposalId;
     
     @Enumerated(EnumType.STRING)
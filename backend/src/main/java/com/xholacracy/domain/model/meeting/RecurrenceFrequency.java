@@ -0,0 +1,33 @@
+package com.xholacracy.domain.model.meeting;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 会议系列的重复频率枚举
+ */
+public enum RecurrenceFrequency {
+    /**
+     * 每天
+     */
+    DAILY(ChronoUnit.DAYS),
+    
+    /**
+     * 每周
+     */
+    WEEKLY(ChronoUnit.WEEKS),
+    
+    /**
+     * 每月，按首次会议的日期对齐，月份没有该日期时取当月最后一天
+     */
+    MONTHLY(ChronoUnit.MONTHS);
+    
+    private final ChronoUnit unit;
+    
+    RecurrenceFrequency(ChronoUnit unit) {
+        this.unit = unit;
+    }
+    
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+}
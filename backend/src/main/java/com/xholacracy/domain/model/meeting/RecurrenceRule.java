@@ -0,0 +1,146 @@
+package com.xholacracy.domain.model.meeting;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 重复规则值对象
+ * 第n次会议的时间总是从首次会议直接推算，按月重复时不会因月末截断而逐月漂移
+ *
+ * 值对象特征：不可变、通过值相等
+ */
+@Embeddable
+public class RecurrenceRule {
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", nullable = false)
+    private RecurrenceFrequency frequency;
+    
+    @Column(name = "interval_count", nullable = false)
+    private int interval;
+    
+    /**
+     * 最后一次会议不晚于这一天，为空表示不限
+     */
+    @Column(name = "until_date")
+    private LocalDate until;
+    
+    // JPA需要无参构造函数
+    protected RecurrenceRule() {
+    }
+    
+    private RecurrenceRule(RecurrenceFrequency frequency, int interval, LocalDate until) {
+        this.frequency = Objects.requireNonNull(frequency, "Frequency cannot be null");
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least 1");
+        }
+        this.interval = interval;
+        this.until = until;
+    }
+    
+    /**
+     * 创建重复规则
+     *
+     * @param frequency 重复频率
+     * @param interval 每隔几个频率单位重复一次
+     * @param until 最后一次会议的最晚日期，可为空
+     */
+    public static RecurrenceRule of(RecurrenceFrequency frequency, int interval, LocalDate until) {
+        return new RecurrenceRule(frequency, interval, until);
+    }
+    
+    /**
+     * 第index次会议的时间，首次会议为第0次
+     */
+    public LocalDateTime occurrence(LocalDateTime first, long index) {
+        return first.plus(index * interval, frequency.getUnit());
+    }
+    
+    /**
+     * 列出[from, to)内的会议时间，until之后的不算
+     *
+     * @param first 首次会议时间
+     * @param from 开始（含）
+     * @param to 结束（不含）
+     * @return 按时间排序的会议时间
+     */
+    public List<LocalDateTime> occurrencesBetween(LocalDateTime first, LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        for (long index = firstIndexAtOrAfter(first, from); ; index++) {
+            LocalDateTime occurrence = occurrence(first, index);
+            if (!occurrence.isBefore(to) || isAfterUntil(occurrence)) {
+                return occurrences;
+            }
+            occurrences.add(occurrence);
+        }
+    }
+    
+    /**
+     * 检查时间是否已超过最后一次会议的最晚日期
+     */
+    public boolean isAfterUntil(LocalDateTime time) {
+        return until != null && time.toLocalDate().isAfter(until);
+    }
+    
+    /**
+     * 把最后一次会议的最晚日期提前到lastDate，已更早的保持不变
+     */
+    public RecurrenceRule endingOn(LocalDate lastDate) {
+        if (until != null && until.isBefore(lastDate)) {
+            return this;
+        }
+        return new RecurrenceRule(frequency, interval, lastDate);
+    }
+    
+    /**
+     * 按频率单位数估算起点，再向后修正到第一个不早于from的会议
+     */
+    private long firstIndexAtOrAfter(LocalDateTime first, LocalDateTime from) {
+        if (!from.isAfter(first)) {
+            return 0;
+        }
+        long index = frequency.getUnit().between(first, from) / interval;
+        while (occurrence(first, index).isBefore(from)) {
+            index++;
+        }
+        return index;
+    }
+    
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+    
+    public int getInterval() {
+        return interval;
+    }
+    
+    public LocalDate getUntil() {
+        return until;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RecurrenceRule that = (RecurrenceRule) o;
+        return interval == that.interval && frequency == that.frequency && Objects.equals(until, that.until);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, interval, until);
+    }
+    
+    @Override
+    public String toString() {
+        return frequency + "/" + interval + (until != null ? " until " + until : "");
+    }
+}
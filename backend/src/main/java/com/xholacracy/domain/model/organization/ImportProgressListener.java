@@ -0,0 +1,17 @@
+package com.xholacracy.domain.model.organization;
+
+/**
+ * 批量导入进度监听器
+ */
+@FunctionalInterface
+public interface ImportProgressListener {
+    
+    /**
+     * 报告已写入的实体数
+     *
+     * @param phase 当前阶段，如circles、roles
+     * @param written 已写入的实体总数
+     * @param total 需要写入的实体总数
+     */
+    void onProgress(String phase, int written, int total);
+}
@@ -4,6 +4,8 @@ import com.xholacracy.domain.model.circle.Circle;
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.exception.ValidationException;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -22,10 +24,13 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "organizations")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "organization")
 @EntityListeners(AuditingEntityListener.class)
 public class Organization {
     
     @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "id"))
     private OrganizationId id;
     
     @Column(nullable = false)
@@ -54,6 +59,9 @@ public class Organization {
         this.id = id;
         this.name = name;
         this.description = description;
+        // 审计监听器在持久化时会覆盖；批量导入绕过监听器，依赖这里的初始值
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
     }
     
     /**
@@ -0,0 +1,32 @@
+package com.xholacracy.domain.model.organization;
+
+import com.xholacracy.domain.model.circle.Circle;
+
+import java.util.List;
+
+/**
+ * 组织批量写入接口
+ * 在一个事务中写入整个导入图，要么全部写入，要么全部不写入
+ *
+ * 实现将在基础设施层提供
+ */
+public interface OrganizationBulkWriter {
+    
+    /**
+     * 写入导入图
+     *
+     * @param graph 已通过领域规则校验的导入图
+     * @param listener 进度监听器
+     */
+    void write(OrganizationGraph graph, ImportProgressListener listener);
+    
+    /**
+     * 向已写入的组织追加一批圈子，连同其角色和角色分配
+     * 用于分批写入无法一次放进内存的大组织
+     *
+     * @param organizationId 已写入的组织ID
+     * @param circles 圈子，父圈子已写入或在本批中排在子圈子之前
+     * @param listener 进度监听器，报告的是本批内的数量
+     */
+    void append(OrganizationId organizationId, List<Circle> circles, ImportProgressListener listener);
+}
@@ -0,0 +1,87 @@
+package com.xholacracy.domain.model.organization;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.partner.Partner;
+import com.xholacracy.domain.model.role.Role;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 组织导入图
+ * 一次导入产生的完整组织结构：组织、全部圈子（锚圈子在前，父圈子总在子圈子之前）和需要新建的伙伴；
+ * 角色挂在各自的圈子上，角色分配挂在各自的角色上
+ *
+ * 导入图在内存中由领域工厂方法构建，构建成功即满足各实体的创建规则
+ */
+public class OrganizationGraph {
+    
+    private final Organization organization;
+    private final List<Circle> circles;
+    private final List<Partner> newPartners;
+    
+    private OrganizationGraph(Organization organization, List<Circle> circles, List<Partner> newPartners) {
+        this.organization = organization;
+        this.circles = circles;
+        this.newPartners = newPartners;
+    }
+    
+    /**
+     * 创建导入图
+     *
+     * @param organization 组织
+     * @param circles 全部圈子，第一个必须是组织的锚圈子，父圈子排在子圈子之前
+     * @param newPartners 需要新建的伙伴
+     * @return 导入图
+     */
+    public static OrganizationGraph of(Organization organization, List<Circle> circles, List<Partner> newPartners) {
+        Objects.requireNonNull(organization, "Organization cannot be null");
+        if (circles == null || circles.isEmpty() || !circles.get(0).getId().equals(organization.getAnchorCircleId())) {
+            throw new IllegalArgumentException("Circles must start with the anchor circle");
+        }
+        return new OrganizationGraph(organization, List.copyOf(circles), List.copyOf(newPartners));
+    }
+    
+    public Organization getOrganization() {
+        return organization;
+    }
+    
+    public List<Circle> getCircles() {
+        return circles;
+    }
+    
+    public List<Partner> getNewPartners() {
+        return newPartners;
+    }
+    
+    /**
+     * 角色总数（含特殊角色）
+     */
+    public int getRoleCount() {
+        return circles.stream().mapToInt(circle -> circle.getRoles().size()).sum();
+    }
+    
+    /**
+     * 角色分配总数
+     */
+    public int getAssignmentCount() {
+        return circles.stream()
+            .flatMap(circle -> circle.getRoles().stream())
+            .mapToInt(role -> role.getAssignments().size())
+            .sum();
+    }
+    
+    /**
+     * 需要写入的实体总数，用于报告进度
+     */
+    public int getEntityCount() {
+        return 1 + circles.size() + newPartners.size() + getRoleCount() + getAssignmentCount();
+    }
+    
+    /**
+     * 全部角色，按圈子顺序
+     */
+    public List<Role> getRoles() {
+        return circles.stream().flatMap(circle -> circle.getRoles().stream()).toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.xholacracy.domain.model.organization;
+
+import com.xholacracy.domain.model.circle.Circle;
+
+/**
+ * 组织结构读取接口
+ * 深度优先遍历组织的圈子树，逐层按父圈子批量加载，内存占用只与树的深度和扇出有关，与组织规模无关
+ *
+ * 访问到的圈子已加载职责、角色、角色职责、领域和角色分配，但已与持久化上下文分离，
+ * 访问者不能再导航子圈子和父圈子关联；圈子目的是延迟加载的文本，随圈子单独传入，不能从分离的圈子读取。
+ * 要得到一致的快照，调用方需在可重复读事务中遍历
+ *
+ * 实现将在基础设施层提供
+ */
+public interface OrganizationStructureReader {
+    
+    /**
+     * 遍历组织的全部圈子，父圈子总在子圈子之前进入、在子圈子之后退出
+     *
+     * @param organizationId 组织ID
+     * @param visitor 圈子访问者
+     */
+    void traverse(OrganizationId organizationId, CircleVisitor visitor);
+    
+    /**
+     * 圈子访问者
+     */
+    interface CircleVisitor {
+        
+        /**
+         * 进入圈子，此时其子圈子尚未访问
+         *
+         * @param circle 圈子
+         * @param purpose 圈子目的
+         */
+        void enter(Circle circle, String purpose);
+        
+        /**
+         * 退出圈子，此时其全部子圈子已访问
+         */
+        void exit(Circle circle);
+    }
+}
@@ -5,6 +5,8 @@ import com.xholacracy.domain.model.role.Role;
 import com.xholacracy.domain.model.role.RoleAssignment;
 import com.xholacracy.domain.model.role.RoleId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,9 +20,12 @@ import java.util.stream.Collectors;
  */
 @Entity
 @Table(name = "partners")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "partner")
 public class Partner {
     
     @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "id"))
     private PartnerId id;
     
     @Column(nullable = false)
@@ -1,6 +1,10 @@
 package com.xholacracy.domain.model.partner;
 
+import com.xholacracy.domain.model.organization.OrganizationId;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -48,4 +52,19 @@ public interface PartnerRepository {
      * 检查邮箱是否已存在
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * 批量查询伙伴名称（一次IN查询）
+     */
+    Map<PartnerId, String> findNamesByIds(Collection<PartnerId> partnerIds);
+    
+    /**
+     * 按邮箱批量查询伙伴ID（一次IN查询），不存在的邮箱不在结果中
+     */
+    Map<String, PartnerId> findIdsByEmails(Collection<String> emails);
+    
+    /**
+     * 查询在组织中担任任何角色的伙伴
+     */
+    List<Partner> findAssignedInOrganization(OrganizationId organizationId);
 }
@@ -0,0 +1,101 @@
+package com.xholacracy.domain.model.permission;
+
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.role.DomainControlType;
+
+/**
+ * 圈子内的能力枚举
+ * 每个能力占用一个位，伙伴在一个圈子内的全部能力压缩为一个long
+ */
+public enum Capability {
+    
+    /**
+     * 圈子成员 - 在圈子内担任角色，或担任直属子圈子的圈引导或圈代表
+     */
+    MEMBER,
+    
+    /**
+     * 分配圈子内的角色 - 圈引导
+     */
+    ASSIGN_ROLES,
+    
+    /**
+     * 主持治理会议 - 协调员
+     */
+    FACILITATE_MEETINGS,
+    
+    /**
+     * 安排治理会议 - 秘书
+     */
+    SCHEDULE_MEETINGS,
+    
+    /**
+     * 记录会议结果和治理记录 - 秘书
+     */
+    RECORD_OUTCOMES,
+    
+    /**
+     * 在上级圈子中代表本圈子 - 圈代表
+     */
+    REPRESENT_CIRCLE,
+    
+    /**
+     * 独占控制圈子内的某个领域
+     */
+    CONTROL_DOMAIN,
+    
+    /**
+     * 与其他角色共享控制圈子内的某个领域
+     */
+    SHARE_DOMAIN;
+    
+    private final long bit = 1L << ordinal();
+    
+    /**
+     * @return 该能力对应的位
+     */
+    public long bit() {
+        return bit;
+    }
+    
+    /**
+     * 判断能力位集中是否包含该能力
+     */
+    public boolean isIn(long capabilities) {
+        return (capabilities & bit) != 0;
+    }
+    
+    /**
+     * 计算多个能力的位集
+     */
+    public static long maskOf(Capability... capabilities) {
+        long mask = 0;
+        for (Capability capability : capabilities) {
+            mask |= capability.bit;
+        }
+        return mask;
+    }
+    
+    /**
+     * 担任特殊角色在所在圈子内获得的能力
+     */
+    public static long grantedBy(SpecialRoleType type) {
+        return switch (type) {
+            case CIRCLE_LEAD -> maskOf(MEMBER, ASSIGN_ROLES);
+            case FACILITATOR -> maskOf(MEMBER, FACILITATE_MEETINGS);
+            case SECRETARY -> maskOf(MEMBER, SCHEDULE_MEETINGS, RECORD_OUTCOMES);
+            case CIRCLE_REP -> maskOf(MEMBER, REPRESENT_CIRCLE);
+        };
+    }
+    
+    /**
+     * 角色声明领域在所在圈子内获得的能力，咨询控制不授予能力
+     */
+    public static long grantedBy(DomainControlType type) {
+        return switch (type) {
+            case EXCLUSIVE -> CONTROL_DOMAIN.bit;
+            case SHARED -> SHARE_DOMAIN.bit;
+            case ADVISORY -> 0;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.xholacracy.domain.model.permission;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 伙伴权限
+ * 伙伴在每个圈子内的能力预先编译为一个位集，检查权限只需一次哈希查找和一次位测试
+ *
+ * 值对象特征：不可变
+ */
+public final class PartnerPermissions {
+    
+    private final PartnerId partnerId;
+    private final Map<CircleId, Long> capabilitiesByCircle;
+    private final Set<OrganizationId> organizationIds;
+    
+    private PartnerPermissions(PartnerId partnerId, Map<CircleId, Long> capabilitiesByCircle,
+                               Set<OrganizationId> organizationIds) {
+        this.partnerId = partnerId;
+        this.capabilitiesByCircle = Map.copyOf(capabilitiesByCircle);
+        this.organizationIds = Set.copyOf(organizationIds);
+    }
+    
+    /**
+     * 从伙伴担任的角色编译权限
+     * 担任任何角色即成为所在圈子的成员；圈引导和圈代表同时是上级圈子的成员
+     */
+    public static PartnerPermissions compile(PartnerId partnerId, Collection<PermissionGrant> grants) {
+        Map<CircleId, Long> capabilities = new HashMap<>();
+        Set<OrganizationId> organizationIds = new HashSet<>();
+        for (PermissionGrant grant : grants) {
+            organizationIds.add(grant.getOrganizationId());
+            long mask = Capability.MEMBER.bit();
+            SpecialRoleType specialRoleType = grant.getSpecialRoleType();
+            if (specialRoleType != null) {
+                mask |= Capability.grantedBy(specialRoleType);
+                if (grant.getParentCircleId() != null
+                        && (specialRoleType == SpecialRoleType.CIRCLE_LEAD || specialRoleType == SpecialRoleType.CIRCLE_REP)) {
+                    capabilities.merge(grant.getParentCircleId(), Capability.MEMBER.bit(), (a, b) -> a | b);
+                }
+            }
+            if (grant.getDomainControlType() != null) {
+                mask |= Capability.grantedBy(grant.getDomainControlType());
+            }
+            capabilities.merge(grant.getCircleId(), mask, (a, b) -> a | b);
+        }
+        return new PartnerPermissions(partnerId, capabilities, organizationIds);
+    }
+    
+    /**
+     * 检查伙伴在圈子内是否拥有能力
+     */
+    public boolean has(CircleId circleId, Capability capability) {
+        Long capabilities = capabilitiesByCircle.get(circleId);
+        return capabilities != null && capability.isIn(capabilities);
+    }
+    
+    /**
+     * 检查伙伴是否在组织内担任任何角色
+     */
+    public boolean isMemberOf(OrganizationId organizationId) {
+        return organizationIds.contains(organizationId);
+    }
+    
+    /**
+     * @return 伙伴在圈子内的全部能力
+     */
+    public Set<Capability> capabilitiesIn(CircleId circleId) {
+        long capabilities = capabilitiesByCircle.getOrDefault(circleId, 0L);
+        Set<Capability> result = EnumSet.noneOf(Capability.class);
+        for (Capability capability : Capability.values()) {
+            if (capability.isIn(capabilities)) {
+                result.add(capability);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * @return 伙伴拥有任何能力的圈子
+     */
+    public Set<CircleId> getCircleIds() {
+        return capabilitiesByCircle.keySet();
+    }
+    
+    public PartnerId getPartnerId() {
+        return partnerId;
+    }
+    
+    @Override
+    public String toString() {
+        return "PartnerPermissions{" +
+                "partnerId=" + partnerId +
+                ", circles=" + capabilitiesByCircle.size() +
+                '}';
+    }
+}
@@ -0,0 +1,35 @@
+package com.xholacracy.domain.model.permission;
+
+import com.xholacracy.domain.exception.PermissionDeniedException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.partner.PartnerId;
+
+/**
+ * 权限检查接口
+ * 实现方负责缓存编译好的伙伴权限，并在角色分配变化时失效
+ */
+public interface PermissionChecker {
+    
+    /**
+     * 获取伙伴编译好的权限
+     */
+    PartnerPermissions permissionsOf(PartnerId partnerId);
+    
+    /**
+     * 检查伙伴在圈子内是否拥有能力
+     */
+    default boolean hasCapability(PartnerId partnerId, CircleId circleId, Capability capability) {
+        return permissionsOf(partnerId).has(circleId, capability);
+    }
+    
+    /**
+     * 要求伙伴在圈子内拥有能力
+     *
+     * @throws PermissionDeniedException 如果伙伴没有该能力
+     */
+    default void requireCapability(PartnerId partnerId, CircleId circleId, Capability capability) {
+        if (!hasCapability(partnerId, circleId, capability)) {
+            throw new PermissionDeniedException(capability.name(), "circle " + circleId.getValue());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.xholacracy.domain.model.permission;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.role.DomainControlType;
+
+/**
+ * 权限来源
+ * 伙伴担任的一个角色（及其声明的一个领域），由仓储直接投影查询生成
+ */
+public final class PermissionGrant {
+    
+    private final OrganizationId organizationId;
+    private final CircleId circleId;
+    private final CircleId parentCircleId;
+    private final SpecialRoleType specialRoleType;
+    private final DomainControlType domainControlType;
+    
+    /**
+     * @param organizationId 角色所在组织ID
+     * @param circleId 角色所在圈子ID
+     * @param parentCircleId 角色所在圈子的上级圈子ID（锚定圈子为null）
+     * @param specialRoleType 特殊角色类型（普通角色为null）
+     * @param domainControlType 角色声明的领域的控制类型（没有领域时为null）
+     */
+    public PermissionGrant(String organizationId, String circleId, String parentCircleId,
+                           SpecialRoleType specialRoleType, DomainControlType domainControlType) {
+        this.organizationId = OrganizationId.of(organizationId);
+        this.circleId = CircleId.of(circleId);
+        this.parentCircleId = parentCircleId != null ? CircleId.of(parentCircleId) : null;
+        this.specialRoleType = specialRoleType;
+        this.domainControlType = domainControlType;
+    }
+    
+    public OrganizationId getOrganizationId() {
+        return organizationId;
+    }
+    
+    public CircleId getCircleId() {
+        return circleId;
+    }
+    
+    public CircleId getParentCircleId() {
+        return parentCircleId;
+    }
+    
+    public SpecialRoleType getSpecialRoleType() {
+        return specialRoleType;
+    }
+    
+    public DomainControlType getDomainControlType() {
+        return domainControlType;
+    }
+}
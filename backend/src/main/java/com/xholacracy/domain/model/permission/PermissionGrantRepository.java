@@ -0,0 +1,16 @@
+package com.xholacracy.domain.model.permission;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+
+import java.util.List;
+
+/**
+ * PermissionGrant Repository接口
+ */
+public interface PermissionGrantRepository {
+    
+    /**
+     * 用一次投影查询获取伙伴担任的所有角色及其领域，不加载角色分配和圈子实体
+     */
+    List<PermissionGrant> findByPartnerId(PartnerId partnerId);
+}
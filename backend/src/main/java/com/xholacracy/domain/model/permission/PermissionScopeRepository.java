@@ -0,0 +1,31 @@
+package com.xholacracy.domain.model.permission;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+
+import java.util.Optional;
+
+/**
+ * 权限范围Repository接口
+ * 查找写操作目标所在的圈子，用于在处理请求之前检查伙伴在该圈子内的能力
+ */
+public interface PermissionScopeRepository {
+    
+    /**
+     * 用一次投影查询获取提案所在圈子，不加载提案聚合
+     */
+    Optional<CircleId> findCircleOfProposal(OrganizationId organizationId, ProposalId proposalId);
+    
+    /**
+     * 用一次投影查询获取会议所在圈子，不加载会议聚合
+     */
+    Optional<CircleId> findCircleOfMeeting(OrganizationId organizationId, MeetingId meetingId);
+    
+    /**
+     * 用一次投影查询获取会议系列所在圈子，不加载会议系列聚合
+     */
+    Optional<CircleId> findCircleOfMeetingSeries(OrganizationId organizationId, MeetingSeriesId seriesId);
+}
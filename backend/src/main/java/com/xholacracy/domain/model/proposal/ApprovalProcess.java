@@ -27,7 +27,10 @@ public class ApprovalProcess {
     private ApprovalThreshold approvalThreshold;
     
     @ElementCollection
-    @CollectionTable(name = "required_approvers", joinColumns = @JoinColumn(name = "proposal_id"))
+    @CollectionTable(name = "required_approvers", joinColumns = {
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id"),
+        @JoinColumn(name = "proposal_id", referencedColumnName = "id")
+    })
     @Column(name = "approver_id")
     private List<String> requiredApproverIds = new ArrayList<>();
     
@@ -34,7 +34,7 @@ public class DecisionEvent {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "id", column = @Column(name = "actor_id"))
+        @AttributeOverride(name = "value", column = @Column(name = "actor_id"))
     })
     private PartnerId actorId;
     
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.LazyGroup;
 
 import java.time.LocalDateTime;
 
@@ -28,10 +29,12 @@ public class Objection {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "id", column = @Column(name = "objector_id"))
+        @AttributeOverride(name = "value", column = @Column(name = "objector_id"))
     })
     private PartnerId objectorId;
     
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("text")
     @Column(name = "reasoning", nullable = false, length = 2000)
     private String reasoning;
     
@@ -40,7 +43,7 @@ public class Objection {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "id", column = @Column(name = "validated_by"))
+        @AttributeOverride(name = "value", column = @Column(name = "validated_by"))
     })
     private PartnerId validatedBy;
     
@@ -1,15 +1,20 @@
 package com.xholacracy.domain.model.proposal;
 
+import com.xholacracy.domain.event.ProposalChangedEvent;
 import com.xholacracy.domain.exception.InvalidStateTransitionException;
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,8 +28,11 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Proposal {
     
+    /**
+     * 提案ID和所属组织ID，组织ID是分区键
+     */
     @EmbeddedId
-    private ProposalId id;
+    private ProposalKey key;
     
     @Column(name = "title", nullable = false, length = 200)
     private String title;
@@ -38,13 +46,13 @@ public class Proposal {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "id", column = @Column(name = "circle_id"))
+        @AttributeOverride(name = "value", column = @Column(name = "circle_id"))
     })
     private CircleId circleId;
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "id", column = @Column(name = "proposer_id"))
+        @AttributeOverride(name = "value", column = @Column(name = "proposer_id"))
     })
     private PartnerId proposerId;
     
@@ -58,40 +66,81 @@ public class Proposal {
     @Column(name = "submitted_date")
     private LocalDateTime submittedDate;
     
+    /**
+     * 乐观锁版本，同时作为HTTP ETag的来源
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @Embedded
     private ApprovalProcess approvalProcess;
     
+    /**
+     * 子表通过组织ID和提案ID关联提案，组织ID随插入语句一起写入
+     */
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "proposal_id")
+    @JoinColumns({
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id",
+            nullable = false, updatable = false),
+        @JoinColumn(name = "proposal_id", referencedColumnName = "id", nullable = false, updatable = false)
+    })
     @OrderBy("timestamp ASC")
     private List<DecisionEvent> decisionHistory = new ArrayList<>();
     
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "proposal_id")
+    @JoinColumns({
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id",
+            nullable = false, updatable = false),
+        @JoinColumn(name = "proposal_id", referencedColumnName = "id", nullable = false, updatable = false)
+    })
     private List<Question> questions = new ArrayList<>();
     
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "proposal_id")
+    @JoinColumns({
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id",
+            nullable = false, updatable = false),
+        @JoinColumn(name = "proposal_id", referencedColumnName = "id", nullable = false, updatable = false)
+    })
     @OrderBy("orderIndex ASC")
     private List<Reaction> reactions = new ArrayList<>();
     
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "proposal_id")
+    @JoinColumns({
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id",
+            nullable = false, updatable = false),
+        @JoinColumn(name = "proposal_id", referencedColumnName = "id", nullable = false, updatable = false)
+    })
     private List<Amendment> amendments = new ArrayList<>();
     
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "proposal_id")
+    @JoinColumns({
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id",
+            nullable = false, updatable = false),
+        @JoinColumn(name = "proposal_id", referencedColumnName = "id", nullable = false, updatable = false)
+    })
     private List<Objection> objections = new ArrayList<>();
     
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "proposal_id")
+    @JoinColumns({
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id",
+            nullable = false, updatable = false),
+        @JoinColumn(name = "proposal_id", referencedColumnName = "id", nullable = false, updatable = false)
+    })
     private List<Vote> votes = new ArrayList<>();
     
+    /**
+     * 待发布的领域事件，保存时由Spring Data发布后清空
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<ProposalChangedEvent> domainEvents = new ArrayList<>();
+    
     /**
      * 创建提案（工厂方法）
      */
     public static Proposal create(String title, Tension tension, ProposalType type, 
-                                  CircleId circleId, PartnerId proposerId) {
+                                  OrganizationId organizationId, CircleId circleId, PartnerId proposerId) {
         if (title == null || title.trim().isEmpty()) {
             throw new IllegalArgumentException("Proposal title cannot be null or empty");
         }
@@ -101,6 +150,9 @@ public class Proposal {
         if (type == null) {
             throw new IllegalArgumentException("Proposal type cannot be null");
         }
+        if (organizationId == null) {
+            throw new IllegalArgumentException("Organization ID cannot be null");
+        }
         if (circleId == null) {
             throw new IllegalArgumentException("Circle ID cannot be null");
         }
@@ -109,7 +161,7 @@ public class Proposal {
         }
         
         Proposal proposal = new Proposal();
-        proposal.id = ProposalId.generate();
+        proposal.key = ProposalKey.of(organizationId, ProposalId.generate());
         proposal.title = title;
         proposal.tension = tension;
         proposal.proposalType = type;
@@ -354,7 +406,8 @@ public class Proposal {
             throw new IllegalArgumentException("Vote cannot be null");
         }
         this.votes.add(vote);
-        this.addDecisionEvent(DecisionEventType.VOTE_CAST, vote.getVoterId(), "Vote cast: " + vote.getVoteType());
+        this.addDecisionEvent(DecisionEventType.VOTE_CAST, vote.getVoteType(), vote.getVoterId(),
+            "Vote cast: " + vote.getVoteType());
     }
     
     /**
@@ -431,11 +484,43 @@ public class Proposal {
         return Collections.unmodifiableList(votes);
     }
     
+    public ProposalId getId() {
+        return key.getId();
+    }
+    
+    public OrganizationId getOrganizationId() {
+        return key.getOrganizationId();
+    }
+    
+    /**
+     * 获取待发布的领域事件
+     */
+    @DomainEvents
+    public Collection<ProposalChangedEvent> domainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+    
+    /**
+     * 领域事件发布后清空
+     */
+    @AfterDomainEventPublication
+    public void clearDomainEvents() {
+        domainEvents.clear();
+    }
+    
     /**
      * 添加决策事件
      */
     private void addDecisionEvent(DecisionEventType type, PartnerId actorId, String content) {
+        addDecisionEvent(type, null, actorId, content);
+    }
+    
+    /**
+     * 添加决策事件并登记对应的领域事件
+     */
+    private void addDecisionEvent(DecisionEventType type, VoteType voteType, PartnerId actorId, String content) {
         DecisionEvent event = DecisionEvent.create(type, actorId, content);
         this.decisionHistory.add(event);
+        this.domainEvents.add(ProposalChangedEvent.of(this, type, voteType, actorId, event.getTimestamp()));
     }
 }
@@ -0,0 +1,66 @@
+package com.xholacracy.domain.model.proposal;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 提案持久化主键
+ * 提案表按组织ID哈希分区，分区键必须是主键的一部分；
+ * 按主键查询时数据库只访问该组织所在的分区
+ */
+@Embeddable
+public class ProposalKey implements Serializable {
+    
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "organization_id"))
+    private OrganizationId organizationId;
+    
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "id"))
+    private ProposalId id;
+    
+    // JPA需要无参构造函数
+    protected ProposalKey() {
+    }
+    
+    private ProposalKey(OrganizationId organizationId, ProposalId id) {
+        this.organizationId = Objects.requireNonNull(organizationId, "OrganizationId cannot be null");
+        this.id = Objects.requireNonNull(id, "ProposalId cannot be null");
+    }
+    
+    public static ProposalKey of(OrganizationId organizationId, ProposalId id) {
+        return new ProposalKey(organizationId, id);
+    }
+    
+    public OrganizationId getOrganizationId() {
+        return organizationId;
+    }
+    
+    public ProposalId getId() {
+        return id;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProposalKey that = (ProposalKey) o;
+        return Objects.equals(organizationId, that.organizationId) && Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(organizationId, id);
+    }
+    
+    @Override
+    public String toString() {
+        return organizationId + "/" + id;
+    }
+}
@@ -1,12 +1,16 @@
 package com.xholacracy.domain.model.proposal;
 
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Proposal Repository 接口
+ * 提案按组织分区存储，按ID和圈子的查询都需要提供组织ID，只访问该组织的分区
  */
 public interface ProposalRepository {
     
@@ -18,22 +22,22 @@ public interface ProposalRepository {
     /**
      * 根据 ID 查找提案
      */
-    Optional<Proposal> findById(ProposalId id);
+    Optional<Proposal> findById(OrganizationId organizationId, ProposalId id);
     
     /**
-     * 查找所有提案
+     * 查找组织的所有提案
      */
-    List<Proposal> findAll();
+    List<Proposal> findByOrganizationId(OrganizationId organizationId);
     
     /**
      * 根据圈子 ID 查找提案
      */
-    List<Proposal> findByCircleId(CircleId circleId);
+    List<Proposal> findByCircleId(OrganizationId organizationId, CircleId circleId);
     
     /**
-     * 根据状态查找提案
+     * 根据状态查找组织内的提案
      */
-    List<Proposal> findByStatus(ProposalStatus status);
+    List<Proposal> findByStatus(OrganizationId organizationId, ProposalStatus status);
     
     /**
      * 删除提案
@@ -43,5 +47,17 @@ public interface ProposalRepository {
     /**
      * 检查提案是否存在
      */
-    boolean existsById(ProposalId id);
+    boolean existsById(OrganizationId organizationId, ProposalId id);
+    
+    /**
+     * 批量查询提案标题（一次IN查询）
+     * 标题从不分区的提案摘要读取，调用方不需要知道提案所属组织
+     */
+    Map<ProposalId, String> findTitlesByIds(Collection<ProposalId> ids);
+    
+    /**
+     * 查询提案的版本标记（不加载聚合）
+     * 提案或其异议的验证结果变化时标记随之变化
+     */
+    Optional<String> findVersionTagById(OrganizationId organizationId, ProposalId id);
 }
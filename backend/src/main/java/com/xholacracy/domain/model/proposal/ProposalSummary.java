@@ -0,0 +1,143 @@
+package com.xholacracy.domain.model.proposal;
+
+import com.xholacracy.domain.event.ProposalChangedEvent;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ProposalSummary 读模型 - 提案摘要
+ * 由提案变更事件增量维护的反范式投影，供列表和筛选查询使用，
+ * 避免加载提案聚合及其集合
+ */
+@Entity
+@Table(name = "proposal_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProposalSummary {
+
+    @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "proposal_id"))
+    private ProposalId proposalId;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "organization_id", nullable = false))
+    private OrganizationId organizationId;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "circle_id", nullable = false))
+    private CircleId circleId;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "proposer_id", nullable = false))
+    private PartnerId proposerId;
+
+    @Column(name = "title", nullable = false, length = 500)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "proposal_type", nullable = false)
+    private ProposalType proposalType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ProposalStatus status;
+
+    @Column(name = "approve_count", nullable = false)
+    private int approveCount;
+
+    @Column(name = "object_count", nullable = false)
+    private int objectCount;
+
+    @Column(name = "abstain_count", nullable = false)
+    private int abstainCount;
+
+    @Column(name = "objection_count", nullable = false)
+    private int objectionCount;
+
+    @Column(name = "question_count", nullable = false)
+    private int questionCount;
+
+    @Column(name = "reaction_count", nullable = false)
+    private int reactionCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_event_type", nullable = false)
+    private DecisionEventType lastEventType;
+
+    @Column(name = "last_event_at", nullable = false)
+    private LocalDateTime lastEventAt;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    /**
+     * 根据提案的首个事件创建摘要
+     */
+    public static ProposalSummary open(ProposalChangedEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+
+        ProposalSummary summary = new ProposalSummary();
+        summary.proposalId = event.getProposalId();
+        summary.organizationId = event.getOrganizationId();
+        summary.circleId = event.getCircleId();
+        summary.proposerId = event.getProposerId();
+        summary.proposalType = event.getProposalType();
+        summary.createdDate = event.getCreatedDate();
+        summary.apply(event);
+        return summary;
+    }
+
+    /**
+     * 应用提案变更事件
+     */
+    public void apply(ProposalChangedEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        if (!this.proposalId.equals(event.getProposalId())) {
+            throw new IllegalArgumentException("Event does not belong to this proposal summary");
+        }
+
+        this.title = event.getTitle();
+        this.status = event.getStatus();
+        this.lastEventType = event.getEventType();
+        this.lastEventAt = event.getOccurredAt();
+
+        switch (event.getEventType()) {
+            case VOTE_CAST -> countVote(event.getVoteType());
+            case OBJECTION_RAISED -> this.objectionCount++;
+            case QUESTION_ASKED -> this.questionCount++;
+            case REACTION_ADDED -> this.reactionCount++;
+            default -> {
+                // 其他事件只更新状态和最后活动时间
+            }
+        }
+    }
+
+    /**
+     * 获取投票总数
+     */
+    public int getVoteCount() {
+        return approveCount + objectCount + abstainCount;
+    }
+
+    private void countVote(VoteType voteType) {
+        if (voteType == null) {
+            return;
+        }
+        switch (voteType) {
+            case APPROVE -> this.approveCount++;
+            case OBJECT -> this.objectCount++;
+            case ABSTAIN -> this.abstainCount++;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.xholacracy.domain.model.proposal;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProposalSummary Repository 接口
+ * 提案摘要读模型，列表按最后活动时间倒序返回，列表查询都限定在一个组织内
+ */
+public interface ProposalSummaryRepository {
+
+    /**
+     * 保存提案摘要
+     */
+    ProposalSummary save(ProposalSummary summary);
+
+    /**
+     * 根据提案 ID 查找摘要
+     */
+    Optional<ProposalSummary> findById(ProposalId proposalId);
+
+    /**
+     * 根据圈子 ID 查找组织内的提案摘要
+     */
+    List<ProposalSummary> findByCircleId(OrganizationId organizationId, CircleId circleId);
+
+    /**
+     * 根据圈子 ID 和状态查找组织内的提案摘要
+     */
+    List<ProposalSummary> findByCircleIdAndStatus(OrganizationId organizationId, CircleId circleId,
+                                                  ProposalStatus status);
+
+    /**
+     * 根据状态查找组织内的提案摘要
+     */
+    List<ProposalSummary> findByStatus(OrganizationId organizationId, ProposalStatus status);
+
+    /**
+     * 删除提案摘要
+     */
+    void deleteById(ProposalId proposalId);
+
+    /**
+     * 按提案ID批量查询提案摘要
+     */
+    List<ProposalSummary> findByIds(Collection<ProposalId> proposalIds);
+}
@@ -28,7 +28,7 @@ public class Question {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "id", column = @Column(name = "asker_id"))
+        @AttributeOverride(name = "value", column = @Column(name = "asker_id"))
     })
     private PartnerId askerId;
     
@@ -28,7 +28,7 @@ public class Reaction {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "id", column = @Column(name = "reactor_id"))
+        @AttributeOverride(name = "value", column = @Column(name = "reactor_id"))
     })
     private PartnerId reactorId;
     
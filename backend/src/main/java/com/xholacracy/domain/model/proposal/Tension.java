@@ -35,7 +35,10 @@ public class Tension {
     private String desiredState;
     
     @ElementCollection
-    @CollectionTable(name = "tension_examples", joinColumns = @JoinColumn(name = "proposal_id"))
+    @CollectionTable(name = "tension_examples", joinColumns = {
+        @JoinColumn(name = "organization_id", referencedColumnName = "organization_id"),
+        @JoinColumn(name = "proposal_id", referencedColumnName = "id")
+    })
     @Column(name = "example", length = 500)
     private List<String> examples = new ArrayList<>();
     
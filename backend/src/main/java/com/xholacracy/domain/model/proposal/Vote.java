@@ -28,7 +28,7 @@ public class Vote {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "id", column = @Column(name = "voter_id"))
+        @AttributeOverride(name = "value", column = @Column(name = "voter_id"))
     })
     private PartnerId voterId;
     
@@ -2,6 +2,8 @@ package com.xholacracy.domain.model.role;
 
 import com.xholacracy.domain.exception.ValidationException;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Objects;
 
 /**
@@ -10,6 +12,8 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "domains")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "domain")
 public class Domain {
     
     @Id
@@ -0,0 +1,76 @@
+package com.xholacracy.domain.model.role;
+
+import java.util.Objects;
+
+/**
+ * 领域声明
+ * 某个角色以某种控制类型声明了某个领域，是领域注册表中的一条索引项
+ */
+public final class DomainClaim {
+    
+    private final RoleId roleId;
+    private final String roleName;
+    private final String domainName;
+    private final DomainControlType controlType;
+    
+    public DomainClaim(RoleId roleId, String roleName, String domainName, DomainControlType controlType) {
+        this.roleId = roleId;
+        this.roleName = roleName;
+        this.domainName = domainName;
+        this.controlType = controlType != null ? controlType : DomainControlType.EXCLUSIVE;
+    }
+    
+    /**
+     * 供仓储投影查询直接构造
+     */
+    public DomainClaim(String roleId, String roleName, String domainName, DomainControlType controlType) {
+        this(RoleId.of(roleId), roleName, domainName, controlType);
+    }
+    
+    public RoleId getRoleId() {
+        return roleId;
+    }
+    
+    public String getRoleName() {
+        return roleName;
+    }
+    
+    public String getDomainName() {
+        return domainName;
+    }
+    
+    public DomainControlType getControlType() {
+        return controlType;
+    }
+    
+    /**
+     * @return 规范化后的领域名称，注册表按它建立索引
+     */
+    public String getNormalizedName() {
+        return DomainRegistry.normalize(domainName);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DomainClaim that = (DomainClaim) o;
+        return Objects.equals(roleId, that.roleId) &&
+               Objects.equals(domainName, that.domainName) &&
+               controlType == that.controlType;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(roleId, domainName, controlType);
+    }
+    
+    @Override
+    public String toString() {
+        return "DomainClaim{" +
+                "roleId=" + roleId +
+                ", domainName='" + domainName + '\'' +
+                ", controlType=" + controlType +
+                '}';
+    }
+}
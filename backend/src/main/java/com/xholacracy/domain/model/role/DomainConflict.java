@@ -0,0 +1,37 @@
+package com.xholacracy.domain.model.role;
+
+import java.util.List;
+
+/**
+ * 领域冲突
+ * 同一个规范化领域名称被多个角色声明，且其中至少有一个是独占声明
+ */
+public final class DomainConflict {
+    
+    private final String normalizedName;
+    private final List<DomainClaim> claims;
+    
+    public DomainConflict(String normalizedName, List<DomainClaim> claims) {
+        this.normalizedName = normalizedName;
+        this.claims = List.copyOf(claims);
+    }
+    
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+    
+    /**
+     * @return 该名称下的全部声明，独占声明在前
+     */
+    public List<DomainClaim> getClaims() {
+        return claims;
+    }
+    
+    @Override
+    public String toString() {
+        return "DomainConflict{" +
+                "normalizedName='" + normalizedName + '\'' +
+                ", claims=" + claims +
+                '}';
+    }
+}
@@ -0,0 +1,175 @@
+package com.xholacracy.domain.model.role;
+
+import com.xholacracy.domain.exception.DomainException;
+import com.xholacracy.domain.model.organization.OrganizationId;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 组织范围的领域注册表
+ * 按规范化领域名称和控制类型索引组织内所有角色的领域声明，
+ * 声明新领域时只需查找同名的索引项即可判断冲突，不必加载每个角色的领域集合
+ *
+ * 冲突规则：独占声明与其他角色对同名领域的任何声明冲突，共享和咨询声明之间互不冲突
+ */
+public class DomainRegistry {
+    
+    private final OrganizationId organizationId;
+    private final Map<String, EnumMap<DomainControlType, List<DomainClaim>>> index = new HashMap<>();
+    
+    private DomainRegistry(OrganizationId organizationId) {
+        this.organizationId = organizationId;
+    }
+    
+    /**
+     * 创建空注册表，用于尚未持久化的新组织
+     */
+    public static DomainRegistry empty(OrganizationId organizationId) {
+        return new DomainRegistry(organizationId);
+    }
+    
+    /**
+     * 用已有声明建立注册表，已有冲突照样收录，由findAllConflicts报告
+     */
+    public static DomainRegistry of(OrganizationId organizationId, Collection<DomainClaim> claims) {
+        DomainRegistry registry = new DomainRegistry(organizationId);
+        claims.forEach(registry::index);
+        return registry;
+    }
+    
+    /**
+     * 规范化领域名称：Unicode兼容规范化、去掉首尾空白、合并连续空白并转为小写
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFKC)
+            .trim()
+            .replaceAll("\\s+", " ")
+            .toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 查找与候选声明冲突的已有声明
+     *
+     * @param roleId 声明领域的角色，同一角色的声明不算冲突
+     * @param domainName 领域名称
+     * @param controlType 控制类型，null视为独占
+     * @return 第一个冲突的声明（如果存在）
+     */
+    public Optional<DomainClaim> findConflict(RoleId roleId, String domainName, DomainControlType controlType) {
+        EnumMap<DomainControlType, List<DomainClaim>> byType = index.get(normalize(domainName));
+        if (byType == null) {
+            return Optional.empty();
+        }
+        if (controlType == null || controlType == DomainControlType.EXCLUSIVE) {
+            for (List<DomainClaim> claims : byType.values()) {
+                Optional<DomainClaim> other = otherRole(claims, roleId);
+                if (other.isPresent()) {
+                    return other;
+                }
+            }
+            return Optional.empty();
+        }
+        return otherRole(byType.getOrDefault(DomainControlType.EXCLUSIVE, List.of()), roleId);
+    }
+    
+    /**
+     * 登记角色对领域的声明
+     *
+     * @throws DomainException 如果与其他角色的声明冲突
+     */
+    public void register(Role role, Domain domain) {
+        findConflict(role.getId(), domain.getName(), domain.getControlType()).ifPresent(existing -> {
+            throw new DomainException("DOMAIN_CONFLICT", conflictMessage(domain.getName(), existing));
+        });
+        index(new DomainClaim(role.getId(), role.getName(), domain.getName(), domain.getControlType()));
+    }
+    
+    /**
+     * 注销角色对领域的声明
+     */
+    public void unregister(Role role, Domain domain) {
+        EnumMap<DomainControlType, List<DomainClaim>> byType = index.get(normalize(domain.getName()));
+        if (byType == null) {
+            return;
+        }
+        List<DomainClaim> claims = byType.get(domain.getControlType());
+        if (claims != null) {
+            claims.removeIf(claim -> claim.getRoleId().equals(role.getId()));
+            if (claims.isEmpty()) {
+                byType.remove(domain.getControlType());
+            }
+        }
+        if (byType.isEmpty()) {
+            index.remove(normalize(domain.getName()));
+        }
+    }
+    
+    /**
+     * 一次遍历注册表找出所有已存在的冲突
+     *
+     * @return 冲突列表，按规范化名称排序
+     */
+    public List<DomainConflict> findAllConflicts() {
+        List<DomainConflict> conflicts = new ArrayList<>();
+        index.forEach((name, byType) -> {
+            List<DomainClaim> exclusive = byType.get(DomainControlType.EXCLUSIVE);
+            if (exclusive == null) {
+                return;
+            }
+            List<DomainClaim> claims = new ArrayList<>();
+            byType.values().forEach(claims::addAll);
+            RoleId first = claims.get(0).getRoleId();
+            if (claims.stream().anyMatch(claim -> !claim.getRoleId().equals(first))) {
+                conflicts.add(new DomainConflict(name, claims));
+            }
+        });
+        conflicts.sort(Comparator.comparing(DomainConflict::getNormalizedName));
+        return conflicts;
+    }
+    
+    /**
+     * 描述候选领域与已有声明的冲突
+     */
+    public static String conflictMessage(String domainName, DomainClaim existing) {
+        return String.format("Domain '%s' is already claimed %s by role %s", domainName,
+            existing.getControlType().name().toLowerCase(Locale.ROOT), existing.getRoleName());
+    }
+    
+    public OrganizationId getOrganizationId() {
+        return organizationId;
+    }
+    
+    /**
+     * @return 注册表中的声明总数
+     */
+    public int size() {
+        return index.values().stream()
+            .flatMap(byType -> byType.values().stream())
+            .mapToInt(List::size)
+            .sum();
+    }
+    
+    private void index(DomainClaim claim) {
+        index.computeIfAbsent(claim.getNormalizedName(), name -> new EnumMap<>(DomainControlType.class))
+            .computeIfAbsent(claim.getControlType(), type -> new ArrayList<>())
+            .add(claim);
+    }
+    
+    private static Optional<DomainClaim> otherRole(List<DomainClaim> claims, RoleId roleId) {
+        return claims.stream()
+            .filter(claim -> !claim.getRoleId().equals(roleId))
+            .findFirst();
+    }
+}
@@ -0,0 +1,15 @@
+package com.xholacracy.domain.model.role;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+
+/**
+ * 领域注册表Repository接口
+ */
+public interface DomainRegistryRepository {
+    
+    /**
+     * 用一次投影查询加载组织内全部领域声明并建立注册表，不加载角色实体和领域集合
+     * 注册表可能是跨请求共享的缓存实例，只能用于冲突检查，不能在其上登记或注销声明
+     */
+    DomainRegistry load(OrganizationId organizationId);
+}
@@ -5,6 +5,8 @@ import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.circle.SpecialRoleType;
 import com.xholacracy.domain.model.partner.PartnerId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -17,9 +19,12 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role")
 public class Role {
     
     @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "id"))
     private RoleId id;
     
     @Column(nullable = false)
@@ -28,11 +33,13 @@ public class Role {
     @Column(length = 1000)
     private String purpose;
     
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role-accountabilities")
     @ElementCollection
     @CollectionTable(name = "role_accountabilities", joinColumns = @JoinColumn(name = "role_id"))
     @Column(name = "accountability")
     private List<String> accountabilities = new ArrayList<>();
     
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role-domains")
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "role_id")
     private List<Domain> domains = new ArrayList<>();
@@ -48,9 +55,17 @@ public class Role {
     @Column(name = "special_role_type")
     private SpecialRoleType specialRoleType;
     
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role-assignments")
     @OneToMany(mappedBy = "role", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RoleAssignment> assignments = new ArrayList<>();
     
+    /**
+     * 乐观锁版本，同时作为HTTP ETag的来源
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -125,6 +140,29 @@ public class Role {
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * 添加领域，并在组织领域注册表中登记声明
+     * 
+     * @throws com.xholacracy.domain.exception.DomainException 如果与其他角色的领域声明冲突
+     */
+    public void addDomain(Domain domain, DomainRegistry registry) {
+        if (domain == null) {
+            throw new ValidationException("domain", "Domain cannot be null");
+        }
+        registry.register(this, domain);
+        addDomain(domain);
+    }
+    
+    /**
+     * 移除领域，并从组织领域注册表中注销声明
+     */
+    public void removeDomain(Domain domain, DomainRegistry registry) {
+        if (domain != null && this.domains.remove(domain)) {
+            registry.unregister(this, domain);
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+    
     /**
      * 添加职责
      */
@@ -228,6 +266,10 @@ public class Role {
         return updatedAt;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
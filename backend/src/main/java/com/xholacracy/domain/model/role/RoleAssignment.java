@@ -3,6 +3,8 @@ package com.xholacracy.domain.model.role;
 import com.xholacracy.domain.exception.ValidationException;
 import com.xholacracy.domain.model.partner.PartnerId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -13,6 +15,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "role_assignments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role-assignment")
 public class RoleAssignment {
     
     @Id
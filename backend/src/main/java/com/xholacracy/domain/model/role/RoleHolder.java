@@ -0,0 +1,39 @@
+package com.xholacracy.domain.model.role;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.partner.PartnerId;
+
+/**
+ * 角色担任者
+ * 伙伴在圈子内担任的一个角色，由仓储直接投影查询生成，不加载角色实体
+ */
+public final class RoleHolder {
+    
+    private final CircleId circleId;
+    private final PartnerId partnerId;
+    private final SpecialRoleType specialRoleType;
+    
+    /**
+     * @param circleId 角色所在圈子ID
+     * @param partnerId 担任角色的伙伴ID
+     * @param specialRoleType 特殊角色类型（普通角色为null）
+     */
+    public RoleHolder(String circleId, String partnerId, SpecialRoleType specialRoleType) {
+        this.circleId = CircleId.of(circleId);
+        this.partnerId = PartnerId.of(partnerId);
+        this.specialRoleType = specialRoleType;
+    }
+    
+    public CircleId getCircleId() {
+        return circleId;
+    }
+    
+    public PartnerId getPartnerId() {
+        return partnerId;
+    }
+    
+    public SpecialRoleType getSpecialRoleType() {
+        return specialRoleType;
+    }
+}
@@ -1,6 +1,7 @@
 package com.xholacracy.domain.model.role;
 
 import com.xholacracy.domain.model.circle.CircleId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +45,24 @@ public interface RoleRepository {
      * 检查角色是否存在
      */
     boolean existsById(RoleId roleId);
+    
+    /**
+     * 查询圈子所有角色的摘要（只查询摘要列和分配计数，不加载实体）
+     */
+    List<RoleSummaryView> findSummariesByCircleId(CircleId circleId);
+    
+    /**
+     * 按ID批量查询角色摘要
+     */
+    List<RoleSummaryView> findSummariesByIds(Collection<RoleId> ids);
+    
+    /**
+     * 按ID批量查询角色分配
+     */
+    List<RoleAssignment> findAssignmentsByIds(Collection<String> assignmentIds);
+    
+    /**
+     * 批量查询圈子中担任角色的伙伴（投影查询，不加载角色实体），按分配时间排序
+     */
+    List<RoleHolder> findHoldersByCircleIds(Collection<CircleId> circleIds);
 }
@@ -0,0 +1,40 @@
+package com.xholacracy.domain.model.role;
+
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+
+/**
+ * 角色摘要投影
+ * 只包含列表展示需要的列和分配计数，由仓储直接查询生成，不加载角色实体
+ */
+public interface RoleSummaryView {
+    
+    /**
+     * @return 角色ID
+     */
+    String getId();
+    
+    /**
+     * @return 角色名称
+     */
+    String getName();
+    
+    /**
+     * @return 角色目的
+     */
+    String getPurpose();
+    
+    /**
+     * @return 是否为特殊角色
+     */
+    boolean getSpecialRole();
+    
+    /**
+     * @return 特殊角色类型（普通角色为null）
+     */
+    SpecialRoleType getSpecialRoleType();
+    
+    /**
+     * @return 角色分配数量
+     */
+    long getAssignmentCount();
+}
@@ -0,0 +1,72 @@
+package com.xholacracy.domain.model.sync;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ChangeLogEntry - 组织变更日志条目
+ * 每个实体只保留一条记录，记录其最近一次变更的序号；
+ * 删除的实体保留为墓碑（deleted=true），供增量同步的客户端移除本地副本
+ */
+@Entity
+@Table(name = "change_log")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChangeLogEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "organization_id", nullable = false))
+    private OrganizationId organizationId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 50)
+    private ChangedEntityType entityType;
+    
+    @Column(name = "entity_id", nullable = false)
+    private String entityId;
+    
+    @Column(name = "change_sequence", nullable = false)
+    private long sequence;
+    
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+    
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+    
+    /**
+     * 为首次变更的实体创建日志条目
+     */
+    public static ChangeLogEntry record(OrganizationId organizationId, EntityChange change, long sequence) {
+        if (organizationId == null) {
+            throw new IllegalArgumentException("OrganizationId cannot be null");
+        }
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.organizationId = organizationId;
+        entry.entityType = change.getEntityType();
+        entry.entityId = change.getEntityId();
+        entry.touch(change, sequence);
+        return entry;
+    }
+    
+    /**
+     * 用更新的变更覆盖条目
+     */
+    public void touch(EntityChange change, long sequence) {
+        if (change.getEntityType() != entityType || !change.getEntityId().equals(entityId)) {
+            throw new IllegalArgumentException("Change does not belong to this entry: " + change);
+        }
+        this.sequence = sequence;
+        this.deleted = change.isDeleted();
+        this.changedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,50 @@
+package com.xholacracy.domain.model.sync;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 变更日志仓储接口
+ */
+public interface ChangeLogRepository {
+    
+    /**
+     * 为一个事务中组织内的变更分配一个新序号并记录
+     * 同一实体已有条目时覆盖为最新变更
+     * 
+     * @param organizationId 组织ID
+     * @param changes 实体变更
+     * @return 分配的序号
+     * @throws IllegalStateException 如果组织的序号行不存在（序号行在组织创建时写入）
+     */
+    long record(OrganizationId organizationId, Collection<EntityChange> changes);
+    
+    /**
+     * 按序号升序查询指定序号之后的变更
+     * 
+     * @param organizationId 组织ID
+     * @param sinceSequence 起始序号（不包含）
+     * @param limit 最大条目数
+     * @return 变更条目列表
+     */
+    List<ChangeLogEntry> findSince(OrganizationId organizationId, long sinceSequence, int limit);
+    
+    /**
+     * 查询指定序号的全部变更
+     * 
+     * @param organizationId 组织ID
+     * @param sequence 序号
+     * @return 变更条目列表
+     */
+    List<ChangeLogEntry> findBySequence(OrganizationId organizationId, long sequence);
+    
+    /**
+     * 查询组织当前的最新序号
+     * 
+     * @param organizationId 组织ID
+     * @return 最新序号（无变更时为0）
+     */
+    long currentSequence(OrganizationId organizationId);
+}
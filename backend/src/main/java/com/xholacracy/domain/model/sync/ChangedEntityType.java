@@ -0,0 +1,12 @@
+package com.xholacracy.domain.model.sync;
+
+/**
+ * 变更日志记录的实体类型
+ */
+public enum ChangedEntityType {
+    CIRCLE,
+    ROLE,
+    ROLE_ASSIGNMENT,
+    PROPOSAL,
+    MEETING
+}
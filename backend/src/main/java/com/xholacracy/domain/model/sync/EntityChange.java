@@ -0,0 +1,72 @@
+package com.xholacracy.domain.model.sync;
+
+import java.util.Objects;
+
+/**
+ * 实体变更值对象
+ * 描述一次事务中某个实体被创建/更新或删除
+ */
+public final class EntityChange {
+    
+    private final ChangedEntityType entityType;
+    private final String entityId;
+    private final boolean deleted;
+    
+    private EntityChange(ChangedEntityType entityType, String entityId, boolean deleted) {
+        if (entityType == null) {
+            throw new IllegalArgumentException("Entity type cannot be null");
+        }
+        if (entityId == null || entityId.isBlank()) {
+            throw new IllegalArgumentException("Entity id cannot be null or empty");
+        }
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deleted = deleted;
+    }
+    
+    /**
+     * 实体被创建或更新
+     */
+    public static EntityChange upsert(ChangedEntityType entityType, String entityId) {
+        return new EntityChange(entityType, entityId, false);
+    }
+    
+    /**
+     * 实体被删除
+     */
+    public static EntityChange delete(ChangedEntityType entityType, String entityId) {
+        return new EntityChange(entityType, entityId, true);
+    }
+    
+    public ChangedEntityType getEntityType() {
+        return entityType;
+    }
+    
+    public String getEntityId() {
+        return entityId;
+    }
+    
+    public boolean isDeleted() {
+        return deleted;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EntityChange that = (EntityChange) o;
+        return deleted == that.deleted
+            && entityType == that.entityType
+            && entityId.equals(that.entityId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityType, entityId, deleted);
+    }
+    
+    @Override
+    public String toString() {
+        return (deleted ? "DELETE " : "UPSERT ") + entityType + " " + entityId;
+    }
+}
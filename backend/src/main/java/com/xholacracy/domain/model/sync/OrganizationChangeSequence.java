@@ -0,0 +1,45 @@
+package com.xholacracy.domain.model.sync;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * OrganizationChangeSequence - 组织变更序号
+ * 每个组织一行，单调递增；写事务持有该行的写锁直到提交，
+ * 因此序号顺序与提交顺序一致，客户端按序号增量同步不会漏掉变更
+ */
+@Entity
+@Table(name = "organization_change_sequences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrganizationChangeSequence {
+    
+    @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "organization_id"))
+    private OrganizationId organizationId;
+    
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+    
+    /**
+     * 创建组织的序号，从0开始
+     */
+    public static OrganizationChangeSequence start(OrganizationId organizationId) {
+        if (organizationId == null) {
+            throw new IllegalArgumentException("OrganizationId cannot be null");
+        }
+        OrganizationChangeSequence sequence = new OrganizationChangeSequence();
+        sequence.organizationId = organizationId;
+        return sequence;
+    }
+    
+    /**
+     * 分配下一个序号
+     */
+    public long next() {
+        return ++lastSequence;
+    }
+}
@@ -2,6 +2,7 @@ package com.xholacracy.domain.service;
 
 import com.xholacracy.domain.exception.InvalidStateTransitionException;
 import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.proposal.Objection;
 import com.xholacracy.domain.model.proposal.Proposal;
 import com.xholacracy.domain.model.proposal.ProposalId;
@@ -28,12 +29,13 @@ public class IntegrativeDecisionService {
      * 处理反对阶段
      * 验证所有反对意见的有效性，如果没有有效反对则批准提案，否则进入集成阶段
      * 
+     * @param organizationId 组织ID
      * @param proposalId 提案ID
      * @throws ResourceNotFoundException 如果提案不存在
      * @throws InvalidStateTransitionException 如果提案不在反对阶段
      */
-    public void processObjectionStage(ProposalId proposalId) {
-        Proposal proposal = proposalRepository.findById(proposalId)
+    public void processObjectionStage(OrganizationId organizationId, ProposalId proposalId) {
+        Proposal proposal = proposalRepository.findById(organizationId, proposalId)
             .orElseThrow(() -> new ResourceNotFoundException("Proposal", proposalId.getValue()));
         
         if (proposal.getStatus() != ProposalStatus.OBJECTION_STAGE) {
@@ -70,12 +72,13 @@ public class IntegrativeDecisionService {
      * 在集成阶段，参与者协作解决反对意见
      * 提案人可以修改提案以解决反对，修改后返回反对阶段重新验证
      * 
+     * @param organizationId 组织ID
      * @param proposalId 提案ID
      * @throws ResourceNotFoundException 如果提案不存在
      * @throws InvalidStateTransitionException 如果提案不在集成阶段
      */
-    public void processIntegrationStage(ProposalId proposalId) {
-        Proposal proposal = proposalRepository.findById(proposalId)
+    public void processIntegrationStage(OrganizationId organizationId, ProposalId proposalId) {
+        Proposal proposal = proposalRepository.findById(organizationId, proposalId)
             .orElseThrow(() -> new ResourceNotFoundException("Proposal", proposalId.getValue()));
         
         if (proposal.getStatus() != ProposalStatus.INTEGRATION_STAGE) {
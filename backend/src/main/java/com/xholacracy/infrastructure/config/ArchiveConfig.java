@@ -0,0 +1,25 @@
+package com.xholacracy.infrastructure.config;
+
+import com.xholacracy.infrastructure.persistence.archive.AggregateArchiver;
+import com.xholacracy.infrastructure.persistence.archive.ArchiveScheduler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Background archiving of terminal proposals and meetings, enabled by xholacracy.archive.enabled.
+ * Reads fall through to the archive regardless of this setting.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "xholacracy.archive", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ArchiveProperties.class)
+@EnableScheduling
+public class ArchiveConfig {
+    
+    @Bean
+    public ArchiveScheduler archiveScheduler(AggregateArchiver archiver, ArchiveProperties properties) {
+        return new ArchiveScheduler(archiver, properties.getMinAge(), properties.getBatchSize());
+    }
+}
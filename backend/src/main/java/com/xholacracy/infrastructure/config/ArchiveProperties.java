@@ -0,0 +1,52 @@
+package com.xholacracy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Cold archive settings (xholacracy.archive.*).
+ * The run interval is read directly by the scheduler from xholacracy.archive.interval.
+ */
+@ConfigurationProperties("xholacracy.archive")
+public class ArchiveProperties {
+    
+    /**
+     * Whether the background archiving job runs; archived aggregates are readable either way
+     */
+    private boolean enabled;
+    
+    /**
+     * Terminal proposals and meetings are archived once they have been inactive this long
+     */
+    private Duration minAge = Duration.ofDays(180);
+    
+    /**
+     * Aggregates moved per transaction
+     */
+    private int batchSize = 100;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public Duration getMinAge() {
+        return minAge;
+    }
+    
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
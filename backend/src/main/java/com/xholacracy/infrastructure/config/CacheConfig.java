@@ -23,7 +23,10 @@ public class CacheConfig {
             "roles",
             "proposals",
             "meetings",
-            "organizations"
+            "organizations",
+            "partnerNames",
+            "circleNames",
+            "proposalTitles"
         );
         
         cacheManager.setCaffeine(Caffeine.newBuilder()
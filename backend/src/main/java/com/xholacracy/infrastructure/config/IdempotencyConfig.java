@@ -0,0 +1,51 @@
+package com.xholacracy.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.infrastructure.persistence.idempotency.IdempotencyFilter;
+import com.xholacracy.infrastructure.persistence.idempotency.IdempotencyPurgeScheduler;
+import com.xholacracy.infrastructure.persistence.idempotency.IdempotencyStore;
+import com.xholacracy.infrastructure.persistence.jpa.IdempotencyRecordJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Replays recorded responses for write requests retried with the same Idempotency-Key.
+ * Disabled with xholacracy.idempotency.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "xholacracy.idempotency", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@EnableScheduling
+public class IdempotencyConfig {
+    
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyRecordJpaRepository repository,
+                                             PlatformTransactionManager transactionManager,
+                                             IdempotencyProperties properties) {
+        return new IdempotencyStore(repository, transactionManager, properties.getTtl(),
+            properties.getInFlightTimeout(), properties.getCacheSize());
+    }
+    
+    @Bean
+    public IdempotencyPurgeScheduler idempotencyPurgeScheduler(IdempotencyStore store) {
+        return new IdempotencyPurgeScheduler(store);
+    }
+    
+    /**
+     * Registered right after the security filter chain, so keys are scoped to the authenticated caller.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+            new FilterRegistrationBean<>(new IdempotencyFilter(store, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
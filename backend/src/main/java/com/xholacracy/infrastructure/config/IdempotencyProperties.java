@@ -0,0 +1,65 @@
+package com.xholacracy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key handling for write requests (xholacracy.idempotency.*).
+ * The purge interval is read directly by the scheduler from xholacracy.idempotency.purge-interval.
+ */
+@ConfigurationProperties("xholacracy.idempotency")
+public class IdempotencyProperties {
+    
+    /**
+     * Whether Idempotency-Key headers are honoured
+     */
+    private boolean enabled = true;
+    
+    /**
+     * How long a recorded response is replayed for retries with the same key
+     */
+    private Duration ttl = Duration.ofHours(24);
+    
+    /**
+     * A claim still unfinished after this long is treated as abandoned and may be re-executed
+     */
+    private Duration inFlightTimeout = Duration.ofMinutes(1);
+    
+    /**
+     * Recorded responses kept in memory in front of the idempotency_keys table
+     */
+    private long cacheSize = 10_000;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public Duration getTtl() {
+        return ttl;
+    }
+    
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+    
+    public Duration getInFlightTimeout() {
+        return inFlightTimeout;
+    }
+    
+    public void setInFlightTimeout(Duration inFlightTimeout) {
+        this.inFlightTimeout = inFlightTimeout;
+    }
+    
+    public long getCacheSize() {
+        return cacheSize;
+    }
+    
+    public void setCacheSize(long cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+}
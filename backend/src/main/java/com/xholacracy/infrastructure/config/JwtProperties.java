@@ -0,0 +1,80 @@
+package com.xholacracy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bearer token settings (spring.security.jwt.*).
+ * The revocation purge interval is read directly by the scheduler from spring.security.jwt.revocation-purge-interval.
+ */
+@ConfigurationProperties("spring.security.jwt")
+public class JwtProperties {
+    
+    /**
+     * HMAC-SHA secret shared with the token issuer, at least 32 bytes
+     */
+    private String secret;
+    
+    /**
+     * Longest lifetime the issuer gives a token; tokens expiring later are rejected.
+     * A bare number is read as milliseconds
+     */
+    private Duration expiration = Duration.ofHours(24);
+    
+    /**
+     * Expected iss claim; not checked when unset
+     */
+    private String issuer;
+    
+    /**
+     * Verified tokens kept in memory; each entry lives until its token expires or the revocation check interval passes
+     */
+    private int cacheSize = 10_000;
+    
+    /**
+     * How long a verified token is served from memory before the shared revocation table is checked again;
+     * bounds how late an instance notices a revocation made on another instance
+     */
+    private Duration revocationCheckInterval = Duration.ofMinutes(1);
+    
+    public String getSecret() {
+        return secret;
+    }
+    
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+    
+    public Duration getExpiration() {
+        return expiration;
+    }
+    
+    public void setExpiration(Duration expiration) {
+        this.expiration = expiration;
+    }
+    
+    public String getIssuer() {
+        return issuer;
+    }
+    
+    public void setIssuer(String issuer) {
+        this.issuer = issuer;
+    }
+    
+    public int getCacheSize() {
+        return cacheSize;
+    }
+    
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+    
+    public Duration getRevocationCheckInterval() {
+        return revocationCheckInterval;
+    }
+    
+    public void setRevocationCheckInterval(Duration revocationCheckInterval) {
+        this.revocationCheckInterval = revocationCheckInterval;
+    }
+}
@@ -0,0 +1,59 @@
+package com.xholacracy.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.model.meeting.LiveMeetingJournal;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.infrastructure.persistence.jpa.LiveSessionLeaseJpaRepository;
+import com.xholacracy.infrastructure.persistence.live.FileLiveMeetingJournal;
+import com.xholacracy.infrastructure.persistence.live.InMemoryLiveMeetingRegistry;
+import com.xholacracy.infrastructure.persistence.live.LiveMeetingFlushScheduler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Holds in-progress meetings in memory on the node that owns their session. Commands are journaled to
+ * local files and written back to the database in coalesced batches every flush-interval, and
+ * synchronously when a meeting ends.
+ * xholacracy.live-meeting.journal-dir and xholacracy.live-meeting.node-id must be set per instance.
+ */
+@Configuration
+@EnableConfigurationProperties(LiveMeetingProperties.class)
+@EnableScheduling
+public class LiveMeetingConfig {
+    
+    @Bean
+    public FileLiveMeetingJournal liveMeetingJournal(LiveMeetingProperties properties, ObjectMapper objectMapper) {
+        return new FileLiveMeetingJournal(required(properties.getJournalDir(), "journal-dir"), properties.isFsync(),
+            objectMapper);
+    }
+    
+    @Bean
+    public InMemoryLiveMeetingRegistry liveMeetingRegistry(MeetingRepository meetingRepository,
+                                                           LiveSessionLeaseJpaRepository leaseRepository,
+                                                           LiveMeetingJournal journal,
+                                                           ApplicationEventPublisher eventPublisher,
+                                                           PlatformTransactionManager transactionManager,
+                                                           LiveMeetingProperties properties) {
+        return new InMemoryLiveMeetingRegistry(meetingRepository, leaseRepository, journal, eventPublisher,
+            transactionManager, required(properties.getNodeId(), "node-id"), properties.getLeaseDuration());
+    }
+    
+    @Bean
+    public LiveMeetingFlushScheduler liveMeetingFlushScheduler(InMemoryLiveMeetingRegistry registry) {
+        return new LiveMeetingFlushScheduler(registry);
+    }
+    
+    /**
+     * A node falling back to a shared default would take over, or journal into, another node's sessions.
+     */
+    private static <T> T required(T value, String property) {
+        if (value == null || value.toString().isBlank()) {
+            throw new IllegalStateException("xholacracy.live-meeting." + property + " must be set");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,69 @@
+package com.xholacracy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Live meeting session settings (xholacracy.live-meeting.*).
+ * The flush interval is read directly by the scheduler from xholacracy.live-meeting.flush-interval.
+ * The journal directory and node id have no defaults: each instance must be given its own,
+ * and startup fails when either is missing.
+ */
+@ConfigurationProperties("xholacracy.live-meeting")
+public class LiveMeetingProperties {
+    
+    /**
+     * Directory holding one command journal per open session; required, must survive a process restart
+     */
+    private Path journalDir;
+    
+    /**
+     * Force every journal append to disk; without it a command survives a process crash but not a power loss
+     */
+    private boolean fsync = false;
+    
+    /**
+     * How long a session stays owned by a node that stops flushing
+     */
+    private Duration leaseDuration = Duration.ofMinutes(1);
+    
+    /**
+     * Identifies this node in session leases; required, unique per instance and stable across restarts
+     * so that a restarted node recovers the sessions it owned
+     */
+    private String nodeId;
+    
+    public Path getJournalDir() {
+        return journalDir;
+    }
+    
+    public void setJournalDir(Path journalDir) {
+        this.journalDir = journalDir;
+    }
+    
+    public boolean isFsync() {
+        return fsync;
+    }
+    
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+    
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+    
+    public void setLeaseDuration(Duration leaseDuration) {
+        this.leaseDuration = leaseDuration;
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+}
@@ -0,0 +1,44 @@
+package com.xholacracy.infrastructure.config;
+
+import com.xholacracy.domain.model.meeting.MeetingSeriesMaterializer;
+import com.xholacracy.domain.model.meeting.MeetingSeriesRepository;
+import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import com.xholacracy.infrastructure.persistence.series.JdbcMeetingSeriesMaterializer;
+import com.xholacracy.infrastructure.persistence.series.MeetingSeriesScheduler;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Materializes recurring meeting series into a rolling horizon. A new series is filled up to the
+ * horizon when it is created; the background job, disabled with xholacracy.meeting-series.enabled=false,
+ * keeps existing series topped up as time passes.
+ */
+@Configuration
+@EnableConfigurationProperties(MeetingSeriesProperties.class)
+@EnableScheduling
+public class MeetingSeriesConfig {
+    
+    @Bean
+    public JdbcMeetingSeriesMaterializer meetingSeriesMaterializer(EntityManager entityManager,
+                                                                   MeetingSeriesRepository seriesRepository,
+                                                                   RoleRepository roleRepository,
+                                                                   ChangeLogRepository changeLogRepository,
+                                                                   ApplicationEventPublisher eventPublisher,
+                                                                   MeetingSeriesProperties properties) {
+        return new JdbcMeetingSeriesMaterializer(entityManager, seriesRepository, roleRepository,
+            changeLogRepository, eventPublisher, properties.getHorizon());
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "xholacracy.meeting-series", name = "enabled", matchIfMissing = true)
+    public MeetingSeriesScheduler meetingSeriesScheduler(MeetingSeriesMaterializer materializer,
+                                                         MeetingSeriesProperties properties) {
+        return new MeetingSeriesScheduler(materializer, properties.getBatchSize());
+    }
+}
@@ -0,0 +1,52 @@
+package com.xholacracy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Recurring meeting series settings (xholacracy.meeting-series.*).
+ * The run interval is read directly by the scheduler from xholacracy.meeting-series.interval.
+ */
+@ConfigurationProperties("xholacracy.meeting-series")
+public class MeetingSeriesProperties {
+    
+    /**
+     * Whether the background job advances series; new series are materialized on creation either way
+     */
+    private boolean enabled = true;
+    
+    /**
+     * How far ahead of now occurrences are created
+     */
+    private Duration horizon = Duration.ofDays(90);
+    
+    /**
+     * Series advanced per transaction
+     */
+    private int batchSize = 100;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public Duration getHorizon() {
+        return horizon;
+    }
+    
+    public void setHorizon(Duration horizon) {
+        this.horizon = horizon;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
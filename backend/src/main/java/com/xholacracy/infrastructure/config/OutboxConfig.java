@@ -0,0 +1,74 @@
+package com.xholacracy.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.infrastructure.notification.InMemoryNotificationSink;
+import com.xholacracy.infrastructure.notification.LoggingNotificationSink;
+import com.xholacracy.infrastructure.notification.NotificationSink;
+import com.xholacracy.infrastructure.notification.WebhookNotificationSink;
+import com.xholacracy.infrastructure.persistence.jpa.OutboxMessageJpaRepository;
+import com.xholacracy.infrastructure.persistence.outbox.OutboxDispatcher;
+import com.xholacracy.infrastructure.persistence.outbox.OutboxRecorder;
+import com.xholacracy.infrastructure.persistence.outbox.OutboxStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Records partner notifications in the outbox within the writing transaction and delivers them
+ * asynchronously to the configured sinks. Disabled with xholacracy.outbox.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "xholacracy.outbox", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(OutboxProperties.class)
+@EnableScheduling
+public class OutboxConfig {
+    
+    @Bean
+    public OutboxRecorder outboxRecorder(EntityManagerFactory entityManagerFactory,
+                                         OutboxMessageJpaRepository repository,
+                                         CircleRepository circleRepository,
+                                         ObjectMapper objectMapper) {
+        return new OutboxRecorder(entityManagerFactory, repository, circleRepository, objectMapper);
+    }
+    
+    @Bean
+    public OutboxStore outboxStore(OutboxMessageJpaRepository repository, OutboxProperties properties) {
+        return new OutboxStore(repository, properties.getMaxAttempts(),
+            properties.getInitialBackoff(), properties.getMaxBackoff());
+    }
+    
+    /**
+     * Every NotificationSink bean in the context receives each notification, so further sinks can be
+     * plugged in by declaring a bean.
+     */
+    @Bean
+    public OutboxDispatcher outboxDispatcher(OutboxStore store, ObjectProvider<NotificationSink> sinks,
+                                             OutboxProperties properties) {
+        return new OutboxDispatcher(store, sinks.orderedStream().toList(), properties.getBatchSize(),
+            properties.getLease(), properties.getDeliveryThreads());
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "xholacracy.outbox.sinks", name = "log", matchIfMissing = true)
+    public LoggingNotificationSink loggingNotificationSink() {
+        return new LoggingNotificationSink();
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "xholacracy.outbox.sinks", name = "webhook-url")
+    public WebhookNotificationSink webhookNotificationSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        OutboxProperties.Sinks sinks = properties.getSinks();
+        return new WebhookNotificationSink(sinks.getWebhookUrl(), sinks.getWebhookTimeout(), objectMapper);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "xholacracy.outbox.sinks", name = "in-memory-capacity")
+    public InMemoryNotificationSink inMemoryNotificationSink(OutboxProperties properties) {
+        return new InMemoryNotificationSink(properties.getSinks().getInMemoryCapacity());
+    }
+}
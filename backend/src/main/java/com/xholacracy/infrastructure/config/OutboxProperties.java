@@ -0,0 +1,173 @@
+package com.xholacracy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Transactional outbox and notification delivery (xholacracy.outbox.*).
+ * The poll interval is read directly by the dispatcher from xholacracy.outbox.poll-interval.
+ */
+@ConfigurationProperties("xholacracy.outbox")
+public class OutboxProperties {
+    
+    /**
+     * Whether notifications are recorded and dispatched
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Messages claimed per dispatcher transaction
+     */
+    private int batchSize = 100;
+    
+    /**
+     * How long a claimed message stays invisible to other dispatchers while it is delivered
+     */
+    private Duration lease = Duration.ofMinutes(1);
+    
+    /**
+     * Messages delivered in parallel
+     */
+    private int deliveryThreads = 8;
+    
+    /**
+     * Delivery attempts before a message is marked DEAD
+     */
+    private int maxAttempts = 10;
+    
+    /**
+     * Delay after the first failed attempt; doubled on each further failure up to maxBackoff
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    
+    /**
+     * Upper bound for the delay between attempts
+     */
+    private Duration maxBackoff = Duration.ofMinutes(10);
+    
+    private Sinks sinks = new Sinks();
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+    
+    public Duration getLease() {
+        return lease;
+    }
+    
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+    
+    public int getDeliveryThreads() {
+        return deliveryThreads;
+    }
+    
+    public void setDeliveryThreads(int deliveryThreads) {
+        this.deliveryThreads = deliveryThreads;
+    }
+    
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+    
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+    
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+    
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+    
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+    
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+    
+    public Sinks getSinks() {
+        return sinks;
+    }
+    
+    public void setSinks(Sinks sinks) {
+        this.sinks = sinks;
+    }
+    
+    /**
+     * Where notifications are delivered; a message is retried until every enabled sink accepts it
+     */
+    public static class Sinks {
+        
+        /**
+         * Write each notification to the application log
+         */
+        private boolean log = true;
+        
+        /**
+         * POST each notification to this URL; disabled when unset
+         */
+        private URI webhookUrl;
+        
+        /**
+         * Connect and request timeout for webhook deliveries
+         */
+        private Duration webhookTimeout = Duration.ofSeconds(5);
+        
+        /**
+         * Keep this many recent notifications in memory; disabled when unset
+         */
+        private int inMemoryCapacity;
+        
+        public boolean isLog() {
+            return log;
+        }
+        
+        public void setLog(boolean log) {
+            this.log = log;
+        }
+        
+        public URI getWebhookUrl() {
+            return webhookUrl;
+        }
+        
+        public void setWebhookUrl(URI webhookUrl) {
+            this.webhookUrl = webhookUrl;
+        }
+        
+        public Duration getWebhookTimeout() {
+            return webhookTimeout;
+        }
+        
+        public void setWebhookTimeout(Duration webhookTimeout) {
+            this.webhookTimeout = webhookTimeout;
+        }
+        
+        public int getInMemoryCapacity() {
+            return inMemoryCapacity;
+        }
+        
+        public void setInMemoryCapacity(int inMemoryCapacity) {
+            this.inMemoryCapacity = inMemoryCapacity;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.xholacracy.infrastructure.config;
+
+import com.xholacracy.infrastructure.ratelimit.AdmissionControl;
+import com.xholacracy.infrastructure.ratelimit.RateLimitInterceptor;
+import com.xholacracy.infrastructure.ratelimit.RateLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Applies @RateLimited limits and pool-based load shedding to governance writes.
+ * Disabled with xholacracy.rate-limit.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "xholacracy.rate-limit", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+    
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimiter(properties, meterRegistry);
+    }
+    
+    @Bean
+    public AdmissionControl admissionControl(ObjectProvider<HikariDataSource> dataSources,
+                                             MeterRegistry meterRegistry,
+                                             RateLimitProperties properties) {
+        return new AdmissionControl(dataSources, meterRegistry, properties);
+    }
+    
+    /**
+     * Interceptors run after handler mapping but before argument resolution,
+     * so rejected requests never open a transaction.
+     */
+    @Bean
+    public WebMvcConfigurer rateLimitInterceptorConfigurer(RateLimiter rateLimiter, AdmissionControl admissionControl) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new RateLimitInterceptor(rateLimiter, admissionControl))
+                    .addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package com.xholacracy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rate limiting and load shedding for governance writes (xholacracy.rate-limit.*).
+ */
+@ConfigurationProperties("xholacracy.rate-limit")
+public class RateLimitProperties {
+    
+    /**
+     * Whether rate limits and load shedding are applied at all
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Limits per operation type (vote, reaction, question, ...)
+     */
+    private Map<String, Limit> operations = new HashMap<>(Map.of(
+        "vote", new Limit(10, 300, Duration.ofMinutes(1)),
+        "reaction", new Limit(20, 300, Duration.ofMinutes(1)),
+        "question", new Limit(20, 300, Duration.ofMinutes(1))));
+    
+    /**
+     * Limit for operations without their own entry
+     */
+    private Limit defaultLimit = new Limit(30, 600, Duration.ofMinutes(1));
+    
+    /**
+     * Writes are shed while callers queue for a connection and recent acquisitions took longer than this
+     */
+    private Duration maxPoolWait = Duration.ofMillis(200);
+    
+    /**
+     * Buckets not touched for this long are dropped; an idle bucket is full anyway
+     */
+    private Duration idleBucketExpiry = Duration.ofMinutes(10);
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public Map<String, Limit> getOperations() {
+        return operations;
+    }
+    
+    public void setOperations(Map<String, Limit> operations) {
+        this.operations = operations;
+    }
+    
+    public Limit getDefaultLimit() {
+        return defaultLimit;
+    }
+    
+    public void setDefaultLimit(Limit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+    
+    public Duration getMaxPoolWait() {
+        return maxPoolWait;
+    }
+    
+    public void setMaxPoolWait(Duration maxPoolWait) {
+        this.maxPoolWait = maxPoolWait;
+    }
+    
+    public Duration getIdleBucketExpiry() {
+        return idleBucketExpiry;
+    }
+    
+    public void setIdleBucketExpiry(Duration idleBucketExpiry) {
+        this.idleBucketExpiry = idleBucketExpiry;
+    }
+    
+    /**
+     * Requests allowed per period; the full amount may be used as a burst.
+     */
+    public static class Limit {
+        
+        /**
+         * Requests one partner may make per period
+         */
+        private int perPartner;
+        
+        /**
+         * Requests all partners together may make against one aggregate per period
+         */
+        private int perAggregate;
+        
+        /**
+         * Window over which the request counts apply
+         */
+        private Duration period = Duration.ofMinutes(1);
+        
+        public Limit() {
+        }
+        
+        public Limit(int perPartner, int perAggregate, Duration period) {
+            this.perPartner = perPartner;
+            this.perAggregate = perAggregate;
+            this.period = period;
+        }
+        
+        public int getPerPartner() {
+            return perPartner;
+        }
+        
+        public void setPerPartner(int perPartner) {
+            this.perPartner = perPartner;
+        }
+        
+        public int getPerAggregate() {
+            return perAggregate;
+        }
+        
+        public void setPerAggregate(int perAggregate) {
+            this.perAggregate = perAggregate;
+        }
+        
+        public Duration getPeriod() {
+            return period;
+        }
+        
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.xholacracy.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.model.meeting.LiveMeetingRegistry;
+import com.xholacracy.infrastructure.realtime.MeetingChannelEndpoint;
+import com.xholacracy.infrastructure.realtime.MeetingChannelEndpointRegistrar;
+import com.xholacracy.infrastructure.realtime.MeetingChannelHub;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Pushes live meeting changes to subscribed clients over a WebSocket channel per meeting at
+ * /ws/meetings/{meetingId}. Channels live on the node that owns the meeting's live session.
+ * Disabled with xholacracy.realtime.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "xholacracy.realtime", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(RealtimeProperties.class)
+public class RealtimeConfig {
+    
+    @Bean
+    public MeetingChannelHub meetingChannelHub(LiveMeetingRegistry registry, ObjectMapper objectMapper,
+                                               RealtimeProperties properties) {
+        return new MeetingChannelHub(registry, objectMapper, properties.getSendBufferSize());
+    }
+    
+    @Bean
+    public MeetingChannelEndpointRegistrar meetingChannelEndpointRegistrar(MeetingChannelHub hub) {
+        return new MeetingChannelEndpointRegistrar(new MeetingChannelEndpoint(hub));
+    }
+}
@@ -0,0 +1,36 @@
+package com.xholacracy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Real-time meeting channels (xholacracy.realtime.*).
+ */
+@ConfigurationProperties("xholacracy.realtime")
+public class RealtimeProperties {
+    
+    /**
+     * Whether the meeting channel endpoint is registered
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Deltas buffered per connection; the oldest is dropped when a slow client falls further behind
+     */
+    private int sendBufferSize = 256;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public int getSendBufferSize() {
+        return sendBufferSize;
+    }
+    
+    public void setSendBufferSize(int sendBufferSize) {
+        this.sendBufferSize = sendBufferSize;
+    }
+}
@@ -0,0 +1,87 @@
+package com.xholacracy.infrastructure.config;
+
+import com.xholacracy.infrastructure.persistence.routing.PrimaryStickiness;
+import com.xholacracy.infrastructure.persistence.routing.ReadYourWritesFilter;
+import com.xholacracy.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.xholacracy.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+/**
+ * Read/write splitting, enabled when xholacracy.datasource.replica.url is set.
+ * Read-only transactions go to the replica pool, everything else to the primary.
+ * Without a replica the auto-configured single pool is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "xholacracy.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@EnableScheduling
+public class ReplicaRoutingConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    @ConfigurationProperties("xholacracy.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaRoutingProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(properties.getUrl())
+            .username(properties.getUsername())
+            .password(properties.getPassword())
+            .driverClassName(properties.getDriverClassName())
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+    
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                              ReplicaRoutingProperties properties) {
+        return new ReplicaLagMonitor(replica, properties.getLagQuery(), properties.getMaxLag());
+    }
+    
+    @Bean
+    public PrimaryStickiness primaryStickiness(ReplicaRoutingProperties properties) {
+        return new PrimaryStickiness(properties.getStickyWindow());
+    }
+    
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(PrimaryStickiness stickiness) {
+        return new ReadYourWritesFilter(stickiness);
+    }
+    
+    /**
+     * The routing decision needs the transaction's read-only flag, which is only set
+     * after the transaction has begun, so the physical connection is fetched lazily.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor,
+                                 PrimaryStickiness stickiness) {
+        return new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primary, replica, lagMonitor, stickiness));
+    }
+}
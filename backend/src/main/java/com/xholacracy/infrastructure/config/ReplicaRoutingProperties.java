@@ -0,0 +1,90 @@
+package com.xholacracy.infrastructure.config;
+
+import com.xholacracy.infrastructure.persistence.routing.ReplicaLagMonitor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Read replica connection and routing settings (xholacracy.datasource.replica.*).
+ * Pool settings are bound separately from xholacracy.datasource.replica.hikari.
+ */
+@ConfigurationProperties("xholacracy.datasource.replica")
+public class ReplicaRoutingProperties {
+    
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    
+    /**
+     * Replicas lagging further behind than this are skipped
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+    
+    /**
+     * How long a session keeps reading from the primary after a write
+     */
+    private Duration stickyWindow = Duration.ofSeconds(10);
+    
+    /**
+     * Query returning the replica lag in milliseconds
+     */
+    private String lagQuery = ReplicaLagMonitor.POSTGRES_LAG_QUERY;
+    
+    public String getUrl() {
+        return url;
+    }
+    
+    public void setUrl(String url) {
+        this.url = url;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getPassword() {
+        return password;
+    }
+    
+    public void setPassword(String password) {
+        this.password = password;
+    }
+    
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+    
+    public void setDriverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+    
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+    
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+    
+    public Duration getStickyWindow() {
+        return stickyWindow;
+    }
+    
+    public void setStickyWindow(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+    
+    public String getLagQuery() {
+        return lagQuery;
+    }
+    
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+}
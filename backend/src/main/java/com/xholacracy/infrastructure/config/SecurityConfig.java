@@ -0,0 +1,90 @@
+package com.xholacracy.infrastructure.config;
+
+import com.xholacracy.domain.model.permission.PermissionScopeRepository;
+import com.xholacracy.infrastructure.persistence.jpa.TokenRevocationJpaRepository;
+import com.xholacracy.infrastructure.persistence.revocation.TokenRevocationPurgeScheduler;
+import com.xholacracy.infrastructure.persistence.revocation.TokenRevocationStore;
+import com.xholacracy.infrastructure.realtime.MeetingChannelEndpoint;
+import com.xholacracy.infrastructure.security.JwtAuthenticationFilter;
+import com.xholacracy.infrastructure.security.JwtAuthenticator;
+import com.xholacracy.infrastructure.security.PermissionInterceptor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Stateless bearer-token security.
+ * Tokens are issued by an external identity provider that shares spring.security.jwt.secret;
+ * this service only verifies and revokes them.
+ * Revocations are stored in a table shared by all instances, so a token revoked on one instance
+ * is rejected by the others once their cached copy is re-checked.
+ * The JWT filter is created here rather than declared as a bean so that
+ * it runs only inside the security chain, not a second time as a servlet filter.
+ * Circle-level authorization of writes is declared with @RequiresCapability on the handler methods.
+ */
+@Configuration
+@EnableWebSecurity
+@EnableConfigurationProperties(JwtProperties.class)
+@EnableScheduling
+public class SecurityConfig {
+    
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticator authenticator) throws Exception {
+        AuthenticationEntryPoint entryPoint = new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED);
+        http
+            .csrf(AbstractHttpConfigurer::disable)
+            .cors(Customizer.withDefaults())
+            .httpBasic(AbstractHttpConfigurer::disable)
+            .formLogin(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(entryPoint))
+            .authorizeHttpRequests(requests -> requests
+                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                .anyRequest().authenticated())
+            .addFilterBefore(new JwtAuthenticationFilter(authenticator, entryPoint,
+                    new AntPathRequestMatcher(MeetingChannelEndpoint.PATH, HttpMethod.GET.name())),
+                UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+    
+    @Bean
+    public TokenRevocationStore tokenRevocationStore(TokenRevocationJpaRepository repository,
+                                                     PlatformTransactionManager transactionManager) {
+        return new TokenRevocationStore(repository, transactionManager);
+    }
+    
+    @Bean
+    public TokenRevocationPurgeScheduler tokenRevocationPurgeScheduler(TokenRevocationStore store) {
+        return new TokenRevocationPurgeScheduler(store);
+    }
+    
+    /**
+     * Runs after handler mapping, so the interceptor sees the path variables that identify the target circle.
+     */
+    @Bean
+    public WebMvcConfigurer permissionInterceptorConfigurer(PermissionScopeRepository scopeRepository) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new PermissionInterceptor(scopeRepository))
+                    .addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.xholacracy.infrastructure.notification;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 在内存中保留最近的通知，按通知ID去重
+ * 用于测试和本地开发；超过容量时丢弃最早的通知及其去重记录
+ */
+public class InMemoryNotificationSink implements NotificationSink {
+    
+    private final int capacity;
+    private final Deque<Notification> received = new ArrayDeque<>();
+    private final Set<String> receivedIds = new HashSet<>();
+    private long duplicates;
+    
+    public InMemoryNotificationSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+    
+    @Override
+    public String name() {
+        return "in-memory";
+    }
+    
+    @Override
+    public synchronized void deliver(Notification notification) {
+        if (!receivedIds.add(notification.getId())) {
+            duplicates++;
+            return;
+        }
+        received.addLast(notification);
+        if (received.size() > capacity) {
+            receivedIds.remove(received.removeFirst().getId());
+        }
+    }
+    
+    /**
+     * @return 收到的通知，按收到的顺序
+     */
+    public synchronized List<Notification> received() {
+        return new ArrayList<>(received);
+    }
+    
+    /**
+     * @return 因重复而丢弃的投递次数
+     */
+    public synchronized long duplicates() {
+        return duplicates;
+    }
+    
+    public synchronized void clear() {
+        received.clear();
+        receivedIds.clear();
+        duplicates = 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.xholacracy.infrastructure.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 把通知写入日志，重复投递只会多一行日志
+ */
+public class LoggingNotificationSink implements NotificationSink {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoggingNotificationSink.class);
+    
+    @Override
+    public String name() {
+        return "log";
+    }
+    
+    @Override
+    public void deliver(Notification notification) {
+        log.info("Notification {} {} for {} in organization {}: {}", notification.getId(), notification.getType(),
+            notification.getAggregateId(), notification.getOrganizationId(), notification.getPayload());
+    }
+}
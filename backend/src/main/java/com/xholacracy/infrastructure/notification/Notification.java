@@ -0,0 +1,77 @@
+package com.xholacracy.infrastructure.notification;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 待投递的通知
+ * 投递至少一次：同一通知可能因重试或租约过期被投递多次，ID在各次投递间不变，接收方据此去重
+ */
+public final class Notification {
+    
+    private final String id;
+    private final String type;
+    private final String organizationId;
+    private final String aggregateId;
+    private final String payload;
+    private final LocalDateTime createdAt;
+    private final int attempt;
+    
+    public Notification(String id, String type, String organizationId, String aggregateId,
+                        String payload, LocalDateTime createdAt, int attempt) {
+        this.id = Objects.requireNonNull(id, "Notification ID cannot be null");
+        this.type = Objects.requireNonNull(type, "Notification type cannot be null");
+        this.organizationId = organizationId;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.attempt = attempt;
+    }
+    
+    /**
+     * @return 去重键，在各次投递间不变
+     */
+    public String getId() {
+        return id;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public String getOrganizationId() {
+        return organizationId;
+    }
+    
+    public String getAggregateId() {
+        return aggregateId;
+    }
+    
+    /**
+     * @return JSON格式的通知内容
+     */
+    public String getPayload() {
+        return payload;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    /**
+     * @return 第几次投递，从1开始
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+    
+    @Override
+    public String toString() {
+        return "Notification{" +
+                "id='" + id + '\'' +
+                ", type='" + type + '\'' +
+                ", aggregateId='" + aggregateId + '\'' +
+                ", attempt=" + attempt +
+                '}';
+    }
+}
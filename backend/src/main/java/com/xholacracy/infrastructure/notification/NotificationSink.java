@@ -0,0 +1,22 @@
+package com.xholacracy.infrastructure.notification;
+
+/**
+ * 通知投递目标
+ * 分发器在多个线程上并发调用deliver，实现必须线程安全；
+ * 同一通知可能被投递多次，实现应按通知ID去重或保证重复投递无害
+ */
+public interface NotificationSink {
+    
+    /**
+     * @return 投递目标名称，用于日志和错误记录
+     */
+    String name();
+    
+    /**
+     * 投递通知，正常返回表示投递成功
+     *
+     * @param notification 通知
+     * @throws Exception 投递失败，通知稍后重试
+     */
+    void deliver(Notification notification) throws Exception;
+}
@@ -0,0 +1,67 @@
+package com.xholacracy.infrastructure.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 把通知以JSON POST到配置的URL
+ * 通知ID同时放在Idempotency-Key请求头中，接收方据此丢弃重复投递；非2xx响应视为失败并稍后重试
+ */
+public class WebhookNotificationSink implements NotificationSink {
+    
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    
+    public WebhookNotificationSink(URI url, Duration timeout, ObjectMapper objectMapper) {
+        this(url, timeout, HttpClient.newBuilder().connectTimeout(timeout).build(), objectMapper);
+    }
+    
+    WebhookNotificationSink(URI url, Duration timeout, HttpClient httpClient, ObjectMapper objectMapper) {
+        this.url = url;
+        this.timeout = timeout;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public String name() {
+        return "webhook";
+    }
+    
+    @Override
+    public void deliver(Notification notification) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .header(IDEMPOTENCY_KEY_HEADER, notification.getId())
+            .POST(HttpRequest.BodyPublishers.ofString(toJson(notification)))
+            .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook " + url + " answered " + response.statusCode());
+        }
+    }
+    
+    String toJson(Notification notification) throws IOException {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("id", notification.getId());
+        body.put("type", notification.getType());
+        body.put("organizationId", notification.getOrganizationId());
+        body.put("aggregateId", notification.getAggregateId());
+        body.put("createdAt", notification.getCreatedAt() != null ? notification.getCreatedAt().toString() : null);
+        body.put("attempt", notification.getAttempt());
+        body.set("payload", objectMapper.readTree(notification.getPayload()));
+        return objectMapper.writeValueAsString(body);
+    }
+}
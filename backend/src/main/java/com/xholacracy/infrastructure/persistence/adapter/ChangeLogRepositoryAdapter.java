@@ -0,0 +1,80 @@
+package com.xholacracy.infrastructure.persistence.adapter;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.sync.ChangeLogEntry;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import com.xholacracy.domain.model.sync.EntityChange;
+import com.xholacracy.domain.model.sync.OrganizationChangeSequence;
+import com.xholacracy.infrastructure.persistence.jpa.ChangeLogJpaRepository;
+import com.xholacracy.infrastructure.persistence.jpa.OrganizationChangeSequenceJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 变更日志Repository适配器
+ * 将Spring Data JPA Repository适配到领域Repository接口
+ */
+@Component
+@Transactional
+public class ChangeLogRepositoryAdapter implements ChangeLogRepository {
+    
+    private final ChangeLogJpaRepository jpaRepository;
+    private final OrganizationChangeSequenceJpaRepository sequenceJpaRepository;
+    
+    public ChangeLogRepositoryAdapter(ChangeLogJpaRepository jpaRepository,
+                                      OrganizationChangeSequenceJpaRepository sequenceJpaRepository) {
+        this.jpaRepository = jpaRepository;
+        this.sequenceJpaRepository = sequenceJpaRepository;
+    }
+    
+    /**
+     * 序号行在组织创建时写入（见OrganizationRepositoryAdapter和批量导入），这里只加锁读取
+     */
+    @Override
+    public long record(OrganizationId organizationId, Collection<EntityChange> changes) {
+        OrganizationChangeSequence sequence = sequenceJpaRepository.findForUpdate(organizationId.getValue())
+            .orElseThrow(() -> new IllegalStateException(
+                "No change sequence for organization " + organizationId.getValue()));
+        long next = sequence.next();
+        
+        List<String> entityIds = changes.stream().map(EntityChange::getEntityId).distinct().toList();
+        Map<String, ChangeLogEntry> existing = new HashMap<>();
+        for (ChangeLogEntry entry : jpaRepository.findByOrganizationAndEntityIds(organizationId.getValue(), entityIds)) {
+            existing.put(entry.getEntityType() + ":" + entry.getEntityId(), entry);
+        }
+        for (EntityChange change : changes) {
+            String key = change.getEntityType() + ":" + change.getEntityId();
+            ChangeLogEntry entry = existing.get(key);
+            if (entry == null) {
+                existing.put(key, jpaRepository.save(ChangeLogEntry.record(organizationId, change, next)));
+            } else {
+                entry.touch(change, next);
+            }
+        }
+        return next;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChangeLogEntry> findSince(OrganizationId organizationId, long sinceSequence, int limit) {
+        return jpaRepository.findAfterSequence(organizationId.getValue(), sinceSequence, PageRequest.of(0, limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChangeLogEntry> findBySequence(OrganizationId organizationId, long sequence) {
+        return jpaRepository.findAtSequence(organizationId.getValue(), sequence);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long currentSequence(OrganizationId organizationId) {
+        return sequenceJpaRepository.findLastSequence(organizationId.getValue()).orElse(0L);
+    }
+}
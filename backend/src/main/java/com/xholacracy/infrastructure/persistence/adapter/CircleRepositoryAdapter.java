@@ -3,12 +3,21 @@ package com.xholacracy.infrastructure.persistence.adapter;
 import com.xholacracy.domain.model.circle.Circle;
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.circle.CircleSummaryView;
 import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.infrastructure.persistence.jpa.CircleJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -75,4 +84,74 @@ public class CircleRepositoryAdapter implements CircleRepository {
     public void deleteById(CircleId id) {
         jpaRepository.deleteById(id);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<CircleId, String> findNamesByIds(Collection<CircleId> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = ids.stream().map(CircleId::getValue).distinct().toList();
+        Map<CircleId, String> names = new HashMap<>();
+        for (Object[] row : jpaRepository.findNamesByIdValues(values)) {
+            names.put(CircleId.of((String) row[0]), (String) row[1]);
+        }
+        return names;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<CircleSummaryView> findSummariesByOrganizationId(OrganizationId organizationId) {
+        return jpaRepository.findSummariesByOrganizationIdValue(organizationId.getValue());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<CircleSummaryView> findSummariesByParentCircleId(CircleId parentCircleId) {
+        return jpaRepository.findSummariesByParentCircleIdValue(parentCircleId.getValue());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersionTagById(CircleId id) {
+        return jpaRepository.findVersionRowByIdValue(id.getValue()).stream()
+            .findFirst()
+            .map(CircleRepositoryAdapter::digest);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<CircleId, OrganizationId> findOrganizationIdsByIds(Collection<CircleId> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = ids.stream().map(CircleId::getValue).distinct().toList();
+        Map<CircleId, OrganizationId> organizations = new HashMap<>();
+        for (Object[] row : jpaRepository.findOrganizationIdsByIdValues(values)) {
+            organizations.put(CircleId.of((String) row[0]), OrganizationId.of((String) row[1]));
+        }
+        return organizations;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<CircleSummaryView> findSummariesByIds(Collection<CircleId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findSummariesByIdValues(ids.stream().map(CircleId::getValue).distinct().toList());
+    }
+    
+    /**
+     * 将版本信息压缩为定长标记
+     */
+    private static String digest(Object[] row) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(Arrays.toString(row).getBytes(StandardCharsets.UTF_8));
+            return row[0] + "-" + HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.xholacracy.infrastructure.persistence.adapter;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.role.DomainRegistry;
+import com.xholacracy.domain.model.role.DomainRegistryRepository;
+import com.xholacracy.infrastructure.persistence.registry.DomainRegistryCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DomainRegistry Repository适配器
+ * 领域声明由一次构造器投影查询得到，注册表在内存中按规范化名称建立索引，
+ * 建立后由DomainRegistryCache按组织缓存，领域变更提交后失效
+ */
+@Component
+@Transactional
+public class DomainRegistryRepositoryAdapter implements DomainRegistryRepository {
+    
+    private final DomainRegistryCache registryCache;
+    
+    public DomainRegistryRepositoryAdapter(DomainRegistryCache registryCache) {
+        this.registryCache = registryCache;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public DomainRegistry load(OrganizationId organizationId) {
+        return registryCache.registryOf(organizationId);
+    }
+}
@@ -2,29 +2,48 @@ package com.xholacracy.infrastructure.persistence.adapter;
 
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingBooking;
 import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingKey;
 import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
 import com.xholacracy.domain.model.meeting.MeetingStatus;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.infrastructure.persistence.archive.AggregateArchive;
+import com.xholacracy.infrastructure.persistence.archive.ArchivedAggregateType;
 import com.xholacracy.infrastructure.persistence.jpa.MeetingJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Meeting Repository适配器
  * 将Spring Data JPA Repository适配到领域Repository接口
+ *
+ * 按ID查询在热表未命中时回退到冷归档；按圈子、状态和日期的列表查询只覆盖热表
  */
 @Component
 @Transactional
 public class MeetingRepositoryAdapter implements MeetingRepository {
     
     private final MeetingJpaRepository jpaRepository;
+    private final AggregateArchive archive;
     
-    public MeetingRepositoryAdapter(MeetingJpaRepository jpaRepository) {
+    public MeetingRepositoryAdapter(MeetingJpaRepository jpaRepository, AggregateArchive archive) {
         this.jpaRepository = jpaRepository;
+        this.archive = archive;
     }
     
     @Override
@@ -34,43 +53,105 @@ public class MeetingRepositoryAdapter implements MeetingRepository {
     
     @Override
     @Transactional(readOnly = true)
-    public Optional<GovernanceMeeting> findById(MeetingId meetingId) {
-        return jpaRepository.findById(meetingId);
+    public Optional<GovernanceMeeting> findById(OrganizationId organizationId, MeetingId meetingId) {
+        return jpaRepository.findById(MeetingKey.of(organizationId, meetingId))
+            .or(() -> archive.findMeeting(organizationId, meetingId));
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<GovernanceMeeting> findByCircleId(CircleId circleId) {
-        return jpaRepository.findByCircleId(circleId);
+    public List<GovernanceMeeting> findByCircleId(OrganizationId organizationId, CircleId circleId) {
+        return jpaRepository.findByKeyOrganizationIdAndCircleId(organizationId, circleId);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<GovernanceMeeting> findByCircleIdAndStatus(CircleId circleId, MeetingStatus status) {
-        return jpaRepository.findByCircleIdAndStatus(circleId, status);
+    public List<GovernanceMeeting> findByCircleIdAndStatus(OrganizationId organizationId, CircleId circleId,
+                                                           MeetingStatus status) {
+        return jpaRepository.findByKeyOrganizationIdAndCircleIdAndStatus(organizationId, circleId, status);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<GovernanceMeeting> findByCircleIdAndDateRange(
-            CircleId circleId, LocalDateTime startDate, LocalDateTime endDate) {
-        return jpaRepository.findByCircleIdAndScheduledDateBetween(circleId, startDate, endDate);
+            OrganizationId organizationId, CircleId circleId, LocalDateTime startDate, LocalDateTime endDate) {
+        return jpaRepository.findByCircleIdAndScheduledDateBetween(organizationId, circleId, startDate, endDate);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<GovernanceMeeting> findCompletedMeetings(CircleId circleId) {
-        return jpaRepository.findByCircleIdAndStatus(circleId, MeetingStatus.COMPLETED);
+    public List<GovernanceMeeting> findCompletedMeetings(OrganizationId organizationId, CircleId circleId) {
+        return jpaRepository.findByKeyOrganizationIdAndCircleIdAndStatus(organizationId, circleId, MeetingStatus.COMPLETED);
     }
     
     @Override
-    public void deleteById(MeetingId meetingId) {
-        jpaRepository.deleteById(meetingId);
+    public void deleteById(OrganizationId organizationId, MeetingId meetingId) {
+        jpaRepository.deleteById(MeetingKey.of(organizationId, meetingId));
     }
     
     @Override
     @Transactional(readOnly = true)
-    public boolean existsById(MeetingId meetingId) {
-        return jpaRepository.existsById(meetingId);
+    public boolean existsById(OrganizationId organizationId, MeetingId meetingId) {
+        return jpaRepository.existsById(MeetingKey.of(organizationId, meetingId))
+            || archive.contains(ArchivedAggregateType.MEETING, organizationId, meetingId.getValue());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersionTagById(OrganizationId organizationId, MeetingId meetingId) {
+        return jpaRepository.findVersionByIdValue(organizationId.getValue(), meetingId.getValue())
+            .map(String::valueOf)
+            .or(() -> archive.findVersionTag(ArchivedAggregateType.MEETING, organizationId, meetingId.getValue()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<GovernanceMeeting> findByIds(OrganizationId organizationId, Collection<MeetingId> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return List.of();
+        }
+        List<GovernanceMeeting> meetings = jpaRepository.findByKeyOrganizationIdAndKeyIdIn(organizationId, meetingIds);
+        if (meetings.size() == meetingIds.size()) {
+            return meetings;
+        }
+        Set<MeetingId> found = meetings.stream().map(GovernanceMeeting::getId).collect(Collectors.toSet());
+        List<MeetingId> missing = meetingIds.stream().filter(id -> !found.contains(id)).toList();
+        List<GovernanceMeeting> result = new ArrayList<>(meetings);
+        result.addAll(archive.findMeetings(organizationId, missing));
+        return result;
+    }
+    
+    /**
+     * 会议行和参与者行各一次投影查询，在内存中按会议合并出席者；归档的会议都已结束，不参与日程
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MeetingBooking> findBookings(OrganizationId organizationId, LocalDateTime scheduledFrom) {
+        Set<MeetingStatus> statuses = EnumSet.of(MeetingStatus.SCHEDULED, MeetingStatus.IN_PROGRESS);
+        Map<String, List<PartnerId>> participants = new HashMap<>();
+        for (Object[] row : jpaRepository.findParticipantRows(organizationId, statuses, scheduledFrom)) {
+            participants.computeIfAbsent((String) row[0], id -> new ArrayList<>()).add(PartnerId.of((String) row[1]));
+        }
+        List<MeetingBooking> bookings = new ArrayList<>();
+        for (Object[] row : jpaRepository.findBookingRows(organizationId, statuses, scheduledFrom)) {
+            String meetingId = (String) row[0];
+            List<PartnerId> attendees = new ArrayList<>();
+            if (row[3] != null) {
+                attendees.add(PartnerId.of((String) row[3]));
+            }
+            if (row[4] != null) {
+                attendees.add(PartnerId.of((String) row[4]));
+            }
+            attendees.addAll(participants.getOrDefault(meetingId, List.of()));
+            bookings.add(MeetingBooking.of(MeetingId.of(meetingId), (LocalDateTime) row[1], (Duration) row[2], attendees));
+        }
+        return bookings;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<GovernanceMeeting> findScheduledBySeriesId(OrganizationId organizationId, MeetingSeriesId seriesId,
+                                                           LocalDateTime scheduledFrom) {
+        return jpaRepository.findBySeriesIdFrom(organizationId, seriesId, MeetingStatus.SCHEDULED, scheduledFrom);
     }
 }
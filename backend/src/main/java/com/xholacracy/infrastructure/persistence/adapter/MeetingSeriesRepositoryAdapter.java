@@ -0,0 +1,54 @@
+package com.xholacracy.infrastructure.persistence.adapter;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.MeetingSeries;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
+import com.xholacracy.domain.model.meeting.MeetingSeriesRepository;
+import com.xholacracy.domain.model.meeting.MeetingSeriesStatus;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.infrastructure.persistence.jpa.MeetingSeriesJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MeetingSeries Repository适配器
+ * 将Spring Data JPA Repository适配到领域Repository接口
+ */
+@Component
+@Transactional
+public class MeetingSeriesRepositoryAdapter implements MeetingSeriesRepository {
+    
+    private final MeetingSeriesJpaRepository jpaRepository;
+    
+    public MeetingSeriesRepositoryAdapter(MeetingSeriesJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    public MeetingSeries save(MeetingSeries series) {
+        return jpaRepository.save(series);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MeetingSeries> findById(OrganizationId organizationId, MeetingSeriesId id) {
+        return jpaRepository.findByOrganizationIdAndId(organizationId, id);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<MeetingSeries> findByCircleId(CircleId circleId) {
+        return jpaRepository.findByCircleIdOrderByCreatedAt(circleId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<MeetingSeries> findDue(LocalDateTime horizon, int limit) {
+        return jpaRepository.findDue(MeetingSeriesStatus.ACTIVE, horizon, PageRequest.of(0, limit));
+    }
+}
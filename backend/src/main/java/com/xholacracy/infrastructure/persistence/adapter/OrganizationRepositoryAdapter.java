@@ -3,6 +3,8 @@ package com.xholacracy.infrastructure.persistence.adapter;
 import com.xholacracy.domain.model.organization.Organization;
 import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.sync.OrganizationChangeSequence;
+import com.xholacracy.infrastructure.persistence.jpa.OrganizationChangeSequenceJpaRepository;
 import com.xholacracy.infrastructure.persistence.jpa.OrganizationJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,14 +21,26 @@ import java.util.Optional;
 public class OrganizationRepositoryAdapter implements OrganizationRepository {
     
     private final OrganizationJpaRepository jpaRepository;
+    private final OrganizationChangeSequenceJpaRepository sequenceJpaRepository;
     
-    public OrganizationRepositoryAdapter(OrganizationJpaRepository jpaRepository) {
+    public OrganizationRepositoryAdapter(OrganizationJpaRepository jpaRepository,
+                                         OrganizationChangeSequenceJpaRepository sequenceJpaRepository) {
         this.jpaRepository = jpaRepository;
+        this.sequenceJpaRepository = sequenceJpaRepository;
     }
     
+    /**
+     * 新组织的变更序号行在同一事务中创建，
+     * 之后对该组织的写入只锁定已有的行，不会并发插入同一主键
+     */
     @Override
     public Organization save(Organization organization) {
-        return jpaRepository.save(organization);
+        boolean created = !sequenceJpaRepository.existsById(organization.getId());
+        Organization saved = jpaRepository.save(organization);
+        if (created) {
+            sequenceJpaRepository.save(OrganizationChangeSequence.start(organization.getId()));
+        }
+        return saved;
     }
     
     @Override
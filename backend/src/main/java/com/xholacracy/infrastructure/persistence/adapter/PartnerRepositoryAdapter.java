@@ -1,5 +1,6 @@
 package com.xholacracy.infrastructure.persistence.adapter;
 
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.Partner;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.partner.PartnerRepository;
@@ -7,7 +8,10 @@ import com.xholacracy.infrastructure.persistence.jpa.PartnerJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -68,4 +72,37 @@ public class PartnerRepositoryAdapter implements PartnerRepository {
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmail(email);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<PartnerId, String> findNamesByIds(Collection<PartnerId> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = ids.stream().map(PartnerId::getValue).distinct().toList();
+        Map<PartnerId, String> names = new HashMap<>();
+        for (Object[] row : jpaRepository.findNamesByIdValues(values)) {
+            names.put(PartnerId.of((String) row[0]), (String) row[1]);
+        }
+        return names;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, PartnerId> findIdsByEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, PartnerId> ids = new HashMap<>();
+        for (Object[] row : jpaRepository.findIdValuesByEmails(emails.stream().distinct().toList())) {
+            ids.put((String) row[0], PartnerId.of((String) row[1]));
+        }
+        return ids;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Partner> findAssignedInOrganization(OrganizationId organizationId) {
+        return jpaRepository.findAssignedInOrganization(organizationId.getValue());
+    }
 }
@@ -0,0 +1,30 @@
+package com.xholacracy.infrastructure.persistence.adapter;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.PermissionGrant;
+import com.xholacracy.domain.model.permission.PermissionGrantRepository;
+import com.xholacracy.infrastructure.persistence.jpa.RoleJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * PermissionGrant Repository适配器
+ */
+@Component
+@Transactional
+public class PermissionGrantRepositoryAdapter implements PermissionGrantRepository {
+    
+    private final RoleJpaRepository roleJpaRepository;
+    
+    public PermissionGrantRepositoryAdapter(RoleJpaRepository roleJpaRepository) {
+        this.roleJpaRepository = roleJpaRepository;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<PermissionGrant> findByPartnerId(PartnerId partnerId) {
+        return roleJpaRepository.findPermissionGrantsByPartner(partnerId.getValue());
+    }
+}
@@ -0,0 +1,66 @@
+package com.xholacracy.infrastructure.persistence.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.permission.PermissionScopeRepository;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalKey;
+import com.xholacracy.infrastructure.persistence.jpa.MeetingJpaRepository;
+import com.xholacracy.infrastructure.persistence.jpa.MeetingSeriesJpaRepository;
+import com.xholacracy.infrastructure.persistence.jpa.ProposalJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PermissionScope Repository适配器
+ * 提案、会议和会议系列创建后不会改变所在圈子，查到的圈子按目标缓存，
+ * 现场会议的命令在会话期间不再为权限检查访问数据库；不存在的目标不缓存
+ */
+@Component
+@Transactional(readOnly = true)
+public class PermissionScopeRepositoryAdapter implements PermissionScopeRepository {
+    
+    static final long MAXIMUM_SIZE = 10_000;
+    
+    private final ProposalJpaRepository proposalJpaRepository;
+    private final MeetingJpaRepository meetingJpaRepository;
+    private final MeetingSeriesJpaRepository meetingSeriesJpaRepository;
+    private final Cache<Object, CircleId> circles = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+    
+    public PermissionScopeRepositoryAdapter(ProposalJpaRepository proposalJpaRepository,
+                                            MeetingJpaRepository meetingJpaRepository,
+                                            MeetingSeriesJpaRepository meetingSeriesJpaRepository) {
+        this.proposalJpaRepository = proposalJpaRepository;
+        this.meetingJpaRepository = meetingJpaRepository;
+        this.meetingSeriesJpaRepository = meetingSeriesJpaRepository;
+    }
+    
+    @Override
+    public Optional<CircleId> findCircleOfProposal(OrganizationId organizationId, ProposalId proposalId) {
+        return Optional.ofNullable(circles.get(ProposalKey.of(organizationId, proposalId), key ->
+            proposalJpaRepository.findCircleIdByKey(organizationId, proposalId).orElse(null)));
+    }
+    
+    @Override
+    public Optional<CircleId> findCircleOfMeeting(OrganizationId organizationId, MeetingId meetingId) {
+        return Optional.ofNullable(circles.get(MeetingKey.of(organizationId, meetingId), key ->
+            meetingJpaRepository.findCircleIdByKey(organizationId, meetingId).orElse(null)));
+    }
+    
+    @Override
+    public Optional<CircleId> findCircleOfMeetingSeries(OrganizationId organizationId, MeetingSeriesId seriesId) {
+        return Optional.ofNullable(circles.get(List.of(organizationId, seriesId), key ->
+            meetingSeriesJpaRepository.findCircleIdById(organizationId, seriesId).orElse(null)));
+    }
+}
@@ -1,32 +1,51 @@
 package com.xholacracy.infrastructure.persistence.adapter;
 
 import com.xholacracy.domain.model.circle.CircleId;
-import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.proposal.Proposal;
 import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalKey;
 import com.xholacracy.domain.model.proposal.ProposalRepository;
 import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.infrastructure.persistence.archive.AggregateArchive;
+import com.xholacracy.infrastructure.persistence.archive.ArchivedAggregateType;
 import com.xholacracy.infrastructure.persistence.jpa.ProposalJpaRepository;
+import com.xholacracy.infrastructure.persistence.jpa.ProposalSummaryJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Proposal Repository适配器
  * 将Spring Data JPA Repository适配到领域Repository接口
+ *
+ * 按ID查询在热表未命中时回退到冷归档；列表查询只覆盖热表
  */
 @Component
 @Transactional
 public class ProposalRepositoryAdapter implements ProposalRepository {
     
     private final ProposalJpaRepository jpaRepository;
+    private final ProposalSummaryJpaRepository summaryJpaRepository;
+    private final AggregateArchive archive;
     
-    public ProposalRepositoryAdapter(ProposalJpaRepository jpaRepository) {
+    public ProposalRepositoryAdapter(ProposalJpaRepository jpaRepository,
+                                     ProposalSummaryJpaRepository summaryJpaRepository,
+                                     AggregateArchive archive) {
         this.jpaRepository = jpaRepository;
+        this.summaryJpaRepository = summaryJpaRepository;
+        this.archive = archive;
     }
     
+    /**
+     * 保存提案
+     * 聚合登记的变更事件随保存发布，由ProposalSummaryProjector在同一事务内更新摘要
+     */
     @Override
     public Proposal save(Proposal proposal) {
         return jpaRepository.save(proposal);
@@ -34,36 +53,62 @@ public class ProposalRepositoryAdapter implements ProposalRepository {
     
     @Override
     @Transactional(readOnly = true)
-    public Optional<Proposal> findById(ProposalId proposalId) {
-        return jpaRepository.findById(proposalId);
+    public Optional<Proposal> findById(OrganizationId organizationId, ProposalId proposalId) {
+        return jpaRepository.findById(ProposalKey.of(organizationId, proposalId))
+            .or(() -> archive.findProposal(organizationId, proposalId));
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<Proposal> findAll() {
-        return jpaRepository.findAll();
+    public List<Proposal> findByOrganizationId(OrganizationId organizationId) {
+        return jpaRepository.findByKeyOrganizationId(organizationId);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<Proposal> findByCircleId(CircleId circleId) {
-        return jpaRepository.findByCircleId(circleId);
+    public List<Proposal> findByCircleId(OrganizationId organizationId, CircleId circleId) {
+        return jpaRepository.findByKeyOrganizationIdAndCircleId(organizationId, circleId);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<Proposal> findByStatus(ProposalStatus status) {
-        return jpaRepository.findByStatus(status);
+    public List<Proposal> findByStatus(OrganizationId organizationId, ProposalStatus status) {
+        return jpaRepository.findByKeyOrganizationIdAndStatus(organizationId, status);
     }
     
     @Override
     public void delete(Proposal proposal) {
+        summaryJpaRepository.deleteById(proposal.getId());
         jpaRepository.delete(proposal);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public boolean existsById(ProposalId proposalId) {
-        return jpaRepository.existsById(proposalId);
+    public boolean existsById(OrganizationId organizationId, ProposalId proposalId) {
+        return jpaRepository.existsById(ProposalKey.of(organizationId, proposalId))
+            || archive.contains(ArchivedAggregateType.PROPOSAL, organizationId, proposalId.getValue());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ProposalId, String> findTitlesByIds(Collection<ProposalId> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = ids.stream().map(ProposalId::getValue).distinct().toList();
+        Map<ProposalId, String> names = new HashMap<>();
+        for (Object[] row : summaryJpaRepository.findTitlesByIdValues(values)) {
+            names.put(ProposalId.of((String) row[0]), (String) row[1]);
+        }
+        return names;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersionTagById(OrganizationId organizationId, ProposalId id) {
+        return jpaRepository.findVersionRowByIdValue(organizationId.getValue(), id.getValue()).stream()
+            .findFirst()
+            .map(row -> row[0] + "." + row[1] + "." + row[2])
+            .or(() -> archive.findVersionTag(ArchivedAggregateType.PROPOSAL, organizationId, id.getValue()));
     }
 }
@@ -0,0 +1,75 @@
+package com.xholacracy.infrastructure.persistence.adapter;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.domain.model.proposal.ProposalSummary;
+import com.xholacracy.domain.model.proposal.ProposalSummaryRepository;
+import com.xholacracy.infrastructure.persistence.jpa.ProposalSummaryJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProposalSummary Repository适配器
+ * 将Spring Data JPA Repository适配到领域Repository接口
+ */
+@Component
+@Transactional
+public class ProposalSummaryRepositoryAdapter implements ProposalSummaryRepository {
+
+    private final ProposalSummaryJpaRepository jpaRepository;
+
+    public ProposalSummaryRepositoryAdapter(ProposalSummaryJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public ProposalSummary save(ProposalSummary summary) {
+        return jpaRepository.save(summary);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProposalSummary> findById(ProposalId proposalId) {
+        return jpaRepository.findById(proposalId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProposalSummary> findByCircleId(OrganizationId organizationId, CircleId circleId) {
+        return jpaRepository.findByOrganizationIdAndCircleIdOrderByLastEventAtDesc(organizationId, circleId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProposalSummary> findByCircleIdAndStatus(OrganizationId organizationId, CircleId circleId,
+                                                         ProposalStatus status) {
+        return jpaRepository.findByOrganizationIdAndCircleIdAndStatusOrderByLastEventAtDesc(
+            organizationId, circleId, status);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProposalSummary> findByStatus(OrganizationId organizationId, ProposalStatus status) {
+        return jpaRepository.findByOrganizationIdAndStatusOrderByLastEventAtDesc(organizationId, status);
+    }
+
+    @Override
+    public void deleteById(ProposalId proposalId) {
+        jpaRepository.deleteById(proposalId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProposalSummary> findByIds(Collection<ProposalId> proposalIds) {
+        if (proposalIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(proposalIds);
+    }
+}
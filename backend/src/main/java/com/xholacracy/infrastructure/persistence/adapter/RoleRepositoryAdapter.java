@@ -1,33 +1,52 @@
 package com.xholacracy.infrastructure.persistence.adapter;
 
+import com.xholacracy.domain.model.circle.Circle;
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.domain.model.role.RoleHolder;
 import com.xholacracy.domain.model.role.RoleId;
 import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.domain.model.role.RoleSummaryView;
 import com.xholacracy.infrastructure.persistence.jpa.RoleJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Role Repository适配器
  * 将Spring Data JPA Repository适配到领域Repository接口
+ * 
+ * Circle.roles由圈子一侧的外键列维护，直接保存或删除角色时Hibernate不会使该集合缓存失效，
+ * 因此在事务提交后手动清除所属圈子的集合缓存
  */
 @Component
 @Transactional
 public class RoleRepositoryAdapter implements RoleRepository {
     
+    private static final String CIRCLE_ROLES = Circle.class.getName() + ".roles";
+    
     private final RoleJpaRepository jpaRepository;
+    private final EntityManagerFactory entityManagerFactory;
     
-    public RoleRepositoryAdapter(RoleJpaRepository jpaRepository) {
+    public RoleRepositoryAdapter(RoleJpaRepository jpaRepository, EntityManagerFactory entityManagerFactory) {
         this.jpaRepository = jpaRepository;
+        this.entityManagerFactory = entityManagerFactory;
     }
     
     @Override
     public Role save(Role role) {
-        return jpaRepository.save(role);
+        Role saved = jpaRepository.save(role);
+        evictCircleRoles(saved.getCircleId());
+        return saved;
     }
     
     @Override
@@ -51,11 +70,12 @@ public class RoleRepositoryAdapter implements RoleRepository {
     @Override
     public void delete(Role role) {
         jpaRepository.delete(role);
+        evictCircleRoles(role.getCircleId());
     }
     
     @Override
     public void deleteById(RoleId roleId) {
-        jpaRepository.deleteById(roleId);
+        jpaRepository.findById(roleId).ifPresent(this::delete);
     }
     
     @Override
@@ -63,4 +83,52 @@ public class RoleRepositoryAdapter implements RoleRepository {
     public boolean existsById(RoleId roleId) {
         return jpaRepository.existsById(roleId);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoleSummaryView> findSummariesByCircleId(CircleId circleId) {
+        return jpaRepository.findSummariesByCircleIdValue(circleId.getValue());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoleSummaryView> findSummariesByIds(Collection<RoleId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findSummariesByIdValues(ids.stream().map(RoleId::getValue).distinct().toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoleAssignment> findAssignmentsByIds(Collection<String> assignmentIds) {
+        if (assignmentIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAssignmentsByIds(assignmentIds);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoleHolder> findHoldersByCircleIds(Collection<CircleId> circleIds) {
+        if (circleIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = circleIds.stream().map(CircleId::getValue).distinct().toList();
+        return jpaRepository.findHoldersByCircleIdValues(values);
+    }
+    
+    private void evictCircleRoles(CircleId circleId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evictCollectionData(CIRCLE_ROLES, circleId);
+                }
+            });
+        } else {
+            cache.evictCollectionData(CIRCLE_ROLES, circleId);
+        }
+    }
 }
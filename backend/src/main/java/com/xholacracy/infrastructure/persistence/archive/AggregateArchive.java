@@ -0,0 +1,103 @@
+package com.xholacracy.infrastructure.persistence.archive;
+
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.infrastructure.persistence.jpa.ArchivedAggregateJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 冷归档的读取端
+ * 仓储适配器在热表中找不到聚合时回退到这里，调用方感知不到聚合已被归档
+ *
+ * 返回的聚合由文档还原，不受持久化上下文管理；
+ * 只有终态聚合会被归档，它们不再有状态迁移，因此不会被再次保存
+ */
+@Component
+@Transactional(readOnly = true)
+public class AggregateArchive {
+    
+    private final ArchivedAggregateJpaRepository jpaRepository;
+    private final AggregateDocumentCodec codec;
+    
+    public AggregateArchive(ArchivedAggregateJpaRepository jpaRepository, AggregateDocumentCodec codec) {
+        this.jpaRepository = jpaRepository;
+        this.codec = codec;
+    }
+    
+    /**
+     * 查询归档的提案
+     *
+     * @param organizationId 组织ID
+     * @param proposalId 提案ID
+     * @return 提案（如果已归档）
+     */
+    public Optional<Proposal> findProposal(OrganizationId organizationId, ProposalId proposalId) {
+        return find(ArchivedAggregateType.PROPOSAL, organizationId.getValue(), proposalId.getValue())
+            .map(archived -> codec.read(archived.getDocument(), Proposal.class));
+    }
+    
+    /**
+     * 查询归档的会议
+     *
+     * @param organizationId 组织ID
+     * @param meetingId 会议ID
+     * @return 会议（如果已归档）
+     */
+    public Optional<GovernanceMeeting> findMeeting(OrganizationId organizationId, MeetingId meetingId) {
+        return find(ArchivedAggregateType.MEETING, organizationId.getValue(), meetingId.getValue())
+            .map(archived -> codec.read(archived.getDocument(), GovernanceMeeting.class));
+    }
+    
+    /**
+     * 批量查询归档的会议
+     *
+     * @param organizationId 组织ID
+     * @param meetingIds 会议ID集合
+     * @return 已归档的会议列表
+     */
+    public List<GovernanceMeeting> findMeetings(OrganizationId organizationId, Collection<MeetingId> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByAggregateTypeAndOrganizationIdAndIdIn(ArchivedAggregateType.MEETING,
+                organizationId.getValue(), meetingIds.stream().map(MeetingId::getValue).toList()).stream()
+            .map(archived -> codec.read(archived.getDocument(), GovernanceMeeting.class))
+            .toList();
+    }
+    
+    /**
+     * 判断聚合是否已归档
+     *
+     * @param type 聚合类型
+     * @param organizationId 组织ID
+     * @param id 聚合ID值
+     * @return 如果已归档返回true
+     */
+    public boolean contains(ArchivedAggregateType type, OrganizationId organizationId, String id) {
+        return jpaRepository.existsById(new ArchivedAggregate.Key(type, organizationId.getValue(), id));
+    }
+    
+    /**
+     * 查询归档聚合的版本标记
+     *
+     * @param type 聚合类型
+     * @param organizationId 组织ID
+     * @param id 聚合ID值
+     * @return 版本标记（如果已归档）
+     */
+    public Optional<String> findVersionTag(ArchivedAggregateType type, OrganizationId organizationId, String id) {
+        return jpaRepository.findVersionTag(type, organizationId.getValue(), id);
+    }
+    
+    private Optional<ArchivedAggregate> find(ArchivedAggregateType type, String organizationId, String id) {
+        return jpaRepository.findById(new ArchivedAggregate.Key(type, organizationId, id));
+    }
+}
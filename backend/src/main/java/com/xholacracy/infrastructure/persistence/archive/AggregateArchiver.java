@@ -0,0 +1,178 @@
+package com.xholacracy.infrastructure.persistence.archive;
+
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.meeting.MeetingStatus;
+import com.xholacracy.domain.model.proposal.Objection;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalKey;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.infrastructure.persistence.jpa.ArchivedAggregateJpaRepository;
+import com.xholacracy.infrastructure.persistence.jpa.MeetingJpaRepository;
+import com.xholacracy.infrastructure.persistence.jpa.ProposalJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 聚合归档器
+ * 把处于终态且超过保留期的提案和会议序列化到archived_aggregates，再从热表中删除，
+ * 每次调用处理一批并在自己的事务中提交
+ *
+ * 热表的行通过逐表的原生DELETE删除而不是EntityManager.remove：
+ * 一批聚合的每张子表只需一条语句，也不会触发Hibernate删除事件，
+ * 因此变更日志中不会出现墓碑，增量同步的客户端不会把归档误当作删除
+ */
+@Component
+@Transactional
+public class AggregateArchiver {
+    
+    private static final Logger log = LoggerFactory.getLogger(AggregateArchiver.class);
+    
+    static final Set<ProposalStatus> TERMINAL_PROPOSAL_STATUSES =
+        EnumSet.of(ProposalStatus.APPLIED, ProposalStatus.WITHDRAWN, ProposalStatus.REJECTED);
+    
+    static final Set<MeetingStatus> TERMINAL_MEETING_STATUSES =
+        EnumSet.of(MeetingStatus.COMPLETED, MeetingStatus.CANCELLED);
+    
+    /**
+     * 提案的子表，按依赖顺序排列，最后删除提案本身
+     */
+    private static final List<String> PROPOSAL_CHILD_TABLES = List.of(
+        "tension_examples", "required_approvers", "decision_events", "questions",
+        "reactions", "amendments", "objections", "votes");
+    
+    /**
+     * 会议的子表
+     */
+    private static final List<String> MEETING_CHILD_TABLES = List.of(
+        "meeting_participants", "meeting_agenda_items", "meeting_attendance", "meeting_proposal_outcomes");
+    
+    private final ProposalJpaRepository proposalJpaRepository;
+    private final ProposalRepository proposalRepository;
+    private final MeetingJpaRepository meetingJpaRepository;
+    private final ArchivedAggregateJpaRepository archiveJpaRepository;
+    private final AggregateDocumentCodec codec;
+    private final EntityManager entityManager;
+    
+    public AggregateArchiver(ProposalJpaRepository proposalJpaRepository,
+                             ProposalRepository proposalRepository,
+                             MeetingJpaRepository meetingJpaRepository,
+                             ArchivedAggregateJpaRepository archiveJpaRepository,
+                             AggregateDocumentCodec codec,
+                             EntityManager entityManager) {
+        this.proposalJpaRepository = proposalJpaRepository;
+        this.proposalRepository = proposalRepository;
+        this.meetingJpaRepository = meetingJpaRepository;
+        this.archiveJpaRepository = archiveJpaRepository;
+        this.codec = codec;
+        this.entityManager = entityManager;
+    }
+    
+    /**
+     * 归档一批提案
+     *
+     * @param cutoff 最后活动早于此时间的终态提案被归档
+     * @param batchSize 本批最多归档的提案数
+     * @return 实际归档的提案数
+     */
+    public int archiveProposals(LocalDateTime cutoff, int batchSize) {
+        List<ProposalKey> keys = proposalJpaRepository.findArchivableKeys(
+            TERMINAL_PROPOSAL_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        
+        List<Proposal> proposals = proposalJpaRepository.findAllById(keys);
+        Map<String, List<String>> idsByOrganization = new LinkedHashMap<>();
+        for (Proposal proposal : proposals) {
+            // 延迟加载的异议理由在序列化之前读取，否则文档中为null
+            proposal.getObjections().forEach(Objection::getReasoning);
+            String versionTag = proposalRepository.findVersionTagById(proposal.getOrganizationId(), proposal.getId())
+                .orElseThrow();
+            archiveJpaRepository.save(ArchivedAggregate.of(ArchivedAggregateType.PROPOSAL,
+                proposal.getOrganizationId().getValue(), proposal.getId().getValue(),
+                proposal.getCircleId().getValue(), proposal.getStatus().name(), versionTag,
+                codec.write(proposal)));
+            idsByOrganization.computeIfAbsent(proposal.getOrganizationId().getValue(), id -> new ArrayList<>())
+                .add(proposal.getId().getValue());
+        }
+        
+        entityManager.flush();
+        proposals.forEach(entityManager::detach);
+        idsByOrganization.forEach((organizationId, ids) ->
+            deleteHotRows(PROPOSAL_CHILD_TABLES, "proposal_id", "proposals", organizationId, ids));
+        log.debug("Archived {} proposals older than {}", proposals.size(), cutoff);
+        return proposals.size();
+    }
+    
+    /**
+     * 归档一批会议
+     *
+     * @param cutoff 结束早于此时间的终态会议被归档
+     * @param batchSize 本批最多归档的会议数
+     * @return 实际归档的会议数
+     */
+    public int archiveMeetings(LocalDateTime cutoff, int batchSize) {
+        List<MeetingKey> keys = meetingJpaRepository.findArchivableKeys(
+            TERMINAL_MEETING_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        
+        List<GovernanceMeeting> meetings = meetingJpaRepository.findAllById(keys);
+        Map<String, List<String>> idsByOrganization = new LinkedHashMap<>();
+        for (GovernanceMeeting meeting : meetings) {
+            archiveJpaRepository.save(ArchivedAggregate.of(ArchivedAggregateType.MEETING,
+                meeting.getOrganizationId().getValue(), meeting.getId().getValue(),
+                meeting.getCircleId().getValue(), meeting.getStatus().name(),
+                String.valueOf(meeting.getVersion()), codec.write(meeting)));
+            idsByOrganization.computeIfAbsent(meeting.getOrganizationId().getValue(), id -> new ArrayList<>())
+                .add(meeting.getId().getValue());
+        }
+        
+        entityManager.flush();
+        meetings.forEach(entityManager::detach);
+        idsByOrganization.forEach((organizationId, ids) ->
+            deleteHotRows(MEETING_CHILD_TABLES, "meeting_id", "governance_meetings", organizationId, ids));
+        log.debug("Archived {} meetings older than {}", meetings.size(), cutoff);
+        return meetings.size();
+    }
+    
+    /**
+     * 删除一个组织内一批聚合在热表中的行
+     * 每条语句都带组织ID条件，只触及该组织所在的分区；
+     * 声明查询空间使Hibernate只失效这些表对应的二级缓存区域
+     */
+    private void deleteHotRows(List<String> childTables, String foreignKey, String rootTable,
+                               String organizationId, List<String> ids) {
+        for (String table : childTables) {
+            delete("DELETE FROM " + table + " WHERE organization_id = :organizationId AND "
+                + foreignKey + " IN (:ids)", table, organizationId, ids);
+        }
+        delete("DELETE FROM " + rootTable + " WHERE organization_id = :organizationId AND id IN (:ids)",
+            rootTable, organizationId, ids);
+    }
+    
+    private void delete(String sql, String table, String organizationId, List<String> ids) {
+        entityManager.createNativeQuery(sql)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace(table)
+            .setParameter("organizationId", organizationId)
+            .setParameterList("ids", ids)
+            .executeUpdate();
+    }
+}
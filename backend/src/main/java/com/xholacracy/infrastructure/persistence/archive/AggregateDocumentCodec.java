@@ -0,0 +1,73 @@
+package com.xholacracy.infrastructure.persistence.archive;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.Transient;
+import org.springframework.stereotype.Component;
+
+/**
+ * 聚合文档编解码
+ * 按字段而不是getter读写，领域模型不需要为归档添加注解或setter，
+ * 派生的getter（如投票统计）也不会进入文档；
+ * JPA的@Transient字段（待发布的领域事件）和字节码增强加入的字段被忽略
+ *
+ * 文档格式就是领域模型的字段结构，改变已归档聚合的字段类型时，
+ * 需要同时用迁移脚本改写archived_aggregates中的文档（如V16）
+ */
+@Component
+public class AggregateDocumentCodec {
+    
+    private final ObjectMapper mapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+        .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .annotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            public boolean hasIgnoreMarker(AnnotatedMember member) {
+                return member.hasAnnotation(Transient.class)
+                    || member.getName().startsWith("$$_hibernate_")
+                    || super.hasIgnoreMarker(member);
+            }
+        })
+        .build();
+    
+    /**
+     * 将聚合序列化为JSON文档
+     * 调用方负责在会话内先初始化延迟加载的属性
+     *
+     * @param aggregate 聚合根
+     * @return JSON文档
+     */
+    public String write(Object aggregate) {
+        try {
+            return mapper.writeValueAsString(aggregate);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + aggregate.getClass().getSimpleName(), e);
+        }
+    }
+    
+    /**
+     * 从JSON文档还原聚合
+     *
+     * @param document JSON文档
+     * @param type 聚合根类型
+     * @return 游离状态的聚合
+     */
+    public <T> T read(String document, Class<T> type) {
+        try {
+            return mapper.readValue(document, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.xholacracy.infrastructure.persistence.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 归档调度
+ * 定期把超过保留期的终态会议和提案分批移入冷归档，直到不足一批为止；
+ * 每批在独立事务中提交，单次事务持有的锁和回滚量都以批量大小为上限
+ *
+ * 先归档会议：提案被热表中的会议引用时不能归档，会议归档后它才成为候选
+ */
+public class ArchiveScheduler {
+    
+    private static final Logger log = LoggerFactory.getLogger(ArchiveScheduler.class);
+    
+    private final AggregateArchiver archiver;
+    private final Duration minAge;
+    private final int batchSize;
+    
+    public ArchiveScheduler(AggregateArchiver archiver, Duration minAge, int batchSize) {
+        this.archiver = archiver;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * 执行一轮归档
+     */
+    @Scheduled(fixedDelayString = "${xholacracy.archive.interval:PT15M}")
+    public void run() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        try {
+            int meetings = drain(() -> archiver.archiveMeetings(cutoff, batchSize));
+            int proposals = drain(() -> archiver.archiveProposals(cutoff, batchSize));
+            if (meetings > 0 || proposals > 0) {
+                log.info("Archived {} meetings and {} proposals older than {}", meetings, proposals, cutoff);
+            }
+        } catch (Exception e) {
+            log.warn("Archiving run failed, retrying on next run", e);
+        }
+    }
+    
+    private int drain(Batch batch) {
+        int total = 0;
+        int archived;
+        do {
+            archived = batch.archive();
+            total += archived;
+        } while (archived == batchSize);
+        return total;
+    }
+    
+    @FunctionalInterface
+    private interface Batch {
+        int archive();
+    }
+}
@@ -0,0 +1,159 @@
+package com.xholacracy.infrastructure.persistence.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 归档聚合 - 冷存储中的一个已终结聚合
+ * 整个聚合（含子实体和元素集合）序列化为一个JSON文档，取代热表中分散在多张子表里的行；
+ * 在PostgreSQL中文档列为JSONB，超过TOAST阈值时由数据库压缩存储
+ *
+ * 归档行写入后不再修改
+ */
+@Entity
+@Table(name = "archived_aggregates")
+@IdClass(ArchivedAggregate.Key.class)
+public class ArchivedAggregate {
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", length = 50)
+    private ArchivedAggregateType aggregateType;
+    
+    @Id
+    @Column(name = "organization_id")
+    private String organizationId;
+    
+    @Id
+    @Column(name = "id")
+    private String id;
+    
+    @Column(name = "circle_id", nullable = false)
+    private String circleId;
+    
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+    
+    /**
+     * 归档时的版本标记，归档后聚合不再变化，ETag保持不变
+     */
+    @Column(name = "version_tag", nullable = false, length = 100)
+    private String versionTag;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "document", nullable = false)
+    private String document;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // JPA需要无参构造函数
+    protected ArchivedAggregate() {
+    }
+    
+    private ArchivedAggregate(ArchivedAggregateType aggregateType, String organizationId, String id,
+                              String circleId, String status, String versionTag, String document) {
+        this.aggregateType = Objects.requireNonNull(aggregateType, "Aggregate type cannot be null");
+        this.organizationId = Objects.requireNonNull(organizationId, "OrganizationId cannot be null");
+        this.id = Objects.requireNonNull(id, "Id cannot be null");
+        this.circleId = Objects.requireNonNull(circleId, "CircleId cannot be null");
+        this.status = Objects.requireNonNull(status, "Status cannot be null");
+        this.versionTag = Objects.requireNonNull(versionTag, "Version tag cannot be null");
+        this.document = Objects.requireNonNull(document, "Document cannot be null");
+        this.archivedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 创建归档行
+     *
+     * @param aggregateType 聚合类型
+     * @param organizationId 组织ID值
+     * @param id 聚合ID值
+     * @param circleId 圈子ID值
+     * @param status 归档时的终态
+     * @param versionTag 归档时的版本标记
+     * @param document 聚合的JSON文档
+     * @return 归档行
+     */
+    public static ArchivedAggregate of(ArchivedAggregateType aggregateType, String organizationId, String id,
+                                       String circleId, String status, String versionTag, String document) {
+        return new ArchivedAggregate(aggregateType, organizationId, id, circleId, status, versionTag, document);
+    }
+    
+    public ArchivedAggregateType getAggregateType() {
+        return aggregateType;
+    }
+    
+    public String getOrganizationId() {
+        return organizationId;
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public String getCircleId() {
+        return circleId;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public String getVersionTag() {
+        return versionTag;
+    }
+    
+    public String getDocument() {
+        return document;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    /**
+     * 归档行主键
+     */
+    public static class Key implements Serializable {
+        
+        private ArchivedAggregateType aggregateType;
+        private String organizationId;
+        private String id;
+        
+        protected Key() {
+        }
+        
+        public Key(ArchivedAggregateType aggregateType, String organizationId, String id) {
+            this.aggregateType = aggregateType;
+            this.organizationId = organizationId;
+            this.id = id;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return aggregateType == that.aggregateType
+                && Objects.equals(organizationId, that.organizationId)
+                && Objects.equals(id, that.id);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(aggregateType, organizationId, id);
+        }
+    }
+}
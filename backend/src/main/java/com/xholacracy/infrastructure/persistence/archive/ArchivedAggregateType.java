@@ -0,0 +1,9 @@
+package com.xholacracy.infrastructure.persistence.archive;
+
+/**
+ * 归档聚合类型
+ */
+public enum ArchivedAggregateType {
+    PROPOSAL,
+    MEETING
+}
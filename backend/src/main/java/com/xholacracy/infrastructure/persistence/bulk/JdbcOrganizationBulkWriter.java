@@ -0,0 +1,309 @@
+package com.xholacracy.infrastructure.persistence.bulk;
+
+import com.xholacracy.domain.event.RoleAssignmentsChangedEvent;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.SpecialRoles;
+import com.xholacracy.domain.model.organization.ImportProgressListener;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationBulkWriter;
+import com.xholacracy.domain.model.organization.OrganizationGraph;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.Partner;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.domain.model.role.RoleId;
+import com.xholacracy.domain.model.sync.ChangedEntityType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 基于JDBC批处理的组织批量写入器
+ * 在调用方事务的JDBC连接上按外键顺序逐表批量插入，每批BATCH_SIZE行，
+ * 绕过持久化上下文、脏检查和实体监听器，整个组织在同一事务中提交
+ *
+ * 没有使用StatelessSession：Hibernate 6.3的无状态会话不对插入做JDBC批处理，
+ * 一万个角色会变成一万次往返。列清单与实体映射保持一致，版本号写入Hibernate的初始值0
+ *
+ * 这里的写入不触发ChangeTracker，因此由写入器为每个圈子、角色和角色分配
+ * 写入序号为1的变更日志，使增量同步从0开始即可拿到整个组织；追加的圈子同样记在序号1上，
+ * 组织在整个写入事务提交前对其他事务不可见，不会有客户端在两批之间取走序号1；
+ * 同理由写入器发布角色分配变更事件，使被分配的已有伙伴的缓存权限在提交后失效
+ */
+@Component
+@Transactional
+public class JdbcOrganizationBulkWriter implements OrganizationBulkWriter {
+    
+    static final int BATCH_SIZE = 1000;
+    
+    private static final long INITIAL_VERSION = 0;
+    private static final long INITIAL_SEQUENCE = 1;
+    
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public JdbcOrganizationBulkWriter(EntityManager entityManager, ApplicationEventPublisher eventPublisher) {
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @Override
+    public void write(OrganizationGraph graph, ImportProgressListener listener) {
+        Organization organization = graph.getOrganization();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            Progress progress = new Progress(listener, graph.getEntityCount());
+            insertOrganization(connection, organization);
+            progress.advance("organization", 1);
+            insertStructure(connection, organization.getId(), graph.getCircles(), graph.getNewPartners(), progress);
+            linkAnchorCircle(connection, organization);
+            insertChangeSequence(connection, organization.getId());
+            listener.onProgress("completed", progress.written, progress.total);
+        });
+    }
+    
+    @Override
+    public void append(OrganizationId organizationId, List<Circle> circles, ImportProgressListener listener) {
+        int total = circles.size() + circles.stream()
+            .flatMap(circle -> circle.getRoles().stream())
+            .mapToInt(role -> 1 + role.getAssignments().size())
+            .sum();
+        entityManager.unwrap(Session.class).doWork(connection ->
+            insertStructure(connection, organizationId, circles, List.of(), new Progress(listener, total)));
+    }
+    
+    /**
+     * 按外键顺序写入圈子、伙伴、角色和角色分配，再写入它们的集合和变更日志
+     */
+    private void insertStructure(Connection connection, OrganizationId organizationId, List<Circle> circles,
+                                 List<Partner> partners, Progress progress) throws SQLException {
+        List<Role> roles = circles.stream().flatMap(circle -> circle.getRoles().stream()).toList();
+        List<RoleAssignment> assignments = roles.stream().flatMap(role -> role.getAssignments().stream()).toList();
+        batchInsert(connection, "INSERT INTO circles (id, name, purpose, parent_circle_id, organization_id, "
+                + "circle_lead_role_id, facilitator_role_id, secretary_role_id, circle_rep_role_id, "
+                + "version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            circles, this::bindCircle, progress, "circles");
+        batchInsert(connection, "INSERT INTO partners (id, name, email, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            partners, this::bindPartner, progress, "partners");
+        batchInsert(connection, "INSERT INTO roles (id, name, purpose, circle_id, is_special_role, special_role_type, "
+                + "version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            roles, this::bindRole, progress, "roles");
+        batchInsert(connection, "INSERT INTO role_assignments (id, role_id, partner_id, assigned_by, assigned_date, "
+                + "created_at) VALUES (?, ?, ?, ?, ?, ?)",
+            assignments, this::bindAssignment, progress, "assignments");
+        insertCollections(connection, circles, roles);
+        insertChangeLog(connection, organizationId, circles);
+        if (!assignments.isEmpty()) {
+            eventPublisher.publishEvent(RoleAssignmentsChangedEvent.of(
+                assignments.stream().map(RoleAssignment::getPartnerId).toList()));
+        }
+    }
+    
+    /**
+     * 组织和锚圈子互相引用，先写不带锚圈子的组织，圈子写入后再补上
+     */
+    private void insertOrganization(Connection connection, Organization organization) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO organizations (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            statement.setString(1, organization.getId().getValue());
+            statement.setString(2, organization.getName());
+            statement.setString(3, organization.getDescription());
+            statement.setTimestamp(4, Timestamp.valueOf(organization.getCreatedAt()));
+            statement.setTimestamp(5, Timestamp.valueOf(organization.getUpdatedAt()));
+            statement.executeUpdate();
+        }
+    }
+    
+    private void linkAnchorCircle(Connection connection, Organization organization) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE organizations SET anchor_circle_id = ? WHERE id = ?")) {
+            statement.setString(1, organization.getAnchorCircleId().getValue());
+            statement.setString(2, organization.getId().getValue());
+            statement.executeUpdate();
+        }
+    }
+    
+    private void bindCircle(PreparedStatement statement, Circle circle) throws SQLException {
+        SpecialRoles specialRoles = circle.getSpecialRoles();
+        statement.setString(1, circle.getId().getValue());
+        statement.setString(2, circle.getName());
+        statement.setString(3, circle.getPurpose());
+        statement.setString(4, circle.getParentCircleId() != null ? circle.getParentCircleId().getValue() : null);
+        statement.setString(5, circle.getOrganizationId().getValue());
+        statement.setString(6, value(specialRoles != null ? specialRoles.getCircleLeadRoleId() : null));
+        statement.setString(7, value(specialRoles != null ? specialRoles.getFacilitatorRoleId() : null));
+        statement.setString(8, value(specialRoles != null ? specialRoles.getSecretaryRoleId() : null));
+        statement.setString(9, value(specialRoles != null ? specialRoles.getCircleRepRoleId() : null));
+        statement.setLong(10, INITIAL_VERSION);
+        statement.setTimestamp(11, Timestamp.valueOf(circle.getCreatedAt()));
+        statement.setTimestamp(12, Timestamp.valueOf(circle.getUpdatedAt()));
+        statement.addBatch();
+    }
+    
+    private void bindPartner(PreparedStatement statement, Partner partner) throws SQLException {
+        statement.setString(1, partner.getId().getValue());
+        statement.setString(2, partner.getName());
+        statement.setString(3, partner.getEmail());
+        statement.setTimestamp(4, Timestamp.valueOf(partner.getCreatedAt()));
+        statement.setTimestamp(5, Timestamp.valueOf(partner.getUpdatedAt()));
+        statement.addBatch();
+    }
+    
+    private void bindRole(PreparedStatement statement, Role role) throws SQLException {
+        statement.setString(1, role.getId().getValue());
+        statement.setString(2, role.getName());
+        statement.setString(3, role.getPurpose());
+        statement.setString(4, role.getCircleId().getValue());
+        statement.setBoolean(5, role.isSpecialRole());
+        statement.setString(6, role.getSpecialRoleType() != null ? role.getSpecialRoleType().name() : null);
+        statement.setLong(7, INITIAL_VERSION);
+        statement.setTimestamp(8, Timestamp.valueOf(role.getCreatedAt()));
+        statement.setTimestamp(9, Timestamp.valueOf(role.getUpdatedAt()));
+        statement.addBatch();
+    }
+    
+    private void bindAssignment(PreparedStatement statement, RoleAssignment assignment) throws SQLException {
+        statement.setString(1, assignment.getId());
+        statement.setString(2, assignment.getRole().getId().getValue());
+        statement.setString(3, assignment.getPartnerId().getValue());
+        statement.setString(4, assignment.getAssignedBy().getValue());
+        statement.setTimestamp(5, Timestamp.valueOf(assignment.getAssignedDate()));
+        statement.setTimestamp(6, Timestamp.valueOf(assignment.getCreatedAt()));
+        statement.addBatch();
+    }
+    
+    private void insertCollections(Connection connection, List<Circle> circles, List<Role> roles) throws SQLException {
+        batchInsert(connection, "INSERT INTO circle_accountabilities (circle_id, accountability) VALUES (?, ?)",
+            circles, (statement, circle) -> {
+                for (String accountability : circle.getAccountabilities()) {
+                    statement.setString(1, circle.getId().getValue());
+                    statement.setString(2, accountability);
+                    statement.addBatch();
+                }
+            }, null, null);
+        batchInsert(connection, "INSERT INTO role_accountabilities (role_id, accountability) VALUES (?, ?)",
+            roles, (statement, role) -> {
+                for (String accountability : role.getAccountabilities()) {
+                    statement.setString(1, role.getId().getValue());
+                    statement.setString(2, accountability);
+                    statement.addBatch();
+                }
+            }, null, null);
+        batchInsert(connection, "INSERT INTO domains (id, role_id, name, description, control_type) VALUES (?, ?, ?, ?, ?)",
+            roles, (statement, role) -> {
+                for (Domain domain : role.getDomains()) {
+                    statement.setString(1, UUID.randomUUID().toString());
+                    statement.setString(2, role.getId().getValue());
+                    statement.setString(3, domain.getName());
+                    statement.setString(4, domain.getDescription());
+                    statement.setString(5, domain.getControlType().name());
+                    statement.addBatch();
+                }
+            }, null, null);
+    }
+    
+    private void insertChangeLog(Connection connection, OrganizationId organizationId, List<Circle> circles)
+            throws SQLException {
+        String organization = organizationId.getValue();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batchInsert(connection, "INSERT INTO change_log "
+                + "(organization_id, entity_type, entity_id, change_sequence, deleted, changed_at) "
+                + "VALUES (?, ?, ?, ?, FALSE, ?)",
+            circles, (statement, circle) -> {
+                addChange(statement, organization, ChangedEntityType.CIRCLE, circle.getId().getValue(), now);
+                for (Role role : circle.getRoles()) {
+                    addChange(statement, organization, ChangedEntityType.ROLE, role.getId().getValue(), now);
+                    for (RoleAssignment assignment : role.getAssignments()) {
+                        addChange(statement, organization, ChangedEntityType.ROLE_ASSIGNMENT, assignment.getId(), now);
+                    }
+                }
+            }, null, null);
+    }
+    
+    private void insertChangeSequence(Connection connection, OrganizationId organizationId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO organization_change_sequences (organization_id, last_sequence) VALUES (?, ?)")) {
+            statement.setString(1, organizationId.getValue());
+            statement.setLong(2, INITIAL_SEQUENCE);
+            statement.executeUpdate();
+        }
+    }
+    
+    private void addChange(PreparedStatement statement, String organizationId, ChangedEntityType type,
+                           String entityId, Timestamp changedAt) throws SQLException {
+        statement.setString(1, organizationId);
+        statement.setString(2, type.name());
+        statement.setString(3, entityId);
+        statement.setLong(4, INITIAL_SEQUENCE);
+        statement.setTimestamp(5, changedAt);
+        statement.addBatch();
+    }
+    
+    /**
+     * 为每个元素添加零到多行，每累计BATCH_SIZE个元素执行一次；
+     * 给出阶段名时每批执行后按元素数报告进度
+     */
+    private <T> void batchInsert(Connection connection, String sql, List<T> elements, RowBinder<T> binder,
+                                 Progress progress, String phase) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int pending = 0;
+            for (T element : elements) {
+                binder.bind(statement, element);
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    report(progress, phase, pending);
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                report(progress, phase, pending);
+            }
+        }
+    }
+    
+    private void report(Progress progress, String phase, int count) {
+        if (progress != null) {
+            progress.advance(phase, count);
+        }
+    }
+    
+    private static String value(RoleId id) {
+        return id != null ? id.getValue() : null;
+    }
+    
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement statement, T element) throws SQLException;
+    }
+    
+    /**
+     * 已写入实体数，按批报告给监听器
+     */
+    private static final class Progress {
+        
+        private final ImportProgressListener listener;
+        private final int total;
+        private int written;
+        
+        Progress(ImportProgressListener listener, int total) {
+            this.listener = listener;
+            this.total = total;
+        }
+        
+        void advance(String phase, int count) {
+            written += count;
+            listener.onProgress(phase, written, total);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.xholacracy.infrastructure.persistence.bulk;
+
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationStructureReader;
+import com.xholacracy.infrastructure.persistence.jpa.CircleJpaRepository;
+import com.xholacracy.infrastructure.persistence.jpa.RoleJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于JPA的组织结构读取器
+ * 每个父圈子的全部子圈子用固定的六条查询加载：圈子及职责、圈子目的、角色、角色职责、领域、角色分配，
+ * 查询次数与父圈子数成正比，而不是与圈子数或角色数成正比
+ *
+ * 子圈子加载完成后清空持久化上下文，已访问的圈子和角色不会在会话中累积
+ */
+@Component
+@Transactional(readOnly = true)
+public class JpaOrganizationStructureReader implements OrganizationStructureReader {
+    
+    private final CircleJpaRepository circleJpaRepository;
+    private final RoleJpaRepository roleJpaRepository;
+    private final EntityManager entityManager;
+    
+    public JpaOrganizationStructureReader(CircleJpaRepository circleJpaRepository,
+                                          RoleJpaRepository roleJpaRepository,
+                                          EntityManager entityManager) {
+        this.circleJpaRepository = circleJpaRepository;
+        this.roleJpaRepository = roleJpaRepository;
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    public void traverse(OrganizationId organizationId, CircleVisitor visitor) {
+        Circle anchor = circleJpaRepository.findAnchorWithAccountabilities(organizationId.getValue())
+            .orElseThrow(() -> new ResourceNotFoundException("Organization", organizationId.getValue()));
+        Map<String, String> purposes = loadStructure(List.of(anchor));
+        entityManager.clear();
+        visit(anchor, purposes.get(anchor.getId().getValue()), visitor);
+    }
+    
+    private void visit(Circle circle, String purpose, CircleVisitor visitor) {
+        visitor.enter(circle, purpose);
+        List<Circle> children = circleJpaRepository.findChildrenWithAccountabilities(circle.getId().getValue());
+        Map<String, String> purposes = loadStructure(children);
+        entityManager.clear();
+        for (Circle child : children) {
+            visit(child, purposes.get(child.getId().getValue()), visitor);
+        }
+        visitor.exit(circle);
+    }
+    
+    /**
+     * 初始化圈子的角色及角色的集合，结果合并到已加载的实例上
+     * 圈子目的是延迟加载的文本列，用一条投影查询取回，不触发实体上的逐个加载
+     *
+     * @return 圈子ID值到目的的映射
+     */
+    private Map<String, String> loadStructure(List<Circle> circles) {
+        if (circles.isEmpty()) {
+            return Map.of();
+        }
+        List<String> ids = circles.stream().map(circle -> circle.getId().getValue()).toList();
+        Map<String, String> purposes = new HashMap<>();
+        for (Object[] row : circleJpaRepository.findPurposesByIdValues(ids)) {
+            purposes.put((String) row[0], (String) row[1]);
+        }
+        circleJpaRepository.fetchRoles(ids);
+        roleJpaRepository.fetchAccountabilities(ids);
+        roleJpaRepository.fetchDomains(ids);
+        roleJpaRepository.fetchAssignments(ids);
+        return purposes;
+    }
+}
@@ -0,0 +1,95 @@
+package com.xholacracy.infrastructure.persistence.calendar;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.xholacracy.domain.event.MeetingsMaterializedEvent;
+import com.xholacracy.domain.model.meeting.MeetingBooking;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.PartnerCalendar;
+import com.xholacracy.domain.model.meeting.PartnerCalendarIndex;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 伙伴日程缓存
+ * 组织的日程在首次使用时由两次投影查询建立，之后冲突检查和空闲时段查找只访问内存中的索引
+ *
+ * 本节点提交的会议变更由PartnerCalendarUpdater在事务成功后增量应用到已缓存的日程；
+ * 会议系列批量生成的会议不经过实体监听器，提交后整体丢弃受影响组织的日程；
+ * 其他节点的变更要等日程过期重建才可见，因此冲突检查是提示性的，不是数据库约束
+ */
+@Component
+public class PartnerCalendarCache implements PartnerCalendarIndex {
+    
+    static final long MAXIMUM_SIZE = 1_000;
+    static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+    
+    /**
+     * 加载时回看的时间，覆盖仍在进行的会议
+     */
+    static final Duration LOOKBEHIND = Duration.ofDays(1);
+    
+    private final LoadingCache<OrganizationId, PartnerCalendar> calendars;
+    
+    @Autowired
+    public PartnerCalendarCache(MeetingRepository meetingRepository) {
+        this(meetingRepository, Clock.systemDefaultZone());
+    }
+    
+    PartnerCalendarCache(MeetingRepository meetingRepository, Clock clock) {
+        this.calendars = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build(organizationId -> PartnerCalendar.of(organizationId,
+                meetingRepository.findBookings(organizationId, LocalDateTime.now(clock).minus(LOOKBEHIND))));
+    }
+    
+    @Override
+    public PartnerCalendar calendarOf(OrganizationId organizationId) {
+        return calendars.get(organizationId);
+    }
+    
+    /**
+     * 把会议的新日程应用到已缓存的组织日程，未缓存的组织在下次使用时从数据库加载
+     */
+    public void book(OrganizationId organizationId, MeetingBooking booking) {
+        PartnerCalendar calendar = calendars.getIfPresent(organizationId);
+        if (calendar != null) {
+            calendar.book(booking);
+        }
+    }
+    
+    /**
+     * 从已缓存的组织日程中移除会议
+     */
+    public void release(OrganizationId organizationId, MeetingId meetingId) {
+        PartnerCalendar calendar = calendars.getIfPresent(organizationId);
+        if (calendar != null) {
+            calendar.release(meetingId);
+        }
+    }
+    
+    /**
+     * 丢弃组织的日程，下次使用时重建
+     */
+    public void evict(OrganizationId organizationId) {
+        calendars.invalidate(organizationId);
+    }
+    
+    /**
+     * 会议系列批量生成会议后丢弃受影响组织的日程
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(MeetingsMaterializedEvent event) {
+        event.getOrganizationIds().forEach(this::evict);
+    }
+}
@@ -0,0 +1,98 @@
+package com.xholacracy.infrastructure.persistence.calendar;
+
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingBooking;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 伙伴日程更新监听器
+ * 监听会议的插入、更新、删除事件，在事务成功完成后把会议的新日程应用到已缓存的组织日程
+ *
+ * 日程在事件触发时取快照：参与者集合变化会递增会议版本，同样触发会议的更新事件
+ */
+@Component
+public class PartnerCalendarUpdater implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final PartnerCalendarCache calendarCache;
+    
+    public PartnerCalendarUpdater(EntityManagerFactory entityManagerFactory, PartnerCalendarCache calendarCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.calendarCache = calendarCache;
+    }
+    
+    /**
+     * 注册到Hibernate事件监听器
+     */
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChange(event.getSession(), event.getEntity());
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onChange(event.getSession(), event.getEntity());
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof GovernanceMeeting meeting) {
+            releaseAfterCompletion(event.getSession(), meeting.getOrganizationId(), meeting.getId());
+        }
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+    
+    private void onChange(EventSource session, Object entity) {
+        if (!(entity instanceof GovernanceMeeting meeting)) {
+            return;
+        }
+        OrganizationId organizationId = meeting.getOrganizationId();
+        if (!meeting.occupiesCalendar()) {
+            releaseAfterCompletion(session, organizationId, meeting.getId());
+            return;
+        }
+        MeetingBooking booking = MeetingBooking.of(meeting);
+        session.getActionQueue().registerProcess((success, completed) -> {
+            if (success) {
+                calendarCache.book(organizationId, booking);
+            }
+        });
+    }
+    
+    private void releaseAfterCompletion(EventSource session, OrganizationId organizationId, MeetingId meetingId) {
+        session.getActionQueue().registerProcess((success, completed) -> {
+            if (success) {
+                calendarCache.release(organizationId, meetingId);
+            }
+        });
+    }
+}
@@ -0,0 +1,204 @@
+package com.xholacracy.infrastructure.persistence.changelog;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import com.xholacracy.domain.model.sync.ChangedEntityType;
+import com.xholacracy.domain.model.sync.EntityChange;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 变更跟踪器
+ * 监听Hibernate的插入、更新、删除事件，收集当前事务内圈子、角色、角色分配、提案和会议的变更，
+ * 在Hibernate提交前的最后一次刷新之后按组织写入变更日志
+ *
+ * 在Hibernate事件层而不是各仓储的save/delete中记录，
+ * 这样级联保存的角色、角色分配以及orphanRemoval删除的子实体同样会被记录
+ */
+@Component
+public class ChangeTracker implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    
+    private static final Logger log = LoggerFactory.getLogger(ChangeTracker.class);
+    
+    private static final Set<Class<?>> TRACKED_TYPES = Set.of(
+        Circle.class, Role.class, RoleAssignment.class, Proposal.class, GovernanceMeeting.class);
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final ChangeLogRepository changeLogRepository;
+    private final CircleRepository circleRepository;
+    
+    public ChangeTracker(EntityManagerFactory entityManagerFactory,
+                         ChangeLogRepository changeLogRepository,
+                         CircleRepository circleRepository) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.changeLogRepository = changeLogRepository;
+        this.circleRepository = circleRepository;
+    }
+    
+    /**
+     * 注册到Hibernate事件监听器
+     */
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        track(event.getSession(), event.getEntity(), false);
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        track(event.getSession(), event.getEntity(), false);
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        track(event.getSession(), event.getEntity(), true);
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+    
+    /**
+     * 将实体变更加入当前事务的待写入集合
+     */
+    private void track(EventSource session, Object entity, boolean deleted) {
+        if (!TRACKED_TYPES.contains(entity.getClass())
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        PendingChanges pending = currentPendingChanges(session);
+        if (entity instanceof Circle circle) {
+            pending.knownOrganizations.put(circle.getId(), circle.getOrganizationId());
+            pending.add(ChangedEntityType.CIRCLE, circle.getId().getValue(), circle.getId(), deleted);
+        } else if (entity instanceof Role role) {
+            pending.add(ChangedEntityType.ROLE, role.getId().getValue(), role.getCircleId(), deleted);
+        } else if (entity instanceof RoleAssignment assignment) {
+            pending.add(ChangedEntityType.ROLE_ASSIGNMENT, assignment.getId(),
+                assignment.getRole().getCircleId(), deleted);
+        } else if (entity instanceof Proposal proposal) {
+            pending.knownOrganizations.put(proposal.getCircleId(), proposal.getOrganizationId());
+            pending.add(ChangedEntityType.PROPOSAL, proposal.getId().getValue(), proposal.getCircleId(), deleted);
+        } else if (entity instanceof GovernanceMeeting meeting) {
+            pending.knownOrganizations.put(meeting.getCircleId(), meeting.getOrganizationId());
+            pending.add(ChangedEntityType.MEETING, meeting.getId().getValue(), meeting.getCircleId(), deleted);
+        }
+    }
+    
+    /**
+     * 获取当前事务的待写入集合，首次变更时注册写入回调
+     * 提交时的刷新发生在Spring的beforeCommit之后，因此写入挂在Hibernate的事务完成前回调上，
+     * 它在提交前的最后一次刷新之后执行
+     */
+    private PendingChanges currentPendingChanges(EventSource session) {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingChanges created = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeTracker.this);
+                }
+            });
+            session.getActionQueue().registerProcess(
+                (BeforeTransactionCompletionProcess) completingSession -> write(created, completingSession));
+            pending = created;
+        }
+        return pending;
+    }
+    
+    /**
+     * 写入变更日志，并刷新使日志与业务数据在同一事务中提交
+     */
+    private void write(PendingChanges pending, SessionImplementor session) {
+        if (pending.changes.isEmpty()) {
+            return;
+        }
+        
+        Set<CircleId> unresolved = new HashSet<>();
+        for (TrackedChange change : pending.changes.values()) {
+            if (!pending.knownOrganizations.containsKey(change.circleId)) {
+                unresolved.add(change.circleId);
+            }
+        }
+        Map<CircleId, OrganizationId> organizations = new HashMap<>(pending.knownOrganizations);
+        organizations.putAll(circleRepository.findOrganizationIdsByIds(unresolved));
+        
+        Map<OrganizationId, List<EntityChange>> byOrganization = new LinkedHashMap<>();
+        for (TrackedChange change : pending.changes.values()) {
+            OrganizationId organizationId = organizations.get(change.circleId);
+            if (organizationId == null) {
+                log.debug("Skipping change log for {} {}: circle {} not found",
+                    change.change.getEntityType(), change.change.getEntityId(), change.circleId);
+                continue;
+            }
+            byOrganization.computeIfAbsent(organizationId, id -> new ArrayList<>()).add(change.change);
+        }
+        pending.changes.clear();
+        byOrganization.forEach(changeLogRepository::record);
+        session.flush();
+    }
+    
+    /**
+     * 单个事务内收集的变更，同一实体只保留最后一次变更
+     */
+    private static final class PendingChanges {
+        
+        private final Map<String, TrackedChange> changes = new LinkedHashMap<>();
+        private final Map<CircleId, OrganizationId> knownOrganizations = new HashMap<>();
+        
+        void add(ChangedEntityType type, String entityId, CircleId circleId, boolean deleted) {
+            if (circleId == null) {
+                return;
+            }
+            EntityChange change = deleted ? EntityChange.delete(type, entityId) : EntityChange.upsert(type, entityId);
+            changes.put(type + ":" + entityId, new TrackedChange(change, circleId));
+        }
+    }
+    
+    private record TrackedChange(EntityChange change, CircleId circleId) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.xholacracy.infrastructure.persistence.idempotency;
+
+import java.time.LocalDateTime;
+
+/**
+ * 幂等键的认领结果
+ * ACQUIRED：本次请求负责执行；COMPLETED：已有结果，直接返回；IN_PROGRESS：同一键的请求正在执行
+ */
+public final class IdempotencyClaim {
+    
+    /**
+     * 认领结果类型
+     */
+    public enum Outcome {
+        ACQUIRED,
+        COMPLETED,
+        IN_PROGRESS
+    }
+    
+    private final Outcome outcome;
+    private final String keyDigest;
+    private final String requestDigest;
+    private final LocalDateTime expiresAt;
+    private final StoredResponse response;
+    
+    private IdempotencyClaim(Outcome outcome, String keyDigest, String requestDigest,
+                             LocalDateTime expiresAt, StoredResponse response) {
+        this.outcome = outcome;
+        this.keyDigest = keyDigest;
+        this.requestDigest = requestDigest;
+        this.expiresAt = expiresAt;
+        this.response = response;
+    }
+    
+    static IdempotencyClaim acquired(String keyDigest, String requestDigest, LocalDateTime expiresAt) {
+        return new IdempotencyClaim(Outcome.ACQUIRED, keyDigest, requestDigest, expiresAt, null);
+    }
+    
+    static IdempotencyClaim completed(String keyDigest, StoredResponse response) {
+        return new IdempotencyClaim(Outcome.COMPLETED, keyDigest, response.getRequestDigest(),
+            response.getExpiresAt(), response);
+    }
+    
+    static IdempotencyClaim inProgress(String keyDigest, String requestDigest) {
+        return new IdempotencyClaim(Outcome.IN_PROGRESS, keyDigest, requestDigest, null, null);
+    }
+    
+    /**
+     * 检查记录的请求是否与本次请求相同；同一个键不能用于不同的请求
+     */
+    public boolean matches(String requestDigest) {
+        return this.requestDigest.equals(requestDigest);
+    }
+    
+    public Outcome getOutcome() {
+        return outcome;
+    }
+    
+    public String getKeyDigest() {
+        return keyDigest;
+    }
+    
+    public String getRequestDigest() {
+        return requestDigest;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    /**
+     * @return 已记录的响应（仅COMPLETED时有值）
+     */
+    public StoredResponse getResponse() {
+        return response;
+    }
+}
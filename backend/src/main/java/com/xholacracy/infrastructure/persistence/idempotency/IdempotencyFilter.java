@@ -0,0 +1,231 @@
+package com.xholacracy.infrastructure.persistence.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 带Idempotency-Key头的写请求只执行一次
+ * 幂等键按调用者、方法和路径限定作用域；首次请求照常执行并记录响应，
+ * 之后相同的请求直接返回记录的响应（带Idempotent-Replayed头），不再执行命令
+ *
+ * 同一个键用于不同的请求体返回422，同一个键的请求仍在执行时返回409。
+ * 429、5xx响应和未处理的异常不记录，客户端可以用同一个键重试
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+    
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String keyDigest = digest(caller(), request.getMethod(), request.getRequestURI(), key);
+        String requestDigest = digest(request.getQueryString(), cachedRequest.getBodyAsString());
+        
+        IdempotencyClaim claim = store.claim(keyDigest, requestDigest);
+        if (!claim.matches(requestDigest)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                "Idempotency-Key was already used for a different request");
+            return;
+        }
+        switch (claim.getOutcome()) {
+            case COMPLETED -> replay(claim.getResponse(), response);
+            case IN_PROGRESS -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(response, HttpStatus.CONFLICT, "IDEMPOTENT_REQUEST_IN_PROGRESS",
+                    "A request with this Idempotency-Key is still being processed");
+            }
+            case ACQUIRED -> execute(cachedRequest, response, filterChain, claim);
+        }
+    }
+    
+    private void execute(CachedBodyRequest request, HttpServletResponse response,
+                         FilterChain filterChain, IdempotencyClaim claim) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        boolean recorded = false;
+        try {
+            filterChain.doFilter(request, wrapped);
+            if (isOutcome(wrapped.getStatus())) {
+                recorded = true;
+                record(claim, wrapped);
+            }
+        } finally {
+            if (!recorded) {
+                store.release(claim);
+            }
+            wrapped.copyBodyToResponse();
+        }
+    }
+    
+    /**
+     * 响应是否是命令的执行结果；被限流（429）或服务端出错（5xx）的请求没有执行完，重试应当重新执行
+     */
+    private static boolean isOutcome(int status) {
+        return status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+    
+    /**
+     * 命令已经执行，记录失败不能变成请求失败；未完成的记录在执行超时后可被接管
+     */
+    private void record(IdempotencyClaim claim, ContentCachingResponseWrapper response) {
+        try {
+            store.complete(claim, response.getStatus(), response.getContentType(),
+                new String(response.getContentAsByteArray(), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.warn("Could not record response for idempotency key {}", claim.getKeyDigest(), e);
+        }
+    }
+    
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatusCode());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getBody() != null && !stored.getBody().isEmpty()) {
+            response.getOutputStream().write(stored.getBody().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+    
+    private void writeError(HttpServletResponse response, HttpStatus status, String errorCode, String message)
+            throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("errorCode", errorCode);
+        body.put("message", message);
+        body.put("timestamp", LocalDateTime.now());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+    
+    private static String caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "anonymous";
+    }
+    
+    private static String digest(String... parts) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                if (part != null) {
+                    sha256.update(part.getBytes(StandardCharsets.UTF_8));
+                }
+                sha256.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    /**
+     * 读出并保留请求体，摘要计算之后控制器仍能读取
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        
+        private final byte[] body;
+        
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+        
+        String getBodyAsString() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+                
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+                
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Asynchronous reads are not supported");
+                }
+                
+                @Override
+                public int read() {
+                    return input.read();
+                }
+                
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+        
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
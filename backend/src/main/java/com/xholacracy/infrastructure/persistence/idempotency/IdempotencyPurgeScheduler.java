@@ -0,0 +1,34 @@
+package com.xholacracy.infrastructure.persistence.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 定期删除过期的幂等键
+ */
+public class IdempotencyPurgeScheduler {
+    
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyPurgeScheduler.class);
+    
+    private final IdempotencyStore store;
+    
+    public IdempotencyPurgeScheduler(IdempotencyStore store) {
+        this.store = store;
+    }
+    
+    /**
+     * 执行一轮清理
+     */
+    @Scheduled(fixedDelayString = "${xholacracy.idempotency.purge-interval:PT1H}")
+    public void run() {
+        try {
+            int purged = store.purgeExpired();
+            if (purged > 0) {
+                log.info("Purged {} expired idempotency keys", purged);
+            }
+        } catch (Exception e) {
+            log.warn("Purging idempotency keys failed, retrying on next run", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.xholacracy.infrastructure.persistence.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 幂等键记录
+ * 以（伙伴, 方法, 路径, 幂等键）的摘要为主键，记录首次执行的请求摘要和响应；
+ * 响应状态为空表示请求仍在执行中
+ *
+ * 主键由调用方给定，新记录必须插入而不是合并，重复插入由主键冲突发现
+ */
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord implements Persistable<String> {
+    
+    @Id
+    @Column(name = "key_digest", length = 64)
+    private String keyDigest;
+    
+    @Column(name = "request_digest", nullable = false, length = 64)
+    private String requestDigest;
+    
+    @Column(name = "status_code")
+    private Integer statusCode;
+    
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+    
+    @Column(name = "response_body")
+    private String responseBody;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Transient
+    private boolean isNew = true;
+    
+    // JPA需要无参构造函数
+    protected IdempotencyRecord() {
+    }
+    
+    private IdempotencyRecord(String keyDigest, String requestDigest, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.keyDigest = Objects.requireNonNull(keyDigest, "Key digest cannot be null");
+        this.requestDigest = Objects.requireNonNull(requestDigest, "Request digest cannot be null");
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+    
+    /**
+     * 创建执行中的记录
+     */
+    public static IdempotencyRecord claim(String keyDigest, String requestDigest,
+                                          LocalDateTime now, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(keyDigest, requestDigest, now, expiresAt);
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+    
+    @Override
+    public String getId() {
+        return keyDigest;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    /**
+     * @return 请求是否已执行完成
+     */
+    public boolean isCompleted() {
+        return statusCode != null;
+    }
+    
+    public String getKeyDigest() {
+        return keyDigest;
+    }
+    
+    public String getRequestDigest() {
+        return requestDigest;
+    }
+    
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getResponseBody() {
+        return responseBody;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,167 @@
+package com.xholacracy.infrastructure.persistence.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.xholacracy.infrastructure.persistence.jpa.IdempotencyRecordJpaRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * 幂等键存储
+ * 幂等键表是唯一可信来源，多个实例共享；已完成的响应另存一份在内存前置缓存中，
+ * 重复请求命中缓存时不访问数据库
+ *
+ * 认领用插入完成：插入成功即获得执行权，主键冲突说明键已存在，再读出已有记录判断。
+ * 执行中的记录超过执行超时仍未完成（例如实例在执行中崩溃）时可被接管，过期的记录同样可被接管
+ *
+ * 每步操作在独立的短事务中提交，与命令本身的事务无关
+ */
+public class IdempotencyStore {
+    
+    private static final int MAX_ATTEMPTS = 3;
+    
+    private final IdempotencyRecordJpaRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+    private final Clock clock;
+    private final Cache<String, StoredResponse> completed;
+    
+    public IdempotencyStore(IdempotencyRecordJpaRepository repository,
+                            PlatformTransactionManager transactionManager,
+                            Duration ttl,
+                            Duration inFlightTimeout,
+                            long cacheSize) {
+        this(repository, transactionManager, ttl, inFlightTimeout, cacheSize, Clock.systemDefaultZone());
+    }
+    
+    IdempotencyStore(IdempotencyRecordJpaRepository repository,
+                     PlatformTransactionManager transactionManager,
+                     Duration ttl,
+                     Duration inFlightTimeout,
+                     long cacheSize,
+                     Clock clock) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.inFlightTimeout = inFlightTimeout;
+        this.clock = clock;
+        this.completed = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfter(new Expiry<String, StoredResponse>() {
+                @Override
+                public long expireAfterCreate(String key, StoredResponse value, long currentTime) {
+                    return Math.max(0, Duration.between(now(), value.getExpiresAt()).toNanos());
+                }
+            
+                @Override
+                public long expireAfterUpdate(String key, StoredResponse value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+            
+                @Override
+                public long expireAfterRead(String key, StoredResponse value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+    
+    /**
+     * 认领幂等键
+     *
+     * @param keyDigest 幂等键摘要
+     * @param requestDigest 请求内容摘要
+     * @return 认领结果
+     */
+    public IdempotencyClaim claim(String keyDigest, String requestDigest) {
+        StoredResponse cached = completed.getIfPresent(keyDigest);
+        if (cached != null) {
+            // 缓存按系统时间过期，这里再按存储的时钟核对一次，与表中的过期判断保持一致
+            if (!cached.getExpiresAt().isBefore(now())) {
+                return IdempotencyClaim.completed(keyDigest, cached);
+            }
+            completed.invalidate(keyDigest);
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            LocalDateTime now = now();
+            LocalDateTime expiresAt = now.plus(ttl);
+            try {
+                transactionTemplate.executeWithoutResult(status -> repository.saveAndFlush(
+                    IdempotencyRecord.claim(keyDigest, requestDigest, now, expiresAt)));
+                return IdempotencyClaim.acquired(keyDigest, requestDigest, expiresAt);
+            } catch (DataIntegrityViolationException e) {
+                // 键已存在，按已有记录处理
+            }
+            Optional<IdempotencyClaim> existing = transactionTemplate.execute(status ->
+                inspect(keyDigest, requestDigest, now, expiresAt));
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            // 记录在两步之间被释放或被其他请求接管，重新认领
+        }
+        return IdempotencyClaim.inProgress(keyDigest, requestDigest);
+    }
+    
+    /**
+     * 记录执行结果，之后的重复请求直接返回该结果
+     */
+    public void complete(IdempotencyClaim claim, int statusCode, String contentType, String body) {
+        transactionTemplate.executeWithoutResult(status ->
+            repository.complete(claim.getKeyDigest(), statusCode, contentType, body));
+        completed.put(claim.getKeyDigest(),
+            new StoredResponse(claim.getRequestDigest(), statusCode, contentType, body, claim.getExpiresAt()));
+    }
+    
+    /**
+     * 放弃认领，请求执行失败后客户端可以用同一个键重试
+     */
+    public void release(IdempotencyClaim claim) {
+        transactionTemplate.executeWithoutResult(status -> repository.release(claim.getKeyDigest()));
+    }
+    
+    /**
+     * 删除过期记录
+     *
+     * @return 删除的记录数
+     */
+    public int purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> repository.deleteExpired(now()));
+        return purged != null ? purged : 0;
+    }
+    
+    private Optional<IdempotencyClaim> inspect(String keyDigest, String requestDigest,
+                                               LocalDateTime now, LocalDateTime expiresAt) {
+        IdempotencyRecord record = repository.findById(keyDigest).orElse(null);
+        if (record == null) {
+            return Optional.empty();
+        }
+        boolean expired = record.getExpiresAt().isBefore(now);
+        if (record.isCompleted() && !expired) {
+            StoredResponse response = StoredResponse.of(record);
+            completed.put(keyDigest, response);
+            return Optional.of(IdempotencyClaim.completed(keyDigest, response));
+        }
+        boolean abandoned = !record.isCompleted() && record.getCreatedAt().isBefore(now.minus(inFlightTimeout));
+        if (expired || abandoned) {
+            int taken = repository.takeOver(keyDigest, record.getCreatedAt(), requestDigest, now, expiresAt);
+            return taken == 1 ? Optional.of(IdempotencyClaim.acquired(keyDigest, requestDigest, expiresAt)) : Optional.empty();
+        }
+        return Optional.of(IdempotencyClaim.inProgress(keyDigest, record.getRequestDigest()));
+    }
+    
+    /**
+     * 截断到毫秒，接管时按读到的创建时间比较，不受数据库时间精度影响
+     */
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MILLIS);
+    }
+}
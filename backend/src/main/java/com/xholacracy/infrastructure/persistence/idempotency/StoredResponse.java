@@ -0,0 +1,51 @@
+package com.xholacracy.infrastructure.persistence.idempotency;
+
+import java.time.LocalDateTime;
+
+/**
+ * 已记录的响应，重复请求原样返回
+ *
+ * 值对象特征：不可变
+ */
+public final class StoredResponse {
+    
+    private final String requestDigest;
+    private final int statusCode;
+    private final String contentType;
+    private final String body;
+    private final LocalDateTime expiresAt;
+    
+    public StoredResponse(String requestDigest, int statusCode, String contentType, String body,
+                          LocalDateTime expiresAt) {
+        this.requestDigest = requestDigest;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.body = body;
+        this.expiresAt = expiresAt;
+    }
+    
+    static StoredResponse of(IdempotencyRecord record) {
+        return new StoredResponse(record.getRequestDigest(), record.getStatusCode(), record.getContentType(),
+            record.getResponseBody(), record.getExpiresAt());
+    }
+    
+    public String getRequestDigest() {
+        return requestDigest;
+    }
+    
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getBody() {
+        return body;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
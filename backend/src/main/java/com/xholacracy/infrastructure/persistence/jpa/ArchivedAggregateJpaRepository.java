@@ -0,0 +1,45 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.infrastructure.persistence.archive.ArchivedAggregate;
+import com.xholacracy.infrastructure.persistence.archive.ArchivedAggregateType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ArchivedAggregate的Spring Data JPA Repository
+ */
+@Repository
+public interface ArchivedAggregateJpaRepository extends JpaRepository<ArchivedAggregate, ArchivedAggregate.Key> {
+    
+    /**
+     * 批量查询组织内的归档聚合
+     * 
+     * @param aggregateType 聚合类型
+     * @param organizationId 组织ID值
+     * @param ids 聚合ID值集合
+     * @return 归档行列表
+     */
+    List<ArchivedAggregate> findByAggregateTypeAndOrganizationIdAndIdIn(ArchivedAggregateType aggregateType,
+                                                                        String organizationId,
+                                                                        Collection<String> ids);
+    
+    /**
+     * 查询归档聚合的版本标记，不读取文档列
+     * 
+     * @param aggregateType 聚合类型
+     * @param organizationId 组织ID值
+     * @param id 聚合ID值
+     * @return 版本标记（如果已归档）
+     */
+    @Query("SELECT a.versionTag FROM ArchivedAggregate a " +
+           "WHERE a.aggregateType = :aggregateType AND a.organizationId = :organizationId AND a.id = :id")
+    Optional<String> findVersionTag(@Param("aggregateType") ArchivedAggregateType aggregateType,
+                                    @Param("organizationId") String organizationId,
+                                    @Param("id") String id);
+}
@@ -0,0 +1,61 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.domain.model.sync.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ChangeLogEntry的Spring Data JPA Repository
+ */
+@Repository
+public interface ChangeLogJpaRepository extends JpaRepository<ChangeLogEntry, Long> {
+    
+    /**
+     * 查询组织内指定实体的已有条目
+     * 
+     * @param organizationId 组织ID值
+     * @param entityIds 实体ID集合
+     * @return 变更条目列表
+     */
+    @Query("SELECT e FROM ChangeLogEntry e " +
+           "WHERE e.organizationId.value = :organizationId " +
+           "AND e.entityId IN :entityIds")
+    List<ChangeLogEntry> findByOrganizationAndEntityIds(@Param("organizationId") String organizationId,
+                                                        @Param("entityIds") Collection<String> entityIds);
+    
+    /**
+     * 按序号查询指定序号之后的变更
+     * 
+     * @param organizationId 组织ID值
+     * @param sequence 起始序号（不包含）
+     * @param pageable 条数限制
+     * @return 变更条目列表
+     */
+    @Query("SELECT e FROM ChangeLogEntry e " +
+           "WHERE e.organizationId.value = :organizationId " +
+           "AND e.sequence > :sequence " +
+           "ORDER BY e.sequence, e.id")
+    List<ChangeLogEntry> findAfterSequence(@Param("organizationId") String organizationId,
+                                           @Param("sequence") long sequence,
+                                           Pageable pageable);
+    
+    /**
+     * 查询指定序号的变更
+     * 
+     * @param organizationId 组织ID值
+     * @param sequence 序号
+     * @return 变更条目列表
+     */
+    @Query("SELECT e FROM ChangeLogEntry e " +
+           "WHERE e.organizationId.value = :organizationId " +
+           "AND e.sequence = :sequence " +
+           "ORDER BY e.id")
+    List<ChangeLogEntry> findAtSequence(@Param("organizationId") String organizationId,
+                                        @Param("sequence") long sequence);
+}
@@ -2,12 +2,17 @@ package com.xholacracy.infrastructure.persistence.jpa;
 
 import com.xholacracy.domain.model.circle.Circle;
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleSummaryView;
 import com.xholacracy.domain.model.organization.OrganizationId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +23,16 @@ import java.util.Optional;
 @Repository
 public interface CircleJpaRepository extends JpaRepository<Circle, CircleId> {
     
+    /**
+     * 圈子摘要投影的公共SELECT部分
+     */
+    String CIRCLE_SUMMARY_SELECT =
+        "SELECT c.id.value AS id, c.name AS name, c.purpose AS purpose, " +
+        "(SELECT COUNT(r) FROM Role r WHERE r.circleId.value = c.id.value) AS roleCount, " +
+        "(SELECT COUNT(s) FROM Circle s WHERE s.parentCircleId.value = c.id.value) AS subCircleCount, " +
+        "(SELECT COUNT(a) FROM RoleAssignment a WHERE a.role.circleId.value = c.id.value) AS assignmentCount " +
+        "FROM Circle c ";
+    
     /**
      * 根据组织ID查找所有圈子
      * 
@@ -36,10 +51,15 @@ public interface CircleJpaRepository extends JpaRepository<Circle, CircleId> {
     
     /**
      * 查找组织的Anchor Circle（父圈子ID为null）
+     * 结果缓存在anchor-circle查询缓存区域，circles表更新时失效
      * 
      * @param organizationId 组织ID
      * @return Anchor Circle（如果存在）
      */
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "anchor-circle")
+    })
     @Query("SELECT c FROM Circle c " +
            "WHERE c.organizationId = :organizationId " +
            "AND c.parentCircleId IS NULL")
@@ -95,4 +115,120 @@ public interface CircleJpaRepository extends JpaRepository<Circle, CircleId> {
      * @return 圈子（如果存在）
      */
     Optional<Circle> findByNameAndOrganizationId(String name, OrganizationId organizationId);
+    
+    /**
+     * 批量查询圈子ID和名称
+     * 
+     * @param ids 圈子ID值集合
+     * @return [id, name] 数组列表
+     */
+    @Query("SELECT c.id.value, c.name FROM Circle c WHERE c.id.value IN :ids")
+    List<Object[]> findNamesByIdValues(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 批量查询圈子ID和所属组织ID
+     * 
+     * @param ids 圈子ID值集合
+     * @return [id, organizationId] 数组列表
+     */
+    @Query("SELECT c.id.value, c.organizationId.value FROM Circle c WHERE c.id.value IN :ids")
+    List<Object[]> findOrganizationIdsByIdValues(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 批量查询圈子目的
+     * 目的是延迟加载的文本列，投影查询一次取回整批的值，不逐个初始化实体属性
+     * 
+     * @param ids 圈子ID值集合
+     * @return [id, purpose] 数组列表
+     */
+    @Query("SELECT c.id.value, c.purpose FROM Circle c WHERE c.id.value IN :ids")
+    List<Object[]> findPurposesByIdValues(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 按ID批量查询圈子摘要（接口投影）
+     * 
+     * @param ids 圈子ID值集合
+     * @return 圈子摘要列表
+     */
+    @Query(CIRCLE_SUMMARY_SELECT + "WHERE c.id.value IN :ids")
+    List<CircleSummaryView> findSummariesByIdValues(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 查询组织的圈子摘要（接口投影，计数由子查询聚合）
+     * 
+     * @param organizationId 组织ID
+     * @return 圈子摘要列表
+     */
+    @Query(CIRCLE_SUMMARY_SELECT +
+           "WHERE c.organizationId.value = :organizationId " +
+           "ORDER BY c.name")
+    List<CircleSummaryView> findSummariesByOrganizationIdValue(@Param("organizationId") String organizationId);
+    
+    /**
+     * 查询子圈子摘要（接口投影，计数由子查询聚合）
+     * 
+     * @param parentCircleId 父圈子ID
+     * @return 子圈子摘要列表
+     */
+    @Query(CIRCLE_SUMMARY_SELECT +
+           "WHERE c.parentCircleId.value = :parentCircleId " +
+           "ORDER BY c.name")
+    List<CircleSummaryView> findSummariesByParentCircleIdValue(@Param("parentCircleId") String parentCircleId);
+    
+    /**
+     * 查询圈子详情所依赖数据的版本信息（不加载聚合）
+     * 角色集合由圈子持有，增删角色会递增圈子版本；子圈子集合是反向关联，
+     * 因此子圈子和下级圈子需要用数量、版本和与最新创建时间识别增删
+     * 
+     * @param id 圈子ID值
+     * @return [圈子版本, 角色版本和, 子圈子数, 子圈子版本和, 子圈子最新创建时间,
+     *          子圈子角色版本和, 下级圈子数, 下级圈子最新创建时间]，圈子不存在时为空列表
+     */
+    @Query("SELECT c.version, " +
+           "(SELECT COALESCE(SUM(r.version), 0) FROM Role r WHERE r.circleId.value = c.id.value), " +
+           "(SELECT COUNT(s) FROM Circle s WHERE s.parentCircleId.value = c.id.value), " +
+           "(SELECT COALESCE(SUM(s.version), 0) FROM Circle s WHERE s.parentCircleId.value = c.id.value), " +
+           "(SELECT MAX(s.createdAt) FROM Circle s WHERE s.parentCircleId.value = c.id.value), " +
+           "(SELECT COALESCE(SUM(sr.version), 0) FROM Role sr, Circle s " +
+           " WHERE sr.circleId.value = s.id.value AND s.parentCircleId.value = c.id.value), " +
+           "(SELECT COUNT(g) FROM Circle g, Circle s " +
+           " WHERE g.parentCircleId.value = s.id.value AND s.parentCircleId.value = c.id.value), " +
+           "(SELECT MAX(g.createdAt) FROM Circle g, Circle s " +
+           " WHERE g.parentCircleId.value = s.id.value AND s.parentCircleId.value = c.id.value) " +
+           "FROM Circle c WHERE c.id.value = :id")
+    List<Object[]> findVersionRowByIdValue(@Param("id") String id);
+    
+    /**
+     * 查找组织的Anchor Circle及其职责，不经过查询缓存
+     * 
+     * @param organizationId 组织ID值
+     * @return 圈子（如果存在）
+     */
+    @Query("SELECT DISTINCT c FROM Circle c " +
+           "LEFT JOIN FETCH c.accountabilities " +
+           "WHERE c.organizationId.value = :organizationId AND c.parentCircleId IS NULL")
+    Optional<Circle> findAnchorWithAccountabilities(@Param("organizationId") String organizationId);
+    
+    /**
+     * 查找直接子圈子及其职责
+     * 
+     * @param parentId 父圈子ID值
+     * @return 子圈子列表
+     */
+    @Query("SELECT DISTINCT c FROM Circle c " +
+           "LEFT JOIN FETCH c.accountabilities " +
+           "WHERE c.parentCircleId.value = :parentId " +
+           "ORDER BY c.createdAt, c.id.value")
+    List<Circle> findChildrenWithAccountabilities(@Param("parentId") String parentId);
+    
+    /**
+     * 批量加载圈子的角色集合
+     * 
+     * @param ids 圈子ID值集合
+     * @return 圈子列表
+     */
+    @Query("SELECT DISTINCT c FROM Circle c " +
+           "LEFT JOIN FETCH c.roles " +
+           "WHERE c.id.value IN :ids")
+    List<Circle> fetchRoles(@Param("ids") Collection<String> ids);
 }
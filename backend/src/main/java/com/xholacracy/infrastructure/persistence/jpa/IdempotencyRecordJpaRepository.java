@@ -0,0 +1,64 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.infrastructure.persistence.idempotency.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * IdempotencyRecord的Spring Data JPA Repository
+ */
+@Repository
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecord, String> {
+    
+    /**
+     * 记录执行结果，只更新仍在执行中的记录
+     * 
+     * @return 更新的行数
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, " +
+           "r.responseBody = :responseBody " +
+           "WHERE r.keyDigest = :keyDigest AND r.statusCode IS NULL")
+    int complete(@Param("keyDigest") String keyDigest,
+                 @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") String responseBody);
+    
+    /**
+     * 接管过期或执行超时的记录；条件包含读到的创建时间，并发接管时只有一个成功
+     * 
+     * @return 更新的行数
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.requestDigest = :requestDigest, r.statusCode = NULL, " +
+           "r.contentType = NULL, r.responseBody = NULL, r.createdAt = :now, r.expiresAt = :expiresAt " +
+           "WHERE r.keyDigest = :keyDigest AND r.createdAt = :seenCreatedAt")
+    int takeOver(@Param("keyDigest") String keyDigest,
+                 @Param("seenCreatedAt") LocalDateTime seenCreatedAt,
+                 @Param("requestDigest") String requestDigest,
+                 @Param("now") LocalDateTime now,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+    
+    /**
+     * 删除仍在执行中的记录，执行失败后允许重试
+     * 
+     * @return 删除的行数
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.keyDigest = :keyDigest AND r.statusCode IS NULL")
+    int release(@Param("keyDigest") String keyDigest);
+    
+    /**
+     * 删除过期记录
+     * 
+     * @return 删除的行数
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,19 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.infrastructure.persistence.live.LiveSessionLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * LiveSessionLease的Spring Data JPA Repository
+ */
+@Repository
+public interface LiveSessionLeaseJpaRepository extends JpaRepository<LiveSessionLease, String> {
+    
+    /**
+     * 查找节点持有的会话租约，节点重启后据此恢复会话
+     */
+    List<LiveSessionLease> findByOwnerNode(String ownerNode);
+}
@@ -3,7 +3,10 @@ package com.xholacracy.infrastructure.persistence.jpa;
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.meeting.GovernanceMeeting;
 import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
 import com.xholacracy.domain.model.meeting.MeetingStatus;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,167 +16,220 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * GovernanceMeeting的Spring Data JPA Repository
  * 提供基础的CRUD操作和自定义查询
+ *
+ * 会议表按组织ID分区，所有查询都以组织ID为条件，使数据库只扫描该组织所在的分区
  */
 @Repository
-public interface MeetingJpaRepository extends JpaRepository<GovernanceMeeting, MeetingId> {
+public interface MeetingJpaRepository extends JpaRepository<GovernanceMeeting, MeetingKey> {
     
     /**
      * 根据圈子ID查找会议
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @return 会议列表
      */
-    List<GovernanceMeeting> findByCircleId(CircleId circleId);
+    List<GovernanceMeeting> findByKeyOrganizationIdAndCircleId(OrganizationId organizationId, CircleId circleId);
     
     /**
      * 根据圈子ID分页查找会议
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param pageable 分页参数
      * @return 会议分页结果
      */
-    Page<GovernanceMeeting> findByCircleId(CircleId circleId, Pageable pageable);
+    Page<GovernanceMeeting> findByKeyOrganizationIdAndCircleId(OrganizationId organizationId, CircleId circleId,
+                                                           Pageable pageable);
     
     /**
      * 根据状态查找会议
      * 
+     * @param organizationId 组织ID
      * @param status 会议状态
      * @return 会议列表
      */
-    List<GovernanceMeeting> findByStatus(MeetingStatus status);
-    
-    /**
-     * 根据状态分页查找会议
-     * 
-     * @param status 会议状态
-     * @param pageable 分页参数
-     * @return 会议分页结果
-     */
-    Page<GovernanceMeeting> findByStatus(MeetingStatus status, Pageable pageable);
+    List<GovernanceMeeting> findByKeyOrganizationIdAndStatus(OrganizationId organizationId, MeetingStatus status);
     
     /**
      * 根据圈子ID和状态查找会议
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param status 会议状态
      * @return 会议列表
      */
-    List<GovernanceMeeting> findByCircleIdAndStatus(CircleId circleId, MeetingStatus status);
-    
-    /**
-     * 根据圈子ID和状态分页查找会议
-     * 
-     * @param circleId 圈子ID
-     * @param status 会议状态
-     * @param pageable 分页参数
-     * @return 会议分页结果
-     */
-    Page<GovernanceMeeting> findByCircleIdAndStatus(CircleId circleId, MeetingStatus status, Pageable pageable);
+    List<GovernanceMeeting> findByKeyOrganizationIdAndCircleIdAndStatus(OrganizationId organizationId,
+                                                                     CircleId circleId,
+                                                                     MeetingStatus status);
     
     /**
      * 根据协调员ID查找会议
      * 
+     * @param organizationId 组织ID
      * @param facilitatorId 协调员ID
      * @return 会议列表
      */
-    List<GovernanceMeeting> findByFacilitatorId(PartnerId facilitatorId);
+    List<GovernanceMeeting> findByKeyOrganizationIdAndFacilitatorId(OrganizationId organizationId,
+                                                                 PartnerId facilitatorId);
     
     /**
      * 根据秘书ID查找会议
      * 
+     * @param organizationId 组织ID
      * @param secretaryId 秘书ID
      * @return 会议列表
      */
-    List<GovernanceMeeting> findBySecretaryId(PartnerId secretaryId);
-    
-    /**
-     * 根据计划日期范围查找会议
-     * 
-     * @param startDate 开始日期
-     * @param endDate 结束日期
-     * @return 会议列表
-     */
-    @Query("SELECT m FROM GovernanceMeeting m " +
-           "WHERE m.scheduledDate >= :startDate " +
-           "AND m.scheduledDate <= :endDate " +
-           "ORDER BY m.scheduledDate ASC")
-    List<GovernanceMeeting> findByScheduledDateBetween(@Param("startDate") LocalDateTime startDate, 
-                                                        @Param("endDate") LocalDateTime endDate);
+    List<GovernanceMeeting> findByKeyOrganizationIdAndSecretaryId(OrganizationId organizationId,
+                                                               PartnerId secretaryId);
     
     /**
      * 根据圈子ID和计划日期范围查找会议
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param startDate 开始日期
      * @param endDate 结束日期
      * @return 会议列表
      */
     @Query("SELECT m FROM GovernanceMeeting m " +
-           "WHERE m.circleId = :circleId " +
+           "WHERE m.key.organizationId = :organizationId " +
+           "AND m.circleId = :circleId " +
            "AND m.scheduledDate >= :startDate " +
            "AND m.scheduledDate <= :endDate " +
            "ORDER BY m.scheduledDate ASC")
     List<GovernanceMeeting> findByCircleIdAndScheduledDateBetween(
+            @Param("organizationId") OrganizationId organizationId,
             @Param("circleId") CircleId circleId,
             @Param("startDate") LocalDateTime startDate, 
             @Param("endDate") LocalDateTime endDate);
     
     /**
-     * 查找会议及其议程（使用JOIN FETCH避免N+1问题）
+     * 查找圈子最近的会议
      * 
-     * @param id 会议ID
-     * @return 会议（如果存在）
+     * @param organizationId 组织ID
+     * @param circleId 圈子ID
+     * @param pageable 分页参数
+     * @return 会议列表
      */
     @Query("SELECT m FROM GovernanceMeeting m " +
-           "LEFT JOIN FETCH m.agenda " +
-           "WHERE m.id = :id")
-    Optional<GovernanceMeeting> findByIdWithAgenda(@Param("id") MeetingId id);
+           "WHERE m.key.organizationId = :organizationId " +
+           "AND m.circleId = :circleId " +
+           "ORDER BY m.scheduledDate DESC")
+    List<GovernanceMeeting> findRecentMeetingsByCircleId(@Param("organizationId") OrganizationId organizationId,
+                                                         @Param("circleId") CircleId circleId,
+                                                         Pageable pageable);
     
     /**
-     * 查找会议及其所有关联数据（使用JOIN FETCH避免N+1问题）
+     * 统计圈子的会议数量
      * 
-     * @param id 会议ID
-     * @return 会议（如果存在）
+     * @param organizationId 组织ID
+     * @param circleId 圈子ID
+     * @return 会议数量
      */
-    @Query("SELECT DISTINCT m FROM GovernanceMeeting m " +
-           "LEFT JOIN FETCH m.agenda " +
-           "LEFT JOIN FETCH m.participants " +
-           "LEFT JOIN FETCH m.meetingRecord " +
-           "WHERE m.id = :id")
-    Optional<GovernanceMeeting> findByIdWithAllRelations(@Param("id") MeetingId id);
+    long countByKeyOrganizationIdAndCircleId(OrganizationId organizationId, CircleId circleId);
     
     /**
-     * 查找圈子最近的会议
+     * 按ID批量查询组织内的会议
      * 
-     * @param circleId 圈子ID
-     * @param pageable 分页参数
+     * @param organizationId 组织ID
+     * @param ids 会议ID集合
      * @return 会议列表
      */
-    @Query("SELECT m FROM GovernanceMeeting m " +
-           "WHERE m.circleId = :circleId " +
-           "ORDER BY m.scheduledDate DESC")
-    List<GovernanceMeeting> findRecentMeetingsByCircleId(@Param("circleId") CircleId circleId, Pageable pageable);
+    List<GovernanceMeeting> findByKeyOrganizationIdAndKeyIdIn(OrganizationId organizationId, Collection<MeetingId> ids);
     
     /**
-     * 统计圈子的会议数量
+     * 查询会议所在圈子（不加载聚合）
      * 
-     * @param circleId 圈子ID
-     * @return 会议数量
+     * @param organizationId 组织ID
+     * @param id 会议ID
+     * @return 圈子ID（如果会议存在）
      */
-    long countByCircleId(CircleId circleId);
+    @Query("SELECT m.circleId FROM GovernanceMeeting m " +
+           "WHERE m.key.organizationId = :organizationId AND m.key.id = :id")
+    Optional<CircleId> findCircleIdByKey(@Param("organizationId") OrganizationId organizationId,
+                                         @Param("id") MeetingId id);
     
     /**
-     * 统计圈子特定状态的会议数量
+     * 查询会议版本（不加载聚合）
      * 
-     * @param circleId 圈子ID
+     * @param organizationId 组织ID值
+     * @param id 会议ID值
+     * @return 版本（如果会议存在）
+     */
+    @Query("SELECT m.version FROM GovernanceMeeting m " +
+           "WHERE m.key.organizationId.value = :organizationId AND m.key.id.value = :id")
+    Optional<Long> findVersionByIdValue(@Param("organizationId") String organizationId, @Param("id") String id);
+    
+    /**
+     * 查询可归档的会议
+     * 处于终态且结束（取消的会议按计划时间）早于截止时间的会议，按结束时间从旧到新
+     * 
+     * @param statuses 终态集合
+     * @param cutoff 截止时间
+     * @param pageable 批量大小
+     * @return 会议主键列表
+     */
+    @Query("SELECT m.key FROM GovernanceMeeting m " +
+           "WHERE m.status IN :statuses AND COALESCE(m.actualEndTime, m.scheduledDate) < :cutoff " +
+           "ORDER BY COALESCE(m.actualEndTime, m.scheduledDate)")
+    List<MeetingKey> findArchivableKeys(@Param("statuses") Collection<MeetingStatus> statuses,
+                                        @Param("cutoff") LocalDateTime cutoff,
+                                        Pageable pageable);
+    
+    /**
+     * 查询组织内指定状态会议的日程：ID、计划时间、时长、协调员和秘书
+     * 
+     * @param organizationId 组织ID
+     * @param statuses 状态集合
+     * @param scheduledFrom 计划时间下限
+     * @return 行：会议ID值, 计划时间, 时长, 协调员ID值, 秘书ID值
+     */
+    @Query("SELECT m.key.id.value, m.scheduledDate, m.duration, m.facilitatorId.value, m.secretaryId.value " +
+           "FROM GovernanceMeeting m " +
+           "WHERE m.key.organizationId = :organizationId AND m.status IN :statuses " +
+           "AND m.scheduledDate >= :scheduledFrom")
+    List<Object[]> findBookingRows(@Param("organizationId") OrganizationId organizationId,
+                                   @Param("statuses") Collection<MeetingStatus> statuses,
+                                   @Param("scheduledFrom") LocalDateTime scheduledFrom);
+    
+    /**
+     * 查询组织内指定状态会议的参与者
+     * 
+     * @param organizationId 组织ID
+     * @param statuses 状态集合
+     * @param scheduledFrom 计划时间下限
+     * @return 行：会议ID值, 伙伴ID值
+     */
+    @Query("SELECT m.key.id.value, p.partnerId.value FROM GovernanceMeeting m JOIN m.participants p " +
+           "WHERE m.key.organizationId = :organizationId AND m.status IN :statuses " +
+           "AND m.scheduledDate >= :scheduledFrom")
+    List<Object[]> findParticipantRows(@Param("organizationId") OrganizationId organizationId,
+                                       @Param("statuses") Collection<MeetingStatus> statuses,
+                                       @Param("scheduledFrom") LocalDateTime scheduledFrom);
+    
+    /**
+     * 查询系列中计划时间不早于下限的指定状态会议
+     * 
+     * @param organizationId 组织ID
+     * @param seriesId 会议系列ID
      * @param status 会议状态
-     * @return 会议数量
+     * @param scheduledFrom 计划时间下限
+     * @return 会议列表，按计划时间排序
      */
-    long countByCircleIdAndStatus(CircleId circleId, MeetingStatus status);
+    @Query("SELECT m FROM GovernanceMeeting m " +
+           "WHERE m.key.organizationId = :organizationId AND m.seriesId = :seriesId " +
+           "AND m.status = :status AND m.scheduledDate >= :scheduledFrom " +
+           "ORDER BY m.scheduledDate")
+    List<GovernanceMeeting> findBySeriesIdFrom(@Param("organizationId") OrganizationId organizationId,
+                                               @Param("seriesId") MeetingSeriesId seriesId,
+                                               @Param("status") MeetingStatus status,
+                                               @Param("scheduledFrom") LocalDateTime scheduledFrom);
 }
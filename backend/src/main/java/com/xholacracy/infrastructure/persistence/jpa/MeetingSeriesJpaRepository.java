@@ -0,0 +1,68 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.MeetingSeries;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
+import com.xholacracy.domain.model.meeting.MeetingSeriesStatus;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MeetingSeries的Spring Data JPA Repository
+ * 提供基础的CRUD操作和自定义查询
+ */
+@Repository
+public interface MeetingSeriesJpaRepository extends JpaRepository<MeetingSeries, MeetingSeriesId> {
+    
+    /**
+     * 根据组织和ID查找会议系列
+     * 
+     * @param organizationId 组织ID
+     * @param id 会议系列ID
+     * @return 会议系列（如果存在）
+     */
+    Optional<MeetingSeries> findByOrganizationIdAndId(OrganizationId organizationId, MeetingSeriesId id);
+    
+    /**
+     * 查询会议系列所在圈子（不加载聚合）
+     * 
+     * @param organizationId 组织ID
+     * @param id 会议系列ID
+     * @return 圈子ID（如果会议系列存在）
+     */
+    @Query("SELECT s.circleId FROM MeetingSeries s " +
+           "WHERE s.organizationId = :organizationId AND s.id = :id")
+    Optional<CircleId> findCircleIdById(@Param("organizationId") OrganizationId organizationId,
+                                        @Param("id") MeetingSeriesId id);
+    
+    /**
+     * 查找圈子的会议系列
+     * 
+     * @param circleId 圈子ID
+     * @return 会议系列列表，按创建时间排序
+     */
+    List<MeetingSeries> findByCircleIdOrderByCreatedAt(CircleId circleId);
+    
+    /**
+     * 查找滚动窗口落后于horizon的系列
+     * 
+     * @param status 系列状态
+     * @param horizon 窗口上界
+     * @param pageable 分页（只取第一页）
+     * @return 会议系列列表，落后最多的排在前面
+     */
+    @Query("SELECT s FROM MeetingSeries s " +
+           "WHERE s.status = :status AND s.materializedThrough < :horizon " +
+           "ORDER BY s.materializedThrough, s.id.value")
+    List<MeetingSeries> findDue(@Param("status") MeetingSeriesStatus status,
+                                @Param("horizon") LocalDateTime horizon,
+                                Pageable pageable);
+}
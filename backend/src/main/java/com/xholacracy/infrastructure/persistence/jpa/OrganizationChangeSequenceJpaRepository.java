@@ -0,0 +1,39 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.sync.OrganizationChangeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * OrganizationChangeSequence的Spring Data JPA Repository
+ */
+@Repository
+public interface OrganizationChangeSequenceJpaRepository
+        extends JpaRepository<OrganizationChangeSequence, OrganizationId> {
+    
+    /**
+     * 加写锁读取组织的变更序号，锁持有到事务提交
+     * 
+     * @param organizationId 组织ID值
+     * @return 变更序号（如果存在）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrganizationChangeSequence s WHERE s.organizationId.value = :organizationId")
+    Optional<OrganizationChangeSequence> findForUpdate(@Param("organizationId") String organizationId);
+    
+    /**
+     * 查询组织当前的最新序号
+     * 
+     * @param organizationId 组织ID值
+     * @return 最新序号（如果存在）
+     */
+    @Query("SELECT s.lastSequence FROM OrganizationChangeSequence s WHERE s.organizationId.value = :organizationId")
+    Optional<Long> findLastSequence(@Param("organizationId") String organizationId);
+}
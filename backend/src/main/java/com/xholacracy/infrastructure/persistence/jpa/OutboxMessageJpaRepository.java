@@ -0,0 +1,48 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.infrastructure.persistence.outbox.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * OutboxMessage的Spring Data JPA Repository
+ */
+@Repository
+public interface OutboxMessageJpaRepository extends JpaRepository<OutboxMessage, String> {
+    
+    /**
+     * 加写锁读取到期的待投递消息，跳过其他分发器已锁定的行（FOR UPDATE SKIP LOCKED）
+     * 
+     * @param now 当前时间
+     * @param pageable 批量大小
+     * @return 到期消息，按到期时间排序
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT m FROM OutboxMessage m " +
+           "WHERE m.status = com.xholacracy.infrastructure.persistence.outbox.OutboxMessageStatus.PENDING " +
+           "AND m.availableAt <= :now ORDER BY m.availableAt")
+    List<OutboxMessage> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * 删除已投递的消息
+     * 
+     * @return 删除的行数
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
+}
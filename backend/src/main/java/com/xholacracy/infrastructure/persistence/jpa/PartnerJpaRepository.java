@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,4 +68,33 @@ public interface PartnerJpaRepository extends JpaRepository<Partner, PartnerId>
            "LEFT JOIN FETCH p.roleAssignments " +
            "WHERE p.id = :id")
     Optional<Partner> findByIdWithRoleAssignments(@Param("id") PartnerId id);
+    
+    /**
+     * 批量查询伙伴ID和名称
+     * 
+     * @param ids 伙伴ID值集合
+     * @return [id, name] 数组列表
+     */
+    @Query("SELECT p.id.value, p.name FROM Partner p WHERE p.id.value IN :ids")
+    List<Object[]> findNamesByIdValues(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 按邮箱批量查询伙伴ID
+     * 
+     * @param emails 邮箱集合
+     * @return [email, id] 数组列表
+     */
+    @Query("SELECT p.email, p.id.value FROM Partner p WHERE p.email IN :emails")
+    List<Object[]> findIdValuesByEmails(@Param("emails") Collection<String> emails);
+    
+    /**
+     * 查询在组织中担任任何角色的伙伴
+     * 
+     * @param organizationId 组织ID值
+     * @return 伙伴列表
+     */
+    @Query("SELECT p FROM Partner p WHERE p.id.value IN (" +
+           "SELECT a.partnerId.value FROM RoleAssignment a, Circle c " +
+           "WHERE c.id.value = a.role.circleId.value AND c.organizationId.value = :organizationId)")
+    List<Partner> findAssignedInOrganization(@Param("organizationId") String organizationId);
 }
@@ -1,9 +1,11 @@
 package com.xholacracy.infrastructure.persistence.jpa;
 
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.proposal.Proposal;
 import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalKey;
 import com.xholacracy.domain.model.proposal.ProposalStatus;
 import com.xholacracy.domain.model.proposal.ProposalType;
 import org.springframework.data.domain.Page;
@@ -14,108 +16,148 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Proposal的Spring Data JPA Repository
  * 提供基础的CRUD操作和自定义查询
+ *
+ * 提案表按组织ID分区，所有查询都以组织ID为条件，使数据库只扫描该组织所在的分区
  */
 @Repository
-public interface ProposalJpaRepository extends JpaRepository<Proposal, ProposalId> {
+public interface ProposalJpaRepository extends JpaRepository<Proposal, ProposalKey> {
+    
+    /**
+     * 查询提案所在圈子（不加载聚合）
+     * 
+     * @param organizationId 组织ID
+     * @param id 提案ID
+     * @return 圈子ID（如果提案存在）
+     */
+    @Query("SELECT p.circleId FROM Proposal p " +
+           "WHERE p.key.organizationId = :organizationId AND p.key.id = :id")
+    Optional<CircleId> findCircleIdByKey(@Param("organizationId") OrganizationId organizationId,
+                                         @Param("id") ProposalId id);
+    
+    /**
+     * 查找组织的所有提案
+     * 
+     * @param organizationId 组织ID
+     * @return 提案列表
+     */
+    List<Proposal> findByKeyOrganizationId(OrganizationId organizationId);
     
     /**
      * 根据圈子ID查找提案
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @return 提案列表
      */
-    List<Proposal> findByCircleId(CircleId circleId);
+    List<Proposal> findByKeyOrganizationIdAndCircleId(OrganizationId organizationId, CircleId circleId);
     
     /**
      * 根据圈子ID分页查找提案
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param pageable 分页参数
      * @return 提案分页结果
      */
-    Page<Proposal> findByCircleId(CircleId circleId, Pageable pageable);
+    Page<Proposal> findByKeyOrganizationIdAndCircleId(OrganizationId organizationId, CircleId circleId,
+                                                   Pageable pageable);
     
     /**
      * 根据提案人ID查找提案
      * 
+     * @param organizationId 组织ID
      * @param proposerId 提案人ID
      * @return 提案列表
      */
-    List<Proposal> findByProposerId(PartnerId proposerId);
+    List<Proposal> findByKeyOrganizationIdAndProposerId(OrganizationId organizationId, PartnerId proposerId);
     
     /**
      * 根据提案人ID分页查找提案
      * 
+     * @param organizationId 组织ID
      * @param proposerId 提案人ID
      * @param pageable 分页参数
      * @return 提案分页结果
      */
-    Page<Proposal> findByProposerId(PartnerId proposerId, Pageable pageable);
+    Page<Proposal> findByKeyOrganizationIdAndProposerId(OrganizationId organizationId, PartnerId proposerId,
+                                                     Pageable pageable);
     
     /**
      * 根据状态查找提案
      * 
+     * @param organizationId 组织ID
      * @param status 提案状态
      * @return 提案列表
      */
-    List<Proposal> findByStatus(ProposalStatus status);
+    List<Proposal> findByKeyOrganizationIdAndStatus(OrganizationId organizationId, ProposalStatus status);
     
     /**
      * 根据状态分页查找提案
      * 
+     * @param organizationId 组织ID
      * @param status 提案状态
      * @param pageable 分页参数
      * @return 提案分页结果
      */
-    Page<Proposal> findByStatus(ProposalStatus status, Pageable pageable);
+    Page<Proposal> findByKeyOrganizationIdAndStatus(OrganizationId organizationId, ProposalStatus status,
+                                                 Pageable pageable);
     
     /**
      * 根据提案类型查找提案
      * 
+     * @param organizationId 组织ID
      * @param proposalType 提案类型
      * @return 提案列表
      */
-    List<Proposal> findByProposalType(ProposalType proposalType);
+    List<Proposal> findByKeyOrganizationIdAndProposalType(OrganizationId organizationId, ProposalType proposalType);
     
     /**
      * 根据圈子ID和状态查找提案
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param status 提案状态
      * @return 提案列表
      */
-    List<Proposal> findByCircleIdAndStatus(CircleId circleId, ProposalStatus status);
+    List<Proposal> findByKeyOrganizationIdAndCircleIdAndStatus(OrganizationId organizationId, CircleId circleId,
+                                                            ProposalStatus status);
     
     /**
      * 根据圈子ID和状态分页查找提案
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param status 提案状态
      * @param pageable 分页参数
      * @return 提案分页结果
      */
-    Page<Proposal> findByCircleIdAndStatus(CircleId circleId, ProposalStatus status, Pageable pageable);
+    Page<Proposal> findByKeyOrganizationIdAndCircleIdAndStatus(OrganizationId organizationId, CircleId circleId,
+                                                            ProposalStatus status, Pageable pageable);
     
     /**
      * 查找提案及其决策历史（使用JOIN FETCH避免N+1问题）
      * 
+     * @param organizationId 组织ID
      * @param id 提案ID
      * @return 提案（如果存在）
      */
     @Query("SELECT p FROM Proposal p " +
            "LEFT JOIN FETCH p.decisionHistory " +
-           "WHERE p.id = :id")
-    Optional<Proposal> findByIdWithDecisionHistory(@Param("id") ProposalId id);
+           "WHERE p.key.organizationId = :organizationId AND p.key.id = :id")
+    Optional<Proposal> findByIdWithDecisionHistory(@Param("organizationId") OrganizationId organizationId,
+                                                   @Param("id") ProposalId id);
     
     /**
      * 查找提案及其所有关联数据（使用JOIN FETCH避免N+1问题）
      * 
+     * @param organizationId 组织ID
      * @param id 提案ID
      * @return 提案（如果存在）
      */
@@ -126,45 +168,89 @@ public interface ProposalJpaRepository extends JpaRepository<Proposal, ProposalI
            "LEFT JOIN FETCH p.amendments " +
            "LEFT JOIN FETCH p.objections " +
            "LEFT JOIN FETCH p.votes " +
-           "WHERE p.id = :id")
-    Optional<Proposal> findByIdWithAllRelations(@Param("id") ProposalId id);
+           "WHERE p.key.organizationId = :organizationId AND p.key.id = :id")
+    Optional<Proposal> findByIdWithAllRelations(@Param("organizationId") OrganizationId organizationId,
+                                                @Param("id") ProposalId id);
     
     /**
      * 根据创建日期范围查找提案
      * 
+     * @param organizationId 组织ID
      * @param startDate 开始日期
      * @param endDate 结束日期
      * @return 提案列表
      */
     @Query("SELECT p FROM Proposal p " +
-           "WHERE p.createdDate >= :startDate " +
+           "WHERE p.key.organizationId = :organizationId " +
+           "AND p.createdDate >= :startDate " +
            "AND p.createdDate <= :endDate " +
            "ORDER BY p.createdDate DESC")
-    List<Proposal> findByCreatedDateBetween(@Param("startDate") LocalDateTime startDate, 
+    List<Proposal> findByCreatedDateBetween(@Param("organizationId") OrganizationId organizationId,
+                                            @Param("startDate") LocalDateTime startDate, 
                                             @Param("endDate") LocalDateTime endDate);
     
     /**
      * 根据标题模糊查找提案
      * 
+     * @param organizationId 组织ID
      * @param title 标题（支持模糊匹配）
      * @return 提案列表
      */
-    List<Proposal> findByTitleContainingIgnoreCase(String title);
+    List<Proposal> findByKeyOrganizationIdAndTitleContainingIgnoreCase(OrganizationId organizationId, String title);
     
     /**
      * 统计圈子的提案数量
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @return 提案数量
      */
-    long countByCircleId(CircleId circleId);
+    long countByKeyOrganizationIdAndCircleId(OrganizationId organizationId, CircleId circleId);
     
     /**
      * 统计圈子特定状态的提案数量
      * 
+     * @param organizationId 组织ID
      * @param circleId 圈子ID
      * @param status 提案状态
      * @return 提案数量
      */
-    long countByCircleIdAndStatus(CircleId circleId, ProposalStatus status);
+    long countByKeyOrganizationIdAndCircleIdAndStatus(OrganizationId organizationId, CircleId circleId,
+                                                   ProposalStatus status);
+    
+    /**
+     * 查询提案版本及异议验证计数（不加载聚合）
+     * 
+     * @param organizationId 组织ID值
+     * @param id 提案ID值
+     * @return [version, 已验证异议数, 有效异议数]，提案不存在时为空列表
+     */
+    @Query("SELECT p.version, COUNT(o.isValid), " +
+           "SUM(CASE WHEN o.isValid = true THEN 1 ELSE 0 END) " +
+           "FROM Proposal p LEFT JOIN p.objections o " +
+           "WHERE p.key.organizationId.value = :organizationId AND p.key.id.value = :id " +
+           "GROUP BY p.version")
+    List<Object[]> findVersionRowByIdValue(@Param("organizationId") String organizationId,
+                                           @Param("id") String id);
+    
+    /**
+     * 查询可归档的提案
+     * 处于终态且最后一个决策事件早于截止时间的提案，按最后活动时间从旧到新；
+     * 仍被热表中会议的议程或记录引用的提案留在热表，等引用它的会议归档后再归档
+     * 
+     * @param statuses 终态集合
+     * @param cutoff 截止时间
+     * @param pageable 批量大小
+     * @return 提案主键列表
+     */
+    @Query("SELECT p.key FROM Proposal p, ProposalSummary s " +
+           "WHERE s.proposalId = p.key.id AND p.status IN :statuses AND s.lastEventAt < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM GovernanceMeeting m JOIN m.agenda.items i " +
+           "WHERE m.key.organizationId = p.key.organizationId AND i.proposalId = p.key.id) " +
+           "AND NOT EXISTS (SELECT 1 FROM GovernanceMeeting m JOIN m.meetingRecord.proposalOutcomes o " +
+           "WHERE m.key.organizationId = p.key.organizationId AND o.proposalId = p.key.id) " +
+           "ORDER BY s.lastEventAt")
+    List<ProposalKey> findArchivableKeys(@Param("statuses") Collection<ProposalStatus> statuses,
+                                         @Param("cutoff") LocalDateTime cutoff,
+                                         Pageable pageable);
 }
@@ -0,0 +1,63 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.domain.model.proposal.ProposalSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ProposalSummary的Spring Data JPA Repository
+ * 圈子查询命中 (circle_id, status, last_event_at) 索引，状态查询命中 (organization_id, status, last_event_at) 索引
+ */
+@Repository
+public interface ProposalSummaryJpaRepository extends JpaRepository<ProposalSummary, ProposalId> {
+
+    /**
+     * 根据圈子ID查找组织内的提案摘要
+     *
+     * @param organizationId 组织ID
+     * @param circleId 圈子ID
+     * @return 提案摘要列表（按最后活动时间倒序）
+     */
+    List<ProposalSummary> findByOrganizationIdAndCircleIdOrderByLastEventAtDesc(OrganizationId organizationId,
+                                                                                CircleId circleId);
+
+    /**
+     * 根据圈子ID和状态查找组织内的提案摘要
+     *
+     * @param organizationId 组织ID
+     * @param circleId 圈子ID
+     * @param status 提案状态
+     * @return 提案摘要列表（按最后活动时间倒序）
+     */
+    List<ProposalSummary> findByOrganizationIdAndCircleIdAndStatusOrderByLastEventAtDesc(
+        OrganizationId organizationId, CircleId circleId, ProposalStatus status);
+
+    /**
+     * 根据状态查找组织内的提案摘要
+     *
+     * @param organizationId 组织ID
+     * @param status 提案状态
+     * @return 提案摘要列表（按最后活动时间倒序）
+     */
+    List<ProposalSummary> findByOrganizationIdAndStatusOrderByLastEventAtDesc(OrganizationId organizationId,
+                                                                              ProposalStatus status);
+
+    /**
+     * 批量查询提案ID和标题
+     * 摘要表不分区，按提案ID查询不需要组织ID
+     *
+     * @param ids 提案ID值集合
+     * @return [id, title] 数组列表
+     */
+    @Query("SELECT s.proposalId.value, s.title FROM ProposalSummary s WHERE s.proposalId.value IN :ids")
+    List<Object[]> findTitlesByIdValues(@Param("ids") Collection<String> ids);
+}
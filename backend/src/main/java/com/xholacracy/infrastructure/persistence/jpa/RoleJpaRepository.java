@@ -2,13 +2,19 @@ package com.xholacracy.infrastructure.persistence.jpa;
 
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.permission.PermissionGrant;
+import com.xholacracy.domain.model.role.DomainClaim;
 import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.domain.model.role.RoleHolder;
 import com.xholacracy.domain.model.role.RoleId;
+import com.xholacracy.domain.model.role.RoleSummaryView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +25,15 @@ import java.util.Optional;
 @Repository
 public interface RoleJpaRepository extends JpaRepository<Role, RoleId> {
     
+    /**
+     * 角色摘要投影的公共SELECT部分
+     */
+    String ROLE_SUMMARY_SELECT =
+        "SELECT r.id.value AS id, r.name AS name, r.purpose AS purpose, " +
+        "r.isSpecialRole AS specialRole, r.specialRoleType AS specialRoleType, " +
+        "(SELECT COUNT(a) FROM RoleAssignment a WHERE a.role = r) AS assignmentCount " +
+        "FROM Role r ";
+    
     /**
      * 根据圈子ID查找所有角色
      * 
@@ -96,4 +111,97 @@ public interface RoleJpaRepository extends JpaRepository<Role, RoleId> {
      * @return 角色（如果存在）
      */
     Optional<Role> findByNameAndCircleId(String name, CircleId circleId);
+    
+    /**
+     * 查询圈子的角色摘要（接口投影，分配数由子查询聚合）
+     * 
+     * @param circleId 圈子ID
+     * @return 角色摘要列表（特殊角色在前）
+     */
+    @Query(ROLE_SUMMARY_SELECT +
+           "WHERE r.circleId.value = :circleId " +
+           "ORDER BY r.isSpecialRole DESC, r.name")
+    List<RoleSummaryView> findSummariesByCircleIdValue(@Param("circleId") String circleId);
+    
+    /**
+     * 按ID批量查询角色摘要（接口投影）
+     * 
+     * @param ids 角色ID值集合
+     * @return 角色摘要列表
+     */
+    @Query(ROLE_SUMMARY_SELECT + "WHERE r.id.value IN :ids")
+    List<RoleSummaryView> findSummariesByIdValues(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 按ID批量查询角色分配
+     * 
+     * @param ids 角色分配ID集合
+     * @return 角色分配列表
+     */
+    @Query("SELECT a FROM RoleAssignment a WHERE a.id IN :ids")
+    List<RoleAssignment> findAssignmentsByIds(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 批量加载圈子中角色的职责集合
+     * 
+     * @param circleIds 圈子ID值集合
+     * @return 角色列表
+     */
+    @Query("SELECT DISTINCT r FROM Role r LEFT JOIN FETCH r.accountabilities WHERE r.circleId.value IN :circleIds")
+    List<Role> fetchAccountabilities(@Param("circleIds") Collection<String> circleIds);
+    
+    /**
+     * 批量加载圈子中角色的领域集合
+     * 
+     * @param circleIds 圈子ID值集合
+     * @return 角色列表
+     */
+    @Query("SELECT DISTINCT r FROM Role r LEFT JOIN FETCH r.domains WHERE r.circleId.value IN :circleIds")
+    List<Role> fetchDomains(@Param("circleIds") Collection<String> circleIds);
+    
+    /**
+     * 批量加载圈子中角色的分配集合
+     * 
+     * @param circleIds 圈子ID值集合
+     * @return 角色列表
+     */
+    @Query("SELECT DISTINCT r FROM Role r LEFT JOIN FETCH r.assignments WHERE r.circleId.value IN :circleIds")
+    List<Role> fetchAssignments(@Param("circleIds") Collection<String> circleIds);
+    
+    /**
+     * 查询组织内所有角色的领域声明（构造器投影，一次查询，不加载角色实体）
+     * 
+     * @param organizationId 组织ID值
+     * @return 领域声明列表
+     */
+    @Query("SELECT new com.xholacracy.domain.model.role.DomainClaim(r.id.value, r.name, d.name, d.controlType) " +
+           "FROM Role r JOIN r.domains d " +
+           "WHERE r.circleId.value IN (SELECT c.id.value FROM Circle c WHERE c.organizationId.value = :organizationId)")
+    List<DomainClaim> findDomainClaimsByOrganization(@Param("organizationId") String organizationId);
+    
+    /**
+     * 查询伙伴担任的角色及其领域（构造器投影，没有领域的角色返回一行控制类型为null的记录）
+     * 
+     * @param partnerId 伙伴ID值
+     * @return 权限来源列表
+     */
+    @Query("SELECT new com.xholacracy.domain.model.permission.PermissionGrant(" +
+           "c.organizationId.value, r.circleId.value, c.parentCircleId.value, r.specialRoleType, d.controlType) " +
+           "FROM RoleAssignment a JOIN a.role r LEFT JOIN r.domains d " +
+           "JOIN Circle c ON c.id.value = r.circleId.value " +
+           "WHERE a.partnerId.value = :partnerId")
+    List<PermissionGrant> findPermissionGrantsByPartner(@Param("partnerId") String partnerId);
+    
+    /**
+     * 查询圈子中担任角色的伙伴（构造器投影，一次查询，不加载角色实体）
+     * 
+     * @param circleIds 圈子ID值集合
+     * @return 角色担任者列表，按分配时间排序
+     */
+    @Query("SELECT new com.xholacracy.domain.model.role.RoleHolder(" +
+           "r.circleId.value, a.partnerId.value, r.specialRoleType) " +
+           "FROM RoleAssignment a JOIN a.role r " +
+           "WHERE r.circleId.value IN :circleIds " +
+           "ORDER BY a.assignedDate, a.id")
+    List<RoleHolder> findHoldersByCircleIdValues(@Param("circleIds") Collection<String> circleIds);
 }
@@ -0,0 +1,45 @@
+package com.xholacracy.infrastructure.persistence.jpa;
+
+import com.xholacracy.infrastructure.persistence.revocation.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * TokenRevocation的Spring Data JPA Repository
+ */
+@Repository
+public interface TokenRevocationJpaRepository extends JpaRepository<TokenRevocation, TokenRevocation.Key> {
+    
+    /**
+     * 用一次查询取出令牌本身和令牌所属伙伴的未过期吊销记录
+     * 
+     * @param tokenId 令牌ID
+     * @param partnerId 伙伴ID值
+     * @param now 当前时间（UTC）
+     * @return 吊销记录，最多两条
+     */
+    @Query("SELECT r FROM TokenRevocation r " +
+           "WHERE ((r.kind = com.xholacracy.infrastructure.persistence.revocation.TokenRevocationKind.TOKEN " +
+           "AND r.subject = :tokenId) " +
+           "OR (r.kind = com.xholacracy.infrastructure.persistence.revocation.TokenRevocationKind.PARTNER " +
+           "AND r.subject = :partnerId)) " +
+           "AND r.expiresAt >= :now")
+    List<TokenRevocation> findActive(@Param("tokenId") String tokenId,
+                                     @Param("partnerId") String partnerId,
+                                     @Param("now") LocalDateTime now);
+    
+    /**
+     * 删除过期记录
+     * 
+     * @return 删除的行数
+     */
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,197 @@
+package com.xholacracy.infrastructure.persistence.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommand;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommandType;
+import com.xholacracy.domain.model.meeting.LiveMeetingJournal;
+import com.xholacracy.domain.model.meeting.LiveMeetingJournalEntry;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于本地文件的现场会议日志
+ * 每个会议一个文件，每行一条JSON编码的命令；文件通道在会话期间保持打开，
+ * 追加只是一次write调用。写入进入操作系统页缓存后即使进程崩溃也不会丢失，
+ * 开启fsync时每次追加后强制落盘，机器掉电也不丢失，代价是每个命令一次磁盘同步
+ *
+ * 崩溃可能留下写了一半的最后一行，读取时丢弃并截断，之后的追加从完整的行开始
+ */
+public class FileLiveMeetingJournal implements LiveMeetingJournal, AutoCloseable {
+    
+    private static final Logger log = LoggerFactory.getLogger(FileLiveMeetingJournal.class);
+    
+    private static final String SUFFIX = ".journal";
+    
+    private final Path directory;
+    private final boolean fsync;
+    private final ObjectMapper objectMapper;
+    private final Map<MeetingKey, FileChannel> channels = new ConcurrentHashMap<>();
+    
+    public FileLiveMeetingJournal(Path directory, boolean fsync, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public void append(MeetingKey key, LiveMeetingJournalEntry entry) {
+        byte[] line = (encode(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        FileChannel channel = channels.computeIfAbsent(key, this::openChannel);
+        synchronized (channel) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (fsync) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append to journal of meeting " + key, e);
+            }
+        }
+    }
+    
+    @Override
+    public List<LiveMeetingJournalEntry> read(MeetingKey key) {
+        Path file = fileOf(key);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try {
+            byte[] content = Files.readAllBytes(file);
+            List<LiveMeetingJournalEntry> entries = new ArrayList<>();
+            int start = 0;
+            for (int i = 0; i < content.length; i++) {
+                if (content[i] != '\n') {
+                    continue;
+                }
+                String line = new String(content, start, i - start, StandardCharsets.UTF_8);
+                try {
+                    entries.add(decode(line));
+                } catch (JsonProcessingException | RuntimeException e) {
+                    log.warn("Journal of meeting {} is corrupt at byte {}, ignoring the rest", key, start);
+                    truncate(key, file, start);
+                    return entries;
+                }
+                start = i + 1;
+            }
+            if (start < content.length) {
+                // 崩溃时写了一半的最后一行
+                truncate(key, file, start);
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read journal of meeting " + key, e);
+        }
+    }
+    
+    @Override
+    public void delete(MeetingKey key) {
+        closeChannel(key);
+        try {
+            Files.deleteIfExists(fileOf(key));
+        } catch (IOException e) {
+            log.warn("Failed to delete journal of meeting {}", key, e);
+        }
+    }
+    
+    /**
+     * 关闭所有打开的日志文件，日志内容保留用于重启后恢复
+     */
+    @Override
+    public void close() {
+        channels.keySet().forEach(this::closeChannel);
+    }
+    
+    private FileChannel openChannel(MeetingKey key) {
+        Path file = fileOf(key);
+        try {
+            Files.createDirectories(file.getParent());
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal of meeting " + key, e);
+        }
+    }
+    
+    private void closeChannel(MeetingKey key) {
+        FileChannel channel = channels.remove(key);
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close journal of meeting {}", key, e);
+        }
+    }
+    
+    private void truncate(MeetingKey key, Path file, long size) throws IOException {
+        closeChannel(key);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+    
+    private Path fileOf(MeetingKey key) {
+        return directory.resolve(key.getOrganizationId().getValue()).resolve(key.getId().getValue() + SUFFIX);
+    }
+    
+    private String encode(LiveMeetingJournalEntry entry) {
+        LiveMeetingCommand command = entry.getCommand();
+        JournalLine line = new JournalLine(
+            entry.getSequence(),
+            command.getType().name(),
+            command.getProposalId() != null ? command.getProposalId().getValue() : null,
+            command.getPartnerIds().stream().map(PartnerId::getValue).toList(),
+            command.getText(),
+            command.getFinalStatus() != null ? command.getFinalStatus().name() : null,
+            command.getOutcome(),
+            command.getRecordedAt().toString());
+        try {
+            return objectMapper.writeValueAsString(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode journal entry", e);
+        }
+    }
+    
+    private LiveMeetingJournalEntry decode(String json) throws JsonProcessingException {
+        JournalLine line = objectMapper.readValue(json, JournalLine.class);
+        LiveMeetingCommand command = LiveMeetingCommand.of(
+            LiveMeetingCommandType.valueOf(line.type()),
+            line.proposalId() != null ? ProposalId.of(line.proposalId()) : null,
+            line.partnerIds() != null ? line.partnerIds().stream().map(PartnerId::of).toList() : List.of(),
+            line.text(),
+            line.finalStatus() != null ? ProposalStatus.valueOf(line.finalStatus()) : null,
+            line.outcome(),
+            LocalDateTime.parse(line.recordedAt()));
+        return LiveMeetingJournalEntry.of(line.sequence(), command);
+    }
+    
+    /**
+     * 日志行的JSON结构
+     */
+    record JournalLine(long sequence, String type, String proposalId, List<String> partnerIds, String text,
+                       String finalStatus, String outcome, String recordedAt) {
+    }
+}
@@ -0,0 +1,311 @@
+package com.xholacracy.infrastructure.persistence.live;
+
+import com.xholacracy.domain.event.LiveMeetingChangedEvent;
+import com.xholacracy.domain.exception.MeetingSessionOwnedElsewhereException;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommand;
+import com.xholacracy.domain.model.meeting.LiveMeetingJournal;
+import com.xholacracy.domain.model.meeting.LiveMeetingJournalEntry;
+import com.xholacracy.domain.model.meeting.LiveMeetingRegistry;
+import com.xholacracy.domain.model.meeting.LiveMeetingSession;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.MeetingStatus;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.infrastructure.persistence.jpa.LiveSessionLeaseJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 内存中的现场会议注册表
+ * 会话由持有租约的节点独占，命令在内存中生效并追加到日志后立即返回；
+ * 刷新时把待写命令重放到从数据库加载的会议上，一个会议无论积累多少命令都只保存一次。
+ * 日志追加失败时退化为同步刷新，命令不会只存在于内存中
+ *
+ * 节点重启后按租约恢复本节点的会话，日志中未刷新的命令重新生效；
+ * 刷新时发现租约已被其他节点接管则丢弃本地会话
+ */
+public class InMemoryLiveMeetingRegistry implements LiveMeetingRegistry {
+    
+    private static final Logger log = LoggerFactory.getLogger(InMemoryLiveMeetingRegistry.class);
+    
+    private final MeetingRepository meetingRepository;
+    private final LiveSessionLeaseJpaRepository leaseRepository;
+    private final LiveMeetingJournal journal;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private final Clock clock;
+    private final Map<MeetingKey, Slot> slots = new ConcurrentHashMap<>();
+    
+    public InMemoryLiveMeetingRegistry(MeetingRepository meetingRepository,
+                                       LiveSessionLeaseJpaRepository leaseRepository,
+                                       LiveMeetingJournal journal,
+                                       ApplicationEventPublisher eventPublisher,
+                                       PlatformTransactionManager transactionManager,
+                                       String nodeId,
+                                       Duration leaseDuration) {
+        this(meetingRepository, leaseRepository, journal, eventPublisher, transactionManager, nodeId, leaseDuration,
+            Clock.systemDefaultZone());
+    }
+    
+    InMemoryLiveMeetingRegistry(MeetingRepository meetingRepository,
+                                LiveSessionLeaseJpaRepository leaseRepository,
+                                LiveMeetingJournal journal,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                String nodeId,
+                                Duration leaseDuration,
+                                Clock clock) {
+        this.meetingRepository = meetingRepository;
+        this.leaseRepository = leaseRepository;
+        this.journal = journal;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = nodeId;
+        this.leaseDuration = leaseDuration;
+        this.clock = clock;
+    }
+    
+    @Override
+    public <T> T start(OrganizationId organizationId, MeetingId meetingId, Function<GovernanceMeeting, T> view) {
+        return slotOf(MeetingKey.of(organizationId, meetingId), true).session.read(view);
+    }
+    
+    @Override
+    public long apply(OrganizationId organizationId, MeetingId meetingId, LiveMeetingCommand command) {
+        Slot slot = slotOf(MeetingKey.of(organizationId, meetingId), false);
+        AtomicBoolean journaled = new AtomicBoolean(true);
+        LiveMeetingJournalEntry entry = slot.session.apply(command, applied -> {
+            try {
+                journal.append(slot.key, applied);
+            } catch (UncheckedIOException e) {
+                log.warn("Journal append failed for meeting {}, flushing synchronously", slot.key, e);
+                journaled.set(false);
+            }
+            // 在会话锁内发布，订阅者按序号顺序收到变更
+            eventPublisher.publishEvent(LiveMeetingChangedEvent.of(slot.key, applied.getSequence(), command));
+        });
+        if (slot.session.isEnded()) {
+            close(slot);
+        } else if (!journaled.get()) {
+            flush(slot);
+        }
+        return entry.getSequence();
+    }
+    
+    @Override
+    public <T> T read(OrganizationId organizationId, MeetingId meetingId, Function<GovernanceMeeting, T> view) {
+        return slotOf(MeetingKey.of(organizationId, meetingId), false).session.read(view);
+    }
+    
+    @Override
+    public <T> T end(OrganizationId organizationId, MeetingId meetingId, Function<GovernanceMeeting, T> view) {
+        Slot slot = slotOf(MeetingKey.of(organizationId, meetingId), false);
+        apply(organizationId, meetingId, LiveMeetingCommand.end());
+        return slot.session.read(view);
+    }
+    
+    /**
+     * 刷新本节点的所有会话，同时为空闲的会话续约
+     */
+    public void flushAll() {
+        for (Slot slot : slots.values()) {
+            if (slot.session == null) {
+                continue;
+            }
+            try {
+                if (slot.session.isEnded()) {
+                    close(slot);
+                } else {
+                    flush(slot);
+                }
+            } catch (Exception e) {
+                log.warn("Flush of live meeting {} failed, retrying on next run", slot.key, e);
+            }
+        }
+    }
+    
+    /**
+     * 恢复本节点持有租约的会话，节点启动时调用一次
+     *
+     * @return 恢复的会话数
+     */
+    public int recover() {
+        List<LiveSessionLease> leases = transactionTemplate.execute(status -> leaseRepository.findByOwnerNode(nodeId));
+        int recovered = 0;
+        for (LiveSessionLease lease : leases) {
+            MeetingKey key = MeetingKey.of(OrganizationId.of(lease.getOrganizationId()), MeetingId.of(lease.getMeetingId()));
+            try {
+                slotOf(key, false);
+                recovered++;
+            } catch (Exception e) {
+                log.warn("Failed to recover live meeting {}", key, e);
+            }
+        }
+        return recovered;
+    }
+    
+    /**
+     * @return 本节点打开的会话数
+     */
+    public int size() {
+        return slots.size();
+    }
+    
+    private Slot slotOf(MeetingKey key, boolean start) {
+        Slot slot = slots.computeIfAbsent(key, Slot::new);
+        synchronized (slot) {
+            if (slot.session == null) {
+                try {
+                    slot.session = load(key, start);
+                    slot.renewedAt = now();
+                } catch (RuntimeException e) {
+                    slots.remove(key, slot);
+                    throw e;
+                }
+                if (!slot.session.pending().isEmpty()) {
+                    flush(slot);
+                }
+            }
+        }
+        return slot;
+    }
+    
+    private LiveMeetingSession load(MeetingKey key, boolean start) {
+        LocalDateTime now = now();
+        LoadedMeeting loaded = transactionTemplate.execute(status -> {
+            GovernanceMeeting meeting = meetingRepository.findById(key.getOrganizationId(), key.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Meeting", key.getId().getValue()));
+            if (start && meeting.getStatus() == MeetingStatus.SCHEDULED) {
+                meeting.start();
+                meeting = meetingRepository.save(meeting);
+            }
+            if (meeting.getStatus() != MeetingStatus.IN_PROGRESS) {
+                throw new IllegalStateException("Only in-progress meetings can have a live session");
+            }
+            long flushedSequence = claimLease(key, now);
+            // 会话中的会议在事务结束后脱离持久化上下文，集合必须先加载
+            meeting.getParticipants().size();
+            meeting.getAgenda().getItems().size();
+            meeting.getMeetingRecord().getAttendees().size();
+            meeting.getMeetingRecord().getProposalOutcomes().size();
+            meeting.getMeetingRecord().getNotes().size();
+            return new LoadedMeeting(meeting, flushedSequence);
+        });
+        return LiveMeetingSession.resume(loaded.meeting(), loaded.flushedSequence(), journal.read(key));
+    }
+    
+    private long claimLease(MeetingKey key, LocalDateTime now) {
+        LiveSessionLease lease = leaseRepository.findById(key.getId().getValue()).orElse(null);
+        if (lease == null) {
+            leaseRepository.save(LiveSessionLease.claim(key, nodeId, now, now.plus(leaseDuration)));
+            return 0;
+        }
+        if (!lease.isOwnedBy(nodeId) && lease.isHeldAt(now)) {
+            throw new MeetingSessionOwnedElsewhereException(key.getId().getValue(), lease.getOwnerNode());
+        }
+        lease.renew(nodeId, now.plus(leaseDuration));
+        return lease.getFlushedSequence();
+    }
+    
+    /**
+     * 把待写命令合并写入数据库并续约；没有待写命令且租约离过期还早时什么也不做
+     */
+    private void flush(Slot slot) {
+        slot.flushLock.lock();
+        try {
+            List<LiveMeetingJournalEntry> pending = slot.session.pending();
+            LocalDateTime now = now();
+            if (pending.isEmpty() && slot.renewedAt.plus(leaseDuration.dividedBy(2)).isAfter(now)) {
+                return;
+            }
+            long lastSequence = pending.isEmpty() ? 0 : pending.get(pending.size() - 1).getSequence();
+            transactionTemplate.executeWithoutResult(status -> {
+                LiveSessionLease lease = leaseRepository.findById(slot.key.getId().getValue()).orElse(null);
+                if (lease == null || !lease.isOwnedBy(nodeId)) {
+                    throw new MeetingSessionOwnedElsewhereException(slot.key.getId().getValue(),
+                        lease != null ? lease.getOwnerNode() : "none");
+                }
+                if (!pending.isEmpty()) {
+                    GovernanceMeeting meeting = meetingRepository.findById(
+                            slot.key.getOrganizationId(), slot.key.getId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Meeting", slot.key.getId().getValue()));
+                    for (LiveMeetingJournalEntry entry : pending) {
+                        try {
+                            entry.getCommand().applyTo(meeting);
+                        } catch (IllegalStateException | IllegalArgumentException e) {
+                            log.warn("Dropping command {} of meeting {}: {}", entry.getSequence(), slot.key,
+                                e.getMessage());
+                        }
+                    }
+                    meetingRepository.save(meeting);
+                    lease.markFlushed(lastSequence);
+                }
+                lease.renew(nodeId, now.plus(leaseDuration));
+            });
+            slot.renewedAt = now;
+            if (!pending.isEmpty()) {
+                slot.session.markFlushed(lastSequence);
+            }
+        } catch (MeetingSessionOwnedElsewhereException e) {
+            log.warn("Live meeting {} was taken over by node {}, discarding {} unflushed commands",
+                slot.key, e.getOwnerNode(), slot.session.pending().size());
+            slots.remove(slot.key, slot);
+            journal.delete(slot.key);
+            throw e;
+        } finally {
+            slot.flushLock.unlock();
+        }
+    }
+    
+    /**
+     * 会议结束后写回全部命令，释放租约并删除日志
+     */
+    private void close(Slot slot) {
+        flush(slot);
+        transactionTemplate.executeWithoutResult(status -> leaseRepository.deleteById(slot.key.getId().getValue()));
+        slots.remove(slot.key, slot);
+        journal.delete(slot.key);
+    }
+    
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MILLIS);
+    }
+    
+    /**
+     * 注册表中的一个会话；会话在首次访问时加载
+     */
+    private static final class Slot {
+        
+        private final MeetingKey key;
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private volatile LiveMeetingSession session;
+        private volatile LocalDateTime renewedAt;
+        
+        private Slot(MeetingKey key) {
+            this.key = key;
+        }
+    }
+    
+    private record LoadedMeeting(GovernanceMeeting meeting, long flushedSequence) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.xholacracy.infrastructure.persistence.live;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 现场会议刷新调度
+ * 启动时恢复本节点持有的会话，之后定期把各会话积累的命令合并写入数据库
+ */
+public class LiveMeetingFlushScheduler {
+    
+    private static final Logger log = LoggerFactory.getLogger(LiveMeetingFlushScheduler.class);
+    
+    private final InMemoryLiveMeetingRegistry registry;
+    
+    public LiveMeetingFlushScheduler(InMemoryLiveMeetingRegistry registry) {
+        this.registry = registry;
+    }
+    
+    /**
+     * 恢复上次运行时本节点持有的会话
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            int recovered = registry.recover();
+            if (recovered > 0) {
+                log.info("Recovered {} live meeting sessions", recovered);
+            }
+        } catch (Exception e) {
+            log.warn("Recovering live meeting sessions failed", e);
+        }
+    }
+    
+    /**
+     * 执行一轮刷新
+     */
+    @Scheduled(fixedDelayString = "${xholacracy.live-meeting.flush-interval:PT5S}")
+    public void run() {
+        registry.flushAll();
+    }
+}
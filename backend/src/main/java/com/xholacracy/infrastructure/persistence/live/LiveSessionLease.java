@@ -0,0 +1,121 @@
+package com.xholacracy.infrastructure.persistence.live;
+
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 现场会议会话租约
+ * 记录哪个节点持有会议的现场会话，以及已写入数据库的最后一个命令序号。
+ * 持有节点每次刷新时续约；租约过期后其他节点可以接管会话
+ *
+ * 刷新与续约在同一事务中提交，版本号保证被接管后旧节点的刷新整体回滚
+ */
+@Entity
+@Table(name = "live_meeting_sessions")
+public class LiveSessionLease {
+    
+    @Id
+    @Column(name = "meeting_id")
+    private String meetingId;
+    
+    @Column(name = "organization_id", nullable = false)
+    private String organizationId;
+    
+    @Column(name = "owner_node", nullable = false, length = 100)
+    private String ownerNode;
+    
+    @Column(name = "flushed_sequence", nullable = false)
+    private long flushedSequence;
+    
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+    
+    @Column(name = "opened_at", nullable = false)
+    private LocalDateTime openedAt;
+    
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    // JPA需要无参构造函数
+    protected LiveSessionLease() {
+    }
+    
+    private LiveSessionLease(MeetingKey key, String ownerNode, LocalDateTime now, LocalDateTime leaseUntil) {
+        this.meetingId = key.getId().getValue();
+        this.organizationId = key.getOrganizationId().getValue();
+        this.ownerNode = Objects.requireNonNull(ownerNode, "Owner node cannot be null");
+        this.flushedSequence = 0;
+        this.leaseUntil = leaseUntil;
+        this.openedAt = now;
+    }
+    
+    /**
+     * 为新打开的会话创建租约
+     */
+    public static LiveSessionLease claim(MeetingKey key, String ownerNode, LocalDateTime now,
+                                         LocalDateTime leaseUntil) {
+        return new LiveSessionLease(key, ownerNode, now, leaseUntil);
+    }
+    
+    /**
+     * 续约或接管
+     */
+    public void renew(String ownerNode, LocalDateTime leaseUntil) {
+        this.ownerNode = ownerNode;
+        this.leaseUntil = leaseUntil;
+    }
+    
+    /**
+     * 记录已写入数据库的最后一个命令序号
+     */
+    public void markFlushed(long sequence) {
+        this.flushedSequence = Math.max(this.flushedSequence, sequence);
+    }
+    
+    public boolean isOwnedBy(String node) {
+        return ownerNode.equals(node);
+    }
+    
+    /**
+     * 检查租约在给定时间是否仍然有效
+     */
+    public boolean isHeldAt(LocalDateTime now) {
+        return leaseUntil.isAfter(now);
+    }
+    
+    public String getMeetingId() {
+        return meetingId;
+    }
+    
+    public String getOrganizationId() {
+        return organizationId;
+    }
+    
+    public String getOwnerNode() {
+        return ownerNode;
+    }
+    
+    public long getFlushedSequence() {
+        return flushedSequence;
+    }
+    
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+    
+    public LocalDateTime getOpenedAt() {
+        return openedAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,142 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+import com.xholacracy.infrastructure.notification.Notification;
+import com.xholacracy.infrastructure.notification.NotificationSink;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 发件箱分发器
+ * 定期认领一批到期消息，在投递线程池上并行投递到所有投递目标，再一次性结算结果，
+ * 直到不足一批为止；业务写入只负责插入消息，从不等待投递
+ *
+ * 一条消息只有所有投递目标都成功才算投递成功，否则整条重试，已成功的目标会再次收到同一ID的通知。
+ * 单条投递超过租约时长视为失败，避免租约过期后被重复认领的同时仍在投递
+ */
+public class OutboxDispatcher {
+    
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    
+    private final OutboxStore store;
+    private final List<NotificationSink> sinks;
+    private final int batchSize;
+    private final Duration lease;
+    private final ExecutorService deliveryExecutor;
+    
+    public OutboxDispatcher(OutboxStore store, List<NotificationSink> sinks, int batchSize,
+                            Duration lease, int deliveryThreads) {
+        this.store = store;
+        this.sinks = List.copyOf(sinks);
+        this.batchSize = batchSize;
+        this.lease = lease;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-delivery-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * 执行一轮分发
+     */
+    @Scheduled(fixedDelayString = "${xholacracy.outbox.poll-interval:PT1S}")
+    public void run() {
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched == batchSize);
+        } catch (Exception e) {
+            log.warn("Outbox dispatch failed, retrying on next run", e);
+        }
+    }
+    
+    /**
+     * 认领、投递并结算一批消息
+     *
+     * @return 本批认领的消息数
+     */
+    int dispatchBatch() {
+        List<OutboxMessage> batch = store.claim(batchSize, lease);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        List<CompletableFuture<String>> deliveries = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            Notification notification = toNotification(message);
+            deliveries.add(CompletableFuture.supplyAsync(() -> deliver(notification), deliveryExecutor)
+                .orTimeout(lease.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> "Delivery did not finish within " + lease));
+        }
+        
+        List<String> delivered = new ArrayList<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            String error = deliveries.get(i).join();
+            if (error == null) {
+                delivered.add(batch.get(i).getId());
+            } else {
+                failures.put(batch.get(i).getId(), error);
+            }
+        }
+        store.settle(delivered, failures);
+        if (!failures.isEmpty()) {
+            log.warn("Outbox batch of {}: {} delivered, {} to be retried", batch.size(), delivered.size(), failures.size());
+        }
+        return batch.size();
+    }
+    
+    /**
+     * 把通知投递到所有投递目标
+     *
+     * @return 失败原因，全部成功时为null
+     */
+    private String deliver(Notification notification) {
+        List<String> errors = new ArrayList<>();
+        for (NotificationSink sink : sinks) {
+            try {
+                sink.deliver(notification);
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                log.debug("Sink {} failed to deliver {}", sink.name(), notification, e);
+                errors.add(sink.name() + ": " + e.getMessage());
+            }
+        }
+        return errors.isEmpty() ? null : String.join("; ", errors);
+    }
+    
+    private static Notification toNotification(OutboxMessage message) {
+        return new Notification(message.getId(), message.getMessageType().name(), message.getOrganizationId(),
+            message.getAggregateId(), message.getPayload(), message.getCreatedAt(), message.getAttempts());
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        deliveryExecutor.shutdown();
+        try {
+            if (!deliveryExecutor.awaitTermination(lease.toMillis(), TimeUnit.MILLISECONDS)) {
+                deliveryExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            deliveryExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
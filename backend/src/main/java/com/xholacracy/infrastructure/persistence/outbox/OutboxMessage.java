@@ -0,0 +1,189 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 发件箱消息
+ * 与触发它的变更在同一事务中写入，提交后由分发器异步投递；
+ * 消息ID在重试之间保持不变，接收方据此去重
+ *
+ * availableAt既是重试时间也是租约：分发器认领消息时把它推到租约结束，
+ * 分发器在租约内崩溃时消息到期后会被重新认领
+ */
+@Entity
+@Table(name = "outbox_messages")
+public class OutboxMessage implements Persistable<String> {
+    
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+    
+    @Column(name = "organization_id", nullable = false, length = 36)
+    private String organizationId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "message_type", nullable = false, length = 50)
+    private OutboxMessageType messageType;
+    
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId;
+    
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(name = "payload", nullable = false)
+    private String payload;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxMessageStatus status;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+    
+    @Transient
+    private boolean isNew = true;
+    
+    // JPA需要无参构造函数
+    protected OutboxMessage() {
+    }
+    
+    private OutboxMessage(OrganizationId organizationId, OutboxMessageType messageType, String aggregateId,
+                          String payload, LocalDateTime now) {
+        this.id = UUID.randomUUID().toString();
+        this.organizationId = Objects.requireNonNull(organizationId, "Organization ID cannot be null").getValue();
+        this.messageType = Objects.requireNonNull(messageType, "Message type cannot be null");
+        this.aggregateId = Objects.requireNonNull(aggregateId, "Aggregate ID cannot be null");
+        this.payload = Objects.requireNonNull(payload, "Payload cannot be null");
+        this.status = OutboxMessageStatus.PENDING;
+        this.createdAt = now;
+        this.availableAt = now;
+    }
+    
+    /**
+     * 创建立即可投递的消息
+     */
+    public static OutboxMessage create(OrganizationId organizationId, OutboxMessageType messageType,
+                                       String aggregateId, String payload, LocalDateTime now) {
+        return new OutboxMessage(organizationId, messageType, aggregateId, payload, now);
+    }
+    
+    /**
+     * 认领消息：计入一次投递尝试，租约结束前其他分发器不会再认领
+     */
+    void lease(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+    
+    /**
+     * 投递失败后安排重试
+     */
+    void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.availableAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+    
+    /**
+     * 放弃投递
+     */
+    void giveUp(String error) {
+        this.status = OutboxMessageStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+    
+    @Override
+    public String getId() {
+        return id;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    public String getOrganizationId() {
+        return organizationId;
+    }
+    
+    public OutboxMessageType getMessageType() {
+        return messageType;
+    }
+    
+    public String getAggregateId() {
+        return aggregateId;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public OutboxMessageStatus getStatus() {
+        return status;
+    }
+    
+    public int getAttempts() {
+        return attempts;
+    }
+    
+    public String getLastError() {
+        return lastError;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+    
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+    
+    @Override
+    public String toString() {
+        return "OutboxMessage{" +
+                "id='" + id + '\'' +
+                ", messageType=" + messageType +
+                ", aggregateId='" + aggregateId + '\'' +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
@@ -0,0 +1,17 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+/**
+ * 发件箱消息状态
+ */
+public enum OutboxMessageStatus {
+    
+    /**
+     * 等待投递，包括投递失败后等待重试
+     */
+    PENDING,
+    
+    /**
+     * 重试次数用尽，不再投递
+     */
+    DEAD
+}
@@ -0,0 +1,32 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+/**
+ * 发件箱消息类型
+ */
+public enum OutboxMessageType {
+    
+    /**
+     * 安排了治理会议
+     */
+    MEETING_SCHEDULED,
+    
+    /**
+     * 治理会议改期
+     */
+    MEETING_RESCHEDULED,
+    
+    /**
+     * 提案进入新阶段
+     */
+    PROPOSAL_STATUS_CHANGED,
+    
+    /**
+     * 伙伴被分配角色
+     */
+    ROLE_ASSIGNED,
+    
+    /**
+     * 伙伴被移出角色
+     */
+    ROLE_UNASSIGNED
+}
@@ -0,0 +1,248 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.infrastructure.persistence.jpa.OutboxMessageJpaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 发件箱记录器
+ * 监听Hibernate的插入、更新、删除事件，把需要通知伙伴的变更（安排和改期会议、提案进入新阶段、
+ * 角色分配和移除）收集为发件箱消息，在Hibernate提交前的最后一次刷新之后与业务数据一起写入
+ *
+ * 写入路径只多出几行插入，投递完全由分发器在提交后异步完成；事务回滚时消息一并回滚
+ */
+public class OutboxRecorder implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    
+    private static final Logger log = LoggerFactory.getLogger(OutboxRecorder.class);
+    
+    private static final String SCHEDULED_DATE = "scheduledDate";
+    private static final String STATUS = "status";
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final OutboxMessageJpaRepository repository;
+    private final CircleRepository circleRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    
+    public OutboxRecorder(EntityManagerFactory entityManagerFactory,
+                          OutboxMessageJpaRepository repository,
+                          CircleRepository circleRepository,
+                          ObjectMapper objectMapper) {
+        this(entityManagerFactory, repository, circleRepository, objectMapper, Clock.systemDefaultZone());
+    }
+    
+    OutboxRecorder(EntityManagerFactory entityManagerFactory,
+                   OutboxMessageJpaRepository repository,
+                   CircleRepository circleRepository,
+                   ObjectMapper objectMapper,
+                   Clock clock) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.repository = repository;
+        this.circleRepository = circleRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+    
+    /**
+     * 注册到Hibernate事件监听器
+     */
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof GovernanceMeeting meeting) {
+            record(event.getSession(), meetingMessage(OutboxMessageType.MEETING_SCHEDULED, meeting));
+        } else if (event.getEntity() instanceof RoleAssignment assignment) {
+            record(event.getSession(), assignmentMessage(OutboxMessageType.ROLE_ASSIGNED, assignment));
+        }
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof GovernanceMeeting meeting && isDirty(event, SCHEDULED_DATE)) {
+            record(event.getSession(), meetingMessage(OutboxMessageType.MEETING_RESCHEDULED, meeting));
+        } else if (event.getEntity() instanceof Proposal proposal && isDirty(event, STATUS)) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("proposalId", proposal.getId().getValue());
+            payload.put("circleId", proposal.getCircleId().getValue());
+            payload.put("title", proposal.getTitle());
+            payload.put("previousStatus", oldValue(event, STATUS));
+            payload.put("status", proposal.getStatus());
+            record(event.getSession(), new PendingMessage(OutboxMessageType.PROPOSAL_STATUS_CHANGED,
+                proposal.getOrganizationId(), proposal.getCircleId(), proposal.getId().getValue(), payload));
+        }
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof RoleAssignment assignment) {
+            record(event.getSession(), assignmentMessage(OutboxMessageType.ROLE_UNASSIGNED, assignment));
+        }
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+    
+    private PendingMessage meetingMessage(OutboxMessageType type, GovernanceMeeting meeting) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("meetingId", meeting.getId().getValue());
+        payload.put("circleId", meeting.getCircleId().getValue());
+        payload.put("scheduledDate", String.valueOf(meeting.getScheduledDate()));
+        payload.put("participantIds", meeting.getParticipants().stream().map(id -> id.getValue()).toList());
+        return new PendingMessage(type, meeting.getOrganizationId(), meeting.getCircleId(),
+            meeting.getId().getValue(), payload);
+    }
+    
+    private PendingMessage assignmentMessage(OutboxMessageType type, RoleAssignment assignment) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("assignmentId", assignment.getId());
+        payload.put("roleId", assignment.getRole().getId().getValue());
+        payload.put("roleName", assignment.getRole().getName());
+        payload.put("circleId", assignment.getRole().getCircleId().getValue());
+        payload.put("partnerId", assignment.getPartnerId().getValue());
+        payload.put("assignedBy", assignment.getAssignedBy() != null ? assignment.getAssignedBy().getValue() : null);
+        return new PendingMessage(type, null, assignment.getRole().getCircleId(), assignment.getId(), payload);
+    }
+    
+    /**
+     * 将消息加入当前事务的待写入列表，首次记录时注册写入回调
+     * 提交时的刷新发生在Spring的beforeCommit之后，因此写入挂在Hibernate的事务完成前回调上
+     */
+    private void record(EventSource session, PendingMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<PendingMessage> pending = (List<PendingMessage>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<PendingMessage> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxRecorder.this);
+                }
+            });
+            session.getActionQueue().registerProcess(
+                (BeforeTransactionCompletionProcess) completingSession -> write(created, completingSession));
+            pending = created;
+        }
+        pending.add(message);
+    }
+    
+    /**
+     * 写入发件箱，并刷新使消息与业务数据在同一事务中提交
+     */
+    private void write(List<PendingMessage> pending, SessionImplementor session) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        
+        Set<CircleId> unresolved = new HashSet<>();
+        for (PendingMessage message : pending) {
+            if (message.organizationId == null) {
+                unresolved.add(message.circleId);
+            }
+        }
+        Map<CircleId, OrganizationId> organizations = unresolved.isEmpty()
+            ? Map.of()
+            : new HashMap<>(circleRepository.findOrganizationIdsByIds(unresolved));
+        
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MILLIS);
+        List<OutboxMessage> messages = new ArrayList<>(pending.size());
+        for (PendingMessage message : pending) {
+            OrganizationId organizationId = message.organizationId != null
+                ? message.organizationId
+                : organizations.get(message.circleId);
+            if (organizationId == null) {
+                log.debug("Skipping {} for {}: circle {} not found", message.type, message.aggregateId, message.circleId);
+                continue;
+            }
+            messages.add(OutboxMessage.create(organizationId, message.type, message.aggregateId,
+                toJson(message.payload), now));
+        }
+        pending.clear();
+        repository.saveAll(messages);
+        session.flush();
+    }
+    
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox payload", e);
+        }
+    }
+    
+    private static boolean isDirty(PostUpdateEvent event, String propertyName) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            return true;
+        }
+        int index = event.getPersister().getPropertyIndex(propertyName);
+        for (int candidate : dirty) {
+            if (candidate == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static Object oldValue(PostUpdateEvent event, String propertyName) {
+        Object[] oldState = event.getOldState();
+        return oldState != null ? oldState[event.getPersister().getPropertyIndex(propertyName)] : null;
+    }
+    
+    /**
+     * 待写入的消息；角色分配不直接持有组织，写入时按圈子批量解析
+     */
+    private record PendingMessage(OutboxMessageType type, OrganizationId organizationId, CircleId circleId,
+                                  String aggregateId, Map<String, Object> payload) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+import com.xholacracy.infrastructure.persistence.jpa.OutboxMessageJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 发件箱存储
+ * 认领和结算各是一个短事务，投递期间不持有连接和行锁：
+ * 认领时以FOR UPDATE SKIP LOCKED锁定一批到期消息并推后它们的到期时间作为租约，
+ * 多个分发器并发认领时各自拿到不相交的批次
+ *
+ * 投递成功的消息删除；失败的按指数退避重新安排，尝试次数用尽后标记为DEAD
+ */
+@Transactional
+public class OutboxStore {
+    
+    private static final Logger log = LoggerFactory.getLogger(OutboxStore.class);
+    
+    private final OutboxMessageJpaRepository repository;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Clock clock;
+    
+    public OutboxStore(OutboxMessageJpaRepository repository, int maxAttempts,
+                       Duration initialBackoff, Duration maxBackoff) {
+        this(repository, maxAttempts, initialBackoff, maxBackoff, Clock.systemDefaultZone());
+    }
+    
+    OutboxStore(OutboxMessageJpaRepository repository, int maxAttempts,
+                Duration initialBackoff, Duration maxBackoff, Clock clock) {
+        this.repository = repository;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.clock = clock;
+    }
+    
+    /**
+     * 认领一批到期消息
+     *
+     * @param limit 批量大小
+     * @param lease 租约时长，超过租约仍未结算的消息会被重新认领
+     * @return 认领的消息，按到期时间排序
+     */
+    public List<OutboxMessage> claim(int limit, Duration lease) {
+        LocalDateTime now = now();
+        List<OutboxMessage> due = repository.findDueForUpdate(now, PageRequest.of(0, limit));
+        LocalDateTime leaseUntil = now.plus(lease);
+        due.forEach(message -> message.lease(leaseUntil));
+        return due;
+    }
+    
+    /**
+     * 结算一批投递结果
+     *
+     * @param delivered 投递成功的消息ID
+     * @param failures 投递失败的消息ID及错误
+     */
+    public void settle(Collection<String> delivered, Map<String, String> failures) {
+        if (!delivered.isEmpty()) {
+            repository.deleteByIds(delivered);
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = now();
+        for (OutboxMessage message : repository.findAllById(failures.keySet())) {
+            String error = failures.get(message.getId());
+            if (message.getAttempts() >= maxAttempts) {
+                message.giveUp(error);
+                log.error("Giving up on {} after {} attempts: {}", message, message.getAttempts(), error);
+            } else {
+                message.retryAt(now.plus(backoff(message.getAttempts())), error);
+            }
+        }
+    }
+    
+    /**
+     * 第n次失败后的等待时间：initialBackoff * 2^(n-1)，不超过maxBackoff
+     */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+    
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MILLIS);
+    }
+}
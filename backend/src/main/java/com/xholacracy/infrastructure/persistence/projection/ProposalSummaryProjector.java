@@ -0,0 +1,42 @@
+package com.xholacracy.infrastructure.persistence.projection;
+
+import com.xholacracy.domain.event.ProposalChangedEvent;
+import com.xholacracy.domain.model.proposal.ProposalSummary;
+import com.xholacracy.domain.model.proposal.ProposalSummaryRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 提案摘要投影器
+ * 监听提案变更事件并维护proposal_summary读模型
+ *
+ * 事件在ProposalRepository保存时同步发布，投影更新与提案写入处于同一事务，
+ * 提案回滚时摘要一并回滚
+ */
+@Component
+public class ProposalSummaryProjector {
+
+    private final ProposalSummaryRepository summaryRepository;
+
+    public ProposalSummaryProjector(ProposalSummaryRepository summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    /**
+     * 将提案变更事件应用到摘要
+     *
+     * @param event 提案变更事件
+     */
+    @EventListener
+    @Transactional
+    public void on(ProposalChangedEvent event) {
+        ProposalSummary summary = summaryRepository.findById(event.getProposalId())
+            .map(existing -> {
+                existing.apply(event);
+                return existing;
+            })
+            .orElseGet(() -> ProposalSummary.open(event));
+        summaryRepository.save(summary);
+    }
+}
@@ -0,0 +1,47 @@
+package com.xholacracy.infrastructure.persistence.registry;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.role.DomainRegistry;
+import com.xholacracy.infrastructure.persistence.jpa.RoleJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 领域注册表缓存
+ * 组织的注册表在首次使用时由一次投影查询建立，之后的冲突检查只访问内存中的索引
+ *
+ * 本节点提交的领域增删改和角色改名由DomainRegistryInvalidator在事务成功后失效；
+ * 领域实体不知道所属组织，失效是整体的。其他节点的变更要等注册表过期重建才可见。
+ * 缓存的注册表被并发的检查共享，只能读取，登记新声明要用DomainRegistry.of建立自己的副本
+ */
+@Component
+public class DomainRegistryCache {
+    
+    static final long MAXIMUM_SIZE = 1_000;
+    static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+    
+    private final LoadingCache<OrganizationId, DomainRegistry> registries;
+    
+    public DomainRegistryCache(RoleJpaRepository roleJpaRepository) {
+        this.registries = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build(organizationId -> DomainRegistry.of(organizationId,
+                roleJpaRepository.findDomainClaimsByOrganization(organizationId.getValue())));
+    }
+    
+    public DomainRegistry registryOf(OrganizationId organizationId) {
+        return registries.get(organizationId);
+    }
+    
+    /**
+     * 丢弃所有组织的注册表
+     */
+    public void evictAll() {
+        registries.invalidateAll();
+    }
+}
@@ -0,0 +1,102 @@
+package com.xholacracy.infrastructure.persistence.registry;
+
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.Role;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 领域注册表失效监听器
+ * 领域的插入、更新、删除和角色改名都会改变注册表中的声明，在事务成功完成后失效缓存的注册表；
+ * 删除角色时级联删除的领域同样触发删除事件
+ *
+ * 失效登记在Hibernate会话的事务完成回调上，事件在提交时的刷新中触发也不会错过
+ */
+@Component
+public class DomainRegistryInvalidator implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    
+    private static final String NAME = "name";
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final DomainRegistryCache registryCache;
+    
+    public DomainRegistryInvalidator(EntityManagerFactory entityManagerFactory, DomainRegistryCache registryCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.registryCache = registryCache;
+    }
+    
+    /**
+     * 注册到Hibernate事件监听器
+     */
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Domain) {
+            evictAllAfterCompletion(event.getSession());
+        }
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Domain) {
+            evictAllAfterCompletion(event.getSession());
+        } else if (event.getEntity() instanceof Role && isDirty(event, NAME)) {
+            evictAllAfterCompletion(event.getSession());
+        }
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Domain) {
+            evictAllAfterCompletion(event.getSession());
+        }
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+    
+    private void evictAllAfterCompletion(EventSource session) {
+        session.getActionQueue().registerProcess((success, completed) -> {
+            if (success) {
+                registryCache.evictAll();
+            }
+        });
+    }
+    
+    private static boolean isDirty(PostUpdateEvent event, String propertyName) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            return true;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        for (int index : dirty) {
+            if (propertyName.equals(names[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,119 @@
+package com.xholacracy.infrastructure.persistence.revocation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 令牌吊销记录
+ * 按（类型, 主体）为主键：单个令牌以令牌ID为主体，保留到令牌本身过期；
+ * 伙伴以伙伴ID为主体，吊销时刻及之前签发的令牌都被拒绝，保留一个令牌有效期上限
+ *
+ * 时间均为UTC
+ */
+@Entity
+@Table(name = "token_revocations")
+@IdClass(TokenRevocation.Key.class)
+public class TokenRevocation {
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 16)
+    private TokenRevocationKind kind;
+    
+    @Id
+    @Column(name = "subject")
+    private String subject;
+    
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    // JPA需要无参构造函数
+    protected TokenRevocation() {
+    }
+    
+    private TokenRevocation(TokenRevocationKind kind, String subject,
+                            LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this.kind = Objects.requireNonNull(kind, "Kind cannot be null");
+        this.subject = Objects.requireNonNull(subject, "Subject cannot be null");
+        this.revokedAt = Objects.requireNonNull(revokedAt, "Revoked at cannot be null");
+        this.expiresAt = Objects.requireNonNull(expiresAt, "Expires at cannot be null");
+    }
+    
+    /**
+     * 创建吊销记录
+     */
+    public static TokenRevocation of(TokenRevocationKind kind, String subject,
+                                     LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        return new TokenRevocation(kind, subject, revokedAt, expiresAt);
+    }
+    
+    /**
+     * 再次吊销同一主体时只向后推移，并发的吊销不会把吊销时刻改回更早
+     */
+    public void extend(LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        if (revokedAt.isAfter(this.revokedAt)) {
+            this.revokedAt = revokedAt;
+        }
+        if (expiresAt.isAfter(this.expiresAt)) {
+            this.expiresAt = expiresAt;
+        }
+    }
+    
+    public TokenRevocationKind getKind() {
+        return kind;
+    }
+    
+    public String getSubject() {
+        return subject;
+    }
+    
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    /**
+     * 吊销记录主键
+     */
+    public static class Key implements Serializable {
+        
+        private TokenRevocationKind kind;
+        private String subject;
+        
+        protected Key() {
+        }
+        
+        public Key(TokenRevocationKind kind, String subject) {
+            this.kind = kind;
+            this.subject = subject;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return kind == that.kind && Objects.equals(subject, that.subject);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, subject);
+        }
+    }
+}
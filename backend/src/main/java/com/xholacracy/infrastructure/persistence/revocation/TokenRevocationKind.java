@@ -0,0 +1,17 @@
+package com.xholacracy.infrastructure.persistence.revocation;
+
+/**
+ * 令牌吊销对象的类型
+ */
+public enum TokenRevocationKind {
+    
+    /**
+     * 单个令牌，主体是令牌ID
+     */
+    TOKEN,
+    
+    /**
+     * 伙伴的全部令牌，主体是伙伴ID
+     */
+    PARTNER
+}
@@ -0,0 +1,34 @@
+package com.xholacracy.infrastructure.persistence.revocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 定期删除过期的令牌吊销记录
+ */
+public class TokenRevocationPurgeScheduler {
+    
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationPurgeScheduler.class);
+    
+    private final TokenRevocationStore store;
+    
+    public TokenRevocationPurgeScheduler(TokenRevocationStore store) {
+        this.store = store;
+    }
+    
+    /**
+     * 执行一轮清理
+     */
+    @Scheduled(fixedDelayString = "${spring.security.jwt.revocation-purge-interval:PT1H}")
+    public void run() {
+        try {
+            int purged = store.purgeExpired();
+            if (purged > 0) {
+                log.info("Purged {} expired token revocations", purged);
+            }
+        } catch (Exception e) {
+            log.warn("Purging token revocations failed, retrying on next run", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.xholacracy.infrastructure.persistence.revocation;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.infrastructure.persistence.jpa.TokenRevocationJpaRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 令牌吊销存储
+ * 吊销表是多个实例共享的唯一可信来源：吊销请求落在哪个实例上都先写入表中，
+ * 各实例在令牌缓存未命中时查表，所以吊销对所有实例生效，而不只是收到吊销请求的实例
+ *
+ * 每步操作在独立的短事务中提交
+ */
+public class TokenRevocationStore {
+    
+    private static final int MAX_ATTEMPTS = 3;
+    
+    private final TokenRevocationJpaRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    
+    public TokenRevocationStore(TokenRevocationJpaRepository repository, PlatformTransactionManager transactionManager) {
+        this(repository, transactionManager, Clock.systemUTC());
+    }
+    
+    TokenRevocationStore(TokenRevocationJpaRepository repository,
+                         PlatformTransactionManager transactionManager,
+                         Clock clock) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+    
+    /**
+     * 吊销单个令牌，记录保留到令牌过期
+     *
+     * @param tokenId 令牌ID
+     * @param expiresAt 令牌的过期时间
+     */
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        record(TokenRevocationKind.TOKEN, tokenId, clock.instant(), expiresAt);
+    }
+    
+    /**
+     * 吊销伙伴在给定时刻及之前签发的所有令牌
+     *
+     * @param partnerId 伙伴ID
+     * @param revokedAt 吊销时刻
+     * @param expiresAt 记录的保留期限，之后吊销前签发的令牌都已过期
+     */
+    public void revokePartner(PartnerId partnerId, Instant revokedAt, Instant expiresAt) {
+        record(TokenRevocationKind.PARTNER, partnerId.getValue(), revokedAt, expiresAt);
+    }
+    
+    /**
+     * 用一次查询判断令牌是否被吊销：令牌本身被吊销，或签发于伙伴被吊销之前
+     *
+     * @param tokenId 令牌ID
+     * @param partnerId 令牌所属伙伴
+     * @param issuedAt 令牌签发时间，未知时为空
+     * @return 令牌是否被吊销
+     */
+    public boolean isRevoked(String tokenId, PartnerId partnerId, Instant issuedAt) {
+        List<TokenRevocation> revocations = transactionTemplate.execute(status ->
+            repository.findActive(tokenId, partnerId.getValue(), toUtc(clock.instant())));
+        if (revocations == null) {
+            return false;
+        }
+        for (TokenRevocation revocation : revocations) {
+            if (revocation.getKind() == TokenRevocationKind.TOKEN) {
+                return true;
+            }
+            if (issuedAt == null || !toUtc(issuedAt).isAfter(revocation.getRevokedAt())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 删除过期记录
+     *
+     * @return 删除的记录数
+     */
+    public int purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> repository.deleteExpired(toUtc(clock.instant())));
+        return purged != null ? purged : 0;
+    }
+    
+    /**
+     * 插入记录，主体已被吊销时推移已有记录；并发插入同一主体时主键冲突，重新读出已有记录再推移
+     */
+    private void record(TokenRevocationKind kind, String subject, Instant revokedAt, Instant expiresAt) {
+        LocalDateTime revoked = toUtc(revokedAt);
+        LocalDateTime expires = toUtc(expiresAt);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> repository
+                    .findById(new TokenRevocation.Key(kind, subject))
+                    .ifPresentOrElse(
+                        existing -> existing.extend(revoked, expires),
+                        () -> repository.saveAndFlush(TokenRevocation.of(kind, subject, revoked, expires))));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    /**
+     * 截断到毫秒，与数据库时间精度无关
+     */
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+    }
+}
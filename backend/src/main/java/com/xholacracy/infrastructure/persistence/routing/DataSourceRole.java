@@ -0,0 +1,16 @@
+package com.xholacracy.infrastructure.persistence.routing;
+
+/**
+ * 路由数据源的目标
+ */
+public enum DataSourceRole {
+    /**
+     * 主库，承担所有写事务
+     */
+    PRIMARY,
+    
+    /**
+     * 只读副本，承担只读事务
+     */
+    REPLICA
+}
@@ -0,0 +1,66 @@
+package com.xholacracy.infrastructure.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+/**
+ * 写后读主库的粘滞窗口
+ * 会话提交写事务后，在窗口期内的只读事务仍然路由到主库，保证用户能读到自己刚写入的数据，
+ * 不受副本复制延迟影响
+ *
+ * 当前线程的会话键由请求过滤器绑定，没有绑定会话键的线程不粘滞
+ */
+public class PrimaryStickiness {
+    
+    private static final int MAX_SESSIONS = 100_000;
+    
+    private final ThreadLocal<String> currentSession = new ThreadLocal<>();
+    private final Cache<String, Boolean> recentWriters;
+    
+    public PrimaryStickiness(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+    
+    PrimaryStickiness(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(MAX_SESSIONS)
+            .ticker(ticker)
+            .build();
+    }
+    
+    /**
+     * 将会话键绑定到当前线程
+     */
+    public void bind(String sessionKey) {
+        currentSession.set(sessionKey);
+    }
+    
+    /**
+     * 解除当前线程的会话键
+     */
+    public void unbind() {
+        currentSession.remove();
+    }
+    
+    /**
+     * 记录当前会话刚提交了写事务，重新开始粘滞窗口
+     */
+    public void markWrite() {
+        String sessionKey = currentSession.get();
+        if (sessionKey != null) {
+            recentWriters.put(sessionKey, Boolean.TRUE);
+        }
+    }
+    
+    /**
+     * 当前会话是否处于写后粘滞窗口内
+     */
+    public boolean isSticky() {
+        String sessionKey = currentSession.get();
+        return sessionKey != null && recentWriters.getIfPresent(sessionKey) != null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.xholacracy.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 为每个请求绑定写后读粘滞的会话键
+ * 优先使用认证用户名，其次是已有的HTTP会话；两者都没有时使用仅在本请求内有效的随机键，
+ * 这样同一请求中先写后读也会读主库
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    
+    private final PrimaryStickiness stickiness;
+    
+    public ReadYourWritesFilter(PrimaryStickiness stickiness) {
+        this.stickiness = stickiness;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        stickiness.bind(sessionKey(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stickiness.unbind();
+        }
+    }
+    
+    private String sessionKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "session:" + session.getId();
+        }
+        return "request:" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,86 @@
+package com.xholacracy.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 副本复制延迟监控
+ * 定期在副本上执行延迟查询，延迟超过阈值或查询失败时副本视为不可用，只读事务回退到主库
+ *
+ * 首次检查成功之前副本同样视为不可用
+ */
+public class ReplicaLagMonitor {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    
+    /**
+     * PostgreSQL流复制延迟（毫秒）
+     * 已接收的WAL全部回放时延迟为0，避免主库空闲时回放时间戳老化被误判为延迟
+     */
+    public static final String POSTGRES_LAG_QUERY =
+        "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+    
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    
+    private volatile boolean usable;
+    private volatile Duration lastLag;
+    
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+    
+    /**
+     * 查询副本延迟并更新可用状态
+     */
+    @Scheduled(fixedDelayString = "${xholacracy.datasource.replica.lag-check-interval:PT5S}")
+    public void refresh() {
+        boolean wasUsable = usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("Lag query returned no rows");
+            }
+            lastLag = Duration.ofMillis(resultSet.getLong(1));
+            usable = lastLag.compareTo(maxLag) <= 0;
+            if (wasUsable && !usable) {
+                log.warn("Replica lag {} exceeds {}, routing reads to primary", lastLag, maxLag);
+            }
+        } catch (Exception e) {
+            lastLag = null;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica lag check failed, routing reads to primary", e);
+            }
+        }
+        if (!wasUsable && usable) {
+            log.info("Replica lag {} within {}, routing reads to replica", lastLag, maxLag);
+        }
+    }
+    
+    /**
+     * 副本是否可以承担只读事务
+     */
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+    
+    /**
+     * 最近一次检查得到的延迟，检查失败时为null
+     */
+    public Duration getLastLag() {
+        return lastLag;
+    }
+}
@@ -0,0 +1,68 @@
+package com.xholacracy.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 读写分离路由数据源
+ * 只读事务路由到副本，其余连接（写事务、事务外的访问如Flyway迁移）路由到主库；
+ * 副本延迟超限或会话处于写后粘滞窗口时只读事务同样使用主库
+ *
+ * 事务的只读标记在事务开始之后才可见，因此必须包装在LazyConnectionDataSourceProxy中，
+ * 使物理连接推迟到第一条语句执行时获取
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    private final ReplicaLagMonitor lagMonitor;
+    private final PrimaryStickiness stickiness;
+    
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReplicaLagMonitor lagMonitor,
+                                    PrimaryStickiness stickiness) {
+        this.lagMonitor = lagMonitor;
+        this.stickiness = stickiness;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRole();
+    }
+    
+    /**
+     * 当前线程获取连接时应使用的数据源
+     */
+    DataSourceRole currentRole() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit();
+            return DataSourceRole.PRIMARY;
+        }
+        if (stickiness.isSticky() || !lagMonitor.isReplicaUsable()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+    
+    /**
+     * 写事务提交后开启当前会话的粘滞窗口
+     */
+    private void markWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickiness.markWrite();
+            }
+        });
+    }
+}
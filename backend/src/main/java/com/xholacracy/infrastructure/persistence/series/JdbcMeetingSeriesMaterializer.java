@@ -0,0 +1,203 @@
+package com.xholacracy.infrastructure.persistence.series;
+
+import com.xholacracy.domain.event.MeetingsMaterializedEvent;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.CircleRoster;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingSeries;
+import com.xholacracy.domain.model.meeting.MeetingSeriesMaterializer;
+import com.xholacracy.domain.model.meeting.MeetingSeriesRepository;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.RoleHolder;
+import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import com.xholacracy.domain.model.sync.ChangedEntityType;
+import com.xholacracy.domain.model.sync.EntityChange;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 基于JDBC批处理的会议系列生成器
+ * 一批系列的圈子角色担任者用一次投影查询加载，新进入窗口的会议和参与者
+ * 在调用方事务的JDBC连接上按表批量插入，每批BATCH_SIZE行，不经过持久化上下文
+ *
+ * 系列行带乐观锁版本：两个节点同时推进同一系列时后提交的事务失败回滚，
+ * 不会重复生成同一段窗口；会议表上(organization_id, series_id, scheduled_date)的唯一索引兜底
+ *
+ * 这里的写入不触发ChangeTracker和OutboxRecorder，因此由生成器为新会议记录变更日志，
+ * 并发布会议批量生成事件使伙伴日程在提交后失效；系列生成的会议不逐次发送安排通知，
+ * 否则一个新系列会在窗口内为每个参与者产生几十条通知
+ */
+@Transactional
+public class JdbcMeetingSeriesMaterializer implements MeetingSeriesMaterializer {
+    
+    static final int BATCH_SIZE = 1000;
+    
+    private static final long INITIAL_VERSION = 0;
+    
+    private final EntityManager entityManager;
+    private final MeetingSeriesRepository seriesRepository;
+    private final RoleRepository roleRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration horizon;
+    private final Clock clock;
+    
+    public JdbcMeetingSeriesMaterializer(EntityManager entityManager, MeetingSeriesRepository seriesRepository,
+                                         RoleRepository roleRepository, ChangeLogRepository changeLogRepository,
+                                         ApplicationEventPublisher eventPublisher, Duration horizon) {
+        this(entityManager, seriesRepository, roleRepository, changeLogRepository, eventPublisher, horizon,
+            Clock.systemDefaultZone());
+    }
+    
+    JdbcMeetingSeriesMaterializer(EntityManager entityManager, MeetingSeriesRepository seriesRepository,
+                                  RoleRepository roleRepository, ChangeLogRepository changeLogRepository,
+                                  ApplicationEventPublisher eventPublisher, Duration horizon, Clock clock) {
+        this.entityManager = entityManager;
+        this.seriesRepository = seriesRepository;
+        this.roleRepository = roleRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.eventPublisher = eventPublisher;
+        this.horizon = horizon;
+        this.clock = clock;
+    }
+    
+    @Override
+    public int materialize(List<MeetingSeries> series) {
+        return advance(series);
+    }
+    
+    @Override
+    public int materializeDue(int batchSize) {
+        List<MeetingSeries> due = seriesRepository.findDue(currentHorizon(), batchSize);
+        advance(due);
+        return due.size();
+    }
+    
+    /**
+     * 推进系列的窗口并写入新会议
+     *
+     * @return 新生成的会议数
+     */
+    private int advance(List<MeetingSeries> seriesList) {
+        if (seriesList.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime until = currentHorizon();
+        Set<CircleId> circleIds = new LinkedHashSet<>();
+        seriesList.forEach(series -> circleIds.add(series.getCircleId()));
+        List<RoleHolder> holders = roleRepository.findHoldersByCircleIds(circleIds);
+        
+        Map<CircleId, CircleRoster> rosters = new LinkedHashMap<>();
+        List<GovernanceMeeting> meetings = new ArrayList<>();
+        for (MeetingSeries series : seriesList) {
+            List<LocalDateTime> occurrences = series.advanceTo(until);
+            if (!occurrences.isEmpty()) {
+                CircleRoster roster = rosters.computeIfAbsent(series.getCircleId(),
+                    circleId -> CircleRoster.of(circleId, holders));
+                occurrences.forEach(start -> meetings.add(GovernanceMeeting.occurrenceOf(series, start, roster)));
+            }
+            seriesRepository.save(series);
+        }
+        if (meetings.isEmpty()) {
+            return 0;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> insertMeetings(connection, meetings));
+        recordChanges(meetings);
+        eventPublisher.publishEvent(MeetingsMaterializedEvent.of(
+            meetings.stream().map(GovernanceMeeting::getOrganizationId).toList()));
+        return meetings.size();
+    }
+    
+    private LocalDateTime currentHorizon() {
+        return LocalDateTime.now(clock).plus(horizon);
+    }
+    
+    private void insertMeetings(Connection connection, List<GovernanceMeeting> meetings) throws SQLException {
+        batchInsert(connection, "INSERT INTO governance_meetings (organization_id, id, circle_id, series_id, "
+                + "scheduled_date, duration, status, facilitator_id, secretary_id, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            meetings, this::bindMeeting);
+        batchInsert(connection, "INSERT INTO meeting_participants (organization_id, meeting_id, partner_id, "
+                + "order_index) VALUES (?, ?, ?, ?)",
+            meetings, (statement, meeting) -> {
+                int orderIndex = 0;
+                for (PartnerId participant : meeting.getParticipants()) {
+                    statement.setString(1, meeting.getOrganizationId().getValue());
+                    statement.setString(2, meeting.getId().getValue());
+                    statement.setString(3, participant.getValue());
+                    statement.setInt(4, orderIndex++);
+                    statement.addBatch();
+                }
+            });
+    }
+    
+    private void bindMeeting(PreparedStatement statement, GovernanceMeeting meeting) throws SQLException {
+        statement.setString(1, meeting.getOrganizationId().getValue());
+        statement.setString(2, meeting.getId().getValue());
+        statement.setString(3, meeting.getCircleId().getValue());
+        statement.setString(4, meeting.getSeriesId().getValue());
+        statement.setTimestamp(5, Timestamp.valueOf(meeting.getScheduledDate()));
+        statement.setLong(6, meeting.getDuration().toNanos());
+        statement.setString(7, meeting.getStatus().name());
+        statement.setString(8, meeting.getFacilitatorId() != null ? meeting.getFacilitatorId().getValue() : null);
+        statement.setString(9, meeting.getSecretaryId() != null ? meeting.getSecretaryId().getValue() : null);
+        statement.setLong(10, INITIAL_VERSION);
+        statement.addBatch();
+    }
+    
+    /**
+     * 每个组织的新会议记在一个新序号上
+     */
+    private void recordChanges(List<GovernanceMeeting> meetings) {
+        Map<OrganizationId, List<EntityChange>> changes = new LinkedHashMap<>();
+        for (GovernanceMeeting meeting : meetings) {
+            changes.computeIfAbsent(meeting.getOrganizationId(), id -> new ArrayList<>())
+                .add(EntityChange.upsert(ChangedEntityType.MEETING, meeting.getId().getValue()));
+        }
+        changes.forEach(changeLogRepository::record);
+    }
+    
+    /**
+     * 为每个元素添加零到多行，每累计BATCH_SIZE个元素执行一次
+     */
+    private <T> void batchInsert(Connection connection, String sql, Collection<T> elements, RowBinder<T> binder)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int pending = 0;
+            for (T element : elements) {
+                binder.bind(statement, element);
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement statement, T element) throws SQLException;
+    }
+}
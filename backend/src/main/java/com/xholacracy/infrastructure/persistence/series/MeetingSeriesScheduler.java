@@ -0,0 +1,44 @@
+package com.xholacracy.infrastructure.persistence.series;
+
+import com.xholacracy.domain.model.meeting.MeetingSeriesMaterializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 会议系列调度
+ * 定期把滚动窗口落后的会议系列分批推进，直到不足一批为止；
+ * 每批在独立事务中提交，某批因并发推进而回滚时下一轮重试
+ */
+public class MeetingSeriesScheduler {
+    
+    private static final Logger log = LoggerFactory.getLogger(MeetingSeriesScheduler.class);
+    
+    private final MeetingSeriesMaterializer materializer;
+    private final int batchSize;
+    
+    public MeetingSeriesScheduler(MeetingSeriesMaterializer materializer, int batchSize) {
+        this.materializer = materializer;
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * 执行一轮推进
+     */
+    @Scheduled(fixedDelayString = "${xholacracy.meeting-series.interval:PT1H}")
+    public void run() {
+        try {
+            int total = 0;
+            int advanced;
+            do {
+                advanced = materializer.materializeDue(batchSize);
+                total += advanced;
+            } while (advanced == batchSize);
+            if (total > 0) {
+                log.info("Advanced {} meeting series", total);
+            }
+        } catch (Exception e) {
+            log.warn("Meeting series run failed, retrying on next run", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import com.xholacracy.infrastructure.config.RateLimitProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 全局准入控制
+ * 写连接池有线程排队、且最近获取连接的耗时超过阈值时，直接拒绝新的写请求，
+ * 让已在处理的请求先完成，而不是让所有请求都在池上排队直到超时
+ *
+ * 获取耗时取自Hikari导出的hikaricp.connections.acquire计时器的近期最大值；
+ * 没有该计时器时退化为排队线程数达到池大小即拒绝。
+ * 近期最大值会延迟衰减，所以同时要求此刻仍有线程排队，队列清空后立即恢复接收
+ */
+public class AdmissionControl {
+    
+    static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+    
+    private final ObjectProvider<HikariDataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxPoolWait;
+    
+    public AdmissionControl(ObjectProvider<HikariDataSource> dataSources,
+                            MeterRegistry meterRegistry,
+                            RateLimitProperties properties) {
+        this.dataSources = dataSources;
+        this.meterRegistry = meterRegistry;
+        this.maxPoolWait = properties.getMaxPoolWait();
+    }
+    
+    /**
+     * @return 写连接池是否过载
+     */
+    public boolean isOverloaded() {
+        HikariDataSource pool = writePool();
+        HikariPoolMXBean mxBean = pool != null ? pool.getHikariPoolMXBean() : null;
+        if (mxBean == null) {
+            return false;
+        }
+        int waiting = mxBean.getThreadsAwaitingConnection();
+        if (waiting == 0) {
+            return false;
+        }
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool.getPoolName()).timer();
+        if (acquire == null) {
+            return waiting >= pool.getMaximumPoolSize();
+        }
+        return acquire.max(TimeUnit.NANOSECONDS) > maxPoolWait.toNanos();
+    }
+    
+    /**
+     * 写请求使用的连接池；配置了只读副本时是非只读的那个
+     */
+    private HikariDataSource writePool() {
+        return dataSources.orderedStream()
+            .filter(dataSource -> !dataSource.isReadOnly())
+            .findFirst()
+            .orElse(null);
+    }
+}
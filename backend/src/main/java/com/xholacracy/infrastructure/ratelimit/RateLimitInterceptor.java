@@ -0,0 +1,66 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import com.xholacracy.domain.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 在处理器方法之前执行准入控制和速率限制
+ * 拦截器在参数解析和事务开始之前运行，被拒绝的请求不会占用数据库连接
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    
+    private final RateLimiter rateLimiter;
+    private final AdmissionControl admissionControl;
+    
+    public RateLimitInterceptor(RateLimiter rateLimiter, AdmissionControl admissionControl) {
+        this.rateLimiter = rateLimiter;
+        this.admissionControl = admissionControl;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RateLimited limit = method.getMethodAnnotation(RateLimited.class);
+        if (limit == null) {
+            return true;
+        }
+        if (admissionControl.isOverloaded()) {
+            rateLimiter.countRejection(limit.operation(), "overload");
+            throw RateLimitExceededException.overloaded(AdmissionControl.RETRY_AFTER);
+        }
+        rateLimiter.acquire(limit.operation(), partnerKey(request), aggregateKey(request, limit));
+        return true;
+    }
+    
+    /**
+     * 认证伙伴的ID；未认证的请求按客户端地址限制
+     */
+    private String partnerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private String aggregateKey(HttpServletRequest request, RateLimited limit) {
+        if (limit.aggregate().isEmpty()) {
+            return null;
+        }
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables != null ? variables.get(limit.aggregate()) : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记受速率限制的接口
+ * 限流在处理器方法执行之前完成，被拒绝的请求不会触及数据库
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    
+    /**
+     * 操作类型，对应xholacracy.rate-limit.operations下的配置
+     */
+    String operation();
+    
+    /**
+     * 标识聚合的路径变量名，为空时只按伙伴限制
+     */
+    String aggregate() default "";
+}
@@ -0,0 +1,96 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xholacracy.domain.exception.RateLimitExceededException;
+import com.xholacracy.infrastructure.config.RateLimitProperties;
+import com.xholacracy.infrastructure.config.RateLimitProperties.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 按伙伴和按聚合的速率限制
+ * 每个（操作, 伙伴）和（操作, 聚合）各有一个令牌桶，请求须同时从两个桶取到令牌；
+ * 伙伴桶防止单个客户端刷请求，聚合桶防止许多客户端同时涌向同一个提案
+ *
+ * 闲置的桶过期后丢弃，再次出现时重新创建为满桶，与闲置期间自然补满的结果相同
+ */
+public class RateLimiter {
+    
+    static final long MAXIMUM_BUCKETS = 200_000;
+    
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoTime;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+    
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+    
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_BUCKETS)
+            .expireAfterAccess(properties.getIdleBucketExpiry())
+            .ticker(nanoTime::getAsLong)
+            .build();
+    }
+    
+    /**
+     * 为一次操作取令牌
+     *
+     * @param operation 操作类型
+     * @param partnerKey 发起请求的伙伴
+     * @param aggregateKey 操作的聚合（为null时只按伙伴限制）
+     * @throws RateLimitExceededException 如果任一桶已空
+     */
+    public void acquire(String operation, String partnerKey, String aggregateKey) {
+        Limit limit = properties.getOperations().getOrDefault(operation, properties.getDefaultLimit());
+        long now = nanoTime.getAsLong();
+        TokenBucket partnerBucket = bucket(operation, "partner", partnerKey, limit.getPerPartner(), limit);
+        long partnerArrival = partnerBucket.acquire(now);
+        if (partnerArrival == TokenBucket.REJECTED) {
+            reject(operation, "partner", partnerBucket.waitNanos(now));
+        }
+        if (aggregateKey != null) {
+            long wait = bucket(operation, "aggregate", aggregateKey, limit.getPerAggregate(), limit).tryAcquire(now);
+            if (wait > 0) {
+                partnerBucket.refund(partnerArrival);
+                reject(operation, "aggregate", wait);
+            }
+        }
+    }
+    
+    /**
+     * 记录一次拒绝，按操作和原因（partner、aggregate、overload）计数
+     * 每个组合的计数器只注册一次，拒绝路径上只是一次Map查找
+     */
+    void countRejection(String operation, String reason) {
+        rejectionCounters.computeIfAbsent(operation + '|' + reason, k ->
+            Counter.builder("xholacracy.rate_limit.rejections")
+                .description("Governance write requests rejected before reaching the database")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry))
+            .increment();
+    }
+    
+    private TokenBucket bucket(String operation, String scope, String key, int capacity, Limit limit) {
+        return buckets.get(operation + '|' + scope + '|' + key,
+            k -> new TokenBucket(capacity, limit.getPeriod().toNanos()));
+    }
+    
+    private void reject(String operation, String reason, long waitNanos) {
+        countRejection(operation, reason);
+        throw new RateLimitExceededException(operation, Duration.ofNanos(waitNanos));
+    }
+}
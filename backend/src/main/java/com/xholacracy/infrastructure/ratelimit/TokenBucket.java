@@ -0,0 +1,92 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁令牌桶
+ * 以GCRA方式实现：不记录剩余令牌数，只记录一个“理论到达时间”，
+ * 每取一个令牌把它推后一个发放间隔；它超出当前时间一个周期以上说明桶已空。
+ * 全部状态是一个AtomicLong，取令牌是一次CAS，不需要锁也不需要后台补充线程
+ */
+final class TokenBucket {
+    
+    /**
+     * {@link #acquire}在桶已空时的返回值
+     */
+    static final long REJECTED = Long.MIN_VALUE;
+    
+    private final long emissionIntervalNanos;
+    private final long periodNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+    
+    /**
+     * @param capacity 每个周期的令牌数，也是允许的突发量
+     * @param periodNanos 周期（纳秒）
+     */
+    TokenBucket(int capacity, long periodNanos) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, periodNanos / capacity);
+        this.periodNanos = emissionIntervalNanos * capacity;
+    }
+    
+    /**
+     * 尝试取一个令牌
+     *
+     * @param nowNanos 当前时间（纳秒，单调时钟）
+     * @return 0表示取到令牌，否则为下一个令牌可用前的等待纳秒数
+     */
+    long tryAcquire(long nowNanos) {
+        return acquire(nowNanos) != REJECTED ? 0 : waitNanos(nowNanos);
+    }
+    
+    /**
+     * 尝试取一个令牌，返回取令牌后的理论到达时间，归还时用它限定退回的范围
+     *
+     * @param nowNanos 当前时间（纳秒，单调时钟）
+     * @return 取到令牌时为写入的理论到达时间，否则为{@link #REJECTED}
+     */
+    long acquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            if (next - nowNanos - periodNanos > 0) {
+                return REJECTED;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+    
+    /**
+     * 下一个令牌可用前的等待纳秒数
+     *
+     * @param nowNanos 当前时间（纳秒，单调时钟）
+     * @return 等待纳秒数，至少为1
+     */
+    long waitNanos(long nowNanos) {
+        long next = Math.max(theoreticalArrival.get(), nowNanos) + emissionIntervalNanos;
+        return Math.max(1, next - nowNanos - periodNanos);
+    }
+    
+    /**
+     * 归还一个取到的令牌，用于同一请求的另一个桶拒绝时
+     * 理论到达时间最多退回到这次取令牌之前的位置，已被其他归还退回到那里时不再变动
+     *
+     * @param acquiredArrival 取令牌时{@link #acquire}返回的理论到达时间
+     */
+    void refund(long acquiredArrival) {
+        long floor = acquiredArrival - emissionIntervalNanos;
+        while (true) {
+            long current = theoreticalArrival.get();
+            if (current <= floor) {
+                return;
+            }
+            if (theoreticalArrival.compareAndSet(current, Math.max(floor, current - emissionIntervalNanos))) {
+                return;
+            }
+        }
+    }
+}
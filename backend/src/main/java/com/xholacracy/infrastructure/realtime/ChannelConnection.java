@@ -0,0 +1,140 @@
+package com.xholacracy.infrastructure.realtime;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+
+/**
+ * 频道中的一个WebSocket连接
+ * 每个连接有自己的有界发送缓冲区，同一时刻最多一条异步发送在途，发送完成的回调取下一条。
+ * 广播只是入队，从不等待慢客户端；缓冲区满时丢弃最旧的一条，
+ * 客户端从序号断档得知丢失了变化
+ */
+class ChannelConnection {
+    
+    private static final Logger log = LoggerFactory.getLogger(ChannelConnection.class);
+    
+    private final Session session;
+    private final int capacity;
+    private final ArrayDeque<String> buffer;
+    private boolean sending;
+    private boolean closing;
+    private CloseReason closeWhenDrained;
+    private long dropped;
+    
+    ChannelConnection(Session session, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.session = session;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 64));
+    }
+    
+    /**
+     * 把消息放入发送缓冲区，没有在途发送时立即开始发送
+     */
+    void send(String message) {
+        String next;
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            if (buffer.size() == capacity) {
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(message);
+            if (sending) {
+                return;
+            }
+            sending = true;
+            next = buffer.pollFirst();
+        }
+        transmit(next);
+    }
+    
+    /**
+     * 发完缓冲区中的消息后关闭连接
+     */
+    void closeAfterDrain(CloseReason reason) {
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            closing = true;
+            if (sending) {
+                closeWhenDrained = reason;
+                return;
+            }
+        }
+        close(reason);
+    }
+    
+    Session getSession() {
+        return session;
+    }
+    
+    /**
+     * @return 因缓冲区满而丢弃的消息数
+     */
+    synchronized long getDropped() {
+        return dropped;
+    }
+    
+    /**
+     * @return 缓冲区中等待发送的消息数
+     */
+    synchronized int getBuffered() {
+        return buffer.size();
+    }
+    
+    private void transmit(String message) {
+        try {
+            session.getAsyncRemote().sendText(message, this::onSent);
+        } catch (RuntimeException e) {
+            onSent(new SendResult(e));
+        }
+    }
+    
+    private void onSent(SendResult result) {
+        if (!result.isOK()) {
+            log.debug("Dropping meeting channel connection {}: {}", session.getId(), result.getException().toString());
+            synchronized (this) {
+                closing = true;
+                buffer.clear();
+                sending = false;
+            }
+            close(new CloseReason(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "Send failed"));
+            return;
+        }
+        String next;
+        CloseReason reason = null;
+        synchronized (this) {
+            next = buffer.pollFirst();
+            if (next == null) {
+                sending = false;
+                reason = closeWhenDrained;
+                closeWhenDrained = null;
+            }
+        }
+        if (next != null) {
+            transmit(next);
+        } else if (reason != null) {
+            close(reason);
+        }
+    }
+    
+    private void close(CloseReason reason) {
+        try {
+            session.close(reason);
+        } catch (IOException e) {
+            log.debug("Failed to close meeting channel connection {}", session.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.xholacracy.infrastructure.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Session;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 一个会议的实时频道
+ * 每条变化只编码一次，再放入每个连接的发送缓冲区；
+ * 广播在频道上串行，所有连接收到的变化顺序和序号一致
+ */
+class MeetingChannel {
+    
+    private final MeetingKey key;
+    private final Set<ProposalId> proposalIds;
+    private final ObjectMapper objectMapper;
+    private final Map<String, ChannelConnection> connections = new ConcurrentHashMap<>();
+    private long sequence;
+    
+    MeetingChannel(MeetingKey key, Collection<ProposalId> proposalIds, ObjectMapper objectMapper) {
+        this.key = key;
+        this.proposalIds = Set.copyOf(proposalIds);
+        this.objectMapper = objectMapper;
+    }
+    
+    void add(ChannelConnection connection) {
+        connections.put(connection.getSession().getId(), connection);
+    }
+    
+    /**
+     * @return 如果频道已没有连接则返回true
+     */
+    boolean remove(Session session) {
+        connections.remove(session.getId());
+        return connections.isEmpty();
+    }
+    
+    synchronized void broadcast(MeetingDelta delta) {
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(delta.withSeq(++sequence));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode meeting delta", e);
+        }
+        for (ChannelConnection connection : connections.values()) {
+            connection.send(message);
+        }
+    }
+    
+    /**
+     * 发完已缓冲的变化后关闭所有连接
+     */
+    void close(CloseReason reason) {
+        connections.values().forEach(connection -> connection.closeAfterDrain(reason));
+    }
+    
+    MeetingKey getKey() {
+        return key;
+    }
+    
+    /**
+     * @return 频道打开时会议议程上的提案
+     */
+    Set<ProposalId> getProposalIds() {
+        return proposalIds;
+    }
+    
+    int size() {
+        return connections.size();
+    }
+}
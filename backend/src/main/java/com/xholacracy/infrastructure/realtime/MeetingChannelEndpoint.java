@@ -0,0 +1,110 @@
+package com.xholacracy.infrastructure.realtime;
+
+import com.xholacracy.domain.exception.BusinessException;
+import com.xholacracy.domain.exception.PermissionDeniedException;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.infrastructure.security.AuthenticatedPartner;
+import com.xholacracy.infrastructure.security.PartnerAuthenticationToken;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * 会议实时频道的WebSocket端点，路径为/ws/meetings/{meetingId}?organizationId=...
+ * 握手请求经过安全过滤器链认证；频道只向客户端推送，客户端发来的消息被忽略
+ *
+ * 所有连接共享一个端点实例，连接状态保存在频道中心
+ */
+public class MeetingChannelEndpoint extends Endpoint {
+    
+    public static final String PATH = "/ws/meetings/{meetingId}";
+    
+    private static final Logger log = LoggerFactory.getLogger(MeetingChannelEndpoint.class);
+    
+    /**
+     * 关闭原因的UTF-8编码最多123字节
+     */
+    private static final int MAX_REASON_BYTES = 123;
+    
+    private static final String MEETING_KEY = MeetingChannelEndpoint.class.getName() + ".meetingKey";
+    
+    private final MeetingChannelHub hub;
+    
+    public MeetingChannelEndpoint(MeetingChannelHub hub) {
+        this.hub = hub;
+    }
+    
+    @Override
+    public void onOpen(Session session, EndpointConfig config) {
+        AuthenticatedPartner partner = partnerOf(session.getUserPrincipal());
+        if (partner == null) {
+            close(session, CloseReason.CloseCodes.VIOLATED_POLICY, "Authentication required");
+            return;
+        }
+        List<String> organizationIds = session.getRequestParameterMap().get("organizationId");
+        if (organizationIds == null || organizationIds.isEmpty()) {
+            close(session, CloseReason.CloseCodes.CANNOT_ACCEPT, "organizationId is required");
+            return;
+        }
+        MeetingKey key = MeetingKey.of(OrganizationId.of(organizationIds.get(0)),
+            MeetingId.of(session.getPathParameters().get("meetingId")));
+        try {
+            hub.subscribe(key, session, partner);
+            session.getUserProperties().put(MEETING_KEY, key);
+        } catch (PermissionDeniedException e) {
+            close(session, CloseReason.CloseCodes.VIOLATED_POLICY, e.getMessage());
+        } catch (BusinessException | IllegalStateException | IllegalArgumentException e) {
+            close(session, CloseReason.CloseCodes.CANNOT_ACCEPT, e.getMessage());
+        }
+    }
+    
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        MeetingKey key = (MeetingKey) session.getUserProperties().get(MEETING_KEY);
+        if (key != null) {
+            hub.unsubscribe(key, session);
+        }
+    }
+    
+    @Override
+    public void onError(Session session, Throwable throwable) {
+        log.debug("Meeting channel connection {} failed", session.getId(), throwable);
+    }
+    
+    private AuthenticatedPartner partnerOf(Principal principal) {
+        return principal instanceof PartnerAuthenticationToken token ? token.getPrincipal() : null;
+    }
+    
+    private void close(Session session, CloseReason.CloseCode code, String reason) {
+        try {
+            session.close(new CloseReason(code, truncate(reason)));
+        } catch (IOException e) {
+            log.debug("Failed to close meeting channel connection {}", session.getId(), e);
+        }
+    }
+    
+    private static String truncate(String reason) {
+        if (reason == null) {
+            return null;
+        }
+        byte[] bytes = reason.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_REASON_BYTES) {
+            return reason;
+        }
+        String truncated = reason;
+        while (truncated.getBytes(StandardCharsets.UTF_8).length > MAX_REASON_BYTES) {
+            truncated = truncated.substring(0, truncated.length() - 1);
+        }
+        return truncated;
+    }
+}
@@ -0,0 +1,56 @@
+package com.xholacracy.infrastructure.realtime;
+
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.web.context.ServletContextAware;
+
+/**
+ * 向Servlet容器的WebSocket服务端注册会议频道端点
+ * 没有WebSocket服务端时（如非Web环境的测试）跳过注册
+ */
+public class MeetingChannelEndpointRegistrar implements ServletContextAware, SmartInitializingSingleton {
+    
+    private static final Logger log = LoggerFactory.getLogger(MeetingChannelEndpointRegistrar.class);
+    
+    private final MeetingChannelEndpoint endpoint;
+    private ServletContext servletContext;
+    
+    public MeetingChannelEndpointRegistrar(MeetingChannelEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    @Override
+    public void setServletContext(ServletContext servletContext) {
+        this.servletContext = servletContext;
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        ServerContainer container = servletContext != null
+            ? (ServerContainer) servletContext.getAttribute(ServerContainer.class.getName())
+            : null;
+        if (container == null) {
+            log.info("No WebSocket server container, meeting channel endpoint not registered");
+            return;
+        }
+        ServerEndpointConfig config = ServerEndpointConfig.Builder
+            .create(MeetingChannelEndpoint.class, MeetingChannelEndpoint.PATH)
+            .configurator(new ServerEndpointConfig.Configurator() {
+                @Override
+                public <T> T getEndpointInstance(Class<T> endpointClass) {
+                    return endpointClass.cast(endpoint);
+                }
+            })
+            .build();
+        try {
+            container.addEndpoint(config);
+        } catch (DeploymentException e) {
+            throw new IllegalStateException("Failed to register meeting channel endpoint", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.xholacracy.infrastructure.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.event.LiveMeetingChangedEvent;
+import com.xholacracy.domain.event.ProposalChangedEvent;
+import com.xholacracy.domain.exception.PermissionDeniedException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.AgendaItem;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommandType;
+import com.xholacracy.domain.model.meeting.LiveMeetingRegistry;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.infrastructure.security.AuthenticatedPartner;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Session;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 会议实时频道中心
+ * 每个有订阅者的进行中会议一个频道。现场会议命令生效时、议程上的提案变化提交后，
+ * 变化被推送到频道的所有连接；订阅时从现场会话读取会议，之后不访问数据库
+ *
+ * 频道只存在于持有现场会话的节点上，客户端与现场会议接口连接同一节点
+ */
+public class MeetingChannelHub {
+    
+    private static final CloseReason MEETING_ENDED =
+        new CloseReason(CloseReason.CloseCodes.NORMAL_CLOSURE, "Meeting ended");
+    
+    private final LiveMeetingRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final int sendBufferSize;
+    private final Map<MeetingKey, MeetingChannel> channels = new ConcurrentHashMap<>();
+    private final Map<ProposalId, Set<MeetingKey>> byProposal = new ConcurrentHashMap<>();
+    
+    public MeetingChannelHub(LiveMeetingRegistry registry, ObjectMapper objectMapper, int sendBufferSize) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        this.sendBufferSize = sendBufferSize;
+    }
+    
+    /**
+     * 订阅会议的变化，会议的出席者和圈子成员可以订阅
+     *
+     * @param key 会议键
+     * @param session WebSocket会话
+     * @param partner 已认证的伙伴
+     * @throws PermissionDeniedException 如果伙伴既不是出席者也不是圈子成员
+     * @throws IllegalStateException 如果会议不在进行中
+     */
+    public void subscribe(MeetingKey key, Session session, AuthenticatedPartner partner) {
+        ChannelView view = registry.read(key.getOrganizationId(), key.getId(), meeting -> new ChannelView(
+            meeting.getCircleId(),
+            meeting.getAttendees(),
+            meeting.getAgenda().getItems().stream().map(AgendaItem::getProposalId).toList()));
+        PartnerId partnerId = partner.getPartnerId();
+        if (!view.attendees().contains(partnerId) && !partner.hasCapability(view.circleId(), Capability.MEMBER)) {
+            throw new PermissionDeniedException("subscribe", "meeting " + key.getId().getValue());
+        }
+        ChannelConnection connection = new ChannelConnection(session, sendBufferSize);
+        synchronized (this) {
+            channels.computeIfAbsent(key, k -> {
+                MeetingChannel channel = new MeetingChannel(k, view.proposalIds(), objectMapper);
+                channel.getProposalIds().forEach(proposalId ->
+                    byProposal.computeIfAbsent(proposalId, id -> ConcurrentHashMap.newKeySet()).add(k));
+                return channel;
+            }).add(connection);
+        }
+    }
+    
+    /**
+     * 连接关闭后取消订阅，最后一个连接离开时关闭频道
+     */
+    public synchronized void unsubscribe(MeetingKey key, Session session) {
+        MeetingChannel channel = channels.get(key);
+        if (channel != null && channel.remove(session)) {
+            remove(channel);
+        }
+    }
+    
+    /**
+     * 推送现场会议命令；会议结束时推送后关闭频道
+     */
+    @EventListener
+    public void on(LiveMeetingChangedEvent event) {
+        MeetingChannel channel = channels.get(event.getMeetingKey());
+        if (channel == null) {
+            return;
+        }
+        channel.broadcast(MeetingDelta.of(event.getCommand()));
+        if (event.getCommand().getType() == LiveMeetingCommandType.END) {
+            synchronized (this) {
+                remove(channel);
+            }
+            channel.close(MEETING_ENDED);
+        }
+    }
+    
+    /**
+     * 推送议程上提案的变化，如阶段变更、投票和反对；在提案事务提交后推送
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ProposalChangedEvent event) {
+        Set<MeetingKey> keys = byProposal.get(event.getProposalId());
+        if (keys == null) {
+            return;
+        }
+        MeetingDelta delta = MeetingDelta.of(event);
+        for (MeetingKey key : keys) {
+            MeetingChannel channel = channels.get(key);
+            if (channel != null) {
+                channel.broadcast(delta);
+            }
+        }
+    }
+    
+    /**
+     * @return 打开的频道数
+     */
+    public int channelCount() {
+        return channels.size();
+    }
+    
+    /**
+     * @return 会议频道的连接数
+     */
+    public int connectionCount(MeetingKey key) {
+        MeetingChannel channel = channels.get(key);
+        return channel != null ? channel.size() : 0;
+    }
+    
+    private void remove(MeetingChannel channel) {
+        if (!channels.remove(channel.getKey(), channel)) {
+            return;
+        }
+        for (ProposalId proposalId : channel.getProposalIds()) {
+            byProposal.computeIfPresent(proposalId, (id, keys) -> {
+                keys.remove(channel.getKey());
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+    
+    /**
+     * 订阅时从现场会话读出的会议信息
+     */
+    private record ChannelView(CircleId circleId, Set<PartnerId> attendees, List<ProposalId> proposalIds) {
+    }
+}
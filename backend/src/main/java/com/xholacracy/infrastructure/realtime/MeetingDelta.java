@@ -0,0 +1,57 @@
+package com.xholacracy.infrastructure.realtime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.xholacracy.domain.event.ProposalChangedEvent;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommand;
+import com.xholacracy.domain.model.partner.PartnerId;
+
+import java.util.List;
+
+/**
+ * 推送给会议参与者的一条变化
+ * 只携带变化本身，不携带会议或提案的完整状态；seq在频道内连续递增，
+ * 客户端发现序号断档（发送缓冲区溢出时丢弃了较早的变化）时应重新读取会议
+ *
+ * type取值：现场会议命令为AGENDA_ITEM_STARTED等（见{@link #of(LiveMeetingCommand)}），
+ * 提案变化直接使用决策事件类型，如STAGE_CHANGED、VOTE_CAST、OBJECTION_RAISED
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record MeetingDelta(Long seq, String type, String proposalId, String status, String outcome, String vote,
+                    String partnerId, List<String> partnerIds, String text, String at) {
+    
+    static MeetingDelta of(LiveMeetingCommand command) {
+        String type = switch (command.getType()) {
+            case START_AGENDA_ITEM -> "AGENDA_ITEM_STARTED";
+            case COMPLETE_AGENDA_ITEM -> "AGENDA_ITEM_COMPLETED";
+            case SKIP_AGENDA_ITEM -> "AGENDA_ITEM_SKIPPED";
+            case RECORD_ATTENDANCE -> "ATTENDANCE_RECORDED";
+            case RECORD_CHECK_IN -> "CHECK_IN_RECORDED";
+            case ADD_NOTES -> "NOTES_ADDED";
+            case RECORD_CLOSING -> "CLOSING_RECORDED";
+            case RECORD_OUTCOME -> "OUTCOME_RECORDED";
+            case END -> "MEETING_ENDED";
+        };
+        // 追加备注的命令把作者记在伙伴列表中，推送时作为partnerId
+        PartnerId authorId = command.getAuthorId();
+        List<String> partnerIds = command.getPartnerIds().isEmpty() || authorId != null
+            ? null
+            : command.getPartnerIds().stream().map(PartnerId::getValue).toList();
+        return new MeetingDelta(null, type,
+            command.getProposalId() != null ? command.getProposalId().getValue() : null,
+            command.getFinalStatus() != null ? command.getFinalStatus().name() : null,
+            command.getOutcome(), null, authorId != null ? authorId.getValue() : null, partnerIds,
+            command.getText(), command.getRecordedAt().toString());
+    }
+    
+    static MeetingDelta of(ProposalChangedEvent event) {
+        return new MeetingDelta(null, event.getEventType().name(), event.getProposalId().getValue(),
+            event.getStatus().name(), null,
+            event.getVoteType() != null ? event.getVoteType().name() : null,
+            event.getActorId() != null ? event.getActorId().getValue() : null,
+            null, null, event.getOccurredAt().toString());
+    }
+    
+    MeetingDelta withSeq(long seq) {
+        return new MeetingDelta(seq, type, proposalId, status, outcome, vote, partnerId, partnerIds, text, at);
+    }
+}
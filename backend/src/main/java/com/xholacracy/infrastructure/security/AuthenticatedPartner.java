@@ -0,0 +1,96 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.domain.exception.PermissionDeniedException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.domain.model.permission.PartnerPermissions;
+import com.xholacracy.domain.model.permission.PermissionChecker;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * 已认证的伙伴
+ * 由验证通过的令牌解析而来，随令牌一起缓存到令牌过期
+ *
+ * 权限不随令牌冻结，每次从权限缓存读取，角色分配变化后立即生效
+ */
+public final class AuthenticatedPartner implements Principal {
+    
+    private final PartnerId partnerId;
+    private final String tokenId;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    private final PermissionChecker permissionChecker;
+    
+    AuthenticatedPartner(PartnerId partnerId, String tokenId, Instant issuedAt, Instant expiresAt,
+                         PermissionChecker permissionChecker) {
+        this.partnerId = partnerId;
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.permissionChecker = permissionChecker;
+    }
+    
+    /**
+     * @return 伙伴编译好的权限
+     */
+    public PartnerPermissions permissions() {
+        return permissionChecker.permissionsOf(partnerId);
+    }
+    
+    /**
+     * 检查伙伴在圈子内是否拥有能力
+     */
+    public boolean hasCapability(CircleId circleId, Capability capability) {
+        return permissions().has(circleId, capability);
+    }
+    
+    /**
+     * 要求伙伴在圈子内拥有能力
+     *
+     * @throws PermissionDeniedException 如果伙伴没有该能力
+     */
+    public void requireCapability(CircleId circleId, Capability capability) {
+        if (!hasCapability(circleId, capability)) {
+            throw new PermissionDeniedException(capability.name(), "circle " + circleId.getValue());
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return partnerId.getValue();
+    }
+    
+    public PartnerId getPartnerId() {
+        return partnerId;
+    }
+    
+    /**
+     * @return 令牌ID（jti），令牌没有ID时为令牌摘要
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+    
+    /**
+     * @return 签发时间（令牌没有iat时为null）
+     */
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "AuthenticatedPartner{" +
+                "partnerId=" + partnerId +
+                ", tokenId='" + tokenId + '\'' +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package com.xholacracy.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 从Authorization头认证Bearer令牌
+ * 浏览器无法为WebSocket握手设置请求头，只有发往WebSocket端点的握手请求可以用access_token查询参数携带令牌；
+ * 其他请求忽略该参数，避免令牌出现在普通请求的URL和访问日志里
+ * 没有Bearer令牌的请求原样放行，由授权规则决定是否需要认证；令牌无效时直接返回401
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ACCESS_TOKEN_PARAMETER = "access_token";
+    
+    private final JwtAuthenticator authenticator;
+    private final AuthenticationEntryPoint entryPoint;
+    private final RequestMatcher webSocketHandshakes;
+    
+    /**
+     * @param webSocketHandshakes 匹配WebSocket端点的请求，只有这些请求的升级握手接受查询参数中的令牌
+     */
+    public JwtAuthenticationFilter(JwtAuthenticator authenticator,
+                                   AuthenticationEntryPoint entryPoint,
+                                   RequestMatcher webSocketHandshakes) {
+        this.authenticator = authenticator;
+        this.entryPoint = entryPoint;
+        this.webSocketHandshakes = webSocketHandshakes;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            AuthenticatedPartner partner = authenticator.authenticate(token);
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(new PartnerAuthenticationToken(partner));
+            SecurityContextHolder.setContext(context);
+        } catch (AuthenticationException e) {
+            SecurityContextHolder.clearContext();
+            entryPoint.commence(request, response, e);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+    
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        if ("websocket".equalsIgnoreCase(request.getHeader(HttpHeaders.UPGRADE))
+                && webSocketHandshakes.matches(request)) {
+            String token = request.getParameter(ACCESS_TOKEN_PARAMETER);
+            return token != null && !token.isBlank() ? token.trim() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,219 @@
+package com.xholacracy.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.permission.PermissionChecker;
+import com.xholacracy.infrastructure.config.JwtProperties;
+import com.xholacracy.infrastructure.persistence.revocation.TokenRevocationStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * 带缓存的令牌认证
+ * 令牌首次出现时完整校验：解析、验证签名和有效期、检查吊销记录、确认伙伴存在；
+ * 之后按令牌摘要缓存解析出的伙伴，同一令牌的后续请求只是一次缓存查找
+ *
+ * 吊销写入多个实例共享的吊销表，同时记在本实例的内存中：
+ * 收到吊销请求的实例立即移除对应的缓存项，其他实例的缓存项最迟在吊销检查间隔后失效，
+ * 之后的完整校验查到吊销表中的记录而拒绝令牌。所以缓存项的寿命取令牌过期时间和检查间隔中较早的一个，
+ * 其他实例上的吊销最多晚一个检查间隔生效。
+ * 有效期超过配置上限的令牌被拒绝，伙伴吊销记录只需保留一个上限时长
+ */
+@Component
+public class JwtAuthenticator {
+    
+    private final JwtTokenService tokenService;
+    private final PartnerRepository partnerRepository;
+    private final PermissionChecker permissionChecker;
+    private final TokenRevocationStore revocationStore;
+    private final Clock clock;
+    private final Duration maxLifetime;
+    
+    private final Cache<String, AuthenticatedPartner> verified;
+    private final Cache<String, Instant> revokedTokens;
+    private final Cache<PartnerId, Instant> revokedPartners;
+    
+    @Autowired
+    public JwtAuthenticator(JwtTokenService tokenService,
+                            PartnerRepository partnerRepository,
+                            PermissionChecker permissionChecker,
+                            TokenRevocationStore revocationStore,
+                            JwtProperties properties) {
+        this(tokenService, partnerRepository, permissionChecker, revocationStore, properties,
+            Clock.systemUTC(), Ticker.systemTicker());
+    }
+    
+    JwtAuthenticator(JwtTokenService tokenService,
+                     PartnerRepository partnerRepository,
+                     PermissionChecker permissionChecker,
+                     TokenRevocationStore revocationStore,
+                     JwtProperties properties,
+                     Clock clock,
+                     Ticker ticker) {
+        this.tokenService = tokenService;
+        this.partnerRepository = partnerRepository;
+        this.permissionChecker = permissionChecker;
+        this.revocationStore = revocationStore;
+        this.clock = clock;
+        this.maxLifetime = properties.getExpiration();
+        Duration checkInterval = properties.getRevocationCheckInterval();
+        this.verified = Caffeine.newBuilder()
+            .maximumSize(properties.getCacheSize())
+            .expireAfter(expiringAt((AuthenticatedPartner partner) -> earlier(
+                partner.getExpiresAt(), clock.instant().plus(checkInterval))))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        this.revokedTokens = Caffeine.newBuilder()
+            .expireAfter(expiringAt((Instant expiresAt) -> expiresAt))
+            .ticker(ticker)
+            .build();
+        // 伙伴吊销之前签发的令牌最迟在一个令牌有效期上限后全部过期
+        this.revokedPartners = Caffeine.newBuilder()
+            .expireAfterWrite(maxLifetime)
+            .ticker(ticker)
+            .build();
+    }
+    
+    /**
+     * 认证令牌
+     *
+     * @param token Bearer令牌
+     * @return 令牌对应的伙伴
+     * @throws BadCredentialsException 如果令牌无效、已过期、有效期超过上限、已吊销或伙伴不存在
+     */
+    public AuthenticatedPartner authenticate(String token) {
+        String digest = digest(token);
+        AuthenticatedPartner cached = verified.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        AuthenticatedPartner partner = verify(token, digest);
+        verified.put(digest, partner);
+        // 校验和放入缓存之间可能发生了吊销，放入后再查一次，避免吊销漏掉刚放入的项
+        if (isRevoked(partner)) {
+            verified.invalidate(digest);
+            throw new BadCredentialsException("Token has been revoked");
+        }
+        return partner;
+    }
+    
+    /**
+     * 吊销单个令牌，直到令牌过期前都拒绝它
+     */
+    public void revoke(AuthenticatedPartner partner) {
+        revokedTokens.put(partner.getTokenId(), partner.getExpiresAt());
+        verified.asMap().values().removeIf(cached -> cached.getTokenId().equals(partner.getTokenId()));
+        revocationStore.revokeToken(partner.getTokenId(), partner.getExpiresAt());
+    }
+    
+    /**
+     * 吊销伙伴此刻之前签发的所有令牌，例如伙伴被移除或修改了凭据
+     */
+    public void revokeAll(PartnerId partnerId) {
+        Instant now = clock.instant();
+        revokedPartners.put(partnerId, now);
+        verified.asMap().values().removeIf(cached -> cached.getPartnerId().equals(partnerId));
+        revocationStore.revokePartner(partnerId, now, now.plus(maxLifetime));
+    }
+    
+    /**
+     * 不经过缓存完整校验令牌
+     */
+    AuthenticatedPartner verify(String token, String digest) {
+        Claims claims;
+        try {
+            claims = tokenService.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid token", e);
+        }
+        if (claims.getSubject() == null) {
+            throw new BadCredentialsException("Token has no subject");
+        }
+        if (claims.getExpiration() == null) {
+            throw new BadCredentialsException("Token has no expiry");
+        }
+        if (claims.getExpiration().toInstant().isAfter(clock.instant().plus(maxLifetime))) {
+            throw new BadCredentialsException("Token lifetime exceeds the configured maximum");
+        }
+        AuthenticatedPartner partner = new AuthenticatedPartner(
+            PartnerId.of(claims.getSubject()),
+            claims.getId() != null ? claims.getId() : digest,
+            claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+            claims.getExpiration().toInstant(),
+            permissionChecker);
+        // 本实例的吊销记录在内存中，其他实例上的吊销只在吊销表中
+        if (isRevoked(partner) || revocationStore.isRevoked(partner.getTokenId(), partner.getPartnerId(),
+                partner.getIssuedAt())) {
+            throw new BadCredentialsException("Token has been revoked");
+        }
+        if (!partnerRepository.existsById(partner.getPartnerId())) {
+            throw new BadCredentialsException("Unknown partner");
+        }
+        return partner;
+    }
+    
+    /**
+     * 令牌的SHA-256摘要，缓存不保存令牌原文
+     */
+    static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    long cachedTokenCount() {
+        verified.cleanUp();
+        return verified.estimatedSize();
+    }
+    
+    private boolean isRevoked(AuthenticatedPartner partner) {
+        if (revokedTokens.getIfPresent(partner.getTokenId()) != null) {
+            return true;
+        }
+        Instant notBefore = revokedPartners.getIfPresent(partner.getPartnerId());
+        return notBefore != null && (partner.getIssuedAt() == null || !partner.getIssuedAt().isAfter(notBefore));
+    }
+    
+    private static Instant earlier(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+    
+    private <V> Expiry<Object, V> expiringAt(Function<V, Instant> expiresAt) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, V value, long currentTime) {
+                return Math.max(0, Duration.between(clock.instant(), expiresAt.apply(value)).toNanos());
+            }
+            
+            @Override
+            public long expireAfterUpdate(Object key, V value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+            
+            @Override
+            public long expireAfterRead(Object key, V value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
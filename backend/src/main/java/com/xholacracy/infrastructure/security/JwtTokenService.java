@@ -0,0 +1,55 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.infrastructure.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Date;
+
+/**
+ * JWT校验
+ * 令牌由外部身份提供方签发：主题是伙伴ID，用共享密钥以HMAC-SHA签名，配置了签发方时iss声明必须匹配；
+ * 校验即完整的解析和签名验证，不做缓存
+ */
+@Component
+public class JwtTokenService {
+    
+    private final JwtParser parser;
+    
+    @Autowired
+    public JwtTokenService(JwtProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+    
+    JwtTokenService(JwtProperties properties, Clock clock) {
+        if (properties.getSecret() == null) {
+            throw new IllegalStateException("spring.security.jwt.secret must be set");
+        }
+        SecretKey key = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        JwtParserBuilder builder = Jwts.parser()
+            .verifyWith(key)
+            .clock(() -> Date.from(clock.instant()));
+        if (properties.getIssuer() != null && !properties.getIssuer().isBlank()) {
+            builder.requireIssuer(properties.getIssuer());
+        }
+        this.parser = builder.build();
+    }
+    
+    /**
+     * 解析令牌并验证签名和有效期
+     *
+     * @throws JwtException 如果令牌格式错误、签名无效、已过期或签发方不符
+     */
+    public Claims verify(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,29 @@
+package com.xholacracy.infrastructure.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+/**
+ * 已认证伙伴的Spring Security认证对象
+ * 认证名为伙伴ID；细粒度授权通过AuthenticatedPartner的权限完成，不映射为GrantedAuthority
+ */
+public class PartnerAuthenticationToken extends AbstractAuthenticationToken {
+    
+    private final AuthenticatedPartner partner;
+    
+    public PartnerAuthenticationToken(AuthenticatedPartner partner) {
+        super(AuthorityUtils.createAuthorityList("ROLE_PARTNER"));
+        this.partner = partner;
+        setAuthenticated(true);
+    }
+    
+    @Override
+    public AuthenticatedPartner getPrincipal() {
+        return partner;
+    }
+    
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.xholacracy.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.xholacracy.domain.event.RoleAssignmentsChangedEvent;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.PartnerPermissions;
+import com.xholacracy.domain.model.permission.PermissionChecker;
+import com.xholacracy.domain.model.permission.PermissionGrantRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 伙伴权限缓存
+ * 首次检查时用一次投影查询编译伙伴的权限，之后每次检查只是一次缓存查找和一次位测试
+ *
+ * 角色分配变化时由PermissionInvalidator在事务提交后按伙伴失效；
+ * 领域或圈子层级变化影响的伙伴无法从事件本身得知，整体失效。
+ * 过期时间只是兜底，正常情况下缓存由失效保持最新
+ */
+@Component
+public class PermissionCache implements PermissionChecker {
+    
+    static final long MAXIMUM_SIZE = 50_000;
+    static final Duration EXPIRE_AFTER_WRITE = Duration.ofHours(1);
+    
+    private final LoadingCache<PartnerId, PartnerPermissions> permissions;
+    
+    public PermissionCache(PermissionGrantRepository permissionGrantRepository) {
+        this.permissions = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build(partnerId -> PartnerPermissions.compile(partnerId,
+                permissionGrantRepository.findByPartnerId(partnerId)));
+    }
+    
+    @Override
+    public PartnerPermissions permissionsOf(PartnerId partnerId) {
+        return permissions.get(partnerId);
+    }
+    
+    /**
+     * 失效指定伙伴的权限
+     */
+    public void evict(Collection<PartnerId> partnerIds) {
+        permissions.invalidateAll(partnerIds);
+    }
+    
+    /**
+     * 失效所有伙伴的权限
+     */
+    public void evictAll() {
+        permissions.invalidateAll();
+    }
+    
+    /**
+     * 批量写入的角色分配不经过Hibernate事件，由写入方发布事件，提交后失效
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(RoleAssignmentsChangedEvent event) {
+        evict(event.getPartnerIds());
+    }
+}
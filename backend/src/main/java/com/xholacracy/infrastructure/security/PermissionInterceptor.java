@@ -0,0 +1,106 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.domain.exception.PermissionDeniedException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.domain.model.permission.PartnerPermissions;
+import com.xholacracy.domain.model.permission.PermissionScopeRepository;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 在处理器方法之前检查@RequiresCapability要求的圈子能力
+ * 能力来自权限缓存，提案、会议和会议系列的圈子用一次投影查询得到
+ *
+ * 目标不存在时不在此拒绝，由处理器照常回答404；缺少organizationId参数时由处理器回答400
+ */
+public class PermissionInterceptor implements HandlerInterceptor {
+    
+    private static final String ORGANIZATION_ID = "organizationId";
+    
+    private final PermissionScopeRepository scopeRepository;
+    
+    public PermissionInterceptor(PermissionScopeRepository scopeRepository) {
+        this.scopeRepository = scopeRepository;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RequiresCapability required = method.getMethodAnnotation(RequiresCapability.class);
+        if (required == null) {
+            return true;
+        }
+        AuthenticatedPartner partner = currentPartner();
+        Map<String, String> variables = uriVariables(request);
+        String target = variables.get(required.scope().getVariable());
+        if (target == null) {
+            throw new IllegalStateException("Handler " + method + " has no path variable " + required.scope().getVariable());
+        }
+        if (required.scope() == RequiresCapability.Scope.ORGANIZATION) {
+            if (!partner.permissions().isMemberOf(OrganizationId.of(target))) {
+                throw new PermissionDeniedException(Capability.MEMBER.name(), "organization " + target);
+            }
+            return true;
+        }
+        Optional<CircleId> circleId = resolveCircle(required.scope(), target, request);
+        if (circleId.isEmpty()) {
+            return true;
+        }
+        PartnerPermissions permissions = partner.permissions();
+        for (Capability capability : required.value()) {
+            if (permissions.has(circleId.get(), capability)) {
+                return true;
+            }
+        }
+        throw new PermissionDeniedException(required.value()[0].name(), "circle " + circleId.get().getValue());
+    }
+    
+    private Optional<CircleId> resolveCircle(RequiresCapability.Scope scope, String target, HttpServletRequest request) {
+        if (scope == RequiresCapability.Scope.CIRCLE) {
+            return Optional.of(CircleId.of(target));
+        }
+        String organizationId = request.getParameter(ORGANIZATION_ID);
+        if (organizationId == null) {
+            return Optional.empty();
+        }
+        OrganizationId organization = OrganizationId.of(organizationId);
+        return switch (scope) {
+            case PROPOSAL -> scopeRepository.findCircleOfProposal(organization, ProposalId.of(target));
+            case MEETING -> scopeRepository.findCircleOfMeeting(organization, MeetingId.of(target));
+            case MEETING_SERIES -> scopeRepository.findCircleOfMeetingSeries(organization, MeetingSeriesId.of(target));
+            default -> throw new IllegalStateException("Unexpected scope " + scope);
+        };
+    }
+    
+    /**
+     * 安全过滤器链保证请求已认证；其他类型的认证对象没有圈子能力
+     */
+    private static AuthenticatedPartner currentPartner() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedPartner partner) {
+            return partner;
+        }
+        throw new PermissionDeniedException("Authenticated partner required");
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> uriVariables(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables != null ? variables : Map.of();
+    }
+}
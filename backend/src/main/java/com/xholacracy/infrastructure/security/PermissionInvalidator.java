@@ -0,0 +1,115 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 权限失效监听器
+ * 监听Hibernate的插入、更新、删除事件，在事务成功完成后失效受影响伙伴的编译权限：
+ * 角色分配的增删只影响被分配的伙伴；领域的增删改和圈子上级的变化无法直接定位伙伴，失效全部权限
+ *
+ * 失效登记在Hibernate会话的事务完成回调上，事件在提交时的刷新中触发也不会错过
+ */
+@Component
+public class PermissionInvalidator implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    
+    private static final String PARENT_CIRCLE_ID = "parentCircleId";
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final PermissionCache permissionCache;
+    
+    public PermissionInvalidator(EntityManagerFactory entityManagerFactory, PermissionCache permissionCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.permissionCache = permissionCache;
+    }
+    
+    /**
+     * 注册到Hibernate事件监听器
+     */
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChange(event.getSession(), event.getEntity());
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Domain) {
+            evictAllAfterCompletion(event.getSession());
+        } else if (event.getEntity() instanceof Circle && isDirty(event, PARENT_CIRCLE_ID)) {
+            evictAllAfterCompletion(event.getSession());
+        }
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getSession(), event.getEntity());
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+    
+    private void onChange(EventSource session, Object entity) {
+        if (entity instanceof RoleAssignment assignment) {
+            PartnerId partnerId = assignment.getPartnerId();
+            session.getActionQueue().registerProcess((success, completed) -> {
+                if (success) {
+                    permissionCache.evict(List.of(partnerId));
+                }
+            });
+        } else if (entity instanceof Domain) {
+            evictAllAfterCompletion(session);
+        }
+    }
+    
+    private void evictAllAfterCompletion(EventSource session) {
+        session.getActionQueue().registerProcess((success, completed) -> {
+            if (success) {
+                permissionCache.evictAll();
+            }
+        });
+    }
+    
+    private static boolean isDirty(PostUpdateEvent event, String propertyName) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            return true;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        for (int index : dirty) {
+            if (propertyName.equals(names[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
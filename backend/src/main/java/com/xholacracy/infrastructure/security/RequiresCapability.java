@@ -0,0 +1,74 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.domain.model.permission.Capability;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记需要圈子能力的接口
+ * 权限检查在处理器方法执行之前完成，没有能力的伙伴得到403，处理器不会运行
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresCapability {
+    
+    /**
+     * 所需能力，拥有其中任意一个即可
+     */
+    Capability[] value();
+    
+    /**
+     * 确定目标圈子的方式
+     */
+    Scope scope();
+    
+    /**
+     * 目标圈子的来源
+     * 提案、会议和会议系列的圈子按路径变量中的ID和organizationId参数查询得到
+     */
+    enum Scope {
+        
+        /**
+         * 路径变量circleId
+         */
+        CIRCLE("circleId"),
+        
+        /**
+         * 路径变量proposalId指向的提案所在圈子
+         */
+        PROPOSAL("proposalId"),
+        
+        /**
+         * 路径变量meetingId指向的会议所在圈子
+         */
+        MEETING("meetingId"),
+        
+        /**
+         * 路径变量seriesId指向的会议系列所在圈子
+         */
+        MEETING_SERIES("seriesId"),
+        
+        /**
+         * 路径变量organizationId指向的组织，只要求在组织内担任任何角色
+         */
+        ORGANIZATION("organizationId");
+        
+        private final String variable;
+        
+        Scope(String variable) {
+            this.variable = variable;
+        }
+        
+        /**
+         * @return 标识目标的路径变量名
+         */
+        public String getVariable() {
+            return variable;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.xholacracy.interfaces.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Error response body returned by the REST API
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorResponse {
+
+    private String errorCode;
+    private String message;
+    private Map<String, String> errors;
+    private LocalDateTime timestamp;
+}
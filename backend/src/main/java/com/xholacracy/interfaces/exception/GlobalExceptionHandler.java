@@ -0,0 +1,69 @@
+package com.xholacracy.interfaces.exception;
+
+import com.xholacracy.domain.exception.BusinessException;
+import com.xholacracy.domain.exception.RateLimitExceededException;
+import com.xholacracy.domain.exception.SchedulingConflictException;
+import com.xholacracy.domain.exception.ValidationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+/**
+ * Translates business exceptions into HTTP error responses
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(ValidationException ex) {
+        return ResponseEntity.status(ex.getHttpStatus())
+            .body(ErrorResponse.builder()
+                .errorCode(ex.getErrorCode())
+                .message(ex.getMessage())
+                .errors(ex.getValidationErrors())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusiness(BusinessException ex) {
+        return ResponseEntity.status(ex.getHttpStatus())
+            .body(ErrorResponse.builder()
+                .errorCode(ex.getErrorCode())
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Rejected before any work was done; Retry-After is rounded up to whole seconds
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimit(RateLimitExceededException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(ex.getHttpStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(ErrorResponse.builder()
+                .errorCode(ex.getErrorCode())
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Lists the conflicting bookings per partner id
+     */
+    @ExceptionHandler(SchedulingConflictException.class)
+    public ResponseEntity<ErrorResponse> handleSchedulingConflict(SchedulingConflictException ex) {
+        return ResponseEntity.status(ex.getHttpStatus())
+            .body(ErrorResponse.builder()
+                .errorCode(ex.getErrorCode())
+                .message(ex.getMessage())
+                .errors(ex.getConflicts())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,43 @@
+package com.xholacracy.interfaces.rest;
+
+import com.xholacracy.infrastructure.security.AuthenticatedPartner;
+import com.xholacracy.infrastructure.security.JwtAuthenticator;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the caller's bearer token.
+ * Tokens are issued by the external identity provider; these endpoints only revoke them.
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+public class AuthController {
+    
+    private final JwtAuthenticator authenticator;
+    
+    public AuthController(JwtAuthenticator authenticator) {
+        this.authenticator = authenticator;
+    }
+    
+    /**
+     * Revoke the token this request was made with (logout)
+     */
+    @DeleteMapping("/token")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void revokeToken(@AuthenticationPrincipal AuthenticatedPartner partner) {
+        authenticator.revoke(partner);
+    }
+    
+    /**
+     * Revoke every token issued to the caller so far
+     */
+    @DeleteMapping("/tokens")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void revokeAllTokens(@AuthenticationPrincipal AuthenticatedPartner partner) {
+        authenticator.revokeAll(partner.getPartnerId());
+    }
+}
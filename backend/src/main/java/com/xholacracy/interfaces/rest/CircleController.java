@@ -0,0 +1,112 @@
+package com.xholacracy.interfaces.rest;
+
+import com.xholacracy.application.dto.circle.CircleDTO;
+import com.xholacracy.application.dto.circle.CircleSummaryDTO;
+import com.xholacracy.application.dto.circle.CreateCircleRequest;
+import com.xholacracy.application.dto.role.AssignRoleRequest;
+import com.xholacracy.application.dto.role.RoleAssignmentDTO;
+import com.xholacracy.application.dto.role.RoleSummaryDTO;
+import com.xholacracy.application.service.CircleCommandService;
+import com.xholacracy.application.service.CircleQueryService;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.domain.model.role.RoleId;
+import com.xholacracy.infrastructure.ratelimit.RateLimited;
+import com.xholacracy.infrastructure.security.AuthenticatedPartner;
+import com.xholacracy.infrastructure.security.RequiresCapability;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * REST controller for circles
+ */
+@RestController
+@RequestMapping("/api/v1/circles")
+public class CircleController {
+    
+    private final CircleQueryService circleQueryService;
+    private final CircleCommandService circleCommandService;
+    
+    public CircleController(CircleQueryService circleQueryService,
+                            CircleCommandService circleCommandService) {
+        this.circleQueryService = circleQueryService;
+        this.circleCommandService = circleCommandService;
+    }
+    
+    /**
+     * List circle summaries of an organization
+     */
+    @GetMapping
+    public List<CircleSummaryDTO> listCircles(@RequestParam String organizationId) {
+        return circleQueryService.listByOrganization(OrganizationId.of(organizationId));
+    }
+    
+    /**
+     * Get a circle with role and sub-circle summaries.
+     * Answers 304 from the version tag alone when If-None-Match matches.
+     */
+    @GetMapping("/{circleId}")
+    public CircleDTO getCircle(@PathVariable String circleId, WebRequest request) {
+        CircleId id = CircleId.of(circleId);
+        if (request.checkNotModified(circleQueryService.getVersionTag(id))) {
+            return null;
+        }
+        return circleQueryService.getCircle(id);
+    }
+    
+    /**
+     * List summaries of the direct sub-circles
+     */
+    @GetMapping("/{circleId}/subcircles")
+    public List<CircleSummaryDTO> listSubCircles(@PathVariable String circleId) {
+        return circleQueryService.listSubCircles(CircleId.of(circleId));
+    }
+    
+    /**
+     * List role summaries of a circle
+     */
+    @GetMapping("/{circleId}/roles")
+    public List<RoleSummaryDTO> listRoles(@PathVariable String circleId) {
+        return circleQueryService.listRoles(CircleId.of(circleId));
+    }
+    
+    /**
+     * Create a sub-circle under this circle
+     */
+    @PostMapping("/{circleId}/subcircles")
+    @ResponseStatus(HttpStatus.CREATED)
+    @RateLimited(operation = "structure", aggregate = "circleId")
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.CIRCLE)
+    public CircleDTO createSubCircle(@PathVariable String circleId,
+                                     @Valid @RequestBody CreateCircleRequest request) {
+        return circleCommandService.createSubCircle(CircleId.of(circleId), request);
+    }
+    
+    /**
+     * Assign one of this circle's roles to a partner; the caller is recorded as the assigner
+     */
+    @PostMapping("/{circleId}/roles/{roleId}/assignments")
+    @ResponseStatus(HttpStatus.CREATED)
+    @RateLimited(operation = "structure", aggregate = "circleId")
+    @RequiresCapability(value = Capability.ASSIGN_ROLES, scope = RequiresCapability.Scope.CIRCLE)
+    public RoleAssignmentDTO assignRole(@PathVariable String circleId,
+                                        @PathVariable String roleId,
+                                        @Valid @RequestBody AssignRoleRequest request,
+                                        @AuthenticationPrincipal AuthenticatedPartner partner) {
+        return circleCommandService.assignRole(CircleId.of(circleId), RoleId.of(roleId), partner.getPartnerId(),
+            request);
+    }
+}
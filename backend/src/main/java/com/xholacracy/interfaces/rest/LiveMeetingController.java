@@ -0,0 +1,149 @@
+package com.xholacracy.interfaces.rest;
+
+import com.xholacracy.application.dto.meeting.LiveMeetingAckDTO;
+import com.xholacracy.application.dto.meeting.LiveMeetingNotesRequest;
+import com.xholacracy.application.dto.meeting.MeetingDTO;
+import com.xholacracy.application.dto.meeting.RecordAttendanceRequest;
+import com.xholacracy.application.dto.meeting.RecordOutcomeRequest;
+import com.xholacracy.application.service.LiveMeetingService;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.infrastructure.security.AuthenticatedPartner;
+import com.xholacracy.infrastructure.security.RequiresCapability;
+import jakarta.validation.Valid;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for running a governance meeting.
+ * Commands take effect in the in-memory session of the node owning the meeting and are acknowledged
+ * with their sequence number before they reach the database; other nodes answer 409.
+ */
+@RestController
+@RequestMapping("/api/v1/meetings/{meetingId}/live")
+public class LiveMeetingController {
+    
+    private final LiveMeetingService liveMeetingService;
+    
+    public LiveMeetingController(LiveMeetingService liveMeetingService) {
+        this.liveMeetingService = liveMeetingService;
+    }
+    
+    /**
+     * Start the meeting and open its live session on this node
+     */
+    @PostMapping("/start")
+    @RequiresCapability(value = Capability.FACILITATE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public MeetingDTO start(@PathVariable String meetingId, @RequestParam String organizationId) {
+        return liveMeetingService.start(OrganizationId.of(organizationId), MeetingId.of(meetingId));
+    }
+    
+    /**
+     * Get the meeting as held by the live session, including commands not yet written to the database
+     */
+    @GetMapping
+    public MeetingDTO getLiveMeeting(@PathVariable String meetingId, @RequestParam String organizationId) {
+        return liveMeetingService.getLiveMeeting(OrganizationId.of(organizationId), MeetingId.of(meetingId));
+    }
+    
+    /**
+     * End the meeting; all commands are written to the database before this returns
+     */
+    @PostMapping("/end")
+    @RequiresCapability(value = Capability.FACILITATE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public MeetingDTO end(@PathVariable String meetingId, @RequestParam String organizationId) {
+        return liveMeetingService.end(OrganizationId.of(organizationId), MeetingId.of(meetingId));
+    }
+    
+    @PostMapping("/agenda/{proposalId}/start")
+    @RequiresCapability(value = Capability.FACILITATE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public LiveMeetingAckDTO startAgendaItem(@PathVariable String meetingId,
+                                             @PathVariable String proposalId,
+                                             @RequestParam String organizationId) {
+        return liveMeetingService.startAgendaItem(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            ProposalId.of(proposalId));
+    }
+    
+    @PostMapping("/agenda/{proposalId}/complete")
+    @RequiresCapability(value = Capability.FACILITATE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public LiveMeetingAckDTO completeAgendaItem(@PathVariable String meetingId,
+                                                @PathVariable String proposalId,
+                                                @RequestParam String organizationId,
+                                                @Valid @RequestBody LiveMeetingNotesRequest request) {
+        return liveMeetingService.completeAgendaItem(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            ProposalId.of(proposalId), request.getNotes());
+    }
+    
+    @PostMapping("/agenda/{proposalId}/skip")
+    @RequiresCapability(value = Capability.FACILITATE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public LiveMeetingAckDTO skipAgendaItem(@PathVariable String meetingId,
+                                            @PathVariable String proposalId,
+                                            @RequestParam String organizationId,
+                                            @Valid @RequestBody LiveMeetingNotesRequest request) {
+        return liveMeetingService.skipAgendaItem(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            ProposalId.of(proposalId), request.getNotes());
+    }
+    
+    /**
+     * Record how a proposal on the agenda was resolved
+     */
+    @PostMapping("/agenda/{proposalId}/outcome")
+    @RequiresCapability(value = {Capability.FACILITATE_MEETINGS, Capability.RECORD_OUTCOMES},
+        scope = RequiresCapability.Scope.MEETING)
+    public LiveMeetingAckDTO recordOutcome(@PathVariable String meetingId,
+                                           @PathVariable String proposalId,
+                                           @RequestParam String organizationId,
+                                           @Valid @RequestBody RecordOutcomeRequest request) {
+        return liveMeetingService.recordOutcome(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            ProposalId.of(proposalId), request);
+    }
+    
+    @PostMapping("/attendance")
+    @RequiresCapability(value = Capability.FACILITATE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public LiveMeetingAckDTO recordAttendance(@PathVariable String meetingId,
+                                              @RequestParam String organizationId,
+                                              @Valid @RequestBody RecordAttendanceRequest request) {
+        return liveMeetingService.recordAttendance(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            request.getPartnerIds().stream().map(PartnerId::of).toList());
+    }
+    
+    @PostMapping("/check-in")
+    @RequiresCapability(value = Capability.FACILITATE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public LiveMeetingAckDTO recordCheckIn(@PathVariable String meetingId,
+                                           @RequestParam String organizationId,
+                                           @Valid @RequestBody LiveMeetingNotesRequest request) {
+        return liveMeetingService.recordCheckIn(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            request.getNotes());
+    }
+    
+    /**
+     * Append a note attributed to the caller
+     */
+    @PostMapping("/notes")
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.MEETING)
+    public LiveMeetingAckDTO addNotes(@PathVariable String meetingId,
+                                      @RequestParam String organizationId,
+                                      @Valid @RequestBody LiveMeetingNotesRequest request,
+                                      @AuthenticationPrincipal AuthenticatedPartner partner) {
+        return liveMeetingService.addNotes(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            partner.getPartnerId(), request.getNotes());
+    }
+    
+    @PostMapping("/closing")
+    @RequiresCapability(value = Capability.FACILITATE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public LiveMeetingAckDTO recordClosing(@PathVariable String meetingId,
+                                           @RequestParam String organizationId,
+                                           @Valid @RequestBody LiveMeetingNotesRequest request) {
+        return liveMeetingService.recordClosing(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            request.getNotes());
+    }
+}
@@ -0,0 +1,126 @@
+package com.xholacracy.interfaces.rest;
+
+import com.xholacracy.application.dto.meeting.AddParticipantsRequest;
+import com.xholacracy.application.dto.meeting.CalendarConflictDTO;
+import com.xholacracy.application.dto.meeting.FreeSlotDTO;
+import com.xholacracy.application.dto.meeting.MeetingDTO;
+import com.xholacracy.application.dto.meeting.RescheduleMeetingRequest;
+import com.xholacracy.application.service.MeetingQueryService;
+import com.xholacracy.application.service.MeetingSchedulingService;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.infrastructure.security.RequiresCapability;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST controller for governance meetings
+ */
+@RestController
+@RequestMapping("/api/v1/meetings")
+public class MeetingController {
+    
+    private final MeetingQueryService meetingQueryService;
+    private final MeetingSchedulingService meetingSchedulingService;
+    
+    public MeetingController(MeetingQueryService meetingQueryService,
+                             MeetingSchedulingService meetingSchedulingService) {
+        this.meetingQueryService = meetingQueryService;
+        this.meetingSchedulingService = meetingSchedulingService;
+    }
+    
+    /**
+     * List meetings of a circle
+     */
+    @GetMapping
+    public List<MeetingDTO> listMeetings(@RequestParam String circleId) {
+        return meetingQueryService.listByCircle(CircleId.of(circleId));
+    }
+    
+    /**
+     * Get a meeting with agenda and record.
+     * The organization id selects the storage partition the meeting lives in.
+     * Answers 304 from the version tag alone when If-None-Match matches.
+     */
+    @GetMapping("/{meetingId}")
+    public MeetingDTO getMeeting(@PathVariable String meetingId,
+                                 @RequestParam String organizationId,
+                                 WebRequest request) {
+        OrganizationId orgId = OrganizationId.of(organizationId);
+        MeetingId id = MeetingId.of(meetingId);
+        if (request.checkNotModified(meetingQueryService.getVersionTag(orgId, id))) {
+            return null;
+        }
+        return meetingQueryService.getMeeting(orgId, id);
+    }
+    
+    /**
+     * Preview attendee conflicts for a new time and/or additional participants
+     */
+    @GetMapping("/{meetingId}/conflicts")
+    public List<CalendarConflictDTO> findConflicts(@PathVariable String meetingId,
+                                                   @RequestParam String organizationId,
+                                                   @RequestParam(required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                   LocalDateTime scheduledDate,
+                                                   @RequestParam(required = false) List<String> participantIds) {
+        List<PartnerId> partnerIds = participantIds != null
+            ? participantIds.stream().map(PartnerId::of).toList()
+            : List.of();
+        return meetingSchedulingService.findConflicts(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            scheduledDate, partnerIds);
+    }
+    
+    /**
+     * Move a scheduled meeting; answers 409 on attendee conflicts unless allowConflicts is set
+     */
+    @PostMapping("/{meetingId}/reschedule")
+    @RequiresCapability(value = Capability.SCHEDULE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public MeetingDTO reschedule(@PathVariable String meetingId,
+                                 @RequestParam String organizationId,
+                                 @Valid @RequestBody RescheduleMeetingRequest request) {
+        return meetingSchedulingService.reschedule(OrganizationId.of(organizationId), MeetingId.of(meetingId), request);
+    }
+    
+    /**
+     * Invite partners; answers 409 on conflicts of the new participants unless allowConflicts is set
+     */
+    @PostMapping("/{meetingId}/participants")
+    @RequiresCapability(value = Capability.SCHEDULE_MEETINGS, scope = RequiresCapability.Scope.MEETING)
+    public MeetingDTO addParticipants(@PathVariable String meetingId,
+                                      @RequestParam String organizationId,
+                                      @Valid @RequestBody AddParticipantsRequest request) {
+        return meetingSchedulingService.addParticipants(OrganizationId.of(organizationId), MeetingId.of(meetingId),
+            request);
+    }
+    
+    /**
+     * Find gaps in [from, to) of at least durationMinutes in which all partners are free
+     */
+    @GetMapping("/free-slots")
+    public List<FreeSlotDTO> findFreeSlots(@RequestParam String organizationId,
+                                           @RequestParam List<String> partnerIds,
+                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                           LocalDateTime from,
+                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                           LocalDateTime to,
+                                           @RequestParam int durationMinutes,
+                                           @RequestParam(defaultValue = "10") int limit) {
+        return meetingSchedulingService.findFreeSlots(OrganizationId.of(organizationId),
+            partnerIds.stream().map(PartnerId::of).toList(), from, to, durationMinutes, limit);
+    }
+}
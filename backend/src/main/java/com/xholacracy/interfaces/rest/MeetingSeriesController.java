@@ -0,0 +1,80 @@
+package com.xholacracy.interfaces.rest;
+
+import com.xholacracy.application.dto.meeting.CreateMeetingSeriesRequest;
+import com.xholacracy.application.dto.meeting.EndMeetingSeriesRequest;
+import com.xholacracy.application.dto.meeting.MeetingSeriesDTO;
+import com.xholacracy.application.service.MeetingSeriesService;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.MeetingSeriesId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.infrastructure.security.AuthenticatedPartner;
+import com.xholacracy.infrastructure.security.RequiresCapability;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for recurring meeting series
+ */
+@RestController
+@RequestMapping("/api/v1/meeting-series")
+public class MeetingSeriesController {
+    
+    private final MeetingSeriesService meetingSeriesService;
+    
+    public MeetingSeriesController(MeetingSeriesService meetingSeriesService) {
+        this.meetingSeriesService = meetingSeriesService;
+    }
+    
+    /**
+     * Create one series per circle; meetings within the horizon are generated in the same request.
+     * The circles come from the body, so the caller's capability is checked here rather than by the interceptor.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<MeetingSeriesDTO> createSeries(@Valid @RequestBody CreateMeetingSeriesRequest request,
+                                               @AuthenticationPrincipal AuthenticatedPartner partner) {
+        request.getCircleIds().forEach(circleId ->
+            partner.requireCapability(CircleId.of(circleId), Capability.SCHEDULE_MEETINGS));
+        return meetingSeriesService.createSeries(request);
+    }
+    
+    /**
+     * List meeting series of a circle
+     */
+    @GetMapping
+    public List<MeetingSeriesDTO> listSeries(@RequestParam String circleId) {
+        return meetingSeriesService.listByCircle(CircleId.of(circleId));
+    }
+    
+    /**
+     * Get a meeting series
+     */
+    @GetMapping("/{seriesId}")
+    public MeetingSeriesDTO getSeries(@PathVariable String seriesId, @RequestParam String organizationId) {
+        return meetingSeriesService.getSeries(OrganizationId.of(organizationId), MeetingSeriesId.of(seriesId));
+    }
+    
+    /**
+     * End a series; generated meetings after the last date that have not started are cancelled
+     */
+    @PostMapping("/{seriesId}/end")
+    @RequiresCapability(value = Capability.SCHEDULE_MEETINGS, scope = RequiresCapability.Scope.MEETING_SERIES)
+    public MeetingSeriesDTO endSeries(@PathVariable String seriesId,
+                                      @RequestParam String organizationId,
+                                      @Valid @RequestBody EndMeetingSeriesRequest request) {
+        return meetingSeriesService.endSeries(OrganizationId.of(organizationId), MeetingSeriesId.of(seriesId),
+            request.getLastDate());
+    }
+}
@@ -0,0 +1,164 @@
+package com.xholacracy.interfaces.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.application.dto.organization.CloneOrganizationRequest;
+import com.xholacracy.application.dto.organization.ImportOrganizationRequest;
+import com.xholacracy.application.dto.organization.OrganizationImportStatusDTO;
+import com.xholacracy.application.dto.role.DomainClaimCheckRequest;
+import com.xholacracy.application.dto.role.DomainConflictDTO;
+import com.xholacracy.application.dto.sync.ChangeSetDTO;
+import com.xholacracy.application.service.ChangeSyncService;
+import com.xholacracy.application.service.DomainRegistryService;
+import com.xholacracy.application.service.OrganizationExportService;
+import com.xholacracy.application.service.OrganizationImportService;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.infrastructure.security.RequiresCapability;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.util.List;
+
+/**
+ * REST controller for organizations
+ */
+@RestController
+@RequestMapping("/api/v1/organizations")
+public class OrganizationController {
+    
+    private static final String APPLICATION_YAML = "application/yaml";
+    
+    private final ChangeSyncService changeSyncService;
+    private final OrganizationImportService organizationImportService;
+    private final OrganizationExportService organizationExportService;
+    private final DomainRegistryService domainRegistryService;
+    private final ObjectMapper objectMapper;
+    
+    public OrganizationController(ChangeSyncService changeSyncService,
+                                  OrganizationImportService organizationImportService,
+                                  OrganizationExportService organizationExportService,
+                                  DomainRegistryService domainRegistryService,
+                                  ObjectMapper objectMapper) {
+        this.changeSyncService = changeSyncService;
+        this.organizationImportService = organizationImportService;
+        this.organizationExportService = organizationExportService;
+        this.domainRegistryService = domainRegistryService;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Delta sync: circles, roles, assignments, proposals and meetings changed after the given token,
+     * plus tombstones for deleted ones. Start with since=0 to get a full snapshot.
+     */
+    @GetMapping("/{organizationId}/changes")
+    public ChangeSetDTO getChanges(@PathVariable String organizationId,
+                                   @RequestParam(defaultValue = "0") long since,
+                                   @RequestParam(defaultValue = "500") int limit) {
+        return changeSyncService.getChanges(OrganizationId.of(organizationId), since, limit);
+    }
+    
+    /**
+     * Validate a whole organization definition and import it in the background.
+     * Poll the returned import for progress. The import creates a new organization,
+     * so there is no existing circle whose capability could be required.
+     */
+    @PostMapping(value = "/imports", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public OrganizationImportStatusDTO importOrganization(@RequestBody ImportOrganizationRequest request) {
+        return organizationImportService.startImport(request);
+    }
+    
+    /**
+     * Same as the JSON import, for definitions written in YAML.
+     */
+    @PostMapping(value = "/imports", consumes = APPLICATION_YAML)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public OrganizationImportStatusDTO importOrganizationYaml(@RequestBody String definition) {
+        Object parsed;
+        try {
+            parsed = new Yaml(new SafeConstructor(new LoaderOptions())).load(definition);
+        } catch (YAMLException e) {
+            throw new ValidationException("body", "Invalid YAML: " + e.getMessage());
+        }
+        ImportOrganizationRequest request;
+        try {
+            request = objectMapper.convertValue(parsed, ImportOrganizationRequest.class);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("body", "Invalid organization definition: " + e.getMessage());
+        }
+        if (request == null) {
+            throw new ValidationException("body", "Organization definition is empty");
+        }
+        return organizationImportService.startImport(request);
+    }
+    
+    @GetMapping("/imports/{importId}")
+    public OrganizationImportStatusDTO getImport(@PathVariable String importId) {
+        return organizationImportService.getStatus(importId);
+    }
+    
+    /**
+     * Stream the organization's governance structure from a consistent snapshot,
+     * in the same format the import endpoint accepts.
+     */
+    @GetMapping(value = "/{organizationId}/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.ORGANIZATION)
+    public ResponseEntity<StreamingResponseBody> exportOrganization(
+            @PathVariable String organizationId,
+            @RequestParam(defaultValue = "false") boolean includeAssignments) {
+        OrganizationId id = OrganizationId.of(organizationId);
+        organizationExportService.requireOrganization(id);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"organization-" + organizationId + ".json\"")
+            .body(output -> organizationExportService.export(id, includeAssignments, output));
+    }
+    
+    /**
+     * Copy the organization's structure into a new organization with fresh ids, in the background.
+     * Poll the returned import for progress.
+     */
+    @PostMapping("/{organizationId}/clones")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.ORGANIZATION)
+    public OrganizationImportStatusDTO cloneOrganization(@PathVariable String organizationId,
+                                                         @RequestBody CloneOrganizationRequest request) {
+        return organizationImportService.startClone(OrganizationId.of(organizationId), request);
+    }
+    
+    /**
+     * Audit report: every domain claimed by more than one role where at least one claim is exclusive.
+     */
+    @GetMapping("/{organizationId}/domain-conflicts")
+    public List<DomainConflictDTO> getDomainConflicts(@PathVariable String organizationId) {
+        return domainRegistryService.findConflicts(OrganizationId.of(organizationId));
+    }
+    
+    /**
+     * Check domains proposed for a role against the organization's existing claims.
+     * Answers 204 when there is no conflict and 400 listing each conflicting domain otherwise.
+     */
+    @PostMapping("/{organizationId}/domain-claims/validation")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.ORGANIZATION)
+    public void validateDomainClaims(@PathVariable String organizationId,
+                                     @Valid @RequestBody DomainClaimCheckRequest request) {
+        domainRegistryService.validateClaims(OrganizationId.of(organizationId), request);
+    }
+}
@@ -0,0 +1,138 @@
+package com.xholacracy.interfaces.rest;
+
+import com.xholacracy.application.dto.proposal.ObjectionDTO;
+import com.xholacracy.application.dto.proposal.ProposalDTO;
+import com.xholacracy.application.dto.proposal.ProposalSummaryDTO;
+import com.xholacracy.application.dto.proposal.QuestionDTO;
+import com.xholacracy.application.dto.proposal.ReactionDTO;
+import com.xholacracy.application.dto.proposal.VoteDTO;
+import com.xholacracy.application.service.ProposalCommandService;
+import com.xholacracy.application.service.ProposalQueryService;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.infrastructure.ratelimit.RateLimited;
+import com.xholacracy.infrastructure.security.AuthenticatedPartner;
+import com.xholacracy.infrastructure.security.RequiresCapability;
+import jakarta.validation.Valid;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * REST controller for proposals
+ */
+@RestController
+@RequestMapping("/api/v1/proposals")
+public class ProposalController {
+    
+    private final ProposalQueryService proposalQueryService;
+    private final ProposalCommandService proposalCommandService;
+    
+    public ProposalController(ProposalQueryService proposalQueryService,
+                              ProposalCommandService proposalCommandService) {
+        this.proposalQueryService = proposalQueryService;
+        this.proposalCommandService = proposalCommandService;
+    }
+    
+    /**
+     * List an organization's proposal summaries, filtered by circle and/or status
+     */
+    @GetMapping
+    public List<ProposalSummaryDTO> listProposals(@RequestParam String organizationId,
+                                                  @RequestParam(required = false) String circleId,
+                                                  @RequestParam(required = false) ProposalStatus status) {
+        OrganizationId orgId = OrganizationId.of(organizationId);
+        if (circleId != null) {
+            return proposalQueryService.listByCircle(orgId, CircleId.of(circleId), status);
+        }
+        if (status != null) {
+            return proposalQueryService.listByStatus(orgId, status);
+        }
+        throw new ValidationException("circleId", "Either circleId or status must be provided");
+    }
+    
+    /**
+     * Get a proposal with its full decision history.
+     * The organization id selects the storage partition the proposal lives in.
+     * Answers 304 from the version tag alone when If-None-Match matches.
+     */
+    @GetMapping("/{proposalId}")
+    public ProposalDTO getProposal(@PathVariable String proposalId,
+                                   @RequestParam String organizationId,
+                                   WebRequest request) {
+        OrganizationId orgId = OrganizationId.of(organizationId);
+        ProposalId id = ProposalId.of(proposalId);
+        if (request.checkNotModified(proposalQueryService.getVersionTag(orgId, id))) {
+            return null;
+        }
+        return proposalQueryService.getProposal(orgId, id);
+    }
+    
+    /**
+     * Cast the caller's vote
+     */
+    @PostMapping("/{proposalId}/votes")
+    @RateLimited(operation = "vote", aggregate = "proposalId")
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.PROPOSAL)
+    public ProposalDTO castVote(@PathVariable String proposalId,
+                                @RequestParam String organizationId,
+                                @Valid @RequestBody VoteDTO request,
+                                @AuthenticationPrincipal AuthenticatedPartner partner) {
+        return proposalCommandService.castVote(OrganizationId.of(organizationId), ProposalId.of(proposalId),
+            partner.getPartnerId(), request);
+    }
+    
+    /**
+     * Add the caller's reaction during the reaction stage
+     */
+    @PostMapping("/{proposalId}/reactions")
+    @RateLimited(operation = "reaction", aggregate = "proposalId")
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.PROPOSAL)
+    public ProposalDTO addReaction(@PathVariable String proposalId,
+                                   @RequestParam String organizationId,
+                                   @Valid @RequestBody ReactionDTO request,
+                                   @AuthenticationPrincipal AuthenticatedPartner partner) {
+        return proposalCommandService.addReaction(OrganizationId.of(organizationId), ProposalId.of(proposalId),
+            partner.getPartnerId(), request);
+    }
+    
+    /**
+     * Raise the caller's objection during the objection stage
+     */
+    @PostMapping("/{proposalId}/objections")
+    @RateLimited(operation = "objection", aggregate = "proposalId")
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.PROPOSAL)
+    public ProposalDTO raiseObjection(@PathVariable String proposalId,
+                                      @RequestParam String organizationId,
+                                      @Valid @RequestBody ObjectionDTO request,
+                                      @AuthenticationPrincipal AuthenticatedPartner partner) {
+        return proposalCommandService.raiseObjection(OrganizationId.of(organizationId), ProposalId.of(proposalId),
+            partner.getPartnerId(), request);
+    }
+    
+    /**
+     * Ask a clarifying question during the clarification stage
+     */
+    @PostMapping("/{proposalId}/questions")
+    @RateLimited(operation = "question", aggregate = "proposalId")
+    @RequiresCapability(value = Capability.MEMBER, scope = RequiresCapability.Scope.PROPOSAL)
+    public ProposalDTO askQuestion(@PathVariable String proposalId,
+                                   @RequestParam String organizationId,
+                                   @Valid @RequestBody QuestionDTO request,
+                                   @AuthenticationPrincipal AuthenticatedPartner partner) {
+        return proposalCommandService.askQuestion(OrganizationId.of(organizationId), ProposalId.of(proposalId),
+            partner.getPartnerId(), request);
+    }
+}
@@ -0,0 +1,26 @@
+-- Live meeting sessions
+-- Version: 10.0
+-- Description: An in-progress meeting is held in memory by one node; commands are journaled locally
+--              and written back to governance_meetings in coalesced batches
+
+-- ============================================================================
+-- LIVE MEETING SESSIONS TABLE
+-- One row per open session. The owning node renews lease_until whenever it flushes; another node may
+-- take the session over once the lease has expired. flushed_sequence is the last journaled command
+-- already written to governance_meetings, so a recovering node replays only the commands after it
+-- ============================================================================
+CREATE TABLE live_meeting_sessions (
+    meeting_id VARCHAR(255) PRIMARY KEY,
+    organization_id VARCHAR(255) NOT NULL,
+    owner_node VARCHAR(100) NOT NULL,
+    flushed_sequence BIGINT NOT NULL DEFAULT 0,
+    lease_until TIMESTAMP NOT NULL,
+    opened_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (organization_id, meeting_id) REFERENCES governance_meetings(organization_id, id) ON DELETE CASCADE
+);
+
+-- ============================================================================
+-- INDEXES
+-- ============================================================================
+CREATE INDEX idx_live_meeting_sessions_owner ON live_meeting_sessions(owner_node);
@@ -0,0 +1,63 @@
+-- Stable keys for meeting child rows
+-- Version: 11.0
+-- Description: Participants, attendance, agenda items and proposal outcomes are keyed per element, so adding,
+--              removing or changing one element writes one row instead of rewriting the meeting's collection
+
+-- ============================================================================
+-- PARTICIPANTS AND ATTENDANCE
+-- Keyed by partner; order_index keeps the order in which partners were added. Existing rows are numbered
+-- in their physical order, which is the order the collection was last written in
+-- ============================================================================
+DELETE FROM meeting_attendance a
+USING meeting_attendance b
+WHERE a.organization_id = b.organization_id AND a.meeting_id = b.meeting_id AND a.partner_id = b.partner_id
+  AND a.tableoid = b.tableoid AND a.ctid > b.ctid;
+
+ALTER TABLE meeting_participants ADD COLUMN order_index INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE meeting_attendance ADD COLUMN order_index INTEGER NOT NULL DEFAULT 0;
+
+UPDATE meeting_participants p SET order_index = n.position
+FROM (
+    SELECT organization_id, meeting_id, partner_id,
+           row_number() OVER (PARTITION BY organization_id, meeting_id ORDER BY ctid) - 1 AS position
+    FROM meeting_participants
+) n
+WHERE p.organization_id = n.organization_id AND p.meeting_id = n.meeting_id AND p.partner_id = n.partner_id;
+
+UPDATE meeting_attendance a SET order_index = n.position
+FROM (
+    SELECT organization_id, meeting_id, partner_id,
+           row_number() OVER (PARTITION BY organization_id, meeting_id ORDER BY ctid) - 1 AS position
+    FROM meeting_attendance
+) n
+WHERE a.organization_id = n.organization_id AND a.meeting_id = n.meeting_id AND a.partner_id = n.partner_id;
+
+ALTER TABLE meeting_participants ALTER COLUMN order_index DROP DEFAULT;
+ALTER TABLE meeting_attendance ALTER COLUMN order_index DROP DEFAULT;
+ALTER TABLE meeting_attendance ADD PRIMARY KEY (organization_id, meeting_id, partner_id);
+
+-- ============================================================================
+-- PROPOSAL OUTCOMES
+-- One outcome per proposal and meeting; the most recently written row wins
+-- ============================================================================
+DELETE FROM meeting_proposal_outcomes a
+USING meeting_proposal_outcomes b
+WHERE a.organization_id = b.organization_id AND a.meeting_id = b.meeting_id AND a.proposal_id = b.proposal_id
+  AND a.tableoid = b.tableoid AND a.ctid < b.ctid;
+
+ALTER TABLE meeting_proposal_outcomes ADD PRIMARY KEY (organization_id, meeting_id, proposal_id);
+
+-- ============================================================================
+-- AGENDA ITEMS
+-- Each proposal appears at most once on a meeting's agenda
+-- ============================================================================
+ALTER TABLE meeting_agenda_items ALTER COLUMN proposal_id SET NOT NULL;
+CREATE UNIQUE INDEX uk_agenda_items_meeting_proposal ON meeting_agenda_items(organization_id, meeting_id, proposal_id);
+
+-- ============================================================================
+-- INDEXES
+-- The new keys lead with (organization_id, meeting_id) and replace the plain meeting indexes
+-- ============================================================================
+DROP INDEX idx_agenda_items_meeting_id;
+DROP INDEX idx_meeting_attendance_meeting_id;
+DROP INDEX idx_meeting_outcomes_meeting_id;
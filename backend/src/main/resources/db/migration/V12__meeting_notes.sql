@@ -0,0 +1,40 @@
+-- Append-only meeting notes
+-- Version: 12.0
+-- Description: Notes taken during a meeting are stored one row per entry with their author and time, so adding
+--              a note inserts one row instead of rewriting a single bounded column
+
+-- ============================================================================
+-- MEETING NOTES TABLE
+-- entry_index is the position of the note in the meeting's log; author_id is NULL for migrated notes
+-- ============================================================================
+CREATE TABLE meeting_notes (
+    organization_id VARCHAR(255) NOT NULL,
+    meeting_id VARCHAR(255) NOT NULL,
+    entry_index INTEGER NOT NULL,
+    content TEXT NOT NULL,
+    author_id VARCHAR(255),
+    recorded_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (organization_id, meeting_id, entry_index),
+    FOREIGN KEY (organization_id, meeting_id) REFERENCES governance_meetings(organization_id, id) ON DELETE CASCADE,
+    FOREIGN KEY (author_id) REFERENCES partners(id)
+) PARTITION BY HASH (organization_id);
+
+-- 16 partitions, matching the other meeting child tables
+DO $$
+BEGIN
+    FOR remainder IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF meeting_notes FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+            'meeting_notes_p' || lpad(remainder::TEXT, 2, '0'), remainder);
+    END LOOP;
+END $$;
+
+-- ============================================================================
+-- COPY EXISTING NOTES
+-- The concatenated notes of each meeting become its first entry
+-- ============================================================================
+INSERT INTO meeting_notes (organization_id, meeting_id, entry_index, content, author_id, recorded_at)
+SELECT organization_id, id, 0, additional_notes, NULL, COALESCE(actual_start_time, scheduled_date)
+FROM governance_meetings
+WHERE additional_notes IS NOT NULL AND additional_notes <> '';
+
+ALTER TABLE governance_meetings DROP COLUMN additional_notes;
@@ -0,0 +1,28 @@
+-- Organization scope for the proposal summary read model
+-- Version: 13.0
+-- Description: proposal_summary carries the proposal's organization so list queries cannot return
+--              summaries of other organizations
+
+-- ============================================================================
+-- ORGANIZATION COLUMN
+-- Resolved through the circle, which also covers summaries of archived proposals
+-- ============================================================================
+ALTER TABLE proposal_summary ADD COLUMN organization_id VARCHAR(255);
+
+UPDATE proposal_summary s SET organization_id = c.organization_id
+FROM circles c
+WHERE c.id = s.circle_id;
+
+-- Summaries whose circle no longer exists cannot be listed by any organization
+DELETE FROM proposal_summary WHERE organization_id IS NULL;
+
+ALTER TABLE proposal_summary ALTER COLUMN organization_id SET NOT NULL;
+ALTER TABLE proposal_summary ADD FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE;
+
+-- ============================================================================
+-- INDEXES
+-- Status lists are scoped to one organization; the unscoped status index stays for the archiver,
+-- which ages terminal proposals across all organizations
+-- ============================================================================
+CREATE INDEX idx_proposal_summary_org_status_activity
+    ON proposal_summary(organization_id, status, last_event_at DESC);
@@ -0,0 +1,9 @@
+-- Change sequences for every organization
+-- Version: 14.0
+-- Description: The sequence row is now written when an organization is created and the change log only
+--              locks it. Organizations created since V4 that have not been written to yet have no row.
+
+INSERT INTO organization_change_sequences (organization_id, last_sequence)
+SELECT o.id, 0
+FROM organizations o
+WHERE NOT EXISTS (SELECT 1 FROM organization_change_sequences s WHERE s.organization_id = o.id);
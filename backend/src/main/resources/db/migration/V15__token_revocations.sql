@@ -0,0 +1,23 @@
+-- Persisted bearer token revocations
+-- Version: 15.0
+-- Description: Revocations are written to a shared table so that every instance rejects a revoked
+--              token, not only the instance that received the revocation request
+
+-- ============================================================================
+-- TOKEN REVOCATIONS TABLE
+-- kind TOKEN: subject is the token id (jti), the row is kept until the token itself expires.
+-- kind PARTNER: subject is the partner id, tokens issued at or before revoked_at are rejected;
+-- the row is kept for the longest token lifetime after revoked_at
+-- ============================================================================
+CREATE TABLE token_revocations (
+    kind VARCHAR(16) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    revoked_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (kind, subject)
+);
+
+-- ============================================================================
+-- INDEXES
+-- ============================================================================
+CREATE INDEX idx_token_revocations_expires_at ON token_revocations(expires_at);
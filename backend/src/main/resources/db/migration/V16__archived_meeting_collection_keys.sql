@@ -0,0 +1,51 @@
+-- Archived meeting documents in the keyed collection format
+-- Version: 16.0
+-- Description: V11 keyed the meeting child collections; meetings archived before it still hold the old
+--              list format in archived_aggregates and are rewritten here so that they decode again.
+--              Participants and attendees become {partnerId, orderIndex} entries in list order,
+--              agenda items and proposal outcomes become objects keyed by proposal id
+
+-- ============================================================================
+-- PARTICIPANTS AND ATTENDEES
+-- An old entry is a bare partner id ({"value": ...}); repeated partners keep their first position
+-- ============================================================================
+UPDATE archived_aggregates a
+SET document = jsonb_set(a.document, '{participants}', (
+    SELECT COALESCE(jsonb_agg(jsonb_build_object('partnerId', p.elem, 'orderIndex', p.ord - 1) ORDER BY p.ord),
+                    '[]'::jsonb)
+    FROM (
+        SELECT elem, MIN(ord) AS ord
+        FROM jsonb_array_elements(a.document->'participants') WITH ORDINALITY AS e(elem, ord)
+        GROUP BY elem
+    ) p))
+WHERE a.aggregate_type = 'MEETING'
+  AND a.document->'participants'->0->'value' IS NOT NULL;
+
+UPDATE archived_aggregates a
+SET document = jsonb_set(a.document, '{meetingRecord,attendees}', (
+    SELECT COALESCE(jsonb_agg(jsonb_build_object('partnerId', p.elem, 'orderIndex', p.ord - 1) ORDER BY p.ord),
+                    '[]'::jsonb)
+    FROM (
+        SELECT elem, MIN(ord) AS ord
+        FROM jsonb_array_elements(a.document->'meetingRecord'->'attendees') WITH ORDINALITY AS e(elem, ord)
+        GROUP BY elem
+    ) p))
+WHERE a.aggregate_type = 'MEETING'
+  AND a.document->'meetingRecord'->'attendees'->0->'value' IS NOT NULL;
+
+-- ============================================================================
+-- AGENDA ITEMS AND PROPOSAL OUTCOMES
+-- ============================================================================
+UPDATE archived_aggregates a
+SET document = jsonb_set(a.document, '{agenda,items}', (
+    SELECT COALESCE(jsonb_object_agg(i.elem->'proposalId'->>'value', i.elem), '{}'::jsonb)
+    FROM jsonb_array_elements(a.document->'agenda'->'items') AS i(elem)))
+WHERE a.aggregate_type = 'MEETING'
+  AND jsonb_typeof(a.document->'agenda'->'items') = 'array';
+
+UPDATE archived_aggregates a
+SET document = jsonb_set(a.document, '{meetingRecord,proposalOutcomes}', (
+    SELECT COALESCE(jsonb_object_agg(o.elem->'proposalId'->>'value', o.elem), '{}'::jsonb)
+    FROM jsonb_array_elements(a.document->'meetingRecord'->'proposalOutcomes') AS o(elem)))
+WHERE a.aggregate_type = 'MEETING'
+  AND jsonb_typeof(a.document->'meetingRecord'->'proposalOutcomes') = 'array';
@@ -0,0 +1,20 @@
+-- Archived meeting notes in the note log format
+-- Version: 17.0
+-- Description: V12 moved additional_notes into meeting_notes for meetings in the hot tables only; meetings
+--              archived before it still hold meetingRecord.additionalNotes in archived_aggregates.
+--              As in V12, the text becomes the first entry of the note log, with no author, recorded at
+--              the meeting's actual start time or else its scheduled date
+
+UPDATE archived_aggregates a
+SET document = jsonb_set(a.document, '{meetingRecord}',
+    ((a.document->'meetingRecord') - 'additionalNotes') || jsonb_build_object('notes',
+        CASE
+            WHEN COALESCE(a.document->'meetingRecord'->>'additionalNotes', '') = '' THEN '[]'::jsonb
+            ELSE jsonb_build_array(jsonb_build_object(
+                'content', a.document->'meetingRecord'->'additionalNotes',
+                'authorId', NULL,
+                'recordedAt', COALESCE(NULLIF(a.document->'actualStartTime', 'null'::jsonb),
+                                       a.document->'scheduledDate')))
+        END))
+WHERE a.aggregate_type = 'MEETING'
+  AND a.document->'meetingRecord'->'additionalNotes' IS NOT NULL;
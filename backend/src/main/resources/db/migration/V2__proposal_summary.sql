@@ -0,0 +1,63 @@
+-- Proposal summary read model
+-- Version: 2.0
+-- Description: Denormalized proposal_summary projection maintained from proposal change events
+
+-- ============================================================================
+-- PROPOSAL SUMMARY TABLE
+-- ============================================================================
+CREATE TABLE proposal_summary (
+    proposal_id VARCHAR(255) PRIMARY KEY,
+    circle_id VARCHAR(255) NOT NULL,
+    proposer_id VARCHAR(255) NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    proposal_type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    approve_count INTEGER NOT NULL DEFAULT 0,
+    object_count INTEGER NOT NULL DEFAULT 0,
+    abstain_count INTEGER NOT NULL DEFAULT 0,
+    objection_count INTEGER NOT NULL DEFAULT 0,
+    question_count INTEGER NOT NULL DEFAULT 0,
+    reaction_count INTEGER NOT NULL DEFAULT 0,
+    last_event_type VARCHAR(50) NOT NULL,
+    last_event_at TIMESTAMP NOT NULL,
+    created_date TIMESTAMP NOT NULL
+);
+
+-- List and filter queries are served by a single index range scan
+CREATE INDEX idx_proposal_summary_circle_status ON proposal_summary(circle_id, status, last_event_at DESC);
+CREATE INDEX idx_proposal_summary_circle_activity ON proposal_summary(circle_id, last_event_at DESC);
+CREATE INDEX idx_proposal_summary_status_activity ON proposal_summary(status, last_event_at DESC);
+
+-- ============================================================================
+-- BACKFILL FROM EXISTING PROPOSALS
+-- ============================================================================
+INSERT INTO proposal_summary (
+    proposal_id, circle_id, proposer_id, title, proposal_type, status,
+    approve_count, object_count, abstain_count,
+    objection_count, question_count, reaction_count,
+    last_event_type, last_event_at, created_date
+)
+SELECT
+    p.id,
+    p.circle_id,
+    p.proposer_id,
+    p.title,
+    p.proposal_type,
+    p.status,
+    (SELECT COUNT(*) FROM votes v WHERE v.proposal_id = p.id AND v.vote_type = 'APPROVE'),
+    (SELECT COUNT(*) FROM votes v WHERE v.proposal_id = p.id AND v.vote_type = 'OBJECT'),
+    (SELECT COUNT(*) FROM votes v WHERE v.proposal_id = p.id AND v.vote_type = 'ABSTAIN'),
+    (SELECT COUNT(*) FROM objections o WHERE o.proposal_id = p.id),
+    (SELECT COUNT(*) FROM questions q WHERE q.proposal_id = p.id),
+    (SELECT COUNT(*) FROM reactions r WHERE r.proposal_id = p.id),
+    COALESCE(last_event.event_type, 'PROPOSAL_CREATED'),
+    COALESCE(last_event.timestamp, p.created_date),
+    p.created_date
+FROM proposals p
+LEFT JOIN LATERAL (
+    SELECT de.event_type, de.timestamp
+    FROM decision_events de
+    WHERE de.proposal_id = p.id
+    ORDER BY de.timestamp DESC, de.id DESC
+    LIMIT 1
+) last_event ON TRUE;
@@ -0,0 +1,8 @@
+-- Aggregate versions
+-- Version: 3.0
+-- Description: Optimistic lock versions used as the source of HTTP ETags
+
+ALTER TABLE circles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE roles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE proposals ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE governance_meetings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
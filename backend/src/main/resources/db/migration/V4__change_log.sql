@@ -0,0 +1,57 @@
+-- Organization change log
+-- Version: 4.0
+-- Description: Per-organization change sequence and change log backing delta sync
+
+-- ============================================================================
+-- ORGANIZATION CHANGE SEQUENCES TABLE
+-- ============================================================================
+CREATE TABLE organization_change_sequences (
+    organization_id VARCHAR(255) PRIMARY KEY,
+    last_sequence BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE
+);
+
+-- ============================================================================
+-- CHANGE LOG TABLE
+-- One row per entity carrying its latest change; deleted rows stay as tombstones
+-- ============================================================================
+CREATE TABLE change_log (
+    id BIGSERIAL PRIMARY KEY,
+    organization_id VARCHAR(255) NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id VARCHAR(255) NOT NULL,
+    change_sequence BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE,
+    CONSTRAINT uk_change_log_entity UNIQUE (organization_id, entity_type, entity_id)
+);
+
+CREATE INDEX idx_change_log_org_sequence ON change_log(organization_id, change_sequence);
+
+-- ============================================================================
+-- BACKFILL
+-- Existing entities are recorded at sequence 1 so that since=0 returns a full snapshot
+-- ============================================================================
+INSERT INTO change_log (organization_id, entity_type, entity_id, change_sequence)
+SELECT c.organization_id, 'CIRCLE', c.id, 1 FROM circles c;
+
+INSERT INTO change_log (organization_id, entity_type, entity_id, change_sequence)
+SELECT c.organization_id, 'ROLE', r.id, 1
+FROM roles r JOIN circles c ON c.id = r.circle_id;
+
+INSERT INTO change_log (organization_id, entity_type, entity_id, change_sequence)
+SELECT c.organization_id, 'ROLE_ASSIGNMENT', CAST(a.id AS VARCHAR(255)), 1
+FROM role_assignments a JOIN roles r ON r.id = a.role_id JOIN circles c ON c.id = r.circle_id;
+
+INSERT INTO change_log (organization_id, entity_type, entity_id, change_sequence)
+SELECT c.organization_id, 'PROPOSAL', p.id, 1
+FROM proposals p JOIN circles c ON c.id = p.circle_id;
+
+INSERT INTO change_log (organization_id, entity_type, entity_id, change_sequence)
+SELECT c.organization_id, 'MEETING', m.id, 1
+FROM governance_meetings m JOIN circles c ON c.id = m.circle_id;
+
+INSERT INTO organization_change_sequences (organization_id, last_sequence)
+SELECT id, CASE WHEN EXISTS (SELECT 1 FROM change_log l WHERE l.organization_id = o.id) THEN 1 ELSE 0 END
+FROM organizations o;
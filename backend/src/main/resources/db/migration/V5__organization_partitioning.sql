@@ -0,0 +1,318 @@
+-- Organization partitioning
+-- Version: 5.0
+-- Description: Hash-partition proposals, decision events and meetings by organization_id,
+--              carry organization_id on every proposal and meeting child row, and realign
+--              columns with the entity mappings
+
+-- ============================================================================
+-- SET ASIDE THE TABLES THAT ARE REBUILT AS PARTITIONED TABLES
+-- ============================================================================
+DROP TRIGGER update_proposals_updated_at ON proposals;
+DROP TRIGGER update_meetings_updated_at ON governance_meetings;
+
+ALTER TABLE proposals RENAME TO proposals_old;
+ALTER TABLE decision_events RENAME TO decision_events_old;
+ALTER TABLE governance_meetings RENAME TO governance_meetings_old;
+ALTER TABLE meeting_participants RENAME TO meeting_participants_old;
+ALTER TABLE meeting_agenda_items RENAME TO meeting_agenda_items_old;
+
+-- ============================================================================
+-- PROPOSALS TABLE
+-- The partition key is part of every primary and foreign key, so a lookup by
+-- (organization_id, id) touches a single partition
+-- ============================================================================
+CREATE TABLE proposals (
+    organization_id VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    tension_description TEXT,
+    tension_current_state TEXT,
+    tension_desired_state TEXT,
+    tension_context TEXT,
+    proposal_type VARCHAR(50) NOT NULL,
+    circle_id VARCHAR(255) NOT NULL,
+    proposer_id VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    submitted_date TIMESTAMP,
+    min_approve_votes INTEGER,
+    max_object_votes INTEGER,
+    min_approve_percentage INTEGER,
+    requires_unanimous BOOLEAN,
+    time_limit_hours BIGINT,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (organization_id, id),
+    FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE,
+    FOREIGN KEY (circle_id) REFERENCES circles(id) ON DELETE CASCADE,
+    FOREIGN KEY (proposer_id) REFERENCES partners(id)
+) PARTITION BY HASH (organization_id);
+
+-- ============================================================================
+-- DECISION EVENTS TABLE
+-- ============================================================================
+CREATE TABLE decision_events (
+    organization_id VARCHAR(255) NOT NULL,
+    id BIGINT NOT NULL DEFAULT nextval('decision_events_id_seq'),
+    proposal_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    actor_id VARCHAR(255),
+    content TEXT,
+    PRIMARY KEY (organization_id, id),
+    FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id) ON DELETE CASCADE,
+    FOREIGN KEY (actor_id) REFERENCES partners(id)
+) PARTITION BY HASH (organization_id);
+
+ALTER SEQUENCE decision_events_id_seq OWNED BY decision_events.id;
+
+-- ============================================================================
+-- GOVERNANCE MEETINGS TABLE
+-- Duration is stored in nanoseconds, matching Hibernate's default Duration mapping
+-- ============================================================================
+CREATE TABLE governance_meetings (
+    organization_id VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    circle_id VARCHAR(255) NOT NULL,
+    scheduled_date TIMESTAMP NOT NULL,
+    duration NUMERIC(21, 0) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    facilitator_id VARCHAR(255),
+    secretary_id VARCHAR(255),
+    actual_start_time TIMESTAMP,
+    actual_end_time TIMESTAMP,
+    check_in_notes VARCHAR(2000),
+    additional_notes VARCHAR(5000),
+    closing_notes VARCHAR(2000),
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (organization_id, id),
+    FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE,
+    FOREIGN KEY (circle_id) REFERENCES circles(id) ON DELETE CASCADE,
+    FOREIGN KEY (facilitator_id) REFERENCES partners(id),
+    FOREIGN KEY (secretary_id) REFERENCES partners(id)
+) PARTITION BY HASH (organization_id);
+
+-- ============================================================================
+-- MEETING PARTICIPANTS TABLE
+-- ============================================================================
+CREATE TABLE meeting_participants (
+    organization_id VARCHAR(255) NOT NULL,
+    meeting_id VARCHAR(255) NOT NULL,
+    partner_id VARCHAR(255) NOT NULL,
+    PRIMARY KEY (organization_id, meeting_id, partner_id),
+    FOREIGN KEY (organization_id, meeting_id) REFERENCES governance_meetings(organization_id, id) ON DELETE CASCADE,
+    FOREIGN KEY (partner_id) REFERENCES partners(id)
+) PARTITION BY HASH (organization_id);
+
+-- ============================================================================
+-- MEETING AGENDA ITEMS TABLE
+-- ============================================================================
+CREATE TABLE meeting_agenda_items (
+    organization_id VARCHAR(255) NOT NULL,
+    id BIGINT NOT NULL DEFAULT nextval('meeting_agenda_items_id_seq'),
+    meeting_id VARCHAR(255) NOT NULL,
+    proposal_id VARCHAR(255),
+    order_index INTEGER NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    notes TEXT,
+    PRIMARY KEY (organization_id, id),
+    FOREIGN KEY (organization_id, meeting_id) REFERENCES governance_meetings(organization_id, id) ON DELETE CASCADE,
+    FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id)
+) PARTITION BY HASH (organization_id);
+
+ALTER SEQUENCE meeting_agenda_items_id_seq OWNED BY meeting_agenda_items.id;
+
+-- ============================================================================
+-- MEETING ATTENDANCE TABLE
+-- ============================================================================
+CREATE TABLE meeting_attendance (
+    organization_id VARCHAR(255) NOT NULL,
+    meeting_id VARCHAR(255) NOT NULL,
+    partner_id VARCHAR(255) NOT NULL,
+    FOREIGN KEY (organization_id, meeting_id) REFERENCES governance_meetings(organization_id, id) ON DELETE CASCADE,
+    FOREIGN KEY (partner_id) REFERENCES partners(id)
+) PARTITION BY HASH (organization_id);
+
+-- ============================================================================
+-- MEETING PROPOSAL OUTCOMES TABLE
+-- ============================================================================
+CREATE TABLE meeting_proposal_outcomes (
+    organization_id VARCHAR(255) NOT NULL,
+    meeting_id VARCHAR(255) NOT NULL,
+    proposal_id VARCHAR(255) NOT NULL,
+    outcome VARCHAR(50) NOT NULL,
+    final_status VARCHAR(50),
+    notes TEXT,
+    processed_at TIMESTAMP,
+    FOREIGN KEY (organization_id, meeting_id) REFERENCES governance_meetings(organization_id, id) ON DELETE CASCADE,
+    FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id)
+) PARTITION BY HASH (organization_id);
+
+-- ============================================================================
+-- HASH PARTITIONS
+-- 16 partitions per table; the same organization always maps to the same
+-- remainder, so a proposal or meeting and all of its child rows share one bucket
+-- ============================================================================
+DO $$
+DECLARE
+    parent TEXT;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY[
+        'proposals', 'decision_events', 'governance_meetings', 'meeting_participants',
+        'meeting_agenda_items', 'meeting_attendance', 'meeting_proposal_outcomes'
+    ] LOOP
+        FOR remainder IN 0..15 LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+                parent || '_p' || lpad(remainder::TEXT, 2, '0'), parent, remainder);
+        END LOOP;
+    END LOOP;
+END $$;
+
+-- ============================================================================
+-- COPY EXISTING ROWS, RESOLVING THE ORGANIZATION THROUGH THE CIRCLE
+-- ============================================================================
+INSERT INTO proposals (
+    organization_id, id, title, tension_description, tension_current_state, tension_desired_state,
+    tension_context, proposal_type, circle_id, proposer_id, status, created_date, submitted_date,
+    version, updated_at
+)
+SELECT c.organization_id, p.id, p.title, p.tension_description, p.tension_current_state, p.tension_desired_state,
+       p.tension_context, p.proposal_type, p.circle_id, p.proposer_id, p.status, p.created_date, p.submitted_date,
+       p.version, p.updated_at
+FROM proposals_old p JOIN circles c ON c.id = p.circle_id;
+
+INSERT INTO decision_events (organization_id, id, proposal_id, event_type, timestamp, actor_id, content)
+SELECT p.organization_id, e.id, e.proposal_id, e.event_type, e.timestamp, e.actor_id, e.content
+FROM decision_events_old e JOIN proposals p ON p.id = e.proposal_id;
+
+INSERT INTO governance_meetings (
+    organization_id, id, circle_id, scheduled_date, duration, status, facilitator_id, secretary_id,
+    check_in_notes, additional_notes, closing_notes, version, created_at, updated_at
+)
+SELECT c.organization_id, m.id, m.circle_id, m.scheduled_date, m.duration, m.status, m.facilitator_id, m.secretary_id,
+       r.check_in_notes, r.additional_notes, r.closing_notes, m.version, m.created_at, m.updated_at
+FROM governance_meetings_old m
+JOIN circles c ON c.id = m.circle_id
+LEFT JOIN meeting_records r ON r.meeting_id = m.id;
+
+INSERT INTO meeting_participants (organization_id, meeting_id, partner_id)
+SELECT m.organization_id, mp.meeting_id, mp.partner_id
+FROM meeting_participants_old mp JOIN governance_meetings m ON m.id = mp.meeting_id;
+
+INSERT INTO meeting_agenda_items (organization_id, id, meeting_id, proposal_id, order_index, status)
+SELECT m.organization_id, a.id, a.meeting_id, a.proposal_id, a.order_index, a.status
+FROM meeting_agenda_items_old a JOIN governance_meetings m ON m.id = a.meeting_id;
+
+INSERT INTO meeting_proposal_outcomes (organization_id, meeting_id, proposal_id, outcome, notes)
+SELECT m.organization_id, r.meeting_id, o.proposal_id, o.outcome, o.notes
+FROM proposal_outcomes o
+JOIN meeting_records r ON r.id = o.meeting_record_id
+JOIN governance_meetings m ON m.id = r.meeting_id;
+
+-- Meeting records are embedded in governance_meetings; the old tables were never mapped
+DROP TABLE proposal_outcomes;
+DROP TABLE meeting_records;
+DROP TABLE meeting_agenda_items_old;
+DROP TABLE meeting_participants_old;
+DROP TABLE governance_meetings_old;
+DROP TABLE decision_events_old;
+DROP TABLE proposals_old CASCADE;
+
+-- ============================================================================
+-- UNPARTITIONED PROPOSAL CHILD TABLES
+-- Low-volume children stay unpartitioned but reference the proposal by its full key
+-- ============================================================================
+CREATE TABLE required_approvers (
+    organization_id VARCHAR(255) NOT NULL,
+    proposal_id VARCHAR(255) NOT NULL,
+    approver_id VARCHAR(255),
+    FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id) ON DELETE CASCADE
+);
+
+ALTER TABLE tension_examples ADD COLUMN organization_id VARCHAR(255);
+ALTER TABLE questions ADD COLUMN organization_id VARCHAR(255);
+ALTER TABLE reactions ADD COLUMN organization_id VARCHAR(255);
+ALTER TABLE amendments ADD COLUMN organization_id VARCHAR(255);
+ALTER TABLE amendments ADD COLUMN reason TEXT;
+ALTER TABLE objections ADD COLUMN organization_id VARCHAR(255);
+ALTER TABLE votes ADD COLUMN organization_id VARCHAR(255);
+
+UPDATE tension_examples t SET organization_id = p.organization_id FROM proposals p WHERE p.id = t.proposal_id;
+UPDATE questions q SET organization_id = p.organization_id FROM proposals p WHERE p.id = q.proposal_id;
+UPDATE reactions r SET organization_id = p.organization_id FROM proposals p WHERE p.id = r.proposal_id;
+UPDATE amendments a SET organization_id = p.organization_id FROM proposals p WHERE p.id = a.proposal_id;
+UPDATE objections o SET organization_id = p.organization_id FROM proposals p WHERE p.id = o.proposal_id;
+UPDATE votes v SET organization_id = p.organization_id FROM proposals p WHERE p.id = v.proposal_id;
+
+ALTER TABLE tension_examples ALTER COLUMN organization_id SET NOT NULL,
+    ADD FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id) ON DELETE CASCADE;
+ALTER TABLE questions ALTER COLUMN organization_id SET NOT NULL,
+    ADD FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id) ON DELETE CASCADE;
+ALTER TABLE reactions ALTER COLUMN organization_id SET NOT NULL,
+    ADD FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id) ON DELETE CASCADE;
+ALTER TABLE amendments ALTER COLUMN organization_id SET NOT NULL,
+    ADD FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id) ON DELETE CASCADE;
+ALTER TABLE objections ALTER COLUMN organization_id SET NOT NULL,
+    ADD FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id) ON DELETE CASCADE;
+ALTER TABLE votes ALTER COLUMN organization_id SET NOT NULL,
+    ADD FOREIGN KEY (organization_id, proposal_id) REFERENCES proposals(organization_id, id) ON DELETE CASCADE;
+
+DROP INDEX idx_tension_examples_proposal_id;
+DROP INDEX idx_questions_proposal_id;
+DROP INDEX idx_reactions_proposal_id;
+DROP INDEX idx_amendments_proposal_id;
+DROP INDEX idx_objections_proposal_id;
+DROP INDEX idx_votes_proposal_id;
+
+-- ============================================================================
+-- INDEXES
+-- Every index leads with organization_id so organization-scoped queries prune
+-- to one partition before the index is used
+-- ============================================================================
+CREATE INDEX idx_proposals_circle_status ON proposals(organization_id, circle_id, status);
+CREATE INDEX idx_proposals_proposer_id ON proposals(organization_id, proposer_id);
+CREATE INDEX idx_proposals_created_date ON proposals(organization_id, created_date DESC);
+CREATE INDEX idx_decision_events_proposal_id ON decision_events(organization_id, proposal_id, timestamp);
+CREATE INDEX idx_meetings_circle_date ON governance_meetings(organization_id, circle_id, scheduled_date DESC);
+CREATE INDEX idx_meetings_status ON governance_meetings(organization_id, status);
+CREATE INDEX idx_meetings_facilitator_id ON governance_meetings(organization_id, facilitator_id);
+CREATE INDEX idx_meetings_secretary_id ON governance_meetings(organization_id, secretary_id);
+CREATE INDEX idx_meeting_participants_partner_id ON meeting_participants(partner_id);
+CREATE INDEX idx_agenda_items_meeting_id ON meeting_agenda_items(organization_id, meeting_id);
+CREATE INDEX idx_agenda_items_proposal_id ON meeting_agenda_items(organization_id, proposal_id);
+CREATE INDEX idx_meeting_attendance_meeting_id ON meeting_attendance(organization_id, meeting_id);
+CREATE INDEX idx_meeting_outcomes_meeting_id ON meeting_proposal_outcomes(organization_id, meeting_id);
+CREATE INDEX idx_required_approvers_proposal_id ON required_approvers(organization_id, proposal_id);
+CREATE INDEX idx_tension_examples_proposal_id ON tension_examples(organization_id, proposal_id);
+CREATE INDEX idx_questions_proposal_id ON questions(organization_id, proposal_id);
+CREATE INDEX idx_reactions_proposal_id ON reactions(organization_id, proposal_id);
+CREATE INDEX idx_amendments_proposal_id ON amendments(organization_id, proposal_id);
+CREATE INDEX idx_objections_proposal_id ON objections(organization_id, proposal_id);
+CREATE INDEX idx_votes_proposal_id ON votes(organization_id, proposal_id);
+
+-- ============================================================================
+-- TRIGGERS FOR UPDATED_AT
+-- ============================================================================
+CREATE TRIGGER update_proposals_updated_at BEFORE UPDATE ON proposals
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+CREATE TRIGGER update_meetings_updated_at BEFORE UPDATE ON governance_meetings
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- ============================================================================
+-- REMAINING COLUMNS EXPECTED BY THE ENTITY MAPPINGS
+-- ============================================================================
+ALTER TABLE circles ADD COLUMN circle_lead_role_id VARCHAR(255);
+ALTER TABLE circles ADD COLUMN circle_rep_role_id VARCHAR(255);
+ALTER TABLE circles ADD COLUMN facilitator_role_id VARCHAR(255);
+ALTER TABLE circles ADD COLUMN secretary_role_id VARCHAR(255);
+
+-- Domain and assignment ids are generated as UUID strings by the application
+ALTER TABLE domains ALTER COLUMN id DROP DEFAULT, ALTER COLUMN id TYPE VARCHAR(255) USING id::VARCHAR;
+DROP SEQUENCE domains_id_seq;
+ALTER TABLE role_assignments ALTER COLUMN id DROP DEFAULT, ALTER COLUMN id TYPE VARCHAR(255) USING id::VARCHAR;
+DROP SEQUENCE role_assignments_id_seq;
@@ -0,0 +1,29 @@
+-- Cold archive tier
+-- Version: 6.0
+-- Description: Terminal proposals and meetings past the retention age move out of the hot tables
+--              into one JSONB document per aggregate
+
+-- ============================================================================
+-- ARCHIVED AGGREGATES TABLE
+-- Documents above the TOAST threshold are stored compressed by PostgreSQL
+-- ============================================================================
+CREATE TABLE archived_aggregates (
+    aggregate_type VARCHAR(50) NOT NULL,
+    organization_id VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    circle_id VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    version_tag VARCHAR(100) NOT NULL,
+    document JSONB NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (aggregate_type, organization_id, id),
+    FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE
+);
+
+-- ============================================================================
+-- INDEXES
+-- Archiving candidates: proposals are aged by proposal_summary(status, last_event_at),
+-- meetings by the time they ended
+-- ============================================================================
+CREATE INDEX idx_meetings_terminal_end ON governance_meetings(COALESCE(actual_end_time, scheduled_date))
+    WHERE status IN ('COMPLETED', 'CANCELLED');
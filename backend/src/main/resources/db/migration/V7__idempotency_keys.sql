@@ -0,0 +1,24 @@
+-- Idempotency keys for governance commands
+-- Version: 7.0
+-- Description: Responses of commands sent with an Idempotency-Key header are kept for a TTL so that
+--              a retried request is answered from the stored result instead of being re-executed
+
+-- ============================================================================
+-- IDEMPOTENCY KEYS TABLE
+-- key_digest and request_digest are SHA-256 hex digests; the client key itself is not stored.
+-- A row without status_code is a claim for a request that is still executing
+-- ============================================================================
+CREATE TABLE idempotency_keys (
+    key_digest VARCHAR(64) PRIMARY KEY,
+    request_digest VARCHAR(64) NOT NULL,
+    status_code INTEGER,
+    content_type VARCHAR(100),
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- ============================================================================
+-- INDEXES
+-- ============================================================================
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
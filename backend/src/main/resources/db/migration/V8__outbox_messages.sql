@@ -0,0 +1,29 @@
+-- Transactional outbox for partner notifications
+-- Version: 8.0
+-- Description: Notifications about scheduled meetings, proposal stage changes and role assignments are
+--              written in the same transaction as the change and delivered asynchronously by a dispatcher
+
+-- ============================================================================
+-- OUTBOX MESSAGES TABLE
+-- A PENDING row is due once available_at has passed; dispatchers claim rows with FOR UPDATE SKIP LOCKED
+-- and push available_at forward as a lease while delivering. Delivered rows are deleted; rows that
+-- exhaust their attempts are kept as DEAD for inspection
+-- ============================================================================
+CREATE TABLE outbox_messages (
+    id VARCHAR(36) PRIMARY KEY,
+    organization_id VARCHAR(36) NOT NULL,
+    message_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_outbox_status CHECK (status IN ('PENDING', 'DEAD'))
+);
+
+-- ============================================================================
+-- INDEXES
+-- ============================================================================
+CREATE INDEX idx_outbox_messages_due ON outbox_messages(available_at) WHERE status = 'PENDING';
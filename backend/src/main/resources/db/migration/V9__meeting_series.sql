@@ -0,0 +1,44 @@
+-- Recurring governance meeting series
+-- Version: 9.0
+-- Description: A series generates its meetings ahead of time within a rolling horizon; each generated
+--              meeting points back to its series
+
+-- ============================================================================
+-- MEETING SERIES TABLE
+-- Occurrences before materialized_through have been written to governance_meetings.
+-- Duration is stored in nanoseconds, matching governance_meetings.duration
+-- ============================================================================
+CREATE TABLE meeting_series (
+    id VARCHAR(255) PRIMARY KEY,
+    organization_id VARCHAR(255) NOT NULL,
+    circle_id VARCHAR(255) NOT NULL,
+    frequency VARCHAR(20) NOT NULL,
+    interval_count INTEGER NOT NULL,
+    until_date DATE,
+    first_occurrence TIMESTAMP NOT NULL,
+    duration NUMERIC(21, 0) NOT NULL,
+    materialized_through TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE,
+    FOREIGN KEY (circle_id) REFERENCES circles(id) ON DELETE CASCADE,
+    CONSTRAINT chk_meeting_series_frequency CHECK (frequency IN ('DAILY', 'WEEKLY', 'MONTHLY')),
+    CONSTRAINT chk_meeting_series_interval CHECK (interval_count > 0),
+    CONSTRAINT chk_meeting_series_status CHECK (status IN ('ACTIVE', 'ENDED'))
+);
+
+-- ============================================================================
+-- GOVERNANCE MEETINGS SERIES REFERENCE
+-- The unique index keeps a series from generating the same occurrence twice
+-- ============================================================================
+ALTER TABLE governance_meetings ADD COLUMN series_id VARCHAR(255)
+    REFERENCES meeting_series(id) ON DELETE SET NULL;
+
+-- ============================================================================
+-- INDEXES
+-- ============================================================================
+CREATE INDEX idx_meeting_series_due ON meeting_series(materialized_through) WHERE status = 'ACTIVE';
+CREATE INDEX idx_meeting_series_circle_id ON meeting_series(circle_id);
+CREATE UNIQUE INDEX idx_meetings_series_occurrence
+    ON governance_meetings(organization_id, series_id, scheduled_date);
@@ -2,14 +2,14 @@ package com.xholacracy.application.mapper;
 
 import com.xholacracy.application.dto.proposal.*;
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.proposal.*;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -20,47 +20,46 @@ class ProposalMapperTest {
     
     private final ProposalMapper mapper = Mappers.getMapper(ProposalMapper.class);
     
-    @Test
-    void shouldMapProposalToDTO() {
-        // Given
-        ProposalId proposalId = ProposalId.generate();
-        CircleId circleId = CircleId.generate();
-        PartnerId proposerId = PartnerId.generate();
-        
+    private final NameResolutionContext names = new NameResolutionContext();
+    
+    private Proposal createProposal(CircleId circleId, PartnerId proposerId) {
         Tension tension = Tension.create(
             "Need product role",
             "No dedicated role",
             "Have clear role"
         );
-        
-        Proposal proposal = new Proposal();
-        proposal.setId(proposalId);
-        proposal.setTitle("Create Product Role");
-        proposal.setTension(tension);
-        proposal.setProposalType(ProposalType.ROLE_MODIFICATION);
-        proposal.setCircleId(circleId);
-        proposal.setProposerId(proposerId);
-        proposal.setStatus(ProposalStatus.DRAFT);
-        proposal.setCreatedDate(LocalDateTime.now());
-        proposal.setDecisionHistory(new ArrayList<>());
-        proposal.setQuestions(new ArrayList<>());
-        proposal.setReactions(new ArrayList<>());
-        proposal.setAmendments(new ArrayList<>());
-        proposal.setObjections(new ArrayList<>());
-        proposal.setVotes(new ArrayList<>());
+        return Proposal.create("Create Product Role", tension, ProposalType.ROLE_MODIFICATION,
+            OrganizationId.generate(), circleId, proposerId);
+    }
+    
+    private void resolvePartners(Map<PartnerId, String> partnerNames) {
+        names.complete(partnerNames, Map.of(), Map.of());
+    }
+    
+    @Test
+    void shouldMapProposalToDTO() {
+        // Given
+        CircleId circleId = CircleId.generate();
+        PartnerId proposerId = PartnerId.generate();
+        Proposal proposal = createProposal(circleId, proposerId);
         
         // When
-        ProposalDTO dto = mapper.toDTO(proposal);
+        ProposalDTO dto = mapper.toDTO(proposal, names);
+        resolvePartners(Map.of(proposerId, "Alice"));
         
         // Then
         assertThat(dto).isNotNull();
-        assertThat(dto.getId()).isEqualTo(proposalId.getValue());
+        assertThat(dto.getId()).isEqualTo(proposal.getId().getValue());
         assertThat(dto.getTitle()).isEqualTo("Create Product Role");
         assertThat(dto.getProposalType()).isEqualTo("ROLE_MODIFICATION");
         assertThat(dto.getStatus()).isEqualTo("DRAFT");
         assertThat(dto.getCircleId()).isEqualTo(circleId.getValue());
         assertThat(dto.getProposerId()).isEqualTo(proposerId.getValue());
+        assertThat(dto.getProposerName()).isEqualTo("Alice");
         assertThat(dto.getTension()).isNotNull();
+        assertThat(dto.getDecisionHistory()).singleElement()
+            .satisfies(event -> assertThat(event.getActorName()).isEqualTo("Alice"));
+        assertThat(names.getPartnerIds()).containsExactly(proposerId);
     }
     
     @Test
@@ -70,9 +69,10 @@ class ProposalMapperTest {
             "Need product role",
             "No dedicated role",
             "Have clear role"
-        );
-        tension.setExamples(List.of("Example 1", "Example 2"));
-        tension.setContext("Additional context");
+        )
+            .withExample("Example 1")
+            .withExample("Example 2")
+            .withContext("Additional context");
         
         // When
         TensionDTO dto = mapper.toTensionDTO(tension);
@@ -105,32 +105,29 @@ class ProposalMapperTest {
         assertThat(tension.getDescription()).isEqualTo("Need product role");
         assertThat(tension.getCurrentState()).isEqualTo("No dedicated role");
         assertThat(tension.getDesiredState()).isEqualTo("Have clear role");
+        assertThat(tension.getExamples()).containsExactly("Example 1");
+        assertThat(tension.getContext()).isEqualTo("Context");
     }
     
     @Test
-    void shouldMapCreateRequestToEntity() {
+    void shouldMapProposalSummaryToDTO() {
         // Given
-        TensionDTO tensionDTO = TensionDTO.builder()
-            .description("Need product role")
-            .currentState("No dedicated role")
-            .desiredState("Have clear role")
-            .build();
-        
-        CreateProposalRequest request = CreateProposalRequest.builder()
-            .title("Create Product Role")
-            .tension(tensionDTO)
-            .proposalType("ROLE_MODIFICATION")
-            .circleId("circle-123")
-            .proposerId("partner-456")
-            .build();
+        CircleId circleId = CircleId.generate();
+        PartnerId proposerId = PartnerId.generate();
+        Proposal proposal = createProposal(circleId, proposerId);
+        ProposalSummary summary = ProposalSummary.open(proposal.domainEvents().iterator().next());
         
         // When
-        Proposal proposal = mapper.toEntity(request);
+        ProposalSummaryDTO dto = mapper.toSummaryDTO(summary);
         
         // Then
-        assertThat(proposal).isNotNull();
-        assertThat(proposal.getTitle()).isEqualTo("Create Product Role");
-        assertThat(proposal.getTension()).isNotNull();
+        assertThat(dto).isNotNull();
+        assertThat(dto.getId()).isEqualTo(proposal.getId().getValue());
+        assertThat(dto.getTitle()).isEqualTo("Create Product Role");
+        assertThat(dto.getCircleId()).isEqualTo(circleId.getValue());
+        assertThat(dto.getProposerId()).isEqualTo(proposerId.getValue());
+        assertThat(dto.getStatus()).isEqualTo("DRAFT");
+        assertThat(dto.getLastEventType()).isEqualTo("PROPOSAL_CREATED");
     }
     
     @Test
@@ -144,12 +141,14 @@ class ProposalMapperTest {
         );
         
         // When
-        DecisionEventDTO dto = mapper.toDecisionEventDTO(event);
+        DecisionEventDTO dto = mapper.toDecisionEventDTO(event, names);
+        resolvePartners(Map.of(actorId, "Bob"));
         
         // Then
         assertThat(dto).isNotNull();
         assertThat(dto.getEventType()).isEqualTo("PROPOSAL_CREATED");
         assertThat(dto.getActorId()).isEqualTo(actorId.getValue());
+        assertThat(dto.getActorName()).isEqualTo("Bob");
         assertThat(dto.getContent()).isEqualTo("Proposal created");
         assertThat(dto.getTimestamp()).isNotNull();
     }
@@ -158,43 +157,45 @@ class ProposalMapperTest {
     void shouldMapQuestionToDTO() {
         // Given
         PartnerId askerId = PartnerId.generate();
-        Question question = Question.create(askerId, "What is the purpose?");
-        question.setAnswer("To improve the process");
+        Question question = Question.create(askerId, "What is the purpose?")
+            .withAnswer("To improve the process");
         
         // When
-        QuestionDTO dto = mapper.toQuestionDTO(question);
+        QuestionDTO dto = mapper.toQuestionDTO(question, names);
+        resolvePartners(Map.of(askerId, "Carol"));
         
         // Then
         assertThat(dto).isNotNull();
         assertThat(dto.getQuestion()).isEqualTo("What is the purpose?");
         assertThat(dto.getAnswer()).isEqualTo("To improve the process");
         assertThat(dto.getAskerId()).isEqualTo(askerId.getValue());
+        assertThat(dto.getAskerName()).isEqualTo("Carol");
     }
     
     @Test
     void shouldMapObjectionToDTO() {
         // Given
         PartnerId objectorId = PartnerId.generate();
-        ObjectionCriteria criteria = ObjectionCriteria.builder()
-            .reducesCapability(true)
-            .limitsAccountability(false)
-            .problemNotExistWithout(true)
-            .causesHarm(false)
-            .build();
+        PartnerId facilitatorId = PartnerId.generate();
+        ObjectionCriteria criteria = ObjectionCriteria.create(true, false, true, false);
         
         Objection objection = Objection.create(objectorId, "This will cause issues", criteria);
-        objection.setValid(true);
+        objection.validate(facilitatorId, true);
         
         // When
-        ObjectionDTO dto = mapper.toObjectionDTO(objection);
+        ObjectionDTO dto = mapper.toObjectionDTO(objection, names);
+        resolvePartners(Map.of(objectorId, "Dave"));
         
         // Then
         assertThat(dto).isNotNull();
         assertThat(dto.getReasoning()).isEqualTo("This will cause issues");
         assertThat(dto.getObjectorId()).isEqualTo(objectorId.getValue());
+        assertThat(dto.getObjectorName()).isEqualTo("Dave");
         assertThat(dto.isValid()).isTrue();
+        assertThat(dto.getValidatedBy()).isEqualTo(facilitatorId.getValue());
         assertThat(dto.getCriteria()).isNotNull();
         assertThat(dto.getCriteria().isReducesCapability()).isTrue();
+        assertThat(dto.getCriteria().isLimitsAccountability()).isFalse();
         assertThat(dto.getCriteria().isProblemNotExistWithout()).isTrue();
     }
     
@@ -205,12 +206,14 @@ class ProposalMapperTest {
         Vote vote = Vote.create(voterId, VoteType.APPROVE, "I support this");
         
         // When
-        VoteDTO dto = mapper.toVoteDTO(vote);
+        VoteDTO dto = mapper.toVoteDTO(vote, names);
+        resolvePartners(Map.of());
         
         // Then
         assertThat(dto).isNotNull();
         assertThat(dto.getVoteType()).isEqualTo("APPROVE");
         assertThat(dto.getVoterId()).isEqualTo(voterId.getValue());
+        assertThat(dto.getVoterName()).isNull();
         assertThat(dto.getComment()).isEqualTo("I support this");
     }
 }
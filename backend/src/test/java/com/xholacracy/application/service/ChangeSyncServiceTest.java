@@ -0,0 +1,151 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.sync.ChangeSetDTO;
+import com.xholacracy.application.mapper.CircleMapper;
+import com.xholacracy.application.mapper.MeetingMapper;
+import com.xholacracy.application.mapper.ProposalMapper;
+import com.xholacracy.application.mapper.RoleMapper;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.proposal.ProposalSummaryRepository;
+import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.domain.model.sync.ChangeLogEntry;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import com.xholacracy.domain.model.sync.ChangedEntityType;
+import com.xholacracy.domain.model.sync.EntityChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeSyncServiceTest {
+    
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+    
+    @Mock
+    private OrganizationRepository organizationRepository;
+    
+    @Mock
+    private CircleRepository circleRepository;
+    
+    @Mock
+    private RoleRepository roleRepository;
+    
+    @Mock
+    private ProposalSummaryRepository proposalSummaryRepository;
+    
+    @Mock
+    private MeetingRepository meetingRepository;
+    
+    @Mock
+    private CircleMapper circleMapper;
+    
+    @Mock
+    private RoleMapper roleMapper;
+    
+    @Mock
+    private ProposalMapper proposalMapper;
+    
+    @Mock
+    private MeetingMapper meetingMapper;
+    
+    private ChangeSyncService service;
+    
+    private final OrganizationId organizationId = OrganizationId.generate();
+    
+    @BeforeEach
+    void setUp() {
+        DisplayNameService displayNameService = new DisplayNameService(null, null, null,
+            new ConcurrentMapCacheManager("partnerNames", "circleNames", "proposalTitles"));
+        service = new ChangeSyncService(changeLogRepository, organizationRepository, circleRepository,
+            roleRepository, proposalSummaryRepository, meetingRepository,
+            circleMapper, roleMapper, proposalMapper, meetingMapper, displayNameService);
+    }
+    
+    private ChangeLogEntry circle(String id, long sequence) {
+        return ChangeLogEntry.record(organizationId, EntityChange.upsert(ChangedEntityType.CIRCLE, id), sequence);
+    }
+    
+    @Test
+    void shouldCutPageAtSequenceBoundary() {
+        // Given - 序号2的变更跨越了limit
+        when(organizationRepository.existsById(organizationId)).thenReturn(true);
+        when(changeLogRepository.findSince(organizationId, 0, 3)).thenReturn(List.of(
+            circle("a", 1), circle("b", 2), circle("c", 2)));
+        
+        // When
+        ChangeSetDTO changes = service.getChanges(organizationId, 0, 2);
+        
+        // Then
+        assertThat(changes.getToken()).isEqualTo(1L);
+        assertThat(changes.isHasMore()).isTrue();
+        verify(circleRepository).findSummariesByIds(argThat(ids -> ids.size() == 1));
+    }
+    
+    @Test
+    void shouldReturnWholeTransactionLargerThanLimit() {
+        // Given
+        when(organizationRepository.existsById(organizationId)).thenReturn(true);
+        when(changeLogRepository.findSince(organizationId, 5, 3)).thenReturn(List.of(
+            circle("a", 6), circle("b", 6), circle("c", 6)));
+        when(changeLogRepository.findBySequence(organizationId, 6)).thenReturn(List.of(
+            circle("a", 6), circle("b", 6), circle("c", 6), circle("d", 6)));
+        
+        // When
+        ChangeSetDTO changes = service.getChanges(organizationId, 5, 2);
+        
+        // Then
+        assertThat(changes.getToken()).isEqualTo(6L);
+        assertThat(changes.isHasMore()).isTrue();
+        verify(circleRepository).findSummariesByIds(argThat(ids -> ids.size() == 4));
+    }
+    
+    @Test
+    void shouldReturnTombstonesAndKeepTokenWhenNothingChanged() {
+        // Given
+        when(organizationRepository.existsById(organizationId)).thenReturn(true);
+        ChangeLogEntry deleted = ChangeLogEntry.record(organizationId, EntityChange.delete(ChangedEntityType.ROLE, "r1"), 8);
+        when(changeLogRepository.findSince(organizationId, 7, 11)).thenReturn(List.of(deleted));
+        when(changeLogRepository.findSince(organizationId, 8, 11)).thenReturn(List.of());
+        
+        // When
+        ChangeSetDTO first = service.getChanges(organizationId, 7, 10);
+        ChangeSetDTO second = service.getChanges(organizationId, 8, 10);
+        
+        // Then
+        assertThat(first.getDeleted()).singleElement().satisfies(tombstone -> {
+            assertThat(tombstone.getType()).isEqualTo("ROLE");
+            assertThat(tombstone.getId()).isEqualTo("r1");
+        });
+        assertThat(first.getToken()).isEqualTo(8L);
+        assertThat(second.getToken()).isEqualTo(8L);
+        assertThat(second.isHasMore()).isFalse();
+        verify(roleRepository, never()).findAssignmentsByIds(any());
+    }
+    
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> service.getChanges(organizationId, -1, 10))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.getChanges(organizationId, 0, ChangeSyncService.MAX_LIMIT + 1))
+            .isInstanceOf(ValidationException.class);
+        
+        when(organizationRepository.existsById(organizationId)).thenReturn(false);
+        assertThatThrownBy(() -> service.getChanges(organizationId, 0, 10))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,128 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.circle.CreateCircleRequest;
+import com.xholacracy.application.dto.role.AssignRoleRequest;
+import com.xholacracy.application.mapper.CircleMapper;
+import com.xholacracy.application.mapper.RoleMapper;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CircleCommandServiceTest {
+    
+    @Mock
+    private CircleRepository circleRepository;
+    
+    @Mock
+    private RoleRepository roleRepository;
+    
+    @Mock
+    private CircleMapper circleMapper;
+    
+    @Mock
+    private RoleMapper roleMapper;
+    
+    @Mock
+    private DisplayNameService displayNameService;
+    
+    private CircleCommandService service;
+    private Circle anchor;
+    
+    @BeforeEach
+    void setUp() {
+        service = new CircleCommandService(circleRepository, roleRepository, circleMapper, roleMapper,
+            displayNameService);
+        anchor = Circle.createAnchorCircle(OrganizationId.generate());
+    }
+    
+    @Test
+    void shouldCreateSubCircleInParentOrganization() {
+        // Given
+        when(circleRepository.findById(anchor.getId())).thenReturn(Optional.of(anchor));
+        when(circleRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        CreateCircleRequest request = CreateCircleRequest.builder()
+            .name("Engineering")
+            .purpose("Build the product")
+            .accountabilities(List.of("Shipping releases"))
+            .organizationId(anchor.getOrganizationId().getValue())
+            .build();
+        
+        // When
+        service.createSubCircle(anchor.getId(), request);
+        
+        // Then
+        ArgumentCaptor<Circle> saved = ArgumentCaptor.forClass(Circle.class);
+        verify(circleRepository).save(saved.capture());
+        assertThat(saved.getValue().getParentCircleId()).isEqualTo(anchor.getId());
+        assertThat(saved.getValue().getOrganizationId()).isEqualTo(anchor.getOrganizationId());
+        assertThat(saved.getValue().getAccountabilities()).containsExactly("Shipping releases");
+        assertThat(saved.getValue().getRoles()).hasSize(4);
+    }
+    
+    @Test
+    void shouldRejectSubCircleForAnotherOrganization() {
+        // Given
+        when(circleRepository.findById(anchor.getId())).thenReturn(Optional.of(anchor));
+        CreateCircleRequest request = CreateCircleRequest.builder()
+            .name("Engineering")
+            .purpose("Build the product")
+            .organizationId(OrganizationId.generate().getValue())
+            .build();
+        
+        // When & Then
+        assertThatThrownBy(() -> service.createSubCircle(anchor.getId(), request))
+            .isInstanceOf(ValidationException.class);
+        verify(circleRepository, never()).save(any());
+    }
+    
+    @Test
+    void shouldAssignRoleOfCircle() {
+        // Given
+        Role role = anchor.getRoles().get(0);
+        PartnerId partner = PartnerId.generate();
+        when(roleRepository.findById(role.getId())).thenReturn(Optional.of(role));
+        
+        // When
+        service.assignRole(anchor.getId(), role.getId(), PartnerId.generate(), AssignRoleRequest.builder()
+            .partnerId(partner.getValue())
+            .build());
+        
+        // Then
+        assertThat(role.isAssignedTo(partner)).isTrue();
+        verify(roleRepository).save(role);
+    }
+    
+    @Test
+    void shouldNotAssignRoleThroughAnotherCircle() {
+        // Given
+        Role role = anchor.getRoles().get(0);
+        when(roleRepository.findById(role.getId())).thenReturn(Optional.of(role));
+        
+        // When & Then
+        assertThatThrownBy(() -> service.assignRole(CircleId.generate(), role.getId(), PartnerId.generate(),
+                AssignRoleRequest.builder()
+                    .partnerId(PartnerId.generate().getValue())
+                    .build()))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
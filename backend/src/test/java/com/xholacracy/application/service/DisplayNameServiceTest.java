@@ -0,0 +1,143 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.meeting.MeetingDTO;
+import com.xholacracy.application.mapper.NameResolutionContext;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DisplayNameServiceTest {
+    
+    @Mock
+    private PartnerRepository partnerRepository;
+    
+    @Mock
+    private CircleRepository circleRepository;
+    
+    @Mock
+    private ProposalRepository proposalRepository;
+    
+    private DisplayNameService service;
+    
+    @BeforeEach
+    void setUp() {
+        service = new DisplayNameService(partnerRepository, circleRepository, proposalRepository,
+            new ConcurrentMapCacheManager("partnerNames", "circleNames", "proposalTitles"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void stubPartnerNames() {
+        when(partnerRepository.findNamesByIds(any())).thenAnswer(invocation -> {
+            Map<PartnerId, String> names = new HashMap<>();
+            for (PartnerId id : (Collection<PartnerId>) invocation.getArgument(0)) {
+                names.put(id, "Partner " + id.getValue());
+            }
+            return names;
+        });
+    }
+    
+    @Test
+    void shouldResolveAllPartnerReferencesWithSingleQuery() {
+        // Given
+        stubPartnerNames();
+        PartnerId actor = PartnerId.generate();
+        List<String> actorNames = new ArrayList<>();
+    
+        // When - 1000个事件引用同一个伙伴
+        service.map(names -> {
+            for (int i = 0; i < 1000; i++) {
+                names.partnerName(actor, actorNames::add);
+            }
+            return null;
+        });
+    
+        // Then
+        assertThat(actorNames).hasSize(1000).containsOnly("Partner " + actor.getValue());
+        verify(partnerRepository, times(1)).findNamesByIds(any());
+        verifyNoInteractions(circleRepository, proposalRepository);
+    }
+    
+    @Test
+    void shouldFillMeetingNamesAfterMapping() {
+        // Given
+        stubPartnerNames();
+        CircleId circleId = CircleId.generate();
+        when(circleRepository.findNamesByIds(any())).thenReturn(Map.of(circleId, "Product"));
+        PartnerId facilitator = PartnerId.generate();
+        PartnerId participant = PartnerId.generate();
+    
+        // When
+        MeetingDTO dto = service.map(names -> {
+            MeetingDTO meeting = new MeetingDTO();
+            names.circleName(circleId, meeting::setCircleName);
+            names.partnerName(facilitator, meeting::setFacilitatorName);
+            names.partnerNames(List.of(facilitator, participant), meeting::setParticipantNames);
+            assertThat(meeting.getCircleName()).isNull();
+            return meeting;
+        });
+    
+        // Then
+        assertThat(dto.getCircleName()).isEqualTo("Product");
+        assertThat(dto.getFacilitatorName()).isEqualTo("Partner " + facilitator.getValue());
+        assertThat(dto.getParticipantNames()).containsExactly(
+            "Partner " + facilitator.getValue(), "Partner " + participant.getValue());
+        verify(partnerRepository, times(1)).findNamesByIds(any());
+        verify(circleRepository, times(1)).findNamesByIds(any());
+    }
+    
+    @Test
+    void shouldServeRepeatedLookupsFromSharedCache() {
+        // Given
+        stubPartnerNames();
+        PartnerId partner = PartnerId.generate();
+    
+        // When
+        NameResolutionContext first = new NameResolutionContext();
+        first.partnerName(partner, name -> { });
+        service.resolve(first);
+    
+        List<String> resolved = new ArrayList<>();
+        NameResolutionContext second = new NameResolutionContext();
+        second.partnerName(partner, resolved::add);
+        service.resolve(second);
+    
+        // Then
+        assertThat(resolved).containsExactly("Partner " + partner.getValue());
+        verify(partnerRepository, times(1)).findNamesByIds(any());
+    }
+    
+    @Test
+    void shouldLeaveUnknownReferencesNull() {
+        // Given
+        when(partnerRepository.findNamesByIds(any())).thenReturn(Map.of());
+        List<String> resolved = new ArrayList<>();
+    
+        // When
+        service.map(names -> {
+            names.partnerName(PartnerId.generate(), resolved::add);
+            return null;
+        });
+    
+        // Then
+        assertThat(resolved).containsExactly((String) null);
+    }
+}
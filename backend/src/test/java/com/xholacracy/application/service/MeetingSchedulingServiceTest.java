@@ -0,0 +1,188 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.meeting.AddParticipantsRequest;
+import com.xholacracy.application.dto.meeting.CalendarConflictDTO;
+import com.xholacracy.application.dto.meeting.FreeSlotDTO;
+import com.xholacracy.application.dto.meeting.RescheduleMeetingRequest;
+import com.xholacracy.application.mapper.MeetingMapper;
+import com.xholacracy.application.mapper.NameResolutionContext;
+import com.xholacracy.domain.exception.InvalidStateTransitionException;
+import com.xholacracy.domain.exception.SchedulingConflictException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingBooking;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.PartnerCalendar;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSchedulingServiceTest {
+    
+    private static final LocalDateTime MONDAY_TEN = LocalDateTime.of(2026, 3, 2, 10, 0);
+    
+    @Mock
+    private MeetingRepository meetingRepository;
+    
+    @Mock
+    private MeetingMapper meetingMapper;
+    
+    @Mock
+    private DisplayNameService displayNameService;
+    
+    private MeetingSchedulingService service;
+    private OrganizationId organizationId;
+    private PartnerCalendar calendar;
+    private PartnerId facilitator;
+    private GovernanceMeeting meeting;
+    
+    @BeforeEach
+    void setUp() {
+        organizationId = OrganizationId.generate();
+        calendar = PartnerCalendar.of(organizationId, List.of());
+        service = new MeetingSchedulingService(meetingRepository, id -> calendar, meetingMapper, displayNameService);
+        facilitator = PartnerId.generate();
+        meeting = GovernanceMeeting.create(organizationId, CircleId.generate(), MONDAY_TEN, Duration.ofHours(1));
+        meeting.setFacilitator(facilitator);
+        calendar.book(MeetingBooking.of(meeting));
+        lenient().when(meetingRepository.findById(organizationId, meeting.getId())).thenReturn(Optional.of(meeting));
+    }
+    
+    @Test
+    void shouldRejectRescheduleOntoAttendeeConflict() {
+        // Given
+        MeetingBooking other = MeetingBooking.of(MeetingId.generate(), MONDAY_TEN.plusHours(3),
+            Duration.ofHours(2), List.of(facilitator));
+        calendar.book(other);
+        RescheduleMeetingRequest request = RescheduleMeetingRequest.builder()
+            .scheduledDate(MONDAY_TEN.plusHours(4))
+            .build();
+        
+        // When & Then
+        assertThatThrownBy(() -> service.reschedule(organizationId, meeting.getId(), request))
+            .isInstanceOf(SchedulingConflictException.class)
+            .satisfies(e -> assertThat(((SchedulingConflictException) e).getConflicts())
+                .containsOnlyKeys(facilitator.getValue()));
+        verify(meetingRepository, never()).save(any());
+        assertThat(meeting.getScheduledDate()).isEqualTo(MONDAY_TEN);
+    }
+    
+    @Test
+    void shouldRescheduleWhenConflictsAreAllowed() {
+        // Given
+        calendar.book(MeetingBooking.of(MeetingId.generate(), MONDAY_TEN.plusHours(4),
+            Duration.ofHours(1), List.of(facilitator)));
+        when(meetingRepository.save(meeting)).thenReturn(meeting);
+        RescheduleMeetingRequest request = RescheduleMeetingRequest.builder()
+            .scheduledDate(MONDAY_TEN.plusHours(4))
+            .allowConflicts(true)
+            .build();
+        
+        // When
+        service.reschedule(organizationId, meeting.getId(), request);
+        
+        // Then
+        assertThat(meeting.getScheduledDate()).isEqualTo(MONDAY_TEN.plusHours(4));
+        verify(meetingRepository).save(meeting);
+    }
+    
+    @Test
+    void shouldRejectRescheduleOfStartedMeeting() {
+        // Given
+        meeting.start();
+        RescheduleMeetingRequest request = RescheduleMeetingRequest.builder()
+            .scheduledDate(MONDAY_TEN.plusDays(1))
+            .build();
+        
+        // When & Then
+        assertThatThrownBy(() -> service.reschedule(organizationId, meeting.getId(), request))
+            .isInstanceOf(InvalidStateTransitionException.class);
+    }
+    
+    @Test
+    void shouldOnlyCheckNewcomersWhenAddingParticipants() {
+        // Given - 协调员已有的冲突不阻止邀请其他伙伴
+        calendar.book(MeetingBooking.of(MeetingId.generate(), MONDAY_TEN, Duration.ofMinutes(30),
+            List.of(facilitator)));
+        PartnerId busy = PartnerId.generate();
+        PartnerId free = PartnerId.generate();
+        calendar.book(MeetingBooking.of(MeetingId.generate(), MONDAY_TEN.plusMinutes(45), Duration.ofHours(1),
+            List.of(busy)));
+        when(meetingRepository.save(meeting)).thenReturn(meeting);
+        
+        // When
+        service.addParticipants(organizationId, meeting.getId(), AddParticipantsRequest.builder()
+            .participantIds(List.of(facilitator.getValue(), free.getValue()))
+            .build());
+        
+        // Then
+        assertThat(meeting.getParticipants()).containsExactly(facilitator, free);
+        assertThatThrownBy(() -> service.addParticipants(organizationId, meeting.getId(),
+            AddParticipantsRequest.builder().participantIds(List.of(busy.getValue())).build()))
+            .isInstanceOf(SchedulingConflictException.class);
+        assertThat(meeting.getParticipants()).doesNotContain(busy);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPreviewConflictsWithPartnerNames() {
+        // Given
+        PartnerId invitee = PartnerId.generate();
+        MeetingBooking other = MeetingBooking.of(MeetingId.generate(), MONDAY_TEN.plusDays(1),
+            Duration.ofHours(1), List.of(invitee));
+        calendar.book(other);
+        when(displayNameService.map(any())).thenAnswer(invocation ->
+            ((Function<NameResolutionContext, Object>) invocation.getArgument(0)).apply(new NameResolutionContext()));
+        
+        // When
+        List<CalendarConflictDTO> conflicts = service.findConflicts(organizationId, meeting.getId(),
+            MONDAY_TEN.plusDays(1), List.of(invitee));
+        
+        // Then
+        assertThat(conflicts).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getPartnerId()).isEqualTo(invitee.getValue());
+            assertThat(conflict.getMeetingId()).isEqualTo(other.getMeetingId().getValue());
+            assertThat(conflict.getStart()).isEqualTo(MONDAY_TEN.plusDays(1));
+        });
+        assertThat(meeting.getParticipants()).isEmpty();
+    }
+    
+    @Test
+    void shouldFindFreeSlotsAroundBookings() {
+        // When
+        List<FreeSlotDTO> slots = service.findFreeSlots(organizationId, List.of(facilitator),
+            MONDAY_TEN.minusHours(1), MONDAY_TEN.plusHours(3), 60, 10);
+        
+        // Then
+        assertThat(slots).extracting(FreeSlotDTO::getStart, FreeSlotDTO::getDurationMinutes)
+            .containsExactly(tuple(MONDAY_TEN.minusHours(1), 60), tuple(MONDAY_TEN.plusHours(1), 120));
+    }
+    
+    @Test
+    void shouldRejectInvalidFreeSlotWindow() {
+        // When & Then
+        assertThatThrownBy(() -> service.findFreeSlots(organizationId, List.of(facilitator),
+            MONDAY_TEN, MONDAY_TEN, 30, 10))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.findFreeSlots(organizationId, List.of(facilitator),
+            MONDAY_TEN, MONDAY_TEN.plusHours(1), 30, MeetingSchedulingService.MAX_FREE_SLOTS + 1))
+            .isInstanceOf(ValidationException.class);
+    }
+}
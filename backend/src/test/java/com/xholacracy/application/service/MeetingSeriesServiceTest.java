@@ -0,0 +1,156 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.meeting.CreateMeetingSeriesRequest;
+import com.xholacracy.application.mapper.MeetingMapper;
+import com.xholacracy.domain.exception.InvalidStateTransitionException;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.CircleRoster;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.MeetingSeries;
+import com.xholacracy.domain.model.meeting.MeetingSeriesMaterializer;
+import com.xholacracy.domain.model.meeting.MeetingSeriesRepository;
+import com.xholacracy.domain.model.meeting.MeetingSeriesStatus;
+import com.xholacracy.domain.model.meeting.MeetingStatus;
+import com.xholacracy.domain.model.meeting.RecurrenceFrequency;
+import com.xholacracy.domain.model.meeting.RecurrenceRule;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSeriesServiceTest {
+    
+    private static final LocalDateTime MONDAY_TEN = LocalDateTime.of(2026, 3, 2, 10, 0);
+    
+    @Mock
+    private MeetingSeriesRepository seriesRepository;
+    
+    @Mock
+    private MeetingRepository meetingRepository;
+    
+    @Mock
+    private CircleRepository circleRepository;
+    
+    @Mock
+    private MeetingSeriesMaterializer materializer;
+    
+    @Mock
+    private MeetingMapper meetingMapper;
+    
+    private MeetingSeriesService service;
+    private OrganizationId organizationId;
+    
+    @BeforeEach
+    void setUp() {
+        service = new MeetingSeriesService(seriesRepository, meetingRepository, circleRepository, materializer,
+            meetingMapper);
+        organizationId = OrganizationId.generate();
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateOneSeriesPerCircleAndMaterializeThemTogether() {
+        // Given
+        CircleId first = CircleId.generate();
+        CircleId second = CircleId.generate();
+        when(circleRepository.findOrganizationIdsByIds(any()))
+            .thenReturn(Map.of(first, organizationId, second, organizationId));
+        when(seriesRepository.save(any(MeetingSeries.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When - 重复的圈子只创建一个系列
+        service.createSeries(request(List.of(first.getValue(), second.getValue(), first.getValue()), "weekly"));
+        
+        // Then - 所有系列交给生成器一次批量生成
+        ArgumentCaptor<List<MeetingSeries>> created = ArgumentCaptor.forClass(List.class);
+        verify(materializer).materialize(created.capture());
+        assertThat(created.getValue()).extracting(MeetingSeries::getCircleId).containsExactly(first, second);
+        assertThat(created.getValue()).allSatisfy(series -> {
+            assertThat(series.getOrganizationId()).isEqualTo(organizationId);
+            assertThat(series.getRule()).isEqualTo(RecurrenceRule.of(RecurrenceFrequency.WEEKLY, 1, null));
+            assertThat(series.getDuration()).isEqualTo(Duration.ofMinutes(60));
+        });
+        verify(seriesRepository, times(2)).save(any(MeetingSeries.class));
+    }
+    
+    @Test
+    void shouldRejectUnknownFrequencyAndMissingCircle() {
+        // Given
+        CircleId missing = CircleId.generate();
+        
+        // When & Then
+        assertThatThrownBy(() -> service.createSeries(request(List.of(missing.getValue()), "hourly")))
+            .isInstanceOf(ValidationException.class);
+        
+        when(circleRepository.findOrganizationIdsByIds(any())).thenReturn(Map.of());
+        assertThatThrownBy(() -> service.createSeries(request(List.of(missing.getValue()), "WEEKLY")))
+            .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(materializer);
+    }
+    
+    @Test
+    void shouldRejectFirstOccurrenceAfterUntil() {
+        // Given
+        CircleId circleId = CircleId.generate();
+        when(circleRepository.findOrganizationIdsByIds(any())).thenReturn(Map.of(circleId, organizationId));
+        CreateMeetingSeriesRequest request = request(List.of(circleId.getValue()), "DAILY");
+        request.setUntil(MONDAY_TEN.toLocalDate().minusDays(1));
+        
+        // When & Then
+        assertThatThrownBy(() -> service.createSeries(request)).isInstanceOf(ValidationException.class);
+        verifyNoInteractions(materializer);
+    }
+    
+    @Test
+    void shouldCancelGeneratedMeetingsAfterLastDateWhenEnding() {
+        // Given
+        MeetingSeries series = MeetingSeries.create(organizationId, CircleId.generate(),
+            RecurrenceRule.of(RecurrenceFrequency.WEEKLY, 1, null), MONDAY_TEN, Duration.ofMinutes(60));
+        series.advanceTo(MONDAY_TEN.plusWeeks(4));
+        GovernanceMeeting later = GovernanceMeeting.occurrenceOf(series, MONDAY_TEN.plusWeeks(3),
+            CircleRoster.empty(series.getCircleId()));
+        LocalDate lastDate = MONDAY_TEN.toLocalDate().plusWeeks(2);
+        when(seriesRepository.findById(organizationId, series.getId())).thenReturn(Optional.of(series));
+        when(seriesRepository.save(series)).thenReturn(series);
+        when(meetingRepository.findScheduledBySeriesId(organizationId, series.getId(),
+            lastDate.plusDays(1).atStartOfDay())).thenReturn(List.of(later));
+        
+        // When
+        service.endSeries(organizationId, series.getId(), lastDate);
+        
+        // Then - 最后日期已在窗口内，系列立即结束
+        assertThat(series.getStatus()).isEqualTo(MeetingSeriesStatus.ENDED);
+        assertThat(later.getStatus()).isEqualTo(MeetingStatus.CANCELLED);
+        verify(meetingRepository).save(later);
+        
+        assertThatThrownBy(() -> service.endSeries(organizationId, series.getId(), lastDate))
+            .isInstanceOf(InvalidStateTransitionException.class);
+    }
+    
+    private static CreateMeetingSeriesRequest request(List<String> circleIds, String frequency) {
+        return CreateMeetingSeriesRequest.builder()
+            .circleIds(circleIds)
+            .frequency(frequency)
+            .firstOccurrence(MONDAY_TEN)
+            .durationMinutes(60)
+            .build();
+    }
+}
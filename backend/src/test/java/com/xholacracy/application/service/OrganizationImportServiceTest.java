@@ -0,0 +1,259 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.organization.CloneOrganizationRequest;
+import com.xholacracy.application.dto.organization.ImportCircleDefinition;
+import com.xholacracy.application.dto.organization.ImportOrganizationRequest;
+import com.xholacracy.application.dto.organization.ImportPartnerDefinition;
+import com.xholacracy.application.dto.organization.ImportRoleDefinition;
+import com.xholacracy.application.dto.organization.OrganizationImportStatusDTO;
+import com.xholacracy.application.dto.role.DomainDTO;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.circle.CircleSummaryView;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationBulkWriter;
+import com.xholacracy.domain.model.organization.OrganizationGraph;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.role.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationImportServiceTest {
+    
+    @Mock
+    private OrganizationRepository organizationRepository;
+    
+    @Mock
+    private PartnerRepository partnerRepository;
+    
+    @Mock
+    private CircleRepository circleRepository;
+    
+    @Mock
+    private OrganizationBulkWriter bulkWriter;
+    
+    @Mock
+    private OrganizationCloner cloner;
+    
+    private OrganizationImportService service;
+    
+    @BeforeEach
+    void setUp() {
+        service = new OrganizationImportService(organizationRepository, partnerRepository, circleRepository,
+            bulkWriter, cloner, new SyncTaskExecutor());
+    }
+    
+    private ImportOrganizationRequest.ImportOrganizationRequestBuilder validRequest() {
+        return ImportOrganizationRequest.builder()
+            .name("Acme")
+            .description("Imported")
+            .importedBy("alice@example.com")
+            .partners(List.of(
+                new ImportPartnerDefinition("Alice", "alice@example.com"),
+                new ImportPartnerDefinition("Bob", "bob@example.com")))
+            .specialRoles(Map.of("CIRCLE_LEAD", List.of("alice@example.com")))
+            .circles(List.of(ImportCircleDefinition.builder()
+                .name("Product")
+                .purpose("Build the product")
+                .accountabilities(List.of("Ship releases"))
+                .roles(List.of(ImportRoleDefinition.builder()
+                    .name("Developer")
+                    .purpose("Write code")
+                    .domains(List.of(DomainDTO.builder().name("Repository").controlType("shared").build()))
+                    .assignees(List.of("bob@example.com"))
+                    .build()))
+                .build()));
+    }
+    
+    @Test
+    void shouldBuildGraphAndWriteItInBackground() {
+        // Given - Alice已存在，只需要新建Bob
+        PartnerId alice = PartnerId.generate();
+        when(partnerRepository.findIdsByEmails(anyCollection())).thenReturn(Map.of("alice@example.com", alice));
+        when(organizationRepository.findByName("Acme")).thenReturn(Optional.empty());
+        
+        // When
+        OrganizationImportStatusDTO started = service.startImport(validRequest().build());
+        
+        // Then
+        ArgumentCaptor<OrganizationGraph> graph = ArgumentCaptor.forClass(OrganizationGraph.class);
+        verify(bulkWriter).write(graph.capture(), any());
+        assertThat(graph.getValue().getNewPartners()).singleElement()
+            .satisfies(partner -> assertThat(partner.getEmail()).isEqualTo("bob@example.com"));
+        assertThat(graph.getValue().getCircles()).hasSize(2);
+        Circle product = graph.getValue().getCircles().get(1);
+        assertThat(product.getAccountabilities()).containsExactly("Ship releases");
+        Role developer = product.getRoles().stream().filter(role -> !role.isSpecialRole()).findFirst().orElseThrow();
+        assertThat(developer.getAssignments()).singleElement()
+            .satisfies(assignment -> assertThat(assignment.getAssignedBy()).isEqualTo(alice));
+        Role lead = graph.getValue().getCircles().get(0).getRoles().stream()
+            .filter(role -> role.getSpecialRoleType() == SpecialRoleType.CIRCLE_LEAD).findFirst().orElseThrow();
+        assertThat(lead.isAssignedTo(alice)).isTrue();
+        assertThat(service.getStatus(started.getImportId()).getState()).isEqualTo("COMPLETED");
+    }
+    
+    @Test
+    void shouldReportEveryErrorWithItsPath() {
+        // Given
+        when(partnerRepository.findIdsByEmails(anyCollection())).thenReturn(Map.of());
+        ImportOrganizationRequest request = validRequest()
+            .importedBy("nobody@example.com")
+            .specialRoles(Map.of("JANITOR", List.of("alice@example.com")))
+            .circles(List.of(ImportCircleDefinition.builder()
+                .name("")
+                .purpose("Nameless")
+                .build(), ImportCircleDefinition.builder()
+                .name("Ops")
+                .purpose("Run things")
+                .roles(List.of(ImportRoleDefinition.builder()
+                    .name("Operator")
+                    .purpose("Operate")
+                    .assignees(List.of("carol@example.com"))
+                    .build()))
+                .build()))
+            .build();
+        
+        // When & Then
+        assertThatThrownBy(() -> service.startImport(request))
+            .isInstanceOf(ValidationException.class)
+            .satisfies(e -> assertThat(((ValidationException) e).getValidationErrors())
+                .containsKeys("importedBy", "specialRoles.JANITOR", "circles[0].name",
+                    "circles[1].roles[0].assignees[0]"));
+        verifyNoInteractions(bulkWriter);
+    }
+    
+    @Test
+    void shouldRejectExclusiveDomainClaimedByTwoRoles() {
+        // Given - 两个圈子中的角色声明同一个独占领域，名称大小写不同
+        when(partnerRepository.findIdsByEmails(anyCollection())).thenReturn(Map.of());
+        when(organizationRepository.findByName("Acme")).thenReturn(Optional.empty());
+        ImportOrganizationRequest request = validRequest()
+            .roles(List.of(ImportRoleDefinition.builder()
+                .name("Release Manager")
+                .purpose("Ship releases")
+                .domains(List.of(DomainDTO.builder().name("Production Deploys").build()))
+                .build()))
+            .circles(List.of(ImportCircleDefinition.builder()
+                .name("Ops")
+                .purpose("Run things")
+                .roles(List.of(ImportRoleDefinition.builder()
+                    .name("Operator")
+                    .purpose("Operate")
+                    .domains(List.of(
+                        DomainDTO.builder().name("Pager").build(),
+                        DomainDTO.builder().name("production deploys").controlType("shared").build()))
+                    .build()))
+                .build()))
+            .build();
+        
+        // When & Then
+        assertThatThrownBy(() -> service.startImport(request))
+            .isInstanceOf(ValidationException.class)
+            .satisfies(e -> assertThat(((ValidationException) e).getValidationErrors())
+                .containsOnlyKeys("circles[0].roles[0].domains[1]"));
+        verifyNoInteractions(bulkWriter);
+    }
+    
+    @Test
+    void shouldRejectExistingOrganizationName() {
+        // Given
+        when(partnerRepository.findIdsByEmails(anyCollection())).thenReturn(Map.of());
+        when(organizationRepository.findByName("Acme"))
+            .thenReturn(Optional.of(Organization.create("Acme", "")));
+        
+        // When & Then
+        assertThatThrownBy(() -> service.startImport(validRequest().build()))
+            .isInstanceOf(ValidationException.class)
+            .satisfies(e -> assertThat(((ValidationException) e).getValidationErrors()).containsKey("name"));
+    }
+    
+    @Test
+    void shouldMarkImportFailedWhenWriteFails() {
+        // Given
+        when(partnerRepository.findIdsByEmails(anyCollection())).thenReturn(Map.of());
+        when(organizationRepository.findByName("Acme")).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("duplicate key")).when(bulkWriter).write(any(), any());
+        
+        // When
+        OrganizationImportStatusDTO started = service.startImport(validRequest().build());
+        
+        // Then
+        OrganizationImportStatusDTO status = service.getStatus(started.getImportId());
+        assertThat(status.getState()).isEqualTo("FAILED");
+        assertThat(status.getError()).isEqualTo("duplicate key");
+    }
+    
+    @Test
+    void shouldCloneInBackgroundWithExpectedTotal() {
+        // Given
+        Organization source = Organization.create("Acme", "Source");
+        PartnerId alice = PartnerId.generate();
+        CircleSummaryView anchor = mock(CircleSummaryView.class);
+        when(anchor.getRoleCount()).thenReturn(4L);
+        when(anchor.getAssignmentCount()).thenReturn(2L);
+        when(organizationRepository.findById(source.getId())).thenReturn(Optional.of(source));
+        when(organizationRepository.findByName("Acme Sandbox")).thenReturn(Optional.empty());
+        when(partnerRepository.findIdsByEmails(List.of("alice@example.com"))).thenReturn(Map.of("alice@example.com", alice));
+        when(circleRepository.findSummariesByOrganizationId(source.getId())).thenReturn(List.of(anchor));
+        
+        // When
+        OrganizationImportStatusDTO started = service.startClone(source.getId(), CloneOrganizationRequest.builder()
+            .name("Acme Sandbox")
+            .clonedBy("alice@example.com")
+            .includeAssignments(true)
+            .build());
+        
+        // Then
+        ArgumentCaptor<Organization> target = ArgumentCaptor.forClass(Organization.class);
+        verify(cloner).cloneStructure(eq(source.getId()), target.capture(), eq(alice), eq(true), eq(8), any());
+        assertThat(target.getValue().getName()).isEqualTo("Acme Sandbox");
+        assertThat(target.getValue().getDescription()).isEqualTo("Source");
+        assertThat(service.getStatus(started.getImportId()).getState()).isEqualTo("COMPLETED");
+    }
+    
+    @Test
+    void shouldRejectCloneByUnknownPartner() {
+        // Given
+        Organization source = Organization.create("Acme", "Source");
+        when(organizationRepository.findById(source.getId())).thenReturn(Optional.of(source));
+        when(organizationRepository.findByName("Acme Sandbox")).thenReturn(Optional.empty());
+        when(partnerRepository.findIdsByEmails(anyCollection())).thenReturn(Map.of());
+        
+        // When & Then
+        assertThatThrownBy(() -> service.startClone(source.getId(), CloneOrganizationRequest.builder()
+                .name("Acme Sandbox")
+                .clonedBy("nobody@example.com")
+                .build()))
+            .isInstanceOf(ValidationException.class)
+            .satisfies(e -> assertThat(((ValidationException) e).getValidationErrors()).containsKey("clonedBy"));
+        verifyNoInteractions(cloner);
+    }
+    
+    @Test
+    void shouldThrowForUnknownImport() {
+        // When & Then
+        assertThatThrownBy(() -> service.getStatus("missing"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.xholacracy.application.service;
+
+import com.xholacracy.application.dto.proposal.ObjectionDTO;
+import com.xholacracy.application.dto.proposal.ReactionDTO;
+import com.xholacracy.application.dto.proposal.VoteDTO;
+import com.xholacracy.application.mapper.ProposalMapper;
+import com.xholacracy.domain.exception.InvalidStateTransitionException;
+import com.xholacracy.domain.exception.ResourceNotFoundException;
+import com.xholacracy.domain.exception.ValidationException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import com.xholacracy.domain.model.proposal.ProposalType;
+import com.xholacracy.domain.model.proposal.Tension;
+import com.xholacracy.domain.model.proposal.VoteType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProposalCommandServiceTest {
+    
+    @Mock
+    private ProposalRepository proposalRepository;
+    
+    @Mock
+    private ProposalMapper proposalMapper;
+    
+    @Mock
+    private DisplayNameService displayNameService;
+    
+    private ProposalCommandService service;
+    private OrganizationId organizationId;
+    private Proposal proposal;
+    
+    @BeforeEach
+    void setUp() {
+        service = new ProposalCommandService(proposalRepository, proposalMapper, displayNameService);
+        organizationId = OrganizationId.generate();
+        proposal = Proposal.create("Add release role",
+            Tension.create("No release owner", "Ad hoc releases", "Planned releases"),
+            ProposalType.ROLE_MODIFICATION, organizationId, CircleId.generate(), PartnerId.generate());
+    }
+    
+    @Test
+    void shouldCastVoteAndSaveProposal() {
+        // Given
+        PartnerId voter = PartnerId.generate();
+        when(proposalRepository.findById(organizationId, proposal.getId())).thenReturn(Optional.of(proposal));
+        when(proposalRepository.save(proposal)).thenReturn(proposal);
+        
+        // When
+        service.castVote(organizationId, proposal.getId(), voter,
+            VoteDTO.builder().voteType("approve").comment("Looks good").build());
+        
+        // Then
+        assertThat(proposal.getVotes()).singleElement().satisfies(vote -> {
+            assertThat(vote.getVoterId()).isEqualTo(voter);
+            assertThat(vote.getVoteType()).isEqualTo(VoteType.APPROVE);
+        });
+        verify(proposalRepository).save(proposal);
+    }
+    
+    @Test
+    void shouldRejectUnknownVoteTypeWithoutLoadingProposal() {
+        // When & Then
+        assertThatThrownBy(() -> service.castVote(organizationId, proposal.getId(), PartnerId.generate(),
+                VoteDTO.builder().voteType("maybe").build()))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(proposalRepository);
+    }
+    
+    @Test
+    void shouldRejectReactionOutsideReactionStage() {
+        // Given - 提案仍是草稿
+        when(proposalRepository.findById(organizationId, proposal.getId())).thenReturn(Optional.of(proposal));
+        
+        // When & Then
+        assertThatThrownBy(() -> service.addReaction(organizationId, proposal.getId(), PartnerId.generate(),
+                ReactionDTO.builder().content("Concerned about scope").build()))
+            .isInstanceOf(InvalidStateTransitionException.class);
+        verify(proposalRepository, never()).save(any());
+    }
+    
+    @Test
+    void shouldRequireCriteriaForObjection() {
+        // When & Then
+        assertThatThrownBy(() -> service.raiseObjection(organizationId, proposal.getId(), PartnerId.generate(),
+                ObjectionDTO.builder().reasoning("Harms the sales circle").build()))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(proposalRepository);
+    }
+    
+    @Test
+    void shouldFailForUnknownProposal() {
+        // Given
+        ProposalId missing = ProposalId.generate();
+        when(proposalRepository.findById(organizationId, missing)).thenReturn(Optional.empty());
+        
+        // When & Then
+        assertThatThrownBy(() -> service.castVote(organizationId, missing, PartnerId.generate(),
+                VoteDTO.builder().voteType("APPROVE").build()))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.xholacracy.domain.model.meeting;
 
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.proposal.ProposalId;
 import com.xholacracy.domain.model.proposal.ProposalStatus;
@@ -27,7 +28,7 @@ class GovernanceMeetingTest {
         Duration duration = Duration.ofHours(2);
         
         // When
-        GovernanceMeeting meeting = GovernanceMeeting.create(circleId, scheduledDate, duration);
+        GovernanceMeeting meeting = GovernanceMeeting.create(OrganizationId.generate(), circleId, scheduledDate, duration);
         
         // Then
         assertThat(meeting.getId()).isNotNull();
@@ -168,6 +169,53 @@ class GovernanceMeetingTest {
         assertThat(meeting.getParticipants()).hasSize(3);
     }
     
+    @Test
+    void shouldIgnoreExistingParticipantsWhenAddingInBulk() {
+        // Given
+        GovernanceMeeting meeting = createScheduledMeeting();
+        PartnerId existing = PartnerId.generate();
+        PartnerId first = PartnerId.generate();
+        PartnerId second = PartnerId.generate();
+        meeting.addParticipant(existing);
+        
+        // When
+        int added = meeting.addParticipants(List.of(first, existing, second, first));
+        int addedAgain = meeting.addParticipants(List.of(first, second));
+        
+        // Then
+        assertThat(added).isEqualTo(2);
+        assertThat(addedAgain).isZero();
+        assertThat(meeting.getParticipants()).containsExactly(existing, first, second);
+    }
+    
+    @Test
+    void shouldNotAddAnyParticipantWhenBulkContainsNull() {
+        // Given
+        GovernanceMeeting meeting = createScheduledMeeting();
+        List<PartnerId> partnerIds = Arrays.asList(PartnerId.generate(), null);
+        
+        // When & Then
+        assertThatThrownBy(() -> meeting.addParticipants(partnerIds))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(meeting.getParticipants()).isEmpty();
+    }
+    
+    @Test
+    void shouldCheckAttendeeWithoutCopyingParticipants() {
+        // Given
+        GovernanceMeeting meeting = createScheduledMeeting();
+        PartnerId facilitatorId = PartnerId.generate();
+        PartnerId participantId = PartnerId.generate();
+        meeting.setFacilitator(facilitatorId);
+        meeting.addParticipant(participantId);
+        
+        // When & Then
+        assertThat(meeting.isAttendee(facilitatorId)).isTrue();
+        assertThat(meeting.isAttendee(participantId)).isTrue();
+        assertThat(meeting.isAttendee(PartnerId.generate())).isFalse();
+        assertThat(meeting.isAttendee(null)).isFalse();
+    }
+    
     @Test
     void shouldRemoveParticipant() {
         // Given
@@ -383,6 +431,22 @@ class GovernanceMeetingTest {
         assertThat(meeting.getMeetingRecord().getAttendeeCount()).isEqualTo(2);
     }
     
+    @Test
+    void shouldRecordBatchAttendanceIdempotently() {
+        // Given
+        GovernanceMeeting meeting = createScheduledMeeting();
+        List<PartnerId> partnerIds = List.of(PartnerId.generate(), PartnerId.generate());
+        
+        // When
+        int recorded = meeting.recordAttendance(partnerIds);
+        int recordedAgain = meeting.recordAttendance(partnerIds);
+        
+        // Then
+        assertThat(recorded).isEqualTo(2);
+        assertThat(recordedAgain).isZero();
+        assertThat(meeting.getMeetingRecord().getAttendees()).containsExactlyElementsOf(partnerIds);
+    }
+    
     @Test
     void shouldRecordCheckIn() {
         // Given
@@ -403,11 +467,29 @@ class GovernanceMeetingTest {
         GovernanceMeeting meeting = createScheduledMeeting();
         meeting.start();
         
+        PartnerId authorId = PartnerId.generate();
+        
         // When
-        meeting.addNotes("Important discussion");
+        meeting.addNote(MeetingNote.create(authorId, "Important discussion"));
         
         // Then
-        assertThat(meeting.getMeetingRecord().getAdditionalNotes()).contains("Important discussion");
+        assertThat(meeting.getMeetingRecord().getNotes()).singleElement()
+                .satisfies(note -> {
+                    assertThat(note.getContent()).isEqualTo("Important discussion");
+                    assertThat(note.getAuthorId()).isEqualTo(authorId);
+                });
+    }
+    
+    @Test
+    void shouldNotAddNotesOutsideInProgressMeeting() {
+        // Given
+        GovernanceMeeting meeting = createScheduledMeeting();
+        
+        // When & Then
+        assertThatThrownBy(() -> meeting.addNote(MeetingNote.create(PartnerId.generate(), "Too early")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Can only add notes");
+        assertThat(meeting.getMeetingRecord().getNotes()).isEmpty();
     }
     
     @Test
@@ -479,6 +561,7 @@ class GovernanceMeetingTest {
         // Given
         LocalDateTime pastDate = LocalDateTime.now().minusDays(1);
         GovernanceMeeting meeting = GovernanceMeeting.create(
+                OrganizationId.generate(),
                 CircleId.generate(),
                 pastDate,
                 Duration.ofHours(1)
@@ -541,8 +624,8 @@ class GovernanceMeetingTest {
         LocalDateTime scheduledDate = LocalDateTime.now().plusDays(1);
         Duration duration = Duration.ofHours(2);
         
-        GovernanceMeeting meeting1 = GovernanceMeeting.create(circleId, scheduledDate, duration);
-        GovernanceMeeting meeting2 = GovernanceMeeting.create(circleId, scheduledDate, duration);
+        GovernanceMeeting meeting1 = GovernanceMeeting.create(OrganizationId.generate(), circleId, scheduledDate, duration);
+        GovernanceMeeting meeting2 = GovernanceMeeting.create(OrganizationId.generate(), circleId, scheduledDate, duration);
         
         // When & Then
         assertThat(meeting1).isNotEqualTo(meeting2);
@@ -555,6 +638,6 @@ class GovernanceMeetingTest {
         CircleId circleId = CircleId.generate();
         LocalDateTime scheduledDate = LocalDateTime.now().plusDays(1);
         Duration duration = Duration.ofHours(2);
-        return GovernanceMeeting.create(circleId, scheduledDate, duration);
+        return GovernanceMeeting.create(OrganizationId.generate(), circleId, scheduledDate, duration);
     }
 }
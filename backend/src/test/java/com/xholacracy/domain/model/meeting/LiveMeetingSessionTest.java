@@ -0,0 +1,146 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 现场会议会话测试
+ */
+class LiveMeetingSessionTest {
+    
+    private final ProposalId proposalId = ProposalId.generate();
+    private final PartnerId authorId = PartnerId.generate();
+    
+    @Test
+    void shouldApplyCommandsInMemoryAndNumberThem() {
+        // Given
+        LiveMeetingSession session = LiveMeetingSession.open(startedMeeting());
+        List<LiveMeetingJournalEntry> journaled = new ArrayList<>();
+        
+        // When
+        session.apply(LiveMeetingCommand.startAgendaItem(proposalId), journaled::add);
+        session.apply(LiveMeetingCommand.addNotes(authorId, "First"), journaled::add);
+        
+        // Then
+        assertThat(journaled).extracting(LiveMeetingJournalEntry::getSequence).containsExactly(1L, 2L);
+        assertThat(session.pending()).isEqualTo(journaled);
+        AgendaItemStatus itemStatus = session.read(meeting -> meeting.getAgenda().getItems().get(0).getStatus());
+        List<MeetingNote> notes = session.read(meeting -> meeting.getMeetingRecord().getNotes());
+        assertThat(itemStatus).isEqualTo(AgendaItemStatus.IN_PROGRESS);
+        assertThat(notes).extracting(MeetingNote::getContent, MeetingNote::getAuthorId)
+            .containsExactly(tuple("First", authorId));
+    }
+    
+    @Test
+    void shouldLeaveSessionUnchangedWhenCommandIsRejected() {
+        // Given
+        LiveMeetingSession session = LiveMeetingSession.open(startedMeeting());
+        List<LiveMeetingJournalEntry> journaled = new ArrayList<>();
+        
+        // When & Then - 议程项尚未开始，不能完成
+        assertThatThrownBy(() -> session.apply(LiveMeetingCommand.completeAgendaItem(proposalId, null), journaled::add))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(journaled).isEmpty();
+        assertThat(session.getSequence()).isZero();
+        assertThat(session.pending()).isEmpty();
+    }
+    
+    @Test
+    void shouldKeepLaterCommandsPendingAfterPartialFlush() {
+        // Given
+        LiveMeetingSession session = LiveMeetingSession.open(startedMeeting());
+        session.apply(LiveMeetingCommand.recordCheckIn("Hello"), entry -> { });
+        session.apply(LiveMeetingCommand.startAgendaItem(proposalId), entry -> { });
+        
+        // When - 刷新期间又有新命令
+        List<LiveMeetingJournalEntry> flushing = session.pending();
+        session.apply(LiveMeetingCommand.addNotes(authorId, "During flush"), entry -> { });
+        session.markFlushed(flushing.get(flushing.size() - 1).getSequence());
+        
+        // Then
+        assertThat(session.getFlushedSequence()).isEqualTo(2);
+        assertThat(session.pending()).extracting(LiveMeetingJournalEntry::getSequence).containsExactly(3L);
+    }
+    
+    @Test
+    void shouldReplayOnlyUnflushedJournalEntriesOnResume() {
+        // Given
+        PartnerId partnerId = PartnerId.generate();
+        List<LiveMeetingJournalEntry> journal = List.of(
+            LiveMeetingJournalEntry.of(1, LiveMeetingCommand.startAgendaItem(proposalId)),
+            LiveMeetingJournalEntry.of(2, LiveMeetingCommand.recordAttendance(List.of(partnerId))),
+            LiveMeetingJournalEntry.of(3, LiveMeetingCommand.completeAgendaItem(proposalId, "Done")));
+        GovernanceMeeting meeting = startedMeeting();
+        // 序号1已写入数据库
+        meeting.startAgendaItem(proposalId);
+        
+        // When
+        LiveMeetingSession session = LiveMeetingSession.resume(meeting, 1, journal);
+        
+        // Then
+        assertThat(session.getSequence()).isEqualTo(3);
+        assertThat(session.pending()).extracting(LiveMeetingJournalEntry::getSequence).containsExactly(2L, 3L);
+        boolean attended = session.read(m -> m.getMeetingRecord().isAttended(partnerId));
+        AgendaItemStatus itemStatus = session.read(m -> m.getAgenda().getItems().get(0).getStatus());
+        assertThat(attended).isTrue();
+        assertThat(itemStatus).isEqualTo(AgendaItemStatus.COMPLETED);
+    }
+    
+    @Test
+    void shouldDropJournalEntriesThatNoLongerApplyOnResume() {
+        // Given - 日志中的命令在数据库中的会议上已不适用
+        List<LiveMeetingJournalEntry> journal = List.of(
+            LiveMeetingJournalEntry.of(1, LiveMeetingCommand.completeAgendaItem(proposalId, "Done")),
+            LiveMeetingJournalEntry.of(2, LiveMeetingCommand.addNotes(authorId, "Kept")));
+        
+        // When
+        LiveMeetingSession session = LiveMeetingSession.resume(startedMeeting(), 0, journal);
+        
+        // Then
+        assertThat(session.pending()).extracting(LiveMeetingJournalEntry::getSequence).containsExactly(2L);
+        assertThat(session.getSequence()).isEqualTo(2);
+    }
+    
+    @Test
+    void shouldReportEndedAfterEndCommand() {
+        // Given
+        LiveMeetingSession session = LiveMeetingSession.open(startedMeeting());
+        
+        // When
+        session.apply(LiveMeetingCommand.end(), entry -> { });
+        
+        // Then
+        assertThat(session.isEnded()).isTrue();
+        assertThatThrownBy(() -> session.apply(LiveMeetingCommand.addNotes(authorId, "Late"), entry -> { }))
+            .isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    void shouldRejectSessionForMeetingNotInProgress() {
+        GovernanceMeeting meeting = GovernanceMeeting.create(OrganizationId.generate(), CircleId.generate(),
+            LocalDateTime.now().plusDays(1), Duration.ofHours(1));
+        
+        assertThatThrownBy(() -> LiveMeetingSession.open(meeting))
+            .isInstanceOf(IllegalStateException.class);
+    }
+    
+    private GovernanceMeeting startedMeeting() {
+        GovernanceMeeting meeting = GovernanceMeeting.create(OrganizationId.generate(), CircleId.generate(),
+            LocalDateTime.now().plusDays(1), Duration.ofHours(1));
+        meeting.addAgendaItem(proposalId);
+        meeting.start();
+        return meeting;
+    }
+}
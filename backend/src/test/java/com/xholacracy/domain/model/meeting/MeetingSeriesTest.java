@@ -0,0 +1,156 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.RoleHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MeetingSeriesTest {
+    
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 10, 0);
+    
+    private OrganizationId organizationId;
+    private CircleId circleId;
+    
+    @BeforeEach
+    void setUp() {
+        organizationId = OrganizationId.generate();
+        circleId = CircleId.generate();
+    }
+    
+    @Test
+    void shouldMaterializeOnlyOccurrencesEnteringTheHorizon() {
+        // Given
+        MeetingSeries series = weekly(RecurrenceRule.of(RecurrenceFrequency.WEEKLY, 1, null));
+        
+        // When
+        List<LocalDateTime> first = series.advanceTo(MONDAY.plusWeeks(3));
+        List<LocalDateTime> second = series.advanceTo(MONDAY.plusWeeks(5));
+        List<LocalDateTime> again = series.advanceTo(MONDAY.plusWeeks(5));
+        
+        // Then - 窗口上界不含，已生成的会议不会重复生成
+        assertThat(first).containsExactly(MONDAY, MONDAY.plusWeeks(1), MONDAY.plusWeeks(2));
+        assertThat(second).containsExactly(MONDAY.plusWeeks(3), MONDAY.plusWeeks(4));
+        assertThat(again).isEmpty();
+        assertThat(series.getMaterializedThrough()).isEqualTo(MONDAY.plusWeeks(5));
+        assertThat(series.getStatus()).isEqualTo(MeetingSeriesStatus.ACTIVE);
+    }
+    
+    @Test
+    void shouldHonourIntervalAndEndWhenHorizonPassesUntil() {
+        // Given - 每两周一次，最后日期落在第五周
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceFrequency.WEEKLY, 2, MONDAY.toLocalDate().plusWeeks(5));
+        MeetingSeries series = weekly(rule);
+        
+        // When
+        List<LocalDateTime> occurrences = series.advanceTo(MONDAY.plusWeeks(10));
+        
+        // Then
+        assertThat(occurrences).containsExactly(MONDAY, MONDAY.plusWeeks(2), MONDAY.plusWeeks(4));
+        assertThat(series.getStatus()).isEqualTo(MeetingSeriesStatus.ENDED);
+        assertThat(series.advanceTo(MONDAY.plusWeeks(20))).isEmpty();
+    }
+    
+    @Test
+    void shouldKeepMonthlyOccurrencesOnTheDayOfTheFirstMeeting() {
+        // Given - 从月末开始，短月取最后一天，之后回到31日
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceFrequency.MONTHLY, 1, null);
+        LocalDateTime first = LocalDateTime.of(2026, 1, 31, 9, 0);
+        
+        // When
+        List<LocalDateTime> occurrences = rule.occurrencesBetween(first, first.plusDays(1), first.plusMonths(3));
+        
+        // Then
+        assertThat(occurrences).containsExactly(
+            LocalDateTime.of(2026, 2, 28, 9, 0), LocalDateTime.of(2026, 3, 31, 9, 0));
+    }
+    
+    @Test
+    void shouldStopGeneratingAfterEndDate() {
+        // Given
+        MeetingSeries series = weekly(RecurrenceRule.of(RecurrenceFrequency.WEEKLY, 1, null));
+        series.advanceTo(MONDAY.plusWeeks(2));
+        
+        // When
+        series.endOn(MONDAY.toLocalDate().plusWeeks(3));
+        List<LocalDateTime> occurrences = series.advanceTo(MONDAY.plusWeeks(8));
+        
+        // Then
+        assertThat(occurrences).containsExactly(MONDAY.plusWeeks(2), MONDAY.plusWeeks(3));
+        assertThat(series.getStatus()).isEqualTo(MeetingSeriesStatus.ENDED);
+        assertThatThrownBy(() -> series.endOn(MONDAY.toLocalDate()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    void shouldEndImmediatelyWhenLastDateIsAlreadyMaterialized() {
+        // Given
+        MeetingSeries series = weekly(RecurrenceRule.of(RecurrenceFrequency.WEEKLY, 1, null));
+        series.advanceTo(MONDAY.plusWeeks(4));
+        
+        // When
+        series.endOn(MONDAY.toLocalDate().plusWeeks(1));
+        
+        // Then
+        assertThat(series.getStatus()).isEqualTo(MeetingSeriesStatus.ENDED);
+        assertThat(series.getRule().getUntil()).isEqualTo(MONDAY.toLocalDate().plusWeeks(1));
+    }
+    
+    @Test
+    void shouldRejectFirstOccurrenceAfterUntil() {
+        // Given
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceFrequency.DAILY, 1, LocalDate.of(2026, 1, 1));
+        
+        // When & Then
+        assertThatThrownBy(() -> weekly(rule)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.of(RecurrenceFrequency.DAILY, 0, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void shouldStaffOccurrenceFromCircleRoster() {
+        // Given - 同一伙伴担任多个角色时只算一次，其他圈子的担任者被忽略
+        MeetingSeries series = weekly(RecurrenceRule.of(RecurrenceFrequency.WEEKLY, 1, null));
+        PartnerId facilitator = PartnerId.generate();
+        PartnerId secretary = PartnerId.generate();
+        PartnerId member = PartnerId.generate();
+        CircleRoster roster = CircleRoster.of(circleId, List.of(
+            holder(circleId, facilitator, SpecialRoleType.FACILITATOR),
+            holder(circleId, secretary, SpecialRoleType.SECRETARY),
+            holder(circleId, member, null),
+            holder(circleId, facilitator, null),
+            holder(CircleId.generate(), PartnerId.generate(), null)));
+        
+        // When
+        GovernanceMeeting meeting = GovernanceMeeting.occurrenceOf(series, MONDAY, roster);
+        
+        // Then
+        assertThat(meeting.getSeriesId()).isEqualTo(series.getId());
+        assertThat(meeting.getScheduledDate()).isEqualTo(MONDAY);
+        assertThat(meeting.getDuration()).isEqualTo(Duration.ofMinutes(60));
+        assertThat(meeting.getStatus()).isEqualTo(MeetingStatus.SCHEDULED);
+        assertThat(meeting.getFacilitatorId()).isEqualTo(facilitator);
+        assertThat(meeting.getSecretaryId()).isEqualTo(secretary);
+        assertThat(meeting.getParticipants()).containsExactly(facilitator, secretary, member);
+        assertThatThrownBy(() -> GovernanceMeeting.occurrenceOf(series, MONDAY, CircleRoster.empty(CircleId.generate())))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private MeetingSeries weekly(RecurrenceRule rule) {
+        return MeetingSeries.create(organizationId, circleId, rule, MONDAY, Duration.ofMinutes(60));
+    }
+    
+    private static RoleHolder holder(CircleId circleId, PartnerId partnerId, SpecialRoleType type) {
+        return new RoleHolder(circleId.getValue(), partnerId.getValue(), type);
+    }
+}
@@ -5,6 +5,8 @@ import com.xholacracy.domain.model.proposal.ProposalId;
 import com.xholacracy.domain.model.proposal.ProposalStatus;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -370,7 +372,7 @@ class MeetingValueObjectsTest {
         
         // Then
         assertThat(record.getCheckInNotes()).isEmpty();
-        assertThat(record.getAdditionalNotes()).isEmpty();
+        assertThat(record.getNotes()).isEmpty();
         assertThat(record.getClosingNotes()).isEmpty();
         assertThat(record.getAttendees()).isEmpty();
         assertThat(record.getProposalOutcomes()).isEmpty();
@@ -392,17 +394,63 @@ class MeetingValueObjectsTest {
     }
     
     @Test
-    void shouldAddAdditionalNotes() {
+    void shouldAppendNotesInOrder() {
         // Given
         MeetingRecord record = MeetingRecord.create();
+        PartnerId author = PartnerId.generate();
+        LocalDateTime start = LocalDateTime.of(2026, 3, 2, 10, 0);
         
         // When
-        record.addAdditionalNotes("First note");
-        record.addAdditionalNotes("Second note");
+        record.addNote(MeetingNote.of(author, "First note", start));
+        record.addNote(MeetingNote.of(null, "Second note", start.plusMinutes(5)));
         
         // Then
-        assertThat(record.getAdditionalNotes()).contains("First note");
-        assertThat(record.getAdditionalNotes()).contains("Second note");
+        assertThat(record.getNoteCount()).isEqualTo(2);
+        assertThat(record.getNotes()).extracting(MeetingNote::getContent)
+                .containsExactly("First note", "Second note");
+        assertThat(record.getNotes().get(0).getAuthorId()).isEqualTo(author);
+        assertThat(record.getNotes().get(1).getAuthorId()).isNull();
+    }
+    
+    @Test
+    void shouldNotExposeNotesForModification() {
+        // Given
+        MeetingRecord record = MeetingRecord.create();
+        record.addNote(MeetingNote.create(PartnerId.generate(), "Kept"));
+        
+        // When & Then
+        assertThatThrownBy(() -> record.getNotes().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(record.getNoteCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldKeepEveryNoteOfLongMeeting() {
+        // Given
+        MeetingRecord record = MeetingRecord.create();
+        PartnerId author = PartnerId.generate();
+        String note = "x".repeat(MeetingNote.MAX_LENGTH);
+        
+        // When - 合计远超过原来5000字符的备注列
+        for (int i = 0; i < 1_000; i++) {
+            record.addNote(MeetingNote.create(author, note));
+        }
+        
+        // Then
+        assertThat(record.getNoteCount()).isEqualTo(1_000);
+        assertThat(record.generateSummary()).hasSizeGreaterThan(1_000 * MeetingNote.MAX_LENGTH);
+    }
+    
+    @Test
+    void shouldRejectBlankOrOversizedNote() {
+        PartnerId author = PartnerId.generate();
+        
+        assertThatThrownBy(() -> MeetingNote.create(author, " "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MeetingNote.create(author, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MeetingNote.create(author, "x".repeat(MeetingNote.MAX_LENGTH + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
     }
     
     @Test
@@ -466,6 +514,40 @@ class MeetingValueObjectsTest {
         assertThat(record.getAttendeeCount()).isEqualTo(3);
     }
     
+    @Test
+    void shouldCountOnlyNewAttendeesInBatch() {
+        // Given
+        MeetingRecord record = MeetingRecord.create();
+        PartnerId early = PartnerId.generate();
+        PartnerId late = PartnerId.generate();
+        record.recordAttendance(early);
+        
+        // When
+        int recorded = record.recordAttendance(List.of(late, early, late));
+        
+        // Then
+        assertThat(recorded).isEqualTo(1);
+        assertThat(record.getAttendees()).containsExactly(early, late);
+    }
+    
+    @Test
+    void shouldRecordLargeAttendanceInArrivalOrder() {
+        // Given
+        MeetingRecord record = MeetingRecord.create();
+        List<PartnerId> partnerIds = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            partnerIds.add(PartnerId.generate());
+        }
+        
+        // When
+        partnerIds.subList(0, 25_000).forEach(record::recordAttendance);
+        int recorded = record.recordAttendance(partnerIds);
+        
+        // Then
+        assertThat(recorded).isEqualTo(25_000);
+        assertThat(record.getAttendees()).containsExactlyElementsOf(partnerIds);
+    }
+    
     @Test
     void shouldRecordProposalOutcome() {
         // Given
@@ -506,7 +588,10 @@ class MeetingValueObjectsTest {
         record.recordAttendance(PartnerId.generate());
         record.recordAttendance(PartnerId.generate());
         record.recordProposalOutcome(ProposalOutcome.approved(ProposalId.generate(), "Approved"));
-        record.addAdditionalNotes("Important discussion");
+        record.addNote(MeetingNote.of(PartnerId.generate(), "Important discussion",
+                LocalDateTime.of(2026, 3, 2, 10, 15)));
+        record.addNote(MeetingNote.of(PartnerId.generate(), "Follow up next week",
+                LocalDateTime.of(2026, 3, 2, 10, 40)));
         record.recordClosing("Thank you all");
         
         // When
@@ -517,7 +602,7 @@ class MeetingValueObjectsTest {
         assertThat(summary).contains("参与者: 2 人");
         assertThat(summary).contains("Good energy");
         assertThat(summary).contains("Approved");
-        assertThat(summary).contains("Important discussion");
+        assertThat(summary).contains("- [10:15] Important discussion\n- [10:40] Follow up next week\n");
         assertThat(summary).contains("Thank you all");
     }
 }
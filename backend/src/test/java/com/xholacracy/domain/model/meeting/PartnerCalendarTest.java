@@ -0,0 +1,166 @@
+package com.xholacracy.domain.model.meeting;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PartnerCalendarTest {
+    
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+    
+    private PartnerId alice;
+    private PartnerId bob;
+    private PartnerCalendar calendar;
+    
+    @BeforeEach
+    void setUp() {
+        alice = PartnerId.generate();
+        bob = PartnerId.generate();
+        calendar = PartnerCalendar.of(OrganizationId.generate(), List.of());
+    }
+    
+    @Test
+    void shouldReportOverlappingBookingsOfEachAttendee() {
+        // Given
+        MeetingBooking morning = booking(MONDAY.withHour(9), 60, alice);
+        MeetingBooking noon = booking(MONDAY.withHour(11), 90, bob);
+        calendar.book(morning);
+        calendar.book(noon);
+        
+        // When
+        MeetingBooking candidate = booking(MONDAY.withHour(9).withMinute(30), 150, alice, bob);
+        List<CalendarConflict> conflicts = calendar.findConflicts(candidate);
+        
+        // Then
+        assertThat(conflicts).extracting(CalendarConflict::getPartnerId, CalendarConflict::getMeetingId)
+            .containsExactly(tuple(alice, morning.getMeetingId()), tuple(bob, noon.getMeetingId()));
+    }
+    
+    @Test
+    void shouldFindLongBookingThatStartedBeforeTheCandidate() {
+        // Given - 全天会议在候选之前开始，需要回看最长会议时长才能找到
+        MeetingBooking allDay = booking(MONDAY.withHour(8), 10 * 60, alice);
+        calendar.book(allDay);
+        calendar.book(booking(MONDAY.withHour(9), 30, alice));
+        
+        // When
+        List<CalendarConflict> conflicts = calendar.findConflicts(booking(MONDAY.withHour(16), 30, alice));
+        
+        // Then
+        assertThat(conflicts).extracting(CalendarConflict::getMeetingId).containsExactly(allDay.getMeetingId());
+    }
+    
+    @Test
+    void shouldNotTreatAdjacentBookingsAsConflicts() {
+        // Given
+        calendar.book(booking(MONDAY.withHour(9), 60, alice));
+        
+        // When
+        List<CalendarConflict> conflicts = calendar.findConflicts(booking(MONDAY.withHour(10), 60, alice));
+        
+        // Then
+        assertThat(conflicts).isEmpty();
+    }
+    
+    @Test
+    void shouldExcludeTheMeetingBeingRescheduled() {
+        // Given
+        MeetingBooking weekly = booking(MONDAY.withHour(9), 60, alice, bob);
+        calendar.book(weekly);
+        
+        // When
+        MeetingBooking moved = weekly.rescheduledTo(MONDAY.withHour(9).withMinute(30));
+        List<CalendarConflict> conflicts = calendar.findConflicts(moved);
+        
+        // Then
+        assertThat(conflicts).isEmpty();
+    }
+    
+    @Test
+    void shouldReindexRebookedMeetingAndForgetReleasedOne() {
+        // Given
+        MeetingBooking weekly = booking(MONDAY.withHour(9), 60, alice);
+        calendar.book(weekly);
+        
+        // When - 改期后旧时间不再占用
+        calendar.book(weekly.rescheduledTo(MONDAY.withHour(14)));
+        
+        // Then
+        assertThat(calendar.findConflicts(booking(MONDAY.withHour(9), 60, alice))).isEmpty();
+        assertThat(calendar.findConflicts(booking(MONDAY.withHour(14), 60, alice))).hasSize(1);
+        
+        // When
+        calendar.release(weekly.getMeetingId());
+        
+        // Then
+        assertThat(calendar.findConflicts(booking(MONDAY.withHour(14), 60, alice))).isEmpty();
+        assertThat(calendar.size()).isZero();
+    }
+    
+    @Test
+    void shouldListBookingsOfPartnerInWindow() {
+        // Given
+        MeetingBooking first = booking(MONDAY.withHour(9), 60, alice);
+        MeetingBooking second = booking(MONDAY.withHour(13), 60, alice, bob);
+        calendar.book(first);
+        calendar.book(second);
+        calendar.book(booking(MONDAY.plusDays(1).withHour(9), 60, alice));
+        
+        // When
+        List<MeetingBooking> bookings = calendar.bookingsOf(alice, MONDAY, MONDAY.plusDays(1));
+        
+        // Then
+        assertThat(bookings).containsExactly(first, second);
+    }
+    
+    @Test
+    void shouldFindGapsWhereAllPartnersAreFree() {
+        // Given
+        calendar.book(booking(MONDAY.withHour(9), 60, alice));
+        calendar.book(booking(MONDAY.withHour(9).withMinute(30), 60, bob));
+        calendar.book(booking(MONDAY.withHour(12), 30, bob));
+        calendar.book(booking(MONDAY.withHour(15), 60, PartnerId.generate()));
+        
+        // When
+        List<FreeSlot> slots = calendar.findFreeSlots(List.of(alice, bob),
+            MONDAY.withHour(8), MONDAY.withHour(17), Duration.ofMinutes(60), 10);
+        
+        // Then
+        assertThat(slots).containsExactly(
+            FreeSlot.of(MONDAY.withHour(8), MONDAY.withHour(9)),
+            FreeSlot.of(MONDAY.withHour(10).withMinute(30), MONDAY.withHour(12)),
+            FreeSlot.of(MONDAY.withHour(12).withMinute(30), MONDAY.withHour(17)));
+    }
+    
+    @Test
+    void shouldSkipShortGapsAndHonourLimit() {
+        // Given
+        calendar.book(booking(MONDAY.withHour(9), 60, alice));
+        calendar.book(booking(MONDAY.withHour(10).withMinute(15), 60, bob));
+        calendar.book(booking(MONDAY.withHour(13), 60, alice));
+        
+        // When
+        List<FreeSlot> slots = calendar.findFreeSlots(List.of(alice, bob),
+            MONDAY.withHour(9), MONDAY.withHour(18), Duration.ofMinutes(30), 1);
+        
+        // Then - 10:00到10:15的间隙太短
+        assertThat(slots).containsExactly(FreeSlot.of(MONDAY.withHour(11).withMinute(15), MONDAY.withHour(13)));
+    }
+    
+    @Test
+    void shouldRejectNonPositiveDuration() {
+        assertThatThrownBy(() -> calendar.findFreeSlots(List.of(alice), MONDAY, MONDAY.plusDays(1), Duration.ZERO, 5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private static MeetingBooking booking(LocalDateTime start, int minutes, PartnerId... attendees) {
+        return MeetingBooking.of(MeetingId.generate(), start, Duration.ofMinutes(minutes), List.of(attendees));
+    }
+}
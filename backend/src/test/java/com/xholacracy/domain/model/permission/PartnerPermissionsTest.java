@@ -0,0 +1,98 @@
+package com.xholacracy.domain.model.permission;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.DomainControlType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 伙伴权限单元测试
+ * 验证从特殊角色和角色领域编译出的每圈子能力位集
+ */
+class PartnerPermissionsTest {
+    
+    private final PartnerId partnerId = PartnerId.generate();
+    private final OrganizationId organization = OrganizationId.generate();
+    private final CircleId anchor = CircleId.generate();
+    private final CircleId product = CircleId.generate();
+    
+    @Test
+    void shouldGrantMembershipForAnyRole() {
+        // When
+        PartnerPermissions permissions = PartnerPermissions.compile(partnerId, List.of(
+            new PermissionGrant(organization.getValue(), product.getValue(), anchor.getValue(), null, null)));
+        
+        // Then
+        assertThat(permissions.capabilitiesIn(product)).containsExactly(Capability.MEMBER);
+        assertThat(permissions.has(product, Capability.ASSIGN_ROLES)).isFalse();
+        assertThat(permissions.has(anchor, Capability.MEMBER)).isFalse();
+    }
+    
+    @Test
+    void shouldGrantSpecialRoleCapabilities() {
+        // When
+        PartnerPermissions permissions = PartnerPermissions.compile(partnerId, List.of(
+            new PermissionGrant(organization.getValue(),
+                anchor.getValue(), null, SpecialRoleType.SECRETARY, null),
+            new PermissionGrant(organization.getValue(),
+                anchor.getValue(), null, SpecialRoleType.FACILITATOR, null)));
+        
+        // Then
+        assertThat(permissions.capabilitiesIn(anchor)).containsExactlyInAnyOrder(Capability.MEMBER,
+            Capability.SCHEDULE_MEETINGS, Capability.RECORD_OUTCOMES, Capability.FACILITATE_MEETINGS);
+    }
+    
+    @Test
+    void shouldMakeLeadAndRepMembersOfParentCircle() {
+        // When
+        PartnerPermissions permissions = PartnerPermissions.compile(partnerId, List.of(
+            new PermissionGrant(organization.getValue(),
+                product.getValue(), anchor.getValue(), SpecialRoleType.CIRCLE_LEAD, null)));
+        
+        // Then
+        assertThat(permissions.capabilitiesIn(product)).containsExactlyInAnyOrder(Capability.MEMBER,
+            Capability.ASSIGN_ROLES);
+        assertThat(permissions.capabilitiesIn(anchor)).containsExactly(Capability.MEMBER);
+        assertThat(permissions.getCircleIds()).containsExactlyInAnyOrder(anchor, product);
+    }
+    
+    @Test
+    void shouldGrantDomainCapabilitiesByControlType() {
+        // When
+        PartnerPermissions permissions = PartnerPermissions.compile(partnerId, List.of(
+            new PermissionGrant(organization.getValue(),
+                product.getValue(), anchor.getValue(), null, DomainControlType.EXCLUSIVE),
+            new PermissionGrant(organization.getValue(),
+                anchor.getValue(), null, null, DomainControlType.ADVISORY)));
+        
+        // Then
+        assertThat(permissions.has(product, Capability.CONTROL_DOMAIN)).isTrue();
+        assertThat(permissions.has(product, Capability.SHARE_DOMAIN)).isFalse();
+        assertThat(permissions.capabilitiesIn(anchor)).containsExactly(Capability.MEMBER);
+    }
+    
+    @Test
+    void shouldTrackOrganizationsWithAnyRole() {
+        // When
+        PartnerPermissions permissions = PartnerPermissions.compile(partnerId, List.of(
+            new PermissionGrant(organization.getValue(), product.getValue(), anchor.getValue(), null, null)));
+        
+        // Then
+        assertThat(permissions.isMemberOf(organization)).isTrue();
+        assertThat(permissions.isMemberOf(OrganizationId.generate())).isFalse();
+        assertThat(PartnerPermissions.compile(partnerId, List.of()).isMemberOf(organization)).isFalse();
+    }
+    
+    @Test
+    void shouldGiveEachCapabilityItsOwnBit() {
+        // When & Then
+        assertThat(Capability.maskOf(Capability.values())).isEqualTo((1L << Capability.values().length) - 1);
+        assertThat(Capability.MEMBER.isIn(Capability.grantedBy(SpecialRoleType.CIRCLE_REP))).isTrue();
+    }
+}
@@ -1,6 +1,7 @@
 package com.xholacracy.domain.model.proposal;
 
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import org.junit.jupiter.api.Test;
 
@@ -297,6 +298,7 @@ class ApprovalProcessTest {
             "Test Proposal",
             tension,
             ProposalType.PROCESS_OPTIMIZATION,
+            OrganizationId.generate(),
             CircleId.generate(),
             PartnerId.generate()
         );
@@ -2,6 +2,7 @@ package com.xholacracy.domain.model.proposal;
 
 import com.xholacracy.domain.exception.InvalidStateTransitionException;
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import org.junit.jupiter.api.Test;
 
@@ -318,6 +319,7 @@ class ProposalIntegrativeDecisionTest {
             "Test Proposal",
             tension,
             ProposalType.PROCESS_OPTIMIZATION,
+            OrganizationId.generate(),
             CircleId.generate(),
             PartnerId.generate()
         );
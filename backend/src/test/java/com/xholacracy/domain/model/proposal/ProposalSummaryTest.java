@@ -0,0 +1,124 @@
+package com.xholacracy.domain.model.proposal;
+
+import com.xholacracy.domain.event.ProposalChangedEvent;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProposalSummaryTest {
+
+    private Proposal createProposal() {
+        Tension tension = Tension.create("Need better communication", "Slow", "Fast");
+        return Proposal.create("Improve communication", tension, ProposalType.PROCESS_OPTIMIZATION,
+            OrganizationId.generate(), CircleId.generate(), PartnerId.generate());
+    }
+
+    private ProposalSummary project(List<ProposalChangedEvent> events) {
+        ProposalSummary summary = ProposalSummary.open(events.get(0));
+        for (ProposalChangedEvent event : events.subList(1, events.size())) {
+            summary.apply(event);
+        }
+        return summary;
+    }
+
+    @Test
+    void shouldRegisterEventForEachDecisionEvent() {
+        // Given
+        Proposal proposal = createProposal();
+
+        // When
+        proposal.submit();
+        proposal.startProposalStage();
+
+        // Then
+        assertEquals(3, proposal.domainEvents().size());
+        ProposalChangedEvent last = new ArrayList<>(proposal.domainEvents()).get(2);
+        assertEquals(DecisionEventType.STAGE_CHANGED, last.getEventType());
+        assertEquals(ProposalStatus.PROPOSAL_STAGE, last.getStatus());
+        assertEquals(proposal.getId(), last.getProposalId());
+    }
+
+    @Test
+    void shouldClearEventsAfterPublication() {
+        // Given
+        Proposal proposal = createProposal();
+
+        // When
+        proposal.clearDomainEvents();
+
+        // Then
+        assertTrue(proposal.domainEvents().isEmpty());
+        assertEquals(1, proposal.getDecisionHistory().size());
+    }
+
+    @Test
+    void shouldOpenSummaryFromCreationEvent() {
+        // Given
+        Proposal proposal = createProposal();
+
+        // When
+        ProposalSummary summary = project(new ArrayList<>(proposal.domainEvents()));
+
+        // Then
+        assertEquals(proposal.getId(), summary.getProposalId());
+        assertEquals(proposal.getOrganizationId(), summary.getOrganizationId());
+        assertEquals(proposal.getCircleId(), summary.getCircleId());
+        assertEquals(proposal.getProposerId(), summary.getProposerId());
+        assertEquals("Improve communication", summary.getTitle());
+        assertEquals(ProposalStatus.DRAFT, summary.getStatus());
+        assertEquals(DecisionEventType.PROPOSAL_CREATED, summary.getLastEventType());
+        assertNotNull(summary.getLastEventAt());
+        assertEquals(0, summary.getVoteCount());
+    }
+
+    @Test
+    void shouldTrackStageAndCounts() {
+        // Given
+        Proposal proposal = createProposal();
+        PartnerId partner = PartnerId.generate();
+        proposal.submit();
+        proposal.startProposalStage();
+        proposal.moveToClarificationStage();
+        proposal.addClarificationQuestion(Question.create(partner, "Why?"));
+        proposal.moveToReactionStage();
+        proposal.addReaction(Reaction.create(partner, "Looks good", 1));
+        proposal.addReaction(Reaction.create(PartnerId.generate(), "Agree", 2));
+        proposal.moveToAmendStage();
+        proposal.moveToObjectionStage();
+        proposal.addObjection(Objection.create(partner, "Causes harm",
+            ObjectionCriteria.create(true, false, true, true)));
+        proposal.addVote(Vote.create(partner, VoteType.APPROVE));
+        proposal.addVote(Vote.create(PartnerId.generate(), VoteType.APPROVE));
+        proposal.addVote(Vote.create(PartnerId.generate(), VoteType.ABSTAIN));
+
+        // When
+        ProposalSummary summary = project(new ArrayList<>(proposal.domainEvents()));
+
+        // Then
+        assertEquals(ProposalStatus.OBJECTION_STAGE, summary.getStatus());
+        assertEquals(1, summary.getQuestionCount());
+        assertEquals(2, summary.getReactionCount());
+        assertEquals(1, summary.getObjectionCount());
+        assertEquals(2, summary.getApproveCount());
+        assertEquals(0, summary.getObjectCount());
+        assertEquals(1, summary.getAbstainCount());
+        assertEquals(3, summary.getVoteCount());
+        assertEquals(DecisionEventType.VOTE_CAST, summary.getLastEventType());
+    }
+
+    @Test
+    void shouldRejectEventOfAnotherProposal() {
+        // Given
+        ProposalSummary summary = ProposalSummary.open(createProposal().domainEvents().iterator().next());
+        ProposalChangedEvent other = createProposal().domainEvents().iterator().next();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> summary.apply(other));
+    }
+}
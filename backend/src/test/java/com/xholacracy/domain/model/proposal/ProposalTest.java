@@ -2,6 +2,7 @@ package com.xholacracy.domain.model.proposal;
 
 import com.xholacracy.domain.exception.InvalidStateTransitionException;
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import org.junit.jupiter.api.Test;
 
@@ -17,11 +18,12 @@ class ProposalTest {
         String title = "Improve communication process";
         Tension tension = Tension.create("Need better communication", "Slow", "Fast");
         ProposalType type = ProposalType.PROCESS_OPTIMIZATION;
+        OrganizationId organizationId = OrganizationId.generate();
         CircleId circleId = CircleId.generate();
         PartnerId proposerId = PartnerId.generate();
         
         // When
-        Proposal proposal = Proposal.create(title, tension, type, circleId, proposerId);
+        Proposal proposal = Proposal.create(title, tension, type, organizationId, circleId, proposerId);
         
         // Then
         assertNotNull(proposal);
@@ -46,7 +48,7 @@ class ProposalTest {
         // When & Then
         assertThrows(IllegalArgumentException.class, () ->
             Proposal.create(null, tension, ProposalType.ROLE_MODIFICATION, 
-                CircleId.generate(), PartnerId.generate())
+                OrganizationId.generate(), CircleId.generate(), PartnerId.generate())
         );
     }
     
@@ -55,7 +57,7 @@ class ProposalTest {
         // When & Then
         assertThrows(IllegalArgumentException.class, () ->
             Proposal.create("title", null, ProposalType.ROLE_MODIFICATION, 
-                CircleId.generate(), PartnerId.generate())
+                OrganizationId.generate(), CircleId.generate(), PartnerId.generate())
         );
     }
     
@@ -307,6 +309,7 @@ class ProposalTest {
             "Test Proposal",
             tension,
             ProposalType.PROCESS_OPTIMIZATION,
+            OrganizationId.generate(),
             CircleId.generate(),
             PartnerId.generate()
         );
@@ -0,0 +1,113 @@
+package com.xholacracy.domain.model.role;
+
+import com.xholacracy.domain.exception.DomainException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 领域注册表单元测试
+ * 验证按规范化名称检测独占领域冲突以及一次遍历的冲突审计
+ */
+class DomainRegistryTest {
+    
+    private DomainRegistry registry;
+    private Role developer;
+    private Role releaseManager;
+    
+    @BeforeEach
+    void setUp() {
+        registry = DomainRegistry.empty(OrganizationId.generate());
+        CircleId circleId = CircleId.generate();
+        developer = Role.create("Developer", "Write code", circleId);
+        releaseManager = Role.create("Release Manager", "Ship releases", circleId);
+    }
+    
+    @Test
+    void shouldNormalizeCaseAndWhitespace() {
+        // When & Then
+        assertThat(DomainRegistry.normalize("  Production   Deploys ")).isEqualTo("production deploys");
+        assertThat(DomainRegistry.normalize("ＡＰＩ Keys")).isEqualTo("api keys");
+    }
+    
+    @Test
+    void shouldRejectSecondRoleClaimingExclusiveDomain() {
+        // Given
+        developer.addDomain(Domain.create("Production Deploys", "Deploy pipeline"), registry);
+        
+        // When & Then
+        assertThatThrownBy(() -> releaseManager.addDomain(Domain.create("production  deploys", null), registry))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("Developer");
+        assertThat(releaseManager.getDomains()).isEmpty();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldRejectSharedClaimOnExclusiveDomain() {
+        // Given
+        developer.addDomain(Domain.create("Repository", null, DomainControlType.EXCLUSIVE), registry);
+        
+        // When & Then
+        assertThat(registry.findConflict(releaseManager.getId(), "repository", DomainControlType.SHARED))
+            .hasValueSatisfying(claim -> assertThat(claim.getRoleId()).isEqualTo(developer.getId()));
+        assertThat(registry.findConflict(developer.getId(), "repository", DomainControlType.SHARED)).isEmpty();
+    }
+    
+    @Test
+    void shouldAllowSharedAndAdvisoryClaimsTogether() {
+        // Given
+        developer.addDomain(Domain.create("Repository", null, DomainControlType.SHARED), registry);
+        
+        // When
+        releaseManager.addDomain(Domain.create("Repository", null, DomainControlType.ADVISORY), registry);
+        
+        // Then
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.findConflict(RoleId.generate(), "Repository", DomainControlType.EXCLUSIVE)).isPresent();
+        assertThat(registry.findAllConflicts()).isEmpty();
+    }
+    
+    @Test
+    void shouldReleaseClaimWhenDomainRemoved() {
+        // Given
+        Domain deploys = Domain.create("Production Deploys", null);
+        developer.addDomain(deploys, registry);
+        
+        // When
+        developer.removeDomain(deploys, registry);
+        releaseManager.addDomain(Domain.create("Production Deploys", null), registry);
+        
+        // Then
+        assertThat(developer.getDomains()).isEmpty();
+        assertThat(releaseManager.getDomains()).hasSize(1);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldReportExistingConflictsInOnePass() {
+        // Given - 已持久化的数据中可能已有冲突
+        RoleId designer = RoleId.generate();
+        RoleId writer = RoleId.generate();
+        DomainRegistry loaded = DomainRegistry.of(OrganizationId.generate(), List.of(
+            new DomainClaim(designer, "Designer", "Brand Assets", DomainControlType.EXCLUSIVE),
+            new DomainClaim(writer, "Writer", "brand assets", DomainControlType.SHARED),
+            new DomainClaim(writer, "Writer", "Blog", DomainControlType.EXCLUSIVE),
+            new DomainClaim(designer, "Designer", "Figma", DomainControlType.SHARED),
+            new DomainClaim(writer, "Writer", "Figma", DomainControlType.SHARED)));
+        
+        // When
+        List<DomainConflict> conflicts = loaded.findAllConflicts();
+        
+        // Then
+        assertThat(conflicts).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getNormalizedName()).isEqualTo("brand assets");
+            assertThat(conflict.getClaims()).extracting(DomainClaim::getRoleId).containsExactly(designer, writer);
+        });
+    }
+}
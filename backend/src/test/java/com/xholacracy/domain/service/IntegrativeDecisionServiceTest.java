@@ -3,6 +3,7 @@ package com.xholacracy.domain.service;
 import com.xholacracy.domain.exception.InvalidStateTransitionException;
 import com.xholacracy.domain.exception.ResourceNotFoundException;
 import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.partner.PartnerId;
 import com.xholacracy.domain.model.proposal.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,11 +41,11 @@ class IntegrativeDecisionServiceTest {
         Objection objection = createObjection(proposal.getProposerId(), "Invalid objection");
         proposal.addObjection(objection);
         
-        when(proposalRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findById(proposal.getOrganizationId(), proposal.getId())).thenReturn(Optional.of(proposal));
         when(objectionValidationService.validate(any(Objection.class))).thenReturn(false);
         
         // When
-        service.processObjectionStage(proposal.getId());
+        service.processObjectionStage(proposal.getOrganizationId(), proposal.getId());
         
         // Then
         assertThat(proposal.getStatus()).isEqualTo(ProposalStatus.APPROVED);
@@ -58,11 +59,11 @@ class IntegrativeDecisionServiceTest {
         Objection validObjection = createObjection(proposal.getProposerId(), "Valid objection");
         proposal.addObjection(validObjection);
         
-        when(proposalRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findById(proposal.getOrganizationId(), proposal.getId())).thenReturn(Optional.of(proposal));
         when(objectionValidationService.validate(any(Objection.class))).thenReturn(true);
         
         // When
-        service.processObjectionStage(proposal.getId());
+        service.processObjectionStage(proposal.getOrganizationId(), proposal.getId());
         
         // Then
         assertThat(proposal.getStatus()).isEqualTo(ProposalStatus.INTEGRATION_STAGE);
@@ -72,11 +73,12 @@ class IntegrativeDecisionServiceTest {
     @Test
     void shouldThrowExceptionWhenProposalNotFound() {
         // Given
+        OrganizationId organizationId = OrganizationId.generate();
         ProposalId proposalId = ProposalId.generate();
-        when(proposalRepository.findById(proposalId)).thenReturn(Optional.empty());
+        when(proposalRepository.findById(organizationId, proposalId)).thenReturn(Optional.empty());
         
         // When & Then
-        assertThatThrownBy(() -> service.processObjectionStage(proposalId))
+        assertThatThrownBy(() -> service.processObjectionStage(organizationId, proposalId))
             .isInstanceOf(ResourceNotFoundException.class)
             .hasMessageContaining("Proposal");
     }
@@ -85,10 +87,10 @@ class IntegrativeDecisionServiceTest {
     void shouldThrowExceptionWhenProposalNotInObjectionStage() {
         // Given
         Proposal proposal = createDraftProposal();
-        when(proposalRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findById(proposal.getOrganizationId(), proposal.getId())).thenReturn(Optional.of(proposal));
         
         // When & Then
-        assertThatThrownBy(() -> service.processObjectionStage(proposal.getId()))
+        assertThatThrownBy(() -> service.processObjectionStage(proposal.getOrganizationId(), proposal.getId()))
             .isInstanceOf(InvalidStateTransitionException.class);
     }
     
@@ -96,10 +98,10 @@ class IntegrativeDecisionServiceTest {
     void shouldReturnToObjectionStageAfterIntegration() {
         // Given
         Proposal proposal = createProposalInIntegrationStage();
-        when(proposalRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findById(proposal.getOrganizationId(), proposal.getId())).thenReturn(Optional.of(proposal));
         
         // When
-        service.processIntegrationStage(proposal.getId());
+        service.processIntegrationStage(proposal.getOrganizationId(), proposal.getId());
         
         // Then
         assertThat(proposal.getStatus()).isEqualTo(ProposalStatus.OBJECTION_STAGE);
@@ -110,10 +112,10 @@ class IntegrativeDecisionServiceTest {
     void shouldThrowExceptionWhenProposalNotInIntegrationStage() {
         // Given
         Proposal proposal = createDraftProposal();
-        when(proposalRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findById(proposal.getOrganizationId(), proposal.getId())).thenReturn(Optional.of(proposal));
         
         // When & Then
-        assertThatThrownBy(() -> service.processIntegrationStage(proposal.getId()))
+        assertThatThrownBy(() -> service.processIntegrationStage(proposal.getOrganizationId(), proposal.getId()))
             .isInstanceOf(InvalidStateTransitionException.class);
     }
     
@@ -226,6 +228,7 @@ class IntegrativeDecisionServiceTest {
             "Create Product Role",
             tension,
             ProposalType.ROLE_MODIFICATION,
+            OrganizationId.generate(),
             CircleId.generate(),
             PartnerId.generate()
         );
@@ -0,0 +1,183 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.domain.model.sync.ChangeLogEntry;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import com.xholacracy.domain.model.sync.ChangedEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 变更日志集成测试
+ * 变更在事务提交前写入，因此测试不使用默认的回滚事务，而是逐个提交
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChangeLogIntegrationTest {
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private RoleRepository roleRepository;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate tx;
+    private Organization organization;
+    private long initialSequence;
+    
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        organization = organizationRepository.save(Organization.create("Sync Org", "Description"));
+        // 组织创建时连同锚圈子一起记录
+        initialSequence = changeLogRepository.currentSequence(organization.getId());
+    }
+    
+    private Circle saveSubCircle(String name) {
+        return tx.execute(status -> circleRepository.save(Circle.createSubCircle(
+            name, "Purpose", organization.getAnchorCircleId(), organization.getId())));
+    }
+    
+    @Test
+    void shouldRecordCircleAndCascadedRolesInOneSequence() {
+        // When
+        Circle circle = saveSubCircle("Product");
+        
+        // Then
+        OrganizationId organizationId = organization.getId();
+        List<ChangeLogEntry> entries = changeLogRepository.findSince(organizationId, initialSequence, 100);
+        assertThat(entries)
+            .extracting(ChangeLogEntry::getEntityType, ChangeLogEntry::getEntityId)
+            .contains(tuple(ChangedEntityType.CIRCLE, circle.getId().getValue()));
+        assertThat(entries).filteredOn(entry -> entry.getEntityType() == ChangedEntityType.ROLE)
+            .hasSize(circle.getRoles().size());
+        assertThat(entries).extracting(ChangeLogEntry::getSequence).containsOnly(initialSequence + 1);
+        assertThat(changeLogRepository.currentSequence(organizationId)).isEqualTo(initialSequence + 1);
+    }
+    
+    @Test
+    void shouldAdvanceSequenceAndReturnOnlyLaterChanges() {
+        // Given
+        Circle circle = saveSubCircle("Product");
+        Role role = circle.getRoles().get(0);
+        
+        // When
+        RoleAssignment assignment = tx.execute(status -> {
+            Role loaded = roleRepository.findById(role.getId()).orElseThrow();
+            RoleAssignment created = loaded.assignToPartner(PartnerId.generate(), PartnerId.generate());
+            roleRepository.save(loaded);
+            return created;
+        });
+        
+        // Then
+        List<ChangeLogEntry> later = changeLogRepository.findSince(organization.getId(), initialSequence + 1, 100);
+        assertThat(later)
+            .extracting(ChangeLogEntry::getEntityType, ChangeLogEntry::getEntityId)
+            .contains(tuple(ChangedEntityType.ROLE_ASSIGNMENT, assignment.getId()))
+            .doesNotContain(tuple(ChangedEntityType.CIRCLE, circle.getId().getValue()));
+        assertThat(later).extracting(ChangeLogEntry::getSequence).containsOnly(initialSequence + 2);
+        assertThat(changeLogRepository.currentSequence(organization.getId())).isEqualTo(initialSequence + 2);
+    }
+    
+    @Test
+    void shouldKeepTombstoneForDeletedRole() {
+        // Given
+        Circle circle = saveSubCircle("Product");
+        Role role = tx.execute(status -> roleRepository.save(Role.create("Developer", "Build it", circle.getId())));
+        
+        // When
+        tx.executeWithoutResult(status -> roleRepository.deleteById(role.getId()));
+        
+        // Then
+        List<ChangeLogEntry> entries = changeLogRepository.findSince(organization.getId(), initialSequence + 2, 100);
+        assertThat(entries).singleElement().satisfies(entry -> {
+            assertThat(entry.getEntityType()).isEqualTo(ChangedEntityType.ROLE);
+            assertThat(entry.getEntityId()).isEqualTo(role.getId().getValue());
+            assertThat(entry.isDeleted()).isTrue();
+            assertThat(entry.getSequence()).isEqualTo(initialSequence + 3);
+        });
+    }
+    
+    @Test
+    void shouldNotRecordReadOnlyTransactions() {
+        // Given
+        Circle circle = saveSubCircle("Product");
+        
+        // When
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> circleRepository.findById(circle.getId()));
+        
+        // Then
+        assertThat(changeLogRepository.currentSequence(organization.getId())).isEqualTo(initialSequence + 1);
+    }
+    
+    @Test
+    void shouldSerializeConcurrentWritesOnTheSequenceRow() throws Exception {
+        // Given
+        CountDownLatch start = new CountDownLatch(1);
+        
+        // When
+        CompletableFuture<Circle> first = CompletableFuture.supplyAsync(() -> {
+            await(start);
+            return saveSubCircle("Product");
+        });
+        CompletableFuture<Circle> second = CompletableFuture.supplyAsync(() -> {
+            await(start);
+            return saveSubCircle("Marketing");
+        });
+        start.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+        
+        // Then
+        List<ChangeLogEntry> entries = changeLogRepository.findSince(organization.getId(), initialSequence, 100);
+        assertThat(entries).filteredOn(entry -> entry.getEntityType() == ChangedEntityType.CIRCLE)
+            .extracting(ChangeLogEntry::getSequence)
+            .containsExactlyInAnyOrder(initialSequence + 1, initialSequence + 2);
+        assertThat(changeLogRepository.currentSequence(organization.getId())).isEqualTo(initialSequence + 2);
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
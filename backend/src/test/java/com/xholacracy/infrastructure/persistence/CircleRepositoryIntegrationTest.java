@@ -3,13 +3,16 @@ package com.xholacracy.infrastructure.persistence;
 import com.xholacracy.domain.model.circle.Circle;
 import com.xholacracy.domain.model.circle.CircleId;
 import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.circle.CircleSummaryView;
 import com.xholacracy.domain.model.organization.Organization;
 import com.xholacracy.domain.model.organization.OrganizationId;
 import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -33,6 +36,9 @@ class CircleRepositoryIntegrationTest {
     @Autowired
     private OrganizationRepository organizationRepository;
     
+    @Autowired
+    private TestEntityManager entityManager;
+    
     private OrganizationId organizationId;
     private CircleId anchorCircleId;
     
@@ -168,4 +174,58 @@ class CircleRepositoryIntegrationTest {
         assertThat(found.get().getPurpose()).isEqualTo("Updated Purpose");
         assertThat(found.get().getAccountabilities()).hasSize(2);
     }
+    
+    @Test
+    void shouldFindCircleSummariesWithCounts() {
+        // Given
+        Circle subCircle = Circle.createSubCircle(
+            "Summary Circle",
+            "Purpose",
+            anchorCircleId,
+            organizationId
+        );
+        subCircle.getRoles().get(0).assignToPartner(PartnerId.generate(), PartnerId.generate());
+        circleRepository.save(subCircle);
+        
+        // When
+        List<CircleSummaryView> summaries = circleRepository.findSummariesByParentCircleId(anchorCircleId);
+        
+        // Then
+        assertThat(summaries).hasSize(1);
+        CircleSummaryView summary = summaries.get(0);
+        assertThat(summary.getId()).isEqualTo(subCircle.getId().getValue());
+        assertThat(summary.getName()).isEqualTo("Summary Circle");
+        assertThat(summary.getRoleCount()).isEqualTo(4);
+        assertThat(summary.getSubCircleCount()).isZero();
+        assertThat(summary.getAssignmentCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldChangeVersionTagWhenNestedContentChanges() {
+        // Given
+        Circle subCircle = circleRepository.save(Circle.createSubCircle(
+            "Tagged Circle",
+            "Purpose",
+            anchorCircleId,
+            organizationId
+        ));
+        entityManager.flush();
+        String initial = circleRepository.findVersionTagById(anchorCircleId).orElseThrow();
+        
+        // When - 子圈子的角色分配变化
+        subCircle.getRoles().get(0).assignToPartner(PartnerId.generate(), PartnerId.generate());
+        entityManager.flush();
+        String afterAssignment = circleRepository.findVersionTagById(anchorCircleId).orElseThrow();
+        
+        // When - 子圈子下新增圈子
+        circleRepository.save(Circle.createSubCircle("Nested", "Purpose", subCircle.getId(), organizationId));
+        entityManager.flush();
+        String afterNested = circleRepository.findVersionTagById(anchorCircleId).orElseThrow();
+        
+        // Then
+        assertThat(afterAssignment).isNotEqualTo(initial);
+        assertThat(afterNested).isNotEqualTo(afterAssignment);
+        assertThat(circleRepository.findVersionTagById(anchorCircleId)).contains(afterNested);
+        assertThat(circleRepository.findVersionTagById(CircleId.generate())).isEmpty();
+    }
 }
@@ -0,0 +1,92 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.DomainClaim;
+import com.xholacracy.domain.model.role.DomainControlType;
+import com.xholacracy.domain.model.role.DomainRegistry;
+import com.xholacracy.domain.model.role.DomainRegistryRepository;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 领域注册表集成测试
+ * 注册表由一次投影查询加载，只包含本组织的领域声明
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+class DomainRegistryIntegrationTest {
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private RoleRepository roleRepository;
+    
+    @Autowired
+    private DomainRegistryRepository domainRegistryRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Test
+    void shouldLoadOrganizationClaimsInOneQuery() {
+        // Given - 锚定圈子和子圈子各有一个角色声明同一个独占领域，另一个组织有同名领域
+        Organization organization = organizationRepository.save(Organization.create("Registry Org", "Description"));
+        Circle ops = circleRepository.save(Circle.createSubCircle("Ops", "Run things",
+            organization.getAnchorCircleId(), organization.getId()));
+        saveRole("Release Manager", organization.getAnchorCircleId(),
+            Domain.create("Production Deploys", null), Domain.create("Roadmap", null, DomainControlType.SHARED));
+        saveRole("Operator", ops.getId(),
+            Domain.create("production deploys", null, DomainControlType.SHARED));
+        Organization other = organizationRepository.save(Organization.create("Other Org", "Description"));
+        saveRole("Deployer", other.getAnchorCircleId(), Domain.create("Production Deploys", null));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // When
+        DomainRegistry registry = domainRegistryRepository.load(organization.getId());
+        
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(registry.size()).isEqualTo(3);
+        assertThat(registry.findAllConflicts()).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getNormalizedName()).isEqualTo("production deploys");
+            assertThat(conflict.getClaims()).extracting(DomainClaim::getRoleName)
+                .containsExactly("Release Manager", "Operator");
+        });
+        assertThat(domainRegistryRepository.load(other.getId()).findAllConflicts()).isEmpty();
+    }
+    
+    private void saveRole(String name, CircleId circleId, Domain... domains) {
+        Role role = Role.create(name, "Purpose", circleId);
+        for (Domain domain : domains) {
+            role.addDomain(domain);
+        }
+        roleRepository.save(role);
+    }
+}
@@ -0,0 +1,124 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 实体字节码增强基准测试
+ * 测量只读取名称的实体列表加载的分配字节数（大文本延迟加载），
+ * 以及持久化上下文中大量受管实体只有少数被修改时的刷新耗时
+ * 内存H2直接返回已存储的字符串，不会体现网络传输和解码的节省，分配字节主要反映增强本身的开销
+ *
+ * 默认构建不运行，使用 mvn test -Pbenchmark 执行
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+class EntityEnhancementBenchmarkTest {
+    
+    private static final int ROWS = 5_000;
+    private static final int MODIFIED = 10;
+    private static final int ITERATIONS = 5;
+    private static final String LONG_PURPOSE = "p".repeat(990);
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    private OrganizationId organizationId;
+    
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationRepository.save(Organization.create("Benchmark Org", "Benchmark"));
+        organizationId = organization.getId();
+        for (int i = 1; i < ROWS; i++) {
+            entityManager.persist(Circle.createSubCircle("Circle " + i, LONG_PURPOSE + i,
+                organization.getAnchorCircleId(), organizationId));
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void listingNamesShouldNotDependOnLargeText() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        loadNames(); // 预热
+        
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            entityManager.clear();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            List<String> names = loadNames();
+            total += threads.getThreadAllocatedBytes(threadId) - before;
+            assertThat(names).hasSize(ROWS);
+        }
+        
+        System.out.printf("Circle name listing, %d entities: %,d bytes allocated%n", ROWS, total / ITERATIONS);
+    }
+    
+    @Test
+    void flushShouldScaleWithModifiedEntities() {
+        flushAfterModifying(); // 预热
+        
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            total += flushAfterModifying();
+        }
+        
+        System.out.printf("Flush with %d managed circles, %d modified: %,d us%n",
+            ROWS, MODIFIED, total / ITERATIONS / 1_000);
+    }
+    
+    private List<String> loadNames() {
+        return circleRepository.findByOrganizationId(organizationId).stream()
+            .map(Circle::getName)
+            .toList();
+    }
+    
+    /**
+     * 加载全部圈子后修改其中少数几个，返回刷新耗时（纳秒）
+     */
+    private long flushAfterModifying() {
+        entityManager.clear();
+        List<Circle> circles = circleRepository.findByOrganizationId(organizationId);
+        for (int i = 0; i < MODIFIED; i++) {
+            Circle circle = circles.get(i * (circles.size() / MODIFIED));
+            circle.updateInfo(circle.getName() + "*", circle.getPurpose(), null);
+        }
+        long start = System.nanoTime();
+        entityManager.flush();
+        return System.nanoTime() - start;
+    }
+}
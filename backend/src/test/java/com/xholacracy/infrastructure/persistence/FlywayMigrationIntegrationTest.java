@@ -0,0 +1,278 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.domain.model.meeting.AgendaItem;
+import com.xholacracy.domain.model.meeting.AgendaItemStatus;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.infrastructure.persistence.archive.AggregateDocumentCodec;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Flyway迁移冒烟测试
+ * 在真实PostgreSQL上执行迁移脚本，覆盖H2集成测试无法执行的分区表、会议子表主键回填、备注迁移、摘要组织回填、
+ * 变更序号回填和归档会议文档的格式与备注迁移
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationIntegrationTest {
+    
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+    
+    private static final LocalDateTime SCHEDULED_DATE = LocalDateTime.of(2024, 3, 1, 10, 0);
+    
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway("latest").clean();
+    }
+    
+    @Test
+    void shouldApplyAllMigrationsToEmptyDatabase() {
+        // When
+        flyway("latest").migrate();
+        
+        // Then
+        assertThat(flyway("latest").info().pending()).isEmpty();
+        assertThat(partitionCount("proposals")).isEqualTo(16);
+        assertThat(partitionCount("governance_meetings")).isEqualTo(16);
+        assertThat(partitionCount("meeting_attendance")).isEqualTo(16);
+        assertThat(partitionCount("meeting_notes")).isEqualTo(16);
+    }
+    
+    @Test
+    void shouldKeyExistingMeetingRowsWhenUpgradingToStableKeys() {
+        // Given
+        flyway("10").migrate();
+        String organizationId = insertOrganization();
+        String circleId = insertCircle(organizationId);
+        String meetingId = insertMeeting(organizationId, circleId, null);
+        String first = insertPartner();
+        String second = insertPartner();
+        jdbcTemplate.update("INSERT INTO meeting_participants VALUES (?, ?, ?), (?, ?, ?)",
+            organizationId, meetingId, first, organizationId, meetingId, second);
+        jdbcTemplate.update("INSERT INTO meeting_attendance VALUES (?, ?, ?), (?, ?, ?)",
+            organizationId, meetingId, first, organizationId, meetingId, first);
+        
+        // When
+        flyway("latest").migrate();
+        
+        // Then
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT partner_id FROM meeting_participants WHERE meeting_id = ? ORDER BY order_index", String.class,
+            meetingId)).containsExactly(first, second);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT partner_id FROM meeting_attendance WHERE meeting_id = ?", String.class,
+            meetingId)).containsExactly(first);
+    }
+    
+    @Test
+    void shouldMoveAdditionalNotesIntoNoteLog() {
+        // Given
+        flyway("11").migrate();
+        String organizationId = insertOrganization();
+        String circleId = insertCircle(organizationId);
+        String meetingId = insertMeeting(organizationId, circleId, "Follow up on the budget");
+        
+        // When
+        flyway("latest").migrate();
+        
+        // Then
+        assertThat(jdbcTemplate.queryForMap(
+            "SELECT entry_index, content, author_id, recorded_at FROM meeting_notes WHERE meeting_id = ?", meetingId))
+            .containsEntry("entry_index", 0)
+            .containsEntry("content", "Follow up on the budget")
+            .containsEntry("author_id", null)
+            .containsEntry("recorded_at", Timestamp.valueOf(SCHEDULED_DATE));
+    }
+    
+    @Test
+    void shouldBackfillProposalSummaryOrganization() {
+        // Given
+        flyway("12").migrate();
+        String organizationId = insertOrganization();
+        String circleId = insertCircle(organizationId);
+        String proposalId = insertProposalSummary(circleId);
+        String orphanId = insertProposalSummary(UUID.randomUUID().toString());
+        
+        // When
+        flyway("latest").migrate();
+        
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT organization_id FROM proposal_summary WHERE proposal_id = ?", String.class,
+            proposalId)).isEqualTo(organizationId);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM proposal_summary WHERE proposal_id = ?", Integer.class,
+            orphanId)).isZero();
+    }
+    
+    @Test
+    void shouldBackfillChangeSequenceForOrganizationsWithoutOne() {
+        // Given
+        flyway("13").migrate();
+        String organizationId = insertOrganization();
+        
+        // When
+        flyway("latest").migrate();
+        
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT last_sequence FROM organization_change_sequences WHERE organization_id = ?", Long.class,
+            organizationId)).isZero();
+    }
+    
+    @Test
+    void shouldRewriteArchivedMeetingDocumentsToKeyedCollections() {
+        // Given - V11之前归档的会议，子集合是列表
+        flyway("10").migrate();
+        String organizationId = insertOrganization();
+        String meetingId = UUID.randomUUID().toString();
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        String decided = UUID.randomUUID().toString();
+        String skipped = UUID.randomUUID().toString();
+        String document = """
+            {"key": {"organizationId": {"value": "%1$s"}, "id": {"value": "%2$s"}},
+             "circleId": {"value": "%3$s"}, "scheduledDate": "2024-03-01T10:00:00", "duration": 3600.0,
+             "status": "COMPLETED",
+             "agenda": {"items": [
+               {"proposalId": {"value": "%6$s"}, "orderIndex": 0, "status": "COMPLETED", "notes": "Adopted"},
+               {"proposalId": {"value": "%7$s"}, "orderIndex": 1, "status": "SKIPPED", "notes": "Out of time"}]},
+             "participants": [{"value": "%4$s"}, {"value": "%5$s"}, {"value": "%4$s"}],
+             "meetingRecord": {"checkInNotes": "", "closingNotes": "",
+               "attendees": [{"value": "%5$s"}],
+               "proposalOutcomes": [{"proposalId": {"value": "%6$s"}, "finalStatus": "APPROVED",
+                 "outcome": "Approved", "notes": "No objections", "processedAt": "2024-03-01T10:30:00"}]},
+             "actualStartTime": "2024-03-01T10:00:00", "actualEndTime": "2024-03-01T11:00:00"}
+            """.formatted(organizationId, meetingId, UUID.randomUUID(), first, second, decided, skipped);
+        jdbcTemplate.update("INSERT INTO archived_aggregates "
+                + "(aggregate_type, organization_id, id, circle_id, status, version_tag, document) "
+                + "VALUES ('MEETING', ?, ?, ?, 'COMPLETED', '3', ?::jsonb)",
+            organizationId, meetingId, UUID.randomUUID().toString(), document);
+        
+        // When
+        flyway("latest").migrate();
+        
+        // Then - 迁移后的文档能按当前模型还原
+        GovernanceMeeting meeting = new AggregateDocumentCodec().read(archivedDocument(meetingId), GovernanceMeeting.class);
+        assertThat(meeting.getParticipants()).containsExactlyInAnyOrder(PartnerId.of(first), PartnerId.of(second));
+        assertThat(meeting.getMeetingRecord().getAttendees()).containsExactly(PartnerId.of(second));
+        assertThat(meeting.getAgenda().getItems())
+            .extracting(AgendaItem::getProposalId, AgendaItem::getStatus)
+            .containsExactlyInAnyOrder(tuple(ProposalId.of(decided), AgendaItemStatus.COMPLETED),
+                tuple(ProposalId.of(skipped), AgendaItemStatus.SKIPPED));
+        assertThat(meeting.getMeetingRecord().getProposalOutcome(ProposalId.of(decided)).getNotes())
+            .isEqualTo("No objections");
+    }
+    
+    @Test
+    void shouldMoveArchivedAdditionalNotesIntoNoteLog() {
+        // Given - V12之前归档的会议，备注是一个字符串
+        flyway("11").migrate();
+        String organizationId = insertOrganization();
+        String meetingId = UUID.randomUUID().toString();
+        String document = """
+            {"key": {"organizationId": {"value": "%1$s"}, "id": {"value": "%2$s"}},
+             "circleId": {"value": "%3$s"}, "scheduledDate": "2024-03-01T10:00:00", "duration": 3600.0,
+             "status": "CANCELLED", "agenda": {"items": {}}, "participants": [],
+             "meetingRecord": {"checkInNotes": "", "additionalNotes": "Follow up on the budget",
+               "closingNotes": "", "attendees": [], "proposalOutcomes": {}},
+             "actualStartTime": null, "actualEndTime": null}
+            """.formatted(organizationId, meetingId, UUID.randomUUID());
+        jdbcTemplate.update("INSERT INTO archived_aggregates "
+                + "(aggregate_type, organization_id, id, circle_id, status, version_tag, document) "
+                + "VALUES ('MEETING', ?, ?, ?, 'CANCELLED', '1', ?::jsonb)",
+            organizationId, meetingId, UUID.randomUUID().toString(), document);
+        
+        // When
+        flyway("latest").migrate();
+        
+        // Then - 与热表的迁移一致：成为第一条备注，没有作者，时间取会议计划时间
+        GovernanceMeeting meeting = new AggregateDocumentCodec().read(archivedDocument(meetingId), GovernanceMeeting.class);
+        assertThat(meeting.getMeetingRecord().getNotes()).singleElement().satisfies(note -> {
+            assertThat(note.getContent()).isEqualTo("Follow up on the budget");
+            assertThat(note.getAuthorId()).isNull();
+            assertThat(note.getRecordedAt()).isEqualTo(SCHEDULED_DATE);
+        });
+        assertThat(archivedDocument(meetingId)).doesNotContain("additionalNotes");
+    }
+    
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+            .dataSource(dataSource)
+            .cleanDisabled(false)
+            .target(target)
+            .load();
+    }
+    
+    private int partitionCount(String table) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pg_inherits WHERE inhparent = ?::regclass", Integer.class, table);
+    }
+    
+    private String insertOrganization() {
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO organizations (id, name) VALUES (?, ?)", id, "Migrated Org");
+        return id;
+    }
+    
+    private String insertCircle(String organizationId) {
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO circles (id, name, organization_id) VALUES (?, ?, ?)",
+            id, "Anchor Circle", organizationId);
+        return id;
+    }
+    
+    private String insertPartner() {
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO partners (id, name, email) VALUES (?, ?, ?)",
+            id, "Partner", id + "@example.com");
+        return id;
+    }
+    
+    private String insertMeeting(String organizationId, String circleId, String additionalNotes) {
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO governance_meetings "
+                + "(organization_id, id, circle_id, scheduled_date, duration, status, additional_notes) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            organizationId, id, circleId, Timestamp.valueOf(SCHEDULED_DATE), 3600, "COMPLETED", additionalNotes);
+        return id;
+    }
+    
+    private String archivedDocument(String id) {
+        return jdbcTemplate.queryForObject(
+            "SELECT document::text FROM archived_aggregates WHERE aggregate_type = 'MEETING' AND id = ?",
+            String.class, id);
+    }
+    
+    private String insertProposalSummary(String circleId) {
+        String id = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.valueOf(SCHEDULED_DATE);
+        jdbcTemplate.update("INSERT INTO proposal_summary "
+                + "(proposal_id, circle_id, proposer_id, title, proposal_type, status, last_event_type, "
+                + "last_event_at, created_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            id, circleId, UUID.randomUUID().toString(), "Add release role", "ROLE_MODIFICATION", "SUBMITTED",
+            "PROPOSAL_SUBMITTED", now, now);
+        return id;
+    }
+}
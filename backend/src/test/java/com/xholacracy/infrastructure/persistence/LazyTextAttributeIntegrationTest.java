@@ -0,0 +1,121 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.Objection;
+import com.xholacracy.domain.model.proposal.ObjectionCriteria;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import com.xholacracy.domain.model.proposal.ProposalType;
+import com.xholacracy.domain.model.proposal.Tension;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 字节码增强集成测试
+ * 验证大文本字段只在访问时加载，依赖构建时的hibernate-enhance-maven-plugin
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+class LazyTextAttributeIntegrationTest {
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private ProposalRepository proposalRepository;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    private Circle circle;
+    
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationRepository.save(Organization.create("Test Org", "Description"));
+        circle = circleRepository.save(Circle.createSubCircle("Product", "Product development",
+            organization.getAnchorCircleId(), organization.getId()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void shouldLoadCirclePurposeOnlyWhenAccessed() {
+        // When
+        Circle loaded = circleRepository.findById(circle.getId()).orElseThrow();
+        
+        // Then
+        assertThat(Hibernate.isPropertyInitialized(loaded, "name")).isTrue();
+        assertThat(Hibernate.isPropertyInitialized(loaded, "purpose")).isFalse();
+        assertThat(loaded.getPurpose()).isEqualTo("Product development");
+        assertThat(Hibernate.isPropertyInitialized(loaded, "purpose")).isTrue();
+    }
+    
+    @Test
+    void shouldLoadObjectionReasoningOnlyWhenAccessed() {
+        // Given
+        Proposal proposal = saveProposalWithObjection("Overlaps with the ops role");
+        
+        // When
+        Objection objection = proposalRepository.findById(proposal.getOrganizationId(), proposal.getId()).orElseThrow()
+            .getObjections().get(0);
+        
+        // Then
+        assertThat(Hibernate.isPropertyInitialized(objection, "objectorId")).isTrue();
+        assertThat(Hibernate.isPropertyInitialized(objection, "reasoning")).isFalse();
+        assertThat(objection.getReasoning()).isEqualTo("Overlaps with the ops role");
+    }
+    
+    @Test
+    void shouldUpdateWithoutLoadingOrLosingLazyText() {
+        // Given
+        Proposal proposal = saveProposalWithObjection("Overlaps with the ops role");
+        Objection objection = proposalRepository.findById(proposal.getOrganizationId(), proposal.getId()).orElseThrow()
+            .getObjections().get(0);
+        
+        // When
+        objection.validate(PartnerId.generate(), true);
+        entityManager.flush();
+        
+        // Then
+        assertThat(Hibernate.isPropertyInitialized(objection, "reasoning")).isFalse();
+        entityManager.clear();
+        Objection reloaded = proposalRepository.findById(proposal.getOrganizationId(), proposal.getId()).orElseThrow()
+            .getObjections().get(0);
+        assertThat(reloaded.getIsValid()).isTrue();
+        assertThat(reloaded.getReasoning()).isEqualTo("Overlaps with the ops role");
+    }
+    
+    private Proposal saveProposalWithObjection(String reasoning) {
+        Proposal proposal = Proposal.create("Add release role",
+            Tension.create("No release owner", "Ad hoc releases", "Planned releases"),
+            ProposalType.ROLE_MODIFICATION, circle.getOrganizationId(), circle.getId(), PartnerId.generate());
+        proposal.submit();
+        proposal.startProposalStage();
+        proposal.moveToClarificationStage();
+        proposal.moveToReactionStage();
+        proposal.moveToAmendStage();
+        proposal.moveToObjectionStage();
+        proposal.addObjection(Objection.create(PartnerId.generate(), reasoning,
+            ObjectionCriteria.create(true, false, false, false)));
+        proposalRepository.save(proposal);
+        entityManager.flush();
+        entityManager.clear();
+        return proposal;
+    }
+}
@@ -0,0 +1,239 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.AgendaItem;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingNote;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.ProposalOutcome;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 会议子集合写入集成测试
+ * 参与者、出席、议程项、提案结果和备注按稳定的键逐行写入，改动一个元素不重写整个集合。
+ * 关闭JDBC批处理，使每一行写入都计为一条语句
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=0")
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+class MeetingCollectionWriteIntegrationTest {
+    
+    private static final int SIZE = 200;
+    
+    /**
+     * 子表的一行写入，加上会议聚合的版本号更新
+     */
+    private static final long ONE_ROW = 2;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private MeetingRepository meetingRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private OrganizationId organizationId;
+    private CircleId circleId;
+    private final List<PartnerId> partnerIds = new ArrayList<>();
+    private final List<ProposalId> proposalIds = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationRepository.save(Organization.create("Town Hall Org", "Description"));
+        organizationId = organization.getId();
+        circleId = organization.getAnchorCircleId();
+        for (int i = 0; i < SIZE; i++) {
+            partnerIds.add(PartnerId.generate());
+            proposalIds.add(ProposalId.generate());
+        }
+    }
+    
+    @Test
+    void shouldInsertOneRowWhenParticipantIsAdded() {
+        // Given
+        GovernanceMeeting meeting = storedMeeting(true);
+        PartnerId newcomer = PartnerId.generate();
+        
+        // When
+        long statements = statementsFor(meeting, loaded -> loaded.addParticipant(newcomer));
+        
+        // Then
+        assertThat(statements).isEqualTo(ONE_ROW);
+        assertThat(reload(meeting).getParticipants()).hasSize(SIZE + 1).endsWith(newcomer);
+    }
+    
+    @Test
+    void shouldDeleteOneRowWhenParticipantIsRemoved() {
+        // Given - 只能从尚未开始的会议中移除参与者
+        GovernanceMeeting meeting = storedMeeting(false);
+        
+        // When
+        long statements = statementsFor(meeting, loaded -> loaded.removeParticipant(partnerIds.get(SIZE / 2)));
+        
+        // Then
+        assertThat(statements).isEqualTo(ONE_ROW);
+        List<PartnerId> expected = new ArrayList<>(partnerIds);
+        expected.remove(SIZE / 2);
+        assertThat(reload(meeting).getParticipants()).containsExactlyElementsOf(expected);
+    }
+    
+    @Test
+    void shouldInsertOneRowWhenAttendanceIsRecorded() {
+        // Given
+        GovernanceMeeting meeting = storedMeeting(true);
+        
+        // When
+        long statements = statementsFor(meeting, loaded -> loaded.recordAttendance(partnerIds.get(SIZE - 1)));
+        
+        // Then
+        assertThat(statements).isEqualTo(ONE_ROW);
+        assertThat(reload(meeting).getMeetingRecord().getAttendees())
+            .hasSize(SIZE / 2 + 1).endsWith(partnerIds.get(SIZE - 1));
+    }
+    
+    @Test
+    void shouldUpdateOneRowWhenAgendaItemStarts() {
+        // Given
+        GovernanceMeeting meeting = storedMeeting(true);
+        
+        // When
+        long statements = statementsFor(meeting, loaded -> loaded.startAgendaItem(proposalIds.get(SIZE / 2)));
+        
+        // Then
+        assertThat(statements).isEqualTo(ONE_ROW);
+        assertThat(reload(meeting).getAgenda().getCurrentItem())
+            .hasValueSatisfying(item -> assertThat(item.getProposalId()).isEqualTo(proposalIds.get(SIZE / 2)));
+    }
+    
+    @Test
+    void shouldUpdateOnlyMovedItemsWhenAgendaIsReordered() {
+        // Given
+        GovernanceMeeting meeting = storedMeeting(true);
+        List<ProposalId> swapped = new ArrayList<>(proposalIds);
+        swapped.set(0, proposalIds.get(1));
+        swapped.set(1, proposalIds.get(0));
+        
+        // When
+        long statements = statementsFor(meeting, loaded -> loaded.reorderAgenda(swapped));
+        
+        // Then - 两个议程项的行，加上版本号更新
+        assertThat(statements).isEqualTo(ONE_ROW + 1);
+        assertThat(reload(meeting).getAgenda().getItems())
+            .extracting(AgendaItem::getProposalId).containsExactlyElementsOf(swapped);
+    }
+    
+    @Test
+    void shouldWriteOneRowWhenProposalOutcomeIsRecordedOrReplaced() {
+        // Given
+        GovernanceMeeting meeting = storedMeeting(true);
+        ProposalId proposalId = proposalIds.get(0);
+        
+        // When
+        long recorded = statementsFor(meeting, loaded ->
+            loaded.recordProposalOutcome(ProposalOutcome.deferred(proposalId, "Out of time")));
+        long replaced = statementsFor(meeting, loaded ->
+            loaded.recordProposalOutcome(ProposalOutcome.approved(proposalId, "Accepted")));
+        
+        // Then
+        assertThat(recorded).isEqualTo(ONE_ROW);
+        assertThat(replaced).isEqualTo(ONE_ROW);
+        GovernanceMeeting reloaded = reload(meeting);
+        assertThat(reloaded.getMeetingRecord().getProposalOutcomes()).hasSize(SIZE);
+        assertThat(reloaded.getMeetingRecord().getProposalOutcome(proposalId).getFinalStatus())
+            .isEqualTo(ProposalStatus.APPROVED);
+    }
+    
+    @Test
+    void shouldInsertOneRowWhenNoteIsAppended() {
+        // Given
+        GovernanceMeeting meeting = storedMeeting(true);
+        PartnerId authorId = partnerIds.get(0);
+        
+        // When
+        long statements = statementsFor(meeting, loaded ->
+            loaded.addNote(MeetingNote.create(authorId, "Note " + SIZE)));
+        
+        // Then
+        assertThat(statements).isEqualTo(ONE_ROW);
+        List<MeetingNote> notes = reload(meeting).getMeetingRecord().getNotes();
+        assertThat(notes).hasSize(SIZE + 1);
+        assertThat(notes).extracting(MeetingNote::getContent).startsWith("Note 0", "Note 1").endsWith("Note " + SIZE);
+        assertThat(notes.get(SIZE).getAuthorId()).isEqualTo(authorId);
+    }
+    
+    /**
+     * 议程和参与者各有SIZE项的会议；已开始的会议还有一半参与者出席，除第一个提案外都有结果，并有SIZE条备注
+     */
+    private GovernanceMeeting storedMeeting(boolean started) {
+        GovernanceMeeting meeting = GovernanceMeeting.create(organizationId, circleId,
+            LocalDateTime.now().plusDays(1), Duration.ofHours(1));
+        partnerIds.forEach(meeting::addParticipant);
+        proposalIds.forEach(meeting::addAgendaItem);
+        if (started) {
+            meeting.start();
+            partnerIds.subList(0, SIZE / 2).forEach(meeting::recordAttendance);
+            proposalIds.subList(1, SIZE).forEach(proposalId ->
+                meeting.recordProposalOutcome(ProposalOutcome.approved(proposalId, null)));
+            for (int i = 0; i < SIZE; i++) {
+                meeting.addNote(MeetingNote.create(partnerIds.get(i), "Note " + i));
+            }
+        }
+        meetingRepository.save(meeting);
+        entityManager.flush();
+        entityManager.clear();
+        return meeting;
+    }
+    
+    /**
+     * 加载会议并初始化它的集合，然后统计修改后刷新所执行的语句数
+     */
+    private long statementsFor(GovernanceMeeting meeting, Consumer<GovernanceMeeting> change) {
+        GovernanceMeeting loaded = reload(meeting);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        change.accept(loaded);
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+    
+    private GovernanceMeeting reload(GovernanceMeeting meeting) {
+        entityManager.clear();
+        GovernanceMeeting loaded = meetingRepository.findById(organizationId, meeting.getId()).orElseThrow();
+        loaded.getParticipants().size();
+        loaded.getAgenda().getItems().size();
+        loaded.getMeetingRecord().getAttendees().size();
+        loaded.getMeetingRecord().getProposalOutcomes().size();
+        loaded.getMeetingRecord().getNotes().size();
+        return loaded;
+    }
+}
@@ -0,0 +1,154 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.domain.model.proposal.ProposalSummary;
+import com.xholacracy.domain.model.proposal.ProposalSummaryRepository;
+import com.xholacracy.domain.model.proposal.ProposalType;
+import com.xholacracy.domain.model.proposal.Tension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 按组织分区的持久化集成测试
+ * 提案和会议的主键包含组织ID，子表行也带上组织ID，使同一组织的数据落在同一分区
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+class PartitionKeyIntegrationTest {
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private ProposalRepository proposalRepository;
+    
+    @Autowired
+    private ProposalSummaryRepository proposalSummaryRepository;
+    
+    @Autowired
+    private MeetingRepository meetingRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private OrganizationId organizationId;
+    private OrganizationId otherOrganizationId;
+    private CircleId circleId;
+    private PartnerId partnerId;
+    
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationRepository.save(Organization.create("Partitioned Org", "Description"));
+        Organization other = organizationRepository.save(Organization.create("Other Org", "Description"));
+        organizationId = organization.getId();
+        otherOrganizationId = other.getId();
+        circleId = organization.getAnchorCircleId();
+        partnerId = PartnerId.generate();
+    }
+    
+    @Test
+    void shouldFindMeetingOnlyWithinItsOrganization() {
+        // Given
+        GovernanceMeeting meeting = GovernanceMeeting.create(organizationId, circleId,
+            LocalDateTime.now().plusDays(1), Duration.ofHours(1));
+        meeting.addParticipant(partnerId);
+        meetingRepository.save(meeting);
+        flushAndClear();
+        
+        // When & Then
+        assertThat(meetingRepository.findById(organizationId, meeting.getId()))
+            .hasValueSatisfying(loaded -> assertThat(loaded.getParticipants()).containsExactly(partnerId));
+        assertThat(meetingRepository.findById(otherOrganizationId, meeting.getId())).isEmpty();
+        assertThat(meetingRepository.findByCircleId(organizationId, circleId)).hasSize(1);
+        assertThat(meetingRepository.findVersionTagById(organizationId, meeting.getId())).isPresent();
+        assertThat(meetingRepository.findVersionTagById(otherOrganizationId, meeting.getId())).isEmpty();
+    }
+    
+    @Test
+    void shouldStoreOrganizationIdOnMeetingChildRows() {
+        // Given
+        GovernanceMeeting meeting = GovernanceMeeting.create(organizationId, circleId,
+            LocalDateTime.now().plusDays(1), Duration.ofHours(1));
+        meeting.addParticipant(partnerId);
+        
+        // When
+        meetingRepository.save(meeting);
+        flushAndClear();
+        
+        // Then
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT organization_id FROM meeting_participants WHERE meeting_id = ?", String.class,
+            meeting.getId().getValue())).containsExactly(organizationId.getValue());
+    }
+    
+    @Test
+    void shouldFindProposalOnlyWithinItsOrganization() {
+        // Given
+        Proposal proposal = Proposal.create("Add release role",
+            Tension.create("No release owner", "Ad hoc releases", "Planned releases").withExample("v1.2 slipped"),
+            ProposalType.ROLE_MODIFICATION, organizationId, circleId, partnerId);
+        proposal.submit();
+        proposalRepository.save(proposal);
+        flushAndClear();
+        
+        // When & Then
+        assertThat(proposalRepository.findById(organizationId, proposal.getId()))
+            .hasValueSatisfying(loaded -> {
+                assertThat(loaded.getDecisionHistory()).hasSize(2);
+                assertThat(loaded.getTension().getExamples()).containsExactly("v1.2 slipped");
+            });
+        assertThat(proposalRepository.findById(otherOrganizationId, proposal.getId())).isEmpty();
+        assertThat(proposalRepository.findByCircleId(organizationId, circleId)).hasSize(1);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT organization_id FROM decision_events WHERE proposal_id = ?", String.class,
+            proposal.getId().getValue())).containsOnly(organizationId.getValue()).hasSize(2);
+    }
+    
+    @Test
+    void shouldListProposalSummariesOnlyWithinTheirOrganization() {
+        // Given
+        Proposal proposal = Proposal.create("Add release role",
+            Tension.create("No release owner", "Ad hoc releases", "Planned releases"),
+            ProposalType.ROLE_MODIFICATION, organizationId, circleId, partnerId);
+        proposal.submit();
+        proposalRepository.save(proposal);
+        flushAndClear();
+        
+        // When & Then
+        assertThat(proposalSummaryRepository.findByStatus(organizationId, ProposalStatus.SUBMITTED))
+            .extracting(ProposalSummary::getProposalId)
+            .containsExactly(proposal.getId());
+        assertThat(proposalSummaryRepository.findByStatus(otherOrganizationId, ProposalStatus.SUBMITTED)).isEmpty();
+        assertThat(proposalSummaryRepository.findByCircleId(organizationId, circleId)).hasSize(1);
+        assertThat(proposalSummaryRepository.findByCircleId(otherOrganizationId, circleId)).isEmpty();
+    }
+    
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
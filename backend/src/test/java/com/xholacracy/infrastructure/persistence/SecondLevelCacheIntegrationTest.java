@@ -0,0 +1,140 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.Partner;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 二级缓存集成测试
+ * 缓存只在事务提交后填充和失效，因此测试不使用默认的回滚事务，而是逐个提交
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheIntegrationTest {
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private RoleRepository roleRepository;
+    
+    @Autowired
+    private PartnerRepository partnerRepository;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private Organization organization;
+    private Partner partner;
+    
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        organization = organizationRepository.save(Organization.create("Cache Org", "Description"));
+        partner = partnerRepository.save(Partner.create("Alice", "alice-" + organization.getId().getValue() + "@example.com"));
+        tx.executeWithoutResult(status -> {
+            Circle anchor = circleRepository.findById(organization.getAnchorCircleId()).orElseThrow();
+            anchor.getRoles().get(0).assignToPartner(partner.getId(), partner.getId());
+            circleRepository.save(anchor);
+        });
+    }
+    
+    @Test
+    void shouldLoadAggregatesFromCacheWithoutStatements() {
+        // Given
+        CircleId anchorId = organization.getAnchorCircleId();
+        Runnable load = () -> tx.executeWithoutResult(status -> {
+            Circle circle = circleRepository.findById(anchorId).orElseThrow();
+            circle.getAccountabilities().size();
+            for (Role role : circle.getRoles()) {
+                role.getAccountabilities().size();
+                role.getDomains().size();
+                role.getAssignments().size();
+            }
+            partnerRepository.findById(partner.getId()).orElseThrow();
+            organizationRepository.findById(organization.getId()).orElseThrow();
+        });
+        load.run(); // 预热
+        statistics.clear();
+        
+        // When
+        load.run();
+        
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics("role-assignments").getHitCount()).isPositive();
+    }
+    
+    @Test
+    void shouldServeAnchorCircleQueryFromQueryCache() {
+        // Given
+        tx.executeWithoutResult(status ->
+            circleRepository.findAnchorCircleByOrganizationId(organization.getId()).orElseThrow());
+        statistics.clear();
+        
+        // When
+        Circle anchor = tx.execute(status ->
+            circleRepository.findAnchorCircleByOrganizationId(organization.getId()).orElseThrow());
+        
+        // Then
+        assertThat(anchor.getId()).isEqualTo(organization.getAnchorCircleId());
+        assertThat(statistics.getQueryRegionStatistics("anchor-circle").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+    
+    @Test
+    void shouldEvictCircleRolesWhenRoleIsSavedDirectly() {
+        // Given
+        CircleId anchorId = organization.getAnchorCircleId();
+        int before = tx.execute(status -> circleRepository.findById(anchorId).orElseThrow().getRoles().size());
+        
+        // When
+        Role role = tx.execute(status -> roleRepository.save(Role.create("Facilitator Backup", "Purpose", anchorId)));
+        
+        // Then
+        tx.executeWithoutResult(status -> assertThat(circleRepository.findById(anchorId).orElseThrow().getRoles())
+            .hasSize(before + 1)
+            .extracting(Role::getId)
+            .contains(role.getId()));
+        
+        // When
+        tx.executeWithoutResult(status -> roleRepository.delete(roleRepository.findById(role.getId()).orElseThrow()));
+        
+        // Then
+        tx.executeWithoutResult(status -> assertThat(circleRepository.findById(anchorId).orElseThrow().getRoles())
+            .hasSize(before));
+    }
+}
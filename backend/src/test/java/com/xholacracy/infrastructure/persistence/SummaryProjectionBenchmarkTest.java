@@ -0,0 +1,133 @@
+package com.xholacracy.infrastructure.persistence;
+
+import com.xholacracy.application.dto.circle.CircleSummaryDTO;
+import com.xholacracy.application.mapper.CircleMapper;
+import com.xholacracy.application.mapper.CircleMapperImpl;
+import com.xholacracy.application.mapper.RoleMapperImpl;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 圈子摘要列表的堆分配基准测试
+ * 比较加载实体后映射与接口投影两种方式在10k行列表上的分配字节数
+ *
+ * 默认构建不运行，使用 mvn test -Pbenchmark 执行
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@Import({CircleMapperImpl.class, RoleMapperImpl.class})
+class SummaryProjectionBenchmarkTest {
+    
+    private static final int ROWS = 10_000;
+    private static final int ITERATIONS = 3;
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private CircleMapper circleMapper;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    private OrganizationId organizationId;
+    
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationRepository.save(Organization.create("Benchmark Org", "Benchmark"));
+        organizationId = organization.getId();
+        PartnerId lead = PartnerId.generate();
+        for (int i = 1; i < ROWS; i++) {
+            Circle circle = Circle.createSubCircle("Circle " + i, "Purpose " + i,
+                organization.getAnchorCircleId(), organizationId);
+            circle.getRoles().get(0).assignToPartner(lead, lead);
+            entityManager.persist(circle);
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void projectionShouldAllocateLessThanEntityMapping() {
+        // 实体路径：加载圈子实体，映射时触发角色、子圈子和分配集合的加载
+        long entityBytes = measure(() ->
+            circleMapper.toSummaryDTOList(circleRepository.findByOrganizationId(organizationId)));
+        
+        // 投影路径：只查询摘要列和计数
+        long projectionBytes = measure(() ->
+            circleMapper.fromSummaryViews(circleRepository.findSummariesByOrganizationId(organizationId)));
+        
+        System.out.printf("Circle summary listing, %d rows: entity mapping %,d bytes, projection %,d bytes (%.1fx)%n",
+            ROWS, entityBytes, projectionBytes, (double) entityBytes / projectionBytes);
+        
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+    
+    @Test
+    void projectionShouldNotPopulatePersistenceContext() {
+        // When
+        List<CircleSummaryDTO> summaries =
+            circleMapper.fromSummaryViews(circleRepository.findSummariesByOrganizationId(organizationId));
+        
+        // Then
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertThat(summaries).hasSize(ROWS);
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+        assertThat(session.getStatistics().getCollectionCount()).isZero();
+    }
+    
+    /**
+     * 测量当前线程执行列表查询的平均分配字节数，每次执行前清空持久化上下文
+     */
+    private long measure(Supplier<List<CircleSummaryDTO>> listing) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        
+        entityManager.clear();
+        assertThat(listing.get()).hasSize(ROWS); // 预热
+        
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            entityManager.clear();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            List<CircleSummaryDTO> result = listing.get();
+            total += threads.getThreadAllocatedBytes(threadId) - before;
+            assertThat(result).hasSize(ROWS);
+        }
+        return total / ITERATIONS;
+    }
+}
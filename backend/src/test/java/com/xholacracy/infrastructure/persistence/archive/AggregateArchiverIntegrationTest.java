@@ -0,0 +1,210 @@
+package com.xholacracy.infrastructure.persistence.archive;
+
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.MeetingStatus;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.Objection;
+import com.xholacracy.domain.model.proposal.ObjectionCriteria;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.domain.model.proposal.ProposalType;
+import com.xholacracy.domain.model.proposal.Tension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 冷归档集成测试
+ * 终态聚合移出热表后，仓储按ID查询仍能透明地从归档中读到完整聚合
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+class AggregateArchiverIntegrationTest {
+    
+    @Autowired
+    private AggregateArchiver archiver;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private ProposalRepository proposalRepository;
+    
+    @Autowired
+    private MeetingRepository meetingRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private OrganizationId organizationId;
+    private CircleId circleId;
+    private PartnerId partnerId;
+    
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationRepository.save(Organization.create("Archive Org", "Description"));
+        organizationId = organization.getId();
+        circleId = organization.getAnchorCircleId();
+        partnerId = PartnerId.generate();
+    }
+    
+    @Test
+    void shouldArchiveCompletedMeetingAndReadItThrough() {
+        // Given
+        GovernanceMeeting meeting = GovernanceMeeting.create(organizationId, circleId,
+            LocalDateTime.now().minusHours(2), Duration.ofHours(1));
+        meeting.addParticipant(partnerId);
+        meeting.start();
+        meeting.recordAttendance(partnerId);
+        meeting.recordCheckIn("All present");
+        meeting.end();
+        meetingRepository.save(meeting);
+        flushAndClear();
+        String versionTag = meetingRepository.findVersionTagById(organizationId, meeting.getId()).orElseThrow();
+        
+        // When
+        int archived = archiver.archiveMeetings(LocalDateTime.now().plusMinutes(1), 10);
+        flushAndClear();
+        
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(count("governance_meetings")).isZero();
+        assertThat(count("meeting_participants")).isZero();
+        assertThat(count("meeting_attendance")).isZero();
+        assertThat(meetingRepository.findById(organizationId, meeting.getId()))
+            .hasValueSatisfying(loaded -> {
+                assertThat(loaded.getStatus()).isEqualTo(MeetingStatus.COMPLETED);
+                assertThat(loaded.getParticipants()).containsExactly(partnerId);
+                assertThat(loaded.getMeetingRecord().getAttendees()).containsExactly(partnerId);
+                assertThat(loaded.getMeetingRecord().getCheckInNotes()).isEqualTo("All present");
+                assertThat(loaded.getDuration()).isEqualTo(Duration.ofHours(1));
+            });
+        assertThat(meetingRepository.existsById(organizationId, meeting.getId())).isTrue();
+        assertThat(meetingRepository.findVersionTagById(organizationId, meeting.getId())).contains(versionTag);
+        assertThat(meetingRepository.findByIds(organizationId, List.of(meeting.getId()))).hasSize(1);
+    }
+    
+    @Test
+    void shouldArchiveWithdrawnProposalIncludingLazyText() {
+        // Given
+        Proposal proposal = proposalInObjectionStage();
+        proposal.addObjection(Objection.create(partnerId, "Overlaps with the ops role",
+            ObjectionCriteria.create(true, false, false, false)));
+        proposal.withdraw();
+        proposalRepository.save(proposal);
+        flushAndClear();
+        String versionTag = proposalRepository.findVersionTagById(organizationId, proposal.getId()).orElseThrow();
+        
+        // When
+        int archived = archiver.archiveProposals(LocalDateTime.now().plusMinutes(1), 10);
+        flushAndClear();
+        
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(count("proposals")).isZero();
+        assertThat(count("objections")).isZero();
+        assertThat(count("decision_events")).isZero();
+        assertThat(count("tension_examples")).isZero();
+        assertThat(proposalRepository.findById(organizationId, proposal.getId()))
+            .hasValueSatisfying(loaded -> {
+                assertThat(loaded.getStatus()).isEqualTo(ProposalStatus.WITHDRAWN);
+                assertThat(loaded.getTension().getExamples()).containsExactly("v1.2 slipped");
+                assertThat(loaded.getObjections()).singleElement()
+                    .satisfies(objection -> assertThat(objection.getReasoning()).isEqualTo("Overlaps with the ops role"));
+                assertThat(loaded.getDecisionHistory()).hasSameSizeAs(proposal.getDecisionHistory());
+                assertThat(loaded.domainEvents()).isEmpty();
+            });
+        assertThat(proposalRepository.findVersionTagById(organizationId, proposal.getId())).contains(versionTag);
+        assertThat(proposalRepository.findTitlesByIds(List.of(proposal.getId())))
+            .containsEntry(proposal.getId(), "Add release role");
+    }
+    
+    @Test
+    void shouldKeepActiveAndRecentAggregatesInHotTables() {
+        // Given
+        Proposal active = proposalInObjectionStage();
+        proposalRepository.save(active);
+        GovernanceMeeting scheduled = GovernanceMeeting.create(organizationId, circleId,
+            LocalDateTime.now().minusDays(1), Duration.ofHours(1));
+        meetingRepository.save(scheduled);
+        GovernanceMeeting cancelled = GovernanceMeeting.create(organizationId, circleId,
+            LocalDateTime.now().minusDays(1), Duration.ofHours(1));
+        cancelled.cancel();
+        meetingRepository.save(cancelled);
+        flushAndClear();
+        
+        // When
+        int meetings = archiver.archiveMeetings(LocalDateTime.now().minusDays(2), 10)
+            + archiver.archiveMeetings(LocalDateTime.now(), 10);
+        int proposals = archiver.archiveProposals(LocalDateTime.now().plusMinutes(1), 10);
+        
+        // Then
+        assertThat(meetings).isEqualTo(1);
+        assertThat(proposals).isZero();
+        assertThat(count("governance_meetings")).isEqualTo(1);
+        assertThat(count("proposals")).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldNotArchiveProposalStillOnHotMeetingAgenda() {
+        // Given
+        Proposal proposal = proposalInObjectionStage();
+        proposal.withdraw();
+        proposalRepository.save(proposal);
+        GovernanceMeeting meeting = GovernanceMeeting.create(organizationId, circleId,
+            LocalDateTime.now().plusDays(1), Duration.ofHours(1));
+        meeting.addAgendaItem(proposal.getId());
+        meetingRepository.save(meeting);
+        flushAndClear();
+        
+        // When
+        int archived = archiver.archiveProposals(LocalDateTime.now().plusMinutes(1), 10);
+        
+        // Then
+        assertThat(archived).isZero();
+        assertThat(count("proposals")).isEqualTo(1);
+    }
+    
+    private Proposal proposalInObjectionStage() {
+        Proposal proposal = Proposal.create("Add release role",
+            Tension.create("No release owner", "Ad hoc releases", "Planned releases").withExample("v1.2 slipped"),
+            ProposalType.ROLE_MODIFICATION, organizationId, circleId, partnerId);
+        proposal.submit();
+        proposal.startProposalStage();
+        proposal.moveToClarificationStage();
+        proposal.moveToReactionStage();
+        proposal.moveToAmendStage();
+        proposal.moveToObjectionStage();
+        return proposal;
+    }
+    
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+    
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,121 @@
+package com.xholacracy.infrastructure.persistence.bulk;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationGraph;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.Partner;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.DomainControlType;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 组织批量写入集成测试
+ * JDBC批量写入的组织能被仓储完整读回，并且每个实体恰好有一条变更日志
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+class JdbcOrganizationBulkWriterIntegrationTest {
+    
+    @Autowired
+    private JdbcOrganizationBulkWriter writer;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private RoleRepository roleRepository;
+    
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void shouldWriteWholeOrganizationReadableThroughRepositories() {
+        // Given
+        Partner lead = Partner.create("Alice", "alice@example.com");
+        Partner member = Partner.create("Bob", "bob@example.com");
+        Organization organization = Organization.create("Imported Org", "Description");
+        Circle anchor = organization.getAnchorCircle();
+        Circle product = Circle.createSubCircle("Product", "Build the product", anchor.getId(), organization.getId());
+        product.addAccountability("Ship releases");
+        Role developer = Role.create("Developer", "Write code", product.getId());
+        developer.addAccountability("Review pull requests");
+        developer.addDomain(Domain.create("Repository", "Source code", DomainControlType.SHARED));
+        developer.assignToPartner(member.getId(), lead.getId());
+        product.addRole(developer);
+        specialRole(anchor).assignToPartner(lead.getId(), lead.getId());
+        OrganizationGraph graph = OrganizationGraph.of(organization, List.of(anchor, product), List.of(lead, member));
+        List<String> phases = new ArrayList<>();
+        
+        // When
+        writer.write(graph, (phase, written, total) -> phases.add(phase + ":" + written + "/" + total));
+        entityManager.clear();
+        
+        // Then
+        assertThat(organizationRepository.findByName("Imported Org"))
+            .hasValueSatisfying(loaded -> assertThat(loaded.getAnchorCircleId()).isEqualTo(anchor.getId()));
+        assertThat(circleRepository.findById(product.getId())).hasValueSatisfying(loaded -> {
+            assertThat(loaded.getParentCircleId()).isEqualTo(anchor.getId());
+            assertThat(loaded.getAccountabilities()).containsExactly("Ship releases");
+            assertThat(loaded.getRoles()).hasSize(5);
+        });
+        assertThat(roleRepository.findById(developer.getId())).hasValueSatisfying(loaded -> {
+            assertThat(loaded.getAccountabilities()).containsExactly("Review pull requests");
+            assertThat(loaded.getDomains()).extracting(Domain::getControlType).containsExactly(DomainControlType.SHARED);
+            assertThat(loaded.isAssignedTo(member.getId())).isTrue();
+        });
+        assertThat(phases).first().isEqualTo("organization:1/" + graph.getEntityCount());
+        assertThat(phases).last().isEqualTo("completed:" + graph.getEntityCount() + "/" + graph.getEntityCount());
+    }
+    
+    @Test
+    void shouldRecordEachEntityOnceAtFirstSequence() {
+        // Given
+        Partner partner = Partner.create("Carol", "carol@example.com");
+        Organization organization = Organization.create("Synced Org", "Description");
+        Circle anchor = organization.getAnchorCircle();
+        specialRole(anchor).assignToPartner(partner.getId(), partner.getId());
+        OrganizationGraph graph = OrganizationGraph.of(organization, List.of(anchor), List.of(partner));
+        
+        // When
+        writer.write(graph, (phase, written, total) -> { });
+        
+        // Then
+        assertThat(changeLogRepository.currentSequence(organization.getId())).isEqualTo(1);
+        assertThat(changeLogRepository.findSince(organization.getId(), 0, 100))
+            .hasSize(1 + graph.getRoleCount() + graph.getAssignmentCount())
+            .allSatisfy(entry -> assertThat(entry.getSequence()).isEqualTo(1));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM change_log WHERE organization_id = ?", Integer.class,
+            organization.getId().getValue())).isEqualTo(1 + graph.getRoleCount() + graph.getAssignmentCount());
+    }
+    
+    private Role specialRole(Circle circle) {
+        return circle.getRoles().stream().filter(Role::isSpecialRole).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,216 @@
+package com.xholacracy.infrastructure.persistence.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.application.dto.organization.ImportCircleDefinition;
+import com.xholacracy.application.dto.organization.ImportOrganizationRequest;
+import com.xholacracy.application.service.OrganizationCloner;
+import com.xholacracy.application.service.OrganizationExportService;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationGraph;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationStructureReader;
+import com.xholacracy.domain.model.partner.Partner;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.DomainControlType;
+import com.xholacracy.domain.model.role.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 组织结构遍历集成测试
+ * 遍历按深度优先进入和退出圈子，访问到的圈子已加载全部结构；克隆和导出都建立在遍历之上
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@Import({OrganizationCloner.class, OrganizationExportService.class, JacksonAutoConfiguration.class})
+@ActiveProfiles("test")
+class JpaOrganizationStructureReaderIntegrationTest {
+    
+    @Autowired
+    private JdbcOrganizationBulkWriter writer;
+    
+    @Autowired
+    private OrganizationStructureReader reader;
+    
+    @Autowired
+    private OrganizationCloner cloner;
+    
+    @Autowired
+    private OrganizationExportService exportService;
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Organization organization;
+    private Circle product;
+    private Partner lead;
+    private Partner member;
+    
+    @BeforeEach
+    void setUp() {
+        lead = Partner.create("Alice", "alice@example.com");
+        member = Partner.create("Bob", "bob@example.com");
+        organization = Organization.create("Source Org", "Description");
+        Circle anchor = organization.getAnchorCircle();
+        anchor.addAccountability("Steward the company");
+        product = Circle.createSubCircle("Product", "Build the product", anchor.getId(), organization.getId());
+        Role developer = Role.create("Developer", "Write code", product.getId());
+        developer.addAccountability("Review pull requests");
+        developer.addDomain(Domain.create("Repository", "Source code", DomainControlType.SHARED));
+        developer.assignToPartner(member.getId(), lead.getId());
+        product.addRole(developer);
+        Circle mobile = Circle.createSubCircle("Mobile", "Ship the app", product.getId(), organization.getId());
+        Circle sales = Circle.createSubCircle("Sales", "Sell the product", anchor.getId(), organization.getId());
+        specialRole(anchor, SpecialRoleType.CIRCLE_LEAD).assignToPartner(lead.getId(), lead.getId());
+        writer.write(OrganizationGraph.of(organization, List.of(anchor, product, mobile, sales), List.of(lead, member)),
+            (phase, written, total) -> { });
+    }
+    
+    @Test
+    void shouldVisitCirclesDepthFirstWithStructureLoaded() {
+        // Given
+        List<String> events = new ArrayList<>();
+        List<String> purposes = new ArrayList<>();
+        List<Role> developers = new ArrayList<>();
+        
+        // When
+        reader.traverse(organization.getId(), new OrganizationStructureReader.CircleVisitor() {
+            @Override
+            public void enter(Circle circle, String purpose) {
+                events.add("+" + circle.getName());
+                purposes.add(purpose);
+                circle.getRoles().stream().filter(role -> !role.isSpecialRole()).forEach(developers::add);
+            }
+            
+            @Override
+            public void exit(Circle circle) {
+                events.add("-" + circle.getName());
+            }
+        });
+        
+        // Then
+        assertThat(events).containsExactly("+Anchor Circle", "+Product", "+Mobile", "-Mobile", "-Product",
+            "+Sales", "-Sales", "-Anchor Circle");
+        assertThat(purposes).containsExactly(organization.getAnchorCircle().getPurpose(), "Build the product",
+            "Ship the app", "Sell the product");
+        assertThat(developers).singleElement().satisfies(role -> {
+            assertThat(role.getAccountabilities()).containsExactly("Review pull requests");
+            assertThat(role.getDomains()).extracting(Domain::getName).containsExactly("Repository");
+            assertThat(role.isAssignedTo(member.getId())).isTrue();
+        });
+    }
+    
+    @Test
+    void shouldLoadPurposesPerParentRatherThanPerCircle() {
+        // Given
+        long before = statementsToTraverse();
+        writer.append(organization.getId(), List.of(
+                Circle.createSubCircle("iOS", "Ship on iOS", product.getId(), organization.getId()),
+                Circle.createSubCircle("Android", "Ship on Android", product.getId(), organization.getId()),
+                Circle.createSubCircle("Web", "Ship on the web", product.getId(), organization.getId())),
+            (phase, written, total) -> { });
+        
+        // When
+        long after = statementsToTraverse();
+        
+        // Then
+        // 每个新增的叶子圈子只多一条查询子圈子的语句，目的随兄弟圈子一起查询
+        assertThat(after - before).isEqualTo(3);
+    }
+    
+    @Test
+    void shouldCloneStructureWithNewIds() {
+        // Given
+        Organization copy = Organization.create("Sandbox Org", "Copy");
+        
+        // When
+        cloner.cloneStructure(organization.getId(), copy, lead.getId(), true, 0, (phase, written, total) -> { });
+        
+        // Then
+        OrganizationId copyId = copy.getId();
+        List<Circle> circles = circleRepository.findByOrganizationId(copyId);
+        assertThat(circles).extracting(Circle::getName)
+            .containsExactlyInAnyOrder(organization.getAnchorCircle().getName(), "Product", "Mobile", "Sales");
+        assertThat(circles).extracting(Circle::getId)
+            .doesNotContainAnyElementsOf(circleRepository.findByOrganizationId(organization.getId()).stream()
+                .map(Circle::getId).toList());
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM role_assignments a JOIN roles r ON r.id = a.role_id "
+                + "JOIN circles c ON c.id = r.circle_id WHERE c.organization_id = ?", Integer.class,
+            copyId.getValue())).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM change_log WHERE organization_id = ?", Integer.class, copyId.getValue()))
+            .isEqualTo(4 + 4 * 4 + 1 + 2);
+    }
+    
+    @Test
+    void shouldExportInImportFormat() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        exportService.export(organization.getId(), true, output);
+        
+        // Then
+        ImportOrganizationRequest exported = objectMapper.readValue(output.toByteArray(), ImportOrganizationRequest.class);
+        assertThat(exported.getName()).isEqualTo("Source Org");
+        assertThat(exported.getAccountabilities()).containsExactly("Steward the company");
+        assertThat(exported.getSpecialRoles()).containsEntry("CIRCLE_LEAD", List.of("alice@example.com"));
+        assertThat(exported.getPartners()).hasSize(2);
+        assertThat(exported.getCircles()).extracting(ImportCircleDefinition::getName).containsExactly("Product", "Sales");
+        ImportCircleDefinition product = exported.getCircles().get(0);
+        assertThat(product.getCircles()).extracting(ImportCircleDefinition::getName).containsExactly("Mobile");
+        assertThat(product.getRoles()).singleElement().satisfies(role -> {
+            assertThat(role.getAssignees()).containsExactly("bob@example.com");
+            assertThat(role.getDomains()).singleElement()
+                .satisfies(domain -> assertThat(domain.getControlType()).isEqualTo("SHARED"));
+        });
+    }
+    
+    private long statementsToTraverse() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        reader.traverse(organization.getId(), new OrganizationStructureReader.CircleVisitor() {
+            @Override
+            public void enter(Circle circle, String purpose) {
+            }
+            
+            @Override
+            public void exit(Circle circle) {
+            }
+        });
+        return statistics.getPrepareStatementCount();
+    }
+    
+    private Role specialRole(Circle circle, SpecialRoleType type) {
+        return circle.getRoles().stream().filter(role -> role.getSpecialRoleType() == type).findFirst().orElseThrow();
+    }
+}
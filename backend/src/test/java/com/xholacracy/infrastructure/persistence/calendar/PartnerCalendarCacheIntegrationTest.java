@@ -0,0 +1,181 @@
+package com.xholacracy.infrastructure.persistence.calendar;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.CalendarConflict;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingBooking;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 伙伴日程缓存集成测试
+ * 日程在事务成功完成后更新，因此测试不使用默认的回滚事务，而是逐个提交
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartnerCalendarCacheIntegrationTest {
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private MeetingRepository meetingRepository;
+    
+    @Autowired
+    private PartnerCalendarCache calendarCache;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate tx;
+    private Organization organization;
+    private Circle circle;
+    private LocalDateTime nextWeek;
+    private PartnerId facilitator;
+    private PartnerId participant;
+    
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        organization = organizationRepository.save(Organization.create("Calendar Org", "Description"));
+        circle = tx.execute(status -> circleRepository.save(Circle.createSubCircle(
+            "Product", "Purpose", organization.getAnchorCircleId(), organization.getId())));
+        nextWeek = LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.HOURS);
+        facilitator = PartnerId.generate();
+        participant = PartnerId.generate();
+    }
+    
+    @Test
+    void shouldLoadScheduledMeetingsWithAllAttendees() {
+        // Given
+        GovernanceMeeting meeting = scheduleMeeting(nextWeek);
+        GovernanceMeeting cancelled = scheduleMeeting(nextWeek.plusDays(1));
+        tx.executeWithoutResult(status -> {
+            GovernanceMeeting loaded = meetingRepository.findById(organization.getId(), cancelled.getId()).orElseThrow();
+            loaded.cancel();
+            meetingRepository.save(loaded);
+        });
+        
+        // When
+        List<CalendarConflict> facilitatorConflicts = conflictsAt(nextWeek, facilitator);
+        List<CalendarConflict> participantConflicts = conflictsAt(nextWeek.plusMinutes(30), participant);
+        
+        // Then - 已取消的会议不占用日程
+        assertThat(facilitatorConflicts).extracting(CalendarConflict::getMeetingId).containsExactly(meeting.getId());
+        assertThat(participantConflicts).extracting(CalendarConflict::getMeetingId).containsExactly(meeting.getId());
+        assertThat(conflictsAt(nextWeek.plusDays(1), facilitator, participant)).isEmpty();
+    }
+    
+    @Test
+    void shouldApplyCommittedRescheduleToCachedCalendar() {
+        // Given
+        GovernanceMeeting meeting = scheduleMeeting(nextWeek);
+        assertThat(conflictsAt(nextWeek, facilitator)).hasSize(1);
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            GovernanceMeeting loaded = meetingRepository.findById(organization.getId(), meeting.getId()).orElseThrow();
+            loaded.reschedule(nextWeek.plusHours(3));
+            meetingRepository.save(loaded);
+        });
+        
+        // Then
+        assertThat(conflictsAt(nextWeek, facilitator)).isEmpty();
+        assertThat(conflictsAt(nextWeek.plusHours(3), facilitator)).hasSize(1);
+    }
+    
+    @Test
+    void shouldIgnoreRolledBackChanges() {
+        // Given
+        GovernanceMeeting meeting = scheduleMeeting(nextWeek);
+        assertThat(conflictsAt(nextWeek, facilitator)).hasSize(1);
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            GovernanceMeeting loaded = meetingRepository.findById(organization.getId(), meeting.getId()).orElseThrow();
+            loaded.reschedule(nextWeek.plusHours(3));
+            meetingRepository.save(loaded);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+        
+        // Then
+        assertThat(conflictsAt(nextWeek, facilitator)).hasSize(1);
+        assertThat(conflictsAt(nextWeek.plusHours(3), facilitator)).isEmpty();
+    }
+    
+    @Test
+    void shouldIndexAddedParticipantAndReleaseEndedMeeting() {
+        // Given
+        GovernanceMeeting meeting = scheduleMeeting(nextWeek);
+        PartnerId invitee = PartnerId.generate();
+        assertThat(conflictsAt(nextWeek, invitee)).isEmpty();
+        
+        // When - 只修改参与者集合也会更新日程
+        tx.executeWithoutResult(status -> {
+            GovernanceMeeting loaded = meetingRepository.findById(organization.getId(), meeting.getId()).orElseThrow();
+            loaded.addParticipant(invitee);
+            meetingRepository.save(loaded);
+        });
+        
+        // Then
+        assertThat(conflictsAt(nextWeek, invitee)).hasSize(1);
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            GovernanceMeeting loaded = meetingRepository.findById(organization.getId(), meeting.getId()).orElseThrow();
+            loaded.start();
+            loaded.end();
+            meetingRepository.save(loaded);
+        });
+        
+        // Then
+        assertThat(conflictsAt(nextWeek, facilitator, participant, invitee)).isEmpty();
+    }
+    
+    private GovernanceMeeting scheduleMeeting(LocalDateTime start) {
+        return tx.execute(status -> {
+            GovernanceMeeting meeting = GovernanceMeeting.create(organization.getId(), circle.getId(), start,
+                Duration.ofHours(1));
+            meeting.setFacilitator(facilitator);
+            meeting.addParticipant(participant);
+            return meetingRepository.save(meeting);
+        });
+    }
+    
+    private List<CalendarConflict> conflictsAt(LocalDateTime start, PartnerId... partners) {
+        MeetingBooking candidate = MeetingBooking.of(MeetingId.generate(), start, Duration.ofMinutes(30),
+            List.of(partners));
+        return calendarCache.calendarOf(organization.getId()).findConflicts(candidate);
+    }
+}
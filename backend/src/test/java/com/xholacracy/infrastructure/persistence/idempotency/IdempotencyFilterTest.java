@@ -0,0 +1,202 @@
+package com.xholacracy.infrastructure.persistence.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.exception.RateLimitExceededException;
+import com.xholacracy.infrastructure.ratelimit.AdmissionControl;
+import com.xholacracy.infrastructure.ratelimit.RateLimitInterceptor;
+import com.xholacracy.infrastructure.ratelimit.RateLimited;
+import com.xholacracy.infrastructure.ratelimit.RateLimiter;
+import com.xholacracy.interfaces.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class IdempotencyFilterTest {
+    
+    private final VoteController controller = new VoteController();
+    private final IdempotencyStore store = mock(IdempotencyStore.class);
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .addFilters(new IdempotencyFilter(store, new ObjectMapper().findAndRegisterModules()))
+            .build();
+    }
+    
+    @Test
+    void shouldExecuteFirstRequestAndRecordResponse() throws Exception {
+        // Given
+        when(store.claim(anyString(), anyString())).thenAnswer(invocation ->
+            IdempotencyClaim.acquired(invocation.getArgument(0), invocation.getArgument(1), LocalDateTime.now()));
+        
+        // When
+        mockMvc.perform(vote("key-1", "{\"voteType\":\"APPROVE\"}"))
+            .andExpect(status().isCreated())
+            .andExpect(content().json("{\"voted\":\"APPROVE\"}"));
+        
+        // Then
+        assertThat(controller.calls.get()).isEqualTo(1);
+        verify(store).complete(any(), eq(201), eq(MediaType.APPLICATION_JSON_VALUE), eq("{\"voted\":\"APPROVE\"}"));
+        verify(store, never()).release(any());
+    }
+    
+    @Test
+    void shouldReplayRecordedResponseWithoutExecuting() throws Exception {
+        // Given - 同一个请求已经执行过
+        when(store.claim(anyString(), anyString())).thenAnswer(invocation -> IdempotencyClaim.completed(
+            invocation.getArgument(0), new StoredResponse(invocation.getArgument(1), 201,
+                MediaType.APPLICATION_JSON_VALUE, "{\"voted\":\"APPROVE\"}", LocalDateTime.now().plusDays(1))));
+        
+        // When & Then
+        mockMvc.perform(vote("key-1", "{\"voteType\":\"APPROVE\"}"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+            .andExpect(content().json("{\"voted\":\"APPROVE\"}"));
+        assertThat(controller.calls.get()).isZero();
+    }
+    
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() throws Exception {
+        // Given - 键记录的是另一个请求
+        when(store.claim(anyString(), anyString())).thenAnswer(invocation -> IdempotencyClaim.completed(
+            invocation.getArgument(0), new StoredResponse("another-request", 201,
+                MediaType.APPLICATION_JSON_VALUE, "{}", LocalDateTime.now().plusDays(1))));
+        
+        // When & Then
+        mockMvc.perform(vote("key-1", "{\"voteType\":\"OBJECT\"}"))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_REUSED"));
+        assertThat(controller.calls.get()).isZero();
+    }
+    
+    @Test
+    void shouldAnswerConflictWhileFirstRequestIsRunning() throws Exception {
+        // Given
+        when(store.claim(anyString(), anyString())).thenAnswer(invocation ->
+            IdempotencyClaim.inProgress(invocation.getArgument(0), invocation.getArgument(1)));
+        
+        // When & Then
+        mockMvc.perform(vote("key-1", "{\"voteType\":\"APPROVE\"}"))
+            .andExpect(status().isConflict())
+            .andExpect(header().string("Retry-After", "1"));
+        assertThat(controller.calls.get()).isZero();
+    }
+    
+    @Test
+    void shouldReleaseKeyWhenRequestFailsWithServerError() throws Exception {
+        // Given
+        when(store.claim(anyString(), anyString())).thenAnswer(invocation ->
+            IdempotencyClaim.acquired(invocation.getArgument(0), invocation.getArgument(1), LocalDateTime.now()));
+        
+        // When
+        mockMvc.perform(vote("key-1", "{\"voteType\":\"FAIL\"}")).andExpect(status().isServiceUnavailable());
+        
+        // Then - 不记录5xx，客户端可以用同一个键重试
+        verify(store).release(any());
+        verify(store, never()).complete(any(), anyInt(), any(), any());
+    }
+    
+    @Test
+    void shouldExecuteRetryOfRateLimitedRequestWithSameKey() throws Exception {
+        // Given - 限流器先拒绝一次再放行；释放后的键在存储中重新可取得
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        doThrow(new RateLimitExceededException("vote", Duration.ofSeconds(30)))
+            .doNothing()
+            .when(rateLimiter).acquire(eq("vote"), anyString(), any());
+        MockMvc limitedMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .addInterceptors(new RateLimitInterceptor(rateLimiter, mock(AdmissionControl.class)))
+            .addFilters(new IdempotencyFilter(store, new ObjectMapper().findAndRegisterModules()))
+            .build();
+        when(store.claim(anyString(), anyString())).thenAnswer(invocation ->
+            IdempotencyClaim.acquired(invocation.getArgument(0), invocation.getArgument(1), LocalDateTime.now()));
+        
+        // When
+        limitedMvc.perform(limitedVote("key-1", "{\"voteType\":\"APPROVE\"}"))
+            .andExpect(status().isTooManyRequests());
+        limitedMvc.perform(limitedVote("key-1", "{\"voteType\":\"APPROVE\"}"))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        
+        // Then - 429不记录，重试真正执行了命令并记录其结果
+        verify(store).release(any());
+        verify(store, times(1)).complete(any(), anyInt(), any(), any());
+        verify(store).complete(any(), eq(201), eq(MediaType.APPLICATION_JSON_VALUE), eq("{\"voted\":\"APPROVE\"}"));
+        assertThat(controller.calls.get()).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldPassThroughRequestsWithoutKey() throws Exception {
+        // When
+        mockMvc.perform(post("/votes").contentType(MediaType.APPLICATION_JSON).content("{\"voteType\":\"APPROVE\"}"))
+            .andExpect(status().isCreated());
+        
+        // Then
+        verifyNoInteractions(store);
+        assertThat(controller.calls.get()).isEqualTo(1);
+    }
+    
+    private static RequestBuilder vote(String key, String body) {
+        return post("/votes")
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body);
+    }
+    
+    private static RequestBuilder limitedVote(String key, String body) {
+        return post("/limited-votes")
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body);
+    }
+    
+    @RestController
+    static class VoteController {
+        
+        final AtomicInteger calls = new AtomicInteger();
+        
+        @PostMapping(value = "/votes", produces = MediaType.APPLICATION_JSON_VALUE)
+        @ResponseStatus(HttpStatus.CREATED)
+        Map<String, String> vote(@RequestBody Map<String, String> request) {
+            calls.incrementAndGet();
+            if ("FAIL".equals(request.get("voteType"))) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Database unavailable");
+            }
+            return Map.of("voted", request.get("voteType"));
+        }
+        
+        @PostMapping(value = "/limited-votes", produces = MediaType.APPLICATION_JSON_VALUE)
+        @ResponseStatus(HttpStatus.CREATED)
+        @RateLimited(operation = "vote")
+        Map<String, String> limitedVote(@RequestBody Map<String, String> request) {
+            return vote(request);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.xholacracy.infrastructure.persistence.idempotency;
+
+import com.xholacracy.infrastructure.persistence.idempotency.IdempotencyClaim.Outcome;
+import com.xholacracy.infrastructure.persistence.jpa.IdempotencyRecordJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 幂等键存储集成测试
+ * 认领、记录、重放、释放和接管都经过真实的幂等键表
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyStoreIntegrationTest {
+    
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration IN_FLIGHT_TIMEOUT = Duration.ofMinutes(1);
+    
+    @Autowired
+    private IdempotencyRecordJpaRepository repository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T09:00:00Z"));
+    private Statistics statistics;
+    private IdempotencyStore store;
+    private String key;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        store = newStore();
+        key = UUID.randomUUID().toString();
+    }
+    
+    @Test
+    void shouldGrantFirstClaimAndReportSecondAsInProgress() {
+        // When
+        IdempotencyClaim first = store.claim(key, "request");
+        IdempotencyClaim second = store.claim(key, "request");
+        
+        // Then
+        assertThat(first.getOutcome()).isEqualTo(Outcome.ACQUIRED);
+        assertThat(second.getOutcome()).isEqualTo(Outcome.IN_PROGRESS);
+        assertThat(second.matches("request")).isTrue();
+    }
+    
+    @Test
+    void shouldReplayCompletedResponseFromCacheWithoutQueries() {
+        // Given
+        IdempotencyClaim claim = store.claim(key, "request");
+        store.complete(claim, 201, "application/json", "{\"id\":\"v-1\"}");
+        statistics.clear();
+        
+        // When
+        IdempotencyClaim replay = store.claim(key, "request");
+        
+        // Then
+        assertThat(replay.getOutcome()).isEqualTo(Outcome.COMPLETED);
+        assertThat(replay.getResponse().getStatusCode()).isEqualTo(201);
+        assertThat(replay.getResponse().getBody()).isEqualTo("{\"id\":\"v-1\"}");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+    
+    @Test
+    void shouldReplayCompletedResponseRecordedByAnotherInstance() {
+        // Given
+        IdempotencyClaim claim = store.claim(key, "request");
+        store.complete(claim, 200, "application/json", "{}");
+        
+        // When - 另一个实例的前置缓存是空的
+        IdempotencyClaim replay = newStore().claim(key, "other-request");
+        
+        // Then - 返回记录的结果，由调用方发现请求不一致
+        assertThat(replay.getOutcome()).isEqualTo(Outcome.COMPLETED);
+        assertThat(replay.matches("other-request")).isFalse();
+    }
+    
+    @Test
+    void shouldAllowRetryAfterRelease() {
+        // Given - 执行失败
+        store.release(store.claim(key, "request"));
+        
+        // When & Then
+        assertThat(store.claim(key, "request").getOutcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+    
+    @Test
+    void shouldTakeOverAbandonedClaim() {
+        // Given - 执行中的实例崩溃，记录一直没有完成
+        store.claim(key, "request");
+        
+        // When
+        clock.advance(IN_FLIGHT_TIMEOUT.plusSeconds(1));
+        
+        // Then - 只有一个请求接管成功
+        assertThat(store.claim(key, "request").getOutcome()).isEqualTo(Outcome.ACQUIRED);
+        assertThat(store.claim(key, "request").getOutcome()).isEqualTo(Outcome.IN_PROGRESS);
+    }
+    
+    @Test
+    void shouldExpireRecordedResponsesAndPurgeThem() {
+        // Given
+        IdempotencyClaim claim = store.claim(key, "request");
+        store.complete(claim, 200, "application/json", "{}");
+        
+        // When
+        clock.advance(TTL.plusSeconds(1));
+        
+        // Then - 过期后同一个键可以再次执行，清理时删除其余过期记录
+        assertThat(store.purgeExpired()).isGreaterThanOrEqualTo(1);
+        assertThat(repository.existsById(key)).isFalse();
+        assertThat(store.claim(key, "request").getOutcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+    
+    private IdempotencyStore newStore() {
+        return new IdempotencyStore(repository, transactionManager, TTL, IN_FLIGHT_TIMEOUT, 100, clock);
+    }
+    
+    /**
+     * 可手动推进的时钟
+     */
+    private static final class MutableClock extends Clock {
+        
+        private Instant now;
+        
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+        
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
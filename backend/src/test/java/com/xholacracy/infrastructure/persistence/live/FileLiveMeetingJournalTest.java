@@ -0,0 +1,101 @@
+package com.xholacracy.infrastructure.persistence.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommand;
+import com.xholacracy.domain.model.meeting.LiveMeetingJournalEntry;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 现场会议文件日志测试
+ */
+class FileLiveMeetingJournalTest {
+    
+    @TempDir
+    Path directory;
+    
+    private final MeetingKey key = MeetingKey.of(OrganizationId.generate(), MeetingId.generate());
+    private FileLiveMeetingJournal journal;
+    
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+    
+    @Test
+    void shouldReadBackAppendedEntriesAfterReopening() {
+        // Given
+        journal = new FileLiveMeetingJournal(directory, true, new ObjectMapper());
+        ProposalId proposalId = ProposalId.generate();
+        List<LiveMeetingJournalEntry> entries = List.of(
+            LiveMeetingJournalEntry.of(1, LiveMeetingCommand.startAgendaItem(proposalId)),
+            LiveMeetingJournalEntry.of(2, LiveMeetingCommand.recordAttendance(
+                List.of(PartnerId.generate(), PartnerId.generate()))),
+            LiveMeetingJournalEntry.of(3, LiveMeetingCommand.recordOutcome(proposalId, ProposalStatus.APPROVED,
+                "Adopted", "Line one\nline \"two\"")),
+            LiveMeetingJournalEntry.of(4, LiveMeetingCommand.addNotes(PartnerId.generate(), "Follow up")));
+        entries.forEach(entry -> journal.append(key, entry));
+        journal.close();
+        
+        // When - 模拟进程重启
+        journal = new FileLiveMeetingJournal(directory, false, new ObjectMapper());
+        
+        // Then
+        assertThat(journal.read(key)).isEqualTo(entries);
+    }
+    
+    @Test
+    void shouldDropTornLastLineAndContinueAfterIt() throws IOException {
+        // Given
+        journal = new FileLiveMeetingJournal(directory, false, new ObjectMapper());
+        LiveMeetingJournalEntry first = LiveMeetingJournalEntry.of(1,
+            LiveMeetingCommand.addNotes(PartnerId.generate(), "First"));
+        journal.append(key, first);
+        journal.close();
+        Path file = directory.resolve(key.getOrganizationId().getValue()).resolve(key.getId().getValue() + ".journal");
+        Files.write(file, "{\"sequence\":2,\"type\":\"ADD_N".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+            
+        // When
+        List<LiveMeetingJournalEntry> recovered = journal.read(key);
+        LiveMeetingJournalEntry second = LiveMeetingJournalEntry.of(2,
+            LiveMeetingCommand.addNotes(PartnerId.generate(), "Second"));
+        journal.append(key, second);
+            
+        // Then
+        assertThat(recovered).containsExactly(first);
+        assertThat(journal.read(key)).containsExactly(first, second);
+    }
+        
+    @Test
+    void shouldReturnNothingAfterDelete() {
+        // Given
+        journal = new FileLiveMeetingJournal(directory, false, new ObjectMapper());
+        journal.append(key, LiveMeetingJournalEntry.of(1, LiveMeetingCommand.addNotes(PartnerId.generate(), "Notes")));
+            
+        // When
+        journal.delete(key);
+            
+        // Then
+        assertThat(journal.read(key)).isEmpty();
+    }
+}
+    
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.xholacracy.infrastructure.persistence.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.exception.MeetingSessionOwnedElsewhereException;
+import com.xholacracy.domain.model.meeting.AgendaItemStatus;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommand;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.MeetingStatus;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.infrastructure.persistence.jpa.LiveSessionLeaseJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 内存现场会议注册表集成测试
+ * 注册表在自己的事务中读写数据库，测试不使用默认的回滚事务，结束后删除提交的数据
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InMemoryLiveMeetingRegistryIntegrationTest {
+    
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private MeetingRepository meetingRepository;
+    
+    @Autowired
+    private LiveSessionLeaseJpaRepository leaseRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @TempDir
+    Path journalDir;
+    
+    private TransactionTemplate tx;
+    private Organization organization;
+    private GovernanceMeeting meeting;
+    private ProposalId proposalId;
+    private FileLiveMeetingJournal journal;
+    
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        organization = organizationRepository.save(Organization.create("Live Org", "Description"));
+        proposalId = ProposalId.generate();
+        meeting = tx.execute(status -> {
+            GovernanceMeeting created = GovernanceMeeting.create(organization.getId(),
+                organization.getAnchorCircleId(), LocalDateTime.now().plusHours(1), Duration.ofHours(1));
+            created.addAgendaItem(proposalId);
+            return meetingRepository.save(created);
+        });
+        journal = new FileLiveMeetingJournal(journalDir, false, new ObjectMapper());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        journal.close();
+        tx.executeWithoutResult(status -> {
+            for (String table : List.of("live_meeting_sessions", "meeting_agenda_items", "meeting_attendance",
+                    "meeting_proposal_outcomes", "meeting_participants", "governance_meetings")) {
+                entityManager.createNativeQuery("DELETE FROM " + table + " WHERE organization_id = :organizationId")
+                    .setParameter("organizationId", organization.getId().getValue())
+                    .executeUpdate();
+            }
+        });
+    }
+    
+    @Test
+    void shouldAcknowledgeCommandsBeforeWritingThemInOneSave() {
+        // Given
+        InMemoryLiveMeetingRegistry registry = registry("node-a");
+        Long startedVersion = registry.start(organization.getId(), meeting.getId(), GovernanceMeeting::getVersion);
+        PartnerId partnerId = PartnerId.generate();
+        
+        // When
+        registry.apply(organization.getId(), meeting.getId(), LiveMeetingCommand.recordCheckIn("Hello"));
+        registry.apply(organization.getId(), meeting.getId(), LiveMeetingCommand.recordAttendance(List.of(partnerId)));
+        long sequence = registry.apply(organization.getId(), meeting.getId(),
+            LiveMeetingCommand.startAgendaItem(proposalId));
+        
+        // Then - 命令只在内存中生效
+        assertThat(sequence).isEqualTo(3);
+        assertThat(stored().getMeetingRecord().getCheckInNotes()).isNullOrEmpty();
+        String liveNotes = registry.read(organization.getId(), meeting.getId(),
+            live -> live.getMeetingRecord().getCheckInNotes());
+        assertThat(liveNotes).isEqualTo("Hello");
+        
+        // When
+        registry.flushAll();
+        
+        // Then - 三个命令合并为一次保存
+        GovernanceMeeting stored = stored();
+        assertThat(stored.getMeetingRecord().getCheckInNotes()).isEqualTo("Hello");
+        assertThat(stored.getMeetingRecord().getAttendees()).containsExactly(partnerId);
+        assertThat(stored.getAgenda().getItems().get(0).getStatus()).isEqualTo(AgendaItemStatus.IN_PROGRESS);
+        assertThat(stored.getVersion()).isEqualTo(startedVersion + 1);
+        assertThat(leaseRepository.findById(meeting.getId().getValue()).orElseThrow().getFlushedSequence())
+            .isEqualTo(3);
+    }
+    
+    @Test
+    void shouldReplayUnflushedCommandsWhenNodeRestarts() {
+        // Given - 节点在刷新前崩溃
+        InMemoryLiveMeetingRegistry crashed = registry("node-a");
+        crashed.start(organization.getId(), meeting.getId(), GovernanceMeeting::getStatus);
+        crashed.apply(organization.getId(), meeting.getId(), LiveMeetingCommand.startAgendaItem(proposalId));
+        crashed.apply(organization.getId(), meeting.getId(), LiveMeetingCommand.completeAgendaItem(proposalId, "Done"));
+        journal.close();
+        journal = new FileLiveMeetingJournal(journalDir, false, new ObjectMapper());
+        
+        // When
+        InMemoryLiveMeetingRegistry restarted = registry("node-a");
+        int recovered = restarted.recover();
+        
+        // Then
+        assertThat(recovered).isEqualTo(1);
+        assertThat(stored().getAgenda().getItems().get(0).getStatus()).isEqualTo(AgendaItemStatus.COMPLETED);
+        long sequence = restarted.apply(organization.getId(), meeting.getId(), LiveMeetingCommand.addNotes(null, "After"));
+        assertThat(sequence).isEqualTo(3);
+    }
+    
+    @Test
+    void shouldRejectSessionHeldByAnotherNode() {
+        // Given
+        registry("node-a").start(organization.getId(), meeting.getId(), GovernanceMeeting::getStatus);
+        InMemoryLiveMeetingRegistry other = registry("node-b");
+        
+        // When & Then
+        assertThatThrownBy(() -> other.apply(organization.getId(), meeting.getId(),
+                LiveMeetingCommand.addNotes(null, "Elsewhere")))
+            .isInstanceOf(MeetingSessionOwnedElsewhereException.class)
+            .hasMessageContaining("node-a");
+        assertThat(other.size()).isZero();
+    }
+    
+    @Test
+    void shouldWriteEverythingAndReleaseSessionWhenMeetingEnds() {
+        // Given
+        InMemoryLiveMeetingRegistry registry = registry("node-a");
+        registry.start(organization.getId(), meeting.getId(), GovernanceMeeting::getStatus);
+        registry.apply(organization.getId(), meeting.getId(), LiveMeetingCommand.recordClosing("Bye"));
+        
+        // When
+        MeetingStatus status = registry.end(organization.getId(), meeting.getId(), GovernanceMeeting::getStatus);
+        
+        // Then
+        assertThat(status).isEqualTo(MeetingStatus.COMPLETED);
+        GovernanceMeeting stored = stored();
+        assertThat(stored.getStatus()).isEqualTo(MeetingStatus.COMPLETED);
+        assertThat(stored.getMeetingRecord().getClosingNotes()).isEqualTo("Bye");
+        assertThat(leaseRepository.findById(meeting.getId().getValue())).isEmpty();
+        assertThat(journal.read(meeting.getKey())).isEmpty();
+        assertThat(registry.size()).isZero();
+    }
+    
+    private InMemoryLiveMeetingRegistry registry(String nodeId) {
+        return new InMemoryLiveMeetingRegistry(meetingRepository, leaseRepository, journal, event -> { },
+            transactionManager, nodeId, LEASE);
+    }
+    
+    private GovernanceMeeting stored() {
+        return tx.execute(status -> {
+            GovernanceMeeting found = meetingRepository.findById(organization.getId(), meeting.getId()).orElseThrow();
+            found.getAgenda().getItems().size();
+            found.getMeetingRecord().getAttendees().size();
+            return found;
+        });
+    }
+}
@@ -0,0 +1,174 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.infrastructure.notification.InMemoryNotificationSink;
+import com.xholacracy.infrastructure.notification.Notification;
+import com.xholacracy.infrastructure.notification.NotificationSink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+    
+    private static final Duration LEASE = Duration.ofSeconds(5);
+    
+    @Mock
+    private OutboxStore store;
+    
+    private OutboxDispatcher dispatcher;
+    
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+    
+    private static List<OutboxMessage> messages(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> OutboxMessage.create(OrganizationId.generate(), OutboxMessageType.MEETING_SCHEDULED,
+                "meeting-" + i, "{}", LocalDateTime.now()))
+            .toList();
+    }
+    
+    @Test
+    void shouldDeliverBatchInParallelAndDeleteDeliveredMessages() {
+        // Given - 投递目标等到整批都开始投递才返回，串行投递会超时失败
+        List<OutboxMessage> batch = messages(4);
+        CountDownLatch allStarted = new CountDownLatch(batch.size());
+        NotificationSink slowSink = new NotificationSink() {
+            @Override
+            public String name() {
+                return "slow";
+            }
+            
+            @Override
+            public void deliver(Notification notification) throws InterruptedException {
+                allStarted.countDown();
+                if (!allStarted.await(2, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Deliveries are not running in parallel");
+                }
+            }
+        };
+        dispatcher = new OutboxDispatcher(store, List.of(slowSink), 10, LEASE, 4);
+        when(store.claim(10, LEASE)).thenReturn(batch);
+        
+        // When
+        int dispatched = dispatcher.dispatchBatch();
+        
+        // Then
+        assertThat(dispatched).isEqualTo(4);
+        verify(store).settle(argThat((Collection<String> ids) -> ids.size() == 4), eq(Map.of()));
+    }
+    
+    @Test
+    void shouldRetryMessageWhenAnySinkFails() {
+        // Given
+        List<OutboxMessage> batch = messages(2);
+        String failing = batch.get(1).getId();
+        InMemoryNotificationSink inMemory = new InMemoryNotificationSink(10);
+        NotificationSink webhook = new NotificationSink() {
+            @Override
+            public String name() {
+                return "webhook";
+            }
+            
+            @Override
+            public void deliver(Notification notification) throws Exception {
+                if (notification.getId().equals(failing)) {
+                    throw new IOException("answered 503");
+                }
+            }
+        };
+        dispatcher = new OutboxDispatcher(store, List.of(inMemory, webhook), 10, LEASE, 2);
+        when(store.claim(10, LEASE)).thenReturn(batch);
+        
+        // When
+        dispatcher.dispatchBatch();
+        
+        // Then
+        verify(store).settle(List.of(batch.get(0).getId()), Map.of(failing, "webhook: answered 503"));
+        assertThat(inMemory.received()).hasSize(2);
+    }
+    
+    @Test
+    void shouldDropRedeliveredNotificationInDeduplicatingSink() {
+        // Given - 同一消息在下一次认领时再次投递
+        List<OutboxMessage> batch = messages(1);
+        InMemoryNotificationSink inMemory = new InMemoryNotificationSink(10);
+        dispatcher = new OutboxDispatcher(store, List.of(inMemory), 10, LEASE, 1);
+        when(store.claim(10, LEASE)).thenReturn(batch);
+        
+        // When
+        dispatcher.dispatchBatch();
+        dispatcher.dispatchBatch();
+        
+        // Then
+        assertThat(inMemory.received()).extracting(Notification::getId).containsExactly(batch.get(0).getId());
+        assertThat(inMemory.duplicates()).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldDrainFullBatchesUntilQueueIsShort() {
+        // Given
+        Map<String, Integer> delivered = new ConcurrentHashMap<>();
+        NotificationSink counting = new NotificationSink() {
+            @Override
+            public String name() {
+                return "counting";
+            }
+            
+            @Override
+            public void deliver(Notification notification) {
+                delivered.merge(notification.getId(), 1, Integer::sum);
+            }
+        };
+        dispatcher = new OutboxDispatcher(store, List.of(counting), 2, LEASE, 2);
+        when(store.claim(2, LEASE)).thenReturn(messages(2))
+            .thenReturn(messages(2))
+            .thenReturn(messages(1));
+        
+        // When
+        dispatcher.run();
+        
+        // Then
+        verify(store, times(3)).claim(anyInt(), eq(LEASE));
+        verify(store, times(3)).settle(anyCollection(), anyMap());
+        assertThat(delivered).hasSize(5);
+    }
+    
+    @Test
+    void shouldNotTouchStoreWhenNothingIsDue() {
+        // Given
+        dispatcher = new OutboxDispatcher(store, List.of(), 10, LEASE, 1);
+        when(store.claim(10, LEASE)).thenReturn(List.of());
+        
+        // When
+        dispatcher.run();
+        
+        // Then
+        verify(store, never()).settle(anyCollection(), anyMap());
+    }
+}
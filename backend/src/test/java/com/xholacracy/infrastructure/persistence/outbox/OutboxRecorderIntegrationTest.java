@@ -0,0 +1,193 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.proposal.Proposal;
+import com.xholacracy.domain.model.proposal.ProposalRepository;
+import com.xholacracy.domain.model.proposal.ProposalType;
+import com.xholacracy.domain.model.proposal.Tension;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleAssignment;
+import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.infrastructure.persistence.jpa.OutboxMessageJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 发件箱记录器集成测试
+ * 消息在事务提交前写入，因此测试不使用默认的回滚事务，而是逐个提交
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRecorderIntegrationTest {
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private RoleRepository roleRepository;
+    
+    @Autowired
+    private MeetingRepository meetingRepository;
+    
+    @Autowired
+    private ProposalRepository proposalRepository;
+    
+    @Autowired
+    private OutboxMessageJpaRepository outboxRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TransactionTemplate tx;
+    private Organization organization;
+    private Circle circle;
+    
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        organization = organizationRepository.save(Organization.create("Outbox Org", "Description"));
+        circle = tx.execute(status -> circleRepository.save(Circle.createSubCircle(
+            "Product", "Purpose", organization.getAnchorCircleId(), organization.getId())));
+        outboxRepository.deleteAll();
+    }
+    
+    @Test
+    void shouldRecordScheduledAndRescheduledMeeting() throws Exception {
+        // Given
+        GovernanceMeeting meeting = tx.execute(status -> meetingRepository.save(GovernanceMeeting.create(
+            organization.getId(), circle.getId(), LocalDateTime.of(2026, 3, 2, 10, 0), Duration.ofHours(1))));
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            GovernanceMeeting loaded = meetingRepository.findById(organization.getId(), meeting.getId()).orElseThrow();
+            loaded.reschedule(LocalDateTime.of(2026, 3, 3, 10, 0));
+            meetingRepository.save(loaded);
+        });
+        
+        // Then
+        List<OutboxMessage> messages = messages();
+        assertThat(messages).extracting(OutboxMessage::getMessageType)
+            .containsExactlyInAnyOrder(OutboxMessageType.MEETING_SCHEDULED, OutboxMessageType.MEETING_RESCHEDULED);
+        assertThat(messages).allSatisfy(message -> {
+            assertThat(message.getAggregateId()).isEqualTo(meeting.getId().getValue());
+            assertThat(message.getOrganizationId()).isEqualTo(organization.getId().getValue());
+        });
+        OutboxMessage rescheduled = messages.stream()
+            .filter(message -> message.getMessageType() == OutboxMessageType.MEETING_RESCHEDULED)
+            .findFirst().orElseThrow();
+        assertThat(payload(rescheduled).get("scheduledDate").asText()).isEqualTo("2026-03-03T10:00");
+    }
+    
+    @Test
+    void shouldRecordRoleAssignmentWithOrganizationResolvedFromCircle() throws Exception {
+        // Given
+        Role role = circle.getRoles().get(0);
+        PartnerId partnerId = PartnerId.generate();
+        
+        // When
+        RoleAssignment assignment = tx.execute(status -> {
+            Role loaded = roleRepository.findById(role.getId()).orElseThrow();
+            RoleAssignment created = loaded.assignToPartner(partnerId, PartnerId.generate());
+            roleRepository.save(loaded);
+            return created;
+        });
+        
+        // Then
+        assertThat(messages()).singleElement().satisfies(message -> {
+            assertThat(message.getMessageType()).isEqualTo(OutboxMessageType.ROLE_ASSIGNED);
+            assertThat(message.getAggregateId()).isEqualTo(assignment.getId());
+            assertThat(message.getOrganizationId()).isEqualTo(organization.getId().getValue());
+            assertThat(payload(message).get("partnerId").asText()).isEqualTo(partnerId.getValue());
+        });
+    }
+    
+    @Test
+    void shouldRecordProposalStageChangeWithPreviousStatus() throws Exception {
+        // Given
+        Proposal proposal = tx.execute(status -> proposalRepository.save(Proposal.create("Add release role",
+            Tension.create("No release owner", "Ad hoc releases", "Planned releases"),
+            ProposalType.ROLE_MODIFICATION, organization.getId(), circle.getId(), PartnerId.generate())));
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            Proposal loaded = proposalRepository.findById(organization.getId(), proposal.getId()).orElseThrow();
+            loaded.submit();
+            proposalRepository.save(loaded);
+        });
+        
+        // Then - 创建草稿不通知，提交后通知一次
+        assertThat(messages()).singleElement().satisfies(message -> {
+            assertThat(message.getMessageType()).isEqualTo(OutboxMessageType.PROPOSAL_STATUS_CHANGED);
+            JsonNode payload = payload(message);
+            assertThat(payload.get("previousStatus").asText()).isEqualTo("DRAFT");
+            assertThat(payload.get("status").asText()).isEqualTo("SUBMITTED");
+        });
+    }
+    
+    @Test
+    void shouldDiscardMessagesWhenTransactionRollsBack() {
+        // When
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> {
+            meetingRepository.save(GovernanceMeeting.create(organization.getId(), circle.getId(),
+                LocalDateTime.of(2026, 3, 2, 10, 0), Duration.ofHours(1)));
+            throw new IllegalStateException("Rolled back");
+        })).isInstanceOf(IllegalStateException.class);
+        
+        // Then
+        assertThat(messages()).isEmpty();
+    }
+    
+    private List<OutboxMessage> messages() {
+        return outboxRepository.findAll();
+    }
+    
+    private JsonNode payload(OutboxMessage message) throws Exception {
+        return objectMapper.readTree(message.getPayload());
+    }
+    
+    /**
+     * 记录器由OutboxConfig创建，不在组件扫描范围内，测试单独注册
+     */
+    @TestConfiguration
+    static class RecorderConfig {
+        
+        @Bean
+        OutboxRecorder outboxRecorder(EntityManagerFactory entityManagerFactory,
+                                      OutboxMessageJpaRepository repository,
+                                      CircleRepository circleRepository) {
+            return new OutboxRecorder(entityManagerFactory, repository, circleRepository, new ObjectMapper());
+        }
+    }
+}
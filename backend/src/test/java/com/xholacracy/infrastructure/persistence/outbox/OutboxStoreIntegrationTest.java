@@ -0,0 +1,228 @@
+package com.xholacracy.infrastructure.persistence.outbox;
+
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.infrastructure.persistence.jpa.OutboxMessageJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 发件箱存储集成测试
+ * 认领和结算各在独立事务中提交，测试不使用默认的回滚事务
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxStoreIntegrationTest {
+    
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    private static final int MAX_ATTEMPTS = 3;
+    
+    @Autowired
+    private OutboxMessageJpaRepository repository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private OutboxStore store;
+    
+    @Autowired
+    private MutableClock clock;
+    
+    private TransactionTemplate tx;
+    
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        clock.reset();
+        tx = new TransactionTemplate(transactionManager);
+    }
+    
+    private List<OutboxMessage> enqueue(int count) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return repository.saveAll(IntStream.range(0, count)
+            .mapToObj(i -> OutboxMessage.create(OrganizationId.generate(), OutboxMessageType.ROLE_ASSIGNED,
+                "assignment-" + i, "{}", now.minusSeconds(count - i)))
+            .toList());
+    }
+    
+    @Test
+    void shouldHideLeasedMessagesUntilLeaseExpires() {
+        // Given
+        enqueue(3);
+        
+        // When
+        List<OutboxMessage> first = store.claim(2, LEASE);
+        List<OutboxMessage> second = store.claim(10, LEASE);
+        
+        // Then - 已认领的消息在租约内不会再被认领，租约过期后重新可见
+        assertThat(first).extracting(OutboxMessage::getAggregateId).containsExactly("assignment-0", "assignment-1");
+        assertThat(second).extracting(OutboxMessage::getAggregateId).containsExactly("assignment-2");
+        assertThat(store.claim(10, LEASE)).isEmpty();
+        
+        clock.advance(LEASE.plusSeconds(1));
+        assertThat(store.claim(10, LEASE))
+            .hasSize(3)
+            .allSatisfy(message -> assertThat(message.getAttempts()).isEqualTo(2));
+    }
+    
+    @Test
+    void shouldSkipRowsLockedByAnotherDispatcher() throws Exception {
+        // Given - H2不支持SKIP LOCKED，只在PostgreSQL上运行
+        assumeTrue(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices()
+            .getDialect().supportsSkipLocked());
+        enqueue(3);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        // When - 第一个分发器认领后保持事务打开
+        CompletableFuture<List<OutboxMessage>> holder = CompletableFuture.supplyAsync(() -> tx.execute(status -> {
+            List<OutboxMessage> batch = store.claim(2, LEASE);
+            claimed.countDown();
+            await(release);
+            return batch;
+        }));
+        assertThat(claimed.await(5, TimeUnit.SECONDS)).isTrue();
+        List<OutboxMessage> concurrent = store.claim(10, LEASE);
+        release.countDown();
+        
+        // Then - 第二个分发器不等待锁，只拿到未锁定的消息
+        assertThat(holder.get(5, TimeUnit.SECONDS)).extracting(OutboxMessage::getAggregateId)
+            .containsExactly("assignment-0", "assignment-1");
+        assertThat(concurrent).extracting(OutboxMessage::getAggregateId).containsExactly("assignment-2");
+    }
+    
+    @Test
+    void shouldDeleteDeliveredAndBackOffFailedMessages() {
+        // Given
+        enqueue(2);
+        List<OutboxMessage> batch = store.claim(10, LEASE);
+        
+        // When
+        store.settle(List.of(batch.get(0).getId()), Map.of(batch.get(1).getId(), "webhook: 503"));
+        
+        // Then
+        assertThat(repository.existsById(batch.get(0).getId())).isFalse();
+        OutboxMessage failed = repository.findById(batch.get(1).getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(OutboxMessageStatus.PENDING);
+        assertThat(failed.getLastError()).isEqualTo("webhook: 503");
+        assertThat(failed.getAvailableAt()).isEqualTo(LocalDateTime.now(clock).plusSeconds(1));
+        
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(store.claim(10, LEASE)).extracting(OutboxMessage::getId).containsExactly(failed.getId());
+    }
+    
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        String id = enqueue(1).get(0).getId();
+        
+        // When
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            assertThat(store.claim(10, LEASE)).hasSize(1);
+            store.settle(List.of(), Map.of(id, "log: failed"));
+            clock.advance(Duration.ofMinutes(1));
+        }
+        
+        // Then
+        assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(OutboxMessageStatus.DEAD);
+        assertThat(store.claim(10, LEASE)).isEmpty();
+    }
+    
+    @Test
+    void shouldDoubleBackoffUpToMaximum() {
+        assertThat(store.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(store.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(store.backoff(40)).isEqualTo(Duration.ofSeconds(30));
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 通过Spring创建存储，使其事务注解生效
+     */
+    @TestConfiguration
+    static class StoreConfig {
+        
+        @Bean
+        MutableClock mutableClock() {
+            return new MutableClock();
+        }
+        
+        @Bean
+        OutboxStore outboxStore(OutboxMessageJpaRepository repository, MutableClock clock) {
+            return new OutboxStore(repository, MAX_ATTEMPTS, Duration.ofSeconds(1), Duration.ofSeconds(30), clock);
+        }
+    }
+    
+    /**
+     * 可手动推进的时钟
+     */
+    static final class MutableClock extends Clock {
+        
+        private static final Instant START = Instant.parse("2026-01-01T09:00:00Z");
+        
+        private volatile Instant now = START;
+        
+        void reset() {
+            now = START;
+        }
+        
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
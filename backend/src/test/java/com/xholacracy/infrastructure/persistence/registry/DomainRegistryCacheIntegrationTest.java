@@ -0,0 +1,142 @@
+package com.xholacracy.infrastructure.persistence.registry;
+
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.DomainRegistry;
+import com.xholacracy.domain.model.role.DomainRegistryRepository;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleId;
+import com.xholacracy.domain.model.role.RoleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 领域注册表缓存集成测试
+ * 注册表在事务成功完成后失效，因此测试不使用默认的回滚事务，而是逐个提交
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DomainRegistryCacheIntegrationTest {
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private RoleRepository roleRepository;
+    
+    @Autowired
+    private DomainRegistryRepository domainRegistryRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate tx;
+    private Organization organization;
+    private Role releaseManager;
+    
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        organization = organizationRepository.save(Organization.create("Registry Cache Org", "Description"));
+        releaseManager = tx.execute(status -> {
+            Role role = Role.create("Release Manager", "Purpose", organization.getAnchorCircleId());
+            role.addDomain(Domain.create("Production Deploys", null));
+            return roleRepository.save(role);
+        });
+    }
+    
+    @Test
+    void shouldServeRepeatedChecksFromCachedRegistry() {
+        // Given
+        DomainRegistry first = load();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // When
+        DomainRegistry second = load();
+        
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+    
+    @Test
+    void shouldRebuildRegistryAfterCommittedDomainChange() {
+        // Given
+        assertThat(load().findConflict(RoleId.generate(), "Roadmap", null)).isEmpty();
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            Role role = roleRepository.findById(releaseManager.getId()).orElseThrow();
+            role.addDomain(Domain.create("Roadmap", null));
+            roleRepository.save(role);
+        });
+        
+        // Then
+        assertThat(load().findConflict(RoleId.generate(), "Roadmap", null)).isPresent();
+    }
+    
+    @Test
+    void shouldRebuildRegistryAfterRoleRename() {
+        // Given
+        assertThat(load().findConflict(RoleId.generate(), "Production Deploys", null))
+            .hasValueSatisfying(claim -> assertThat(claim.getRoleName()).isEqualTo("Release Manager"));
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            Role role = roleRepository.findById(releaseManager.getId()).orElseThrow();
+            role.updateInfo("Deploy Lead", null);
+            roleRepository.save(role);
+        });
+        
+        // Then
+        assertThat(load().findConflict(RoleId.generate(), "Production Deploys", null))
+            .hasValueSatisfying(claim -> assertThat(claim.getRoleName()).isEqualTo("Deploy Lead"));
+    }
+    
+    @Test
+    void shouldKeepRegistryWhenDomainChangeRollsBack() {
+        // Given
+        DomainRegistry cached = load();
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            Role role = roleRepository.findById(releaseManager.getId()).orElseThrow();
+            role.addDomain(Domain.create("Roadmap", null));
+            roleRepository.save(role);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+        
+        // Then
+        assertThat(load()).isSameAs(cached);
+        assertThat(cached.findConflict(RoleId.generate(), "Roadmap", null)).isEmpty();
+    }
+    
+    private DomainRegistry load() {
+        return tx.execute(status -> domainRegistryRepository.load(organization.getId()));
+    }
+}
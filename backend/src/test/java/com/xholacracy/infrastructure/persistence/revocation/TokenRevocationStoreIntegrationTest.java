@@ -0,0 +1,145 @@
+package com.xholacracy.infrastructure.persistence.revocation;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.infrastructure.persistence.jpa.TokenRevocationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 令牌吊销存储集成测试
+ * 吊销经过真实的吊销表，另一个实例的存储能查到
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenRevocationStoreIntegrationTest {
+    
+    private static final Duration MAX_LIFETIME = Duration.ofHours(24);
+    
+    @Autowired
+    private TokenRevocationJpaRepository repository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T09:00:00Z"));
+    private TokenRevocationStore store;
+    private PartnerId partnerId;
+    private String tokenId;
+    
+    @BeforeEach
+    void setUp() {
+        store = newStore();
+        partnerId = PartnerId.generate();
+        tokenId = UUID.randomUUID().toString();
+    }
+    
+    @Test
+    void shouldFindTokenRevokedOnAnotherInstanceUntilTokenExpires() {
+        // Given
+        store.revokeToken(tokenId, clock.instant().plus(Duration.ofHours(1)));
+        TokenRevocationStore otherInstance = newStore();
+        
+        // When & Then
+        assertThat(otherInstance.isRevoked(tokenId, partnerId, clock.instant())).isTrue();
+        assertThat(otherInstance.isRevoked(UUID.randomUUID().toString(), partnerId, clock.instant())).isFalse();
+        clock.advance(Duration.ofHours(1).plusSeconds(1));
+        assertThat(otherInstance.isRevoked(tokenId, partnerId, clock.instant())).isFalse();
+    }
+    
+    @Test
+    void shouldRejectOnlyTokensIssuedBeforePartnerRevocation() {
+        // Given
+        Instant issuedBefore = clock.instant().minusSeconds(60);
+        Instant revokedAt = clock.instant();
+        store.revokePartner(partnerId, revokedAt, revokedAt.plus(MAX_LIFETIME));
+        
+        // When & Then
+        assertThat(store.isRevoked(tokenId, partnerId, issuedBefore)).isTrue();
+        assertThat(store.isRevoked(tokenId, partnerId, revokedAt)).isTrue();
+        assertThat(store.isRevoked(tokenId, partnerId, null)).isTrue();
+        assertThat(store.isRevoked(tokenId, partnerId, revokedAt.plusSeconds(1))).isFalse();
+        assertThat(store.isRevoked(tokenId, PartnerId.generate(), issuedBefore)).isFalse();
+    }
+    
+    @Test
+    void shouldMovePartnerRevocationForwardWhenRevokedAgain() {
+        // Given
+        Instant first = clock.instant();
+        store.revokePartner(partnerId, first, first.plus(MAX_LIFETIME));
+        
+        // When
+        Instant second = first.plus(Duration.ofHours(2));
+        store.revokePartner(partnerId, second, second.plus(MAX_LIFETIME));
+        store.revokePartner(partnerId, first, first.plus(MAX_LIFETIME));
+        
+        // Then - 两次吊销之间签发的令牌也被拒绝，较早的吊销不会把记录改回去
+        assertThat(store.isRevoked(tokenId, partnerId, first.plus(Duration.ofHours(1)))).isTrue();
+        assertThat(store.isRevoked(tokenId, partnerId, second.plusSeconds(1))).isFalse();
+    }
+    
+    @Test
+    void shouldPurgeExpiredRevocations() {
+        // Given
+        store.revokeToken(tokenId, clock.instant().plus(Duration.ofHours(1)));
+        
+        // When
+        clock.advance(Duration.ofHours(1).plusSeconds(1));
+        
+        // Then
+        assertThat(store.purgeExpired()).isGreaterThanOrEqualTo(1);
+        assertThat(repository.existsById(new TokenRevocation.Key(TokenRevocationKind.TOKEN, tokenId))).isFalse();
+    }
+    
+    private TokenRevocationStore newStore() {
+        return new TokenRevocationStore(repository, transactionManager, clock);
+    }
+    
+    /**
+     * 可手动推进的时钟
+     */
+    private static final class MutableClock extends Clock {
+        
+        private Instant now;
+        
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+        
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.xholacracy.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 写后读粘滞窗口单元测试
+ */
+class PrimaryStickinessTest {
+    
+    private final AtomicLong nanos = new AtomicLong();
+    private final PrimaryStickiness stickiness = new PrimaryStickiness(Duration.ofSeconds(10), nanos::get);
+    
+    @AfterEach
+    void tearDown() {
+        stickiness.unbind();
+    }
+    
+    @Test
+    void shouldStickOnlyForWritingSessionWithinWindow() {
+        // Given
+        stickiness.bind("user:alice");
+        
+        // When
+        stickiness.markWrite();
+        
+        // Then
+        assertThat(stickiness.isSticky()).isTrue();
+        stickiness.bind("user:bob");
+        assertThat(stickiness.isSticky()).isFalse();
+        
+        // When
+        stickiness.bind("user:alice");
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+        
+        // Then
+        assertThat(stickiness.isSticky()).isFalse();
+    }
+    
+    @Test
+    void shouldRestartWindowOnEachWrite() {
+        // Given
+        stickiness.bind("user:alice");
+        stickiness.markWrite();
+        nanos.addAndGet(Duration.ofSeconds(8).toNanos());
+        
+        // When
+        stickiness.markWrite();
+        nanos.addAndGet(Duration.ofSeconds(8).toNanos());
+        
+        // Then
+        assertThat(stickiness.isSticky()).isTrue();
+    }
+    
+    @Test
+    void shouldIgnoreWritesWithoutBoundSession() {
+        // When
+        stickiness.markWrite();
+        
+        // Then
+        assertThat(stickiness.isSticky()).isFalse();
+    }
+}
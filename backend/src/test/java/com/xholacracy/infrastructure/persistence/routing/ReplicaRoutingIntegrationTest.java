@@ -0,0 +1,216 @@
+package com.xholacracy.infrastructure.persistence.routing;
+
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.infrastructure.config.ReplicaRoutingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 读写分离路由集成测试
+ * 主库和副本是两个独立的H2内存库，复制由测试显式地把主库导出再导入副本来模拟，
+ * 因此副本在下一次复制之前总是落后于主库，读到的结果可以区分出连接去了哪个库
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+    "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "xholacracy.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+    "xholacracy.datasource.replica.username=sa",
+    "xholacracy.datasource.replica.password=",
+    "xholacracy.datasource.replica.lag-query=SELECT lag_ms FROM replica_status",
+    "xholacracy.datasource.replica.max-lag=1s",
+    "xholacracy.datasource.replica.lag-check-interval=PT1H",
+    "xholacracy.datasource.replica.sticky-window=PT1H"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@Import(ReplicaRoutingConfig.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingIntegrationTest {
+    
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+    
+    @Autowired
+    private PrimaryStickiness stickiness;
+    
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate readOnlyTx;
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    
+    @BeforeEach
+    void setUp() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        primaryJdbc = new JdbcTemplate(primaryDataSource);
+        // 复制进程直接连接副本，不经过应用的只读连接池
+        replicaJdbc = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        lagMonitor.refresh();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        stickiness.unbind();
+    }
+    
+    @Test
+    void shouldWriteToPrimaryAndReadFromReplica() {
+        // Given
+        replicate(0);
+        
+        // When
+        OrganizationId id = organizationRepository.save(Organization.create("Routing Org", "Description")).getId();
+        
+        // Then
+        assertThat(primaryJdbc.queryForObject(
+            "SELECT COUNT(*) FROM organizations WHERE id = ?", Integer.class, id.getValue())).isEqualTo(1);
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+        assertThat(readOnlyFind(id)).isEmpty();
+        
+        // When
+        replicate(0);
+        
+        // Then
+        assertThat(readOnlyFind(id)).isPresent();
+    }
+    
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLagExceedsLimit() {
+        // Given
+        replicate(0);
+        OrganizationId id = organizationRepository.save(Organization.create("Lagging Org", "Description")).getId();
+        assertThat(readOnlyFind(id)).isEmpty();
+        
+        // When
+        setReplicaLag(5_000);
+        
+        // Then
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnlyFind(id)).isPresent();
+    }
+    
+    @Test
+    void shouldFallBackToPrimaryWhenLagCheckFails() {
+        // Given
+        OrganizationId id = organizationRepository.save(Organization.create("Unchecked Org", "Description")).getId();
+        
+        // When
+        lagMonitor.refresh(); // 副本上没有replica_status表
+        
+        // Then
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(lagMonitor.getLastLag()).isNull();
+        assertThat(readOnlyFind(id)).isPresent();
+    }
+    
+    @Test
+    void shouldReadOwnWritesFromPrimaryWithinStickyWindow() {
+        // Given
+        replicate(0);
+        stickiness.bind("user:alice");
+        
+        // When
+        OrganizationId id = organizationRepository.save(Organization.create("Sticky Org", "Description")).getId();
+        
+        // Then
+        assertThat(readOnlyFind(id)).isPresent();
+        
+        // When
+        stickiness.bind("user:bob");
+        
+        // Then
+        assertThat(readOnlyFind(id)).isEmpty();
+    }
+    
+    @Test
+    void shouldNotStickAfterRolledBackWrite() {
+        // Given
+        replicate(0);
+        OrganizationId id = organizationRepository.save(Organization.create("Rollback Org", "Description")).getId();
+        stickiness.bind("user:carol");
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            organizationRepository.findById(id);
+            status.setRollbackOnly();
+        });
+        
+        // Then
+        assertThat(readOnlyFind(id)).isEmpty();
+    }
+    
+    private Optional<Organization> readOnlyFind(OrganizationId id) {
+        return readOnlyTx.execute(status -> organizationRepository.findById(id));
+    }
+    
+    /**
+     * 模拟复制：把主库的当前状态导入副本，并设置副本报告的延迟
+     */
+    private void replicate(long lagMillis) {
+        try {
+            Path script = Files.createTempFile("replica", ".sql");
+            try {
+                primaryJdbc.execute("SCRIPT TO '" + script + "'");
+                replicaJdbc.execute("DROP ALL OBJECTS");
+                replicaJdbc.execute("RUNSCRIPT FROM '" + script + "'");
+            } finally {
+                Files.deleteIfExists(script);
+            }
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException(e);
+        }
+        setReplicaLag(lagMillis);
+    }
+    
+    private void setReplicaLag(long lagMillis) {
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS replica_status (lag_ms BIGINT)");
+        replicaJdbc.update("DELETE FROM replica_status");
+        replicaJdbc.update("INSERT INTO replica_status (lag_ms) VALUES (?)", lagMillis);
+        lagMonitor.refresh();
+    }
+}
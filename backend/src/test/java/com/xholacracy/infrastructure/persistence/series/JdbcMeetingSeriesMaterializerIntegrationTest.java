@@ -0,0 +1,222 @@
+package com.xholacracy.infrastructure.persistence.series;
+
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.MeetingBooking;
+import com.xholacracy.domain.model.meeting.MeetingId;
+import com.xholacracy.domain.model.meeting.MeetingRepository;
+import com.xholacracy.domain.model.meeting.MeetingSeries;
+import com.xholacracy.domain.model.meeting.MeetingSeriesRepository;
+import com.xholacracy.domain.model.meeting.RecurrenceFrequency;
+import com.xholacracy.domain.model.meeting.RecurrenceRule;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleRepository;
+import com.xholacracy.domain.model.sync.ChangeLogEntry;
+import com.xholacracy.domain.model.sync.ChangeLogRepository;
+import com.xholacracy.infrastructure.persistence.calendar.PartnerCalendarCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 会议系列生成器集成测试
+ * 伙伴日程在事务提交后失效，因此测试不使用默认的回滚事务，而是逐个提交
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcMeetingSeriesMaterializerIntegrationTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.now().plusYears(1).withHour(9).withMinute(0)
+        .withSecond(0).withNano(0);
+    private static final LocalDateTime FIRST = NOW.plusHours(1);
+    private static final Duration HORIZON = Duration.ofDays(28);
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private RoleRepository roleRepository;
+    
+    @Autowired
+    private MeetingRepository meetingRepository;
+    
+    @Autowired
+    private MeetingSeriesRepository seriesRepository;
+    
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+    
+    @Autowired
+    private PartnerCalendarCache calendarCache;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate tx;
+    private Organization organization;
+    private Circle circle;
+    private PartnerId facilitator;
+    private PartnerId secretary;
+    
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        organization = organizationRepository.save(Organization.create("Series Org", "Description"));
+        circle = tx.execute(status -> circleRepository.save(Circle.createSubCircle(
+            "Product", "Purpose", organization.getAnchorCircleId(), organization.getId())));
+        facilitator = PartnerId.generate();
+        secretary = PartnerId.generate();
+        assign(circle.getId(), SpecialRoleType.FACILITATOR, facilitator);
+        assign(circle.getId(), SpecialRoleType.SECRETARY, secretary);
+    }
+    
+    /**
+     * 测试逐个提交，删除生成的会议，避免影响按表计数的其他集成测试
+     */
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            for (String table : List.of("meeting_participants", "governance_meetings", "meeting_series")) {
+                entityManager.createNativeQuery("DELETE FROM " + table + " WHERE organization_id = :organizationId")
+                    .setParameter("organizationId", organization.getId().getValue())
+                    .executeUpdate();
+            }
+        });
+    }
+    
+    @Test
+    void shouldInsertOccurrencesWithinHorizonStaffedFromRoleHolders() {
+        // Given
+        long sequenceBefore = changeLogRepository.currentSequence(organization.getId());
+        
+        // When
+        MeetingSeries series = createSeries(circle.getId(), at(NOW));
+        
+        // Then
+        List<GovernanceMeeting> meetings = scheduled(series);
+        assertThat(meetings).extracting(GovernanceMeeting::getScheduledDate)
+            .containsExactly(FIRST, FIRST.plusWeeks(1), FIRST.plusWeeks(2), FIRST.plusWeeks(3));
+        assertThat(meetings).allSatisfy(meeting -> {
+            assertThat(meeting.getSeriesId()).isEqualTo(series.getId());
+            assertThat(meeting.getDuration()).isEqualTo(Duration.ofMinutes(45));
+            assertThat(meeting.getFacilitatorId()).isEqualTo(facilitator);
+            assertThat(meeting.getSecretaryId()).isEqualTo(secretary);
+            assertThat(meeting.getParticipants()).containsExactly(facilitator, secretary);
+        });
+        
+        // Then - 同一事务的新会议记在一个新序号上
+        long sequence = changeLogRepository.currentSequence(organization.getId());
+        assertThat(sequence).isEqualTo(sequenceBefore + 1);
+        assertThat(changeLogRepository.findBySequence(organization.getId(), sequence))
+            .extracting(ChangeLogEntry::getEntityId)
+            .containsExactlyInAnyOrderElementsOf(meetings.stream().map(meeting -> meeting.getId().getValue()).toList());
+    }
+    
+    @Test
+    void shouldTopUpDueSeriesInBatchesAsTimePasses() {
+        // Given
+        MeetingSeries series = createSeries(circle.getId(), at(NOW));
+        MeetingSeries anchorSeries = createSeries(organization.getAnchorCircleId(), at(NOW));
+        JdbcMeetingSeriesMaterializer later = at(NOW.plusWeeks(2));
+        
+        // When - 每批一个系列，直到没有落后的系列
+        int first = tx.execute(status -> later.materializeDue(1));
+        int second = tx.execute(status -> later.materializeDue(1));
+        int third = tx.execute(status -> later.materializeDue(1));
+        
+        // Then - 锚圈子没有角色担任者，会议照样生成但没有参与者
+        assertThat(List.of(first, second, third)).containsExactly(1, 1, 0);
+        assertThat(scheduled(series)).extracting(GovernanceMeeting::getScheduledDate)
+            .containsExactly(FIRST, FIRST.plusWeeks(1), FIRST.plusWeeks(2), FIRST.plusWeeks(3),
+                FIRST.plusWeeks(4), FIRST.plusWeeks(5));
+        assertThat(scheduled(anchorSeries)).hasSize(6).allSatisfy(meeting -> {
+            assertThat(meeting.getFacilitatorId()).isNull();
+            assertThat(meeting.getParticipants()).isEmpty();
+        });
+        assertThat(seriesRepository.findById(organization.getId(), series.getId()).orElseThrow()
+            .getMaterializedThrough()).isEqualTo(NOW.plusWeeks(2).plus(HORIZON));
+    }
+    
+    @Test
+    void shouldEvictCachedCalendarAfterCommit() {
+        // Given
+        assertThat(calendarCache.calendarOf(organization.getId()).size()).isZero();
+        
+        // When
+        createSeries(circle.getId(), at(NOW));
+        
+        // Then
+        MeetingBooking candidate = MeetingBooking.of(MeetingId.generate(), FIRST, Duration.ofMinutes(30),
+            List.of(secretary));
+        assertThat(calendarCache.calendarOf(organization.getId()).findConflicts(candidate)).hasSize(1);
+    }
+    
+    private MeetingSeries createSeries(CircleId circleId, JdbcMeetingSeriesMaterializer materializer) {
+        return tx.execute(status -> {
+            MeetingSeries series = seriesRepository.save(MeetingSeries.create(organization.getId(), circleId,
+                RecurrenceRule.of(RecurrenceFrequency.WEEKLY, 1, null), FIRST, Duration.ofMinutes(45)));
+            materializer.materialize(List.of(series));
+            return series;
+        });
+    }
+    
+    private List<GovernanceMeeting> scheduled(MeetingSeries series) {
+        return tx.execute(status -> {
+            List<GovernanceMeeting> meetings = meetingRepository.findScheduledBySeriesId(organization.getId(),
+                series.getId(), FIRST);
+            meetings.forEach(meeting -> meeting.getParticipants().size());
+            return meetings;
+        });
+    }
+    
+    private void assign(CircleId circleId, SpecialRoleType type, PartnerId partnerId) {
+        tx.executeWithoutResult(status -> {
+            Role role = roleRepository.findByCircleId(circleId).stream()
+                .filter(candidate -> candidate.getSpecialRoleType() == type)
+                .findFirst().orElseThrow();
+            role.assignToPartner(partnerId, PartnerId.generate());
+            roleRepository.save(role);
+        });
+    }
+    
+    private JdbcMeetingSeriesMaterializer at(LocalDateTime now) {
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        return new JdbcMeetingSeriesMaterializer(entityManager, seriesRepository, roleRepository,
+            changeLogRepository, eventPublisher, HORIZON, clock);
+    }
+}
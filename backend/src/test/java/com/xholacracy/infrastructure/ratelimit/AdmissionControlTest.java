@@ -0,0 +1,89 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import com.xholacracy.infrastructure.config.RateLimitProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlTest {
+    
+    @Mock
+    private ObjectProvider<HikariDataSource> dataSources;
+    
+    @Mock
+    private HikariDataSource dataSource;
+    
+    @Mock
+    private HikariPoolMXBean pool;
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdmissionControl admissionControl;
+    
+    @BeforeEach
+    void setUp() {
+        when(dataSources.orderedStream()).thenAnswer(invocation -> Stream.of(dataSource));
+        lenient().when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        lenient().when(dataSource.getPoolName()).thenReturn("primary");
+        lenient().when(dataSource.getMaximumPoolSize()).thenReturn(10);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxPoolWait(Duration.ofMillis(200));
+        admissionControl = new AdmissionControl(dataSources, meterRegistry, properties);
+    }
+    
+    @Test
+    void shouldShedWhenCallersQueueAndAcquisitionIsSlow() {
+        // Given
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+        acquireTimer().record(Duration.ofMillis(500));
+        
+        // When & Then
+        assertThat(admissionControl.isOverloaded()).isTrue();
+    }
+    
+    @Test
+    void shouldAdmitWhenQueueHasDrainedEvenAfterSlowAcquisition() {
+        // Given - 近期最大值仍然很高，但此刻没有线程排队
+        when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+        acquireTimer().record(Duration.ofMillis(500));
+        
+        // When & Then
+        assertThat(admissionControl.isOverloaded()).isFalse();
+    }
+    
+    @Test
+    void shouldAdmitWhileAcquisitionStaysUnderThreshold() {
+        // Given
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+        acquireTimer().record(Duration.ofMillis(20));
+        
+        // When & Then
+        assertThat(admissionControl.isOverloaded()).isFalse();
+    }
+    
+    @Test
+    void shouldFallBackToQueueDepthWithoutPoolMetrics() {
+        // Given - 没有Hikari计时器
+        when(pool.getThreadsAwaitingConnection()).thenReturn(10);
+        
+        // When & Then
+        assertThat(admissionControl.isOverloaded()).isTrue();
+    }
+    
+    private Timer acquireTimer() {
+        return Timer.builder("hikaricp.connections.acquire").tag("pool", "primary").register(meterRegistry);
+    }
+}
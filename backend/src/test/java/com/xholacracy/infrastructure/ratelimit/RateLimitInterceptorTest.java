@@ -0,0 +1,96 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import com.xholacracy.infrastructure.config.RateLimitProperties;
+import com.xholacracy.interfaces.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RateLimitInterceptorTest {
+    
+    private final VoteController controller = new VoteController();
+    private final AdmissionControl admissionControl = mock(AdmissionControl.class);
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setOperations(Map.of("vote", new RateLimitProperties.Limit(2, 100, Duration.ofMinutes(1))));
+        RateLimiter rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .addInterceptors(new RateLimitInterceptor(rateLimiter, admissionControl))
+            .build();
+    }
+    
+    @Test
+    void shouldRejectWith429BeforeHandlerRuns() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/v1/proposals/p-1/votes")).andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/proposals/p-2/votes")).andExpect(status().isOk());
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/proposals/p-3/votes"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "30"))
+            .andExpect(jsonPath("$.errorCode").value("RATE_LIMITED"));
+        assertThat(controller.calls.get()).isEqualTo(2);
+    }
+    
+    @Test
+    void shouldShedWith503WhenOverloaded() throws Exception {
+        // Given
+        when(admissionControl.isOverloaded()).thenReturn(true);
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/proposals/p-1/votes"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "1"))
+            .andExpect(jsonPath("$.errorCode").value("OVERLOADED"));
+        assertThat(controller.calls.get()).isZero();
+    }
+    
+    @Test
+    void shouldNotLimitUnannotatedHandlers() throws Exception {
+        // Given
+        when(admissionControl.isOverloaded()).thenReturn(true);
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/proposals/p-1/drafts")).andExpect(status().isOk());
+        verifyNoInteractions(admissionControl);
+    }
+    
+    @RestController
+    static class VoteController {
+        
+        final AtomicInteger calls = new AtomicInteger();
+        
+        @PostMapping("/api/v1/proposals/{proposalId}/votes")
+        @RateLimited(operation = "vote", aggregate = "proposalId")
+        String vote(@PathVariable String proposalId) {
+            calls.incrementAndGet();
+            return proposalId;
+        }
+        
+        @PostMapping("/api/v1/proposals/{proposalId}/drafts")
+        String draft(@PathVariable String proposalId) {
+            return proposalId;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import com.xholacracy.domain.exception.RateLimitExceededException;
+import com.xholacracy.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimiterTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private long now = Duration.ofHours(1).toNanos();
+    private RateLimiter rateLimiter;
+    
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setOperations(Map.of(
+            "vote", new RateLimitProperties.Limit(2, 3, Duration.ofMinutes(1))));
+        properties.setDefaultLimit(new RateLimitProperties.Limit(5, 50, Duration.ofMinutes(1)));
+        rateLimiter = new RateLimiter(properties, meterRegistry, () -> now);
+    }
+    
+    @Test
+    void shouldRejectPartnerOverOperationLimit() {
+        // Given
+        rateLimiter.acquire("vote", "alice", "proposal-1");
+        rateLimiter.acquire("vote", "alice", "proposal-2");
+        
+        // When & Then
+        assertThatThrownBy(() -> rateLimiter.acquire("vote", "alice", "proposal-3"))
+            .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(30));
+            });
+        assertThat(rejections("vote", "partner")).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldCountRepeatedRejectionsOnOneCounter() {
+        // Given
+        rateLimiter.acquire("vote", "alice", null);
+        rateLimiter.acquire("vote", "alice", null);
+        
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> rateLimiter.acquire("vote", "alice", null))
+                .isInstanceOf(RateLimitExceededException.class);
+        }
+        
+        // Then
+        assertThat(meterRegistry.find("xholacracy.rate_limit.rejections").counters()).hasSize(1);
+        assertThat(rejections("vote", "partner")).isEqualTo(3);
+    }
+    
+    @Test
+    void shouldLimitAggregateAcrossPartnersWithoutChargingRejectedPartner() {
+        // Given - 三个伙伴用完了提案的聚合限额
+        rateLimiter.acquire("vote", "alice", "proposal-1");
+        rateLimiter.acquire("vote", "bob", "proposal-1");
+        rateLimiter.acquire("vote", "carol", "proposal-1");
+        
+        // When
+        assertThatThrownBy(() -> rateLimiter.acquire("vote", "dave", "proposal-1"))
+            .isInstanceOf(RateLimitExceededException.class);
+        
+        // Then - 被聚合桶拒绝的请求不消耗伙伴的令牌
+        rateLimiter.acquire("vote", "dave", "proposal-2");
+        rateLimiter.acquire("vote", "dave", "proposal-3");
+        assertThat(rejections("vote", "aggregate")).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldKeepSeparateBucketsPerOperation() {
+        // Given - 投票限额已用完
+        rateLimiter.acquire("vote", "alice", null);
+        rateLimiter.acquire("vote", "alice", null);
+        
+        // When & Then - 没有单独配置的操作使用默认限额
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire("reaction", "alice", "proposal-1");
+        }
+        assertThatThrownBy(() -> rateLimiter.acquire("reaction", "alice", "proposal-1"))
+            .isInstanceOf(RateLimitExceededException.class);
+    }
+    
+    @Test
+    void shouldAdmitAgainAfterRefill() {
+        // Given
+        rateLimiter.acquire("vote", "alice", null);
+        rateLimiter.acquire("vote", "alice", null);
+        
+        // When
+        now += Duration.ofSeconds(30).toNanos();
+        
+        // Then
+        assertThatCode(() -> rateLimiter.acquire("vote", "alice", null)).doesNotThrowAnyException();
+    }
+    
+    private double rejections(String operation, String reason) {
+        return meterRegistry.get("xholacracy.rate_limit.rejections")
+            .tag("operation", operation)
+            .tag("reason", reason)
+            .counter()
+            .count();
+    }
+}
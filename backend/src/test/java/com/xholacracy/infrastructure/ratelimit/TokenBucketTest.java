@@ -0,0 +1,141 @@
+package com.xholacracy.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenBucketTest {
+    
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    
+    @Test
+    void shouldAllowFullCapacityAsBurstThenReject() {
+        // Given - 每秒5个令牌
+        TokenBucket bucket = new TokenBucket(5, SECOND);
+        long now = 1_000 * SECOND;
+        
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(now)).isZero();
+        }
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 5);
+    }
+    
+    @Test
+    void shouldRefillOneTokenPerEmissionInterval() {
+        // Given - 桶已取空
+        TokenBucket bucket = new TokenBucket(5, SECOND);
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(now);
+        }
+        
+        // When - 过去一个发放间隔
+        long later = now + SECOND / 5;
+        
+        // Then - 恰好补充一个令牌
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+    
+    @Test
+    void shouldNotAccumulateMoreThanCapacityWhileIdle() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, SECOND);
+        bucket.tryAcquire(0);
+        
+        // When - 闲置很久
+        long muchLater = 3_600 * SECOND;
+        int granted = 0;
+        while (bucket.tryAcquire(muchLater) == 0) {
+            granted++;
+        }
+        
+        // Then
+        assertThat(granted).isEqualTo(3);
+    }
+    
+    @Test
+    void shouldReturnRefundedToken() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, SECOND);
+        long arrival = bucket.acquire(0);
+        assertThat(arrival).isNotEqualTo(TokenBucket.REJECTED);
+        
+        // When
+        bucket.refund(arrival);
+        
+        // Then
+        assertThat(bucket.tryAcquire(0)).isZero();
+    }
+    
+    @Test
+    void shouldNotRefundPastStateBeforeAcquire() {
+        // Given - 每2秒2个令牌，第二个令牌归还了两次
+        TokenBucket bucket = new TokenBucket(2, 2 * SECOND);
+        bucket.acquire(0);
+        long arrival = bucket.acquire(0);
+        
+        // When
+        bucket.refund(arrival);
+        bucket.refund(arrival);
+        
+        // Then - 只退回了一个令牌
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+    }
+    
+    @Test
+    void shouldKeepTokensTakenAfterRefundedAcquire() {
+        // Given - 取令牌之后、归还之前另一个请求也取了令牌
+        TokenBucket bucket = new TokenBucket(3, 3 * SECOND);
+        long arrival = bucket.acquire(0);
+        bucket.acquire(0);
+        
+        // When
+        bucket.refund(arrival);
+        
+        // Then - 桶里恰好还剩两个令牌
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isPositive();
+    }
+    
+    @Test
+    void shouldGrantExactlyCapacityUnderContention() throws InterruptedException {
+        // Given - 同一时刻16个线程争抢100个令牌
+        TokenBucket bucket = new TokenBucket(100, SECOND);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        
+        // When
+        for (int t = 0; t < 16; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 50; i++) {
+                    if (bucket.tryAcquire(0) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        
+        // Then
+        assertThat(granted.get()).isEqualTo(100);
+    }
+}
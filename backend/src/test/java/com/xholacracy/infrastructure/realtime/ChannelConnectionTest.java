@@ -0,0 +1,125 @@
+package com.xholacracy.infrastructure.realtime;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 频道连接发送缓冲区测试
+ */
+class ChannelConnectionTest {
+    
+    private static final CloseReason ENDED = new CloseReason(CloseReason.CloseCodes.NORMAL_CLOSURE, "Meeting ended");
+    
+    private final List<String> sent = new ArrayList<>();
+    private final List<SendHandler> handlers = new ArrayList<>();
+    private Session session;
+    
+    @BeforeEach
+    void setUp() {
+        session = mock(Session.class);
+        RemoteEndpoint.Async remote = mock(RemoteEndpoint.Async.class);
+        when(session.getId()).thenReturn("s1");
+        when(session.getAsyncRemote()).thenReturn(remote);
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            handlers.add(invocation.getArgument(1));
+            return null;
+        }).when(remote).sendText(anyString(), any(SendHandler.class));
+    }
+    
+    @Test
+    void shouldKeepOneSendInFlightAndDeliverInOrder() {
+        // Given
+        ChannelConnection connection = new ChannelConnection(session, 8);
+        
+        // When
+        connection.send("a");
+        connection.send("b");
+        connection.send("c");
+        
+        // Then - 第一条发送完成前不发送下一条
+        assertThat(sent).containsExactly("a");
+        complete(0);
+        complete(1);
+        assertThat(sent).containsExactly("a", "b", "c");
+        assertThat(connection.getBuffered()).isZero();
+    }
+    
+    @Test
+    void shouldDropOldestBufferedMessageWhenSlowClientFallsBehind() {
+        // Given
+        ChannelConnection connection = new ChannelConnection(session, 2);
+        connection.send("a");
+        
+        // When - "a"仍在途，缓冲区只能放两条
+        connection.send("b");
+        connection.send("c");
+        connection.send("d");
+        
+        // Then
+        assertThat(connection.getDropped()).isEqualTo(1);
+        assertThat(connection.getBuffered()).isEqualTo(2);
+        complete(0);
+        complete(1);
+        assertThat(sent).containsExactly("a", "c", "d");
+    }
+    
+    @Test
+    void shouldCloseOnlyAfterBufferedMessagesAreSent() throws IOException {
+        // Given
+        ChannelConnection connection = new ChannelConnection(session, 8);
+        connection.send("a");
+        connection.send("b");
+        
+        // When
+        connection.closeAfterDrain(ENDED);
+        connection.send("late");
+        
+        // Then
+        verify(session, never()).close(any(CloseReason.class));
+        complete(0);
+        verify(session, never()).close(any(CloseReason.class));
+        complete(1);
+        verify(session).close(ENDED);
+        assertThat(sent).containsExactly("a", "b");
+    }
+    
+    @Test
+    void shouldDiscardBufferAndCloseWhenSendFails() throws IOException {
+        // Given
+        ChannelConnection connection = new ChannelConnection(session, 8);
+        connection.send("a");
+        connection.send("b");
+        
+        // When
+        handlers.get(0).onResult(new SendResult(new IOException("Broken pipe")));
+        connection.send("c");
+        
+        // Then
+        assertThat(sent).containsExactly("a");
+        assertThat(connection.getBuffered()).isZero();
+        verify(session).close(any(CloseReason.class));
+    }
+    
+    private void complete(int index) {
+        handlers.get(index).onResult(new SendResult());
+    }
+}
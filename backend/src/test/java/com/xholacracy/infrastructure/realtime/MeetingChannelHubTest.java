@@ -0,0 +1,178 @@
+package com.xholacracy.infrastructure.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.domain.event.LiveMeetingChangedEvent;
+import com.xholacracy.domain.event.ProposalChangedEvent;
+import com.xholacracy.domain.exception.PermissionDeniedException;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.meeting.GovernanceMeeting;
+import com.xholacracy.domain.model.meeting.LiveMeetingCommand;
+import com.xholacracy.domain.model.meeting.LiveMeetingRegistry;
+import com.xholacracy.domain.model.meeting.MeetingKey;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.domain.model.proposal.DecisionEventType;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.domain.model.proposal.ProposalStatus;
+import com.xholacracy.infrastructure.security.AuthenticatedPartner;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 会议实时频道中心测试
+ */
+class MeetingChannelHubTest {
+    
+    private final ProposalId proposalId = ProposalId.generate();
+    private final PartnerId attendeeId = PartnerId.generate();
+    private GovernanceMeeting meeting;
+    private MeetingKey key;
+    private MeetingChannelHub hub;
+    
+    @BeforeEach
+    void setUp() {
+        meeting = GovernanceMeeting.create(OrganizationId.generate(), CircleId.generate(),
+            LocalDateTime.now().plusDays(1), Duration.ofHours(1));
+        meeting.addParticipant(attendeeId);
+        meeting.addAgendaItem(proposalId);
+        meeting.start();
+        key = MeetingKey.of(meeting.getOrganizationId(), meeting.getId());
+        
+        LiveMeetingRegistry registry = mock(LiveMeetingRegistry.class);
+        when(registry.read(eq(meeting.getOrganizationId()), eq(meeting.getId()), any()))
+            .thenAnswer(invocation -> invocation.<Function<GovernanceMeeting, ?>>getArgument(2).apply(meeting));
+        hub = new MeetingChannelHub(registry, new ObjectMapper(), 16);
+    }
+    
+    @Test
+    void shouldBroadcastLiveCommandsToEverySubscriberInOrder() {
+        // Given
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        hub.subscribe(key, session("s1", first), partner(attendeeId, false));
+        hub.subscribe(key, session("s2", second), partner(PartnerId.generate(), true));
+        
+        // When
+        hub.on(LiveMeetingChangedEvent.of(key, 1, LiveMeetingCommand.startAgendaItem(proposalId)));
+        hub.on(LiveMeetingChangedEvent.of(key, 2, LiveMeetingCommand.addNotes(attendeeId, "Decided")));
+        
+        // Then
+        assertThat(first).hasSize(2).isEqualTo(second);
+        assertThat(first.get(0)).contains("\"seq\":1", "\"type\":\"AGENDA_ITEM_STARTED\"", proposalId.getValue());
+        assertThat(first.get(1)).contains("\"seq\":2", "\"type\":\"NOTES_ADDED\"", "\"text\":\"Decided\"",
+                "\"partnerId\":\"" + attendeeId.getValue() + "\"")
+            .doesNotContain("\"vote\"", "\"partnerIds\"");
+    }
+    
+    @Test
+    void shouldRouteProposalChangesOnlyToMeetingsWithProposalOnAgenda() {
+        // Given
+        List<String> received = new ArrayList<>();
+        hub.subscribe(key, session("s1", received), partner(attendeeId, false));
+        
+        // When
+        hub.on(proposalEvent(proposalId, DecisionEventType.OBJECTION_RAISED));
+        hub.on(proposalEvent(ProposalId.generate(), DecisionEventType.VOTE_CAST));
+        
+        // Then
+        assertThat(received).singleElement().asString()
+            .contains("\"seq\":1", "\"type\":\"OBJECTION_RAISED\"", "\"status\":\"OBJECTION_STAGE\"");
+    }
+    
+    @Test
+    void shouldRejectPartnerWhoIsNeitherAttendeeNorCircleMember() {
+        // When & Then
+        assertThatThrownBy(() -> hub.subscribe(key, session("s1", new ArrayList<>()),
+            partner(PartnerId.generate(), false)))
+            .isInstanceOf(PermissionDeniedException.class);
+        assertThat(hub.channelCount()).isZero();
+    }
+    
+    @Test
+    void shouldCloseChannelAfterLastSubscriberLeaves() {
+        // Given
+        Session first = session("s1", new ArrayList<>());
+        Session second = session("s2", new ArrayList<>());
+        hub.subscribe(key, first, partner(attendeeId, false));
+        hub.subscribe(key, second, partner(attendeeId, false));
+        
+        // When
+        hub.unsubscribe(key, first);
+        
+        // Then
+        assertThat(hub.connectionCount(key)).isEqualTo(1);
+        hub.unsubscribe(key, second);
+        assertThat(hub.channelCount()).isZero();
+    }
+    
+    @Test
+    void shouldSendEndOfMeetingThenCloseConnections() throws IOException {
+        // Given
+        List<String> received = new ArrayList<>();
+        Session session = session("s1", received);
+        hub.subscribe(key, session, partner(attendeeId, false));
+        
+        // When
+        hub.on(LiveMeetingChangedEvent.of(key, 1, LiveMeetingCommand.end()));
+        
+        // Then
+        assertThat(received).singleElement().asString().contains("\"type\":\"MEETING_ENDED\"");
+        verify(session).close(any(CloseReason.class));
+        assertThat(hub.channelCount()).isZero();
+    }
+    
+    /**
+     * 立即完成每次发送的WebSocket会话，发出的消息记录到received
+     */
+    private Session session(String id, List<String> received) {
+        Session session = mock(Session.class);
+        RemoteEndpoint.Async remote = mock(RemoteEndpoint.Async.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getAsyncRemote()).thenReturn(remote);
+        doAnswer(invocation -> {
+            received.add(invocation.getArgument(0));
+            invocation.<SendHandler>getArgument(1).onResult(new SendResult());
+            return null;
+        }).when(remote).sendText(anyString(), any(SendHandler.class));
+        return session;
+    }
+    
+    private AuthenticatedPartner partner(PartnerId partnerId, boolean circleMember) {
+        AuthenticatedPartner partner = mock(AuthenticatedPartner.class);
+        when(partner.getPartnerId()).thenReturn(partnerId);
+        when(partner.hasCapability(meeting.getCircleId(), Capability.MEMBER)).thenReturn(circleMember);
+        return partner;
+    }
+    
+    private ProposalChangedEvent proposalEvent(ProposalId changed, DecisionEventType eventType) {
+        ProposalChangedEvent event = mock(ProposalChangedEvent.class);
+        when(event.getProposalId()).thenReturn(changed);
+        when(event.getEventType()).thenReturn(eventType);
+        when(event.getStatus()).thenReturn(ProposalStatus.OBJECTION_STAGE);
+        when(event.getOccurredAt()).thenReturn(LocalDateTime.now());
+        return event;
+    }
+}
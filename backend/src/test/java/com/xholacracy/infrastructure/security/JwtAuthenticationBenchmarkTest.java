@@ -0,0 +1,102 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.permission.PermissionChecker;
+import com.xholacracy.infrastructure.config.JwtProperties;
+import com.xholacracy.infrastructure.persistence.revocation.TokenRevocationStore;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 令牌认证的耗时基准测试
+ * 比较每次完整校验（解析、验证签名、确认伙伴存在）与缓存命中两种方式的单次认证耗时，
+ * 伙伴查询用桩代替，实际部署中冷路径还要多一次数据库往返
+ *
+ * 默认构建不运行，使用 mvn test -Pbenchmark 执行
+ */
+@Tag("benchmark")
+class JwtAuthenticationBenchmarkTest {
+    
+    private static final int TOKENS = 1_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+    
+    @Test
+    void cachedAuthenticationShouldBeCheaperThanColdVerification() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-with-at-least-32-bytes");
+        PartnerRepository partnerRepository = mock(PartnerRepository.class);
+        when(partnerRepository.existsById(any())).thenReturn(true);
+        JwtTokenService tokenService = new JwtTokenService(properties);
+        JwtAuthenticator authenticator = new JwtAuthenticator(tokenService, partnerRepository,
+            mock(PermissionChecker.class), mock(TokenRevocationStore.class), properties);
+        
+        SecretKey key = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        List<String> tokens = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            tokens.add(issue(key, PartnerId.generate()));
+        }
+        
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            cold(authenticator, tokens);
+            cached(authenticator, tokens);
+        }
+        double coldNanos = 0;
+        double cachedNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            coldNanos += cold(authenticator, tokens);
+            cachedNanos += cached(authenticator, tokens);
+        }
+        coldNanos /= (double) ROUNDS * TOKENS;
+        cachedNanos /= (double) ROUNDS * TOKENS;
+        
+        System.out.printf("Cold verification: %,.0f ns/op%n", coldNanos);
+        System.out.printf("Cached lookup:     %,.0f ns/op (%.1fx faster)%n", cachedNanos, coldNanos / cachedNanos);
+        
+        assertThat(cachedNanos).isLessThan(coldNanos);
+    }
+    
+    private static String issue(SecretKey key, PartnerId partnerId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+            .subject(partnerId.getValue())
+            .id(UUID.randomUUID().toString())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(Duration.ofHours(1))))
+            .signWith(key)
+            .compact();
+    }
+    
+    private long cold(JwtAuthenticator authenticator, List<String> tokens) {
+        long start = System.nanoTime();
+        for (String token : tokens) {
+            authenticator.verify(token, JwtAuthenticator.digest(token));
+        }
+        return System.nanoTime() - start;
+    }
+    
+    private long cached(JwtAuthenticator authenticator, List<String> tokens) {
+        long start = System.nanoTime();
+        for (String token : tokens) {
+            authenticator.authenticate(token);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,139 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.PermissionChecker;
+import com.xholacracy.infrastructure.realtime.MeetingChannelEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Bearer令牌过滤器测试
+ * 查询参数中的令牌只在WebSocket端点的升级握手上生效
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+    
+    private static final String TOKEN = "header.payload.signature";
+    
+    @Mock
+    private JwtAuthenticator authenticator;
+    
+    @Mock
+    private PermissionChecker permissionChecker;
+    
+    private JwtAuthenticationFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(authenticator, new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+            new AntPathRequestMatcher(MeetingChannelEndpoint.PATH, "GET"));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void shouldAuthenticateBearerHeader() throws Exception {
+        // Given
+        AuthenticatedPartner partner = partner();
+        when(authenticator.authenticate(TOKEN)).thenReturn(partner);
+        MockHttpServletRequest request = request("POST", "/api/v1/proposals");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN);
+        
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(partner);
+    }
+    
+    @Test
+    void shouldAcceptQueryTokenOnMeetingChannelHandshake() throws Exception {
+        // Given
+        AuthenticatedPartner partner = partner();
+        when(authenticator.authenticate(TOKEN)).thenReturn(partner);
+        MockHttpServletRequest request = request("GET", "/ws/meetings/meeting-1");
+        request.addHeader(HttpHeaders.UPGRADE, "websocket");
+        request.addParameter("access_token", TOKEN);
+        
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(partner);
+    }
+    
+    @Test
+    void shouldIgnoreQueryTokenOutsideWebSocketHandshake() throws Exception {
+        // Given - 普通API请求和其他路径上的升级请求都不读取查询参数
+        MockHttpServletRequest apiRequest = request("GET", "/api/v1/proposals");
+        apiRequest.addParameter("access_token", TOKEN);
+        MockHttpServletRequest otherUpgrade = request("GET", "/ws/other");
+        otherUpgrade.addHeader(HttpHeaders.UPGRADE, "websocket");
+        otherUpgrade.addParameter("access_token", TOKEN);
+        
+        // When
+        MockFilterChain apiChain = new MockFilterChain();
+        MockFilterChain upgradeChain = new MockFilterChain();
+        filter.doFilter(apiRequest, new MockHttpServletResponse(), apiChain);
+        filter.doFilter(otherUpgrade, new MockHttpServletResponse(), upgradeChain);
+        
+        // Then - 请求原样放行，由授权规则拒绝未认证的请求
+        verify(authenticator, never()).authenticate(anyString());
+        assertThat(apiChain.getRequest()).isSameAs(apiRequest);
+        assertThat(upgradeChain.getRequest()).isSameAs(otherUpgrade);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+    
+    @Test
+    void shouldRejectInvalidTokenWithUnauthorized() throws Exception {
+        // Given
+        when(authenticator.authenticate(TOKEN)).thenThrow(new BadCredentialsException("Invalid token"));
+        MockHttpServletRequest request = request("GET", "/api/v1/proposals");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        
+        // When
+        filter.doFilter(request, response, chain);
+        
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(chain.getRequest()).isNull();
+    }
+    
+    /**
+     * DispatcherServlet映射在根路径上，请求路径即servletPath
+     */
+    private MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+    
+    private AuthenticatedPartner partner() {
+        return new AuthenticatedPartner(PartnerId.generate(), "token-id", Instant.now(),
+            Instant.now().plusSeconds(3600), permissionChecker);
+    }
+}
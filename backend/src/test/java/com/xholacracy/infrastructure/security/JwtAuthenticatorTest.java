@@ -0,0 +1,285 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.permission.PermissionChecker;
+import com.xholacracy.infrastructure.config.JwtProperties;
+import com.xholacracy.infrastructure.persistence.revocation.TokenRevocationStore;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticatorTest {
+    
+    private static final String SECRET = "test-secret-key-with-at-least-32-bytes!!";
+    private static final String ISSUER = "https://id.example.com";
+    
+    @Mock
+    private PartnerRepository partnerRepository;
+    
+    @Mock
+    private PermissionChecker permissionChecker;
+    
+    @Mock
+    private TokenRevocationStore revocationStore;
+    
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T09:00:00Z"));
+    
+    private JwtAuthenticator authenticator;
+    
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(Duration.ofHours(1));
+        properties.setIssuer(ISSUER);
+        JwtTokenService tokenService = new JwtTokenService(properties, clock);
+        authenticator = new JwtAuthenticator(tokenService, partnerRepository, permissionChecker, revocationStore,
+            properties, clock, () -> clock.millis() * 1_000_000);
+    }
+    
+    @Test
+    void shouldVerifyTokenOnceAndServeRepeatedRequestsFromCache() {
+        // Given
+        PartnerId partnerId = PartnerId.generate();
+        when(partnerRepository.existsById(partnerId)).thenReturn(true);
+        String token = issue(partnerId);
+        
+        // When
+        AuthenticatedPartner first = authenticator.authenticate(token);
+        AuthenticatedPartner second = authenticator.authenticate(token);
+        
+        // Then - 第二次请求直接命中缓存，不再校验也不再加载伙伴
+        assertThat(first.getPartnerId()).isEqualTo(partnerId);
+        assertThat(second).isSameAs(first);
+        verify(partnerRepository, times(1)).existsById(partnerId);
+        assertThat(authenticator.cachedTokenCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldDropCachedTokenWhenItExpires() {
+        // Given
+        PartnerId partnerId = PartnerId.generate();
+        when(partnerRepository.existsById(partnerId)).thenReturn(true);
+        String token = issue(partnerId);
+        authenticator.authenticate(token);
+        
+        // When - 时间越过令牌的过期时间
+        clock.advance(Duration.ofHours(1).plusSeconds(1));
+        
+        // Then
+        assertThat(authenticator.cachedTokenCount()).isZero();
+        assertThatThrownBy(() -> authenticator.authenticate(token))
+            .isInstanceOf(BadCredentialsException.class);
+    }
+    
+    @Test
+    void shouldRejectTokenWithInvalidSignature() {
+        // Given - 用另一个密钥签名的令牌
+        String forged = Jwts.builder()
+            .subject(PartnerId.generate().getValue())
+            .expiration(Date.from(clock.instant().plus(Duration.ofHours(1))))
+            .signWith(Keys.hmacShaKeyFor("another-secret-key-with-32-bytes-or-more".getBytes(StandardCharsets.UTF_8)))
+            .compact();
+        
+        // When & Then
+        assertThatThrownBy(() -> authenticator.authenticate(forged))
+            .isInstanceOf(BadCredentialsException.class)
+            .hasMessage("Invalid token");
+        assertThat(authenticator.cachedTokenCount()).isZero();
+        verify(partnerRepository, never()).existsById(any());
+    }
+    
+    @Test
+    void shouldRejectTokenFromAnotherIssuer() {
+        // Given
+        String token = issue(PartnerId.generate(), "https://other.example.com", Duration.ofHours(1));
+        
+        // When & Then
+        assertThatThrownBy(() -> authenticator.authenticate(token))
+            .isInstanceOf(BadCredentialsException.class)
+            .hasMessage("Invalid token");
+        verify(partnerRepository, never()).existsById(any());
+    }
+    
+    @Test
+    void shouldRejectTokenLivingLongerThanConfiguredMaximum() {
+        // Given - 有效期超过上限的令牌在伙伴吊销记录过期后仍然有效，必须拒绝
+        String token = issue(PartnerId.generate(), ISSUER, Duration.ofHours(2));
+        
+        // When & Then
+        assertThatThrownBy(() -> authenticator.authenticate(token))
+            .isInstanceOf(BadCredentialsException.class)
+            .hasMessage("Token lifetime exceeds the configured maximum");
+        verify(partnerRepository, never()).existsById(any());
+    }
+    
+    @Test
+    void shouldRejectTokenOfUnknownPartner() {
+        // Given
+        PartnerId partnerId = PartnerId.generate();
+        when(partnerRepository.existsById(partnerId)).thenReturn(false);
+        
+        // When & Then
+        assertThatThrownBy(() -> authenticator.authenticate(issue(partnerId)))
+            .isInstanceOf(BadCredentialsException.class)
+            .hasMessage("Unknown partner");
+    }
+    
+    @Test
+    void shouldRejectRevokedTokenButKeepOtherTokensOfPartner() {
+        // Given
+        PartnerId partnerId = PartnerId.generate();
+        when(partnerRepository.existsById(partnerId)).thenReturn(true);
+        String revoked = issue(partnerId);
+        String other = issue(partnerId);
+        AuthenticatedPartner partner = authenticator.authenticate(revoked);
+        authenticator.authenticate(other);
+        
+        // When
+        authenticator.revoke(partner);
+        
+        // Then
+        assertThatThrownBy(() -> authenticator.authenticate(revoked))
+            .isInstanceOf(BadCredentialsException.class)
+            .hasMessage("Token has been revoked");
+        assertThat(authenticator.authenticate(other).getPartnerId()).isEqualTo(partnerId);
+    }
+    
+    @Test
+    void shouldRejectTokensIssuedBeforePartnerWasRevoked() {
+        // Given
+        PartnerId partnerId = PartnerId.generate();
+        when(partnerRepository.existsById(partnerId)).thenReturn(true);
+        String cached = issue(partnerId);
+        String notYetSeen = issue(partnerId);
+        authenticator.authenticate(cached);
+        
+        // When
+        authenticator.revokeAll(partnerId);
+        clock.advance(Duration.ofSeconds(1));
+        String reissued = issue(partnerId);
+        
+        // Then - 吊销之前签发的令牌无论是否已缓存都被拒绝，之后签发的令牌正常使用
+        assertThatThrownBy(() -> authenticator.authenticate(cached)).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> authenticator.authenticate(notYetSeen)).isInstanceOf(BadCredentialsException.class);
+        assertThat(authenticator.authenticate(reissued).getPartnerId()).isEqualTo(partnerId);
+    }
+    
+    @Test
+    void shouldPersistRevocationsForOtherInstances() {
+        // Given
+        PartnerId partnerId = PartnerId.generate();
+        when(partnerRepository.existsById(partnerId)).thenReturn(true);
+        AuthenticatedPartner partner = authenticator.authenticate(issue(partnerId));
+        
+        // When
+        authenticator.revoke(partner);
+        authenticator.revokeAll(partnerId);
+        
+        // Then - 令牌记录保留到令牌过期，伙伴记录保留一个有效期上限
+        verify(revocationStore).revokeToken(partner.getTokenId(), partner.getExpiresAt());
+        verify(revocationStore).revokePartner(partnerId, clock.instant(), clock.instant().plus(Duration.ofHours(1)));
+    }
+    
+    @Test
+    void shouldRejectTokenRevokedOnAnotherInstanceOnCacheMiss() {
+        // Given - 另一个实例吊销了令牌，本实例从未见过它
+        PartnerId partnerId = PartnerId.generate();
+        String token = issue(partnerId);
+        when(revocationStore.isRevoked(any(), eq(partnerId), any())).thenReturn(true);
+        
+        // When & Then
+        assertThatThrownBy(() -> authenticator.authenticate(token))
+            .isInstanceOf(BadCredentialsException.class)
+            .hasMessage("Token has been revoked");
+        verify(partnerRepository, never()).existsById(any());
+    }
+    
+    @Test
+    void shouldRecheckCachedTokenAfterRevocationCheckInterval() {
+        // Given - 令牌已缓存，之后在另一个实例上被吊销
+        PartnerId partnerId = PartnerId.generate();
+        when(partnerRepository.existsById(partnerId)).thenReturn(true);
+        String token = issue(partnerId);
+        authenticator.authenticate(token);
+        when(revocationStore.isRevoked(any(), eq(partnerId), any())).thenReturn(true);
+        
+        // When & Then - 检查间隔内仍由缓存回答，间隔过后重新校验并拒绝
+        assertThat(authenticator.authenticate(token).getPartnerId()).isEqualTo(partnerId);
+        clock.advance(Duration.ofMinutes(1).plusSeconds(1));
+        assertThatThrownBy(() -> authenticator.authenticate(token))
+            .isInstanceOf(BadCredentialsException.class)
+            .hasMessage("Token has been revoked");
+    }
+    
+    /**
+     * 按外部签发方的约定签发令牌：主题是伙伴ID，带令牌ID、签发时间和过期时间
+     */
+    private String issue(PartnerId partnerId) {
+        return issue(partnerId, ISSUER, Duration.ofHours(1));
+    }
+    
+    private String issue(PartnerId partnerId, String issuer, Duration lifetime) {
+        Instant now = clock.instant();
+        return Jwts.builder()
+            .issuer(issuer)
+            .subject(partnerId.getValue())
+            .id(UUID.randomUUID().toString())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(lifetime)))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    }
+    
+    /**
+     * 可手动推进的时钟，令牌签发、校验和缓存过期共用
+     */
+    private static final class MutableClock extends Clock {
+        
+        private Instant now;
+        
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+        
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.xholacracy.infrastructure.security;
+
+import com.xholacracy.domain.event.RoleAssignmentsChangedEvent;
+import com.xholacracy.domain.model.circle.Circle;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.CircleRepository;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.Organization;
+import com.xholacracy.domain.model.organization.OrganizationRepository;
+import com.xholacracy.domain.model.partner.Partner;
+import com.xholacracy.domain.model.partner.PartnerRepository;
+import com.xholacracy.domain.model.permission.Capability;
+import com.xholacracy.domain.model.role.Domain;
+import com.xholacracy.domain.model.role.Role;
+import com.xholacracy.domain.model.role.RoleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 伙伴权限缓存集成测试
+ * 权限编译后的检查不再访问数据库，角色分配和领域变化提交后缓存失效
+ */
+@DataJpaTest
+@ComponentScan(basePackages = "com.xholacracy.infrastructure.persistence")
+@Import({PermissionCache.class, PermissionInvalidator.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PermissionCacheIntegrationTest {
+    
+    @Autowired
+    private PermissionCache permissionCache;
+    
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    
+    @Autowired
+    private CircleRepository circleRepository;
+    
+    @Autowired
+    private RoleRepository roleRepository;
+    
+    @Autowired
+    private PartnerRepository partnerRepository;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private CircleId anchorId;
+    private Partner partner;
+    
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Organization organization = organizationRepository.save(Organization.create("Permission Org", "Description"));
+        anchorId = organization.getAnchorCircleId();
+        partner = partnerRepository.save(Partner.create("Alice", "alice-" + anchorId.getValue() + "@example.com"));
+    }
+    
+    @Test
+    void shouldCompileOnceAndEvictWhenAssignmentChanges() {
+        // Given - 还没有担任角色
+        assertThat(permissionCache.hasCapability(partner.getId(), anchorId, Capability.MEMBER)).isFalse();
+        
+        // When - 分配圈引导角色并提交
+        tx.executeWithoutResult(status -> {
+            Role lead = specialRole(SpecialRoleType.CIRCLE_LEAD);
+            lead.assignToPartner(partner.getId(), partner.getId());
+            roleRepository.save(lead);
+        });
+        
+        // Then - 提交后重新编译，之后的检查不再执行SQL
+        assertThat(permissionCache.hasCapability(partner.getId(), anchorId, Capability.ASSIGN_ROLES)).isTrue();
+        statistics.clear();
+        assertThat(permissionCache.hasCapability(partner.getId(), anchorId, Capability.MEMBER)).isTrue();
+        assertThat(permissionCache.hasCapability(partner.getId(), anchorId, Capability.FACILITATE_MEETINGS)).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        
+        // When - 移除分配
+        tx.executeWithoutResult(status -> {
+            Role lead = specialRole(SpecialRoleType.CIRCLE_LEAD);
+            lead.removeAssignment(lead.getAssignments().get(0));
+            roleRepository.save(lead);
+        });
+        
+        // Then
+        assertThat(permissionCache.hasCapability(partner.getId(), anchorId, Capability.MEMBER)).isFalse();
+    }
+    
+    @Test
+    void shouldEvictWhenAssignedRoleGainsDomain() {
+        // Given
+        tx.executeWithoutResult(status -> {
+            Role secretary = specialRole(SpecialRoleType.SECRETARY);
+            secretary.assignToPartner(partner.getId(), partner.getId());
+            roleRepository.save(secretary);
+        });
+        assertThat(permissionCache.hasCapability(partner.getId(), anchorId, Capability.CONTROL_DOMAIN)).isFalse();
+        
+        // When
+        tx.executeWithoutResult(status -> {
+            Role secretary = specialRole(SpecialRoleType.SECRETARY);
+            secretary.addDomain(Domain.create("Governance Records", null));
+            roleRepository.save(secretary);
+        });
+        
+        // Then
+        assertThat(permissionCache.permissionsOf(partner.getId()).capabilitiesIn(anchorId))
+            .containsExactlyInAnyOrder(Capability.MEMBER, Capability.SCHEDULE_MEETINGS, Capability.RECORD_OUTCOMES,
+                Capability.CONTROL_DOMAIN);
+    }
+    
+    @Test
+    void shouldEvictAfterCommitWhenBulkWriterPublishesAssignments() {
+        // Given
+        tx.executeWithoutResult(status -> {
+            Role facilitator = specialRole(SpecialRoleType.FACILITATOR);
+            facilitator.assignToPartner(partner.getId(), partner.getId());
+            roleRepository.save(facilitator);
+        });
+        assertThat(permissionCache.hasCapability(partner.getId(), anchorId, Capability.FACILITATE_MEETINGS)).isTrue();
+        
+        // When - 批量写入器发布的事件只在提交后失效，回滚的事务不失效
+        tx.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(RoleAssignmentsChangedEvent.of(List.of(partner.getId())));
+            status.setRollbackOnly();
+        });
+        statistics.clear();
+        permissionCache.permissionsOf(partner.getId());
+        long afterRollback = statistics.getPrepareStatementCount();
+        tx.executeWithoutResult(status ->
+            eventPublisher.publishEvent(RoleAssignmentsChangedEvent.of(List.of(partner.getId()))));
+        statistics.clear();
+        permissionCache.permissionsOf(partner.getId());
+        
+        // Then
+        assertThat(afterRollback).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    private Role specialRole(SpecialRoleType type) {
+        Circle anchor = circleRepository.findById(anchorId).orElseThrow();
+        return anchor.getRoles().stream()
+            .filter(role -> role.getSpecialRoleType() == type)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,222 @@
+package com.xholacracy.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xholacracy.application.service.ChangeSyncService;
+import com.xholacracy.application.service.CircleCommandService;
+import com.xholacracy.application.service.CircleQueryService;
+import com.xholacracy.application.service.DomainRegistryService;
+import com.xholacracy.application.service.MeetingSeriesService;
+import com.xholacracy.application.service.OrganizationExportService;
+import com.xholacracy.application.service.OrganizationImportService;
+import com.xholacracy.application.service.ProposalCommandService;
+import com.xholacracy.application.service.ProposalQueryService;
+import com.xholacracy.domain.model.circle.CircleId;
+import com.xholacracy.domain.model.circle.SpecialRoleType;
+import com.xholacracy.domain.model.organization.OrganizationId;
+import com.xholacracy.domain.model.partner.PartnerId;
+import com.xholacracy.domain.model.permission.PartnerPermissions;
+import com.xholacracy.domain.model.permission.PermissionChecker;
+import com.xholacracy.domain.model.permission.PermissionGrant;
+import com.xholacracy.domain.model.permission.PermissionScopeRepository;
+import com.xholacracy.domain.model.proposal.ProposalId;
+import com.xholacracy.interfaces.exception.GlobalExceptionHandler;
+import com.xholacracy.interfaces.rest.CircleController;
+import com.xholacracy.interfaces.rest.MeetingSeriesController;
+import com.xholacracy.interfaces.rest.OrganizationController;
+import com.xholacracy.interfaces.rest.ProposalController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 权限拦截器测试
+ * 在真实的控制器上验证：没有所需圈子能力的伙伴得到403，应用服务不会被调用
+ */
+class PermissionInterceptorTest {
+    
+    private final OrganizationId organizationId = OrganizationId.generate();
+    private final CircleId anchor = CircleId.generate();
+    private final CircleId product = CircleId.generate();
+    private final ProposalId proposalId = ProposalId.generate();
+    
+    private final PermissionChecker permissionChecker = mock(PermissionChecker.class);
+    private final PermissionScopeRepository scopeRepository = mock(PermissionScopeRepository.class);
+    private final ProposalCommandService proposalCommandService = mock(ProposalCommandService.class);
+    private final CircleCommandService circleCommandService = mock(CircleCommandService.class);
+    private final OrganizationImportService organizationImportService = mock(OrganizationImportService.class);
+    private final MeetingSeriesService meetingSeriesService = mock(MeetingSeriesService.class);
+    private final PartnerId partnerId = PartnerId.generate();
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new ProposalController(mock(ProposalQueryService.class), proposalCommandService),
+                new CircleController(mock(CircleQueryService.class), circleCommandService),
+                new OrganizationController(mock(ChangeSyncService.class), organizationImportService,
+                    mock(OrganizationExportService.class), mock(DomainRegistryService.class), new ObjectMapper()),
+                new MeetingSeriesController(meetingSeriesService))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .addInterceptors(new PermissionInterceptor(scopeRepository))
+            .build();
+        when(scopeRepository.findCircleOfProposal(organizationId, proposalId)).thenReturn(Optional.of(product));
+        SecurityContextHolder.getContext().setAuthentication(new PartnerAuthenticationToken(
+            new AuthenticatedPartner(partnerId, "token-1", Instant.now(), Instant.now().plusSeconds(3600),
+                permissionChecker)));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void shouldRejectVoteFromNonMemberOfProposalCircle() throws Exception {
+        // Given - 只在锚定圈子担任角色
+        grant(new PermissionGrant(organizationId.getValue(), anchor.getValue(), null, null, null));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/proposals/{proposalId}/votes", proposalId.getValue())
+                .param("organizationId", organizationId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"voteType\":\"APPROVE\"}"))
+            .andExpect(status().isForbidden())
+            .andExpect(jsonPath("$.errorCode").value("PERMISSION_DENIED"));
+        verifyNoInteractions(proposalCommandService);
+    }
+    
+    @Test
+    void shouldAllowVoteFromMemberOfProposalCircle() throws Exception {
+        // Given
+        grant(new PermissionGrant(organizationId.getValue(), product.getValue(), anchor.getValue(), null, null));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/proposals/{proposalId}/votes", proposalId.getValue())
+                .param("organizationId", organizationId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"voteType\":\"APPROVE\"}"))
+            .andExpect(status().isOk());
+        verify(proposalCommandService).castVote(eq(organizationId), eq(proposalId), eq(partnerId), any());
+    }
+    
+    @Test
+    void shouldRejectObjectionFromNonMember() throws Exception {
+        // Given
+        grant();
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/proposals/{proposalId}/objections", proposalId.getValue())
+                .param("organizationId", organizationId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"reasoning\":\"Causes harm\"}"))
+            .andExpect(status().isForbidden());
+        verifyNoInteractions(proposalCommandService);
+    }
+    
+    @Test
+    void shouldRejectSubCircleFromNonMember() throws Exception {
+        // Given
+        grant(new PermissionGrant(organizationId.getValue(), anchor.getValue(), null, null, null));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/circles/{circleId}/subcircles", product.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Design\",\"purpose\":\"Design things\",\"organizationId\":\""
+                    + organizationId.getValue() + "\"}"))
+            .andExpect(status().isForbidden());
+        verifyNoInteractions(circleCommandService);
+    }
+    
+    @Test
+    void shouldRequireCircleLeadToAssignRoles() throws Exception {
+        // Given - 圈子成员但不是圈引导
+        grant(new PermissionGrant(organizationId.getValue(), product.getValue(), anchor.getValue(),
+            SpecialRoleType.SECRETARY, null));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/circles/{circleId}/roles/{roleId}/assignments", product.getValue(), "role-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"partnerId\":\"partner-2\"}"))
+            .andExpect(status().isForbidden());
+        verifyNoInteractions(circleCommandService);
+    }
+    
+    @Test
+    void shouldRejectCloneFromPartnerOutsideOrganization() throws Exception {
+        // Given - 只在另一个组织担任角色
+        grant(new PermissionGrant(OrganizationId.generate().getValue(), anchor.getValue(), null, null, null));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/organizations/{organizationId}/clones", organizationId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Copy\"}"))
+            .andExpect(status().isForbidden());
+        verifyNoInteractions(organizationImportService);
+    }
+    
+    @Test
+    void shouldAllowCloneFromOrganizationMember() throws Exception {
+        // Given
+        grant(new PermissionGrant(organizationId.getValue(), product.getValue(), anchor.getValue(), null, null));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/organizations/{organizationId}/clones", organizationId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Copy\"}"))
+            .andExpect(status().isAccepted());
+        verify(organizationImportService).startClone(eq(organizationId), any());
+    }
+    
+    @Test
+    void shouldRequireSchedulingCapabilityForEveryCircleOfNewSeries() throws Exception {
+        // Given - 锚定圈子的秘书，但在产品圈子只是成员
+        grant(new PermissionGrant(organizationId.getValue(), anchor.getValue(), null, SpecialRoleType.SECRETARY, null),
+            new PermissionGrant(organizationId.getValue(), product.getValue(), anchor.getValue(), null, null));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/meeting-series")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"circleIds\":[\"" + anchor.getValue() + "\",\"" + product.getValue() + "\"],"
+                    + "\"frequency\":\"WEEKLY\",\"firstOccurrence\":\"2030-01-07T10:00:00\",\"durationMinutes\":60}"))
+            .andExpect(status().isForbidden());
+        verifyNoInteractions(meetingSeriesService);
+    }
+    
+    @Test
+    void shouldLeaveUnknownProposalToHandler() throws Exception {
+        // Given
+        grant();
+        ProposalId unknown = ProposalId.generate();
+        when(scopeRepository.findCircleOfProposal(organizationId, unknown)).thenReturn(Optional.empty());
+        
+        // When
+        mockMvc.perform(post("/api/v1/proposals/{proposalId}/votes", unknown.getValue())
+                .param("organizationId", organizationId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"voteType\":\"APPROVE\"}"));
+        
+        // Then - 处理器照常运行，由应用服务回答404
+        verify(proposalCommandService).castVote(eq(organizationId), eq(unknown), eq(partnerId), any());
+    }
+    
+    private void grant(PermissionGrant... grants) {
+        when(permissionChecker.permissionsOf(partnerId)).thenReturn(PartnerPermissions.compile(partnerId, List.of(grants)));
+    }
+}